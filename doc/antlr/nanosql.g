@@ -59,8 +59,11 @@ tokens {
   FOREIGN     = "foreign";
   FROM        = "from";
   FULL        = "full";
+  GROUP       = "group";
+  HAVING      = "having";
   IF          = "if";
   IN          = "in";
+  INCLUDE     = "include";
   INDEX       = "index";
   INNER       = "inner";
   INSERT      = "insert";
@@ -445,6 +448,10 @@ create_index returns [CreateIndexCommand c]
   }
   LPAREN colName=dbobj_ident { c.addColumn(colName); }
          ( COMMA colName=dbobj_ident { c.addColumn(colName); } )* RPAREN
+  ( INCLUDE
+    LPAREN colName=dbobj_ident { c.addIncludedColumn(colName); }
+           ( COMMA colName=dbobj_ident { c.addIncludedColumn(colName); } )* RPAREN
+  )?
   ;
 
 
@@ -986,6 +993,8 @@ base_expr returns [Expression e]
  * A function call can refer to either a normal scalar function, or it can refer
  * to an aggregate function call.  It's up to the query executor to ensure that
  * the function actually exists, and that it's the proper type for its context.
+ * SUM, AVG, MIN and MAX are keywords, so they are matched separately.  COUNT(*) has no arguments
+ * and counts every row.
  */
 function_call returns [FunctionCall f]
   {
@@ -996,10 +1005,14 @@ function_call returns [FunctionCall f]
   }
   :
   ( name=dbobj_ident args=param_list { f = new FunctionCall(name, args); }
+  | SUM args=param_list { f = new FunctionCall("SUM", args); }
+  | AVG args=param_list { f = new FunctionCall("AVG", args); }
+  | MIN args=param_list { f = new FunctionCall("MIN", args); }
+  | MAX args=param_list { f = new FunctionCall("MAX", args); }
   | COUNT { name="COUNT"; args = new ArrayList<Expression>(); }
     LPAREN
     ( (DISTINCT { name="COUNT-DISTINCT"; } )? e=expression { args.add(e); }
-    | STAR { args.add(new ColumnValue(new ColumnName())); }
+    | STAR
     )
     RPAREN
     { f = new FunctionCall(name, args); }
@@ -0,0 +1,799 @@
+// Generated from SQLite.g4 by ANTLR 4.7
+package com.bow.lab.parse;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class SQLiteLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.7", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		SCOL=1, DOT=2, OPEN_PAR=3, CLOSE_PAR=4, COMMA=5, ASSIGN=6, STAR=7, PLUS=8, 
+		MINUS=9, TILDE=10, PIPE2=11, DIV=12, MOD=13, LT2=14, GT2=15, AMP=16, PIPE=17, 
+		LT=18, LT_EQ=19, GT=20, GT_EQ=21, EQ=22, NOT_EQ1=23, NOT_EQ2=24, EXIT=25, 
+		BYE=26, QUIT=27, K_ABORT=28, K_ACTION=29, K_ADD=30, K_AFTER=31, K_ALL=32, 
+		K_ALTER=33, K_ANALYZE=34, K_AND=35, K_AS=36, K_ASC=37, K_ATTACH=38, K_AUTOINCREMENT=39, 
+		K_BEFORE=40, K_BEGIN=41, K_BETWEEN=42, K_BY=43, K_CASCADE=44, K_CASE=45, 
+		K_CAST=46, K_CHECK=47, K_COLLATE=48, K_COLUMN=49, K_COMMIT=50, K_CONFLICT=51, 
+		K_CONSTRAINT=52, K_CREATE=53, K_CROSS=54, K_CURRENT_DATE=55, K_CURRENT_TIME=56, 
+		K_CURRENT_TIMESTAMP=57, K_DATABASE=58, K_DEFAULT=59, K_DEFERRABLE=60, 
+		K_DEFERRED=61, K_DELETE=62, K_DESC=63, K_DETACH=64, K_DISTINCT=65, K_DROP=66, 
+		K_EACH=67, K_ELSE=68, K_END=69, K_ESCAPE=70, K_EXCEPT=71, K_EXCLUSIVE=72, 
+		K_EXISTS=73, K_EXPLAIN=74, K_FAIL=75, K_FOR=76, K_FOREIGN=77, K_FROM=78, 
+		K_FULL=79, K_GLOB=80, K_GROUP=81, K_HAVING=82, K_IF=83, K_IGNORE=84, K_IMMEDIATE=85, 
+		K_IN=86, K_INDEX=87, K_INDEXED=88, K_INITIALLY=89, K_INNER=90, K_INSERT=91, 
+		K_INSTEAD=92, K_INTERSECT=93, K_INTO=94, K_IS=95, K_ISNULL=96, K_JOIN=97, 
+		K_KEY=98, K_LEFT=99, K_LIKE=100, K_LIMIT=101, K_MATCH=102, K_NATURAL=103, 
+		K_NO=104, K_NOT=105, K_NOTNULL=106, K_NULL=107, K_OF=108, K_OFFSET=109, 
+		K_ON=110, K_OR=111, K_ORDER=112, K_OUTER=113, K_PLAN=114, K_PRAGMA=115, 
+		K_PRIMARY=116, K_QUERY=117, K_RAISE=118, K_RECURSIVE=119, K_REFERENCES=120, 
+		K_REGEXP=121, K_REINDEX=122, K_RELEASE=123, K_RENAME=124, K_REPLACE=125, 
+		K_RESTRICT=126, K_RIGHT=127, K_ROLLBACK=128, K_ROW=129, K_SAVEPOINT=130, 
+		K_SELECT=131, K_SET=132, K_TABLE=133, K_TEMP=134, K_TEMPORARY=135, K_THEN=136, 
+		K_TO=137, K_TRANSACTION=138, K_TRIGGER=139, K_UNION=140, K_UNIQUE=141, 
+		K_UPDATE=142, K_USING=143, K_VACUUM=144, K_VALUES=145, K_VIEW=146, K_VIRTUAL=147, 
+		K_WHEN=148, K_WHERE=149, K_WITH=150, K_WITHOUT=151, K_ENGINE=152, IDENTIFIER=153, 
+		NUMERIC_LITERAL=154, BIND_PARAMETER=155, STRING_LITERAL=156, BLOB_LITERAL=157, 
+		SINGLE_LINE_COMMENT=158, MULTILINE_COMMENT=159, SPACES=160, UNEXPECTED_CHAR=161;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	public static final String[] ruleNames = {
+		"SCOL", "DOT", "OPEN_PAR", "CLOSE_PAR", "COMMA", "ASSIGN", "STAR", "PLUS", 
+		"MINUS", "TILDE", "PIPE2", "DIV", "MOD", "LT2", "GT2", "AMP", "PIPE", 
+		"LT", "LT_EQ", "GT", "GT_EQ", "EQ", "NOT_EQ1", "NOT_EQ2", "EXIT", "BYE", 
+		"QUIT", "K_ABORT", "K_ACTION", "K_ADD", "K_AFTER", "K_ALL", "K_ALTER", 
+		"K_ANALYZE", "K_AND", "K_AS", "K_ASC", "K_ATTACH", "K_AUTOINCREMENT", 
+		"K_BEFORE", "K_BEGIN", "K_BETWEEN", "K_BY", "K_CASCADE", "K_CASE", "K_CAST", 
+		"K_CHECK", "K_COLLATE", "K_COLUMN", "K_COMMIT", "K_CONFLICT", "K_CONSTRAINT", 
+		"K_CREATE", "K_CROSS", "K_CURRENT_DATE", "K_CURRENT_TIME", "K_CURRENT_TIMESTAMP", 
+		"K_DATABASE", "K_DEFAULT", "K_DEFERRABLE", "K_DEFERRED", "K_DELETE", "K_DESC", 
+		"K_DETACH", "K_DISTINCT", "K_DROP", "K_EACH", "K_ELSE", "K_END", "K_ESCAPE", 
+		"K_EXCEPT", "K_EXCLUSIVE", "K_EXISTS", "K_EXPLAIN", "K_FAIL", "K_FOR", 
+		"K_FOREIGN", "K_FROM", "K_FULL", "K_GLOB", "K_GROUP", "K_HAVING", "K_IF", 
+		"K_IGNORE", "K_IMMEDIATE", "K_IN", "K_INDEX", "K_INDEXED", "K_INITIALLY", 
+		"K_INNER", "K_INSERT", "K_INSTEAD", "K_INTERSECT", "K_INTO", "K_IS", "K_ISNULL", 
+		"K_JOIN", "K_KEY", "K_LEFT", "K_LIKE", "K_LIMIT", "K_MATCH", "K_NATURAL", 
+		"K_NO", "K_NOT", "K_NOTNULL", "K_NULL", "K_OF", "K_OFFSET", "K_ON", "K_OR", 
+		"K_ORDER", "K_OUTER", "K_PLAN", "K_PRAGMA", "K_PRIMARY", "K_QUERY", "K_RAISE", 
+		"K_RECURSIVE", "K_REFERENCES", "K_REGEXP", "K_REINDEX", "K_RELEASE", "K_RENAME", 
+		"K_REPLACE", "K_RESTRICT", "K_RIGHT", "K_ROLLBACK", "K_ROW", "K_SAVEPOINT", 
+		"K_SELECT", "K_SET", "K_TABLE", "K_TEMP", "K_TEMPORARY", "K_THEN", "K_TO", 
+		"K_TRANSACTION", "K_TRIGGER", "K_UNION", "K_UNIQUE", "K_UPDATE", "K_USING", 
+		"K_VACUUM", "K_VALUES", "K_VIEW", "K_VIRTUAL", "K_WHEN", "K_WHERE", "K_WITH", 
+		"K_WITHOUT", "K_ENGINE", "IDENTIFIER", "NUMERIC_LITERAL", "BIND_PARAMETER", 
+		"STRING_LITERAL", "BLOB_LITERAL", "SINGLE_LINE_COMMENT", "MULTILINE_COMMENT", 
+		"SPACES", "UNEXPECTED_CHAR", "DIGIT", "A", "B", "C", "D", "E", "F", "G", 
+		"H", "I", "J", "K", "L", "M", "N", "O", "P", "Q", "R", "S", "T", "U", 
+		"V", "W", "X", "Y", "Z"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "';'", "'.'", "'('", "')'", "','", "'='", "'*'", "'+'", "'-'", "'~'", 
+		"'||'", "'/'", "'%'", "'<<'", "'>>'", "'&'", "'|'", "'<'", "'<='", "'>'", 
+		"'>='", "'=='", "'!='", "'<>'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, "SCOL", "DOT", "OPEN_PAR", "CLOSE_PAR", "COMMA", "ASSIGN", "STAR", 
+		"PLUS", "MINUS", "TILDE", "PIPE2", "DIV", "MOD", "LT2", "GT2", "AMP", 
+		"PIPE", "LT", "LT_EQ", "GT", "GT_EQ", "EQ", "NOT_EQ1", "NOT_EQ2", "EXIT", 
+		"BYE", "QUIT", "K_ABORT", "K_ACTION", "K_ADD", "K_AFTER", "K_ALL", "K_ALTER", 
+		"K_ANALYZE", "K_AND", "K_AS", "K_ASC", "K_ATTACH", "K_AUTOINCREMENT", 
+		"K_BEFORE", "K_BEGIN", "K_BETWEEN", "K_BY", "K_CASCADE", "K_CASE", "K_CAST", 
+		"K_CHECK", "K_COLLATE", "K_COLUMN", "K_COMMIT", "K_CONFLICT", "K_CONSTRAINT", 
+		"K_CREATE", "K_CROSS", "K_CURRENT_DATE", "K_CURRENT_TIME", "K_CURRENT_TIMESTAMP", 
+		"K_DATABASE", "K_DEFAULT", "K_DEFERRABLE", "K_DEFERRED", "K_DELETE", "K_DESC", 
+		"K_DETACH", "K_DISTINCT", "K_DROP", "K_EACH", "K_ELSE", "K_END", "K_ESCAPE", 
+		"K_EXCEPT", "K_EXCLUSIVE", "K_EXISTS", "K_EXPLAIN", "K_FAIL", "K_FOR", 
+		"K_FOREIGN", "K_FROM", "K_FULL", "K_GLOB", "K_GROUP", "K_HAVING", "K_IF", 
+		"K_IGNORE", "K_IMMEDIATE", "K_IN", "K_INDEX", "K_INDEXED", "K_INITIALLY", 
+		"K_INNER", "K_INSERT", "K_INSTEAD", "K_INTERSECT", "K_INTO", "K_IS", "K_ISNULL", 
+		"K_JOIN", "K_KEY", "K_LEFT", "K_LIKE", "K_LIMIT", "K_MATCH", "K_NATURAL", 
+		"K_NO", "K_NOT", "K_NOTNULL", "K_NULL", "K_OF", "K_OFFSET", "K_ON", "K_OR", 
+		"K_ORDER", "K_OUTER", "K_PLAN", "K_PRAGMA", "K_PRIMARY", "K_QUERY", "K_RAISE", 
+		"K_RECURSIVE", "K_REFERENCES", "K_REGEXP", "K_REINDEX", "K_RELEASE", "K_RENAME", 
+		"K_REPLACE", "K_RESTRICT", "K_RIGHT", "K_ROLLBACK", "K_ROW", "K_SAVEPOINT", 
+		"K_SELECT", "K_SET", "K_TABLE", "K_TEMP", "K_TEMPORARY", "K_THEN", "K_TO", 
+		"K_TRANSACTION", "K_TRIGGER", "K_UNION", "K_UNIQUE", "K_UPDATE", "K_USING", 
+		"K_VACUUM", "K_VALUES", "K_VIEW", "K_VIRTUAL", "K_WHEN", "K_WHERE", "K_WITH", 
+		"K_WITHOUT", "K_ENGINE", "IDENTIFIER", "NUMERIC_LITERAL", "BIND_PARAMETER", 
+		"STRING_LITERAL", "BLOB_LITERAL", "SINGLE_LINE_COMMENT", "MULTILINE_COMMENT", 
+		"SPACES", "UNEXPECTED_CHAR"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public SQLiteLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "SQLite.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2\u00a3\u05cb\b\1\4"+
+		"\2\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n"+
+		"\4\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22"+
+		"\t\22\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31"+
+		"\t\31\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t"+
+		" \4!\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t"+
+		"+\4,\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64"+
+		"\t\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t"+
+		"=\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4"+
+		"I\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\t"+
+		"T\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_"+
+		"\4`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\4h\th\4i\ti\4j\tj\4k"+
+		"\tk\4l\tl\4m\tm\4n\tn\4o\to\4p\tp\4q\tq\4r\tr\4s\ts\4t\tt\4u\tu\4v\tv"+
+		"\4w\tw\4x\tx\4y\ty\4z\tz\4{\t{\4|\t|\4}\t}\4~\t~\4\177\t\177\4\u0080\t"+
+		"\u0080\4\u0081\t\u0081\4\u0082\t\u0082\4\u0083\t\u0083\4\u0084\t\u0084"+
+		"\4\u0085\t\u0085\4\u0086\t\u0086\4\u0087\t\u0087\4\u0088\t\u0088\4\u0089"+
+		"\t\u0089\4\u008a\t\u008a\4\u008b\t\u008b\4\u008c\t\u008c\4\u008d\t\u008d"+
+		"\4\u008e\t\u008e\4\u008f\t\u008f\4\u0090\t\u0090\4\u0091\t\u0091\4\u0092"+
+		"\t\u0092\4\u0093\t\u0093\4\u0094\t\u0094\4\u0095\t\u0095\4\u0096\t\u0096"+
+		"\4\u0097\t\u0097\4\u0098\t\u0098\4\u0099\t\u0099\4\u009a\t\u009a\4\u009b"+
+		"\t\u009b\4\u009c\t\u009c\4\u009d\t\u009d\4\u009e\t\u009e\4\u009f\t\u009f"+
+		"\4\u00a0\t\u00a0\4\u00a1\t\u00a1\4\u00a2\t\u00a2\4\u00a3\t\u00a3\4\u00a4"+
+		"\t\u00a4\4\u00a5\t\u00a5\4\u00a6\t\u00a6\4\u00a7\t\u00a7\4\u00a8\t\u00a8"+
+		"\4\u00a9\t\u00a9\4\u00aa\t\u00aa\4\u00ab\t\u00ab\4\u00ac\t\u00ac\4\u00ad"+
+		"\t\u00ad\4\u00ae\t\u00ae\4\u00af\t\u00af\4\u00b0\t\u00b0\4\u00b1\t\u00b1"+
+		"\4\u00b2\t\u00b2\4\u00b3\t\u00b3\4\u00b4\t\u00b4\4\u00b5\t\u00b5\4\u00b6"+
+		"\t\u00b6\4\u00b7\t\u00b7\4\u00b8\t\u00b8\4\u00b9\t\u00b9\4\u00ba\t\u00ba"+
+		"\4\u00bb\t\u00bb\4\u00bc\t\u00bc\4\u00bd\t\u00bd\3\2\3\2\3\3\3\3\3\4\3"+
+		"\4\3\5\3\5\3\6\3\6\3\7\3\7\3\b\3\b\3\t\3\t\3\n\3\n\3\13\3\13\3\f\3\f\3"+
+		"\f\3\r\3\r\3\16\3\16\3\17\3\17\3\17\3\20\3\20\3\20\3\21\3\21\3\22\3\22"+
+		"\3\23\3\23\3\24\3\24\3\24\3\25\3\25\3\26\3\26\3\26\3\27\3\27\3\27\3\30"+
+		"\3\30\3\30\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\33\3\33"+
+		"\3\34\3\34\3\34\3\34\3\34\3\35\3\35\3\35\3\35\3\35\3\35\3\36\3\36\3\36"+
+		"\3\36\3\36\3\36\3\36\3\37\3\37\3\37\3\37\3 \3 \3 \3 \3 \3 \3!\3!\3!\3"+
+		"!\3\"\3\"\3\"\3\"\3\"\3\"\3#\3#\3#\3#\3#\3#\3#\3#\3$\3$\3$\3$\3%\3%\3"+
+		"%\3&\3&\3&\3&\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3(\3(\3(\3(\3(\3(\3(\3(\3(\3"+
+		"(\3(\3(\3(\3(\3)\3)\3)\3)\3)\3)\3)\3*\3*\3*\3*\3*\3*\3+\3+\3+\3+\3+\3"+
+		"+\3+\3+\3,\3,\3,\3-\3-\3-\3-\3-\3-\3-\3-\3.\3.\3.\3.\3.\3/\3/\3/\3/\3"+
+		"/\3\60\3\60\3\60\3\60\3\60\3\60\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61"+
+		"\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3\63\3\63\3\63\3\63\3\63\3\63\3\63"+
+		"\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3\65\3\65\3\65\3\65\3\65"+
+		"\3\65\3\65\3\65\3\65\3\65\3\65\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\67"+
+		"\3\67\3\67\3\67\3\67\3\67\38\38\38\38\38\38\38\38\38\38\38\38\38\39\3"+
+		"9\39\39\39\39\39\39\39\39\39\39\39\3:\3:\3:\3:\3:\3:\3:\3:\3:\3:\3:\3"+
+		":\3:\3:\3:\3:\3:\3:\3;\3;\3;\3;\3;\3;\3;\3;\3;\3<\3<\3<\3<\3<\3<\3<\3"+
+		"<\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3>\3>\3>\3>\3>\3>\3>\3>\3>\3?\3?\3"+
+		"?\3?\3?\3?\3?\3@\3@\3@\3@\3@\3A\3A\3A\3A\3A\3A\3A\3B\3B\3B\3B\3B\3B\3"+
+		"B\3B\3B\3C\3C\3C\3C\3C\3D\3D\3D\3D\3D\3E\3E\3E\3E\3E\3F\3F\3F\3F\3G\3"+
+		"G\3G\3G\3G\3G\3G\3H\3H\3H\3H\3H\3H\3H\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3"+
+		"J\3J\3J\3J\3J\3J\3J\3K\3K\3K\3K\3K\3K\3K\3K\3L\3L\3L\3L\3L\3M\3M\3M\3"+
+		"M\3N\3N\3N\3N\3N\3N\3N\3N\3O\3O\3O\3O\3O\3P\3P\3P\3P\3P\3Q\3Q\3Q\3Q\3"+
+		"Q\3R\3R\3R\3R\3R\3R\3S\3S\3S\3S\3S\3S\3S\3T\3T\3T\3U\3U\3U\3U\3U\3U\3"+
+		"U\3V\3V\3V\3V\3V\3V\3V\3V\3V\3V\3W\3W\3W\3X\3X\3X\3X\3X\3X\3Y\3Y\3Y\3"+
+		"Y\3Y\3Y\3Y\3Y\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3[\3[\3[\3[\3[\3[\3\\\3\\"+
+		"\3\\\3\\\3\\\3\\\3\\\3]\3]\3]\3]\3]\3]\3]\3]\3^\3^\3^\3^\3^\3^\3^\3^\3"+
+		"^\3^\3_\3_\3_\3_\3_\3`\3`\3`\3a\3a\3a\3a\3a\3a\3a\3b\3b\3b\3b\3b\3c\3"+
+		"c\3c\3c\3d\3d\3d\3d\3d\3e\3e\3e\3e\3e\3f\3f\3f\3f\3f\3f\3g\3g\3g\3g\3"+
+		"g\3g\3h\3h\3h\3h\3h\3h\3h\3h\3i\3i\3i\3j\3j\3j\3j\3k\3k\3k\3k\3k\3k\3"+
+		"k\3k\3l\3l\3l\3l\3l\3m\3m\3m\3n\3n\3n\3n\3n\3n\3n\3o\3o\3o\3p\3p\3p\3"+
+		"q\3q\3q\3q\3q\3q\3r\3r\3r\3r\3r\3r\3s\3s\3s\3s\3s\3t\3t\3t\3t\3t\3t\3"+
+		"t\3u\3u\3u\3u\3u\3u\3u\3u\3v\3v\3v\3v\3v\3v\3w\3w\3w\3w\3w\3w\3x\3x\3"+
+		"x\3x\3x\3x\3x\3x\3x\3x\3y\3y\3y\3y\3y\3y\3y\3y\3y\3y\3y\3z\3z\3z\3z\3"+
+		"z\3z\3z\3{\3{\3{\3{\3{\3{\3{\3{\3|\3|\3|\3|\3|\3|\3|\3|\3}\3}\3}\3}\3"+
+		"}\3}\3}\3~\3~\3~\3~\3~\3~\3~\3~\3\177\3\177\3\177\3\177\3\177\3\177\3"+
+		"\177\3\177\3\177\3\u0080\3\u0080\3\u0080\3\u0080\3\u0080\3\u0080\3\u0081"+
+		"\3\u0081\3\u0081\3\u0081\3\u0081\3\u0081\3\u0081\3\u0081\3\u0081\3\u0082"+
+		"\3\u0082\3\u0082\3\u0082\3\u0083\3\u0083\3\u0083\3\u0083\3\u0083\3\u0083"+
+		"\3\u0083\3\u0083\3\u0083\3\u0083\3\u0084\3\u0084\3\u0084\3\u0084\3\u0084"+
+		"\3\u0084\3\u0084\3\u0085\3\u0085\3\u0085\3\u0085\3\u0086\3\u0086\3\u0086"+
+		"\3\u0086\3\u0086\3\u0086\3\u0087\3\u0087\3\u0087\3\u0087\3\u0087\3\u0088"+
+		"\3\u0088\3\u0088\3\u0088\3\u0088\3\u0088\3\u0088\3\u0088\3\u0088\3\u0088"+
+		"\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089\3\u008a\3\u008a\3\u008a\3\u008b"+
+		"\3\u008b\3\u008b\3\u008b\3\u008b\3\u008b\3\u008b\3\u008b\3\u008b\3\u008b"+
+		"\3\u008b\3\u008b\3\u008c\3\u008c\3\u008c\3\u008c\3\u008c\3\u008c\3\u008c"+
+		"\3\u008c\3\u008d\3\u008d\3\u008d\3\u008d\3\u008d\3\u008d\3\u008e\3\u008e"+
+		"\3\u008e\3\u008e\3\u008e\3\u008e\3\u008e\3\u008f\3\u008f\3\u008f\3\u008f"+
+		"\3\u008f\3\u008f\3\u008f\3\u0090\3\u0090\3\u0090\3\u0090\3\u0090\3\u0090"+
+		"\3\u0091\3\u0091\3\u0091\3\u0091\3\u0091\3\u0091\3\u0091\3\u0092\3\u0092"+
+		"\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092\3\u0093\3\u0093\3\u0093\3\u0093"+
+		"\3\u0093\3\u0094\3\u0094\3\u0094\3\u0094\3\u0094\3\u0094\3\u0094\3\u0094"+
+		"\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095\3\u0096\3\u0096\3\u0096\3\u0096"+
+		"\3\u0096\3\u0096\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0098\3\u0098"+
+		"\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0099\3\u0099\3\u0099"+
+		"\3\u0099\3\u0099\3\u0099\3\u0099\3\u009a\3\u009a\3\u009a\3\u009a\7\u009a"+
+		"\u050f\n\u009a\f\u009a\16\u009a\u0512\13\u009a\3\u009a\3\u009a\3\u009a"+
+		"\3\u009a\3\u009a\7\u009a\u0519\n\u009a\f\u009a\16\u009a\u051c\13\u009a"+
+		"\3\u009a\3\u009a\3\u009a\7\u009a\u0521\n\u009a\f\u009a\16\u009a\u0524"+
+		"\13\u009a\3\u009a\3\u009a\3\u009a\7\u009a\u0529\n\u009a\f\u009a\16\u009a"+
+		"\u052c\13\u009a\5\u009a\u052e\n\u009a\3\u009b\6\u009b\u0531\n\u009b\r"+
+		"\u009b\16\u009b\u0532\3\u009b\3\u009b\7\u009b\u0537\n\u009b\f\u009b\16"+
+		"\u009b\u053a\13\u009b\5\u009b\u053c\n\u009b\3\u009b\3\u009b\5\u009b\u0540"+
+		"\n\u009b\3\u009b\6\u009b\u0543\n\u009b\r\u009b\16\u009b\u0544\5\u009b"+
+		"\u0547\n\u009b\3\u009b\3\u009b\6\u009b\u054b\n\u009b\r\u009b\16\u009b"+
+		"\u054c\3\u009b\3\u009b\5\u009b\u0551\n\u009b\3\u009b\6\u009b\u0554\n\u009b"+
+		"\r\u009b\16\u009b\u0555\5\u009b\u0558\n\u009b\5\u009b\u055a\n\u009b\3"+
+		"\u009c\3\u009c\7\u009c\u055e\n\u009c\f\u009c\16\u009c\u0561\13\u009c\3"+
+		"\u009c\3\u009c\5\u009c\u0565\n\u009c\3\u009d\3\u009d\3\u009d\3\u009d\7"+
+		"\u009d\u056b\n\u009d\f\u009d\16\u009d\u056e\13\u009d\3\u009d\3\u009d\3"+
+		"\u009e\3\u009e\3\u009e\3\u009f\3\u009f\3\u009f\3\u009f\7\u009f\u0579\n"+
+		"\u009f\f\u009f\16\u009f\u057c\13\u009f\3\u009f\3\u009f\3\u00a0\3\u00a0"+
+		"\3\u00a0\3\u00a0\7\u00a0\u0584\n\u00a0\f\u00a0\16\u00a0\u0587\13\u00a0"+
+		"\3\u00a0\3\u00a0\3\u00a0\5\u00a0\u058c\n\u00a0\3\u00a0\3\u00a0\3\u00a1"+
+		"\3\u00a1\3\u00a1\3\u00a1\3\u00a2\3\u00a2\3\u00a3\3\u00a3\3\u00a4\3\u00a4"+
+		"\3\u00a5\3\u00a5\3\u00a6\3\u00a6\3\u00a7\3\u00a7\3\u00a8\3\u00a8\3\u00a9"+
+		"\3\u00a9\3\u00aa\3\u00aa\3\u00ab\3\u00ab\3\u00ac\3\u00ac\3\u00ad\3\u00ad"+
+		"\3\u00ae\3\u00ae\3\u00af\3\u00af\3\u00b0\3\u00b0\3\u00b1\3\u00b1\3\u00b2"+
+		"\3\u00b2\3\u00b3\3\u00b3\3\u00b4\3\u00b4\3\u00b5\3\u00b5\3\u00b6\3\u00b6"+
+		"\3\u00b7\3\u00b7\3\u00b8\3\u00b8\3\u00b9\3\u00b9\3\u00ba\3\u00ba\3\u00bb"+
+		"\3\u00bb\3\u00bc\3\u00bc\3\u00bd\3\u00bd\3\u0585\2\u00be\3\3\5\4\7\5\t"+
+		"\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23"+
+		"%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!A\"C#E$G"+
+		"%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61a\62c\63e\64g\65i\66k\67m8o9q:s;u<w=y>{"+
+		"?}@\177A\u0081B\u0083C\u0085D\u0087E\u0089F\u008bG\u008dH\u008fI\u0091"+
+		"J\u0093K\u0095L\u0097M\u0099N\u009bO\u009dP\u009fQ\u00a1R\u00a3S\u00a5"+
+		"T\u00a7U\u00a9V\u00abW\u00adX\u00afY\u00b1Z\u00b3[\u00b5\\\u00b7]\u00b9"+
+		"^\u00bb_\u00bd`\u00bfa\u00c1b\u00c3c\u00c5d\u00c7e\u00c9f\u00cbg\u00cd"+
+		"h\u00cfi\u00d1j\u00d3k\u00d5l\u00d7m\u00d9n\u00dbo\u00ddp\u00dfq\u00e1"+
+		"r\u00e3s\u00e5t\u00e7u\u00e9v\u00ebw\u00edx\u00efy\u00f1z\u00f3{\u00f5"+
+		"|\u00f7}\u00f9~\u00fb\177\u00fd\u0080\u00ff\u0081\u0101\u0082\u0103\u0083"+
+		"\u0105\u0084\u0107\u0085\u0109\u0086\u010b\u0087\u010d\u0088\u010f\u0089"+
+		"\u0111\u008a\u0113\u008b\u0115\u008c\u0117\u008d\u0119\u008e\u011b\u008f"+
+		"\u011d\u0090\u011f\u0091\u0121\u0092\u0123\u0093\u0125\u0094\u0127\u0095"+
+		"\u0129\u0096\u012b\u0097\u012d\u0098\u012f\u0099\u0131\u009a\u0133\u009b"+
+		"\u0135\u009c\u0137\u009d\u0139\u009e\u013b\u009f\u013d\u00a0\u013f\u00a1"+
+		"\u0141\u00a2\u0143\u00a3\u0145\2\u0147\2\u0149\2\u014b\2\u014d\2\u014f"+
+		"\2\u0151\2\u0153\2\u0155\2\u0157\2\u0159\2\u015b\2\u015d\2\u015f\2\u0161"+
+		"\2\u0163\2\u0165\2\u0167\2\u0169\2\u016b\2\u016d\2\u016f\2\u0171\2\u0173"+
+		"\2\u0175\2\u0177\2\u0179\2\3\2\'\3\2$$\3\2bb\3\2__\5\2C\\aac|\6\2\62;"+
+		"C\\aac|\4\2--//\5\2&&<<BB\3\2))\4\2\f\f\17\17\5\2\13\r\17\17\"\"\3\2\62"+
+		";\4\2CCcc\4\2DDdd\4\2EEee\4\2FFff\4\2GGgg\4\2HHhh\4\2IIii\4\2JJjj\4\2"+
+		"KKkk\4\2LLll\4\2MMmm\4\2NNnn\4\2OOoo\4\2PPpp\4\2QQqq\4\2RRrr\4\2SSss\4"+
+		"\2TTtt\4\2UUuu\4\2VVvv\4\2WWww\4\2XXxx\4\2YYyy\4\2ZZzz\4\2[[{{\4\2\\\\"+
+		"||\2\u05ca\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2"+
+		"\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27"+
+		"\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2"+
+		"\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2"+
+		"\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2"+
+		"\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2"+
+		"\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S"+
+		"\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2"+
+		"\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2"+
+		"\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y"+
+		"\3\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3"+
+		"\2\2\2\2\u0085\3\2\2\2\2\u0087\3\2\2\2\2\u0089\3\2\2\2\2\u008b\3\2\2\2"+
+		"\2\u008d\3\2\2\2\2\u008f\3\2\2\2\2\u0091\3\2\2\2\2\u0093\3\2\2\2\2\u0095"+
+		"\3\2\2\2\2\u0097\3\2\2\2\2\u0099\3\2\2\2\2\u009b\3\2\2\2\2\u009d\3\2\2"+
+		"\2\2\u009f\3\2\2\2\2\u00a1\3\2\2\2\2\u00a3\3\2\2\2\2\u00a5\3\2\2\2\2\u00a7"+
+		"\3\2\2\2\2\u00a9\3\2\2\2\2\u00ab\3\2\2\2\2\u00ad\3\2\2\2\2\u00af\3\2\2"+
+		"\2\2\u00b1\3\2\2\2\2\u00b3\3\2\2\2\2\u00b5\3\2\2\2\2\u00b7\3\2\2\2\2\u00b9"+
+		"\3\2\2\2\2\u00bb\3\2\2\2\2\u00bd\3\2\2\2\2\u00bf\3\2\2\2\2\u00c1\3\2\2"+
+		"\2\2\u00c3\3\2\2\2\2\u00c5\3\2\2\2\2\u00c7\3\2\2\2\2\u00c9\3\2\2\2\2\u00cb"+
+		"\3\2\2\2\2\u00cd\3\2\2\2\2\u00cf\3\2\2\2\2\u00d1\3\2\2\2\2\u00d3\3\2\2"+
+		"\2\2\u00d5\3\2\2\2\2\u00d7\3\2\2\2\2\u00d9\3\2\2\2\2\u00db\3\2\2\2\2\u00dd"+
+		"\3\2\2\2\2\u00df\3\2\2\2\2\u00e1\3\2\2\2\2\u00e3\3\2\2\2\2\u00e5\3\2\2"+
+		"\2\2\u00e7\3\2\2\2\2\u00e9\3\2\2\2\2\u00eb\3\2\2\2\2\u00ed\3\2\2\2\2\u00ef"+
+		"\3\2\2\2\2\u00f1\3\2\2\2\2\u00f3\3\2\2\2\2\u00f5\3\2\2\2\2\u00f7\3\2\2"+
+		"\2\2\u00f9\3\2\2\2\2\u00fb\3\2\2\2\2\u00fd\3\2\2\2\2\u00ff\3\2\2\2\2\u0101"+
+		"\3\2\2\2\2\u0103\3\2\2\2\2\u0105\3\2\2\2\2\u0107\3\2\2\2\2\u0109\3\2\2"+
+		"\2\2\u010b\3\2\2\2\2\u010d\3\2\2\2\2\u010f\3\2\2\2\2\u0111\3\2\2\2\2\u0113"+
+		"\3\2\2\2\2\u0115\3\2\2\2\2\u0117\3\2\2\2\2\u0119\3\2\2\2\2\u011b\3\2\2"+
+		"\2\2\u011d\3\2\2\2\2\u011f\3\2\2\2\2\u0121\3\2\2\2\2\u0123\3\2\2\2\2\u0125"+
+		"\3\2\2\2\2\u0127\3\2\2\2\2\u0129\3\2\2\2\2\u012b\3\2\2\2\2\u012d\3\2\2"+
+		"\2\2\u012f\3\2\2\2\2\u0131\3\2\2\2\2\u0133\3\2\2\2\2\u0135\3\2\2\2\2\u0137"+
+		"\3\2\2\2\2\u0139\3\2\2\2\2\u013b\3\2\2\2\2\u013d\3\2\2\2\2\u013f\3\2\2"+
+		"\2\2\u0141\3\2\2\2\2\u0143\3\2\2\2\3\u017b\3\2\2\2\5\u017d\3\2\2\2\7\u017f"+
+		"\3\2\2\2\t\u0181\3\2\2\2\13\u0183\3\2\2\2\r\u0185\3\2\2\2\17\u0187\3\2"+
+		"\2\2\21\u0189\3\2\2\2\23\u018b\3\2\2\2\25\u018d\3\2\2\2\27\u018f\3\2\2"+
+		"\2\31\u0192\3\2\2\2\33\u0194\3\2\2\2\35\u0196\3\2\2\2\37\u0199\3\2\2\2"+
+		"!\u019c\3\2\2\2#\u019e\3\2\2\2%\u01a0\3\2\2\2\'\u01a2\3\2\2\2)\u01a5\3"+
+		"\2\2\2+\u01a7\3\2\2\2-\u01aa\3\2\2\2/\u01ad\3\2\2\2\61\u01b0\3\2\2\2\63"+
+		"\u01b3\3\2\2\2\65\u01b8\3\2\2\2\67\u01bc\3\2\2\29\u01c1\3\2\2\2;\u01c7"+
+		"\3\2\2\2=\u01ce\3\2\2\2?\u01d2\3\2\2\2A\u01d8\3\2\2\2C\u01dc\3\2\2\2E"+
+		"\u01e2\3\2\2\2G\u01ea\3\2\2\2I\u01ee\3\2\2\2K\u01f1\3\2\2\2M\u01f5\3\2"+
+		"\2\2O\u01fc\3\2\2\2Q\u020a\3\2\2\2S\u0211\3\2\2\2U\u0217\3\2\2\2W\u021f"+
+		"\3\2\2\2Y\u0222\3\2\2\2[\u022a\3\2\2\2]\u022f\3\2\2\2_\u0234\3\2\2\2a"+
+		"\u023a\3\2\2\2c\u0242\3\2\2\2e\u0249\3\2\2\2g\u0250\3\2\2\2i\u0259\3\2"+
+		"\2\2k\u0264\3\2\2\2m\u026b\3\2\2\2o\u0271\3\2\2\2q\u027e\3\2\2\2s\u028b"+
+		"\3\2\2\2u\u029d\3\2\2\2w\u02a6\3\2\2\2y\u02ae\3\2\2\2{\u02b9\3\2\2\2}"+
+		"\u02c2\3\2\2\2\177\u02c9\3\2\2\2\u0081\u02ce\3\2\2\2\u0083\u02d5\3\2\2"+
+		"\2\u0085\u02de\3\2\2\2\u0087\u02e3\3\2\2\2\u0089\u02e8\3\2\2\2\u008b\u02ed"+
+		"\3\2\2\2\u008d\u02f1\3\2\2\2\u008f\u02f8\3\2\2\2\u0091\u02ff\3\2\2\2\u0093"+
+		"\u0309\3\2\2\2\u0095\u0310\3\2\2\2\u0097\u0318\3\2\2\2\u0099\u031d\3\2"+
+		"\2\2\u009b\u0321\3\2\2\2\u009d\u0329\3\2\2\2\u009f\u032e\3\2\2\2\u00a1"+
+		"\u0333\3\2\2\2\u00a3\u0338\3\2\2\2\u00a5\u033e\3\2\2\2\u00a7\u0345\3\2"+
+		"\2\2\u00a9\u0348\3\2\2\2\u00ab\u034f\3\2\2\2\u00ad\u0359\3\2\2\2\u00af"+
+		"\u035c\3\2\2\2\u00b1\u0362\3\2\2\2\u00b3\u036a\3\2\2\2\u00b5\u0374\3\2"+
+		"\2\2\u00b7\u037a\3\2\2\2\u00b9\u0381\3\2\2\2\u00bb\u0389\3\2\2\2\u00bd"+
+		"\u0393\3\2\2\2\u00bf\u0398\3\2\2\2\u00c1\u039b\3\2\2\2\u00c3\u03a2\3\2"+
+		"\2\2\u00c5\u03a7\3\2\2\2\u00c7\u03ab\3\2\2\2\u00c9\u03b0\3\2\2\2\u00cb"+
+		"\u03b5\3\2\2\2\u00cd\u03bb\3\2\2\2\u00cf\u03c1\3\2\2\2\u00d1\u03c9\3\2"+
+		"\2\2\u00d3\u03cc\3\2\2\2\u00d5\u03d0\3\2\2\2\u00d7\u03d8\3\2\2\2\u00d9"+
+		"\u03dd\3\2\2\2\u00db\u03e0\3\2\2\2\u00dd\u03e7\3\2\2\2\u00df\u03ea\3\2"+
+		"\2\2\u00e1\u03ed\3\2\2\2\u00e3\u03f3\3\2\2\2\u00e5\u03f9\3\2\2\2\u00e7"+
+		"\u03fe\3\2\2\2\u00e9\u0405\3\2\2\2\u00eb\u040d\3\2\2\2\u00ed\u0413\3\2"+
+		"\2\2\u00ef\u0419\3\2\2\2\u00f1\u0423\3\2\2\2\u00f3\u042e\3\2\2\2\u00f5"+
+		"\u0435\3\2\2\2\u00f7\u043d\3\2\2\2\u00f9\u0445\3\2\2\2\u00fb\u044c\3\2"+
+		"\2\2\u00fd\u0454\3\2\2\2\u00ff\u045d\3\2\2\2\u0101\u0463\3\2\2\2\u0103"+
+		"\u046c\3\2\2\2\u0105\u0470\3\2\2\2\u0107\u047a\3\2\2\2\u0109\u0481\3\2"+
+		"\2\2\u010b\u0485\3\2\2\2\u010d\u048b\3\2\2\2\u010f\u0490\3\2\2\2\u0111"+
+		"\u049a\3\2\2\2\u0113\u049f\3\2\2\2\u0115\u04a2\3\2\2\2\u0117\u04ae\3\2"+
+		"\2\2\u0119\u04b6\3\2\2\2\u011b\u04bc\3\2\2\2\u011d\u04c3\3\2\2\2\u011f"+
+		"\u04ca\3\2\2\2\u0121\u04d0\3\2\2\2\u0123\u04d7\3\2\2\2\u0125\u04de\3\2"+
+		"\2\2\u0127\u04e3\3\2\2\2\u0129\u04eb\3\2\2\2\u012b\u04f0\3\2\2\2\u012d"+
+		"\u04f6\3\2\2\2\u012f\u04fb\3\2\2\2\u0131\u0503\3\2\2\2\u0133\u052d\3\2"+
+		"\2\2\u0135\u0559\3\2\2\2\u0137\u0564\3\2\2\2\u0139\u0566\3\2\2\2\u013b"+
+		"\u0571\3\2\2\2\u013d\u0574\3\2\2\2\u013f\u057f\3\2\2\2\u0141\u058f\3\2"+
+		"\2\2\u0143\u0593\3\2\2\2\u0145\u0595\3\2\2\2\u0147\u0597\3\2\2\2\u0149"+
+		"\u0599\3\2\2\2\u014b\u059b\3\2\2\2\u014d\u059d\3\2\2\2\u014f\u059f\3\2"+
+		"\2\2\u0151\u05a1\3\2\2\2\u0153\u05a3\3\2\2\2\u0155\u05a5\3\2\2\2\u0157"+
+		"\u05a7\3\2\2\2\u0159\u05a9\3\2\2\2\u015b\u05ab\3\2\2\2\u015d\u05ad\3\2"+
+		"\2\2\u015f\u05af\3\2\2\2\u0161\u05b1\3\2\2\2\u0163\u05b3\3\2\2\2\u0165"+
+		"\u05b5\3\2\2\2\u0167\u05b7\3\2\2\2\u0169\u05b9\3\2\2\2\u016b\u05bb\3\2"+
+		"\2\2\u016d\u05bd\3\2\2\2\u016f\u05bf\3\2\2\2\u0171\u05c1\3\2\2\2\u0173"+
+		"\u05c3\3\2\2\2\u0175\u05c5\3\2\2\2\u0177\u05c7\3\2\2\2\u0179\u05c9\3\2"+
+		"\2\2\u017b\u017c\7=\2\2\u017c\4\3\2\2\2\u017d\u017e\7\60\2\2\u017e\6\3"+
+		"\2\2\2\u017f\u0180\7*\2\2\u0180\b\3\2\2\2\u0181\u0182\7+\2\2\u0182\n\3"+
+		"\2\2\2\u0183\u0184\7.\2\2\u0184\f\3\2\2\2\u0185\u0186\7?\2\2\u0186\16"+
+		"\3\2\2\2\u0187\u0188\7,\2\2\u0188\20\3\2\2\2\u0189\u018a\7-\2\2\u018a"+
+		"\22\3\2\2\2\u018b\u018c\7/\2\2\u018c\24\3\2\2\2\u018d\u018e\7\u0080\2"+
+		"\2\u018e\26\3\2\2\2\u018f\u0190\7~\2\2\u0190\u0191\7~\2\2\u0191\30\3\2"+
+		"\2\2\u0192\u0193\7\61\2\2\u0193\32\3\2\2\2\u0194\u0195\7\'\2\2\u0195\34"+
+		"\3\2\2\2\u0196\u0197\7>\2\2\u0197\u0198\7>\2\2\u0198\36\3\2\2\2\u0199"+
+		"\u019a\7@\2\2\u019a\u019b\7@\2\2\u019b \3\2\2\2\u019c\u019d\7(\2\2\u019d"+
+		"\"\3\2\2\2\u019e\u019f\7~\2\2\u019f$\3\2\2\2\u01a0\u01a1\7>\2\2\u01a1"+
+		"&\3\2\2\2\u01a2\u01a3\7>\2\2\u01a3\u01a4\7?\2\2\u01a4(\3\2\2\2\u01a5\u01a6"+
+		"\7@\2\2\u01a6*\3\2\2\2\u01a7\u01a8\7@\2\2\u01a8\u01a9\7?\2\2\u01a9,\3"+
+		"\2\2\2\u01aa\u01ab\7?\2\2\u01ab\u01ac\7?\2\2\u01ac.\3\2\2\2\u01ad\u01ae"+
+		"\7#\2\2\u01ae\u01af\7?\2\2\u01af\60\3\2\2\2\u01b0\u01b1\7>\2\2\u01b1\u01b2"+
+		"\7@\2\2\u01b2\62\3\2\2\2\u01b3\u01b4\5\u014f\u00a8\2\u01b4\u01b5\5\u0175"+
+		"\u00bb\2\u01b5\u01b6\5\u0157\u00ac\2\u01b6\u01b7\5\u016d\u00b7\2\u01b7"+
+		"\64\3\2\2\2\u01b8\u01b9\5\u0149\u00a5\2\u01b9\u01ba\5\u0177\u00bc\2\u01ba"+
+		"\u01bb\5\u014f\u00a8\2\u01bb\66\3\2\2\2\u01bc\u01bd\5\u0167\u00b4\2\u01bd"+
+		"\u01be\5\u016f\u00b8\2\u01be\u01bf\5\u0157\u00ac\2\u01bf\u01c0\5\u016d"+
+		"\u00b7\2\u01c08\3\2\2\2\u01c1\u01c2\5\u0147\u00a4\2\u01c2\u01c3\5\u0149"+
+		"\u00a5\2\u01c3\u01c4\5\u0163\u00b2\2\u01c4\u01c5\5\u0169\u00b5\2\u01c5"+
+		"\u01c6\5\u016d\u00b7\2\u01c6:\3\2\2\2\u01c7\u01c8\5\u0147\u00a4\2\u01c8"+
+		"\u01c9\5\u014b\u00a6\2\u01c9\u01ca\5\u016d\u00b7\2\u01ca\u01cb\5\u0157"+
+		"\u00ac\2\u01cb\u01cc\5\u0163\u00b2\2\u01cc\u01cd\5\u0161\u00b1\2\u01cd"+
+		"<\3\2\2\2\u01ce\u01cf\5\u0147\u00a4\2\u01cf\u01d0\5\u014d\u00a7\2\u01d0"+
+		"\u01d1\5\u014d\u00a7\2\u01d1>\3\2\2\2\u01d2\u01d3\5\u0147\u00a4\2\u01d3"+
+		"\u01d4\5\u0151\u00a9\2\u01d4\u01d5\5\u016d\u00b7\2\u01d5\u01d6\5\u014f"+
+		"\u00a8\2\u01d6\u01d7\5\u0169\u00b5\2\u01d7@\3\2\2\2\u01d8\u01d9\5\u0147"+
+		"\u00a4\2\u01d9\u01da\5\u015d\u00af\2\u01da\u01db\5\u015d\u00af\2\u01db"+
+		"B\3\2\2\2\u01dc\u01dd\5\u0147\u00a4\2\u01dd\u01de\5\u015d\u00af\2\u01de"+
+		"\u01df\5\u016d\u00b7\2\u01df\u01e0\5\u014f\u00a8\2\u01e0\u01e1\5\u0169"+
+		"\u00b5\2\u01e1D\3\2\2\2\u01e2\u01e3\5\u0147\u00a4\2\u01e3\u01e4\5\u0161"+
+		"\u00b1\2\u01e4\u01e5\5\u0147\u00a4\2\u01e5\u01e6\5\u015d\u00af\2\u01e6"+
+		"\u01e7\5\u0177\u00bc\2\u01e7\u01e8\5\u0179\u00bd\2\u01e8\u01e9\5\u014f"+
+		"\u00a8\2\u01e9F\3\2\2\2\u01ea\u01eb\5\u0147\u00a4\2\u01eb\u01ec\5\u0161"+
+		"\u00b1\2\u01ec\u01ed\5\u014d\u00a7\2\u01edH\3\2\2\2\u01ee\u01ef\5\u0147"+
+		"\u00a4\2\u01ef\u01f0\5\u016b\u00b6\2\u01f0J\3\2\2\2\u01f1\u01f2\5\u0147"+
+		"\u00a4\2\u01f2\u01f3\5\u016b\u00b6\2\u01f3\u01f4\5\u014b\u00a6\2\u01f4"+
+		"L\3\2\2\2\u01f5\u01f6\5\u0147\u00a4\2\u01f6\u01f7\5\u016d\u00b7\2\u01f7"+
+		"\u01f8\5\u016d\u00b7\2\u01f8\u01f9\5\u0147\u00a4\2\u01f9\u01fa\5\u014b"+
+		"\u00a6\2\u01fa\u01fb\5\u0155\u00ab\2\u01fbN\3\2\2\2\u01fc\u01fd\5\u0147"+
+		"\u00a4\2\u01fd\u01fe\5\u016f\u00b8\2\u01fe\u01ff\5\u016d\u00b7\2\u01ff"+
+		"\u0200\5\u0163\u00b2\2\u0200\u0201\5\u0157\u00ac\2\u0201\u0202\5\u0161"+
+		"\u00b1\2\u0202\u0203\5\u014b\u00a6\2\u0203\u0204\5\u0169\u00b5\2\u0204"+
+		"\u0205\5\u014f\u00a8\2\u0205\u0206\5\u015f\u00b0\2\u0206\u0207\5\u014f"+
+		"\u00a8\2\u0207\u0208\5\u0161\u00b1\2\u0208\u0209\5\u016d\u00b7\2\u0209"+
+		"P\3\2\2\2\u020a\u020b\5\u0149\u00a5\2\u020b\u020c\5\u014f\u00a8\2\u020c"+
+		"\u020d\5\u0151\u00a9\2\u020d\u020e\5\u0163\u00b2\2\u020e\u020f\5\u0169"+
+		"\u00b5\2\u020f\u0210\5\u014f\u00a8\2\u0210R\3\2\2\2\u0211\u0212\5\u0149"+
+		"\u00a5\2\u0212\u0213\5\u014f\u00a8\2\u0213\u0214\5\u0153\u00aa\2\u0214"+
+		"\u0215\5\u0157\u00ac\2\u0215\u0216\5\u0161\u00b1\2\u0216T\3\2\2\2\u0217"+
+		"\u0218\5\u0149\u00a5\2\u0218\u0219\5\u014f\u00a8\2\u0219\u021a\5\u016d"+
+		"\u00b7\2\u021a\u021b\5\u0173\u00ba\2\u021b\u021c\5\u014f\u00a8\2\u021c"+
+		"\u021d\5\u014f\u00a8\2\u021d\u021e\5\u0161\u00b1\2\u021eV\3\2\2\2\u021f"+
+		"\u0220\5\u0149\u00a5\2\u0220\u0221\5\u0177\u00bc\2\u0221X\3\2\2\2\u0222"+
+		"\u0223\5\u014b\u00a6\2\u0223\u0224\5\u0147\u00a4\2\u0224\u0225\5\u016b"+
+		"\u00b6\2\u0225\u0226\5\u014b\u00a6\2\u0226\u0227\5\u0147\u00a4\2\u0227"+
+		"\u0228\5\u014d\u00a7\2\u0228\u0229\5\u014f\u00a8\2\u0229Z\3\2\2\2\u022a"+
+		"\u022b\5\u014b\u00a6\2\u022b\u022c\5\u0147\u00a4\2\u022c\u022d\5\u016b"+
+		"\u00b6\2\u022d\u022e\5\u014f\u00a8\2\u022e\\\3\2\2\2\u022f\u0230\5\u014b"+
+		"\u00a6\2\u0230\u0231\5\u0147\u00a4\2\u0231\u0232\5\u016b\u00b6\2\u0232"+
+		"\u0233\5\u016d\u00b7\2\u0233^\3\2\2\2\u0234\u0235\5\u014b\u00a6\2\u0235"+
+		"\u0236\5\u0155\u00ab\2\u0236\u0237\5\u014f\u00a8\2\u0237\u0238\5\u014b"+
+		"\u00a6\2\u0238\u0239\5\u015b\u00ae\2\u0239`\3\2\2\2\u023a\u023b\5\u014b"+
+		"\u00a6\2\u023b\u023c\5\u0163\u00b2\2\u023c\u023d\5\u015d\u00af\2\u023d"+
+		"\u023e\5\u015d\u00af\2\u023e\u023f\5\u0147\u00a4\2\u023f\u0240\5\u016d"+
+		"\u00b7\2\u0240\u0241\5\u014f\u00a8\2\u0241b\3\2\2\2\u0242\u0243\5\u014b"+
+		"\u00a6\2\u0243\u0244\5\u0163\u00b2\2\u0244\u0245\5\u015d\u00af\2\u0245"+
+		"\u0246\5\u016f\u00b8\2\u0246\u0247\5\u015f\u00b0\2\u0247\u0248\5\u0161"+
+		"\u00b1\2\u0248d\3\2\2\2\u0249\u024a\5\u014b\u00a6\2\u024a\u024b\5\u0163"+
+		"\u00b2\2\u024b\u024c\5\u015f\u00b0\2\u024c\u024d\5\u015f\u00b0\2\u024d"+
+		"\u024e\5\u0157\u00ac\2\u024e\u024f\5\u016d\u00b7\2\u024ff\3\2\2\2\u0250"+
+		"\u0251\5\u014b\u00a6\2\u0251\u0252\5\u0163\u00b2\2\u0252\u0253\5\u0161"+
+		"\u00b1\2\u0253\u0254\5\u0151\u00a9\2\u0254\u0255\5\u015d\u00af\2\u0255"+
+		"\u0256\5\u0157\u00ac\2\u0256\u0257\5\u014b\u00a6\2\u0257\u0258\5\u016d"+
+		"\u00b7\2\u0258h\3\2\2\2\u0259\u025a\5\u014b\u00a6\2\u025a\u025b\5\u0163"+
+		"\u00b2\2\u025b\u025c\5\u0161\u00b1\2\u025c\u025d\5\u016b\u00b6\2\u025d"+
+		"\u025e\5\u016d\u00b7\2\u025e\u025f\5\u0169\u00b5\2\u025f\u0260\5\u0147"+
+		"\u00a4\2\u0260\u0261\5\u0157\u00ac\2\u0261\u0262\5\u0161\u00b1\2\u0262"+
+		"\u0263\5\u016d\u00b7\2\u0263j\3\2\2\2\u0264\u0265\5\u014b\u00a6\2\u0265"+
+		"\u0266\5\u0169\u00b5\2\u0266\u0267\5\u014f\u00a8\2\u0267\u0268\5\u0147"+
+		"\u00a4\2\u0268\u0269\5\u016d\u00b7\2\u0269\u026a\5\u014f\u00a8\2\u026a"+
+		"l\3\2\2\2\u026b\u026c\5\u014b\u00a6\2\u026c\u026d\5\u0169\u00b5\2\u026d"+
+		"\u026e\5\u0163\u00b2\2\u026e\u026f\5\u016b\u00b6\2\u026f\u0270\5\u016b"+
+		"\u00b6\2\u0270n\3\2\2\2\u0271\u0272\5\u014b\u00a6\2\u0272\u0273\5\u016f"+
+		"\u00b8\2\u0273\u0274\5\u0169\u00b5\2\u0274\u0275\5\u0169\u00b5\2\u0275"+
+		"\u0276\5\u014f\u00a8\2\u0276\u0277\5\u0161\u00b1\2\u0277\u0278\5\u016d"+
+		"\u00b7\2\u0278\u0279\7a\2\2\u0279\u027a\5\u014d\u00a7\2\u027a\u027b\5"+
+		"\u0147\u00a4\2\u027b\u027c\5\u016d\u00b7\2\u027c\u027d\5\u014f\u00a8\2"+
+		"\u027dp\3\2\2\2\u027e\u027f\5\u014b\u00a6\2\u027f\u0280\5\u016f\u00b8"+
+		"\2\u0280\u0281\5\u0169\u00b5\2\u0281\u0282\5\u0169\u00b5\2\u0282\u0283"+
+		"\5\u014f\u00a8\2\u0283\u0284\5\u0161\u00b1\2\u0284\u0285\5\u016d\u00b7"+
+		"\2\u0285\u0286\7a\2\2\u0286\u0287\5\u016d\u00b7\2\u0287\u0288\5\u0157"+
+		"\u00ac\2\u0288\u0289\5\u015f\u00b0\2\u0289\u028a\5\u014f\u00a8\2\u028a"+
+		"r\3\2\2\2\u028b\u028c\5\u014b\u00a6\2\u028c\u028d\5\u016f\u00b8\2\u028d"+
+		"\u028e\5\u0169\u00b5\2\u028e\u028f\5\u0169\u00b5\2\u028f\u0290\5\u014f"+
+		"\u00a8\2\u0290\u0291\5\u0161\u00b1\2\u0291\u0292\5\u016d\u00b7\2\u0292"+
+		"\u0293\7a\2\2\u0293\u0294\5\u016d\u00b7\2\u0294\u0295\5\u0157\u00ac\2"+
+		"\u0295\u0296\5\u015f\u00b0\2\u0296\u0297\5\u014f\u00a8\2\u0297\u0298\5"+
+		"\u016b\u00b6\2\u0298\u0299\5\u016d\u00b7\2\u0299\u029a\5\u0147\u00a4\2"+
+		"\u029a\u029b\5\u015f\u00b0\2\u029b\u029c\5\u0165\u00b3\2\u029ct\3\2\2"+
+		"\2\u029d\u029e\5\u014d\u00a7\2\u029e\u029f\5\u0147\u00a4\2\u029f\u02a0"+
+		"\5\u016d\u00b7\2\u02a0\u02a1\5\u0147\u00a4\2\u02a1\u02a2\5\u0149\u00a5"+
+		"\2\u02a2\u02a3\5\u0147\u00a4\2\u02a3\u02a4\5\u016b\u00b6\2\u02a4\u02a5"+
+		"\5\u014f\u00a8\2\u02a5v\3\2\2\2\u02a6\u02a7\5\u014d\u00a7\2\u02a7\u02a8"+
+		"\5\u014f\u00a8\2\u02a8\u02a9\5\u0151\u00a9\2\u02a9\u02aa\5\u0147\u00a4"+
+		"\2\u02aa\u02ab\5\u016f\u00b8\2\u02ab\u02ac\5\u015d\u00af\2\u02ac\u02ad"+
+		"\5\u016d\u00b7\2\u02adx\3\2\2\2\u02ae\u02af\5\u014d\u00a7\2\u02af\u02b0"+
+		"\5\u014f\u00a8\2\u02b0\u02b1\5\u0151\u00a9\2\u02b1\u02b2\5\u014f\u00a8"+
+		"\2\u02b2\u02b3\5\u0169\u00b5\2\u02b3\u02b4\5\u0169\u00b5\2\u02b4\u02b5"+
+		"\5\u0147\u00a4\2\u02b5\u02b6\5\u0149\u00a5\2\u02b6\u02b7\5\u015d\u00af"+
+		"\2\u02b7\u02b8\5\u014f\u00a8\2\u02b8z\3\2\2\2\u02b9\u02ba\5\u014d\u00a7"+
+		"\2\u02ba\u02bb\5\u014f\u00a8\2\u02bb\u02bc\5\u0151\u00a9\2\u02bc\u02bd"+
+		"\5\u014f\u00a8\2\u02bd\u02be\5\u0169\u00b5\2\u02be\u02bf\5\u0169\u00b5"+
+		"\2\u02bf\u02c0\5\u014f\u00a8\2\u02c0\u02c1\5\u014d\u00a7\2\u02c1|\3\2"+
+		"\2\2\u02c2\u02c3\5\u014d\u00a7\2\u02c3\u02c4\5\u014f\u00a8\2\u02c4\u02c5"+
+		"\5\u015d\u00af\2\u02c5\u02c6\5\u014f\u00a8\2\u02c6\u02c7\5\u016d\u00b7"+
+		"\2\u02c7\u02c8\5\u014f\u00a8\2\u02c8~\3\2\2\2\u02c9\u02ca\5\u014d\u00a7"+
+		"\2\u02ca\u02cb\5\u014f\u00a8\2\u02cb\u02cc\5\u016b\u00b6\2\u02cc\u02cd"+
+		"\5\u014b\u00a6\2\u02cd\u0080\3\2\2\2\u02ce\u02cf\5\u014d\u00a7\2\u02cf"+
+		"\u02d0\5\u014f\u00a8\2\u02d0\u02d1\5\u016d\u00b7\2\u02d1\u02d2\5\u0147"+
+		"\u00a4\2\u02d2\u02d3\5\u014b\u00a6\2\u02d3\u02d4\5\u0155\u00ab\2\u02d4"+
+		"\u0082\3\2\2\2\u02d5\u02d6\5\u014d\u00a7\2\u02d6\u02d7\5\u0157\u00ac\2"+
+		"\u02d7\u02d8\5\u016b\u00b6\2\u02d8\u02d9\5\u016d\u00b7\2\u02d9\u02da\5"+
+		"\u0157\u00ac\2\u02da\u02db\5\u0161\u00b1\2\u02db\u02dc\5\u014b\u00a6\2"+
+		"\u02dc\u02dd\5\u016d\u00b7\2\u02dd\u0084\3\2\2\2\u02de\u02df\5\u014d\u00a7"+
+		"\2\u02df\u02e0\5\u0169\u00b5\2\u02e0\u02e1\5\u0163\u00b2\2\u02e1\u02e2"+
+		"\5\u0165\u00b3\2\u02e2\u0086\3\2\2\2\u02e3\u02e4\5\u014f\u00a8\2\u02e4"+
+		"\u02e5\5\u0147\u00a4\2\u02e5\u02e6\5\u014b\u00a6\2\u02e6\u02e7\5\u0155"+
+		"\u00ab\2\u02e7\u0088\3\2\2\2\u02e8\u02e9\5\u014f\u00a8\2\u02e9\u02ea\5"+
+		"\u015d\u00af\2\u02ea\u02eb\5\u016b\u00b6\2\u02eb\u02ec\5\u014f\u00a8\2"+
+		"\u02ec\u008a\3\2\2\2\u02ed\u02ee\5\u014f\u00a8\2\u02ee\u02ef\5\u0161\u00b1"+
+		"\2\u02ef\u02f0\5\u014d\u00a7\2\u02f0\u008c\3\2\2\2\u02f1\u02f2\5\u014f"+
+		"\u00a8\2\u02f2\u02f3\5\u016b\u00b6\2\u02f3\u02f4\5\u014b\u00a6\2\u02f4"+
+		"\u02f5\5\u0147\u00a4\2\u02f5\u02f6\5\u0165\u00b3\2\u02f6\u02f7\5\u014f"+
+		"\u00a8\2\u02f7\u008e\3\2\2\2\u02f8\u02f9\5\u014f\u00a8\2\u02f9\u02fa\5"+
+		"\u0175\u00bb\2\u02fa\u02fb\5\u014b\u00a6\2\u02fb\u02fc\5\u014f\u00a8\2"+
+		"\u02fc\u02fd\5\u0165\u00b3\2\u02fd\u02fe\5\u016d\u00b7\2\u02fe\u0090\3"+
+		"\2\2\2\u02ff\u0300\5\u014f\u00a8\2\u0300\u0301\5\u0175\u00bb\2\u0301\u0302"+
+		"\5\u014b\u00a6\2\u0302\u0303\5\u015d\u00af\2\u0303\u0304\5\u016f\u00b8"+
+		"\2\u0304\u0305\5\u016b\u00b6\2\u0305\u0306\5\u0157\u00ac\2\u0306\u0307"+
+		"\5\u0171\u00b9\2\u0307\u0308\5\u014f\u00a8\2\u0308\u0092\3\2\2\2\u0309"+
+		"\u030a\5\u014f\u00a8\2\u030a\u030b\5\u0175\u00bb\2\u030b\u030c\5\u0157"+
+		"\u00ac\2\u030c\u030d\5\u016b\u00b6\2\u030d\u030e\5\u016d\u00b7\2\u030e"+
+		"\u030f\5\u016b\u00b6\2\u030f\u0094\3\2\2\2\u0310\u0311\5\u014f\u00a8\2"+
+		"\u0311\u0312\5\u0175\u00bb\2\u0312\u0313\5\u0165\u00b3\2\u0313\u0314\5"+
+		"\u015d\u00af\2\u0314\u0315\5\u0147\u00a4\2\u0315\u0316\5\u0157\u00ac\2"+
+		"\u0316\u0317\5\u0161\u00b1\2\u0317\u0096\3\2\2\2\u0318\u0319\5\u0151\u00a9"+
+		"\2\u0319\u031a\5\u0147\u00a4\2\u031a\u031b\5\u0157\u00ac\2\u031b\u031c"+
+		"\5\u015d\u00af\2\u031c\u0098\3\2\2\2\u031d\u031e\5\u0151\u00a9\2\u031e"+
+		"\u031f\5\u0163\u00b2\2\u031f\u0320\5\u0169\u00b5\2\u0320\u009a\3\2\2\2"+
+		"\u0321\u0322\5\u0151\u00a9\2\u0322\u0323\5\u0163\u00b2\2\u0323\u0324\5"+
+		"\u0169\u00b5\2\u0324\u0325\5\u014f\u00a8\2\u0325\u0326\5\u0157\u00ac\2"+
+		"\u0326\u0327\5\u0153\u00aa\2\u0327\u0328\5\u0161\u00b1\2\u0328\u009c\3"+
+		"\2\2\2\u0329\u032a\5\u0151\u00a9\2\u032a\u032b\5\u0169\u00b5\2\u032b\u032c"+
+		"\5\u0163\u00b2\2\u032c\u032d\5\u015f\u00b0\2\u032d\u009e\3\2\2\2\u032e"+
+		"\u032f\5\u0151\u00a9\2\u032f\u0330\5\u016f\u00b8\2\u0330\u0331\5\u015d"+
+		"\u00af\2\u0331\u0332\5\u015d\u00af\2\u0332\u00a0\3\2\2\2\u0333\u0334\5"+
+		"\u0153\u00aa\2\u0334\u0335\5\u015d\u00af\2\u0335\u0336\5\u0163\u00b2\2"+
+		"\u0336\u0337\5\u0149\u00a5\2\u0337\u00a2\3\2\2\2\u0338\u0339\5\u0153\u00aa"+
+		"\2\u0339\u033a\5\u0169\u00b5\2\u033a\u033b\5\u0163\u00b2\2\u033b\u033c"+
+		"\5\u016f\u00b8\2\u033c\u033d\5\u0165\u00b3\2\u033d\u00a4\3\2\2\2\u033e"+
+		"\u033f\5\u0155\u00ab\2\u033f\u0340\5\u0147\u00a4\2\u0340\u0341\5\u0171"+
+		"\u00b9\2\u0341\u0342\5\u0157\u00ac\2\u0342\u0343\5\u0161\u00b1\2\u0343"+
+		"\u0344\5\u0153\u00aa\2\u0344\u00a6\3\2\2\2\u0345\u0346\5\u0157\u00ac\2"+
+		"\u0346\u0347\5\u0151\u00a9\2\u0347\u00a8\3\2\2\2\u0348\u0349\5\u0157\u00ac"+
+		"\2\u0349\u034a\5\u0153\u00aa\2\u034a\u034b\5\u0161\u00b1\2\u034b\u034c"+
+		"\5\u0163\u00b2\2\u034c\u034d\5\u0169\u00b5\2\u034d\u034e\5\u014f\u00a8"+
+		"\2\u034e\u00aa\3\2\2\2\u034f\u0350\5\u0157\u00ac\2\u0350\u0351\5\u015f"+
+		"\u00b0\2\u0351\u0352\5\u015f\u00b0\2\u0352\u0353\5\u014f\u00a8\2\u0353"+
+		"\u0354\5\u014d\u00a7\2\u0354\u0355\5\u0157\u00ac\2\u0355\u0356\5\u0147"+
+		"\u00a4\2\u0356\u0357\5\u016d\u00b7\2\u0357\u0358\5\u014f\u00a8\2\u0358"+
+		"\u00ac\3\2\2\2\u0359\u035a\5\u0157\u00ac\2\u035a\u035b\5\u0161\u00b1\2"+
+		"\u035b\u00ae\3\2\2\2\u035c\u035d\5\u0157\u00ac\2\u035d\u035e\5\u0161\u00b1"+
+		"\2\u035e\u035f\5\u014d\u00a7\2\u035f\u0360\5\u014f\u00a8\2\u0360\u0361"+
+		"\5\u0175\u00bb\2\u0361\u00b0\3\2\2\2\u0362\u0363\5\u0157\u00ac\2\u0363"+
+		"\u0364\5\u0161\u00b1\2\u0364\u0365\5\u014d\u00a7\2\u0365\u0366\5\u014f"+
+		"\u00a8\2\u0366\u0367\5\u0175\u00bb\2\u0367\u0368\5\u014f\u00a8\2\u0368"+
+		"\u0369\5\u014d\u00a7\2\u0369\u00b2\3\2\2\2\u036a\u036b\5\u0157\u00ac\2"+
+		"\u036b\u036c\5\u0161\u00b1\2\u036c\u036d\5\u0157\u00ac\2\u036d\u036e\5"+
+		"\u016d\u00b7\2\u036e\u036f\5\u0157\u00ac\2\u036f\u0370\5\u0147\u00a4\2"+
+		"\u0370\u0371\5\u015d\u00af\2\u0371\u0372\5\u015d\u00af\2\u0372\u0373\5"+
+		"\u0177\u00bc\2\u0373\u00b4\3\2\2\2\u0374\u0375\5\u0157\u00ac\2\u0375\u0376"+
+		"\5\u0161\u00b1\2\u0376\u0377\5\u0161\u00b1\2\u0377\u0378\5\u014f\u00a8"+
+		"\2\u0378\u0379\5\u0169\u00b5\2\u0379\u00b6\3\2\2\2\u037a\u037b\5\u0157"+
+		"\u00ac\2\u037b\u037c\5\u0161\u00b1\2\u037c\u037d\5\u016b\u00b6\2\u037d"+
+		"\u037e\5\u014f\u00a8\2\u037e\u037f\5\u0169\u00b5\2\u037f\u0380\5\u016d"+
+		"\u00b7\2\u0380\u00b8\3\2\2\2\u0381\u0382\5\u0157\u00ac\2\u0382\u0383\5"+
+		"\u0161\u00b1\2\u0383\u0384\5\u016b\u00b6\2\u0384\u0385\5\u016d\u00b7\2"+
+		"\u0385\u0386\5\u014f\u00a8\2\u0386\u0387\5\u0147\u00a4\2\u0387\u0388\5"+
+		"\u014d\u00a7\2\u0388\u00ba\3\2\2\2\u0389\u038a\5\u0157\u00ac\2\u038a\u038b"+
+		"\5\u0161\u00b1\2\u038b\u038c\5\u016d\u00b7\2\u038c\u038d\5\u014f\u00a8"+
+		"\2\u038d\u038e\5\u0169\u00b5\2\u038e\u038f\5\u016b\u00b6\2\u038f\u0390"+
+		"\5\u014f\u00a8\2\u0390\u0391\5\u014b\u00a6\2\u0391\u0392\5\u016d\u00b7"+
+		"\2\u0392\u00bc\3\2\2\2\u0393\u0394\5\u0157\u00ac\2\u0394\u0395\5\u0161"+
+		"\u00b1\2\u0395\u0396\5\u016d\u00b7\2\u0396\u0397\5\u0163\u00b2\2\u0397"+
+		"\u00be\3\2\2\2\u0398\u0399\5\u0157\u00ac\2\u0399\u039a\5\u016b\u00b6\2"+
+		"\u039a\u00c0\3\2\2\2\u039b\u039c\5\u0157\u00ac\2\u039c\u039d\5\u016b\u00b6"+
+		"\2\u039d\u039e\5\u0161\u00b1\2\u039e\u039f\5\u016f\u00b8\2\u039f\u03a0"+
+		"\5\u015d\u00af\2\u03a0\u03a1\5\u015d\u00af\2\u03a1\u00c2\3\2\2\2\u03a2"+
+		"\u03a3\5\u0159\u00ad\2\u03a3\u03a4\5\u0163\u00b2\2\u03a4\u03a5\5\u0157"+
+		"\u00ac\2\u03a5\u03a6\5\u0161\u00b1\2\u03a6\u00c4\3\2\2\2\u03a7\u03a8\5"+
+		"\u015b\u00ae\2\u03a8\u03a9\5\u014f\u00a8\2\u03a9\u03aa\5\u0177\u00bc\2"+
+		"\u03aa\u00c6\3\2\2\2\u03ab\u03ac\5\u015d\u00af\2\u03ac\u03ad\5\u014f\u00a8"+
+		"\2\u03ad\u03ae\5\u0151\u00a9\2\u03ae\u03af\5\u016d\u00b7\2\u03af\u00c8"+
+		"\3\2\2\2\u03b0\u03b1\5\u015d\u00af\2\u03b1\u03b2\5\u0157\u00ac\2\u03b2"+
+		"\u03b3\5\u015b\u00ae\2\u03b3\u03b4\5\u014f\u00a8\2\u03b4\u00ca\3\2\2\2"+
+		"\u03b5\u03b6\5\u015d\u00af\2\u03b6\u03b7\5\u0157\u00ac\2\u03b7\u03b8\5"+
+		"\u015f\u00b0\2\u03b8\u03b9\5\u0157\u00ac\2\u03b9\u03ba\5\u016d\u00b7\2"+
+		"\u03ba\u00cc\3\2\2\2\u03bb\u03bc\5\u015f\u00b0\2\u03bc\u03bd\5\u0147\u00a4"+
+		"\2\u03bd\u03be\5\u016d\u00b7\2\u03be\u03bf\5\u014b\u00a6\2\u03bf\u03c0"+
+		"\5\u0155\u00ab\2\u03c0\u00ce\3\2\2\2\u03c1\u03c2\5\u0161\u00b1\2\u03c2"+
+		"\u03c3\5\u0147\u00a4\2\u03c3\u03c4\5\u016d\u00b7\2\u03c4\u03c5\5\u016f"+
+		"\u00b8\2\u03c5\u03c6\5\u0169\u00b5\2\u03c6\u03c7\5\u0147\u00a4\2\u03c7"+
+		"\u03c8\5\u015d\u00af\2\u03c8\u00d0\3\2\2\2\u03c9\u03ca\5\u0161\u00b1\2"+
+		"\u03ca\u03cb\5\u0163\u00b2\2\u03cb\u00d2\3\2\2\2\u03cc\u03cd\5\u0161\u00b1"+
+		"\2\u03cd\u03ce\5\u0163\u00b2\2\u03ce\u03cf\5\u016d\u00b7\2\u03cf\u00d4"+
+		"\3\2\2\2\u03d0\u03d1\5\u0161\u00b1\2\u03d1\u03d2\5\u0163\u00b2\2\u03d2"+
+		"\u03d3\5\u016d\u00b7\2\u03d3\u03d4\5\u0161\u00b1\2\u03d4\u03d5\5\u016f"+
+		"\u00b8\2\u03d5\u03d6\5\u015d\u00af\2\u03d6\u03d7\5\u015d\u00af\2\u03d7"+
+		"\u00d6\3\2\2\2\u03d8\u03d9\5\u0161\u00b1\2\u03d9\u03da\5\u016f\u00b8\2"+
+		"\u03da\u03db\5\u015d\u00af\2\u03db\u03dc\5\u015d\u00af\2\u03dc\u00d8\3"+
+		"\2\2\2\u03dd\u03de\5\u0163\u00b2\2\u03de\u03df\5\u0151\u00a9\2\u03df\u00da"+
+		"\3\2\2\2\u03e0\u03e1\5\u0163\u00b2\2\u03e1\u03e2\5\u0151\u00a9\2\u03e2"+
+		"\u03e3\5\u0151\u00a9\2\u03e3\u03e4\5\u016b\u00b6\2\u03e4\u03e5\5\u014f"+
+		"\u00a8\2\u03e5\u03e6\5\u016d\u00b7\2\u03e6\u00dc\3\2\2\2\u03e7\u03e8\5"+
+		"\u0163\u00b2\2\u03e8\u03e9\5\u0161\u00b1\2\u03e9\u00de\3\2\2\2\u03ea\u03eb"+
+		"\5\u0163\u00b2\2\u03eb\u03ec\5\u0169\u00b5\2\u03ec\u00e0\3\2\2\2\u03ed"+
+		"\u03ee\5\u0163\u00b2\2\u03ee\u03ef\5\u0169\u00b5\2\u03ef\u03f0\5\u014d"+
+		"\u00a7\2\u03f0\u03f1\5\u014f\u00a8\2\u03f1\u03f2\5\u0169\u00b5\2\u03f2"+
+		"\u00e2\3\2\2\2\u03f3\u03f4\5\u0163\u00b2\2\u03f4\u03f5\5\u016f\u00b8\2"+
+		"\u03f5\u03f6\5\u016d\u00b7\2\u03f6\u03f7\5\u014f\u00a8\2\u03f7\u03f8\5"+
+		"\u0169\u00b5\2\u03f8\u00e4\3\2\2\2\u03f9\u03fa\5\u0165\u00b3\2\u03fa\u03fb"+
+		"\5\u015d\u00af\2\u03fb\u03fc\5\u0147\u00a4\2\u03fc\u03fd\5\u0161\u00b1"+
+		"\2\u03fd\u00e6\3\2\2\2\u03fe\u03ff\5\u0165\u00b3\2\u03ff\u0400\5\u0169"+
+		"\u00b5\2\u0400\u0401\5\u0147\u00a4\2\u0401\u0402\5\u0153\u00aa\2\u0402"+
+		"\u0403\5\u015f\u00b0\2\u0403\u0404\5\u0147\u00a4\2\u0404\u00e8\3\2\2\2"+
+		"\u0405\u0406\5\u0165\u00b3\2\u0406\u0407\5\u0169\u00b5\2\u0407\u0408\5"+
+		"\u0157\u00ac\2\u0408\u0409\5\u015f\u00b0\2\u0409\u040a\5\u0147\u00a4\2"+
+		"\u040a\u040b\5\u0169\u00b5\2\u040b\u040c\5\u0177\u00bc\2\u040c\u00ea\3"+
+		"\2\2\2\u040d\u040e\5\u0167\u00b4\2\u040e\u040f\5\u016f\u00b8\2\u040f\u0410"+
+		"\5\u014f\u00a8\2\u0410\u0411\5\u0169\u00b5\2\u0411\u0412\5\u0177\u00bc"+
+		"\2\u0412\u00ec\3\2\2\2\u0413\u0414\5\u0169\u00b5\2\u0414\u0415\5\u0147"+
+		"\u00a4\2\u0415\u0416\5\u0157\u00ac\2\u0416\u0417\5\u016b\u00b6\2\u0417"+
+		"\u0418\5\u014f\u00a8\2\u0418\u00ee\3\2\2\2\u0419\u041a\5\u0169\u00b5\2"+
+		"\u041a\u041b\5\u014f\u00a8\2\u041b\u041c\5\u014b\u00a6\2\u041c\u041d\5"+
+		"\u016f\u00b8\2\u041d\u041e\5\u0169\u00b5\2\u041e\u041f\5\u016b\u00b6\2"+
+		"\u041f\u0420\5\u0157\u00ac\2\u0420\u0421\5\u0171\u00b9\2\u0421\u0422\5"+
+		"\u014f\u00a8\2\u0422\u00f0\3\2\2\2\u0423\u0424\5\u0169\u00b5\2\u0424\u0425"+
+		"\5\u014f\u00a8\2\u0425\u0426\5\u0151\u00a9\2\u0426\u0427\5\u014f\u00a8"+
+		"\2\u0427\u0428\5\u0169\u00b5\2\u0428\u0429\5\u014f\u00a8\2\u0429\u042a"+
+		"\5\u0161\u00b1\2\u042a\u042b\5\u014b\u00a6\2\u042b\u042c\5\u014f\u00a8"+
+		"\2\u042c\u042d\5\u016b\u00b6\2\u042d\u00f2\3\2\2\2\u042e\u042f\5\u0169"+
+		"\u00b5\2\u042f\u0430\5\u014f\u00a8\2\u0430\u0431\5\u0153\u00aa\2\u0431"+
+		"\u0432\5\u014f\u00a8\2\u0432\u0433\5\u0175\u00bb\2\u0433\u0434\5\u0165"+
+		"\u00b3\2\u0434\u00f4\3\2\2\2\u0435\u0436\5\u0169\u00b5\2\u0436\u0437\5"+
+		"\u014f\u00a8\2\u0437\u0438\5\u0157\u00ac\2\u0438\u0439\5\u0161\u00b1\2"+
+		"\u0439\u043a\5\u014d\u00a7\2\u043a\u043b\5\u014f\u00a8\2\u043b\u043c\5"+
+		"\u0175\u00bb\2\u043c\u00f6\3\2\2\2\u043d\u043e\5\u0169\u00b5\2\u043e\u043f"+
+		"\5\u014f\u00a8\2\u043f\u0440\5\u015d\u00af\2\u0440\u0441\5\u014f\u00a8"+
+		"\2\u0441\u0442\5\u0147\u00a4\2\u0442\u0443\5\u016b\u00b6\2\u0443\u0444"+
+		"\5\u014f\u00a8\2\u0444\u00f8\3\2\2\2\u0445\u0446\5\u0169\u00b5\2\u0446"+
+		"\u0447\5\u014f\u00a8\2\u0447\u0448\5\u0161\u00b1\2\u0448\u0449\5\u0147"+
+		"\u00a4\2\u0449\u044a\5\u015f\u00b0\2\u044a\u044b\5\u014f\u00a8\2\u044b"+
+		"\u00fa\3\2\2\2\u044c\u044d\5\u0169\u00b5\2\u044d\u044e\5\u014f\u00a8\2"+
+		"\u044e\u044f\5\u0165\u00b3\2\u044f\u0450\5\u015d\u00af\2\u0450\u0451\5"+
+		"\u0147\u00a4\2\u0451\u0452\5\u014b\u00a6\2\u0452\u0453\5\u014f\u00a8\2"+
+		"\u0453\u00fc\3\2\2\2\u0454\u0455\5\u0169\u00b5\2\u0455\u0456\5\u014f\u00a8"+
+		"\2\u0456\u0457\5\u016b\u00b6\2\u0457\u0458\5\u016d\u00b7\2\u0458\u0459"+
+		"\5\u0169\u00b5\2\u0459\u045a\5\u0157\u00ac\2\u045a\u045b\5\u014b\u00a6"+
+		"\2\u045b\u045c\5\u016d\u00b7\2\u045c\u00fe\3\2\2\2\u045d\u045e\5\u0169"+
+		"\u00b5\2\u045e\u045f\5\u0157\u00ac\2\u045f\u0460\5\u0153\u00aa\2\u0460"+
+		"\u0461\5\u0155\u00ab\2\u0461\u0462\5\u016d\u00b7\2\u0462\u0100\3\2\2\2"+
+		"\u0463\u0464\5\u0169\u00b5\2\u0464\u0465\5\u0163\u00b2\2\u0465\u0466\5"+
+		"\u015d\u00af\2\u0466\u0467\5\u015d\u00af\2\u0467\u0468\5\u0149\u00a5\2"+
+		"\u0468\u0469\5\u0147\u00a4\2\u0469\u046a\5\u014b\u00a6\2\u046a\u046b\5"+
+		"\u015b\u00ae\2\u046b\u0102\3\2\2\2\u046c\u046d\5\u0169\u00b5\2\u046d\u046e"+
+		"\5\u0163\u00b2\2\u046e\u046f\5\u0173\u00ba\2\u046f\u0104\3\2\2\2\u0470"+
+		"\u0471\5\u016b\u00b6\2\u0471\u0472\5\u0147\u00a4\2\u0472\u0473\5\u0171"+
+		"\u00b9\2\u0473\u0474\5\u014f\u00a8\2\u0474\u0475\5\u0165\u00b3\2\u0475"+
+		"\u0476\5\u0163\u00b2\2\u0476\u0477\5\u0157\u00ac\2\u0477\u0478\5\u0161"+
+		"\u00b1\2\u0478\u0479\5\u016d\u00b7\2\u0479\u0106\3\2\2\2\u047a\u047b\5"+
+		"\u016b\u00b6\2\u047b\u047c\5\u014f\u00a8\2\u047c\u047d\5\u015d\u00af\2"+
+		"\u047d\u047e\5\u014f\u00a8\2\u047e\u047f\5\u014b\u00a6\2\u047f\u0480\5"+
+		"\u016d\u00b7\2\u0480\u0108\3\2\2\2\u0481\u0482\5\u016b\u00b6\2\u0482\u0483"+
+		"\5\u014f\u00a8\2\u0483\u0484\5\u016d\u00b7\2\u0484\u010a\3\2\2\2\u0485"+
+		"\u0486\5\u016d\u00b7\2\u0486\u0487\5\u0147\u00a4\2\u0487\u0488\5\u0149"+
+		"\u00a5\2\u0488\u0489\5\u015d\u00af\2\u0489\u048a\5\u014f\u00a8\2\u048a"+
+		"\u010c\3\2\2\2\u048b\u048c\5\u016d\u00b7\2\u048c\u048d\5\u014f\u00a8\2"+
+		"\u048d\u048e\5\u015f\u00b0\2\u048e\u048f\5\u0165\u00b3\2\u048f\u010e\3"+
+		"\2\2\2\u0490\u0491\5\u016d\u00b7\2\u0491\u0492\5\u014f\u00a8\2\u0492\u0493"+
+		"\5\u015f\u00b0\2\u0493\u0494\5\u0165\u00b3\2\u0494\u0495\5\u0163\u00b2"+
+		"\2\u0495\u0496\5\u0169\u00b5\2\u0496\u0497\5\u0147\u00a4\2\u0497\u0498"+
+		"\5\u0169\u00b5\2\u0498\u0499\5\u0177\u00bc\2\u0499\u0110\3\2\2\2\u049a"+
+		"\u049b\5\u016d\u00b7\2\u049b\u049c\5\u0155\u00ab\2\u049c\u049d\5\u014f"+
+		"\u00a8\2\u049d\u049e\5\u0161\u00b1\2\u049e\u0112\3\2\2\2\u049f\u04a0\5"+
+		"\u016d\u00b7\2\u04a0\u04a1\5\u0163\u00b2\2\u04a1\u0114\3\2\2\2\u04a2\u04a3"+
+		"\5\u016d\u00b7\2\u04a3\u04a4\5\u0169\u00b5\2\u04a4\u04a5\5\u0147\u00a4"+
+		"\2\u04a5\u04a6\5\u0161\u00b1\2\u04a6\u04a7\5\u016b\u00b6\2\u04a7\u04a8"+
+		"\5\u0147\u00a4\2\u04a8\u04a9\5\u014b\u00a6\2\u04a9\u04aa\5\u016d\u00b7"+
+		"\2\u04aa\u04ab\5\u0157\u00ac\2\u04ab\u04ac\5\u0163\u00b2\2\u04ac\u04ad"+
+		"\5\u0161\u00b1\2\u04ad\u0116\3\2\2\2\u04ae\u04af\5\u016d\u00b7\2\u04af"+
+		"\u04b0\5\u0169\u00b5\2\u04b0\u04b1\5\u0157\u00ac\2\u04b1\u04b2\5\u0153"+
+		"\u00aa\2\u04b2\u04b3\5\u0153\u00aa\2\u04b3\u04b4\5\u014f\u00a8\2\u04b4"+
+		"\u04b5\5\u0169\u00b5\2\u04b5\u0118\3\2\2\2\u04b6\u04b7\5\u016f\u00b8\2"+
+		"\u04b7\u04b8\5\u0161\u00b1\2\u04b8\u04b9\5\u0157\u00ac\2\u04b9\u04ba\5"+
+		"\u0163\u00b2\2\u04ba\u04bb\5\u0161\u00b1\2\u04bb\u011a\3\2\2\2\u04bc\u04bd"+
+		"\5\u016f\u00b8\2\u04bd\u04be\5\u0161\u00b1\2\u04be\u04bf\5\u0157\u00ac"+
+		"\2\u04bf\u04c0\5\u0167\u00b4\2\u04c0\u04c1\5\u016f\u00b8\2\u04c1\u04c2"+
+		"\5\u014f\u00a8\2\u04c2\u011c\3\2\2\2\u04c3\u04c4\5\u016f\u00b8\2\u04c4"+
+		"\u04c5\5\u0165\u00b3\2\u04c5\u04c6\5\u014d\u00a7\2\u04c6\u04c7\5\u0147"+
+		"\u00a4\2\u04c7\u04c8\5\u016d\u00b7\2\u04c8\u04c9\5\u014f\u00a8\2\u04c9"+
+		"\u011e\3\2\2\2\u04ca\u04cb\5\u016f\u00b8\2\u04cb\u04cc\5\u016b\u00b6\2"+
+		"\u04cc\u04cd\5\u0157\u00ac\2\u04cd\u04ce\5\u0161\u00b1\2\u04ce\u04cf\5"+
+		"\u0153\u00aa\2\u04cf\u0120\3\2\2\2\u04d0\u04d1\5\u0171\u00b9\2\u04d1\u04d2"+
+		"\5\u0147\u00a4\2\u04d2\u04d3\5\u014b\u00a6\2\u04d3\u04d4\5\u016f\u00b8"+
+		"\2\u04d4\u04d5\5\u016f\u00b8\2\u04d5\u04d6\5\u015f\u00b0\2\u04d6\u0122"+
+		"\3\2\2\2\u04d7\u04d8\5\u0171\u00b9\2\u04d8\u04d9\5\u0147\u00a4\2\u04d9"+
+		"\u04da\5\u015d\u00af\2\u04da\u04db\5\u016f\u00b8\2\u04db\u04dc\5\u014f"+
+		"\u00a8\2\u04dc\u04dd\5\u016b\u00b6\2\u04dd\u0124\3\2\2\2\u04de\u04df\5"+
+		"\u0171\u00b9\2\u04df\u04e0\5\u0157\u00ac\2\u04e0\u04e1\5\u014f\u00a8\2"+
+		"\u04e1\u04e2\5\u0173\u00ba\2\u04e2\u0126\3\2\2\2\u04e3\u04e4\5\u0171\u00b9"+
+		"\2\u04e4\u04e5\5\u0157\u00ac\2\u04e5\u04e6\5\u0169\u00b5\2\u04e6\u04e7"+
+		"\5\u016d\u00b7\2\u04e7\u04e8\5\u016f\u00b8\2\u04e8\u04e9\5\u0147\u00a4"+
+		"\2\u04e9\u04ea\5\u015d\u00af\2\u04ea\u0128\3\2\2\2\u04eb\u04ec\5\u0173"+
+		"\u00ba\2\u04ec\u04ed\5\u0155\u00ab\2\u04ed\u04ee\5\u014f\u00a8\2\u04ee"+
+		"\u04ef\5\u0161\u00b1\2\u04ef\u012a\3\2\2\2\u04f0\u04f1\5\u0173\u00ba\2"+
+		"\u04f1\u04f2\5\u0155\u00ab\2\u04f2\u04f3\5\u014f\u00a8\2\u04f3\u04f4\5"+
+		"\u0169\u00b5\2\u04f4\u04f5\5\u014f\u00a8\2\u04f5\u012c\3\2\2\2\u04f6\u04f7"+
+		"\5\u0173\u00ba\2\u04f7\u04f8\5\u0157\u00ac\2\u04f8\u04f9\5\u016d\u00b7"+
+		"\2\u04f9\u04fa\5\u0155\u00ab\2\u04fa\u012e\3\2\2\2\u04fb\u04fc\5\u0173"+
+		"\u00ba\2\u04fc\u04fd\5\u0157\u00ac\2\u04fd\u04fe\5\u016d\u00b7\2\u04fe"+
+		"\u04ff\5\u0155\u00ab\2\u04ff\u0500\5\u0163\u00b2\2\u0500\u0501\5\u016f"+
+		"\u00b8\2\u0501\u0502\5\u016d\u00b7\2\u0502\u0130\3\2\2\2\u0503\u0504\5"+
+		"\u014f\u00a8\2\u0504\u0505\5\u0161\u00b1\2\u0505\u0506\5\u0153\u00aa\2"+
+		"\u0506\u0507\5\u0157\u00ac\2\u0507\u0508\5\u0161\u00b1\2\u0508\u0509\5"+
+		"\u014f\u00a8\2\u0509\u0132\3\2\2\2\u050a\u0510\7$\2\2\u050b\u050f\n\2"+
+		"\2\2\u050c\u050d\7$\2\2\u050d\u050f\7$\2\2\u050e\u050b\3\2\2\2\u050e\u050c"+
+		"\3\2\2\2\u050f\u0512\3\2\2\2\u0510\u050e\3\2\2\2\u0510\u0511\3\2\2\2\u0511"+
+		"\u0513\3\2\2\2\u0512\u0510\3\2\2\2\u0513\u052e\7$\2\2\u0514\u051a\7b\2"+
+		"\2\u0515\u0519\n\3\2\2\u0516\u0517\7b\2\2\u0517\u0519\7b\2\2\u0518\u0515"+
+		"\3\2\2\2\u0518\u0516\3\2\2\2\u0519\u051c\3\2\2\2\u051a\u0518\3\2\2\2\u051a"+
+		"\u051b\3\2\2\2\u051b\u051d\3\2\2\2\u051c\u051a\3\2\2\2\u051d\u052e\7b"+
+		"\2\2\u051e\u0522\7]\2\2\u051f\u0521\n\4\2\2\u0520\u051f\3\2\2\2\u0521"+
+		"\u0524\3\2\2\2\u0522\u0520\3\2\2\2\u0522\u0523\3\2\2\2\u0523\u0525\3\2"+
+		"\2\2\u0524\u0522\3\2\2\2\u0525\u052e\7_\2\2\u0526\u052a\t\5\2\2\u0527"+
+		"\u0529\t\6\2\2\u0528\u0527\3\2\2\2\u0529\u052c\3\2\2\2\u052a\u0528\3\2"+
+		"\2\2\u052a\u052b\3\2\2\2\u052b\u052e\3\2\2\2\u052c\u052a\3\2\2\2\u052d"+
+		"\u050a\3\2\2\2\u052d\u0514\3\2\2\2\u052d\u051e\3\2\2\2\u052d\u0526\3\2"+
+		"\2\2\u052e\u0134\3\2\2\2\u052f\u0531\5\u0145\u00a3\2\u0530\u052f\3\2\2"+
+		"\2\u0531\u0532\3\2\2\2\u0532\u0530\3\2\2\2\u0532\u0533\3\2\2\2\u0533\u053b"+
+		"\3\2\2\2\u0534\u0538\7\60\2\2\u0535\u0537\5\u0145\u00a3\2\u0536\u0535"+
+		"\3\2\2\2\u0537\u053a\3\2\2\2\u0538\u0536\3\2\2\2\u0538\u0539\3\2\2\2\u0539"+
+		"\u053c\3\2\2\2\u053a\u0538\3\2\2\2\u053b\u0534\3\2\2\2\u053b\u053c\3\2"+
+		"\2\2\u053c\u0546\3\2\2\2\u053d\u053f\5\u014f\u00a8\2\u053e\u0540\t\7\2"+
+		"\2\u053f\u053e\3\2\2\2\u053f\u0540\3\2\2\2\u0540\u0542\3\2\2\2\u0541\u0543"+
+		"\5\u0145\u00a3\2\u0542\u0541\3\2\2\2\u0543\u0544\3\2\2\2\u0544\u0542\3"+
+		"\2\2\2\u0544\u0545\3\2\2\2\u0545\u0547\3\2\2\2\u0546\u053d\3\2\2\2\u0546"+
+		"\u0547\3\2\2\2\u0547\u055a\3\2\2\2\u0548\u054a\7\60\2\2\u0549\u054b\5"+
+		"\u0145\u00a3\2\u054a\u0549\3\2\2\2\u054b\u054c\3\2\2\2\u054c\u054a\3\2"+
+		"\2\2\u054c\u054d\3\2\2\2\u054d\u0557\3\2\2\2\u054e\u0550\5\u014f\u00a8"+
+		"\2\u054f\u0551\t\7\2\2\u0550\u054f\3\2\2\2\u0550\u0551\3\2\2\2\u0551\u0553"+
+		"\3\2\2\2\u0552\u0554\5\u0145\u00a3\2\u0553\u0552\3\2\2\2\u0554\u0555\3"+
+		"\2\2\2\u0555\u0553\3\2\2\2\u0555\u0556\3\2\2\2\u0556\u0558\3\2\2\2\u0557"+
+		"\u054e\3\2\2\2\u0557\u0558\3\2\2\2\u0558\u055a\3\2\2\2\u0559\u0530\3\2"+
+		"\2\2\u0559\u0548\3\2\2\2\u055a\u0136\3\2\2\2\u055b\u055f\7A\2\2\u055c"+
+		"\u055e\5\u0145\u00a3\2\u055d\u055c\3\2\2\2\u055e\u0561\3\2\2\2\u055f\u055d"+
+		"\3\2\2\2\u055f\u0560\3\2\2\2\u0560\u0565\3\2\2\2\u0561\u055f\3\2\2\2\u0562"+
+		"\u0563\t\b\2\2\u0563\u0565\5\u0133\u009a\2\u0564\u055b\3\2\2\2\u0564\u0562"+
+		"\3\2\2\2\u0565\u0138\3\2\2\2\u0566\u056c\7)\2\2\u0567\u056b\n\t\2\2\u0568"+
+		"\u0569\7)\2\2\u0569\u056b\7)\2\2\u056a\u0567\3\2\2\2\u056a\u0568\3\2\2"+
+		"\2\u056b\u056e\3\2\2\2\u056c\u056a\3\2\2\2\u056c\u056d\3\2\2\2\u056d\u056f"+
+		"\3\2\2\2\u056e\u056c\3\2\2\2\u056f\u0570\7)\2\2\u0570\u013a\3\2\2\2\u0571"+
+		"\u0572\5\u0175\u00bb\2\u0572\u0573\5\u0139\u009d\2\u0573\u013c\3\2\2\2"+
+		"\u0574\u0575\7/\2\2\u0575\u0576\7/\2\2\u0576\u057a\3\2\2\2\u0577\u0579"+
+		"\n\n\2\2\u0578\u0577\3\2\2\2\u0579\u057c\3\2\2\2\u057a\u0578\3\2\2\2\u057a"+
+		"\u057b\3\2\2\2\u057b\u057d\3\2\2\2\u057c\u057a\3\2\2\2\u057d\u057e\b\u009f"+
+		"\2\2\u057e\u013e\3\2\2\2\u057f\u0580\7\61\2\2\u0580\u0581\7,\2\2\u0581"+
+		"\u0585\3\2\2\2\u0582\u0584\13\2\2\2\u0583\u0582\3\2\2\2\u0584\u0587\3"+
+		"\2\2\2\u0585\u0586\3\2\2\2\u0585\u0583\3\2\2\2\u0586\u058b\3\2\2\2\u0587"+
+		"\u0585\3\2\2\2\u0588\u0589\7,\2\2\u0589\u058c\7\61\2\2\u058a\u058c\7\2"+
+		"\2\3\u058b\u0588\3\2\2\2\u058b\u058a\3\2\2\2\u058c\u058d\3\2\2\2\u058d"+
+		"\u058e\b\u00a0\2\2\u058e\u0140\3\2\2\2\u058f\u0590\t\13\2\2\u0590\u0591"+
+		"\3\2\2\2\u0591\u0592\b\u00a1\2\2\u0592\u0142\3\2\2\2\u0593\u0594\13\2"+
+		"\2\2\u0594\u0144\3\2\2\2\u0595\u0596\t\f\2\2\u0596\u0146\3\2\2\2\u0597"+
+		"\u0598\t\r\2\2\u0598\u0148\3\2\2\2\u0599\u059a\t\16\2\2\u059a\u014a\3"+
+		"\2\2\2\u059b\u059c\t\17\2\2\u059c\u014c\3\2\2\2\u059d\u059e\t\20\2\2\u059e"+
+		"\u014e\3\2\2\2\u059f\u05a0\t\21\2\2\u05a0\u0150\3\2\2\2\u05a1\u05a2\t"+
+		"\22\2\2\u05a2\u0152\3\2\2\2\u05a3\u05a4\t\23\2\2\u05a4\u0154\3\2\2\2\u05a5"+
+		"\u05a6\t\24\2\2\u05a6\u0156\3\2\2\2\u05a7\u05a8\t\25\2\2\u05a8\u0158\3"+
+		"\2\2\2\u05a9\u05aa\t\26\2\2\u05aa\u015a\3\2\2\2\u05ab\u05ac\t\27\2\2\u05ac"+
+		"\u015c\3\2\2\2\u05ad\u05ae\t\30\2\2\u05ae\u015e\3\2\2\2\u05af\u05b0\t"+
+		"\31\2\2\u05b0\u0160\3\2\2\2\u05b1\u05b2\t\32\2\2\u05b2\u0162\3\2\2\2\u05b3"+
+		"\u05b4\t\33\2\2\u05b4\u0164\3\2\2\2\u05b5\u05b6\t\34\2\2\u05b6\u0166\3"+
+		"\2\2\2\u05b7\u05b8\t\35\2\2\u05b8\u0168\3\2\2\2\u05b9\u05ba\t\36\2\2\u05ba"+
+		"\u016a\3\2\2\2\u05bb\u05bc\t\37\2\2\u05bc\u016c\3\2\2\2\u05bd\u05be\t"+
+		" \2\2\u05be\u016e\3\2\2\2\u05bf\u05c0\t!\2\2\u05c0\u0170\3\2\2\2\u05c1"+
+		"\u05c2\t\"\2\2\u05c2\u0172\3\2\2\2\u05c3\u05c4\t#\2\2\u05c4\u0174\3\2"+
+		"\2\2\u05c5\u05c6\t$\2\2\u05c6\u0176\3\2\2\2\u05c7\u05c8\t%\2\2\u05c8\u0178"+
+		"\3\2\2\2\u05c9\u05ca\t&\2\2\u05ca\u017a\3\2\2\2\34\2\u050e\u0510\u0518"+
+		"\u051a\u0522\u052a\u052d\u0532\u0538\u053b\u053f\u0544\u0546\u054c\u0550"+
+		"\u0555\u0557\u0559\u055f\u0564\u056a\u056c\u057a\u0585\u058b\3\2\3\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
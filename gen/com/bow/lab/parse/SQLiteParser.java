@@ -0,0 +1,10369 @@
+// Generated from SQLite.g4 by ANTLR 4.7
+package com.bow.lab.parse;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class SQLiteParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.7", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		SCOL=1, DOT=2, OPEN_PAR=3, CLOSE_PAR=4, COMMA=5, ASSIGN=6, STAR=7, PLUS=8, 
+		MINUS=9, TILDE=10, PIPE2=11, DIV=12, MOD=13, LT2=14, GT2=15, AMP=16, PIPE=17, 
+		LT=18, LT_EQ=19, GT=20, GT_EQ=21, EQ=22, NOT_EQ1=23, NOT_EQ2=24, EXIT=25, 
+		BYE=26, QUIT=27, K_ABORT=28, K_ACTION=29, K_ADD=30, K_AFTER=31, K_ALL=32, 
+		K_ALTER=33, K_ANALYZE=34, K_AND=35, K_AS=36, K_ASC=37, K_ATTACH=38, K_AUTOINCREMENT=39, 
+		K_BEFORE=40, K_BEGIN=41, K_BETWEEN=42, K_BY=43, K_CASCADE=44, K_CASE=45, 
+		K_CAST=46, K_CHECK=47, K_COLLATE=48, K_COLUMN=49, K_COMMIT=50, K_CONFLICT=51, 
+		K_CONSTRAINT=52, K_CREATE=53, K_CROSS=54, K_CURRENT_DATE=55, K_CURRENT_TIME=56, 
+		K_CURRENT_TIMESTAMP=57, K_DATABASE=58, K_DEFAULT=59, K_DEFERRABLE=60, 
+		K_DEFERRED=61, K_DELETE=62, K_DESC=63, K_DETACH=64, K_DISTINCT=65, K_DROP=66, 
+		K_EACH=67, K_ELSE=68, K_END=69, K_ESCAPE=70, K_EXCEPT=71, K_EXCLUSIVE=72, 
+		K_EXISTS=73, K_EXPLAIN=74, K_FAIL=75, K_FOR=76, K_FOREIGN=77, K_FROM=78, 
+		K_FULL=79, K_GLOB=80, K_GROUP=81, K_HAVING=82, K_IF=83, K_IGNORE=84, K_IMMEDIATE=85, 
+		K_IN=86, K_INDEX=87, K_INDEXED=88, K_INITIALLY=89, K_INNER=90, K_INSERT=91, 
+		K_INSTEAD=92, K_INTERSECT=93, K_INTO=94, K_IS=95, K_ISNULL=96, K_JOIN=97, 
+		K_KEY=98, K_LEFT=99, K_LIKE=100, K_LIMIT=101, K_MATCH=102, K_NATURAL=103, 
+		K_NO=104, K_NOT=105, K_NOTNULL=106, K_NULL=107, K_OF=108, K_OFFSET=109, 
+		K_ON=110, K_OR=111, K_ORDER=112, K_OUTER=113, K_PLAN=114, K_PRAGMA=115, 
+		K_PRIMARY=116, K_QUERY=117, K_RAISE=118, K_RECURSIVE=119, K_REFERENCES=120, 
+		K_REGEXP=121, K_REINDEX=122, K_RELEASE=123, K_RENAME=124, K_REPLACE=125, 
+		K_RESTRICT=126, K_RIGHT=127, K_ROLLBACK=128, K_ROW=129, K_SAVEPOINT=130, 
+		K_SELECT=131, K_SET=132, K_TABLE=133, K_TEMP=134, K_TEMPORARY=135, K_THEN=136, 
+		K_TO=137, K_TRANSACTION=138, K_TRIGGER=139, K_UNION=140, K_UNIQUE=141, 
+		K_UPDATE=142, K_USING=143, K_VACUUM=144, K_VALUES=145, K_VIEW=146, K_VIRTUAL=147, 
+		K_WHEN=148, K_WHERE=149, K_WITH=150, K_WITHOUT=151, K_ENGINE=152, IDENTIFIER=153, 
+		NUMERIC_LITERAL=154, BIND_PARAMETER=155, STRING_LITERAL=156, BLOB_LITERAL=157, 
+		SINGLE_LINE_COMMENT=158, MULTILINE_COMMENT=159, SPACES=160, UNEXPECTED_CHAR=161;
+	public static final int
+		RULE_parse = 0, RULE_error = 1, RULE_quit_stmt = 2, RULE_sql_stmt_list = 3, 
+		RULE_sql_stmt = 4, RULE_alter_table_stmt = 5, RULE_analyze_stmt = 6, RULE_attach_stmt = 7, 
+		RULE_begin_stmt = 8, RULE_commit_stmt = 9, RULE_compound_select_stmt = 10, 
+		RULE_create_index_stmt = 11, RULE_create_table_stmt = 12, RULE_create_trigger_stmt = 13, 
+		RULE_create_view_stmt = 14, RULE_create_virtual_table_stmt = 15, RULE_delete_stmt = 16, 
+		RULE_delete_stmt_limited = 17, RULE_detach_stmt = 18, RULE_drop_index_stmt = 19, 
+		RULE_drop_table_stmt = 20, RULE_drop_trigger_stmt = 21, RULE_drop_view_stmt = 22, 
+		RULE_factored_select_stmt = 23, RULE_insert_stmt = 24, RULE_pragma_stmt = 25, 
+		RULE_reindex_stmt = 26, RULE_release_stmt = 27, RULE_rollback_stmt = 28, 
+		RULE_savepoint_stmt = 29, RULE_simple_select_stmt = 30, RULE_select_stmt = 31, 
+		RULE_select_or_values = 32, RULE_update_stmt = 33, RULE_update_stmt_limited = 34, 
+		RULE_vacuum_stmt = 35, RULE_column_def = 36, RULE_type_name = 37, RULE_column_constraint = 38, 
+		RULE_conflict_clause = 39, RULE_expr = 40, RULE_foreign_key_clause = 41, 
+		RULE_raise_function = 42, RULE_indexed_column = 43, RULE_table_constraint = 44, 
+		RULE_with_clause = 45, RULE_qualified_table_name = 46, RULE_ordering_term = 47, 
+		RULE_pragma_value = 48, RULE_common_table_expression = 49, RULE_result_column = 50, 
+		RULE_table_or_subquery = 51, RULE_join_clause = 52, RULE_join_operator = 53, 
+		RULE_join_constraint = 54, RULE_select_core = 55, RULE_where_clause = 56, 
+		RULE_group_clause = 57, RULE_having_cluase = 58, RULE_compound_operator = 59, 
+		RULE_signed_number = 60, RULE_literal_value = 61, RULE_unary_operator = 62, 
+		RULE_error_message = 63, RULE_module_argument = 64, RULE_column_alias = 65, 
+		RULE_keyword = 66, RULE_name = 67, RULE_function_name = 68, RULE_database_name = 69, 
+		RULE_schema_name = 70, RULE_table_function_name = 71, RULE_table_name = 72, 
+		RULE_table_or_index_name = 73, RULE_new_table_name = 74, RULE_column_name = 75, 
+		RULE_collation_name = 76, RULE_foreign_table = 77, RULE_index_name = 78, 
+		RULE_trigger_name = 79, RULE_view_name = 80, RULE_module_name = 81, RULE_pragma_name = 82, 
+		RULE_savepoint_name = 83, RULE_table_alias = 84, RULE_transaction_name = 85, 
+		RULE_any_name = 86;
+	public static final String[] ruleNames = {
+		"parse", "error", "quit_stmt", "sql_stmt_list", "sql_stmt", "alter_table_stmt", 
+		"analyze_stmt", "attach_stmt", "begin_stmt", "commit_stmt", "compound_select_stmt", 
+		"create_index_stmt", "create_table_stmt", "create_trigger_stmt", "create_view_stmt", 
+		"create_virtual_table_stmt", "delete_stmt", "delete_stmt_limited", "detach_stmt", 
+		"drop_index_stmt", "drop_table_stmt", "drop_trigger_stmt", "drop_view_stmt", 
+		"factored_select_stmt", "insert_stmt", "pragma_stmt", "reindex_stmt", 
+		"release_stmt", "rollback_stmt", "savepoint_stmt", "simple_select_stmt", 
+		"select_stmt", "select_or_values", "update_stmt", "update_stmt_limited", 
+		"vacuum_stmt", "column_def", "type_name", "column_constraint", "conflict_clause", 
+		"expr", "foreign_key_clause", "raise_function", "indexed_column", "table_constraint", 
+		"with_clause", "qualified_table_name", "ordering_term", "pragma_value", 
+		"common_table_expression", "result_column", "table_or_subquery", "join_clause", 
+		"join_operator", "join_constraint", "select_core", "where_clause", "group_clause", 
+		"having_cluase", "compound_operator", "signed_number", "literal_value", 
+		"unary_operator", "error_message", "module_argument", "column_alias", 
+		"keyword", "name", "function_name", "database_name", "schema_name", "table_function_name", 
+		"table_name", "table_or_index_name", "new_table_name", "column_name", 
+		"collation_name", "foreign_table", "index_name", "trigger_name", "view_name", 
+		"module_name", "pragma_name", "savepoint_name", "table_alias", "transaction_name", 
+		"any_name"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "';'", "'.'", "'('", "')'", "','", "'='", "'*'", "'+'", "'-'", "'~'", 
+		"'||'", "'/'", "'%'", "'<<'", "'>>'", "'&'", "'|'", "'<'", "'<='", "'>'", 
+		"'>='", "'=='", "'!='", "'<>'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, "SCOL", "DOT", "OPEN_PAR", "CLOSE_PAR", "COMMA", "ASSIGN", "STAR", 
+		"PLUS", "MINUS", "TILDE", "PIPE2", "DIV", "MOD", "LT2", "GT2", "AMP", 
+		"PIPE", "LT", "LT_EQ", "GT", "GT_EQ", "EQ", "NOT_EQ1", "NOT_EQ2", "EXIT", 
+		"BYE", "QUIT", "K_ABORT", "K_ACTION", "K_ADD", "K_AFTER", "K_ALL", "K_ALTER", 
+		"K_ANALYZE", "K_AND", "K_AS", "K_ASC", "K_ATTACH", "K_AUTOINCREMENT", 
+		"K_BEFORE", "K_BEGIN", "K_BETWEEN", "K_BY", "K_CASCADE", "K_CASE", "K_CAST", 
+		"K_CHECK", "K_COLLATE", "K_COLUMN", "K_COMMIT", "K_CONFLICT", "K_CONSTRAINT", 
+		"K_CREATE", "K_CROSS", "K_CURRENT_DATE", "K_CURRENT_TIME", "K_CURRENT_TIMESTAMP", 
+		"K_DATABASE", "K_DEFAULT", "K_DEFERRABLE", "K_DEFERRED", "K_DELETE", "K_DESC", 
+		"K_DETACH", "K_DISTINCT", "K_DROP", "K_EACH", "K_ELSE", "K_END", "K_ESCAPE", 
+		"K_EXCEPT", "K_EXCLUSIVE", "K_EXISTS", "K_EXPLAIN", "K_FAIL", "K_FOR", 
+		"K_FOREIGN", "K_FROM", "K_FULL", "K_GLOB", "K_GROUP", "K_HAVING", "K_IF", 
+		"K_IGNORE", "K_IMMEDIATE", "K_IN", "K_INDEX", "K_INDEXED", "K_INITIALLY", 
+		"K_INNER", "K_INSERT", "K_INSTEAD", "K_INTERSECT", "K_INTO", "K_IS", "K_ISNULL", 
+		"K_JOIN", "K_KEY", "K_LEFT", "K_LIKE", "K_LIMIT", "K_MATCH", "K_NATURAL", 
+		"K_NO", "K_NOT", "K_NOTNULL", "K_NULL", "K_OF", "K_OFFSET", "K_ON", "K_OR", 
+		"K_ORDER", "K_OUTER", "K_PLAN", "K_PRAGMA", "K_PRIMARY", "K_QUERY", "K_RAISE", 
+		"K_RECURSIVE", "K_REFERENCES", "K_REGEXP", "K_REINDEX", "K_RELEASE", "K_RENAME", 
+		"K_REPLACE", "K_RESTRICT", "K_RIGHT", "K_ROLLBACK", "K_ROW", "K_SAVEPOINT", 
+		"K_SELECT", "K_SET", "K_TABLE", "K_TEMP", "K_TEMPORARY", "K_THEN", "K_TO", 
+		"K_TRANSACTION", "K_TRIGGER", "K_UNION", "K_UNIQUE", "K_UPDATE", "K_USING", 
+		"K_VACUUM", "K_VALUES", "K_VIEW", "K_VIRTUAL", "K_WHEN", "K_WHERE", "K_WITH", 
+		"K_WITHOUT", "K_ENGINE", "IDENTIFIER", "NUMERIC_LITERAL", "BIND_PARAMETER", 
+		"STRING_LITERAL", "BLOB_LITERAL", "SINGLE_LINE_COMMENT", "MULTILINE_COMMENT", 
+		"SPACES", "UNEXPECTED_CHAR"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "SQLite.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public SQLiteParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+	public static class ParseContext extends ParserRuleContext {
+		public TerminalNode EOF() { return getToken(SQLiteParser.EOF, 0); }
+		public List<Quit_stmtContext> quit_stmt() {
+			return getRuleContexts(Quit_stmtContext.class);
+		}
+		public Quit_stmtContext quit_stmt(int i) {
+			return getRuleContext(Quit_stmtContext.class,i);
+		}
+		public List<Sql_stmt_listContext> sql_stmt_list() {
+			return getRuleContexts(Sql_stmt_listContext.class);
+		}
+		public Sql_stmt_listContext sql_stmt_list(int i) {
+			return getRuleContext(Sql_stmt_listContext.class,i);
+		}
+		public List<ErrorContext> error() {
+			return getRuleContexts(ErrorContext.class);
+		}
+		public ErrorContext error(int i) {
+			return getRuleContext(ErrorContext.class,i);
+		}
+		public ParseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_parse; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterParse(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitParse(this);
+		}
+	}
+
+	public final ParseContext parse() throws RecognitionException {
+		ParseContext _localctx = new ParseContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_parse);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(179);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SCOL) | (1L << EXIT) | (1L << BYE) | (1L << QUIT) | (1L << K_ALTER) | (1L << K_ANALYZE) | (1L << K_ATTACH) | (1L << K_BEGIN) | (1L << K_COMMIT) | (1L << K_CREATE) | (1L << K_DELETE))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (K_DETACH - 64)) | (1L << (K_DROP - 64)) | (1L << (K_END - 64)) | (1L << (K_EXPLAIN - 64)) | (1L << (K_INSERT - 64)) | (1L << (K_PRAGMA - 64)) | (1L << (K_REINDEX - 64)) | (1L << (K_RELEASE - 64)) | (1L << (K_REPLACE - 64)))) != 0) || ((((_la - 128)) & ~0x3f) == 0 && ((1L << (_la - 128)) & ((1L << (K_ROLLBACK - 128)) | (1L << (K_SAVEPOINT - 128)) | (1L << (K_SELECT - 128)) | (1L << (K_UPDATE - 128)) | (1L << (K_VACUUM - 128)) | (1L << (K_VALUES - 128)) | (1L << (K_WITH - 128)) | (1L << (UNEXPECTED_CHAR - 128)))) != 0)) {
+				{
+				setState(177);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
+				case 1:
+					{
+					setState(174);
+					quit_stmt();
+					}
+					break;
+				case 2:
+					{
+					setState(175);
+					sql_stmt_list();
+					}
+					break;
+				case 3:
+					{
+					setState(176);
+					error();
+					}
+					break;
+				}
+				}
+				setState(181);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(182);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ErrorContext extends ParserRuleContext {
+		public Token UNEXPECTED_CHAR;
+		public TerminalNode UNEXPECTED_CHAR() { return getToken(SQLiteParser.UNEXPECTED_CHAR, 0); }
+		public ErrorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_error; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterError(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitError(this);
+		}
+	}
+
+	public final ErrorContext error() throws RecognitionException {
+		ErrorContext _localctx = new ErrorContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_error);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(184);
+			((ErrorContext)_localctx).UNEXPECTED_CHAR = match(UNEXPECTED_CHAR);
+
+			     throw new RuntimeException("UNEXPECTED_CHAR=" + (((ErrorContext)_localctx).UNEXPECTED_CHAR!=null?((ErrorContext)_localctx).UNEXPECTED_CHAR.getText():null));
+			   
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Quit_stmtContext extends ParserRuleContext {
+		public TerminalNode EXIT() { return getToken(SQLiteParser.EXIT, 0); }
+		public TerminalNode QUIT() { return getToken(SQLiteParser.QUIT, 0); }
+		public TerminalNode BYE() { return getToken(SQLiteParser.BYE, 0); }
+		public Quit_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_quit_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterQuit_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitQuit_stmt(this);
+		}
+	}
+
+	public final Quit_stmtContext quit_stmt() throws RecognitionException {
+		Quit_stmtContext _localctx = new Quit_stmtContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_quit_stmt);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(190);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==SCOL) {
+				{
+				{
+				setState(187);
+				match(SCOL);
+				}
+				}
+				setState(192);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(193);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << EXIT) | (1L << BYE) | (1L << QUIT))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			setState(197);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(194);
+					match(SCOL);
+					}
+					} 
+				}
+				setState(199);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Sql_stmt_listContext extends ParserRuleContext {
+		public List<Sql_stmtContext> sql_stmt() {
+			return getRuleContexts(Sql_stmtContext.class);
+		}
+		public Sql_stmtContext sql_stmt(int i) {
+			return getRuleContext(Sql_stmtContext.class,i);
+		}
+		public Sql_stmt_listContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sql_stmt_list; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterSql_stmt_list(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitSql_stmt_list(this);
+		}
+	}
+
+	public final Sql_stmt_listContext sql_stmt_list() throws RecognitionException {
+		Sql_stmt_listContext _localctx = new Sql_stmt_listContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_sql_stmt_list);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(203);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==SCOL) {
+				{
+				{
+				setState(200);
+				match(SCOL);
+				}
+				}
+				setState(205);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(206);
+			sql_stmt();
+			setState(215);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(208); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					do {
+						{
+						{
+						setState(207);
+						match(SCOL);
+						}
+						}
+						setState(210); 
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					} while ( _la==SCOL );
+					setState(212);
+					sql_stmt();
+					}
+					} 
+				}
+				setState(217);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
+			}
+			setState(221);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(218);
+					match(SCOL);
+					}
+					} 
+				}
+				setState(223);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Sql_stmtContext extends ParserRuleContext {
+		public Alter_table_stmtContext alter_table_stmt() {
+			return getRuleContext(Alter_table_stmtContext.class,0);
+		}
+		public Analyze_stmtContext analyze_stmt() {
+			return getRuleContext(Analyze_stmtContext.class,0);
+		}
+		public Attach_stmtContext attach_stmt() {
+			return getRuleContext(Attach_stmtContext.class,0);
+		}
+		public Begin_stmtContext begin_stmt() {
+			return getRuleContext(Begin_stmtContext.class,0);
+		}
+		public Commit_stmtContext commit_stmt() {
+			return getRuleContext(Commit_stmtContext.class,0);
+		}
+		public Compound_select_stmtContext compound_select_stmt() {
+			return getRuleContext(Compound_select_stmtContext.class,0);
+		}
+		public Create_index_stmtContext create_index_stmt() {
+			return getRuleContext(Create_index_stmtContext.class,0);
+		}
+		public Create_table_stmtContext create_table_stmt() {
+			return getRuleContext(Create_table_stmtContext.class,0);
+		}
+		public Create_trigger_stmtContext create_trigger_stmt() {
+			return getRuleContext(Create_trigger_stmtContext.class,0);
+		}
+		public Create_view_stmtContext create_view_stmt() {
+			return getRuleContext(Create_view_stmtContext.class,0);
+		}
+		public Create_virtual_table_stmtContext create_virtual_table_stmt() {
+			return getRuleContext(Create_virtual_table_stmtContext.class,0);
+		}
+		public Delete_stmtContext delete_stmt() {
+			return getRuleContext(Delete_stmtContext.class,0);
+		}
+		public Delete_stmt_limitedContext delete_stmt_limited() {
+			return getRuleContext(Delete_stmt_limitedContext.class,0);
+		}
+		public Detach_stmtContext detach_stmt() {
+			return getRuleContext(Detach_stmtContext.class,0);
+		}
+		public Drop_index_stmtContext drop_index_stmt() {
+			return getRuleContext(Drop_index_stmtContext.class,0);
+		}
+		public Drop_table_stmtContext drop_table_stmt() {
+			return getRuleContext(Drop_table_stmtContext.class,0);
+		}
+		public Drop_trigger_stmtContext drop_trigger_stmt() {
+			return getRuleContext(Drop_trigger_stmtContext.class,0);
+		}
+		public Drop_view_stmtContext drop_view_stmt() {
+			return getRuleContext(Drop_view_stmtContext.class,0);
+		}
+		public Factored_select_stmtContext factored_select_stmt() {
+			return getRuleContext(Factored_select_stmtContext.class,0);
+		}
+		public Insert_stmtContext insert_stmt() {
+			return getRuleContext(Insert_stmtContext.class,0);
+		}
+		public Pragma_stmtContext pragma_stmt() {
+			return getRuleContext(Pragma_stmtContext.class,0);
+		}
+		public Reindex_stmtContext reindex_stmt() {
+			return getRuleContext(Reindex_stmtContext.class,0);
+		}
+		public Release_stmtContext release_stmt() {
+			return getRuleContext(Release_stmtContext.class,0);
+		}
+		public Rollback_stmtContext rollback_stmt() {
+			return getRuleContext(Rollback_stmtContext.class,0);
+		}
+		public Savepoint_stmtContext savepoint_stmt() {
+			return getRuleContext(Savepoint_stmtContext.class,0);
+		}
+		public Simple_select_stmtContext simple_select_stmt() {
+			return getRuleContext(Simple_select_stmtContext.class,0);
+		}
+		public Select_stmtContext select_stmt() {
+			return getRuleContext(Select_stmtContext.class,0);
+		}
+		public Update_stmtContext update_stmt() {
+			return getRuleContext(Update_stmtContext.class,0);
+		}
+		public Update_stmt_limitedContext update_stmt_limited() {
+			return getRuleContext(Update_stmt_limitedContext.class,0);
+		}
+		public Vacuum_stmtContext vacuum_stmt() {
+			return getRuleContext(Vacuum_stmtContext.class,0);
+		}
+		public TerminalNode K_EXPLAIN() { return getToken(SQLiteParser.K_EXPLAIN, 0); }
+		public TerminalNode K_QUERY() { return getToken(SQLiteParser.K_QUERY, 0); }
+		public TerminalNode K_PLAN() { return getToken(SQLiteParser.K_PLAN, 0); }
+		public Sql_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sql_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterSql_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitSql_stmt(this);
+		}
+	}
+
+	public final Sql_stmtContext sql_stmt() throws RecognitionException {
+		Sql_stmtContext _localctx = new Sql_stmtContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_sql_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(229);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_EXPLAIN) {
+				{
+				setState(224);
+				match(K_EXPLAIN);
+				setState(227);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_QUERY) {
+					{
+					setState(225);
+					match(K_QUERY);
+					setState(226);
+					match(K_PLAN);
+					}
+				}
+
+				}
+			}
+
+			setState(261);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
+			case 1:
+				{
+				setState(231);
+				alter_table_stmt();
+				}
+				break;
+			case 2:
+				{
+				setState(232);
+				analyze_stmt();
+				}
+				break;
+			case 3:
+				{
+				setState(233);
+				attach_stmt();
+				}
+				break;
+			case 4:
+				{
+				setState(234);
+				begin_stmt();
+				}
+				break;
+			case 5:
+				{
+				setState(235);
+				commit_stmt();
+				}
+				break;
+			case 6:
+				{
+				setState(236);
+				compound_select_stmt();
+				}
+				break;
+			case 7:
+				{
+				setState(237);
+				create_index_stmt();
+				}
+				break;
+			case 8:
+				{
+				setState(238);
+				create_table_stmt();
+				}
+				break;
+			case 9:
+				{
+				setState(239);
+				create_trigger_stmt();
+				}
+				break;
+			case 10:
+				{
+				setState(240);
+				create_view_stmt();
+				}
+				break;
+			case 11:
+				{
+				setState(241);
+				create_virtual_table_stmt();
+				}
+				break;
+			case 12:
+				{
+				setState(242);
+				delete_stmt();
+				}
+				break;
+			case 13:
+				{
+				setState(243);
+				delete_stmt_limited();
+				}
+				break;
+			case 14:
+				{
+				setState(244);
+				detach_stmt();
+				}
+				break;
+			case 15:
+				{
+				setState(245);
+				drop_index_stmt();
+				}
+				break;
+			case 16:
+				{
+				setState(246);
+				drop_table_stmt();
+				}
+				break;
+			case 17:
+				{
+				setState(247);
+				drop_trigger_stmt();
+				}
+				break;
+			case 18:
+				{
+				setState(248);
+				drop_view_stmt();
+				}
+				break;
+			case 19:
+				{
+				setState(249);
+				factored_select_stmt();
+				}
+				break;
+			case 20:
+				{
+				setState(250);
+				insert_stmt();
+				}
+				break;
+			case 21:
+				{
+				setState(251);
+				pragma_stmt();
+				}
+				break;
+			case 22:
+				{
+				setState(252);
+				reindex_stmt();
+				}
+				break;
+			case 23:
+				{
+				setState(253);
+				release_stmt();
+				}
+				break;
+			case 24:
+				{
+				setState(254);
+				rollback_stmt();
+				}
+				break;
+			case 25:
+				{
+				setState(255);
+				savepoint_stmt();
+				}
+				break;
+			case 26:
+				{
+				setState(256);
+				simple_select_stmt();
+				}
+				break;
+			case 27:
+				{
+				setState(257);
+				select_stmt();
+				}
+				break;
+			case 28:
+				{
+				setState(258);
+				update_stmt();
+				}
+				break;
+			case 29:
+				{
+				setState(259);
+				update_stmt_limited();
+				}
+				break;
+			case 30:
+				{
+				setState(260);
+				vacuum_stmt();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Alter_table_stmtContext extends ParserRuleContext {
+		public TerminalNode K_ALTER() { return getToken(SQLiteParser.K_ALTER, 0); }
+		public TerminalNode K_TABLE() { return getToken(SQLiteParser.K_TABLE, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_RENAME() { return getToken(SQLiteParser.K_RENAME, 0); }
+		public TerminalNode K_TO() { return getToken(SQLiteParser.K_TO, 0); }
+		public New_table_nameContext new_table_name() {
+			return getRuleContext(New_table_nameContext.class,0);
+		}
+		public TerminalNode K_ADD() { return getToken(SQLiteParser.K_ADD, 0); }
+		public Column_defContext column_def() {
+			return getRuleContext(Column_defContext.class,0);
+		}
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public TerminalNode K_COLUMN() { return getToken(SQLiteParser.K_COLUMN, 0); }
+		public Alter_table_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_alter_table_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterAlter_table_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitAlter_table_stmt(this);
+		}
+	}
+
+	public final Alter_table_stmtContext alter_table_stmt() throws RecognitionException {
+		Alter_table_stmtContext _localctx = new Alter_table_stmtContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_alter_table_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(263);
+			match(K_ALTER);
+			setState(264);
+			match(K_TABLE);
+			setState(268);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,11,_ctx) ) {
+			case 1:
+				{
+				setState(265);
+				database_name();
+				setState(266);
+				match(DOT);
+				}
+				break;
+			}
+			setState(270);
+			table_name();
+			setState(279);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case K_RENAME:
+				{
+				setState(271);
+				match(K_RENAME);
+				setState(272);
+				match(K_TO);
+				setState(273);
+				new_table_name();
+				}
+				break;
+			case K_ADD:
+				{
+				setState(274);
+				match(K_ADD);
+				setState(276);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+				case 1:
+					{
+					setState(275);
+					match(K_COLUMN);
+					}
+					break;
+				}
+				setState(278);
+				column_def();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Analyze_stmtContext extends ParserRuleContext {
+		public TerminalNode K_ANALYZE() { return getToken(SQLiteParser.K_ANALYZE, 0); }
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public Table_or_index_nameContext table_or_index_name() {
+			return getRuleContext(Table_or_index_nameContext.class,0);
+		}
+		public Analyze_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_analyze_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterAnalyze_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitAnalyze_stmt(this);
+		}
+	}
+
+	public final Analyze_stmtContext analyze_stmt() throws RecognitionException {
+		Analyze_stmtContext _localctx = new Analyze_stmtContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_analyze_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(281);
+			match(K_ANALYZE);
+			setState(288);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
+			case 1:
+				{
+				setState(282);
+				database_name();
+				}
+				break;
+			case 2:
+				{
+				setState(283);
+				table_or_index_name();
+				}
+				break;
+			case 3:
+				{
+				setState(284);
+				database_name();
+				setState(285);
+				match(DOT);
+				setState(286);
+				table_or_index_name();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Attach_stmtContext extends ParserRuleContext {
+		public TerminalNode K_ATTACH() { return getToken(SQLiteParser.K_ATTACH, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode K_AS() { return getToken(SQLiteParser.K_AS, 0); }
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public TerminalNode K_DATABASE() { return getToken(SQLiteParser.K_DATABASE, 0); }
+		public Attach_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_attach_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterAttach_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitAttach_stmt(this);
+		}
+	}
+
+	public final Attach_stmtContext attach_stmt() throws RecognitionException {
+		Attach_stmtContext _localctx = new Attach_stmtContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_attach_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(290);
+			match(K_ATTACH);
+			setState(292);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
+			case 1:
+				{
+				setState(291);
+				match(K_DATABASE);
+				}
+				break;
+			}
+			setState(294);
+			expr(0);
+			setState(295);
+			match(K_AS);
+			setState(296);
+			database_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Begin_stmtContext extends ParserRuleContext {
+		public TerminalNode K_BEGIN() { return getToken(SQLiteParser.K_BEGIN, 0); }
+		public TerminalNode K_TRANSACTION() { return getToken(SQLiteParser.K_TRANSACTION, 0); }
+		public TerminalNode K_DEFERRED() { return getToken(SQLiteParser.K_DEFERRED, 0); }
+		public TerminalNode K_IMMEDIATE() { return getToken(SQLiteParser.K_IMMEDIATE, 0); }
+		public TerminalNode K_EXCLUSIVE() { return getToken(SQLiteParser.K_EXCLUSIVE, 0); }
+		public Transaction_nameContext transaction_name() {
+			return getRuleContext(Transaction_nameContext.class,0);
+		}
+		public Begin_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_begin_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterBegin_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitBegin_stmt(this);
+		}
+	}
+
+	public final Begin_stmtContext begin_stmt() throws RecognitionException {
+		Begin_stmtContext _localctx = new Begin_stmtContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_begin_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(298);
+			match(K_BEGIN);
+			setState(300);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (((((_la - 61)) & ~0x3f) == 0 && ((1L << (_la - 61)) & ((1L << (K_DEFERRED - 61)) | (1L << (K_EXCLUSIVE - 61)) | (1L << (K_IMMEDIATE - 61)))) != 0)) {
+				{
+				setState(299);
+				_la = _input.LA(1);
+				if ( !(((((_la - 61)) & ~0x3f) == 0 && ((1L << (_la - 61)) & ((1L << (K_DEFERRED - 61)) | (1L << (K_EXCLUSIVE - 61)) | (1L << (K_IMMEDIATE - 61)))) != 0)) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			setState(306);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_TRANSACTION) {
+				{
+				setState(302);
+				match(K_TRANSACTION);
+				setState(304);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,17,_ctx) ) {
+				case 1:
+					{
+					setState(303);
+					transaction_name();
+					}
+					break;
+				}
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Commit_stmtContext extends ParserRuleContext {
+		public TerminalNode K_COMMIT() { return getToken(SQLiteParser.K_COMMIT, 0); }
+		public TerminalNode K_END() { return getToken(SQLiteParser.K_END, 0); }
+		public TerminalNode K_TRANSACTION() { return getToken(SQLiteParser.K_TRANSACTION, 0); }
+		public Transaction_nameContext transaction_name() {
+			return getRuleContext(Transaction_nameContext.class,0);
+		}
+		public Commit_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_commit_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterCommit_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitCommit_stmt(this);
+		}
+	}
+
+	public final Commit_stmtContext commit_stmt() throws RecognitionException {
+		Commit_stmtContext _localctx = new Commit_stmtContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_commit_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(308);
+			_la = _input.LA(1);
+			if ( !(_la==K_COMMIT || _la==K_END) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			setState(313);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_TRANSACTION) {
+				{
+				setState(309);
+				match(K_TRANSACTION);
+				setState(311);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,19,_ctx) ) {
+				case 1:
+					{
+					setState(310);
+					transaction_name();
+					}
+					break;
+				}
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Compound_select_stmtContext extends ParserRuleContext {
+		public List<Select_coreContext> select_core() {
+			return getRuleContexts(Select_coreContext.class);
+		}
+		public Select_coreContext select_core(int i) {
+			return getRuleContext(Select_coreContext.class,i);
+		}
+		public With_clauseContext with_clause() {
+			return getRuleContext(With_clauseContext.class,0);
+		}
+		public TerminalNode K_ORDER() { return getToken(SQLiteParser.K_ORDER, 0); }
+		public TerminalNode K_BY() { return getToken(SQLiteParser.K_BY, 0); }
+		public List<Ordering_termContext> ordering_term() {
+			return getRuleContexts(Ordering_termContext.class);
+		}
+		public Ordering_termContext ordering_term(int i) {
+			return getRuleContext(Ordering_termContext.class,i);
+		}
+		public TerminalNode K_LIMIT() { return getToken(SQLiteParser.K_LIMIT, 0); }
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public List<TerminalNode> K_UNION() { return getTokens(SQLiteParser.K_UNION); }
+		public TerminalNode K_UNION(int i) {
+			return getToken(SQLiteParser.K_UNION, i);
+		}
+		public List<TerminalNode> K_INTERSECT() { return getTokens(SQLiteParser.K_INTERSECT); }
+		public TerminalNode K_INTERSECT(int i) {
+			return getToken(SQLiteParser.K_INTERSECT, i);
+		}
+		public List<TerminalNode> K_EXCEPT() { return getTokens(SQLiteParser.K_EXCEPT); }
+		public TerminalNode K_EXCEPT(int i) {
+			return getToken(SQLiteParser.K_EXCEPT, i);
+		}
+		public TerminalNode K_OFFSET() { return getToken(SQLiteParser.K_OFFSET, 0); }
+		public List<TerminalNode> K_ALL() { return getTokens(SQLiteParser.K_ALL); }
+		public TerminalNode K_ALL(int i) {
+			return getToken(SQLiteParser.K_ALL, i);
+		}
+		public Compound_select_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_compound_select_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterCompound_select_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitCompound_select_stmt(this);
+		}
+	}
+
+	public final Compound_select_stmtContext compound_select_stmt() throws RecognitionException {
+		Compound_select_stmtContext _localctx = new Compound_select_stmtContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_compound_select_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(316);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WITH) {
+				{
+				setState(315);
+				with_clause();
+				}
+			}
+
+			setState(318);
+			select_core();
+			setState(328); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(325);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case K_UNION:
+					{
+					setState(319);
+					match(K_UNION);
+					setState(321);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==K_ALL) {
+						{
+						setState(320);
+						match(K_ALL);
+						}
+					}
+
+					}
+					break;
+				case K_INTERSECT:
+					{
+					setState(323);
+					match(K_INTERSECT);
+					}
+					break;
+				case K_EXCEPT:
+					{
+					setState(324);
+					match(K_EXCEPT);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(327);
+				select_core();
+				}
+				}
+				setState(330); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==K_EXCEPT || _la==K_INTERSECT || _la==K_UNION );
+			setState(342);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_ORDER) {
+				{
+				setState(332);
+				match(K_ORDER);
+				setState(333);
+				match(K_BY);
+				setState(334);
+				ordering_term();
+				setState(339);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(335);
+					match(COMMA);
+					setState(336);
+					ordering_term();
+					}
+					}
+					setState(341);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			setState(350);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_LIMIT) {
+				{
+				setState(344);
+				match(K_LIMIT);
+				setState(345);
+				expr(0);
+				setState(348);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COMMA || _la==K_OFFSET) {
+					{
+					setState(346);
+					_la = _input.LA(1);
+					if ( !(_la==COMMA || _la==K_OFFSET) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(347);
+					expr(0);
+					}
+				}
+
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Create_index_stmtContext extends ParserRuleContext {
+		public TerminalNode K_CREATE() { return getToken(SQLiteParser.K_CREATE, 0); }
+		public TerminalNode K_INDEX() { return getToken(SQLiteParser.K_INDEX, 0); }
+		public Index_nameContext index_name() {
+			return getRuleContext(Index_nameContext.class,0);
+		}
+		public TerminalNode K_ON() { return getToken(SQLiteParser.K_ON, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public List<Indexed_columnContext> indexed_column() {
+			return getRuleContexts(Indexed_columnContext.class);
+		}
+		public Indexed_columnContext indexed_column(int i) {
+			return getRuleContext(Indexed_columnContext.class,i);
+		}
+		public TerminalNode K_UNIQUE() { return getToken(SQLiteParser.K_UNIQUE, 0); }
+		public TerminalNode K_IF() { return getToken(SQLiteParser.K_IF, 0); }
+		public TerminalNode K_NOT() { return getToken(SQLiteParser.K_NOT, 0); }
+		public TerminalNode K_EXISTS() { return getToken(SQLiteParser.K_EXISTS, 0); }
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public TerminalNode K_WHERE() { return getToken(SQLiteParser.K_WHERE, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public Create_index_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_create_index_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterCreate_index_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitCreate_index_stmt(this);
+		}
+	}
+
+	public final Create_index_stmtContext create_index_stmt() throws RecognitionException {
+		Create_index_stmtContext _localctx = new Create_index_stmtContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_create_index_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(352);
+			match(K_CREATE);
+			setState(354);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_UNIQUE) {
+				{
+				setState(353);
+				match(K_UNIQUE);
+				}
+			}
+
+			setState(356);
+			match(K_INDEX);
+			setState(360);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
+			case 1:
+				{
+				setState(357);
+				match(K_IF);
+				setState(358);
+				match(K_NOT);
+				setState(359);
+				match(K_EXISTS);
+				}
+				break;
+			}
+			setState(365);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
+			case 1:
+				{
+				setState(362);
+				database_name();
+				setState(363);
+				match(DOT);
+				}
+				break;
+			}
+			setState(367);
+			index_name();
+			setState(368);
+			match(K_ON);
+			setState(369);
+			table_name();
+			setState(370);
+			match(OPEN_PAR);
+			setState(371);
+			indexed_column();
+			setState(376);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(372);
+				match(COMMA);
+				setState(373);
+				indexed_column();
+				}
+				}
+				setState(378);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(379);
+			match(CLOSE_PAR);
+			setState(382);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WHERE) {
+				{
+				setState(380);
+				match(K_WHERE);
+				setState(381);
+				expr(0);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Create_table_stmtContext extends ParserRuleContext {
+		public TerminalNode K_CREATE() { return getToken(SQLiteParser.K_CREATE, 0); }
+		public TerminalNode K_TABLE() { return getToken(SQLiteParser.K_TABLE, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public List<Column_defContext> column_def() {
+			return getRuleContexts(Column_defContext.class);
+		}
+		public Column_defContext column_def(int i) {
+			return getRuleContext(Column_defContext.class,i);
+		}
+		public TerminalNode K_AS() { return getToken(SQLiteParser.K_AS, 0); }
+		public Select_stmtContext select_stmt() {
+			return getRuleContext(Select_stmtContext.class,0);
+		}
+		public TerminalNode K_IF() { return getToken(SQLiteParser.K_IF, 0); }
+		public TerminalNode K_NOT() { return getToken(SQLiteParser.K_NOT, 0); }
+		public TerminalNode K_EXISTS() { return getToken(SQLiteParser.K_EXISTS, 0); }
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public TerminalNode K_TEMP() { return getToken(SQLiteParser.K_TEMP, 0); }
+		public TerminalNode K_TEMPORARY() { return getToken(SQLiteParser.K_TEMPORARY, 0); }
+		public List<Table_constraintContext> table_constraint() {
+			return getRuleContexts(Table_constraintContext.class);
+		}
+		public Table_constraintContext table_constraint(int i) {
+			return getRuleContext(Table_constraintContext.class,i);
+		}
+		public TerminalNode K_ENGINE() { return getToken(SQLiteParser.K_ENGINE, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode K_WITHOUT() { return getToken(SQLiteParser.K_WITHOUT, 0); }
+		public TerminalNode IDENTIFIER() { return getToken(SQLiteParser.IDENTIFIER, 0); }
+		public Create_table_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_create_table_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterCreate_table_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitCreate_table_stmt(this);
+		}
+	}
+
+	public final Create_table_stmtContext create_table_stmt() throws RecognitionException {
+		Create_table_stmtContext _localctx = new Create_table_stmtContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_create_table_stmt);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(384);
+			match(K_CREATE);
+			setState(386);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_TEMP || _la==K_TEMPORARY) {
+				{
+				setState(385);
+				_la = _input.LA(1);
+				if ( !(_la==K_TEMP || _la==K_TEMPORARY) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			setState(388);
+			match(K_TABLE);
+			setState(392);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
+			case 1:
+				{
+				setState(389);
+				match(K_IF);
+				setState(390);
+				match(K_NOT);
+				setState(391);
+				match(K_EXISTS);
+				}
+				break;
+			}
+			setState(397);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
+			case 1:
+				{
+				setState(394);
+				database_name();
+				setState(395);
+				match(DOT);
+				}
+				break;
+			}
+			setState(399);
+			table_name();
+			setState(428);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case OPEN_PAR:
+				{
+				setState(400);
+				match(OPEN_PAR);
+				setState(401);
+				column_def();
+				setState(406);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
+				while ( _alt!=1 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1+1 ) {
+						{
+						{
+						setState(402);
+						match(COMMA);
+						setState(403);
+						column_def();
+						}
+						} 
+					}
+					setState(408);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
+				}
+				setState(413);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(409);
+					match(COMMA);
+					setState(410);
+					table_constraint();
+					}
+					}
+					setState(415);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(416);
+				match(CLOSE_PAR);
+				setState(420);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_ENGINE) {
+					{
+					setState(417);
+					match(K_ENGINE);
+					setState(418);
+					match(ASSIGN);
+					setState(419);
+					expr(0);
+					}
+				}
+
+				setState(424);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_WITHOUT) {
+					{
+					setState(422);
+					match(K_WITHOUT);
+					setState(423);
+					match(IDENTIFIER);
+					}
+				}
+
+				}
+				break;
+			case K_AS:
+				{
+				setState(426);
+				match(K_AS);
+				setState(427);
+				select_stmt();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Create_trigger_stmtContext extends ParserRuleContext {
+		public TerminalNode K_CREATE() { return getToken(SQLiteParser.K_CREATE, 0); }
+		public TerminalNode K_TRIGGER() { return getToken(SQLiteParser.K_TRIGGER, 0); }
+		public Trigger_nameContext trigger_name() {
+			return getRuleContext(Trigger_nameContext.class,0);
+		}
+		public TerminalNode K_ON() { return getToken(SQLiteParser.K_ON, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_BEGIN() { return getToken(SQLiteParser.K_BEGIN, 0); }
+		public TerminalNode K_END() { return getToken(SQLiteParser.K_END, 0); }
+		public TerminalNode K_DELETE() { return getToken(SQLiteParser.K_DELETE, 0); }
+		public TerminalNode K_INSERT() { return getToken(SQLiteParser.K_INSERT, 0); }
+		public TerminalNode K_UPDATE() { return getToken(SQLiteParser.K_UPDATE, 0); }
+		public TerminalNode K_IF() { return getToken(SQLiteParser.K_IF, 0); }
+		public TerminalNode K_NOT() { return getToken(SQLiteParser.K_NOT, 0); }
+		public TerminalNode K_EXISTS() { return getToken(SQLiteParser.K_EXISTS, 0); }
+		public List<Database_nameContext> database_name() {
+			return getRuleContexts(Database_nameContext.class);
+		}
+		public Database_nameContext database_name(int i) {
+			return getRuleContext(Database_nameContext.class,i);
+		}
+		public TerminalNode K_BEFORE() { return getToken(SQLiteParser.K_BEFORE, 0); }
+		public TerminalNode K_AFTER() { return getToken(SQLiteParser.K_AFTER, 0); }
+		public TerminalNode K_INSTEAD() { return getToken(SQLiteParser.K_INSTEAD, 0); }
+		public List<TerminalNode> K_OF() { return getTokens(SQLiteParser.K_OF); }
+		public TerminalNode K_OF(int i) {
+			return getToken(SQLiteParser.K_OF, i);
+		}
+		public TerminalNode K_FOR() { return getToken(SQLiteParser.K_FOR, 0); }
+		public TerminalNode K_EACH() { return getToken(SQLiteParser.K_EACH, 0); }
+		public TerminalNode K_ROW() { return getToken(SQLiteParser.K_ROW, 0); }
+		public TerminalNode K_WHEN() { return getToken(SQLiteParser.K_WHEN, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode K_TEMP() { return getToken(SQLiteParser.K_TEMP, 0); }
+		public TerminalNode K_TEMPORARY() { return getToken(SQLiteParser.K_TEMPORARY, 0); }
+		public List<Column_nameContext> column_name() {
+			return getRuleContexts(Column_nameContext.class);
+		}
+		public Column_nameContext column_name(int i) {
+			return getRuleContext(Column_nameContext.class,i);
+		}
+		public List<Update_stmtContext> update_stmt() {
+			return getRuleContexts(Update_stmtContext.class);
+		}
+		public Update_stmtContext update_stmt(int i) {
+			return getRuleContext(Update_stmtContext.class,i);
+		}
+		public List<Insert_stmtContext> insert_stmt() {
+			return getRuleContexts(Insert_stmtContext.class);
+		}
+		public Insert_stmtContext insert_stmt(int i) {
+			return getRuleContext(Insert_stmtContext.class,i);
+		}
+		public List<Delete_stmtContext> delete_stmt() {
+			return getRuleContexts(Delete_stmtContext.class);
+		}
+		public Delete_stmtContext delete_stmt(int i) {
+			return getRuleContext(Delete_stmtContext.class,i);
+		}
+		public List<Select_stmtContext> select_stmt() {
+			return getRuleContexts(Select_stmtContext.class);
+		}
+		public Select_stmtContext select_stmt(int i) {
+			return getRuleContext(Select_stmtContext.class,i);
+		}
+		public Create_trigger_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_create_trigger_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterCreate_trigger_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitCreate_trigger_stmt(this);
+		}
+	}
+
+	public final Create_trigger_stmtContext create_trigger_stmt() throws RecognitionException {
+		Create_trigger_stmtContext _localctx = new Create_trigger_stmtContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_create_trigger_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(430);
+			match(K_CREATE);
+			setState(432);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_TEMP || _la==K_TEMPORARY) {
+				{
+				setState(431);
+				_la = _input.LA(1);
+				if ( !(_la==K_TEMP || _la==K_TEMPORARY) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			setState(434);
+			match(K_TRIGGER);
+			setState(438);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
+			case 1:
+				{
+				setState(435);
+				match(K_IF);
+				setState(436);
+				match(K_NOT);
+				setState(437);
+				match(K_EXISTS);
+				}
+				break;
+			}
+			setState(443);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
+			case 1:
+				{
+				setState(440);
+				database_name();
+				setState(441);
+				match(DOT);
+				}
+				break;
+			}
+			setState(445);
+			trigger_name();
+			setState(450);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case K_BEFORE:
+				{
+				setState(446);
+				match(K_BEFORE);
+				}
+				break;
+			case K_AFTER:
+				{
+				setState(447);
+				match(K_AFTER);
+				}
+				break;
+			case K_INSTEAD:
+				{
+				setState(448);
+				match(K_INSTEAD);
+				setState(449);
+				match(K_OF);
+				}
+				break;
+			case K_DELETE:
+			case K_INSERT:
+			case K_UPDATE:
+				break;
+			default:
+				break;
+			}
+			setState(466);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case K_DELETE:
+				{
+				setState(452);
+				match(K_DELETE);
+				}
+				break;
+			case K_INSERT:
+				{
+				setState(453);
+				match(K_INSERT);
+				}
+				break;
+			case K_UPDATE:
+				{
+				setState(454);
+				match(K_UPDATE);
+				setState(464);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_OF) {
+					{
+					setState(455);
+					match(K_OF);
+					setState(456);
+					column_name();
+					setState(461);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(457);
+						match(COMMA);
+						setState(458);
+						column_name();
+						}
+						}
+						setState(463);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(468);
+			match(K_ON);
+			setState(472);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,49,_ctx) ) {
+			case 1:
+				{
+				setState(469);
+				database_name();
+				setState(470);
+				match(DOT);
+				}
+				break;
+			}
+			setState(474);
+			table_name();
+			setState(478);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_FOR) {
+				{
+				setState(475);
+				match(K_FOR);
+				setState(476);
+				match(K_EACH);
+				setState(477);
+				match(K_ROW);
+				}
+			}
+
+			setState(482);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WHEN) {
+				{
+				setState(480);
+				match(K_WHEN);
+				setState(481);
+				expr(0);
+				}
+			}
+
+			setState(484);
+			match(K_BEGIN);
+			setState(493); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(489);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,52,_ctx) ) {
+				case 1:
+					{
+					setState(485);
+					update_stmt();
+					}
+					break;
+				case 2:
+					{
+					setState(486);
+					insert_stmt();
+					}
+					break;
+				case 3:
+					{
+					setState(487);
+					delete_stmt();
+					}
+					break;
+				case 4:
+					{
+					setState(488);
+					select_stmt();
+					}
+					break;
+				}
+				setState(491);
+				match(SCOL);
+				}
+				}
+				setState(495); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==K_DELETE || ((((_la - 91)) & ~0x3f) == 0 && ((1L << (_la - 91)) & ((1L << (K_INSERT - 91)) | (1L << (K_REPLACE - 91)) | (1L << (K_SELECT - 91)) | (1L << (K_UPDATE - 91)) | (1L << (K_VALUES - 91)) | (1L << (K_WITH - 91)))) != 0) );
+			setState(497);
+			match(K_END);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Create_view_stmtContext extends ParserRuleContext {
+		public TerminalNode K_CREATE() { return getToken(SQLiteParser.K_CREATE, 0); }
+		public TerminalNode K_VIEW() { return getToken(SQLiteParser.K_VIEW, 0); }
+		public View_nameContext view_name() {
+			return getRuleContext(View_nameContext.class,0);
+		}
+		public TerminalNode K_AS() { return getToken(SQLiteParser.K_AS, 0); }
+		public Select_stmtContext select_stmt() {
+			return getRuleContext(Select_stmtContext.class,0);
+		}
+		public TerminalNode K_IF() { return getToken(SQLiteParser.K_IF, 0); }
+		public TerminalNode K_NOT() { return getToken(SQLiteParser.K_NOT, 0); }
+		public TerminalNode K_EXISTS() { return getToken(SQLiteParser.K_EXISTS, 0); }
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public TerminalNode K_TEMP() { return getToken(SQLiteParser.K_TEMP, 0); }
+		public TerminalNode K_TEMPORARY() { return getToken(SQLiteParser.K_TEMPORARY, 0); }
+		public Create_view_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_create_view_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterCreate_view_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitCreate_view_stmt(this);
+		}
+	}
+
+	public final Create_view_stmtContext create_view_stmt() throws RecognitionException {
+		Create_view_stmtContext _localctx = new Create_view_stmtContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_create_view_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(499);
+			match(K_CREATE);
+			setState(501);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_TEMP || _la==K_TEMPORARY) {
+				{
+				setState(500);
+				_la = _input.LA(1);
+				if ( !(_la==K_TEMP || _la==K_TEMPORARY) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			setState(503);
+			match(K_VIEW);
+			setState(507);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,55,_ctx) ) {
+			case 1:
+				{
+				setState(504);
+				match(K_IF);
+				setState(505);
+				match(K_NOT);
+				setState(506);
+				match(K_EXISTS);
+				}
+				break;
+			}
+			setState(512);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,56,_ctx) ) {
+			case 1:
+				{
+				setState(509);
+				database_name();
+				setState(510);
+				match(DOT);
+				}
+				break;
+			}
+			setState(514);
+			view_name();
+			setState(515);
+			match(K_AS);
+			setState(516);
+			select_stmt();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Create_virtual_table_stmtContext extends ParserRuleContext {
+		public TerminalNode K_CREATE() { return getToken(SQLiteParser.K_CREATE, 0); }
+		public TerminalNode K_VIRTUAL() { return getToken(SQLiteParser.K_VIRTUAL, 0); }
+		public TerminalNode K_TABLE() { return getToken(SQLiteParser.K_TABLE, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_USING() { return getToken(SQLiteParser.K_USING, 0); }
+		public Module_nameContext module_name() {
+			return getRuleContext(Module_nameContext.class,0);
+		}
+		public TerminalNode K_IF() { return getToken(SQLiteParser.K_IF, 0); }
+		public TerminalNode K_NOT() { return getToken(SQLiteParser.K_NOT, 0); }
+		public TerminalNode K_EXISTS() { return getToken(SQLiteParser.K_EXISTS, 0); }
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public List<Module_argumentContext> module_argument() {
+			return getRuleContexts(Module_argumentContext.class);
+		}
+		public Module_argumentContext module_argument(int i) {
+			return getRuleContext(Module_argumentContext.class,i);
+		}
+		public Create_virtual_table_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_create_virtual_table_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterCreate_virtual_table_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitCreate_virtual_table_stmt(this);
+		}
+	}
+
+	public final Create_virtual_table_stmtContext create_virtual_table_stmt() throws RecognitionException {
+		Create_virtual_table_stmtContext _localctx = new Create_virtual_table_stmtContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_create_virtual_table_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(518);
+			match(K_CREATE);
+			setState(519);
+			match(K_VIRTUAL);
+			setState(520);
+			match(K_TABLE);
+			setState(524);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,57,_ctx) ) {
+			case 1:
+				{
+				setState(521);
+				match(K_IF);
+				setState(522);
+				match(K_NOT);
+				setState(523);
+				match(K_EXISTS);
+				}
+				break;
+			}
+			setState(529);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,58,_ctx) ) {
+			case 1:
+				{
+				setState(526);
+				database_name();
+				setState(527);
+				match(DOT);
+				}
+				break;
+			}
+			setState(531);
+			table_name();
+			setState(532);
+			match(K_USING);
+			setState(533);
+			module_name();
+			setState(545);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==OPEN_PAR) {
+				{
+				setState(534);
+				match(OPEN_PAR);
+				setState(535);
+				module_argument();
+				setState(540);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(536);
+					match(COMMA);
+					setState(537);
+					module_argument();
+					}
+					}
+					setState(542);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(543);
+				match(CLOSE_PAR);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Delete_stmtContext extends ParserRuleContext {
+		public TerminalNode K_DELETE() { return getToken(SQLiteParser.K_DELETE, 0); }
+		public TerminalNode K_FROM() { return getToken(SQLiteParser.K_FROM, 0); }
+		public Qualified_table_nameContext qualified_table_name() {
+			return getRuleContext(Qualified_table_nameContext.class,0);
+		}
+		public With_clauseContext with_clause() {
+			return getRuleContext(With_clauseContext.class,0);
+		}
+		public TerminalNode K_WHERE() { return getToken(SQLiteParser.K_WHERE, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public Delete_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_delete_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterDelete_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitDelete_stmt(this);
+		}
+	}
+
+	public final Delete_stmtContext delete_stmt() throws RecognitionException {
+		Delete_stmtContext _localctx = new Delete_stmtContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_delete_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(548);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WITH) {
+				{
+				setState(547);
+				with_clause();
+				}
+			}
+
+			setState(550);
+			match(K_DELETE);
+			setState(551);
+			match(K_FROM);
+			setState(552);
+			qualified_table_name();
+			setState(555);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WHERE) {
+				{
+				setState(553);
+				match(K_WHERE);
+				setState(554);
+				expr(0);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Delete_stmt_limitedContext extends ParserRuleContext {
+		public TerminalNode K_DELETE() { return getToken(SQLiteParser.K_DELETE, 0); }
+		public TerminalNode K_FROM() { return getToken(SQLiteParser.K_FROM, 0); }
+		public Qualified_table_nameContext qualified_table_name() {
+			return getRuleContext(Qualified_table_nameContext.class,0);
+		}
+		public With_clauseContext with_clause() {
+			return getRuleContext(With_clauseContext.class,0);
+		}
+		public TerminalNode K_WHERE() { return getToken(SQLiteParser.K_WHERE, 0); }
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public TerminalNode K_LIMIT() { return getToken(SQLiteParser.K_LIMIT, 0); }
+		public TerminalNode K_ORDER() { return getToken(SQLiteParser.K_ORDER, 0); }
+		public TerminalNode K_BY() { return getToken(SQLiteParser.K_BY, 0); }
+		public List<Ordering_termContext> ordering_term() {
+			return getRuleContexts(Ordering_termContext.class);
+		}
+		public Ordering_termContext ordering_term(int i) {
+			return getRuleContext(Ordering_termContext.class,i);
+		}
+		public TerminalNode K_OFFSET() { return getToken(SQLiteParser.K_OFFSET, 0); }
+		public Delete_stmt_limitedContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_delete_stmt_limited; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterDelete_stmt_limited(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitDelete_stmt_limited(this);
+		}
+	}
+
+	public final Delete_stmt_limitedContext delete_stmt_limited() throws RecognitionException {
+		Delete_stmt_limitedContext _localctx = new Delete_stmt_limitedContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_delete_stmt_limited);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(558);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WITH) {
+				{
+				setState(557);
+				with_clause();
+				}
+			}
+
+			setState(560);
+			match(K_DELETE);
+			setState(561);
+			match(K_FROM);
+			setState(562);
+			qualified_table_name();
+			setState(565);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WHERE) {
+				{
+				setState(563);
+				match(K_WHERE);
+				setState(564);
+				expr(0);
+				}
+			}
+
+			setState(585);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_LIMIT || _la==K_ORDER) {
+				{
+				setState(577);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_ORDER) {
+					{
+					setState(567);
+					match(K_ORDER);
+					setState(568);
+					match(K_BY);
+					setState(569);
+					ordering_term();
+					setState(574);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(570);
+						match(COMMA);
+						setState(571);
+						ordering_term();
+						}
+						}
+						setState(576);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				setState(579);
+				match(K_LIMIT);
+				setState(580);
+				expr(0);
+				setState(583);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COMMA || _la==K_OFFSET) {
+					{
+					setState(581);
+					_la = _input.LA(1);
+					if ( !(_la==COMMA || _la==K_OFFSET) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(582);
+					expr(0);
+					}
+				}
+
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Detach_stmtContext extends ParserRuleContext {
+		public TerminalNode K_DETACH() { return getToken(SQLiteParser.K_DETACH, 0); }
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public TerminalNode K_DATABASE() { return getToken(SQLiteParser.K_DATABASE, 0); }
+		public Detach_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_detach_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterDetach_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitDetach_stmt(this);
+		}
+	}
+
+	public final Detach_stmtContext detach_stmt() throws RecognitionException {
+		Detach_stmtContext _localctx = new Detach_stmtContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_detach_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(587);
+			match(K_DETACH);
+			setState(589);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,69,_ctx) ) {
+			case 1:
+				{
+				setState(588);
+				match(K_DATABASE);
+				}
+				break;
+			}
+			setState(591);
+			database_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Drop_index_stmtContext extends ParserRuleContext {
+		public TerminalNode K_DROP() { return getToken(SQLiteParser.K_DROP, 0); }
+		public TerminalNode K_INDEX() { return getToken(SQLiteParser.K_INDEX, 0); }
+		public Index_nameContext index_name() {
+			return getRuleContext(Index_nameContext.class,0);
+		}
+		public TerminalNode K_IF() { return getToken(SQLiteParser.K_IF, 0); }
+		public TerminalNode K_EXISTS() { return getToken(SQLiteParser.K_EXISTS, 0); }
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public Drop_index_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_drop_index_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterDrop_index_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitDrop_index_stmt(this);
+		}
+	}
+
+	public final Drop_index_stmtContext drop_index_stmt() throws RecognitionException {
+		Drop_index_stmtContext _localctx = new Drop_index_stmtContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_drop_index_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(593);
+			match(K_DROP);
+			setState(594);
+			match(K_INDEX);
+			setState(597);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,70,_ctx) ) {
+			case 1:
+				{
+				setState(595);
+				match(K_IF);
+				setState(596);
+				match(K_EXISTS);
+				}
+				break;
+			}
+			setState(602);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,71,_ctx) ) {
+			case 1:
+				{
+				setState(599);
+				database_name();
+				setState(600);
+				match(DOT);
+				}
+				break;
+			}
+			setState(604);
+			index_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Drop_table_stmtContext extends ParserRuleContext {
+		public TerminalNode K_DROP() { return getToken(SQLiteParser.K_DROP, 0); }
+		public TerminalNode K_TABLE() { return getToken(SQLiteParser.K_TABLE, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_IF() { return getToken(SQLiteParser.K_IF, 0); }
+		public TerminalNode K_EXISTS() { return getToken(SQLiteParser.K_EXISTS, 0); }
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public Drop_table_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_drop_table_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterDrop_table_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitDrop_table_stmt(this);
+		}
+	}
+
+	public final Drop_table_stmtContext drop_table_stmt() throws RecognitionException {
+		Drop_table_stmtContext _localctx = new Drop_table_stmtContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_drop_table_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(606);
+			match(K_DROP);
+			setState(607);
+			match(K_TABLE);
+			setState(610);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,72,_ctx) ) {
+			case 1:
+				{
+				setState(608);
+				match(K_IF);
+				setState(609);
+				match(K_EXISTS);
+				}
+				break;
+			}
+			setState(615);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,73,_ctx) ) {
+			case 1:
+				{
+				setState(612);
+				database_name();
+				setState(613);
+				match(DOT);
+				}
+				break;
+			}
+			setState(617);
+			table_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Drop_trigger_stmtContext extends ParserRuleContext {
+		public TerminalNode K_DROP() { return getToken(SQLiteParser.K_DROP, 0); }
+		public TerminalNode K_TRIGGER() { return getToken(SQLiteParser.K_TRIGGER, 0); }
+		public Trigger_nameContext trigger_name() {
+			return getRuleContext(Trigger_nameContext.class,0);
+		}
+		public TerminalNode K_IF() { return getToken(SQLiteParser.K_IF, 0); }
+		public TerminalNode K_EXISTS() { return getToken(SQLiteParser.K_EXISTS, 0); }
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public Drop_trigger_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_drop_trigger_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterDrop_trigger_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitDrop_trigger_stmt(this);
+		}
+	}
+
+	public final Drop_trigger_stmtContext drop_trigger_stmt() throws RecognitionException {
+		Drop_trigger_stmtContext _localctx = new Drop_trigger_stmtContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_drop_trigger_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(619);
+			match(K_DROP);
+			setState(620);
+			match(K_TRIGGER);
+			setState(623);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,74,_ctx) ) {
+			case 1:
+				{
+				setState(621);
+				match(K_IF);
+				setState(622);
+				match(K_EXISTS);
+				}
+				break;
+			}
+			setState(628);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,75,_ctx) ) {
+			case 1:
+				{
+				setState(625);
+				database_name();
+				setState(626);
+				match(DOT);
+				}
+				break;
+			}
+			setState(630);
+			trigger_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Drop_view_stmtContext extends ParserRuleContext {
+		public TerminalNode K_DROP() { return getToken(SQLiteParser.K_DROP, 0); }
+		public TerminalNode K_VIEW() { return getToken(SQLiteParser.K_VIEW, 0); }
+		public View_nameContext view_name() {
+			return getRuleContext(View_nameContext.class,0);
+		}
+		public TerminalNode K_IF() { return getToken(SQLiteParser.K_IF, 0); }
+		public TerminalNode K_EXISTS() { return getToken(SQLiteParser.K_EXISTS, 0); }
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public Drop_view_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_drop_view_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterDrop_view_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitDrop_view_stmt(this);
+		}
+	}
+
+	public final Drop_view_stmtContext drop_view_stmt() throws RecognitionException {
+		Drop_view_stmtContext _localctx = new Drop_view_stmtContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_drop_view_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(632);
+			match(K_DROP);
+			setState(633);
+			match(K_VIEW);
+			setState(636);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,76,_ctx) ) {
+			case 1:
+				{
+				setState(634);
+				match(K_IF);
+				setState(635);
+				match(K_EXISTS);
+				}
+				break;
+			}
+			setState(641);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,77,_ctx) ) {
+			case 1:
+				{
+				setState(638);
+				database_name();
+				setState(639);
+				match(DOT);
+				}
+				break;
+			}
+			setState(643);
+			view_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Factored_select_stmtContext extends ParserRuleContext {
+		public List<Select_coreContext> select_core() {
+			return getRuleContexts(Select_coreContext.class);
+		}
+		public Select_coreContext select_core(int i) {
+			return getRuleContext(Select_coreContext.class,i);
+		}
+		public With_clauseContext with_clause() {
+			return getRuleContext(With_clauseContext.class,0);
+		}
+		public List<Compound_operatorContext> compound_operator() {
+			return getRuleContexts(Compound_operatorContext.class);
+		}
+		public Compound_operatorContext compound_operator(int i) {
+			return getRuleContext(Compound_operatorContext.class,i);
+		}
+		public TerminalNode K_ORDER() { return getToken(SQLiteParser.K_ORDER, 0); }
+		public TerminalNode K_BY() { return getToken(SQLiteParser.K_BY, 0); }
+		public List<Ordering_termContext> ordering_term() {
+			return getRuleContexts(Ordering_termContext.class);
+		}
+		public Ordering_termContext ordering_term(int i) {
+			return getRuleContext(Ordering_termContext.class,i);
+		}
+		public TerminalNode K_LIMIT() { return getToken(SQLiteParser.K_LIMIT, 0); }
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public TerminalNode K_OFFSET() { return getToken(SQLiteParser.K_OFFSET, 0); }
+		public Factored_select_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_factored_select_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterFactored_select_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitFactored_select_stmt(this);
+		}
+	}
+
+	public final Factored_select_stmtContext factored_select_stmt() throws RecognitionException {
+		Factored_select_stmtContext _localctx = new Factored_select_stmtContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_factored_select_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(646);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WITH) {
+				{
+				setState(645);
+				with_clause();
+				}
+			}
+
+			setState(648);
+			select_core();
+			setState(654);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==K_EXCEPT || _la==K_INTERSECT || _la==K_UNION) {
+				{
+				{
+				setState(649);
+				compound_operator();
+				setState(650);
+				select_core();
+				}
+				}
+				setState(656);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(667);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_ORDER) {
+				{
+				setState(657);
+				match(K_ORDER);
+				setState(658);
+				match(K_BY);
+				setState(659);
+				ordering_term();
+				setState(664);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(660);
+					match(COMMA);
+					setState(661);
+					ordering_term();
+					}
+					}
+					setState(666);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			setState(675);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_LIMIT) {
+				{
+				setState(669);
+				match(K_LIMIT);
+				setState(670);
+				expr(0);
+				setState(673);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COMMA || _la==K_OFFSET) {
+					{
+					setState(671);
+					_la = _input.LA(1);
+					if ( !(_la==COMMA || _la==K_OFFSET) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(672);
+					expr(0);
+					}
+				}
+
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Insert_stmtContext extends ParserRuleContext {
+		public TerminalNode K_INTO() { return getToken(SQLiteParser.K_INTO, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_INSERT() { return getToken(SQLiteParser.K_INSERT, 0); }
+		public TerminalNode K_REPLACE() { return getToken(SQLiteParser.K_REPLACE, 0); }
+		public TerminalNode K_OR() { return getToken(SQLiteParser.K_OR, 0); }
+		public TerminalNode K_ROLLBACK() { return getToken(SQLiteParser.K_ROLLBACK, 0); }
+		public TerminalNode K_ABORT() { return getToken(SQLiteParser.K_ABORT, 0); }
+		public TerminalNode K_FAIL() { return getToken(SQLiteParser.K_FAIL, 0); }
+		public TerminalNode K_IGNORE() { return getToken(SQLiteParser.K_IGNORE, 0); }
+		public TerminalNode K_VALUES() { return getToken(SQLiteParser.K_VALUES, 0); }
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public Select_stmtContext select_stmt() {
+			return getRuleContext(Select_stmtContext.class,0);
+		}
+		public TerminalNode K_DEFAULT() { return getToken(SQLiteParser.K_DEFAULT, 0); }
+		public With_clauseContext with_clause() {
+			return getRuleContext(With_clauseContext.class,0);
+		}
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public List<Column_nameContext> column_name() {
+			return getRuleContexts(Column_nameContext.class);
+		}
+		public Column_nameContext column_name(int i) {
+			return getRuleContext(Column_nameContext.class,i);
+		}
+		public Insert_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_insert_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterInsert_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitInsert_stmt(this);
+		}
+	}
+
+	public final Insert_stmtContext insert_stmt() throws RecognitionException {
+		Insert_stmtContext _localctx = new Insert_stmtContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_insert_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(678);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WITH) {
+				{
+				setState(677);
+				with_clause();
+				}
+			}
+
+			setState(697);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,85,_ctx) ) {
+			case 1:
+				{
+				setState(680);
+				match(K_INSERT);
+				}
+				break;
+			case 2:
+				{
+				setState(681);
+				match(K_REPLACE);
+				}
+				break;
+			case 3:
+				{
+				setState(682);
+				match(K_INSERT);
+				setState(683);
+				match(K_OR);
+				setState(684);
+				match(K_REPLACE);
+				}
+				break;
+			case 4:
+				{
+				setState(685);
+				match(K_INSERT);
+				setState(686);
+				match(K_OR);
+				setState(687);
+				match(K_ROLLBACK);
+				}
+				break;
+			case 5:
+				{
+				setState(688);
+				match(K_INSERT);
+				setState(689);
+				match(K_OR);
+				setState(690);
+				match(K_ABORT);
+				}
+				break;
+			case 6:
+				{
+				setState(691);
+				match(K_INSERT);
+				setState(692);
+				match(K_OR);
+				setState(693);
+				match(K_FAIL);
+				}
+				break;
+			case 7:
+				{
+				setState(694);
+				match(K_INSERT);
+				setState(695);
+				match(K_OR);
+				setState(696);
+				match(K_IGNORE);
+				}
+				break;
+			}
+			setState(699);
+			match(K_INTO);
+			setState(703);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,86,_ctx) ) {
+			case 1:
+				{
+				setState(700);
+				database_name();
+				setState(701);
+				match(DOT);
+				}
+				break;
+			}
+			setState(705);
+			table_name();
+			setState(717);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==OPEN_PAR) {
+				{
+				setState(706);
+				match(OPEN_PAR);
+				setState(707);
+				column_name();
+				setState(712);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(708);
+					match(COMMA);
+					setState(709);
+					column_name();
+					}
+					}
+					setState(714);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(715);
+				match(CLOSE_PAR);
+				}
+			}
+
+			setState(750);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,92,_ctx) ) {
+			case 1:
+				{
+				setState(719);
+				match(K_VALUES);
+				setState(720);
+				match(OPEN_PAR);
+				setState(721);
+				expr(0);
+				setState(726);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(722);
+					match(COMMA);
+					setState(723);
+					expr(0);
+					}
+					}
+					setState(728);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(729);
+				match(CLOSE_PAR);
+				setState(744);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(730);
+					match(COMMA);
+					setState(731);
+					match(OPEN_PAR);
+					setState(732);
+					expr(0);
+					setState(737);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(733);
+						match(COMMA);
+						setState(734);
+						expr(0);
+						}
+						}
+						setState(739);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					setState(740);
+					match(CLOSE_PAR);
+					}
+					}
+					setState(746);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
+			case 2:
+				{
+				setState(747);
+				select_stmt();
+				}
+				break;
+			case 3:
+				{
+				setState(748);
+				match(K_DEFAULT);
+				setState(749);
+				match(K_VALUES);
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Pragma_stmtContext extends ParserRuleContext {
+		public TerminalNode K_PRAGMA() { return getToken(SQLiteParser.K_PRAGMA, 0); }
+		public Pragma_nameContext pragma_name() {
+			return getRuleContext(Pragma_nameContext.class,0);
+		}
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public Pragma_valueContext pragma_value() {
+			return getRuleContext(Pragma_valueContext.class,0);
+		}
+		public Pragma_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pragma_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterPragma_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitPragma_stmt(this);
+		}
+	}
+
+	public final Pragma_stmtContext pragma_stmt() throws RecognitionException {
+		Pragma_stmtContext _localctx = new Pragma_stmtContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_pragma_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(752);
+			match(K_PRAGMA);
+			setState(756);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,93,_ctx) ) {
+			case 1:
+				{
+				setState(753);
+				database_name();
+				setState(754);
+				match(DOT);
+				}
+				break;
+			}
+			setState(758);
+			pragma_name();
+			setState(765);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ASSIGN:
+				{
+				setState(759);
+				match(ASSIGN);
+				setState(760);
+				pragma_value();
+				}
+				break;
+			case OPEN_PAR:
+				{
+				setState(761);
+				match(OPEN_PAR);
+				setState(762);
+				pragma_value();
+				setState(763);
+				match(CLOSE_PAR);
+				}
+				break;
+			case EOF:
+			case SCOL:
+			case EXIT:
+			case BYE:
+			case QUIT:
+			case K_ALTER:
+			case K_ANALYZE:
+			case K_ATTACH:
+			case K_BEGIN:
+			case K_COMMIT:
+			case K_CREATE:
+			case K_DELETE:
+			case K_DETACH:
+			case K_DROP:
+			case K_END:
+			case K_EXPLAIN:
+			case K_INSERT:
+			case K_PRAGMA:
+			case K_REINDEX:
+			case K_RELEASE:
+			case K_REPLACE:
+			case K_ROLLBACK:
+			case K_SAVEPOINT:
+			case K_SELECT:
+			case K_UPDATE:
+			case K_VACUUM:
+			case K_VALUES:
+			case K_WITH:
+			case UNEXPECTED_CHAR:
+				break;
+			default:
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Reindex_stmtContext extends ParserRuleContext {
+		public TerminalNode K_REINDEX() { return getToken(SQLiteParser.K_REINDEX, 0); }
+		public Collation_nameContext collation_name() {
+			return getRuleContext(Collation_nameContext.class,0);
+		}
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public Index_nameContext index_name() {
+			return getRuleContext(Index_nameContext.class,0);
+		}
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public Reindex_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_reindex_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterReindex_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitReindex_stmt(this);
+		}
+	}
+
+	public final Reindex_stmtContext reindex_stmt() throws RecognitionException {
+		Reindex_stmtContext _localctx = new Reindex_stmtContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_reindex_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(767);
+			match(K_REINDEX);
+			setState(778);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,97,_ctx) ) {
+			case 1:
+				{
+				setState(768);
+				collation_name();
+				}
+				break;
+			case 2:
+				{
+				setState(772);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,95,_ctx) ) {
+				case 1:
+					{
+					setState(769);
+					database_name();
+					setState(770);
+					match(DOT);
+					}
+					break;
+				}
+				setState(776);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,96,_ctx) ) {
+				case 1:
+					{
+					setState(774);
+					table_name();
+					}
+					break;
+				case 2:
+					{
+					setState(775);
+					index_name();
+					}
+					break;
+				}
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Release_stmtContext extends ParserRuleContext {
+		public TerminalNode K_RELEASE() { return getToken(SQLiteParser.K_RELEASE, 0); }
+		public Savepoint_nameContext savepoint_name() {
+			return getRuleContext(Savepoint_nameContext.class,0);
+		}
+		public TerminalNode K_SAVEPOINT() { return getToken(SQLiteParser.K_SAVEPOINT, 0); }
+		public Release_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_release_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterRelease_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitRelease_stmt(this);
+		}
+	}
+
+	public final Release_stmtContext release_stmt() throws RecognitionException {
+		Release_stmtContext _localctx = new Release_stmtContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_release_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(780);
+			match(K_RELEASE);
+			setState(782);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,98,_ctx) ) {
+			case 1:
+				{
+				setState(781);
+				match(K_SAVEPOINT);
+				}
+				break;
+			}
+			setState(784);
+			savepoint_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Rollback_stmtContext extends ParserRuleContext {
+		public TerminalNode K_ROLLBACK() { return getToken(SQLiteParser.K_ROLLBACK, 0); }
+		public TerminalNode K_TRANSACTION() { return getToken(SQLiteParser.K_TRANSACTION, 0); }
+		public TerminalNode K_TO() { return getToken(SQLiteParser.K_TO, 0); }
+		public Savepoint_nameContext savepoint_name() {
+			return getRuleContext(Savepoint_nameContext.class,0);
+		}
+		public Transaction_nameContext transaction_name() {
+			return getRuleContext(Transaction_nameContext.class,0);
+		}
+		public TerminalNode K_SAVEPOINT() { return getToken(SQLiteParser.K_SAVEPOINT, 0); }
+		public Rollback_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_rollback_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterRollback_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitRollback_stmt(this);
+		}
+	}
+
+	public final Rollback_stmtContext rollback_stmt() throws RecognitionException {
+		Rollback_stmtContext _localctx = new Rollback_stmtContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_rollback_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(786);
+			match(K_ROLLBACK);
+			setState(791);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_TRANSACTION) {
+				{
+				setState(787);
+				match(K_TRANSACTION);
+				setState(789);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,99,_ctx) ) {
+				case 1:
+					{
+					setState(788);
+					transaction_name();
+					}
+					break;
+				}
+				}
+			}
+
+			setState(798);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_TO) {
+				{
+				setState(793);
+				match(K_TO);
+				setState(795);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,101,_ctx) ) {
+				case 1:
+					{
+					setState(794);
+					match(K_SAVEPOINT);
+					}
+					break;
+				}
+				setState(797);
+				savepoint_name();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Savepoint_stmtContext extends ParserRuleContext {
+		public TerminalNode K_SAVEPOINT() { return getToken(SQLiteParser.K_SAVEPOINT, 0); }
+		public Savepoint_nameContext savepoint_name() {
+			return getRuleContext(Savepoint_nameContext.class,0);
+		}
+		public Savepoint_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_savepoint_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterSavepoint_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitSavepoint_stmt(this);
+		}
+	}
+
+	public final Savepoint_stmtContext savepoint_stmt() throws RecognitionException {
+		Savepoint_stmtContext _localctx = new Savepoint_stmtContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_savepoint_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(800);
+			match(K_SAVEPOINT);
+			setState(801);
+			savepoint_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Simple_select_stmtContext extends ParserRuleContext {
+		public Select_coreContext select_core() {
+			return getRuleContext(Select_coreContext.class,0);
+		}
+		public With_clauseContext with_clause() {
+			return getRuleContext(With_clauseContext.class,0);
+		}
+		public TerminalNode K_ORDER() { return getToken(SQLiteParser.K_ORDER, 0); }
+		public TerminalNode K_BY() { return getToken(SQLiteParser.K_BY, 0); }
+		public List<Ordering_termContext> ordering_term() {
+			return getRuleContexts(Ordering_termContext.class);
+		}
+		public Ordering_termContext ordering_term(int i) {
+			return getRuleContext(Ordering_termContext.class,i);
+		}
+		public TerminalNode K_LIMIT() { return getToken(SQLiteParser.K_LIMIT, 0); }
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public TerminalNode K_OFFSET() { return getToken(SQLiteParser.K_OFFSET, 0); }
+		public Simple_select_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_simple_select_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterSimple_select_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitSimple_select_stmt(this);
+		}
+	}
+
+	public final Simple_select_stmtContext simple_select_stmt() throws RecognitionException {
+		Simple_select_stmtContext _localctx = new Simple_select_stmtContext(_ctx, getState());
+		enterRule(_localctx, 60, RULE_simple_select_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(804);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WITH) {
+				{
+				setState(803);
+				with_clause();
+				}
+			}
+
+			setState(806);
+			select_core();
+			setState(817);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_ORDER) {
+				{
+				setState(807);
+				match(K_ORDER);
+				setState(808);
+				match(K_BY);
+				setState(809);
+				ordering_term();
+				setState(814);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(810);
+					match(COMMA);
+					setState(811);
+					ordering_term();
+					}
+					}
+					setState(816);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			setState(825);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_LIMIT) {
+				{
+				setState(819);
+				match(K_LIMIT);
+				setState(820);
+				expr(0);
+				setState(823);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COMMA || _la==K_OFFSET) {
+					{
+					setState(821);
+					_la = _input.LA(1);
+					if ( !(_la==COMMA || _la==K_OFFSET) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(822);
+					expr(0);
+					}
+				}
+
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Select_stmtContext extends ParserRuleContext {
+		public List<Select_or_valuesContext> select_or_values() {
+			return getRuleContexts(Select_or_valuesContext.class);
+		}
+		public Select_or_valuesContext select_or_values(int i) {
+			return getRuleContext(Select_or_valuesContext.class,i);
+		}
+		public With_clauseContext with_clause() {
+			return getRuleContext(With_clauseContext.class,0);
+		}
+		public List<Compound_operatorContext> compound_operator() {
+			return getRuleContexts(Compound_operatorContext.class);
+		}
+		public Compound_operatorContext compound_operator(int i) {
+			return getRuleContext(Compound_operatorContext.class,i);
+		}
+		public TerminalNode K_ORDER() { return getToken(SQLiteParser.K_ORDER, 0); }
+		public TerminalNode K_BY() { return getToken(SQLiteParser.K_BY, 0); }
+		public List<Ordering_termContext> ordering_term() {
+			return getRuleContexts(Ordering_termContext.class);
+		}
+		public Ordering_termContext ordering_term(int i) {
+			return getRuleContext(Ordering_termContext.class,i);
+		}
+		public TerminalNode K_LIMIT() { return getToken(SQLiteParser.K_LIMIT, 0); }
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public TerminalNode K_OFFSET() { return getToken(SQLiteParser.K_OFFSET, 0); }
+		public Select_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_select_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterSelect_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitSelect_stmt(this);
+		}
+	}
+
+	public final Select_stmtContext select_stmt() throws RecognitionException {
+		Select_stmtContext _localctx = new Select_stmtContext(_ctx, getState());
+		enterRule(_localctx, 62, RULE_select_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(828);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WITH) {
+				{
+				setState(827);
+				with_clause();
+				}
+			}
+
+			setState(830);
+			select_or_values();
+			setState(836);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==K_EXCEPT || _la==K_INTERSECT || _la==K_UNION) {
+				{
+				{
+				setState(831);
+				compound_operator();
+				setState(832);
+				select_or_values();
+				}
+				}
+				setState(838);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(849);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_ORDER) {
+				{
+				setState(839);
+				match(K_ORDER);
+				setState(840);
+				match(K_BY);
+				setState(841);
+				ordering_term();
+				setState(846);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(842);
+					match(COMMA);
+					setState(843);
+					ordering_term();
+					}
+					}
+					setState(848);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			setState(857);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_LIMIT) {
+				{
+				setState(851);
+				match(K_LIMIT);
+				setState(852);
+				expr(0);
+				setState(855);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COMMA || _la==K_OFFSET) {
+					{
+					setState(853);
+					_la = _input.LA(1);
+					if ( !(_la==COMMA || _la==K_OFFSET) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(854);
+					expr(0);
+					}
+				}
+
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Select_or_valuesContext extends ParserRuleContext {
+		public TerminalNode K_SELECT() { return getToken(SQLiteParser.K_SELECT, 0); }
+		public List<Result_columnContext> result_column() {
+			return getRuleContexts(Result_columnContext.class);
+		}
+		public Result_columnContext result_column(int i) {
+			return getRuleContext(Result_columnContext.class,i);
+		}
+		public TerminalNode K_FROM() { return getToken(SQLiteParser.K_FROM, 0); }
+		public TerminalNode K_WHERE() { return getToken(SQLiteParser.K_WHERE, 0); }
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public TerminalNode K_GROUP() { return getToken(SQLiteParser.K_GROUP, 0); }
+		public TerminalNode K_BY() { return getToken(SQLiteParser.K_BY, 0); }
+		public TerminalNode K_DISTINCT() { return getToken(SQLiteParser.K_DISTINCT, 0); }
+		public TerminalNode K_ALL() { return getToken(SQLiteParser.K_ALL, 0); }
+		public List<Table_or_subqueryContext> table_or_subquery() {
+			return getRuleContexts(Table_or_subqueryContext.class);
+		}
+		public Table_or_subqueryContext table_or_subquery(int i) {
+			return getRuleContext(Table_or_subqueryContext.class,i);
+		}
+		public Join_clauseContext join_clause() {
+			return getRuleContext(Join_clauseContext.class,0);
+		}
+		public TerminalNode K_HAVING() { return getToken(SQLiteParser.K_HAVING, 0); }
+		public TerminalNode K_VALUES() { return getToken(SQLiteParser.K_VALUES, 0); }
+		public Select_or_valuesContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_select_or_values; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterSelect_or_values(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitSelect_or_values(this);
+		}
+	}
+
+	public final Select_or_valuesContext select_or_values() throws RecognitionException {
+		Select_or_valuesContext _localctx = new Select_or_valuesContext(_ctx, getState());
+		enterRule(_localctx, 64, RULE_select_or_values);
+		int _la;
+		try {
+			setState(933);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case K_SELECT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(859);
+				match(K_SELECT);
+				setState(861);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,114,_ctx) ) {
+				case 1:
+					{
+					setState(860);
+					_la = _input.LA(1);
+					if ( !(_la==K_ALL || _la==K_DISTINCT) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					}
+					break;
+				}
+				setState(863);
+				result_column();
+				setState(868);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(864);
+					match(COMMA);
+					setState(865);
+					result_column();
+					}
+					}
+					setState(870);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(883);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_FROM) {
+					{
+					setState(871);
+					match(K_FROM);
+					setState(881);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,117,_ctx) ) {
+					case 1:
+						{
+						setState(872);
+						table_or_subquery();
+						setState(877);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						while (_la==COMMA) {
+							{
+							{
+							setState(873);
+							match(COMMA);
+							setState(874);
+							table_or_subquery();
+							}
+							}
+							setState(879);
+							_errHandler.sync(this);
+							_la = _input.LA(1);
+						}
+						}
+						break;
+					case 2:
+						{
+						setState(880);
+						join_clause();
+						}
+						break;
+					}
+					}
+				}
+
+				setState(887);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_WHERE) {
+					{
+					setState(885);
+					match(K_WHERE);
+					setState(886);
+					expr(0);
+					}
+				}
+
+				setState(903);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_GROUP) {
+					{
+					setState(889);
+					match(K_GROUP);
+					setState(890);
+					match(K_BY);
+					setState(891);
+					expr(0);
+					setState(896);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(892);
+						match(COMMA);
+						setState(893);
+						expr(0);
+						}
+						}
+						setState(898);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					setState(901);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==K_HAVING) {
+						{
+						setState(899);
+						match(K_HAVING);
+						setState(900);
+						expr(0);
+						}
+					}
+
+					}
+				}
+
+				}
+				break;
+			case K_VALUES:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(905);
+				match(K_VALUES);
+				setState(906);
+				match(OPEN_PAR);
+				setState(907);
+				expr(0);
+				setState(912);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(908);
+					match(COMMA);
+					setState(909);
+					expr(0);
+					}
+					}
+					setState(914);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(915);
+				match(CLOSE_PAR);
+				setState(930);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(916);
+					match(COMMA);
+					setState(917);
+					match(OPEN_PAR);
+					setState(918);
+					expr(0);
+					setState(923);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(919);
+						match(COMMA);
+						setState(920);
+						expr(0);
+						}
+						}
+						setState(925);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					setState(926);
+					match(CLOSE_PAR);
+					}
+					}
+					setState(932);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Update_stmtContext extends ParserRuleContext {
+		public TerminalNode K_UPDATE() { return getToken(SQLiteParser.K_UPDATE, 0); }
+		public Qualified_table_nameContext qualified_table_name() {
+			return getRuleContext(Qualified_table_nameContext.class,0);
+		}
+		public TerminalNode K_SET() { return getToken(SQLiteParser.K_SET, 0); }
+		public List<Column_nameContext> column_name() {
+			return getRuleContexts(Column_nameContext.class);
+		}
+		public Column_nameContext column_name(int i) {
+			return getRuleContext(Column_nameContext.class,i);
+		}
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public With_clauseContext with_clause() {
+			return getRuleContext(With_clauseContext.class,0);
+		}
+		public TerminalNode K_OR() { return getToken(SQLiteParser.K_OR, 0); }
+		public TerminalNode K_ROLLBACK() { return getToken(SQLiteParser.K_ROLLBACK, 0); }
+		public TerminalNode K_ABORT() { return getToken(SQLiteParser.K_ABORT, 0); }
+		public TerminalNode K_REPLACE() { return getToken(SQLiteParser.K_REPLACE, 0); }
+		public TerminalNode K_FAIL() { return getToken(SQLiteParser.K_FAIL, 0); }
+		public TerminalNode K_IGNORE() { return getToken(SQLiteParser.K_IGNORE, 0); }
+		public TerminalNode K_WHERE() { return getToken(SQLiteParser.K_WHERE, 0); }
+		public Update_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_update_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterUpdate_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitUpdate_stmt(this);
+		}
+	}
+
+	public final Update_stmtContext update_stmt() throws RecognitionException {
+		Update_stmtContext _localctx = new Update_stmtContext(_ctx, getState());
+		enterRule(_localctx, 66, RULE_update_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(936);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WITH) {
+				{
+				setState(935);
+				with_clause();
+				}
+			}
+
+			setState(938);
+			match(K_UPDATE);
+			setState(949);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,128,_ctx) ) {
+			case 1:
+				{
+				setState(939);
+				match(K_OR);
+				setState(940);
+				match(K_ROLLBACK);
+				}
+				break;
+			case 2:
+				{
+				setState(941);
+				match(K_OR);
+				setState(942);
+				match(K_ABORT);
+				}
+				break;
+			case 3:
+				{
+				setState(943);
+				match(K_OR);
+				setState(944);
+				match(K_REPLACE);
+				}
+				break;
+			case 4:
+				{
+				setState(945);
+				match(K_OR);
+				setState(946);
+				match(K_FAIL);
+				}
+				break;
+			case 5:
+				{
+				setState(947);
+				match(K_OR);
+				setState(948);
+				match(K_IGNORE);
+				}
+				break;
+			}
+			setState(951);
+			qualified_table_name();
+			setState(952);
+			match(K_SET);
+			setState(953);
+			column_name();
+			setState(954);
+			match(ASSIGN);
+			setState(955);
+			expr(0);
+			setState(963);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(956);
+				match(COMMA);
+				setState(957);
+				column_name();
+				setState(958);
+				match(ASSIGN);
+				setState(959);
+				expr(0);
+				}
+				}
+				setState(965);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(968);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WHERE) {
+				{
+				setState(966);
+				match(K_WHERE);
+				setState(967);
+				expr(0);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Update_stmt_limitedContext extends ParserRuleContext {
+		public TerminalNode K_UPDATE() { return getToken(SQLiteParser.K_UPDATE, 0); }
+		public Qualified_table_nameContext qualified_table_name() {
+			return getRuleContext(Qualified_table_nameContext.class,0);
+		}
+		public TerminalNode K_SET() { return getToken(SQLiteParser.K_SET, 0); }
+		public List<Column_nameContext> column_name() {
+			return getRuleContexts(Column_nameContext.class);
+		}
+		public Column_nameContext column_name(int i) {
+			return getRuleContext(Column_nameContext.class,i);
+		}
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public With_clauseContext with_clause() {
+			return getRuleContext(With_clauseContext.class,0);
+		}
+		public TerminalNode K_OR() { return getToken(SQLiteParser.K_OR, 0); }
+		public TerminalNode K_ROLLBACK() { return getToken(SQLiteParser.K_ROLLBACK, 0); }
+		public TerminalNode K_ABORT() { return getToken(SQLiteParser.K_ABORT, 0); }
+		public TerminalNode K_REPLACE() { return getToken(SQLiteParser.K_REPLACE, 0); }
+		public TerminalNode K_FAIL() { return getToken(SQLiteParser.K_FAIL, 0); }
+		public TerminalNode K_IGNORE() { return getToken(SQLiteParser.K_IGNORE, 0); }
+		public TerminalNode K_WHERE() { return getToken(SQLiteParser.K_WHERE, 0); }
+		public TerminalNode K_LIMIT() { return getToken(SQLiteParser.K_LIMIT, 0); }
+		public TerminalNode K_ORDER() { return getToken(SQLiteParser.K_ORDER, 0); }
+		public TerminalNode K_BY() { return getToken(SQLiteParser.K_BY, 0); }
+		public List<Ordering_termContext> ordering_term() {
+			return getRuleContexts(Ordering_termContext.class);
+		}
+		public Ordering_termContext ordering_term(int i) {
+			return getRuleContext(Ordering_termContext.class,i);
+		}
+		public TerminalNode K_OFFSET() { return getToken(SQLiteParser.K_OFFSET, 0); }
+		public Update_stmt_limitedContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_update_stmt_limited; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterUpdate_stmt_limited(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitUpdate_stmt_limited(this);
+		}
+	}
+
+	public final Update_stmt_limitedContext update_stmt_limited() throws RecognitionException {
+		Update_stmt_limitedContext _localctx = new Update_stmt_limitedContext(_ctx, getState());
+		enterRule(_localctx, 68, RULE_update_stmt_limited);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(971);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WITH) {
+				{
+				setState(970);
+				with_clause();
+				}
+			}
+
+			setState(973);
+			match(K_UPDATE);
+			setState(984);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,132,_ctx) ) {
+			case 1:
+				{
+				setState(974);
+				match(K_OR);
+				setState(975);
+				match(K_ROLLBACK);
+				}
+				break;
+			case 2:
+				{
+				setState(976);
+				match(K_OR);
+				setState(977);
+				match(K_ABORT);
+				}
+				break;
+			case 3:
+				{
+				setState(978);
+				match(K_OR);
+				setState(979);
+				match(K_REPLACE);
+				}
+				break;
+			case 4:
+				{
+				setState(980);
+				match(K_OR);
+				setState(981);
+				match(K_FAIL);
+				}
+				break;
+			case 5:
+				{
+				setState(982);
+				match(K_OR);
+				setState(983);
+				match(K_IGNORE);
+				}
+				break;
+			}
+			setState(986);
+			qualified_table_name();
+			setState(987);
+			match(K_SET);
+			setState(988);
+			column_name();
+			setState(989);
+			match(ASSIGN);
+			setState(990);
+			expr(0);
+			setState(998);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(991);
+				match(COMMA);
+				setState(992);
+				column_name();
+				setState(993);
+				match(ASSIGN);
+				setState(994);
+				expr(0);
+				}
+				}
+				setState(1000);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1003);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WHERE) {
+				{
+				setState(1001);
+				match(K_WHERE);
+				setState(1002);
+				expr(0);
+				}
+			}
+
+			setState(1023);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_LIMIT || _la==K_ORDER) {
+				{
+				setState(1015);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_ORDER) {
+					{
+					setState(1005);
+					match(K_ORDER);
+					setState(1006);
+					match(K_BY);
+					setState(1007);
+					ordering_term();
+					setState(1012);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(1008);
+						match(COMMA);
+						setState(1009);
+						ordering_term();
+						}
+						}
+						setState(1014);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				setState(1017);
+				match(K_LIMIT);
+				setState(1018);
+				expr(0);
+				setState(1021);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COMMA || _la==K_OFFSET) {
+					{
+					setState(1019);
+					_la = _input.LA(1);
+					if ( !(_la==COMMA || _la==K_OFFSET) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(1020);
+					expr(0);
+					}
+				}
+
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Vacuum_stmtContext extends ParserRuleContext {
+		public TerminalNode K_VACUUM() { return getToken(SQLiteParser.K_VACUUM, 0); }
+		public Vacuum_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vacuum_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterVacuum_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitVacuum_stmt(this);
+		}
+	}
+
+	public final Vacuum_stmtContext vacuum_stmt() throws RecognitionException {
+		Vacuum_stmtContext _localctx = new Vacuum_stmtContext(_ctx, getState());
+		enterRule(_localctx, 70, RULE_vacuum_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1025);
+			match(K_VACUUM);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Column_defContext extends ParserRuleContext {
+		public Column_nameContext column_name() {
+			return getRuleContext(Column_nameContext.class,0);
+		}
+		public Type_nameContext type_name() {
+			return getRuleContext(Type_nameContext.class,0);
+		}
+		public List<Column_constraintContext> column_constraint() {
+			return getRuleContexts(Column_constraintContext.class);
+		}
+		public Column_constraintContext column_constraint(int i) {
+			return getRuleContext(Column_constraintContext.class,i);
+		}
+		public Column_defContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_column_def; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterColumn_def(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitColumn_def(this);
+		}
+	}
+
+	public final Column_defContext column_def() throws RecognitionException {
+		Column_defContext _localctx = new Column_defContext(_ctx, getState());
+		enterRule(_localctx, 72, RULE_column_def);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1027);
+			column_name();
+			setState(1029);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,139,_ctx) ) {
+			case 1:
+				{
+				setState(1028);
+				type_name();
+				}
+				break;
+			}
+			setState(1034);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << K_CHECK) | (1L << K_COLLATE) | (1L << K_CONSTRAINT) | (1L << K_DEFAULT))) != 0) || ((((_la - 105)) & ~0x3f) == 0 && ((1L << (_la - 105)) & ((1L << (K_NOT - 105)) | (1L << (K_NULL - 105)) | (1L << (K_PRIMARY - 105)) | (1L << (K_REFERENCES - 105)) | (1L << (K_UNIQUE - 105)))) != 0)) {
+				{
+				{
+				setState(1031);
+				column_constraint();
+				}
+				}
+				setState(1036);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Type_nameContext extends ParserRuleContext {
+		public List<NameContext> name() {
+			return getRuleContexts(NameContext.class);
+		}
+		public NameContext name(int i) {
+			return getRuleContext(NameContext.class,i);
+		}
+		public List<Signed_numberContext> signed_number() {
+			return getRuleContexts(Signed_numberContext.class);
+		}
+		public Signed_numberContext signed_number(int i) {
+			return getRuleContext(Signed_numberContext.class,i);
+		}
+		public Type_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterType_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitType_name(this);
+		}
+	}
+
+	public final Type_nameContext type_name() throws RecognitionException {
+		Type_nameContext _localctx = new Type_nameContext(_ctx, getState());
+		enterRule(_localctx, 74, RULE_type_name);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1038); 
+			_errHandler.sync(this);
+			_alt = 1+1;
+			do {
+				switch (_alt) {
+				case 1+1:
+					{
+					{
+					setState(1037);
+					name();
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1040); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,141,_ctx);
+			} while ( _alt!=1 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			setState(1052);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,142,_ctx) ) {
+			case 1:
+				{
+				setState(1042);
+				match(OPEN_PAR);
+				setState(1043);
+				signed_number();
+				setState(1044);
+				match(CLOSE_PAR);
+				}
+				break;
+			case 2:
+				{
+				setState(1046);
+				match(OPEN_PAR);
+				setState(1047);
+				signed_number();
+				setState(1048);
+				match(COMMA);
+				setState(1049);
+				signed_number();
+				setState(1050);
+				match(CLOSE_PAR);
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Column_constraintContext extends ParserRuleContext {
+		public TerminalNode K_PRIMARY() { return getToken(SQLiteParser.K_PRIMARY, 0); }
+		public TerminalNode K_KEY() { return getToken(SQLiteParser.K_KEY, 0); }
+		public Conflict_clauseContext conflict_clause() {
+			return getRuleContext(Conflict_clauseContext.class,0);
+		}
+		public TerminalNode K_NULL() { return getToken(SQLiteParser.K_NULL, 0); }
+		public TerminalNode K_UNIQUE() { return getToken(SQLiteParser.K_UNIQUE, 0); }
+		public TerminalNode K_CHECK() { return getToken(SQLiteParser.K_CHECK, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode K_DEFAULT() { return getToken(SQLiteParser.K_DEFAULT, 0); }
+		public TerminalNode K_COLLATE() { return getToken(SQLiteParser.K_COLLATE, 0); }
+		public Collation_nameContext collation_name() {
+			return getRuleContext(Collation_nameContext.class,0);
+		}
+		public Foreign_key_clauseContext foreign_key_clause() {
+			return getRuleContext(Foreign_key_clauseContext.class,0);
+		}
+		public TerminalNode K_CONSTRAINT() { return getToken(SQLiteParser.K_CONSTRAINT, 0); }
+		public NameContext name() {
+			return getRuleContext(NameContext.class,0);
+		}
+		public Signed_numberContext signed_number() {
+			return getRuleContext(Signed_numberContext.class,0);
+		}
+		public Literal_valueContext literal_value() {
+			return getRuleContext(Literal_valueContext.class,0);
+		}
+		public TerminalNode K_AUTOINCREMENT() { return getToken(SQLiteParser.K_AUTOINCREMENT, 0); }
+		public TerminalNode K_NOT() { return getToken(SQLiteParser.K_NOT, 0); }
+		public TerminalNode K_ASC() { return getToken(SQLiteParser.K_ASC, 0); }
+		public TerminalNode K_DESC() { return getToken(SQLiteParser.K_DESC, 0); }
+		public Column_constraintContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_column_constraint; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterColumn_constraint(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitColumn_constraint(this);
+		}
+	}
+
+	public final Column_constraintContext column_constraint() throws RecognitionException {
+		Column_constraintContext _localctx = new Column_constraintContext(_ctx, getState());
+		enterRule(_localctx, 76, RULE_column_constraint);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1056);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_CONSTRAINT) {
+				{
+				setState(1054);
+				match(K_CONSTRAINT);
+				setState(1055);
+				name();
+				}
+			}
+
+			setState(1091);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case K_PRIMARY:
+				{
+				setState(1058);
+				match(K_PRIMARY);
+				setState(1059);
+				match(K_KEY);
+				setState(1061);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_ASC || _la==K_DESC) {
+					{
+					setState(1060);
+					_la = _input.LA(1);
+					if ( !(_la==K_ASC || _la==K_DESC) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					}
+				}
+
+				setState(1063);
+				conflict_clause();
+				setState(1065);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_AUTOINCREMENT) {
+					{
+					setState(1064);
+					match(K_AUTOINCREMENT);
+					}
+				}
+
+				}
+				break;
+			case K_NOT:
+			case K_NULL:
+				{
+				setState(1068);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_NOT) {
+					{
+					setState(1067);
+					match(K_NOT);
+					}
+				}
+
+				setState(1070);
+				match(K_NULL);
+				setState(1071);
+				conflict_clause();
+				}
+				break;
+			case K_UNIQUE:
+				{
+				setState(1072);
+				match(K_UNIQUE);
+				setState(1073);
+				conflict_clause();
+				}
+				break;
+			case K_CHECK:
+				{
+				setState(1074);
+				match(K_CHECK);
+				setState(1075);
+				match(OPEN_PAR);
+				setState(1076);
+				expr(0);
+				setState(1077);
+				match(CLOSE_PAR);
+				}
+				break;
+			case K_DEFAULT:
+				{
+				setState(1079);
+				match(K_DEFAULT);
+				setState(1086);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,147,_ctx) ) {
+				case 1:
+					{
+					setState(1080);
+					signed_number();
+					}
+					break;
+				case 2:
+					{
+					setState(1081);
+					literal_value();
+					}
+					break;
+				case 3:
+					{
+					setState(1082);
+					match(OPEN_PAR);
+					setState(1083);
+					expr(0);
+					setState(1084);
+					match(CLOSE_PAR);
+					}
+					break;
+				}
+				}
+				break;
+			case K_COLLATE:
+				{
+				setState(1088);
+				match(K_COLLATE);
+				setState(1089);
+				collation_name();
+				}
+				break;
+			case K_REFERENCES:
+				{
+				setState(1090);
+				foreign_key_clause();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Conflict_clauseContext extends ParserRuleContext {
+		public TerminalNode K_ON() { return getToken(SQLiteParser.K_ON, 0); }
+		public TerminalNode K_CONFLICT() { return getToken(SQLiteParser.K_CONFLICT, 0); }
+		public TerminalNode K_ROLLBACK() { return getToken(SQLiteParser.K_ROLLBACK, 0); }
+		public TerminalNode K_ABORT() { return getToken(SQLiteParser.K_ABORT, 0); }
+		public TerminalNode K_FAIL() { return getToken(SQLiteParser.K_FAIL, 0); }
+		public TerminalNode K_IGNORE() { return getToken(SQLiteParser.K_IGNORE, 0); }
+		public TerminalNode K_REPLACE() { return getToken(SQLiteParser.K_REPLACE, 0); }
+		public Conflict_clauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_conflict_clause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterConflict_clause(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitConflict_clause(this);
+		}
+	}
+
+	public final Conflict_clauseContext conflict_clause() throws RecognitionException {
+		Conflict_clauseContext _localctx = new Conflict_clauseContext(_ctx, getState());
+		enterRule(_localctx, 78, RULE_conflict_clause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1096);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_ON) {
+				{
+				setState(1093);
+				match(K_ON);
+				setState(1094);
+				match(K_CONFLICT);
+				setState(1095);
+				_la = _input.LA(1);
+				if ( !(_la==K_ABORT || ((((_la - 75)) & ~0x3f) == 0 && ((1L << (_la - 75)) & ((1L << (K_FAIL - 75)) | (1L << (K_IGNORE - 75)) | (1L << (K_REPLACE - 75)) | (1L << (K_ROLLBACK - 75)))) != 0)) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExprContext extends ParserRuleContext {
+		public Literal_valueContext literal_value() {
+			return getRuleContext(Literal_valueContext.class,0);
+		}
+		public TerminalNode BIND_PARAMETER() { return getToken(SQLiteParser.BIND_PARAMETER, 0); }
+		public Column_nameContext column_name() {
+			return getRuleContext(Column_nameContext.class,0);
+		}
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public Unary_operatorContext unary_operator() {
+			return getRuleContext(Unary_operatorContext.class,0);
+		}
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public Function_nameContext function_name() {
+			return getRuleContext(Function_nameContext.class,0);
+		}
+		public TerminalNode K_DISTINCT() { return getToken(SQLiteParser.K_DISTINCT, 0); }
+		public TerminalNode K_CAST() { return getToken(SQLiteParser.K_CAST, 0); }
+		public TerminalNode K_AS() { return getToken(SQLiteParser.K_AS, 0); }
+		public Type_nameContext type_name() {
+			return getRuleContext(Type_nameContext.class,0);
+		}
+		public Select_stmtContext select_stmt() {
+			return getRuleContext(Select_stmtContext.class,0);
+		}
+		public TerminalNode K_EXISTS() { return getToken(SQLiteParser.K_EXISTS, 0); }
+		public TerminalNode K_NOT() { return getToken(SQLiteParser.K_NOT, 0); }
+		public TerminalNode K_CASE() { return getToken(SQLiteParser.K_CASE, 0); }
+		public TerminalNode K_END() { return getToken(SQLiteParser.K_END, 0); }
+		public List<TerminalNode> K_WHEN() { return getTokens(SQLiteParser.K_WHEN); }
+		public TerminalNode K_WHEN(int i) {
+			return getToken(SQLiteParser.K_WHEN, i);
+		}
+		public List<TerminalNode> K_THEN() { return getTokens(SQLiteParser.K_THEN); }
+		public TerminalNode K_THEN(int i) {
+			return getToken(SQLiteParser.K_THEN, i);
+		}
+		public TerminalNode K_ELSE() { return getToken(SQLiteParser.K_ELSE, 0); }
+		public Raise_functionContext raise_function() {
+			return getRuleContext(Raise_functionContext.class,0);
+		}
+		public TerminalNode LT() { return getToken(SQLiteParser.LT, 0); }
+		public TerminalNode LT_EQ() { return getToken(SQLiteParser.LT_EQ, 0); }
+		public TerminalNode GT() { return getToken(SQLiteParser.GT, 0); }
+		public TerminalNode GT_EQ() { return getToken(SQLiteParser.GT_EQ, 0); }
+		public TerminalNode ASSIGN() { return getToken(SQLiteParser.ASSIGN, 0); }
+		public TerminalNode EQ() { return getToken(SQLiteParser.EQ, 0); }
+		public TerminalNode NOT_EQ1() { return getToken(SQLiteParser.NOT_EQ1, 0); }
+		public TerminalNode NOT_EQ2() { return getToken(SQLiteParser.NOT_EQ2, 0); }
+		public TerminalNode K_AND() { return getToken(SQLiteParser.K_AND, 0); }
+		public TerminalNode K_OR() { return getToken(SQLiteParser.K_OR, 0); }
+		public TerminalNode K_IS() { return getToken(SQLiteParser.K_IS, 0); }
+		public TerminalNode K_BETWEEN() { return getToken(SQLiteParser.K_BETWEEN, 0); }
+		public TerminalNode K_IN() { return getToken(SQLiteParser.K_IN, 0); }
+		public TerminalNode K_COLLATE() { return getToken(SQLiteParser.K_COLLATE, 0); }
+		public Collation_nameContext collation_name() {
+			return getRuleContext(Collation_nameContext.class,0);
+		}
+		public TerminalNode K_LIKE() { return getToken(SQLiteParser.K_LIKE, 0); }
+		public TerminalNode K_GLOB() { return getToken(SQLiteParser.K_GLOB, 0); }
+		public TerminalNode K_REGEXP() { return getToken(SQLiteParser.K_REGEXP, 0); }
+		public TerminalNode K_MATCH() { return getToken(SQLiteParser.K_MATCH, 0); }
+		public TerminalNode K_ESCAPE() { return getToken(SQLiteParser.K_ESCAPE, 0); }
+		public TerminalNode K_ISNULL() { return getToken(SQLiteParser.K_ISNULL, 0); }
+		public TerminalNode K_NOTNULL() { return getToken(SQLiteParser.K_NOTNULL, 0); }
+		public TerminalNode K_NULL() { return getToken(SQLiteParser.K_NULL, 0); }
+		public ExprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterExpr(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitExpr(this);
+		}
+	}
+
+	public final ExprContext expr() throws RecognitionException {
+		return expr(0);
+	}
+
+	private ExprContext expr(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExprContext _localctx = new ExprContext(_ctx, _parentState);
+		ExprContext _prevctx = _localctx;
+		int _startState = 80;
+		enterRecursionRule(_localctx, 80, RULE_expr, _p);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1174);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,160,_ctx) ) {
+			case 1:
+				{
+				setState(1099);
+				literal_value();
+				}
+				break;
+			case 2:
+				{
+				setState(1100);
+				match(BIND_PARAMETER);
+				}
+				break;
+			case 3:
+				{
+				setState(1109);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,151,_ctx) ) {
+				case 1:
+					{
+					setState(1104);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,150,_ctx) ) {
+					case 1:
+						{
+						setState(1101);
+						database_name();
+						setState(1102);
+						match(DOT);
+						}
+						break;
+					}
+					setState(1106);
+					table_name();
+					setState(1107);
+					match(DOT);
+					}
+					break;
+				}
+				setState(1111);
+				column_name();
+				}
+				break;
+			case 4:
+				{
+				setState(1112);
+				unary_operator();
+				setState(1113);
+				expr(21);
+				}
+				break;
+			case 5:
+				{
+				setState(1115);
+				function_name();
+				setState(1116);
+				match(OPEN_PAR);
+				setState(1129);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case OPEN_PAR:
+				case PLUS:
+				case MINUS:
+				case TILDE:
+				case K_ABORT:
+				case K_ACTION:
+				case K_ADD:
+				case K_AFTER:
+				case K_ALL:
+				case K_ALTER:
+				case K_ANALYZE:
+				case K_AND:
+				case K_AS:
+				case K_ASC:
+				case K_ATTACH:
+				case K_AUTOINCREMENT:
+				case K_BEFORE:
+				case K_BEGIN:
+				case K_BETWEEN:
+				case K_BY:
+				case K_CASCADE:
+				case K_CASE:
+				case K_CAST:
+				case K_CHECK:
+				case K_COLLATE:
+				case K_COLUMN:
+				case K_COMMIT:
+				case K_CONFLICT:
+				case K_CONSTRAINT:
+				case K_CREATE:
+				case K_CROSS:
+				case K_CURRENT_DATE:
+				case K_CURRENT_TIME:
+				case K_CURRENT_TIMESTAMP:
+				case K_DATABASE:
+				case K_DEFAULT:
+				case K_DEFERRABLE:
+				case K_DEFERRED:
+				case K_DELETE:
+				case K_DESC:
+				case K_DETACH:
+				case K_DISTINCT:
+				case K_DROP:
+				case K_EACH:
+				case K_ELSE:
+				case K_END:
+				case K_ESCAPE:
+				case K_EXCEPT:
+				case K_EXCLUSIVE:
+				case K_EXISTS:
+				case K_EXPLAIN:
+				case K_FAIL:
+				case K_FOR:
+				case K_FOREIGN:
+				case K_FROM:
+				case K_FULL:
+				case K_GLOB:
+				case K_GROUP:
+				case K_HAVING:
+				case K_IF:
+				case K_IGNORE:
+				case K_IMMEDIATE:
+				case K_IN:
+				case K_INDEX:
+				case K_INDEXED:
+				case K_INITIALLY:
+				case K_INNER:
+				case K_INSERT:
+				case K_INSTEAD:
+				case K_INTERSECT:
+				case K_INTO:
+				case K_IS:
+				case K_ISNULL:
+				case K_JOIN:
+				case K_KEY:
+				case K_LEFT:
+				case K_LIKE:
+				case K_LIMIT:
+				case K_MATCH:
+				case K_NATURAL:
+				case K_NO:
+				case K_NOT:
+				case K_NOTNULL:
+				case K_NULL:
+				case K_OF:
+				case K_OFFSET:
+				case K_ON:
+				case K_OR:
+				case K_ORDER:
+				case K_OUTER:
+				case K_PLAN:
+				case K_PRAGMA:
+				case K_PRIMARY:
+				case K_QUERY:
+				case K_RAISE:
+				case K_RECURSIVE:
+				case K_REFERENCES:
+				case K_REGEXP:
+				case K_REINDEX:
+				case K_RELEASE:
+				case K_RENAME:
+				case K_REPLACE:
+				case K_RESTRICT:
+				case K_RIGHT:
+				case K_ROLLBACK:
+				case K_ROW:
+				case K_SAVEPOINT:
+				case K_SELECT:
+				case K_SET:
+				case K_TABLE:
+				case K_TEMP:
+				case K_TEMPORARY:
+				case K_THEN:
+				case K_TO:
+				case K_TRANSACTION:
+				case K_TRIGGER:
+				case K_UNION:
+				case K_UNIQUE:
+				case K_UPDATE:
+				case K_USING:
+				case K_VACUUM:
+				case K_VALUES:
+				case K_VIEW:
+				case K_VIRTUAL:
+				case K_WHEN:
+				case K_WHERE:
+				case K_WITH:
+				case K_WITHOUT:
+				case IDENTIFIER:
+				case NUMERIC_LITERAL:
+				case BIND_PARAMETER:
+				case STRING_LITERAL:
+				case BLOB_LITERAL:
+					{
+					setState(1118);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,152,_ctx) ) {
+					case 1:
+						{
+						setState(1117);
+						match(K_DISTINCT);
+						}
+						break;
+					}
+					setState(1120);
+					expr(0);
+					setState(1125);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(1121);
+						match(COMMA);
+						setState(1122);
+						expr(0);
+						}
+						}
+						setState(1127);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+					break;
+				case STAR:
+					{
+					setState(1128);
+					match(STAR);
+					}
+					break;
+				case CLOSE_PAR:
+					break;
+				default:
+					break;
+				}
+				setState(1131);
+				match(CLOSE_PAR);
+				}
+				break;
+			case 6:
+				{
+				setState(1133);
+				match(OPEN_PAR);
+				setState(1134);
+				expr(0);
+				setState(1135);
+				match(CLOSE_PAR);
+				}
+				break;
+			case 7:
+				{
+				setState(1137);
+				match(K_CAST);
+				setState(1138);
+				match(OPEN_PAR);
+				setState(1139);
+				expr(0);
+				setState(1140);
+				match(K_AS);
+				setState(1141);
+				type_name();
+				setState(1142);
+				match(CLOSE_PAR);
+				}
+				break;
+			case 8:
+				{
+				setState(1148);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_EXISTS || _la==K_NOT) {
+					{
+					setState(1145);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==K_NOT) {
+						{
+						setState(1144);
+						match(K_NOT);
+						}
+					}
+
+					setState(1147);
+					match(K_EXISTS);
+					}
+				}
+
+				setState(1150);
+				match(OPEN_PAR);
+				setState(1151);
+				select_stmt();
+				setState(1152);
+				match(CLOSE_PAR);
+				}
+				break;
+			case 9:
+				{
+				setState(1154);
+				match(K_CASE);
+				setState(1156);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,157,_ctx) ) {
+				case 1:
+					{
+					setState(1155);
+					expr(0);
+					}
+					break;
+				}
+				setState(1163); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(1158);
+					match(K_WHEN);
+					setState(1159);
+					expr(0);
+					setState(1160);
+					match(K_THEN);
+					setState(1161);
+					expr(0);
+					}
+					}
+					setState(1165); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( _la==K_WHEN );
+				setState(1169);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_ELSE) {
+					{
+					setState(1167);
+					match(K_ELSE);
+					setState(1168);
+					expr(0);
+					}
+				}
+
+				setState(1171);
+				match(K_END);
+				}
+				break;
+			case 10:
+				{
+				setState(1173);
+				raise_function();
+				}
+				break;
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(1263);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,172,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(1261);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,171,_ctx) ) {
+					case 1:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1176);
+						if (!(precpred(_ctx, 20))) throw new FailedPredicateException(this, "precpred(_ctx, 20)");
+						setState(1177);
+						match(PIPE2);
+						setState(1178);
+						expr(21);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1179);
+						if (!(precpred(_ctx, 19))) throw new FailedPredicateException(this, "precpred(_ctx, 19)");
+						setState(1180);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << STAR) | (1L << DIV) | (1L << MOD))) != 0)) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(1181);
+						expr(20);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1182);
+						if (!(precpred(_ctx, 18))) throw new FailedPredicateException(this, "precpred(_ctx, 18)");
+						setState(1183);
+						_la = _input.LA(1);
+						if ( !(_la==PLUS || _la==MINUS) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(1184);
+						expr(19);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1185);
+						if (!(precpred(_ctx, 17))) throw new FailedPredicateException(this, "precpred(_ctx, 17)");
+						setState(1186);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << LT2) | (1L << GT2) | (1L << AMP) | (1L << PIPE))) != 0)) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(1187);
+						expr(18);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1188);
+						if (!(precpred(_ctx, 16))) throw new FailedPredicateException(this, "precpred(_ctx, 16)");
+						setState(1189);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << LT) | (1L << LT_EQ) | (1L << GT) | (1L << GT_EQ))) != 0)) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(1190);
+						expr(17);
+						}
+						break;
+					case 6:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1191);
+						if (!(precpred(_ctx, 15))) throw new FailedPredicateException(this, "precpred(_ctx, 15)");
+						setState(1192);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ASSIGN) | (1L << EQ) | (1L << NOT_EQ1) | (1L << NOT_EQ2))) != 0)) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(1193);
+						expr(16);
+						}
+						break;
+					case 7:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1194);
+						if (!(precpred(_ctx, 13))) throw new FailedPredicateException(this, "precpred(_ctx, 13)");
+						setState(1195);
+						match(K_AND);
+						setState(1196);
+						expr(14);
+						}
+						break;
+					case 8:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1197);
+						if (!(precpred(_ctx, 12))) throw new FailedPredicateException(this, "precpred(_ctx, 12)");
+						setState(1198);
+						match(K_OR);
+						setState(1199);
+						expr(13);
+						}
+						break;
+					case 9:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1200);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(1201);
+						match(K_IS);
+						setState(1203);
+						_errHandler.sync(this);
+						switch ( getInterpreter().adaptivePredict(_input,161,_ctx) ) {
+						case 1:
+							{
+							setState(1202);
+							match(K_NOT);
+							}
+							break;
+						}
+						setState(1205);
+						expr(6);
+						}
+						break;
+					case 10:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1206);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(1208);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if (_la==K_NOT) {
+							{
+							setState(1207);
+							match(K_NOT);
+							}
+						}
+
+						setState(1210);
+						match(K_BETWEEN);
+						setState(1211);
+						expr(0);
+						setState(1212);
+						match(K_AND);
+						setState(1213);
+						expr(5);
+						}
+						break;
+					case 11:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1215);
+						if (!(precpred(_ctx, 14))) throw new FailedPredicateException(this, "precpred(_ctx, 14)");
+						setState(1217);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if (_la==K_NOT) {
+							{
+							setState(1216);
+							match(K_NOT);
+							}
+						}
+
+						setState(1219);
+						match(K_IN);
+						setState(1239);
+						_errHandler.sync(this);
+						switch ( getInterpreter().adaptivePredict(_input,167,_ctx) ) {
+						case 1:
+							{
+							setState(1220);
+							match(OPEN_PAR);
+							setState(1230);
+							_errHandler.sync(this);
+							switch ( getInterpreter().adaptivePredict(_input,165,_ctx) ) {
+							case 1:
+								{
+								setState(1221);
+								select_stmt();
+								}
+								break;
+							case 2:
+								{
+								setState(1222);
+								expr(0);
+								setState(1227);
+								_errHandler.sync(this);
+								_la = _input.LA(1);
+								while (_la==COMMA) {
+									{
+									{
+									setState(1223);
+									match(COMMA);
+									setState(1224);
+									expr(0);
+									}
+									}
+									setState(1229);
+									_errHandler.sync(this);
+									_la = _input.LA(1);
+								}
+								}
+								break;
+							}
+							setState(1232);
+							match(CLOSE_PAR);
+							}
+							break;
+						case 2:
+							{
+							setState(1236);
+							_errHandler.sync(this);
+							switch ( getInterpreter().adaptivePredict(_input,166,_ctx) ) {
+							case 1:
+								{
+								setState(1233);
+								database_name();
+								setState(1234);
+								match(DOT);
+								}
+								break;
+							}
+							setState(1238);
+							table_name();
+							}
+							break;
+						}
+						}
+						break;
+					case 12:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1241);
+						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
+						setState(1242);
+						match(K_COLLATE);
+						setState(1243);
+						collation_name();
+						}
+						break;
+					case 13:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1244);
+						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
+						setState(1246);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if (_la==K_NOT) {
+							{
+							setState(1245);
+							match(K_NOT);
+							}
+						}
+
+						setState(1248);
+						_la = _input.LA(1);
+						if ( !(((((_la - 80)) & ~0x3f) == 0 && ((1L << (_la - 80)) & ((1L << (K_GLOB - 80)) | (1L << (K_LIKE - 80)) | (1L << (K_MATCH - 80)) | (1L << (K_REGEXP - 80)))) != 0)) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(1249);
+						expr(0);
+						setState(1252);
+						_errHandler.sync(this);
+						switch ( getInterpreter().adaptivePredict(_input,169,_ctx) ) {
+						case 1:
+							{
+							setState(1250);
+							match(K_ESCAPE);
+							setState(1251);
+							expr(0);
+							}
+							break;
+						}
+						}
+						break;
+					case 14:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(1254);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(1259);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case K_ISNULL:
+							{
+							setState(1255);
+							match(K_ISNULL);
+							}
+							break;
+						case K_NOTNULL:
+							{
+							setState(1256);
+							match(K_NOTNULL);
+							}
+							break;
+						case K_NOT:
+							{
+							setState(1257);
+							match(K_NOT);
+							setState(1258);
+							match(K_NULL);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						}
+						break;
+					}
+					} 
+				}
+				setState(1265);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,172,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class Foreign_key_clauseContext extends ParserRuleContext {
+		public TerminalNode K_REFERENCES() { return getToken(SQLiteParser.K_REFERENCES, 0); }
+		public Foreign_tableContext foreign_table() {
+			return getRuleContext(Foreign_tableContext.class,0);
+		}
+		public List<Column_nameContext> column_name() {
+			return getRuleContexts(Column_nameContext.class);
+		}
+		public Column_nameContext column_name(int i) {
+			return getRuleContext(Column_nameContext.class,i);
+		}
+		public TerminalNode K_DEFERRABLE() { return getToken(SQLiteParser.K_DEFERRABLE, 0); }
+		public List<TerminalNode> K_ON() { return getTokens(SQLiteParser.K_ON); }
+		public TerminalNode K_ON(int i) {
+			return getToken(SQLiteParser.K_ON, i);
+		}
+		public List<TerminalNode> K_MATCH() { return getTokens(SQLiteParser.K_MATCH); }
+		public TerminalNode K_MATCH(int i) {
+			return getToken(SQLiteParser.K_MATCH, i);
+		}
+		public List<NameContext> name() {
+			return getRuleContexts(NameContext.class);
+		}
+		public NameContext name(int i) {
+			return getRuleContext(NameContext.class,i);
+		}
+		public List<TerminalNode> K_DELETE() { return getTokens(SQLiteParser.K_DELETE); }
+		public TerminalNode K_DELETE(int i) {
+			return getToken(SQLiteParser.K_DELETE, i);
+		}
+		public List<TerminalNode> K_UPDATE() { return getTokens(SQLiteParser.K_UPDATE); }
+		public TerminalNode K_UPDATE(int i) {
+			return getToken(SQLiteParser.K_UPDATE, i);
+		}
+		public TerminalNode K_NOT() { return getToken(SQLiteParser.K_NOT, 0); }
+		public TerminalNode K_INITIALLY() { return getToken(SQLiteParser.K_INITIALLY, 0); }
+		public TerminalNode K_DEFERRED() { return getToken(SQLiteParser.K_DEFERRED, 0); }
+		public TerminalNode K_IMMEDIATE() { return getToken(SQLiteParser.K_IMMEDIATE, 0); }
+		public List<TerminalNode> K_SET() { return getTokens(SQLiteParser.K_SET); }
+		public TerminalNode K_SET(int i) {
+			return getToken(SQLiteParser.K_SET, i);
+		}
+		public List<TerminalNode> K_NULL() { return getTokens(SQLiteParser.K_NULL); }
+		public TerminalNode K_NULL(int i) {
+			return getToken(SQLiteParser.K_NULL, i);
+		}
+		public List<TerminalNode> K_DEFAULT() { return getTokens(SQLiteParser.K_DEFAULT); }
+		public TerminalNode K_DEFAULT(int i) {
+			return getToken(SQLiteParser.K_DEFAULT, i);
+		}
+		public List<TerminalNode> K_CASCADE() { return getTokens(SQLiteParser.K_CASCADE); }
+		public TerminalNode K_CASCADE(int i) {
+			return getToken(SQLiteParser.K_CASCADE, i);
+		}
+		public List<TerminalNode> K_RESTRICT() { return getTokens(SQLiteParser.K_RESTRICT); }
+		public TerminalNode K_RESTRICT(int i) {
+			return getToken(SQLiteParser.K_RESTRICT, i);
+		}
+		public List<TerminalNode> K_NO() { return getTokens(SQLiteParser.K_NO); }
+		public TerminalNode K_NO(int i) {
+			return getToken(SQLiteParser.K_NO, i);
+		}
+		public List<TerminalNode> K_ACTION() { return getTokens(SQLiteParser.K_ACTION); }
+		public TerminalNode K_ACTION(int i) {
+			return getToken(SQLiteParser.K_ACTION, i);
+		}
+		public Foreign_key_clauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_foreign_key_clause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterForeign_key_clause(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitForeign_key_clause(this);
+		}
+	}
+
+	public final Foreign_key_clauseContext foreign_key_clause() throws RecognitionException {
+		Foreign_key_clauseContext _localctx = new Foreign_key_clauseContext(_ctx, getState());
+		enterRule(_localctx, 82, RULE_foreign_key_clause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1266);
+			match(K_REFERENCES);
+			setState(1267);
+			foreign_table();
+			setState(1279);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==OPEN_PAR) {
+				{
+				setState(1268);
+				match(OPEN_PAR);
+				setState(1269);
+				column_name();
+				setState(1274);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(1270);
+					match(COMMA);
+					setState(1271);
+					column_name();
+					}
+					}
+					setState(1276);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1277);
+				match(CLOSE_PAR);
+				}
+			}
+
+			setState(1299);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==K_MATCH || _la==K_ON) {
+				{
+				{
+				setState(1295);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case K_ON:
+					{
+					setState(1281);
+					match(K_ON);
+					setState(1282);
+					_la = _input.LA(1);
+					if ( !(_la==K_DELETE || _la==K_UPDATE) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(1291);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,175,_ctx) ) {
+					case 1:
+						{
+						setState(1283);
+						match(K_SET);
+						setState(1284);
+						match(K_NULL);
+						}
+						break;
+					case 2:
+						{
+						setState(1285);
+						match(K_SET);
+						setState(1286);
+						match(K_DEFAULT);
+						}
+						break;
+					case 3:
+						{
+						setState(1287);
+						match(K_CASCADE);
+						}
+						break;
+					case 4:
+						{
+						setState(1288);
+						match(K_RESTRICT);
+						}
+						break;
+					case 5:
+						{
+						setState(1289);
+						match(K_NO);
+						setState(1290);
+						match(K_ACTION);
+						}
+						break;
+					}
+					}
+					break;
+				case K_MATCH:
+					{
+					setState(1293);
+					match(K_MATCH);
+					setState(1294);
+					name();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				}
+				setState(1301);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1312);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,180,_ctx) ) {
+			case 1:
+				{
+				setState(1303);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_NOT) {
+					{
+					setState(1302);
+					match(K_NOT);
+					}
+				}
+
+				setState(1305);
+				match(K_DEFERRABLE);
+				setState(1310);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,179,_ctx) ) {
+				case 1:
+					{
+					setState(1306);
+					match(K_INITIALLY);
+					setState(1307);
+					match(K_DEFERRED);
+					}
+					break;
+				case 2:
+					{
+					setState(1308);
+					match(K_INITIALLY);
+					setState(1309);
+					match(K_IMMEDIATE);
+					}
+					break;
+				}
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Raise_functionContext extends ParserRuleContext {
+		public TerminalNode K_RAISE() { return getToken(SQLiteParser.K_RAISE, 0); }
+		public TerminalNode K_IGNORE() { return getToken(SQLiteParser.K_IGNORE, 0); }
+		public Error_messageContext error_message() {
+			return getRuleContext(Error_messageContext.class,0);
+		}
+		public TerminalNode K_ROLLBACK() { return getToken(SQLiteParser.K_ROLLBACK, 0); }
+		public TerminalNode K_ABORT() { return getToken(SQLiteParser.K_ABORT, 0); }
+		public TerminalNode K_FAIL() { return getToken(SQLiteParser.K_FAIL, 0); }
+		public Raise_functionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_raise_function; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterRaise_function(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitRaise_function(this);
+		}
+	}
+
+	public final Raise_functionContext raise_function() throws RecognitionException {
+		Raise_functionContext _localctx = new Raise_functionContext(_ctx, getState());
+		enterRule(_localctx, 84, RULE_raise_function);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1314);
+			match(K_RAISE);
+			setState(1315);
+			match(OPEN_PAR);
+			setState(1320);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case K_IGNORE:
+				{
+				setState(1316);
+				match(K_IGNORE);
+				}
+				break;
+			case K_ABORT:
+			case K_FAIL:
+			case K_ROLLBACK:
+				{
+				setState(1317);
+				_la = _input.LA(1);
+				if ( !(_la==K_ABORT || _la==K_FAIL || _la==K_ROLLBACK) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(1318);
+				match(COMMA);
+				setState(1319);
+				error_message();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(1322);
+			match(CLOSE_PAR);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Indexed_columnContext extends ParserRuleContext {
+		public Column_nameContext column_name() {
+			return getRuleContext(Column_nameContext.class,0);
+		}
+		public TerminalNode K_COLLATE() { return getToken(SQLiteParser.K_COLLATE, 0); }
+		public Collation_nameContext collation_name() {
+			return getRuleContext(Collation_nameContext.class,0);
+		}
+		public TerminalNode K_ASC() { return getToken(SQLiteParser.K_ASC, 0); }
+		public TerminalNode K_DESC() { return getToken(SQLiteParser.K_DESC, 0); }
+		public Indexed_columnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_indexed_column; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterIndexed_column(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitIndexed_column(this);
+		}
+	}
+
+	public final Indexed_columnContext indexed_column() throws RecognitionException {
+		Indexed_columnContext _localctx = new Indexed_columnContext(_ctx, getState());
+		enterRule(_localctx, 86, RULE_indexed_column);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1324);
+			column_name();
+			setState(1327);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_COLLATE) {
+				{
+				setState(1325);
+				match(K_COLLATE);
+				setState(1326);
+				collation_name();
+				}
+			}
+
+			setState(1330);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_ASC || _la==K_DESC) {
+				{
+				setState(1329);
+				_la = _input.LA(1);
+				if ( !(_la==K_ASC || _la==K_DESC) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Table_constraintContext extends ParserRuleContext {
+		public List<Indexed_columnContext> indexed_column() {
+			return getRuleContexts(Indexed_columnContext.class);
+		}
+		public Indexed_columnContext indexed_column(int i) {
+			return getRuleContext(Indexed_columnContext.class,i);
+		}
+		public Conflict_clauseContext conflict_clause() {
+			return getRuleContext(Conflict_clauseContext.class,0);
+		}
+		public TerminalNode K_CHECK() { return getToken(SQLiteParser.K_CHECK, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode K_FOREIGN() { return getToken(SQLiteParser.K_FOREIGN, 0); }
+		public TerminalNode K_KEY() { return getToken(SQLiteParser.K_KEY, 0); }
+		public List<Column_nameContext> column_name() {
+			return getRuleContexts(Column_nameContext.class);
+		}
+		public Column_nameContext column_name(int i) {
+			return getRuleContext(Column_nameContext.class,i);
+		}
+		public Foreign_key_clauseContext foreign_key_clause() {
+			return getRuleContext(Foreign_key_clauseContext.class,0);
+		}
+		public TerminalNode K_CONSTRAINT() { return getToken(SQLiteParser.K_CONSTRAINT, 0); }
+		public NameContext name() {
+			return getRuleContext(NameContext.class,0);
+		}
+		public TerminalNode K_PRIMARY() { return getToken(SQLiteParser.K_PRIMARY, 0); }
+		public TerminalNode K_UNIQUE() { return getToken(SQLiteParser.K_UNIQUE, 0); }
+		public Table_constraintContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_table_constraint; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterTable_constraint(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitTable_constraint(this);
+		}
+	}
+
+	public final Table_constraintContext table_constraint() throws RecognitionException {
+		Table_constraintContext _localctx = new Table_constraintContext(_ctx, getState());
+		enterRule(_localctx, 88, RULE_table_constraint);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1334);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_CONSTRAINT) {
+				{
+				setState(1332);
+				match(K_CONSTRAINT);
+				setState(1333);
+				name();
+				}
+			}
+
+			setState(1372);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case K_PRIMARY:
+			case K_UNIQUE:
+				{
+				setState(1339);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case K_PRIMARY:
+					{
+					setState(1336);
+					match(K_PRIMARY);
+					setState(1337);
+					match(K_KEY);
+					}
+					break;
+				case K_UNIQUE:
+					{
+					setState(1338);
+					match(K_UNIQUE);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1341);
+				match(OPEN_PAR);
+				setState(1342);
+				indexed_column();
+				setState(1347);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(1343);
+					match(COMMA);
+					setState(1344);
+					indexed_column();
+					}
+					}
+					setState(1349);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1350);
+				match(CLOSE_PAR);
+				setState(1351);
+				conflict_clause();
+				}
+				break;
+			case K_CHECK:
+				{
+				setState(1353);
+				match(K_CHECK);
+				setState(1354);
+				match(OPEN_PAR);
+				setState(1355);
+				expr(0);
+				setState(1356);
+				match(CLOSE_PAR);
+				}
+				break;
+			case K_FOREIGN:
+				{
+				setState(1358);
+				match(K_FOREIGN);
+				setState(1359);
+				match(K_KEY);
+				setState(1360);
+				match(OPEN_PAR);
+				setState(1361);
+				column_name();
+				setState(1366);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(1362);
+					match(COMMA);
+					setState(1363);
+					column_name();
+					}
+					}
+					setState(1368);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1369);
+				match(CLOSE_PAR);
+				setState(1370);
+				foreign_key_clause();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class With_clauseContext extends ParserRuleContext {
+		public TerminalNode K_WITH() { return getToken(SQLiteParser.K_WITH, 0); }
+		public List<Common_table_expressionContext> common_table_expression() {
+			return getRuleContexts(Common_table_expressionContext.class);
+		}
+		public Common_table_expressionContext common_table_expression(int i) {
+			return getRuleContext(Common_table_expressionContext.class,i);
+		}
+		public TerminalNode K_RECURSIVE() { return getToken(SQLiteParser.K_RECURSIVE, 0); }
+		public With_clauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_with_clause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterWith_clause(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitWith_clause(this);
+		}
+	}
+
+	public final With_clauseContext with_clause() throws RecognitionException {
+		With_clauseContext _localctx = new With_clauseContext(_ctx, getState());
+		enterRule(_localctx, 90, RULE_with_clause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1374);
+			match(K_WITH);
+			setState(1376);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,189,_ctx) ) {
+			case 1:
+				{
+				setState(1375);
+				match(K_RECURSIVE);
+				}
+				break;
+			}
+			setState(1378);
+			common_table_expression();
+			setState(1383);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(1379);
+				match(COMMA);
+				setState(1380);
+				common_table_expression();
+				}
+				}
+				setState(1385);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Qualified_table_nameContext extends ParserRuleContext {
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public TerminalNode K_INDEXED() { return getToken(SQLiteParser.K_INDEXED, 0); }
+		public TerminalNode K_BY() { return getToken(SQLiteParser.K_BY, 0); }
+		public Index_nameContext index_name() {
+			return getRuleContext(Index_nameContext.class,0);
+		}
+		public TerminalNode K_NOT() { return getToken(SQLiteParser.K_NOT, 0); }
+		public Qualified_table_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_qualified_table_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterQualified_table_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitQualified_table_name(this);
+		}
+	}
+
+	public final Qualified_table_nameContext qualified_table_name() throws RecognitionException {
+		Qualified_table_nameContext _localctx = new Qualified_table_nameContext(_ctx, getState());
+		enterRule(_localctx, 92, RULE_qualified_table_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1389);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,191,_ctx) ) {
+			case 1:
+				{
+				setState(1386);
+				database_name();
+				setState(1387);
+				match(DOT);
+				}
+				break;
+			}
+			setState(1391);
+			table_name();
+			setState(1397);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case K_INDEXED:
+				{
+				setState(1392);
+				match(K_INDEXED);
+				setState(1393);
+				match(K_BY);
+				setState(1394);
+				index_name();
+				}
+				break;
+			case K_NOT:
+				{
+				setState(1395);
+				match(K_NOT);
+				setState(1396);
+				match(K_INDEXED);
+				}
+				break;
+			case EOF:
+			case SCOL:
+			case EXIT:
+			case BYE:
+			case QUIT:
+			case K_ALTER:
+			case K_ANALYZE:
+			case K_ATTACH:
+			case K_BEGIN:
+			case K_COMMIT:
+			case K_CREATE:
+			case K_DELETE:
+			case K_DETACH:
+			case K_DROP:
+			case K_END:
+			case K_EXPLAIN:
+			case K_INSERT:
+			case K_LIMIT:
+			case K_ORDER:
+			case K_PRAGMA:
+			case K_REINDEX:
+			case K_RELEASE:
+			case K_REPLACE:
+			case K_ROLLBACK:
+			case K_SAVEPOINT:
+			case K_SELECT:
+			case K_SET:
+			case K_UPDATE:
+			case K_VACUUM:
+			case K_VALUES:
+			case K_WHERE:
+			case K_WITH:
+			case UNEXPECTED_CHAR:
+				break;
+			default:
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Ordering_termContext extends ParserRuleContext {
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode K_COLLATE() { return getToken(SQLiteParser.K_COLLATE, 0); }
+		public Collation_nameContext collation_name() {
+			return getRuleContext(Collation_nameContext.class,0);
+		}
+		public TerminalNode K_ASC() { return getToken(SQLiteParser.K_ASC, 0); }
+		public TerminalNode K_DESC() { return getToken(SQLiteParser.K_DESC, 0); }
+		public Ordering_termContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ordering_term; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterOrdering_term(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitOrdering_term(this);
+		}
+	}
+
+	public final Ordering_termContext ordering_term() throws RecognitionException {
+		Ordering_termContext _localctx = new Ordering_termContext(_ctx, getState());
+		enterRule(_localctx, 94, RULE_ordering_term);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1399);
+			expr(0);
+			setState(1402);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_COLLATE) {
+				{
+				setState(1400);
+				match(K_COLLATE);
+				setState(1401);
+				collation_name();
+				}
+			}
+
+			setState(1405);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_ASC || _la==K_DESC) {
+				{
+				setState(1404);
+				_la = _input.LA(1);
+				if ( !(_la==K_ASC || _la==K_DESC) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Pragma_valueContext extends ParserRuleContext {
+		public Signed_numberContext signed_number() {
+			return getRuleContext(Signed_numberContext.class,0);
+		}
+		public NameContext name() {
+			return getRuleContext(NameContext.class,0);
+		}
+		public TerminalNode STRING_LITERAL() { return getToken(SQLiteParser.STRING_LITERAL, 0); }
+		public Pragma_valueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pragma_value; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterPragma_value(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitPragma_value(this);
+		}
+	}
+
+	public final Pragma_valueContext pragma_value() throws RecognitionException {
+		Pragma_valueContext _localctx = new Pragma_valueContext(_ctx, getState());
+		enterRule(_localctx, 96, RULE_pragma_value);
+		try {
+			setState(1410);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,195,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1407);
+				signed_number();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1408);
+				name();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1409);
+				match(STRING_LITERAL);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Common_table_expressionContext extends ParserRuleContext {
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_AS() { return getToken(SQLiteParser.K_AS, 0); }
+		public Select_stmtContext select_stmt() {
+			return getRuleContext(Select_stmtContext.class,0);
+		}
+		public List<Column_nameContext> column_name() {
+			return getRuleContexts(Column_nameContext.class);
+		}
+		public Column_nameContext column_name(int i) {
+			return getRuleContext(Column_nameContext.class,i);
+		}
+		public Common_table_expressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_common_table_expression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterCommon_table_expression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitCommon_table_expression(this);
+		}
+	}
+
+	public final Common_table_expressionContext common_table_expression() throws RecognitionException {
+		Common_table_expressionContext _localctx = new Common_table_expressionContext(_ctx, getState());
+		enterRule(_localctx, 98, RULE_common_table_expression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1412);
+			table_name();
+			setState(1424);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==OPEN_PAR) {
+				{
+				setState(1413);
+				match(OPEN_PAR);
+				setState(1414);
+				column_name();
+				setState(1419);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(1415);
+					match(COMMA);
+					setState(1416);
+					column_name();
+					}
+					}
+					setState(1421);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1422);
+				match(CLOSE_PAR);
+				}
+			}
+
+			setState(1426);
+			match(K_AS);
+			setState(1427);
+			match(OPEN_PAR);
+			setState(1428);
+			select_stmt();
+			setState(1429);
+			match(CLOSE_PAR);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Result_columnContext extends ParserRuleContext {
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public Column_aliasContext column_alias() {
+			return getRuleContext(Column_aliasContext.class,0);
+		}
+		public TerminalNode K_AS() { return getToken(SQLiteParser.K_AS, 0); }
+		public Result_columnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_result_column; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterResult_column(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitResult_column(this);
+		}
+	}
+
+	public final Result_columnContext result_column() throws RecognitionException {
+		Result_columnContext _localctx = new Result_columnContext(_ctx, getState());
+		enterRule(_localctx, 100, RULE_result_column);
+		int _la;
+		try {
+			setState(1443);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,200,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1431);
+				match(STAR);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1432);
+				table_name();
+				setState(1433);
+				match(DOT);
+				setState(1434);
+				match(STAR);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1436);
+				expr(0);
+				setState(1441);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_AS || _la==IDENTIFIER || _la==STRING_LITERAL) {
+					{
+					setState(1438);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==K_AS) {
+						{
+						setState(1437);
+						match(K_AS);
+						}
+					}
+
+					setState(1440);
+					column_alias();
+					}
+				}
+
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Table_or_subqueryContext extends ParserRuleContext {
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public Schema_nameContext schema_name() {
+			return getRuleContext(Schema_nameContext.class,0);
+		}
+		public Table_aliasContext table_alias() {
+			return getRuleContext(Table_aliasContext.class,0);
+		}
+		public TerminalNode K_INDEXED() { return getToken(SQLiteParser.K_INDEXED, 0); }
+		public TerminalNode K_BY() { return getToken(SQLiteParser.K_BY, 0); }
+		public Index_nameContext index_name() {
+			return getRuleContext(Index_nameContext.class,0);
+		}
+		public TerminalNode K_NOT() { return getToken(SQLiteParser.K_NOT, 0); }
+		public TerminalNode K_AS() { return getToken(SQLiteParser.K_AS, 0); }
+		public Table_function_nameContext table_function_name() {
+			return getRuleContext(Table_function_nameContext.class,0);
+		}
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public List<Table_or_subqueryContext> table_or_subquery() {
+			return getRuleContexts(Table_or_subqueryContext.class);
+		}
+		public Table_or_subqueryContext table_or_subquery(int i) {
+			return getRuleContext(Table_or_subqueryContext.class,i);
+		}
+		public Join_clauseContext join_clause() {
+			return getRuleContext(Join_clauseContext.class,0);
+		}
+		public Select_stmtContext select_stmt() {
+			return getRuleContext(Select_stmtContext.class,0);
+		}
+		public Table_or_subqueryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_table_or_subquery; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterTable_or_subquery(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitTable_or_subquery(this);
+		}
+	}
+
+	public final Table_or_subqueryContext table_or_subquery() throws RecognitionException {
+		Table_or_subqueryContext _localctx = new Table_or_subqueryContext(_ctx, getState());
+		enterRule(_localctx, 102, RULE_table_or_subquery);
+		int _la;
+		try {
+			setState(1511);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,214,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1448);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,201,_ctx) ) {
+				case 1:
+					{
+					setState(1445);
+					schema_name();
+					setState(1446);
+					match(DOT);
+					}
+					break;
+				}
+				setState(1450);
+				table_name();
+				setState(1455);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==OPEN_PAR || _la==K_AS || _la==IDENTIFIER || _la==STRING_LITERAL) {
+					{
+					setState(1452);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==K_AS) {
+						{
+						setState(1451);
+						match(K_AS);
+						}
+					}
+
+					setState(1454);
+					table_alias();
+					}
+				}
+
+				setState(1462);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case K_INDEXED:
+					{
+					setState(1457);
+					match(K_INDEXED);
+					setState(1458);
+					match(K_BY);
+					setState(1459);
+					index_name();
+					}
+					break;
+				case K_NOT:
+					{
+					setState(1460);
+					match(K_NOT);
+					setState(1461);
+					match(K_INDEXED);
+					}
+					break;
+				case EOF:
+				case SCOL:
+				case CLOSE_PAR:
+				case COMMA:
+				case EXIT:
+				case BYE:
+				case QUIT:
+				case K_ALTER:
+				case K_ANALYZE:
+				case K_ATTACH:
+				case K_BEGIN:
+				case K_COMMIT:
+				case K_CREATE:
+				case K_CROSS:
+				case K_DELETE:
+				case K_DETACH:
+				case K_DROP:
+				case K_END:
+				case K_EXCEPT:
+				case K_EXPLAIN:
+				case K_GROUP:
+				case K_INNER:
+				case K_INSERT:
+				case K_INTERSECT:
+				case K_JOIN:
+				case K_LEFT:
+				case K_LIMIT:
+				case K_NATURAL:
+				case K_ON:
+				case K_ORDER:
+				case K_PRAGMA:
+				case K_REINDEX:
+				case K_RELEASE:
+				case K_REPLACE:
+				case K_ROLLBACK:
+				case K_SAVEPOINT:
+				case K_SELECT:
+				case K_UNION:
+				case K_UPDATE:
+				case K_USING:
+				case K_VACUUM:
+				case K_VALUES:
+				case K_WHERE:
+				case K_WITH:
+				case UNEXPECTED_CHAR:
+					break;
+				default:
+					break;
+				}
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1467);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,205,_ctx) ) {
+				case 1:
+					{
+					setState(1464);
+					schema_name();
+					setState(1465);
+					match(DOT);
+					}
+					break;
+				}
+				setState(1469);
+				table_function_name();
+				setState(1470);
+				match(OPEN_PAR);
+				setState(1479);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << OPEN_PAR) | (1L << PLUS) | (1L << MINUS) | (1L << TILDE) | (1L << K_ABORT) | (1L << K_ACTION) | (1L << K_ADD) | (1L << K_AFTER) | (1L << K_ALL) | (1L << K_ALTER) | (1L << K_ANALYZE) | (1L << K_AND) | (1L << K_AS) | (1L << K_ASC) | (1L << K_ATTACH) | (1L << K_AUTOINCREMENT) | (1L << K_BEFORE) | (1L << K_BEGIN) | (1L << K_BETWEEN) | (1L << K_BY) | (1L << K_CASCADE) | (1L << K_CASE) | (1L << K_CAST) | (1L << K_CHECK) | (1L << K_COLLATE) | (1L << K_COLUMN) | (1L << K_COMMIT) | (1L << K_CONFLICT) | (1L << K_CONSTRAINT) | (1L << K_CREATE) | (1L << K_CROSS) | (1L << K_CURRENT_DATE) | (1L << K_CURRENT_TIME) | (1L << K_CURRENT_TIMESTAMP) | (1L << K_DATABASE) | (1L << K_DEFAULT) | (1L << K_DEFERRABLE) | (1L << K_DEFERRED) | (1L << K_DELETE) | (1L << K_DESC))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (K_DETACH - 64)) | (1L << (K_DISTINCT - 64)) | (1L << (K_DROP - 64)) | (1L << (K_EACH - 64)) | (1L << (K_ELSE - 64)) | (1L << (K_END - 64)) | (1L << (K_ESCAPE - 64)) | (1L << (K_EXCEPT - 64)) | (1L << (K_EXCLUSIVE - 64)) | (1L << (K_EXISTS - 64)) | (1L << (K_EXPLAIN - 64)) | (1L << (K_FAIL - 64)) | (1L << (K_FOR - 64)) | (1L << (K_FOREIGN - 64)) | (1L << (K_FROM - 64)) | (1L << (K_FULL - 64)) | (1L << (K_GLOB - 64)) | (1L << (K_GROUP - 64)) | (1L << (K_HAVING - 64)) | (1L << (K_IF - 64)) | (1L << (K_IGNORE - 64)) | (1L << (K_IMMEDIATE - 64)) | (1L << (K_IN - 64)) | (1L << (K_INDEX - 64)) | (1L << (K_INDEXED - 64)) | (1L << (K_INITIALLY - 64)) | (1L << (K_INNER - 64)) | (1L << (K_INSERT - 64)) | (1L << (K_INSTEAD - 64)) | (1L << (K_INTERSECT - 64)) | (1L << (K_INTO - 64)) | (1L << (K_IS - 64)) | (1L << (K_ISNULL - 64)) | (1L << (K_JOIN - 64)) | (1L << (K_KEY - 64)) | (1L << (K_LEFT - 64)) | (1L << (K_LIKE - 64)) | (1L << (K_LIMIT - 64)) | (1L << (K_MATCH - 64)) | (1L << (K_NATURAL - 64)) | (1L << (K_NO - 64)) | (1L << (K_NOT - 64)) | (1L << (K_NOTNULL - 64)) | (1L << (K_NULL - 64)) | (1L << (K_OF - 64)) | (1L << (K_OFFSET - 64)) | (1L << (K_ON - 64)) | (1L << (K_OR - 64)) | (1L << (K_ORDER - 64)) | (1L << (K_OUTER - 64)) | (1L << (K_PLAN - 64)) | (1L << (K_PRAGMA - 64)) | (1L << (K_PRIMARY - 64)) | (1L << (K_QUERY - 64)) | (1L << (K_RAISE - 64)) | (1L << (K_RECURSIVE - 64)) | (1L << (K_REFERENCES - 64)) | (1L << (K_REGEXP - 64)) | (1L << (K_REINDEX - 64)) | (1L << (K_RELEASE - 64)) | (1L << (K_RENAME - 64)) | (1L << (K_REPLACE - 64)) | (1L << (K_RESTRICT - 64)) | (1L << (K_RIGHT - 64)))) != 0) || ((((_la - 128)) & ~0x3f) == 0 && ((1L << (_la - 128)) & ((1L << (K_ROLLBACK - 128)) | (1L << (K_ROW - 128)) | (1L << (K_SAVEPOINT - 128)) | (1L << (K_SELECT - 128)) | (1L << (K_SET - 128)) | (1L << (K_TABLE - 128)) | (1L << (K_TEMP - 128)) | (1L << (K_TEMPORARY - 128)) | (1L << (K_THEN - 128)) | (1L << (K_TO - 128)) | (1L << (K_TRANSACTION - 128)) | (1L << (K_TRIGGER - 128)) | (1L << (K_UNION - 128)) | (1L << (K_UNIQUE - 128)) | (1L << (K_UPDATE - 128)) | (1L << (K_USING - 128)) | (1L << (K_VACUUM - 128)) | (1L << (K_VALUES - 128)) | (1L << (K_VIEW - 128)) | (1L << (K_VIRTUAL - 128)) | (1L << (K_WHEN - 128)) | (1L << (K_WHERE - 128)) | (1L << (K_WITH - 128)) | (1L << (K_WITHOUT - 128)) | (1L << (IDENTIFIER - 128)) | (1L << (NUMERIC_LITERAL - 128)) | (1L << (BIND_PARAMETER - 128)) | (1L << (STRING_LITERAL - 128)) | (1L << (BLOB_LITERAL - 128)))) != 0)) {
+					{
+					setState(1471);
+					expr(0);
+					setState(1476);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(1472);
+						match(COMMA);
+						setState(1473);
+						expr(0);
+						}
+						}
+						setState(1478);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				setState(1481);
+				match(CLOSE_PAR);
+				setState(1486);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==OPEN_PAR || _la==K_AS || _la==IDENTIFIER || _la==STRING_LITERAL) {
+					{
+					setState(1483);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==K_AS) {
+						{
+						setState(1482);
+						match(K_AS);
+						}
+					}
+
+					setState(1485);
+					table_alias();
+					}
+				}
+
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1488);
+				match(OPEN_PAR);
+				setState(1498);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,211,_ctx) ) {
+				case 1:
+					{
+					setState(1489);
+					table_or_subquery();
+					setState(1494);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(1490);
+						match(COMMA);
+						setState(1491);
+						table_or_subquery();
+						}
+						}
+						setState(1496);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+					break;
+				case 2:
+					{
+					setState(1497);
+					join_clause();
+					}
+					break;
+				}
+				setState(1500);
+				match(CLOSE_PAR);
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1502);
+				match(OPEN_PAR);
+				setState(1503);
+				select_stmt();
+				setState(1504);
+				match(CLOSE_PAR);
+				setState(1509);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==OPEN_PAR || _la==K_AS || _la==IDENTIFIER || _la==STRING_LITERAL) {
+					{
+					setState(1506);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==K_AS) {
+						{
+						setState(1505);
+						match(K_AS);
+						}
+					}
+
+					setState(1508);
+					table_alias();
+					}
+				}
+
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Join_clauseContext extends ParserRuleContext {
+		public List<Table_or_subqueryContext> table_or_subquery() {
+			return getRuleContexts(Table_or_subqueryContext.class);
+		}
+		public Table_or_subqueryContext table_or_subquery(int i) {
+			return getRuleContext(Table_or_subqueryContext.class,i);
+		}
+		public List<Join_operatorContext> join_operator() {
+			return getRuleContexts(Join_operatorContext.class);
+		}
+		public Join_operatorContext join_operator(int i) {
+			return getRuleContext(Join_operatorContext.class,i);
+		}
+		public List<Join_constraintContext> join_constraint() {
+			return getRuleContexts(Join_constraintContext.class);
+		}
+		public Join_constraintContext join_constraint(int i) {
+			return getRuleContext(Join_constraintContext.class,i);
+		}
+		public Join_clauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_join_clause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterJoin_clause(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitJoin_clause(this);
+		}
+	}
+
+	public final Join_clauseContext join_clause() throws RecognitionException {
+		Join_clauseContext _localctx = new Join_clauseContext(_ctx, getState());
+		enterRule(_localctx, 104, RULE_join_clause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1513);
+			table_or_subquery();
+			setState(1520);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA || _la==K_CROSS || ((((_la - 90)) & ~0x3f) == 0 && ((1L << (_la - 90)) & ((1L << (K_INNER - 90)) | (1L << (K_JOIN - 90)) | (1L << (K_LEFT - 90)) | (1L << (K_NATURAL - 90)))) != 0)) {
+				{
+				{
+				setState(1514);
+				join_operator();
+				setState(1515);
+				table_or_subquery();
+				setState(1516);
+				join_constraint();
+				}
+				}
+				setState(1522);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Join_operatorContext extends ParserRuleContext {
+		public TerminalNode K_JOIN() { return getToken(SQLiteParser.K_JOIN, 0); }
+		public TerminalNode K_NATURAL() { return getToken(SQLiteParser.K_NATURAL, 0); }
+		public TerminalNode K_LEFT() { return getToken(SQLiteParser.K_LEFT, 0); }
+		public TerminalNode K_INNER() { return getToken(SQLiteParser.K_INNER, 0); }
+		public TerminalNode K_CROSS() { return getToken(SQLiteParser.K_CROSS, 0); }
+		public TerminalNode K_OUTER() { return getToken(SQLiteParser.K_OUTER, 0); }
+		public Join_operatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_join_operator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterJoin_operator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitJoin_operator(this);
+		}
+	}
+
+	public final Join_operatorContext join_operator() throws RecognitionException {
+		Join_operatorContext _localctx = new Join_operatorContext(_ctx, getState());
+		enterRule(_localctx, 106, RULE_join_operator);
+		int _la;
+		try {
+			setState(1536);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case COMMA:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1523);
+				match(COMMA);
+				}
+				break;
+			case K_CROSS:
+			case K_INNER:
+			case K_JOIN:
+			case K_LEFT:
+			case K_NATURAL:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1525);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_NATURAL) {
+					{
+					setState(1524);
+					match(K_NATURAL);
+					}
+				}
+
+				setState(1533);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case K_LEFT:
+					{
+					setState(1527);
+					match(K_LEFT);
+					setState(1529);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==K_OUTER) {
+						{
+						setState(1528);
+						match(K_OUTER);
+						}
+					}
+
+					}
+					break;
+				case K_INNER:
+					{
+					setState(1531);
+					match(K_INNER);
+					}
+					break;
+				case K_CROSS:
+					{
+					setState(1532);
+					match(K_CROSS);
+					}
+					break;
+				case K_JOIN:
+					break;
+				default:
+					break;
+				}
+				setState(1535);
+				match(K_JOIN);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Join_constraintContext extends ParserRuleContext {
+		public TerminalNode K_ON() { return getToken(SQLiteParser.K_ON, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode K_USING() { return getToken(SQLiteParser.K_USING, 0); }
+		public List<Column_nameContext> column_name() {
+			return getRuleContexts(Column_nameContext.class);
+		}
+		public Column_nameContext column_name(int i) {
+			return getRuleContext(Column_nameContext.class,i);
+		}
+		public Join_constraintContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_join_constraint; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterJoin_constraint(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitJoin_constraint(this);
+		}
+	}
+
+	public final Join_constraintContext join_constraint() throws RecognitionException {
+		Join_constraintContext _localctx = new Join_constraintContext(_ctx, getState());
+		enterRule(_localctx, 108, RULE_join_constraint);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1552);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case K_ON:
+				{
+				setState(1538);
+				match(K_ON);
+				setState(1539);
+				expr(0);
+				}
+				break;
+			case K_USING:
+				{
+				setState(1540);
+				match(K_USING);
+				setState(1541);
+				match(OPEN_PAR);
+				setState(1542);
+				column_name();
+				setState(1547);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(1543);
+					match(COMMA);
+					setState(1544);
+					column_name();
+					}
+					}
+					setState(1549);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1550);
+				match(CLOSE_PAR);
+				}
+				break;
+			case EOF:
+			case SCOL:
+			case CLOSE_PAR:
+			case COMMA:
+			case EXIT:
+			case BYE:
+			case QUIT:
+			case K_ALTER:
+			case K_ANALYZE:
+			case K_ATTACH:
+			case K_BEGIN:
+			case K_COMMIT:
+			case K_CREATE:
+			case K_CROSS:
+			case K_DELETE:
+			case K_DETACH:
+			case K_DROP:
+			case K_END:
+			case K_EXCEPT:
+			case K_EXPLAIN:
+			case K_GROUP:
+			case K_INNER:
+			case K_INSERT:
+			case K_INTERSECT:
+			case K_JOIN:
+			case K_LEFT:
+			case K_LIMIT:
+			case K_NATURAL:
+			case K_ORDER:
+			case K_PRAGMA:
+			case K_REINDEX:
+			case K_RELEASE:
+			case K_REPLACE:
+			case K_ROLLBACK:
+			case K_SAVEPOINT:
+			case K_SELECT:
+			case K_UNION:
+			case K_UPDATE:
+			case K_VACUUM:
+			case K_VALUES:
+			case K_WHERE:
+			case K_WITH:
+			case UNEXPECTED_CHAR:
+				break;
+			default:
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Select_coreContext extends ParserRuleContext {
+		public TerminalNode K_SELECT() { return getToken(SQLiteParser.K_SELECT, 0); }
+		public List<Result_columnContext> result_column() {
+			return getRuleContexts(Result_columnContext.class);
+		}
+		public Result_columnContext result_column(int i) {
+			return getRuleContext(Result_columnContext.class,i);
+		}
+		public TerminalNode K_FROM() { return getToken(SQLiteParser.K_FROM, 0); }
+		public TerminalNode K_WHERE() { return getToken(SQLiteParser.K_WHERE, 0); }
+		public Where_clauseContext where_clause() {
+			return getRuleContext(Where_clauseContext.class,0);
+		}
+		public TerminalNode K_GROUP() { return getToken(SQLiteParser.K_GROUP, 0); }
+		public TerminalNode K_BY() { return getToken(SQLiteParser.K_BY, 0); }
+		public Group_clauseContext group_clause() {
+			return getRuleContext(Group_clauseContext.class,0);
+		}
+		public TerminalNode K_DISTINCT() { return getToken(SQLiteParser.K_DISTINCT, 0); }
+		public TerminalNode K_ALL() { return getToken(SQLiteParser.K_ALL, 0); }
+		public List<Table_or_subqueryContext> table_or_subquery() {
+			return getRuleContexts(Table_or_subqueryContext.class);
+		}
+		public Table_or_subqueryContext table_or_subquery(int i) {
+			return getRuleContext(Table_or_subqueryContext.class,i);
+		}
+		public Join_clauseContext join_clause() {
+			return getRuleContext(Join_clauseContext.class,0);
+		}
+		public TerminalNode K_HAVING() { return getToken(SQLiteParser.K_HAVING, 0); }
+		public Having_cluaseContext having_cluase() {
+			return getRuleContext(Having_cluaseContext.class,0);
+		}
+		public TerminalNode K_VALUES() { return getToken(SQLiteParser.K_VALUES, 0); }
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public Select_coreContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_select_core; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterSelect_core(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitSelect_core(this);
+		}
+	}
+
+	public final Select_coreContext select_core() throws RecognitionException {
+		Select_coreContext _localctx = new Select_coreContext(_ctx, getState());
+		enterRule(_localctx, 110, RULE_select_core);
+		int _la;
+		try {
+			setState(1621);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case K_SELECT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1554);
+				match(K_SELECT);
+				setState(1556);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,222,_ctx) ) {
+				case 1:
+					{
+					setState(1555);
+					_la = _input.LA(1);
+					if ( !(_la==K_ALL || _la==K_DISTINCT) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					}
+					break;
+				}
+				setState(1558);
+				result_column();
+				setState(1563);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(1559);
+					match(COMMA);
+					setState(1560);
+					result_column();
+					}
+					}
+					setState(1565);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1578);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_FROM) {
+					{
+					setState(1566);
+					match(K_FROM);
+					setState(1576);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,225,_ctx) ) {
+					case 1:
+						{
+						setState(1567);
+						table_or_subquery();
+						setState(1572);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						while (_la==COMMA) {
+							{
+							{
+							setState(1568);
+							match(COMMA);
+							setState(1569);
+							table_or_subquery();
+							}
+							}
+							setState(1574);
+							_errHandler.sync(this);
+							_la = _input.LA(1);
+						}
+						}
+						break;
+					case 2:
+						{
+						setState(1575);
+						join_clause();
+						}
+						break;
+					}
+					}
+				}
+
+				setState(1582);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_WHERE) {
+					{
+					setState(1580);
+					match(K_WHERE);
+					setState(1581);
+					where_clause();
+					}
+				}
+
+				setState(1591);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==K_GROUP) {
+					{
+					setState(1584);
+					match(K_GROUP);
+					setState(1585);
+					match(K_BY);
+					setState(1586);
+					group_clause();
+					setState(1589);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==K_HAVING) {
+						{
+						setState(1587);
+						match(K_HAVING);
+						setState(1588);
+						having_cluase();
+						}
+					}
+
+					}
+				}
+
+				}
+				break;
+			case K_VALUES:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1593);
+				match(K_VALUES);
+				setState(1594);
+				match(OPEN_PAR);
+				setState(1595);
+				expr(0);
+				setState(1600);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(1596);
+					match(COMMA);
+					setState(1597);
+					expr(0);
+					}
+					}
+					setState(1602);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1603);
+				match(CLOSE_PAR);
+				setState(1618);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(1604);
+					match(COMMA);
+					setState(1605);
+					match(OPEN_PAR);
+					setState(1606);
+					expr(0);
+					setState(1611);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(1607);
+						match(COMMA);
+						setState(1608);
+						expr(0);
+						}
+						}
+						setState(1613);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					setState(1614);
+					match(CLOSE_PAR);
+					}
+					}
+					setState(1620);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Where_clauseContext extends ParserRuleContext {
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public Where_clauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_where_clause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterWhere_clause(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitWhere_clause(this);
+		}
+	}
+
+	public final Where_clauseContext where_clause() throws RecognitionException {
+		Where_clauseContext _localctx = new Where_clauseContext(_ctx, getState());
+		enterRule(_localctx, 112, RULE_where_clause);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1623);
+			expr(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Group_clauseContext extends ParserRuleContext {
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public Group_clauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_group_clause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterGroup_clause(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitGroup_clause(this);
+		}
+	}
+
+	public final Group_clauseContext group_clause() throws RecognitionException {
+		Group_clauseContext _localctx = new Group_clauseContext(_ctx, getState());
+		enterRule(_localctx, 114, RULE_group_clause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1625);
+			expr(0);
+			setState(1630);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(1626);
+				match(COMMA);
+				setState(1627);
+				expr(0);
+				}
+				}
+				setState(1632);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Having_cluaseContext extends ParserRuleContext {
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public Having_cluaseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_having_cluase; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterHaving_cluase(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitHaving_cluase(this);
+		}
+	}
+
+	public final Having_cluaseContext having_cluase() throws RecognitionException {
+		Having_cluaseContext _localctx = new Having_cluaseContext(_ctx, getState());
+		enterRule(_localctx, 116, RULE_having_cluase);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1633);
+			expr(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Compound_operatorContext extends ParserRuleContext {
+		public TerminalNode K_UNION() { return getToken(SQLiteParser.K_UNION, 0); }
+		public TerminalNode K_ALL() { return getToken(SQLiteParser.K_ALL, 0); }
+		public TerminalNode K_INTERSECT() { return getToken(SQLiteParser.K_INTERSECT, 0); }
+		public TerminalNode K_EXCEPT() { return getToken(SQLiteParser.K_EXCEPT, 0); }
+		public Compound_operatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_compound_operator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterCompound_operator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitCompound_operator(this);
+		}
+	}
+
+	public final Compound_operatorContext compound_operator() throws RecognitionException {
+		Compound_operatorContext _localctx = new Compound_operatorContext(_ctx, getState());
+		enterRule(_localctx, 118, RULE_compound_operator);
+		try {
+			setState(1640);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,235,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1635);
+				match(K_UNION);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1636);
+				match(K_UNION);
+				setState(1637);
+				match(K_ALL);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1638);
+				match(K_INTERSECT);
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1639);
+				match(K_EXCEPT);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Signed_numberContext extends ParserRuleContext {
+		public TerminalNode NUMERIC_LITERAL() { return getToken(SQLiteParser.NUMERIC_LITERAL, 0); }
+		public Signed_numberContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_signed_number; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterSigned_number(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitSigned_number(this);
+		}
+	}
+
+	public final Signed_numberContext signed_number() throws RecognitionException {
+		Signed_numberContext _localctx = new Signed_numberContext(_ctx, getState());
+		enterRule(_localctx, 120, RULE_signed_number);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1643);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==PLUS || _la==MINUS) {
+				{
+				setState(1642);
+				_la = _input.LA(1);
+				if ( !(_la==PLUS || _la==MINUS) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			setState(1645);
+			match(NUMERIC_LITERAL);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Literal_valueContext extends ParserRuleContext {
+		public TerminalNode NUMERIC_LITERAL() { return getToken(SQLiteParser.NUMERIC_LITERAL, 0); }
+		public TerminalNode STRING_LITERAL() { return getToken(SQLiteParser.STRING_LITERAL, 0); }
+		public TerminalNode BLOB_LITERAL() { return getToken(SQLiteParser.BLOB_LITERAL, 0); }
+		public TerminalNode K_NULL() { return getToken(SQLiteParser.K_NULL, 0); }
+		public TerminalNode K_CURRENT_TIME() { return getToken(SQLiteParser.K_CURRENT_TIME, 0); }
+		public TerminalNode K_CURRENT_DATE() { return getToken(SQLiteParser.K_CURRENT_DATE, 0); }
+		public TerminalNode K_CURRENT_TIMESTAMP() { return getToken(SQLiteParser.K_CURRENT_TIMESTAMP, 0); }
+		public Literal_valueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_literal_value; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterLiteral_value(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitLiteral_value(this);
+		}
+	}
+
+	public final Literal_valueContext literal_value() throws RecognitionException {
+		Literal_valueContext _localctx = new Literal_valueContext(_ctx, getState());
+		enterRule(_localctx, 122, RULE_literal_value);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1647);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << K_CURRENT_DATE) | (1L << K_CURRENT_TIME) | (1L << K_CURRENT_TIMESTAMP))) != 0) || ((((_la - 107)) & ~0x3f) == 0 && ((1L << (_la - 107)) & ((1L << (K_NULL - 107)) | (1L << (NUMERIC_LITERAL - 107)) | (1L << (STRING_LITERAL - 107)) | (1L << (BLOB_LITERAL - 107)))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Unary_operatorContext extends ParserRuleContext {
+		public TerminalNode K_NOT() { return getToken(SQLiteParser.K_NOT, 0); }
+		public Unary_operatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unary_operator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterUnary_operator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitUnary_operator(this);
+		}
+	}
+
+	public final Unary_operatorContext unary_operator() throws RecognitionException {
+		Unary_operatorContext _localctx = new Unary_operatorContext(_ctx, getState());
+		enterRule(_localctx, 124, RULE_unary_operator);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1649);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << PLUS) | (1L << MINUS) | (1L << TILDE))) != 0) || _la==K_NOT) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Error_messageContext extends ParserRuleContext {
+		public TerminalNode STRING_LITERAL() { return getToken(SQLiteParser.STRING_LITERAL, 0); }
+		public Error_messageContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_error_message; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterError_message(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitError_message(this);
+		}
+	}
+
+	public final Error_messageContext error_message() throws RecognitionException {
+		Error_messageContext _localctx = new Error_messageContext(_ctx, getState());
+		enterRule(_localctx, 126, RULE_error_message);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1651);
+			match(STRING_LITERAL);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Module_argumentContext extends ParserRuleContext {
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public Column_defContext column_def() {
+			return getRuleContext(Column_defContext.class,0);
+		}
+		public Module_argumentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_module_argument; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterModule_argument(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitModule_argument(this);
+		}
+	}
+
+	public final Module_argumentContext module_argument() throws RecognitionException {
+		Module_argumentContext _localctx = new Module_argumentContext(_ctx, getState());
+		enterRule(_localctx, 128, RULE_module_argument);
+		try {
+			setState(1655);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,237,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1653);
+				expr(0);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1654);
+				column_def();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Column_aliasContext extends ParserRuleContext {
+		public TerminalNode IDENTIFIER() { return getToken(SQLiteParser.IDENTIFIER, 0); }
+		public TerminalNode STRING_LITERAL() { return getToken(SQLiteParser.STRING_LITERAL, 0); }
+		public Column_aliasContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_column_alias; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterColumn_alias(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitColumn_alias(this);
+		}
+	}
+
+	public final Column_aliasContext column_alias() throws RecognitionException {
+		Column_aliasContext _localctx = new Column_aliasContext(_ctx, getState());
+		enterRule(_localctx, 130, RULE_column_alias);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1657);
+			_la = _input.LA(1);
+			if ( !(_la==IDENTIFIER || _la==STRING_LITERAL) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class KeywordContext extends ParserRuleContext {
+		public TerminalNode K_ABORT() { return getToken(SQLiteParser.K_ABORT, 0); }
+		public TerminalNode K_ACTION() { return getToken(SQLiteParser.K_ACTION, 0); }
+		public TerminalNode K_ADD() { return getToken(SQLiteParser.K_ADD, 0); }
+		public TerminalNode K_AFTER() { return getToken(SQLiteParser.K_AFTER, 0); }
+		public TerminalNode K_ALL() { return getToken(SQLiteParser.K_ALL, 0); }
+		public TerminalNode K_ALTER() { return getToken(SQLiteParser.K_ALTER, 0); }
+		public TerminalNode K_ANALYZE() { return getToken(SQLiteParser.K_ANALYZE, 0); }
+		public TerminalNode K_AND() { return getToken(SQLiteParser.K_AND, 0); }
+		public TerminalNode K_AS() { return getToken(SQLiteParser.K_AS, 0); }
+		public TerminalNode K_ASC() { return getToken(SQLiteParser.K_ASC, 0); }
+		public TerminalNode K_ATTACH() { return getToken(SQLiteParser.K_ATTACH, 0); }
+		public TerminalNode K_AUTOINCREMENT() { return getToken(SQLiteParser.K_AUTOINCREMENT, 0); }
+		public TerminalNode K_BEFORE() { return getToken(SQLiteParser.K_BEFORE, 0); }
+		public TerminalNode K_BEGIN() { return getToken(SQLiteParser.K_BEGIN, 0); }
+		public TerminalNode K_BETWEEN() { return getToken(SQLiteParser.K_BETWEEN, 0); }
+		public TerminalNode K_BY() { return getToken(SQLiteParser.K_BY, 0); }
+		public TerminalNode K_CASCADE() { return getToken(SQLiteParser.K_CASCADE, 0); }
+		public TerminalNode K_CASE() { return getToken(SQLiteParser.K_CASE, 0); }
+		public TerminalNode K_CAST() { return getToken(SQLiteParser.K_CAST, 0); }
+		public TerminalNode K_CHECK() { return getToken(SQLiteParser.K_CHECK, 0); }
+		public TerminalNode K_COLLATE() { return getToken(SQLiteParser.K_COLLATE, 0); }
+		public TerminalNode K_COLUMN() { return getToken(SQLiteParser.K_COLUMN, 0); }
+		public TerminalNode K_COMMIT() { return getToken(SQLiteParser.K_COMMIT, 0); }
+		public TerminalNode K_CONFLICT() { return getToken(SQLiteParser.K_CONFLICT, 0); }
+		public TerminalNode K_CONSTRAINT() { return getToken(SQLiteParser.K_CONSTRAINT, 0); }
+		public TerminalNode K_CREATE() { return getToken(SQLiteParser.K_CREATE, 0); }
+		public TerminalNode K_CROSS() { return getToken(SQLiteParser.K_CROSS, 0); }
+		public TerminalNode K_CURRENT_DATE() { return getToken(SQLiteParser.K_CURRENT_DATE, 0); }
+		public TerminalNode K_CURRENT_TIME() { return getToken(SQLiteParser.K_CURRENT_TIME, 0); }
+		public TerminalNode K_CURRENT_TIMESTAMP() { return getToken(SQLiteParser.K_CURRENT_TIMESTAMP, 0); }
+		public TerminalNode K_DATABASE() { return getToken(SQLiteParser.K_DATABASE, 0); }
+		public TerminalNode K_DEFAULT() { return getToken(SQLiteParser.K_DEFAULT, 0); }
+		public TerminalNode K_DEFERRABLE() { return getToken(SQLiteParser.K_DEFERRABLE, 0); }
+		public TerminalNode K_DEFERRED() { return getToken(SQLiteParser.K_DEFERRED, 0); }
+		public TerminalNode K_DELETE() { return getToken(SQLiteParser.K_DELETE, 0); }
+		public TerminalNode K_DESC() { return getToken(SQLiteParser.K_DESC, 0); }
+		public TerminalNode K_DETACH() { return getToken(SQLiteParser.K_DETACH, 0); }
+		public TerminalNode K_DISTINCT() { return getToken(SQLiteParser.K_DISTINCT, 0); }
+		public TerminalNode K_DROP() { return getToken(SQLiteParser.K_DROP, 0); }
+		public TerminalNode K_EACH() { return getToken(SQLiteParser.K_EACH, 0); }
+		public TerminalNode K_ELSE() { return getToken(SQLiteParser.K_ELSE, 0); }
+		public TerminalNode K_END() { return getToken(SQLiteParser.K_END, 0); }
+		public TerminalNode K_ESCAPE() { return getToken(SQLiteParser.K_ESCAPE, 0); }
+		public TerminalNode K_EXCEPT() { return getToken(SQLiteParser.K_EXCEPT, 0); }
+		public TerminalNode K_EXCLUSIVE() { return getToken(SQLiteParser.K_EXCLUSIVE, 0); }
+		public TerminalNode K_EXISTS() { return getToken(SQLiteParser.K_EXISTS, 0); }
+		public TerminalNode K_EXPLAIN() { return getToken(SQLiteParser.K_EXPLAIN, 0); }
+		public TerminalNode K_FAIL() { return getToken(SQLiteParser.K_FAIL, 0); }
+		public TerminalNode K_FOR() { return getToken(SQLiteParser.K_FOR, 0); }
+		public TerminalNode K_FOREIGN() { return getToken(SQLiteParser.K_FOREIGN, 0); }
+		public TerminalNode K_FROM() { return getToken(SQLiteParser.K_FROM, 0); }
+		public TerminalNode K_FULL() { return getToken(SQLiteParser.K_FULL, 0); }
+		public TerminalNode K_GLOB() { return getToken(SQLiteParser.K_GLOB, 0); }
+		public TerminalNode K_GROUP() { return getToken(SQLiteParser.K_GROUP, 0); }
+		public TerminalNode K_HAVING() { return getToken(SQLiteParser.K_HAVING, 0); }
+		public TerminalNode K_IF() { return getToken(SQLiteParser.K_IF, 0); }
+		public TerminalNode K_IGNORE() { return getToken(SQLiteParser.K_IGNORE, 0); }
+		public TerminalNode K_IMMEDIATE() { return getToken(SQLiteParser.K_IMMEDIATE, 0); }
+		public TerminalNode K_IN() { return getToken(SQLiteParser.K_IN, 0); }
+		public TerminalNode K_INDEX() { return getToken(SQLiteParser.K_INDEX, 0); }
+		public TerminalNode K_INDEXED() { return getToken(SQLiteParser.K_INDEXED, 0); }
+		public TerminalNode K_INITIALLY() { return getToken(SQLiteParser.K_INITIALLY, 0); }
+		public TerminalNode K_INNER() { return getToken(SQLiteParser.K_INNER, 0); }
+		public TerminalNode K_INSERT() { return getToken(SQLiteParser.K_INSERT, 0); }
+		public TerminalNode K_INSTEAD() { return getToken(SQLiteParser.K_INSTEAD, 0); }
+		public TerminalNode K_INTERSECT() { return getToken(SQLiteParser.K_INTERSECT, 0); }
+		public TerminalNode K_INTO() { return getToken(SQLiteParser.K_INTO, 0); }
+		public TerminalNode K_IS() { return getToken(SQLiteParser.K_IS, 0); }
+		public TerminalNode K_ISNULL() { return getToken(SQLiteParser.K_ISNULL, 0); }
+		public TerminalNode K_JOIN() { return getToken(SQLiteParser.K_JOIN, 0); }
+		public TerminalNode K_KEY() { return getToken(SQLiteParser.K_KEY, 0); }
+		public TerminalNode K_LEFT() { return getToken(SQLiteParser.K_LEFT, 0); }
+		public TerminalNode K_LIKE() { return getToken(SQLiteParser.K_LIKE, 0); }
+		public TerminalNode K_LIMIT() { return getToken(SQLiteParser.K_LIMIT, 0); }
+		public TerminalNode K_MATCH() { return getToken(SQLiteParser.K_MATCH, 0); }
+		public TerminalNode K_NATURAL() { return getToken(SQLiteParser.K_NATURAL, 0); }
+		public TerminalNode K_NO() { return getToken(SQLiteParser.K_NO, 0); }
+		public TerminalNode K_NOT() { return getToken(SQLiteParser.K_NOT, 0); }
+		public TerminalNode K_NOTNULL() { return getToken(SQLiteParser.K_NOTNULL, 0); }
+		public TerminalNode K_NULL() { return getToken(SQLiteParser.K_NULL, 0); }
+		public TerminalNode K_OF() { return getToken(SQLiteParser.K_OF, 0); }
+		public TerminalNode K_OFFSET() { return getToken(SQLiteParser.K_OFFSET, 0); }
+		public TerminalNode K_ON() { return getToken(SQLiteParser.K_ON, 0); }
+		public TerminalNode K_OR() { return getToken(SQLiteParser.K_OR, 0); }
+		public TerminalNode K_ORDER() { return getToken(SQLiteParser.K_ORDER, 0); }
+		public TerminalNode K_OUTER() { return getToken(SQLiteParser.K_OUTER, 0); }
+		public TerminalNode K_PLAN() { return getToken(SQLiteParser.K_PLAN, 0); }
+		public TerminalNode K_PRAGMA() { return getToken(SQLiteParser.K_PRAGMA, 0); }
+		public TerminalNode K_PRIMARY() { return getToken(SQLiteParser.K_PRIMARY, 0); }
+		public TerminalNode K_QUERY() { return getToken(SQLiteParser.K_QUERY, 0); }
+		public TerminalNode K_RAISE() { return getToken(SQLiteParser.K_RAISE, 0); }
+		public TerminalNode K_RECURSIVE() { return getToken(SQLiteParser.K_RECURSIVE, 0); }
+		public TerminalNode K_REFERENCES() { return getToken(SQLiteParser.K_REFERENCES, 0); }
+		public TerminalNode K_REGEXP() { return getToken(SQLiteParser.K_REGEXP, 0); }
+		public TerminalNode K_REINDEX() { return getToken(SQLiteParser.K_REINDEX, 0); }
+		public TerminalNode K_RELEASE() { return getToken(SQLiteParser.K_RELEASE, 0); }
+		public TerminalNode K_RENAME() { return getToken(SQLiteParser.K_RENAME, 0); }
+		public TerminalNode K_REPLACE() { return getToken(SQLiteParser.K_REPLACE, 0); }
+		public TerminalNode K_RESTRICT() { return getToken(SQLiteParser.K_RESTRICT, 0); }
+		public TerminalNode K_RIGHT() { return getToken(SQLiteParser.K_RIGHT, 0); }
+		public TerminalNode K_ROLLBACK() { return getToken(SQLiteParser.K_ROLLBACK, 0); }
+		public TerminalNode K_ROW() { return getToken(SQLiteParser.K_ROW, 0); }
+		public TerminalNode K_SAVEPOINT() { return getToken(SQLiteParser.K_SAVEPOINT, 0); }
+		public TerminalNode K_SELECT() { return getToken(SQLiteParser.K_SELECT, 0); }
+		public TerminalNode K_SET() { return getToken(SQLiteParser.K_SET, 0); }
+		public TerminalNode K_TABLE() { return getToken(SQLiteParser.K_TABLE, 0); }
+		public TerminalNode K_TEMP() { return getToken(SQLiteParser.K_TEMP, 0); }
+		public TerminalNode K_TEMPORARY() { return getToken(SQLiteParser.K_TEMPORARY, 0); }
+		public TerminalNode K_THEN() { return getToken(SQLiteParser.K_THEN, 0); }
+		public TerminalNode K_TO() { return getToken(SQLiteParser.K_TO, 0); }
+		public TerminalNode K_TRANSACTION() { return getToken(SQLiteParser.K_TRANSACTION, 0); }
+		public TerminalNode K_TRIGGER() { return getToken(SQLiteParser.K_TRIGGER, 0); }
+		public TerminalNode K_UNION() { return getToken(SQLiteParser.K_UNION, 0); }
+		public TerminalNode K_UNIQUE() { return getToken(SQLiteParser.K_UNIQUE, 0); }
+		public TerminalNode K_UPDATE() { return getToken(SQLiteParser.K_UPDATE, 0); }
+		public TerminalNode K_USING() { return getToken(SQLiteParser.K_USING, 0); }
+		public TerminalNode K_VACUUM() { return getToken(SQLiteParser.K_VACUUM, 0); }
+		public TerminalNode K_VALUES() { return getToken(SQLiteParser.K_VALUES, 0); }
+		public TerminalNode K_VIEW() { return getToken(SQLiteParser.K_VIEW, 0); }
+		public TerminalNode K_VIRTUAL() { return getToken(SQLiteParser.K_VIRTUAL, 0); }
+		public TerminalNode K_WHEN() { return getToken(SQLiteParser.K_WHEN, 0); }
+		public TerminalNode K_WHERE() { return getToken(SQLiteParser.K_WHERE, 0); }
+		public TerminalNode K_WITH() { return getToken(SQLiteParser.K_WITH, 0); }
+		public TerminalNode K_WITHOUT() { return getToken(SQLiteParser.K_WITHOUT, 0); }
+		public KeywordContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_keyword; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterKeyword(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitKeyword(this);
+		}
+	}
+
+	public final KeywordContext keyword() throws RecognitionException {
+		KeywordContext _localctx = new KeywordContext(_ctx, getState());
+		enterRule(_localctx, 132, RULE_keyword);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1659);
+			_la = _input.LA(1);
+			if ( !(((((_la - 28)) & ~0x3f) == 0 && ((1L << (_la - 28)) & ((1L << (K_ABORT - 28)) | (1L << (K_ACTION - 28)) | (1L << (K_ADD - 28)) | (1L << (K_AFTER - 28)) | (1L << (K_ALL - 28)) | (1L << (K_ALTER - 28)) | (1L << (K_ANALYZE - 28)) | (1L << (K_AND - 28)) | (1L << (K_AS - 28)) | (1L << (K_ASC - 28)) | (1L << (K_ATTACH - 28)) | (1L << (K_AUTOINCREMENT - 28)) | (1L << (K_BEFORE - 28)) | (1L << (K_BEGIN - 28)) | (1L << (K_BETWEEN - 28)) | (1L << (K_BY - 28)) | (1L << (K_CASCADE - 28)) | (1L << (K_CASE - 28)) | (1L << (K_CAST - 28)) | (1L << (K_CHECK - 28)) | (1L << (K_COLLATE - 28)) | (1L << (K_COLUMN - 28)) | (1L << (K_COMMIT - 28)) | (1L << (K_CONFLICT - 28)) | (1L << (K_CONSTRAINT - 28)) | (1L << (K_CREATE - 28)) | (1L << (K_CROSS - 28)) | (1L << (K_CURRENT_DATE - 28)) | (1L << (K_CURRENT_TIME - 28)) | (1L << (K_CURRENT_TIMESTAMP - 28)) | (1L << (K_DATABASE - 28)) | (1L << (K_DEFAULT - 28)) | (1L << (K_DEFERRABLE - 28)) | (1L << (K_DEFERRED - 28)) | (1L << (K_DELETE - 28)) | (1L << (K_DESC - 28)) | (1L << (K_DETACH - 28)) | (1L << (K_DISTINCT - 28)) | (1L << (K_DROP - 28)) | (1L << (K_EACH - 28)) | (1L << (K_ELSE - 28)) | (1L << (K_END - 28)) | (1L << (K_ESCAPE - 28)) | (1L << (K_EXCEPT - 28)) | (1L << (K_EXCLUSIVE - 28)) | (1L << (K_EXISTS - 28)) | (1L << (K_EXPLAIN - 28)) | (1L << (K_FAIL - 28)) | (1L << (K_FOR - 28)) | (1L << (K_FOREIGN - 28)) | (1L << (K_FROM - 28)) | (1L << (K_FULL - 28)) | (1L << (K_GLOB - 28)) | (1L << (K_GROUP - 28)) | (1L << (K_HAVING - 28)) | (1L << (K_IF - 28)) | (1L << (K_IGNORE - 28)) | (1L << (K_IMMEDIATE - 28)) | (1L << (K_IN - 28)) | (1L << (K_INDEX - 28)) | (1L << (K_INDEXED - 28)) | (1L << (K_INITIALLY - 28)) | (1L << (K_INNER - 28)) | (1L << (K_INSERT - 28)))) != 0) || ((((_la - 92)) & ~0x3f) == 0 && ((1L << (_la - 92)) & ((1L << (K_INSTEAD - 92)) | (1L << (K_INTERSECT - 92)) | (1L << (K_INTO - 92)) | (1L << (K_IS - 92)) | (1L << (K_ISNULL - 92)) | (1L << (K_JOIN - 92)) | (1L << (K_KEY - 92)) | (1L << (K_LEFT - 92)) | (1L << (K_LIKE - 92)) | (1L << (K_LIMIT - 92)) | (1L << (K_MATCH - 92)) | (1L << (K_NATURAL - 92)) | (1L << (K_NO - 92)) | (1L << (K_NOT - 92)) | (1L << (K_NOTNULL - 92)) | (1L << (K_NULL - 92)) | (1L << (K_OF - 92)) | (1L << (K_OFFSET - 92)) | (1L << (K_ON - 92)) | (1L << (K_OR - 92)) | (1L << (K_ORDER - 92)) | (1L << (K_OUTER - 92)) | (1L << (K_PLAN - 92)) | (1L << (K_PRAGMA - 92)) | (1L << (K_PRIMARY - 92)) | (1L << (K_QUERY - 92)) | (1L << (K_RAISE - 92)) | (1L << (K_RECURSIVE - 92)) | (1L << (K_REFERENCES - 92)) | (1L << (K_REGEXP - 92)) | (1L << (K_REINDEX - 92)) | (1L << (K_RELEASE - 92)) | (1L << (K_RENAME - 92)) | (1L << (K_REPLACE - 92)) | (1L << (K_RESTRICT - 92)) | (1L << (K_RIGHT - 92)) | (1L << (K_ROLLBACK - 92)) | (1L << (K_ROW - 92)) | (1L << (K_SAVEPOINT - 92)) | (1L << (K_SELECT - 92)) | (1L << (K_SET - 92)) | (1L << (K_TABLE - 92)) | (1L << (K_TEMP - 92)) | (1L << (K_TEMPORARY - 92)) | (1L << (K_THEN - 92)) | (1L << (K_TO - 92)) | (1L << (K_TRANSACTION - 92)) | (1L << (K_TRIGGER - 92)) | (1L << (K_UNION - 92)) | (1L << (K_UNIQUE - 92)) | (1L << (K_UPDATE - 92)) | (1L << (K_USING - 92)) | (1L << (K_VACUUM - 92)) | (1L << (K_VALUES - 92)) | (1L << (K_VIEW - 92)) | (1L << (K_VIRTUAL - 92)) | (1L << (K_WHEN - 92)) | (1L << (K_WHERE - 92)) | (1L << (K_WITH - 92)) | (1L << (K_WITHOUT - 92)))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public NameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitName(this);
+		}
+	}
+
+	public final NameContext name() throws RecognitionException {
+		NameContext _localctx = new NameContext(_ctx, getState());
+		enterRule(_localctx, 134, RULE_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1661);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Function_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Function_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_function_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterFunction_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitFunction_name(this);
+		}
+	}
+
+	public final Function_nameContext function_name() throws RecognitionException {
+		Function_nameContext _localctx = new Function_nameContext(_ctx, getState());
+		enterRule(_localctx, 136, RULE_function_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1663);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Database_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Database_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_database_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterDatabase_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitDatabase_name(this);
+		}
+	}
+
+	public final Database_nameContext database_name() throws RecognitionException {
+		Database_nameContext _localctx = new Database_nameContext(_ctx, getState());
+		enterRule(_localctx, 138, RULE_database_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1665);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Schema_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Schema_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_schema_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterSchema_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitSchema_name(this);
+		}
+	}
+
+	public final Schema_nameContext schema_name() throws RecognitionException {
+		Schema_nameContext _localctx = new Schema_nameContext(_ctx, getState());
+		enterRule(_localctx, 140, RULE_schema_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1667);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Table_function_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Table_function_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_table_function_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterTable_function_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitTable_function_name(this);
+		}
+	}
+
+	public final Table_function_nameContext table_function_name() throws RecognitionException {
+		Table_function_nameContext _localctx = new Table_function_nameContext(_ctx, getState());
+		enterRule(_localctx, 142, RULE_table_function_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1669);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Table_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Table_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_table_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterTable_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitTable_name(this);
+		}
+	}
+
+	public final Table_nameContext table_name() throws RecognitionException {
+		Table_nameContext _localctx = new Table_nameContext(_ctx, getState());
+		enterRule(_localctx, 144, RULE_table_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1671);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Table_or_index_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Table_or_index_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_table_or_index_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterTable_or_index_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitTable_or_index_name(this);
+		}
+	}
+
+	public final Table_or_index_nameContext table_or_index_name() throws RecognitionException {
+		Table_or_index_nameContext _localctx = new Table_or_index_nameContext(_ctx, getState());
+		enterRule(_localctx, 146, RULE_table_or_index_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1673);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class New_table_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public New_table_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_new_table_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterNew_table_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitNew_table_name(this);
+		}
+	}
+
+	public final New_table_nameContext new_table_name() throws RecognitionException {
+		New_table_nameContext _localctx = new New_table_nameContext(_ctx, getState());
+		enterRule(_localctx, 148, RULE_new_table_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1675);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Column_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Column_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_column_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterColumn_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitColumn_name(this);
+		}
+	}
+
+	public final Column_nameContext column_name() throws RecognitionException {
+		Column_nameContext _localctx = new Column_nameContext(_ctx, getState());
+		enterRule(_localctx, 150, RULE_column_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1677);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Collation_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Collation_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_collation_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterCollation_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitCollation_name(this);
+		}
+	}
+
+	public final Collation_nameContext collation_name() throws RecognitionException {
+		Collation_nameContext _localctx = new Collation_nameContext(_ctx, getState());
+		enterRule(_localctx, 152, RULE_collation_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1679);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Foreign_tableContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Foreign_tableContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_foreign_table; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterForeign_table(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitForeign_table(this);
+		}
+	}
+
+	public final Foreign_tableContext foreign_table() throws RecognitionException {
+		Foreign_tableContext _localctx = new Foreign_tableContext(_ctx, getState());
+		enterRule(_localctx, 154, RULE_foreign_table);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1681);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Index_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Index_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_index_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterIndex_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitIndex_name(this);
+		}
+	}
+
+	public final Index_nameContext index_name() throws RecognitionException {
+		Index_nameContext _localctx = new Index_nameContext(_ctx, getState());
+		enterRule(_localctx, 156, RULE_index_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1683);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Trigger_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Trigger_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_trigger_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterTrigger_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitTrigger_name(this);
+		}
+	}
+
+	public final Trigger_nameContext trigger_name() throws RecognitionException {
+		Trigger_nameContext _localctx = new Trigger_nameContext(_ctx, getState());
+		enterRule(_localctx, 158, RULE_trigger_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1685);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class View_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public View_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_view_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterView_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitView_name(this);
+		}
+	}
+
+	public final View_nameContext view_name() throws RecognitionException {
+		View_nameContext _localctx = new View_nameContext(_ctx, getState());
+		enterRule(_localctx, 160, RULE_view_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1687);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Module_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Module_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_module_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterModule_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitModule_name(this);
+		}
+	}
+
+	public final Module_nameContext module_name() throws RecognitionException {
+		Module_nameContext _localctx = new Module_nameContext(_ctx, getState());
+		enterRule(_localctx, 162, RULE_module_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1689);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Pragma_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Pragma_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pragma_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterPragma_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitPragma_name(this);
+		}
+	}
+
+	public final Pragma_nameContext pragma_name() throws RecognitionException {
+		Pragma_nameContext _localctx = new Pragma_nameContext(_ctx, getState());
+		enterRule(_localctx, 164, RULE_pragma_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1691);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Savepoint_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Savepoint_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_savepoint_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterSavepoint_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitSavepoint_name(this);
+		}
+	}
+
+	public final Savepoint_nameContext savepoint_name() throws RecognitionException {
+		Savepoint_nameContext _localctx = new Savepoint_nameContext(_ctx, getState());
+		enterRule(_localctx, 166, RULE_savepoint_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1693);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Table_aliasContext extends ParserRuleContext {
+		public TerminalNode IDENTIFIER() { return getToken(SQLiteParser.IDENTIFIER, 0); }
+		public TerminalNode STRING_LITERAL() { return getToken(SQLiteParser.STRING_LITERAL, 0); }
+		public Table_aliasContext table_alias() {
+			return getRuleContext(Table_aliasContext.class,0);
+		}
+		public Table_aliasContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_table_alias; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterTable_alias(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitTable_alias(this);
+		}
+	}
+
+	public final Table_aliasContext table_alias() throws RecognitionException {
+		Table_aliasContext _localctx = new Table_aliasContext(_ctx, getState());
+		enterRule(_localctx, 168, RULE_table_alias);
+		try {
+			setState(1701);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IDENTIFIER:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1695);
+				match(IDENTIFIER);
+				}
+				break;
+			case STRING_LITERAL:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1696);
+				match(STRING_LITERAL);
+				}
+				break;
+			case OPEN_PAR:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1697);
+				match(OPEN_PAR);
+				setState(1698);
+				table_alias();
+				setState(1699);
+				match(CLOSE_PAR);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Transaction_nameContext extends ParserRuleContext {
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Transaction_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_transaction_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterTransaction_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitTransaction_name(this);
+		}
+	}
+
+	public final Transaction_nameContext transaction_name() throws RecognitionException {
+		Transaction_nameContext _localctx = new Transaction_nameContext(_ctx, getState());
+		enterRule(_localctx, 170, RULE_transaction_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1703);
+			any_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Any_nameContext extends ParserRuleContext {
+		public TerminalNode IDENTIFIER() { return getToken(SQLiteParser.IDENTIFIER, 0); }
+		public KeywordContext keyword() {
+			return getRuleContext(KeywordContext.class,0);
+		}
+		public TerminalNode STRING_LITERAL() { return getToken(SQLiteParser.STRING_LITERAL, 0); }
+		public Any_nameContext any_name() {
+			return getRuleContext(Any_nameContext.class,0);
+		}
+		public Any_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_any_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).enterAny_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLiteListener ) ((SQLiteListener)listener).exitAny_name(this);
+		}
+	}
+
+	public final Any_nameContext any_name() throws RecognitionException {
+		Any_nameContext _localctx = new Any_nameContext(_ctx, getState());
+		enterRule(_localctx, 172, RULE_any_name);
+		try {
+			setState(1712);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IDENTIFIER:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1705);
+				match(IDENTIFIER);
+				}
+				break;
+			case K_ABORT:
+			case K_ACTION:
+			case K_ADD:
+			case K_AFTER:
+			case K_ALL:
+			case K_ALTER:
+			case K_ANALYZE:
+			case K_AND:
+			case K_AS:
+			case K_ASC:
+			case K_ATTACH:
+			case K_AUTOINCREMENT:
+			case K_BEFORE:
+			case K_BEGIN:
+			case K_BETWEEN:
+			case K_BY:
+			case K_CASCADE:
+			case K_CASE:
+			case K_CAST:
+			case K_CHECK:
+			case K_COLLATE:
+			case K_COLUMN:
+			case K_COMMIT:
+			case K_CONFLICT:
+			case K_CONSTRAINT:
+			case K_CREATE:
+			case K_CROSS:
+			case K_CURRENT_DATE:
+			case K_CURRENT_TIME:
+			case K_CURRENT_TIMESTAMP:
+			case K_DATABASE:
+			case K_DEFAULT:
+			case K_DEFERRABLE:
+			case K_DEFERRED:
+			case K_DELETE:
+			case K_DESC:
+			case K_DETACH:
+			case K_DISTINCT:
+			case K_DROP:
+			case K_EACH:
+			case K_ELSE:
+			case K_END:
+			case K_ESCAPE:
+			case K_EXCEPT:
+			case K_EXCLUSIVE:
+			case K_EXISTS:
+			case K_EXPLAIN:
+			case K_FAIL:
+			case K_FOR:
+			case K_FOREIGN:
+			case K_FROM:
+			case K_FULL:
+			case K_GLOB:
+			case K_GROUP:
+			case K_HAVING:
+			case K_IF:
+			case K_IGNORE:
+			case K_IMMEDIATE:
+			case K_IN:
+			case K_INDEX:
+			case K_INDEXED:
+			case K_INITIALLY:
+			case K_INNER:
+			case K_INSERT:
+			case K_INSTEAD:
+			case K_INTERSECT:
+			case K_INTO:
+			case K_IS:
+			case K_ISNULL:
+			case K_JOIN:
+			case K_KEY:
+			case K_LEFT:
+			case K_LIKE:
+			case K_LIMIT:
+			case K_MATCH:
+			case K_NATURAL:
+			case K_NO:
+			case K_NOT:
+			case K_NOTNULL:
+			case K_NULL:
+			case K_OF:
+			case K_OFFSET:
+			case K_ON:
+			case K_OR:
+			case K_ORDER:
+			case K_OUTER:
+			case K_PLAN:
+			case K_PRAGMA:
+			case K_PRIMARY:
+			case K_QUERY:
+			case K_RAISE:
+			case K_RECURSIVE:
+			case K_REFERENCES:
+			case K_REGEXP:
+			case K_REINDEX:
+			case K_RELEASE:
+			case K_RENAME:
+			case K_REPLACE:
+			case K_RESTRICT:
+			case K_RIGHT:
+			case K_ROLLBACK:
+			case K_ROW:
+			case K_SAVEPOINT:
+			case K_SELECT:
+			case K_SET:
+			case K_TABLE:
+			case K_TEMP:
+			case K_TEMPORARY:
+			case K_THEN:
+			case K_TO:
+			case K_TRANSACTION:
+			case K_TRIGGER:
+			case K_UNION:
+			case K_UNIQUE:
+			case K_UPDATE:
+			case K_USING:
+			case K_VACUUM:
+			case K_VALUES:
+			case K_VIEW:
+			case K_VIRTUAL:
+			case K_WHEN:
+			case K_WHERE:
+			case K_WITH:
+			case K_WITHOUT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1706);
+				keyword();
+				}
+				break;
+			case STRING_LITERAL:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1707);
+				match(STRING_LITERAL);
+				}
+				break;
+			case OPEN_PAR:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1708);
+				match(OPEN_PAR);
+				setState(1709);
+				any_name();
+				setState(1710);
+				match(CLOSE_PAR);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 40:
+			return expr_sempred((ExprContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean expr_sempred(ExprContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 20);
+		case 1:
+			return precpred(_ctx, 19);
+		case 2:
+			return precpred(_ctx, 18);
+		case 3:
+			return precpred(_ctx, 17);
+		case 4:
+			return precpred(_ctx, 16);
+		case 5:
+			return precpred(_ctx, 15);
+		case 6:
+			return precpred(_ctx, 13);
+		case 7:
+			return precpred(_ctx, 12);
+		case 8:
+			return precpred(_ctx, 5);
+		case 9:
+			return precpred(_ctx, 4);
+		case 10:
+			return precpred(_ctx, 14);
+		case 11:
+			return precpred(_ctx, 8);
+		case 12:
+			return precpred(_ctx, 7);
+		case 13:
+			return precpred(_ctx, 6);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\u00a3\u06b5\4\2\t"+
+		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
+		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
+		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
+		"\4U\tU\4V\tV\4W\tW\4X\tX\3\2\3\2\3\2\7\2\u00b4\n\2\f\2\16\2\u00b7\13\2"+
+		"\3\2\3\2\3\3\3\3\3\3\3\4\7\4\u00bf\n\4\f\4\16\4\u00c2\13\4\3\4\3\4\7\4"+
+		"\u00c6\n\4\f\4\16\4\u00c9\13\4\3\5\7\5\u00cc\n\5\f\5\16\5\u00cf\13\5\3"+
+		"\5\3\5\6\5\u00d3\n\5\r\5\16\5\u00d4\3\5\7\5\u00d8\n\5\f\5\16\5\u00db\13"+
+		"\5\3\5\7\5\u00de\n\5\f\5\16\5\u00e1\13\5\3\6\3\6\3\6\5\6\u00e6\n\6\5\6"+
+		"\u00e8\n\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6"+
+		"\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\5\6\u0108"+
+		"\n\6\3\7\3\7\3\7\3\7\3\7\5\7\u010f\n\7\3\7\3\7\3\7\3\7\3\7\3\7\5\7\u0117"+
+		"\n\7\3\7\5\7\u011a\n\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\5\b\u0123\n\b\3\t\3"+
+		"\t\5\t\u0127\n\t\3\t\3\t\3\t\3\t\3\n\3\n\5\n\u012f\n\n\3\n\3\n\5\n\u0133"+
+		"\n\n\5\n\u0135\n\n\3\13\3\13\3\13\5\13\u013a\n\13\5\13\u013c\n\13\3\f"+
+		"\5\f\u013f\n\f\3\f\3\f\3\f\5\f\u0144\n\f\3\f\3\f\5\f\u0148\n\f\3\f\6\f"+
+		"\u014b\n\f\r\f\16\f\u014c\3\f\3\f\3\f\3\f\3\f\7\f\u0154\n\f\f\f\16\f\u0157"+
+		"\13\f\5\f\u0159\n\f\3\f\3\f\3\f\3\f\5\f\u015f\n\f\5\f\u0161\n\f\3\r\3"+
+		"\r\5\r\u0165\n\r\3\r\3\r\3\r\3\r\5\r\u016b\n\r\3\r\3\r\3\r\5\r\u0170\n"+
+		"\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\7\r\u0179\n\r\f\r\16\r\u017c\13\r\3\r\3"+
+		"\r\3\r\5\r\u0181\n\r\3\16\3\16\5\16\u0185\n\16\3\16\3\16\3\16\3\16\5\16"+
+		"\u018b\n\16\3\16\3\16\3\16\5\16\u0190\n\16\3\16\3\16\3\16\3\16\3\16\7"+
+		"\16\u0197\n\16\f\16\16\16\u019a\13\16\3\16\3\16\7\16\u019e\n\16\f\16\16"+
+		"\16\u01a1\13\16\3\16\3\16\3\16\3\16\5\16\u01a7\n\16\3\16\3\16\5\16\u01ab"+
+		"\n\16\3\16\3\16\5\16\u01af\n\16\3\17\3\17\5\17\u01b3\n\17\3\17\3\17\3"+
+		"\17\3\17\5\17\u01b9\n\17\3\17\3\17\3\17\5\17\u01be\n\17\3\17\3\17\3\17"+
+		"\3\17\3\17\5\17\u01c5\n\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\7\17\u01ce"+
+		"\n\17\f\17\16\17\u01d1\13\17\5\17\u01d3\n\17\5\17\u01d5\n\17\3\17\3\17"+
+		"\3\17\3\17\5\17\u01db\n\17\3\17\3\17\3\17\3\17\5\17\u01e1\n\17\3\17\3"+
+		"\17\5\17\u01e5\n\17\3\17\3\17\3\17\3\17\3\17\5\17\u01ec\n\17\3\17\3\17"+
+		"\6\17\u01f0\n\17\r\17\16\17\u01f1\3\17\3\17\3\20\3\20\5\20\u01f8\n\20"+
+		"\3\20\3\20\3\20\3\20\5\20\u01fe\n\20\3\20\3\20\3\20\5\20\u0203\n\20\3"+
+		"\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21\5\21\u020f\n\21\3\21"+
+		"\3\21\3\21\5\21\u0214\n\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\7\21\u021d"+
+		"\n\21\f\21\16\21\u0220\13\21\3\21\3\21\5\21\u0224\n\21\3\22\5\22\u0227"+
+		"\n\22\3\22\3\22\3\22\3\22\3\22\5\22\u022e\n\22\3\23\5\23\u0231\n\23\3"+
+		"\23\3\23\3\23\3\23\3\23\5\23\u0238\n\23\3\23\3\23\3\23\3\23\3\23\7\23"+
+		"\u023f\n\23\f\23\16\23\u0242\13\23\5\23\u0244\n\23\3\23\3\23\3\23\3\23"+
+		"\5\23\u024a\n\23\5\23\u024c\n\23\3\24\3\24\5\24\u0250\n\24\3\24\3\24\3"+
+		"\25\3\25\3\25\3\25\5\25\u0258\n\25\3\25\3\25\3\25\5\25\u025d\n\25\3\25"+
+		"\3\25\3\26\3\26\3\26\3\26\5\26\u0265\n\26\3\26\3\26\3\26\5\26\u026a\n"+
+		"\26\3\26\3\26\3\27\3\27\3\27\3\27\5\27\u0272\n\27\3\27\3\27\3\27\5\27"+
+		"\u0277\n\27\3\27\3\27\3\30\3\30\3\30\3\30\5\30\u027f\n\30\3\30\3\30\3"+
+		"\30\5\30\u0284\n\30\3\30\3\30\3\31\5\31\u0289\n\31\3\31\3\31\3\31\3\31"+
+		"\7\31\u028f\n\31\f\31\16\31\u0292\13\31\3\31\3\31\3\31\3\31\3\31\7\31"+
+		"\u0299\n\31\f\31\16\31\u029c\13\31\5\31\u029e\n\31\3\31\3\31\3\31\3\31"+
+		"\5\31\u02a4\n\31\5\31\u02a6\n\31\3\32\5\32\u02a9\n\32\3\32\3\32\3\32\3"+
+		"\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\5"+
+		"\32\u02bc\n\32\3\32\3\32\3\32\3\32\5\32\u02c2\n\32\3\32\3\32\3\32\3\32"+
+		"\3\32\7\32\u02c9\n\32\f\32\16\32\u02cc\13\32\3\32\3\32\5\32\u02d0\n\32"+
+		"\3\32\3\32\3\32\3\32\3\32\7\32\u02d7\n\32\f\32\16\32\u02da\13\32\3\32"+
+		"\3\32\3\32\3\32\3\32\3\32\7\32\u02e2\n\32\f\32\16\32\u02e5\13\32\3\32"+
+		"\3\32\7\32\u02e9\n\32\f\32\16\32\u02ec\13\32\3\32\3\32\3\32\5\32\u02f1"+
+		"\n\32\3\33\3\33\3\33\3\33\5\33\u02f7\n\33\3\33\3\33\3\33\3\33\3\33\3\33"+
+		"\3\33\5\33\u0300\n\33\3\34\3\34\3\34\3\34\3\34\5\34\u0307\n\34\3\34\3"+
+		"\34\5\34\u030b\n\34\5\34\u030d\n\34\3\35\3\35\5\35\u0311\n\35\3\35\3\35"+
+		"\3\36\3\36\3\36\5\36\u0318\n\36\5\36\u031a\n\36\3\36\3\36\5\36\u031e\n"+
+		"\36\3\36\5\36\u0321\n\36\3\37\3\37\3\37\3 \5 \u0327\n \3 \3 \3 \3 \3 "+
+		"\3 \7 \u032f\n \f \16 \u0332\13 \5 \u0334\n \3 \3 \3 \3 \5 \u033a\n \5"+
+		" \u033c\n \3!\5!\u033f\n!\3!\3!\3!\3!\7!\u0345\n!\f!\16!\u0348\13!\3!"+
+		"\3!\3!\3!\3!\7!\u034f\n!\f!\16!\u0352\13!\5!\u0354\n!\3!\3!\3!\3!\5!\u035a"+
+		"\n!\5!\u035c\n!\3\"\3\"\5\"\u0360\n\"\3\"\3\"\3\"\7\"\u0365\n\"\f\"\16"+
+		"\"\u0368\13\"\3\"\3\"\3\"\3\"\7\"\u036e\n\"\f\"\16\"\u0371\13\"\3\"\5"+
+		"\"\u0374\n\"\5\"\u0376\n\"\3\"\3\"\5\"\u037a\n\"\3\"\3\"\3\"\3\"\3\"\7"+
+		"\"\u0381\n\"\f\"\16\"\u0384\13\"\3\"\3\"\5\"\u0388\n\"\5\"\u038a\n\"\3"+
+		"\"\3\"\3\"\3\"\3\"\7\"\u0391\n\"\f\"\16\"\u0394\13\"\3\"\3\"\3\"\3\"\3"+
+		"\"\3\"\7\"\u039c\n\"\f\"\16\"\u039f\13\"\3\"\3\"\7\"\u03a3\n\"\f\"\16"+
+		"\"\u03a6\13\"\5\"\u03a8\n\"\3#\5#\u03ab\n#\3#\3#\3#\3#\3#\3#\3#\3#\3#"+
+		"\3#\3#\5#\u03b8\n#\3#\3#\3#\3#\3#\3#\3#\3#\3#\3#\7#\u03c4\n#\f#\16#\u03c7"+
+		"\13#\3#\3#\5#\u03cb\n#\3$\5$\u03ce\n$\3$\3$\3$\3$\3$\3$\3$\3$\3$\3$\3"+
+		"$\5$\u03db\n$\3$\3$\3$\3$\3$\3$\3$\3$\3$\3$\7$\u03e7\n$\f$\16$\u03ea\13"+
+		"$\3$\3$\5$\u03ee\n$\3$\3$\3$\3$\3$\7$\u03f5\n$\f$\16$\u03f8\13$\5$\u03fa"+
+		"\n$\3$\3$\3$\3$\5$\u0400\n$\5$\u0402\n$\3%\3%\3&\3&\5&\u0408\n&\3&\7&"+
+		"\u040b\n&\f&\16&\u040e\13&\3\'\6\'\u0411\n\'\r\'\16\'\u0412\3\'\3\'\3"+
+		"\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\5\'\u041f\n\'\3(\3(\5(\u0423\n(\3(\3(\3"+
+		"(\5(\u0428\n(\3(\3(\5(\u042c\n(\3(\5(\u042f\n(\3(\3(\3(\3(\3(\3(\3(\3"+
+		"(\3(\3(\3(\3(\3(\3(\3(\3(\5(\u0441\n(\3(\3(\3(\5(\u0446\n(\3)\3)\3)\5"+
+		")\u044b\n)\3*\3*\3*\3*\3*\3*\5*\u0453\n*\3*\3*\3*\5*\u0458\n*\3*\3*\3"+
+		"*\3*\3*\3*\3*\5*\u0461\n*\3*\3*\3*\7*\u0466\n*\f*\16*\u0469\13*\3*\5*"+
+		"\u046c\n*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\5*\u047c\n*\3*\5*"+
+		"\u047f\n*\3*\3*\3*\3*\3*\3*\5*\u0487\n*\3*\3*\3*\3*\3*\6*\u048e\n*\r*"+
+		"\16*\u048f\3*\3*\5*\u0494\n*\3*\3*\3*\5*\u0499\n*\3*\3*\3*\3*\3*\3*\3"+
+		"*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\5*\u04b6"+
+		"\n*\3*\3*\3*\5*\u04bb\n*\3*\3*\3*\3*\3*\3*\3*\5*\u04c4\n*\3*\3*\3*\3*"+
+		"\3*\3*\7*\u04cc\n*\f*\16*\u04cf\13*\5*\u04d1\n*\3*\3*\3*\3*\5*\u04d7\n"+
+		"*\3*\5*\u04da\n*\3*\3*\3*\3*\3*\5*\u04e1\n*\3*\3*\3*\3*\5*\u04e7\n*\3"+
+		"*\3*\3*\3*\3*\5*\u04ee\n*\7*\u04f0\n*\f*\16*\u04f3\13*\3+\3+\3+\3+\3+"+
+		"\3+\7+\u04fb\n+\f+\16+\u04fe\13+\3+\3+\5+\u0502\n+\3+\3+\3+\3+\3+\3+\3"+
+		"+\3+\3+\3+\5+\u050e\n+\3+\3+\5+\u0512\n+\7+\u0514\n+\f+\16+\u0517\13+"+
+		"\3+\5+\u051a\n+\3+\3+\3+\3+\3+\5+\u0521\n+\5+\u0523\n+\3,\3,\3,\3,\3,"+
+		"\3,\5,\u052b\n,\3,\3,\3-\3-\3-\5-\u0532\n-\3-\5-\u0535\n-\3.\3.\5.\u0539"+
+		"\n.\3.\3.\3.\5.\u053e\n.\3.\3.\3.\3.\7.\u0544\n.\f.\16.\u0547\13.\3.\3"+
+		".\3.\3.\3.\3.\3.\3.\3.\3.\3.\3.\3.\3.\7.\u0557\n.\f.\16.\u055a\13.\3."+
+		"\3.\3.\5.\u055f\n.\3/\3/\5/\u0563\n/\3/\3/\3/\7/\u0568\n/\f/\16/\u056b"+
+		"\13/\3\60\3\60\3\60\5\60\u0570\n\60\3\60\3\60\3\60\3\60\3\60\3\60\5\60"+
+		"\u0578\n\60\3\61\3\61\3\61\5\61\u057d\n\61\3\61\5\61\u0580\n\61\3\62\3"+
+		"\62\3\62\5\62\u0585\n\62\3\63\3\63\3\63\3\63\3\63\7\63\u058c\n\63\f\63"+
+		"\16\63\u058f\13\63\3\63\3\63\5\63\u0593\n\63\3\63\3\63\3\63\3\63\3\63"+
+		"\3\64\3\64\3\64\3\64\3\64\3\64\3\64\5\64\u05a1\n\64\3\64\5\64\u05a4\n"+
+		"\64\5\64\u05a6\n\64\3\65\3\65\3\65\5\65\u05ab\n\65\3\65\3\65\5\65\u05af"+
+		"\n\65\3\65\5\65\u05b2\n\65\3\65\3\65\3\65\3\65\3\65\5\65\u05b9\n\65\3"+
+		"\65\3\65\3\65\5\65\u05be\n\65\3\65\3\65\3\65\3\65\3\65\7\65\u05c5\n\65"+
+		"\f\65\16\65\u05c8\13\65\5\65\u05ca\n\65\3\65\3\65\5\65\u05ce\n\65\3\65"+
+		"\5\65\u05d1\n\65\3\65\3\65\3\65\3\65\7\65\u05d7\n\65\f\65\16\65\u05da"+
+		"\13\65\3\65\5\65\u05dd\n\65\3\65\3\65\3\65\3\65\3\65\3\65\5\65\u05e5\n"+
+		"\65\3\65\5\65\u05e8\n\65\5\65\u05ea\n\65\3\66\3\66\3\66\3\66\3\66\7\66"+
+		"\u05f1\n\66\f\66\16\66\u05f4\13\66\3\67\3\67\5\67\u05f8\n\67\3\67\3\67"+
+		"\5\67\u05fc\n\67\3\67\3\67\5\67\u0600\n\67\3\67\5\67\u0603\n\67\38\38"+
+		"\38\38\38\38\38\78\u060c\n8\f8\168\u060f\138\38\38\58\u0613\n8\39\39\5"+
+		"9\u0617\n9\39\39\39\79\u061c\n9\f9\169\u061f\139\39\39\39\39\79\u0625"+
+		"\n9\f9\169\u0628\139\39\59\u062b\n9\59\u062d\n9\39\39\59\u0631\n9\39\3"+
+		"9\39\39\39\59\u0638\n9\59\u063a\n9\39\39\39\39\39\79\u0641\n9\f9\169\u0644"+
+		"\139\39\39\39\39\39\39\79\u064c\n9\f9\169\u064f\139\39\39\79\u0653\n9"+
+		"\f9\169\u0656\139\59\u0658\n9\3:\3:\3;\3;\3;\7;\u065f\n;\f;\16;\u0662"+
+		"\13;\3<\3<\3=\3=\3=\3=\3=\5=\u066b\n=\3>\5>\u066e\n>\3>\3>\3?\3?\3@\3"+
+		"@\3A\3A\3B\3B\5B\u067a\nB\3C\3C\3D\3D\3E\3E\3F\3F\3G\3G\3H\3H\3I\3I\3"+
+		"J\3J\3K\3K\3L\3L\3M\3M\3N\3N\3O\3O\3P\3P\3Q\3Q\3R\3R\3S\3S\3T\3T\3U\3"+
+		"U\3V\3V\3V\3V\3V\3V\5V\u06a8\nV\3W\3W\3X\3X\3X\3X\3X\3X\3X\5X\u06b3\n"+
+		"X\3X\4\u0198\u0412\3RY\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,"+
+		".\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086"+
+		"\u0088\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e"+
+		"\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\2\26\3\2\33\35\5\2??"+
+		"JJWW\4\2\64\64GG\4\2\7\7oo\3\2\u0088\u0089\4\2\"\"CC\4\2\'\'AA\7\2\36"+
+		"\36MMVV\177\177\u0082\u0082\4\2\t\t\16\17\3\2\n\13\3\2\20\23\3\2\24\27"+
+		"\4\2\b\b\30\32\6\2RRffhh{{\4\2@@\u0090\u0090\5\2\36\36MM\u0082\u0082\6"+
+		"\29;mm\u009c\u009c\u009e\u009f\4\2\n\fkk\4\2\u009b\u009b\u009e\u009e\3"+
+		"\2\36\u0099\2\u07b3\2\u00b5\3\2\2\2\4\u00ba\3\2\2\2\6\u00c0\3\2\2\2\b"+
+		"\u00cd\3\2\2\2\n\u00e7\3\2\2\2\f\u0109\3\2\2\2\16\u011b\3\2\2\2\20\u0124"+
+		"\3\2\2\2\22\u012c\3\2\2\2\24\u0136\3\2\2\2\26\u013e\3\2\2\2\30\u0162\3"+
+		"\2\2\2\32\u0182\3\2\2\2\34\u01b0\3\2\2\2\36\u01f5\3\2\2\2 \u0208\3\2\2"+
+		"\2\"\u0226\3\2\2\2$\u0230\3\2\2\2&\u024d\3\2\2\2(\u0253\3\2\2\2*\u0260"+
+		"\3\2\2\2,\u026d\3\2\2\2.\u027a\3\2\2\2\60\u0288\3\2\2\2\62\u02a8\3\2\2"+
+		"\2\64\u02f2\3\2\2\2\66\u0301\3\2\2\28\u030e\3\2\2\2:\u0314\3\2\2\2<\u0322"+
+		"\3\2\2\2>\u0326\3\2\2\2@\u033e\3\2\2\2B\u03a7\3\2\2\2D\u03aa\3\2\2\2F"+
+		"\u03cd\3\2\2\2H\u0403\3\2\2\2J\u0405\3\2\2\2L\u0410\3\2\2\2N\u0422\3\2"+
+		"\2\2P\u044a\3\2\2\2R\u0498\3\2\2\2T\u04f4\3\2\2\2V\u0524\3\2\2\2X\u052e"+
+		"\3\2\2\2Z\u0538\3\2\2\2\\\u0560\3\2\2\2^\u056f\3\2\2\2`\u0579\3\2\2\2"+
+		"b\u0584\3\2\2\2d\u0586\3\2\2\2f\u05a5\3\2\2\2h\u05e9\3\2\2\2j\u05eb\3"+
+		"\2\2\2l\u0602\3\2\2\2n\u0612\3\2\2\2p\u0657\3\2\2\2r\u0659\3\2\2\2t\u065b"+
+		"\3\2\2\2v\u0663\3\2\2\2x\u066a\3\2\2\2z\u066d\3\2\2\2|\u0671\3\2\2\2~"+
+		"\u0673\3\2\2\2\u0080\u0675\3\2\2\2\u0082\u0679\3\2\2\2\u0084\u067b\3\2"+
+		"\2\2\u0086\u067d\3\2\2\2\u0088\u067f\3\2\2\2\u008a\u0681\3\2\2\2\u008c"+
+		"\u0683\3\2\2\2\u008e\u0685\3\2\2\2\u0090\u0687\3\2\2\2\u0092\u0689\3\2"+
+		"\2\2\u0094\u068b\3\2\2\2\u0096\u068d\3\2\2\2\u0098\u068f\3\2\2\2\u009a"+
+		"\u0691\3\2\2\2\u009c\u0693\3\2\2\2\u009e\u0695\3\2\2\2\u00a0\u0697\3\2"+
+		"\2\2\u00a2\u0699\3\2\2\2\u00a4\u069b\3\2\2\2\u00a6\u069d\3\2\2\2\u00a8"+
+		"\u069f\3\2\2\2\u00aa\u06a7\3\2\2\2\u00ac\u06a9\3\2\2\2\u00ae\u06b2\3\2"+
+		"\2\2\u00b0\u00b4\5\6\4\2\u00b1\u00b4\5\b\5\2\u00b2\u00b4\5\4\3\2\u00b3"+
+		"\u00b0\3\2\2\2\u00b3\u00b1\3\2\2\2\u00b3\u00b2\3\2\2\2\u00b4\u00b7\3\2"+
+		"\2\2\u00b5\u00b3\3\2\2\2\u00b5\u00b6\3\2\2\2\u00b6\u00b8\3\2\2\2\u00b7"+
+		"\u00b5\3\2\2\2\u00b8\u00b9\7\2\2\3\u00b9\3\3\2\2\2\u00ba\u00bb\7\u00a3"+
+		"\2\2\u00bb\u00bc\b\3\1\2\u00bc\5\3\2\2\2\u00bd\u00bf\7\3\2\2\u00be\u00bd"+
+		"\3\2\2\2\u00bf\u00c2\3\2\2\2\u00c0\u00be\3\2\2\2\u00c0\u00c1\3\2\2\2\u00c1"+
+		"\u00c3\3\2\2\2\u00c2\u00c0\3\2\2\2\u00c3\u00c7\t\2\2\2\u00c4\u00c6\7\3"+
+		"\2\2\u00c5\u00c4\3\2\2\2\u00c6\u00c9\3\2\2\2\u00c7\u00c5\3\2\2\2\u00c7"+
+		"\u00c8\3\2\2\2\u00c8\7\3\2\2\2\u00c9\u00c7\3\2\2\2\u00ca\u00cc\7\3\2\2"+
+		"\u00cb\u00ca\3\2\2\2\u00cc\u00cf\3\2\2\2\u00cd\u00cb\3\2\2\2\u00cd\u00ce"+
+		"\3\2\2\2\u00ce\u00d0\3\2\2\2\u00cf\u00cd\3\2\2\2\u00d0\u00d9\5\n\6\2\u00d1"+
+		"\u00d3\7\3\2\2\u00d2\u00d1\3\2\2\2\u00d3\u00d4\3\2\2\2\u00d4\u00d2\3\2"+
+		"\2\2\u00d4\u00d5\3\2\2\2\u00d5\u00d6\3\2\2\2\u00d6\u00d8\5\n\6\2\u00d7"+
+		"\u00d2\3\2\2\2\u00d8\u00db\3\2\2\2\u00d9\u00d7\3\2\2\2\u00d9\u00da\3\2"+
+		"\2\2\u00da\u00df\3\2\2\2\u00db\u00d9\3\2\2\2\u00dc\u00de\7\3\2\2\u00dd"+
+		"\u00dc\3\2\2\2\u00de\u00e1\3\2\2\2\u00df\u00dd\3\2\2\2\u00df\u00e0\3\2"+
+		"\2\2\u00e0\t\3\2\2\2\u00e1\u00df\3\2\2\2\u00e2\u00e5\7L\2\2\u00e3\u00e4"+
+		"\7w\2\2\u00e4\u00e6\7t\2\2\u00e5\u00e3\3\2\2\2\u00e5\u00e6\3\2\2\2\u00e6"+
+		"\u00e8\3\2\2\2\u00e7\u00e2\3\2\2\2\u00e7\u00e8\3\2\2\2\u00e8\u0107\3\2"+
+		"\2\2\u00e9\u0108\5\f\7\2\u00ea\u0108\5\16\b\2\u00eb\u0108\5\20\t\2\u00ec"+
+		"\u0108\5\22\n\2\u00ed\u0108\5\24\13\2\u00ee\u0108\5\26\f\2\u00ef\u0108"+
+		"\5\30\r\2\u00f0\u0108\5\32\16\2\u00f1\u0108\5\34\17\2\u00f2\u0108\5\36"+
+		"\20\2\u00f3\u0108\5 \21\2\u00f4\u0108\5\"\22\2\u00f5\u0108\5$\23\2\u00f6"+
+		"\u0108\5&\24\2\u00f7\u0108\5(\25\2\u00f8\u0108\5*\26\2\u00f9\u0108\5,"+
+		"\27\2\u00fa\u0108\5.\30\2\u00fb\u0108\5\60\31\2\u00fc\u0108\5\62\32\2"+
+		"\u00fd\u0108\5\64\33\2\u00fe\u0108\5\66\34\2\u00ff\u0108\58\35\2\u0100"+
+		"\u0108\5:\36\2\u0101\u0108\5<\37\2\u0102\u0108\5> \2\u0103\u0108\5@!\2"+
+		"\u0104\u0108\5D#\2\u0105\u0108\5F$\2\u0106\u0108\5H%\2\u0107\u00e9\3\2"+
+		"\2\2\u0107\u00ea\3\2\2\2\u0107\u00eb\3\2\2\2\u0107\u00ec\3\2\2\2\u0107"+
+		"\u00ed\3\2\2\2\u0107\u00ee\3\2\2\2\u0107\u00ef\3\2\2\2\u0107\u00f0\3\2"+
+		"\2\2\u0107\u00f1\3\2\2\2\u0107\u00f2\3\2\2\2\u0107\u00f3\3\2\2\2\u0107"+
+		"\u00f4\3\2\2\2\u0107\u00f5\3\2\2\2\u0107\u00f6\3\2\2\2\u0107\u00f7\3\2"+
+		"\2\2\u0107\u00f8\3\2\2\2\u0107\u00f9\3\2\2\2\u0107\u00fa\3\2\2\2\u0107"+
+		"\u00fb\3\2\2\2\u0107\u00fc\3\2\2\2\u0107\u00fd\3\2\2\2\u0107\u00fe\3\2"+
+		"\2\2\u0107\u00ff\3\2\2\2\u0107\u0100\3\2\2\2\u0107\u0101\3\2\2\2\u0107"+
+		"\u0102\3\2\2\2\u0107\u0103\3\2\2\2\u0107\u0104\3\2\2\2\u0107\u0105\3\2"+
+		"\2\2\u0107\u0106\3\2\2\2\u0108\13\3\2\2\2\u0109\u010a\7#\2\2\u010a\u010e"+
+		"\7\u0087\2\2\u010b\u010c\5\u008cG\2\u010c\u010d\7\4\2\2\u010d\u010f\3"+
+		"\2\2\2\u010e\u010b\3\2\2\2\u010e\u010f\3\2\2\2\u010f\u0110\3\2\2\2\u0110"+
+		"\u0119\5\u0092J\2\u0111\u0112\7~\2\2\u0112\u0113\7\u008b\2\2\u0113\u011a"+
+		"\5\u0096L\2\u0114\u0116\7 \2\2\u0115\u0117\7\63\2\2\u0116\u0115\3\2\2"+
+		"\2\u0116\u0117\3\2\2\2\u0117\u0118\3\2\2\2\u0118\u011a\5J&\2\u0119\u0111"+
+		"\3\2\2\2\u0119\u0114\3\2\2\2\u011a\r\3\2\2\2\u011b\u0122\7$\2\2\u011c"+
+		"\u0123\5\u008cG\2\u011d\u0123\5\u0094K\2\u011e\u011f\5\u008cG\2\u011f"+
+		"\u0120\7\4\2\2\u0120\u0121\5\u0094K\2\u0121\u0123\3\2\2\2\u0122\u011c"+
+		"\3\2\2\2\u0122\u011d\3\2\2\2\u0122\u011e\3\2\2\2\u0122\u0123\3\2\2\2\u0123"+
+		"\17\3\2\2\2\u0124\u0126\7(\2\2\u0125\u0127\7<\2\2\u0126\u0125\3\2\2\2"+
+		"\u0126\u0127\3\2\2\2\u0127\u0128\3\2\2\2\u0128\u0129\5R*\2\u0129\u012a"+
+		"\7&\2\2\u012a\u012b\5\u008cG\2\u012b\21\3\2\2\2\u012c\u012e\7+\2\2\u012d"+
+		"\u012f\t\3\2\2\u012e\u012d\3\2\2\2\u012e\u012f\3\2\2\2\u012f\u0134\3\2"+
+		"\2\2\u0130\u0132\7\u008c\2\2\u0131\u0133\5\u00acW\2\u0132\u0131\3\2\2"+
+		"\2\u0132\u0133\3\2\2\2\u0133\u0135\3\2\2\2\u0134\u0130\3\2\2\2\u0134\u0135"+
+		"\3\2\2\2\u0135\23\3\2\2\2\u0136\u013b\t\4\2\2\u0137\u0139\7\u008c\2\2"+
+		"\u0138\u013a\5\u00acW\2\u0139\u0138\3\2\2\2\u0139\u013a\3\2\2\2\u013a"+
+		"\u013c\3\2\2\2\u013b\u0137\3\2\2\2\u013b\u013c\3\2\2\2\u013c\25\3\2\2"+
+		"\2\u013d\u013f\5\\/\2\u013e\u013d\3\2\2\2\u013e\u013f\3\2\2\2\u013f\u0140"+
+		"\3\2\2\2\u0140\u014a\5p9\2\u0141\u0143\7\u008e\2\2\u0142\u0144\7\"\2\2"+
+		"\u0143\u0142\3\2\2\2\u0143\u0144\3\2\2\2\u0144\u0148\3\2\2\2\u0145\u0148"+
+		"\7_\2\2\u0146\u0148\7I\2\2\u0147\u0141\3\2\2\2\u0147\u0145\3\2\2\2\u0147"+
+		"\u0146\3\2\2\2\u0148\u0149\3\2\2\2\u0149\u014b\5p9\2\u014a\u0147\3\2\2"+
+		"\2\u014b\u014c\3\2\2\2\u014c\u014a\3\2\2\2\u014c\u014d\3\2\2\2\u014d\u0158"+
+		"\3\2\2\2\u014e\u014f\7r\2\2\u014f\u0150\7-\2\2\u0150\u0155\5`\61\2\u0151"+
+		"\u0152\7\7\2\2\u0152\u0154\5`\61\2\u0153\u0151\3\2\2\2\u0154\u0157\3\2"+
+		"\2\2\u0155\u0153\3\2\2\2\u0155\u0156\3\2\2\2\u0156\u0159\3\2\2\2\u0157"+
+		"\u0155\3\2\2\2\u0158\u014e\3\2\2\2\u0158\u0159\3\2\2\2\u0159\u0160\3\2"+
+		"\2\2\u015a\u015b\7g\2\2\u015b\u015e\5R*\2\u015c\u015d\t\5\2\2\u015d\u015f"+
+		"\5R*\2\u015e\u015c\3\2\2\2\u015e\u015f\3\2\2\2\u015f\u0161\3\2\2\2\u0160"+
+		"\u015a\3\2\2\2\u0160\u0161\3\2\2\2\u0161\27\3\2\2\2\u0162\u0164\7\67\2"+
+		"\2\u0163\u0165\7\u008f\2\2\u0164\u0163\3\2\2\2\u0164\u0165\3\2\2\2\u0165"+
+		"\u0166\3\2\2\2\u0166\u016a\7Y\2\2\u0167\u0168\7U\2\2\u0168\u0169\7k\2"+
+		"\2\u0169\u016b\7K\2\2\u016a\u0167\3\2\2\2\u016a\u016b\3\2\2\2\u016b\u016f"+
+		"\3\2\2\2\u016c\u016d\5\u008cG\2\u016d\u016e\7\4\2\2\u016e\u0170\3\2\2"+
+		"\2\u016f\u016c\3\2\2\2\u016f\u0170\3\2\2\2\u0170\u0171\3\2\2\2\u0171\u0172"+
+		"\5\u009eP\2\u0172\u0173\7p\2\2\u0173\u0174\5\u0092J\2\u0174\u0175\7\5"+
+		"\2\2\u0175\u017a\5X-\2\u0176\u0177\7\7\2\2\u0177\u0179\5X-\2\u0178\u0176"+
+		"\3\2\2\2\u0179\u017c\3\2\2\2\u017a\u0178\3\2\2\2\u017a\u017b\3\2\2\2\u017b"+
+		"\u017d\3\2\2\2\u017c\u017a\3\2\2\2\u017d\u0180\7\6\2\2\u017e\u017f\7\u0097"+
+		"\2\2\u017f\u0181\5R*\2\u0180\u017e\3\2\2\2\u0180\u0181\3\2\2\2\u0181\31"+
+		"\3\2\2\2\u0182\u0184\7\67\2\2\u0183\u0185\t\6\2\2\u0184\u0183\3\2\2\2"+
+		"\u0184\u0185\3\2\2\2\u0185\u0186\3\2\2\2\u0186\u018a\7\u0087\2\2\u0187"+
+		"\u0188\7U\2\2\u0188\u0189\7k\2\2\u0189\u018b\7K\2\2\u018a\u0187\3\2\2"+
+		"\2\u018a\u018b\3\2\2\2\u018b\u018f\3\2\2\2\u018c\u018d\5\u008cG\2\u018d"+
+		"\u018e\7\4\2\2\u018e\u0190\3\2\2\2\u018f\u018c\3\2\2\2\u018f\u0190\3\2"+
+		"\2\2\u0190\u0191\3\2\2\2\u0191\u01ae\5\u0092J\2\u0192\u0193\7\5\2\2\u0193"+
+		"\u0198\5J&\2\u0194\u0195\7\7\2\2\u0195\u0197\5J&\2\u0196\u0194\3\2\2\2"+
+		"\u0197\u019a\3\2\2\2\u0198\u0199\3\2\2\2\u0198\u0196\3\2\2\2\u0199\u019f"+
+		"\3\2\2\2\u019a\u0198\3\2\2\2\u019b\u019c\7\7\2\2\u019c\u019e\5Z.\2\u019d"+
+		"\u019b\3\2\2\2\u019e\u01a1\3\2\2\2\u019f\u019d\3\2\2\2\u019f\u01a0\3\2"+
+		"\2\2\u01a0\u01a2\3\2\2\2\u01a1\u019f\3\2\2\2\u01a2\u01a6\7\6\2\2\u01a3"+
+		"\u01a4\7\u009a\2\2\u01a4\u01a5\7\b\2\2\u01a5\u01a7\5R*\2\u01a6\u01a3\3"+
+		"\2\2\2\u01a6\u01a7\3\2\2\2\u01a7\u01aa\3\2\2\2\u01a8\u01a9\7\u0099\2\2"+
+		"\u01a9\u01ab\7\u009b\2\2\u01aa\u01a8\3\2\2\2\u01aa\u01ab\3\2\2\2\u01ab"+
+		"\u01af\3\2\2\2\u01ac\u01ad\7&\2\2\u01ad\u01af\5@!\2\u01ae\u0192\3\2\2"+
+		"\2\u01ae\u01ac\3\2\2\2\u01af\33\3\2\2\2\u01b0\u01b2\7\67\2\2\u01b1\u01b3"+
+		"\t\6\2\2\u01b2\u01b1\3\2\2\2\u01b2\u01b3\3\2\2\2\u01b3\u01b4\3\2\2\2\u01b4"+
+		"\u01b8\7\u008d\2\2\u01b5\u01b6\7U\2\2\u01b6\u01b7\7k\2\2\u01b7\u01b9\7"+
+		"K\2\2\u01b8\u01b5\3\2\2\2\u01b8\u01b9\3\2\2\2\u01b9\u01bd\3\2\2\2\u01ba"+
+		"\u01bb\5\u008cG\2\u01bb\u01bc\7\4\2\2\u01bc\u01be\3\2\2\2\u01bd\u01ba"+
+		"\3\2\2\2\u01bd\u01be\3\2\2\2\u01be\u01bf\3\2\2\2\u01bf\u01c4\5\u00a0Q"+
+		"\2\u01c0\u01c5\7*\2\2\u01c1\u01c5\7!\2\2\u01c2\u01c3\7^\2\2\u01c3\u01c5"+
+		"\7n\2\2\u01c4\u01c0\3\2\2\2\u01c4\u01c1\3\2\2\2\u01c4\u01c2\3\2\2\2\u01c4"+
+		"\u01c5\3\2\2\2\u01c5\u01d4\3\2\2\2\u01c6\u01d5\7@\2\2\u01c7\u01d5\7]\2"+
+		"\2\u01c8\u01d2\7\u0090\2\2\u01c9\u01ca\7n\2\2\u01ca\u01cf\5\u0098M\2\u01cb"+
+		"\u01cc\7\7\2\2\u01cc\u01ce\5\u0098M\2\u01cd\u01cb\3\2\2\2\u01ce\u01d1"+
+		"\3\2\2\2\u01cf\u01cd\3\2\2\2\u01cf\u01d0\3\2\2\2\u01d0\u01d3\3\2\2\2\u01d1"+
+		"\u01cf\3\2\2\2\u01d2\u01c9\3\2\2\2\u01d2\u01d3\3\2\2\2\u01d3\u01d5\3\2"+
+		"\2\2\u01d4\u01c6\3\2\2\2\u01d4\u01c7\3\2\2\2\u01d4\u01c8\3\2\2\2\u01d5"+
+		"\u01d6\3\2\2\2\u01d6\u01da\7p\2\2\u01d7\u01d8\5\u008cG\2\u01d8\u01d9\7"+
+		"\4\2\2\u01d9\u01db\3\2\2\2\u01da\u01d7\3\2\2\2\u01da\u01db\3\2\2\2\u01db"+
+		"\u01dc\3\2\2\2\u01dc\u01e0\5\u0092J\2\u01dd\u01de\7N\2\2\u01de\u01df\7"+
+		"E\2\2\u01df\u01e1\7\u0083\2\2\u01e0\u01dd\3\2\2\2\u01e0\u01e1\3\2\2\2"+
+		"\u01e1\u01e4\3\2\2\2\u01e2\u01e3\7\u0096\2\2\u01e3\u01e5\5R*\2\u01e4\u01e2"+
+		"\3\2\2\2\u01e4\u01e5\3\2\2\2\u01e5\u01e6\3\2\2\2\u01e6\u01ef\7+\2\2\u01e7"+
+		"\u01ec\5D#\2\u01e8\u01ec\5\62\32\2\u01e9\u01ec\5\"\22\2\u01ea\u01ec\5"+
+		"@!\2\u01eb\u01e7\3\2\2\2\u01eb\u01e8\3\2\2\2\u01eb\u01e9\3\2\2\2\u01eb"+
+		"\u01ea\3\2\2\2\u01ec\u01ed\3\2\2\2\u01ed\u01ee\7\3\2\2\u01ee\u01f0\3\2"+
+		"\2\2\u01ef\u01eb\3\2\2\2\u01f0\u01f1\3\2\2\2\u01f1\u01ef\3\2\2\2\u01f1"+
+		"\u01f2\3\2\2\2\u01f2\u01f3\3\2\2\2\u01f3\u01f4\7G\2\2\u01f4\35\3\2\2\2"+
+		"\u01f5\u01f7\7\67\2\2\u01f6\u01f8\t\6\2\2\u01f7\u01f6\3\2\2\2\u01f7\u01f8"+
+		"\3\2\2\2\u01f8\u01f9\3\2\2\2\u01f9\u01fd\7\u0094\2\2\u01fa\u01fb\7U\2"+
+		"\2\u01fb\u01fc\7k\2\2\u01fc\u01fe\7K\2\2\u01fd\u01fa\3\2\2\2\u01fd\u01fe"+
+		"\3\2\2\2\u01fe\u0202\3\2\2\2\u01ff\u0200\5\u008cG\2\u0200\u0201\7\4\2"+
+		"\2\u0201\u0203\3\2\2\2\u0202\u01ff\3\2\2\2\u0202\u0203\3\2\2\2\u0203\u0204"+
+		"\3\2\2\2\u0204\u0205\5\u00a2R\2\u0205\u0206\7&\2\2\u0206\u0207\5@!\2\u0207"+
+		"\37\3\2\2\2\u0208\u0209\7\67\2\2\u0209\u020a\7\u0095\2\2\u020a\u020e\7"+
+		"\u0087\2\2\u020b\u020c\7U\2\2\u020c\u020d\7k\2\2\u020d\u020f\7K\2\2\u020e"+
+		"\u020b\3\2\2\2\u020e\u020f\3\2\2\2\u020f\u0213\3\2\2\2\u0210\u0211\5\u008c"+
+		"G\2\u0211\u0212\7\4\2\2\u0212\u0214\3\2\2\2\u0213\u0210\3\2\2\2\u0213"+
+		"\u0214\3\2\2\2\u0214\u0215\3\2\2\2\u0215\u0216\5\u0092J\2\u0216\u0217"+
+		"\7\u0091\2\2\u0217\u0223\5\u00a4S\2\u0218\u0219\7\5\2\2\u0219\u021e\5"+
+		"\u0082B\2\u021a\u021b\7\7\2\2\u021b\u021d\5\u0082B\2\u021c\u021a\3\2\2"+
+		"\2\u021d\u0220\3\2\2\2\u021e\u021c\3\2\2\2\u021e\u021f\3\2\2\2\u021f\u0221"+
+		"\3\2\2\2\u0220\u021e\3\2\2\2\u0221\u0222\7\6\2\2\u0222\u0224\3\2\2\2\u0223"+
+		"\u0218\3\2\2\2\u0223\u0224\3\2\2\2\u0224!\3\2\2\2\u0225\u0227\5\\/\2\u0226"+
+		"\u0225\3\2\2\2\u0226\u0227\3\2\2\2\u0227\u0228\3\2\2\2\u0228\u0229\7@"+
+		"\2\2\u0229\u022a\7P\2\2\u022a\u022d\5^\60\2\u022b\u022c\7\u0097\2\2\u022c"+
+		"\u022e\5R*\2\u022d\u022b\3\2\2\2\u022d\u022e\3\2\2\2\u022e#\3\2\2\2\u022f"+
+		"\u0231\5\\/\2\u0230\u022f\3\2\2\2\u0230\u0231\3\2\2\2\u0231\u0232\3\2"+
+		"\2\2\u0232\u0233\7@\2\2\u0233\u0234\7P\2\2\u0234\u0237\5^\60\2\u0235\u0236"+
+		"\7\u0097\2\2\u0236\u0238\5R*\2\u0237\u0235\3\2\2\2\u0237\u0238\3\2\2\2"+
+		"\u0238\u024b\3\2\2\2\u0239\u023a\7r\2\2\u023a\u023b\7-\2\2\u023b\u0240"+
+		"\5`\61\2\u023c\u023d\7\7\2\2\u023d\u023f\5`\61\2\u023e\u023c\3\2\2\2\u023f"+
+		"\u0242\3\2\2\2\u0240\u023e\3\2\2\2\u0240\u0241\3\2\2\2\u0241\u0244\3\2"+
+		"\2\2\u0242\u0240\3\2\2\2\u0243\u0239\3\2\2\2\u0243\u0244\3\2\2\2\u0244"+
+		"\u0245\3\2\2\2\u0245\u0246\7g\2\2\u0246\u0249\5R*\2\u0247\u0248\t\5\2"+
+		"\2\u0248\u024a\5R*\2\u0249\u0247\3\2\2\2\u0249\u024a\3\2\2\2\u024a\u024c"+
+		"\3\2\2\2\u024b\u0243\3\2\2\2\u024b\u024c\3\2\2\2\u024c%\3\2\2\2\u024d"+
+		"\u024f\7B\2\2\u024e\u0250\7<\2\2\u024f\u024e\3\2\2\2\u024f\u0250\3\2\2"+
+		"\2\u0250\u0251\3\2\2\2\u0251\u0252\5\u008cG\2\u0252\'\3\2\2\2\u0253\u0254"+
+		"\7D\2\2\u0254\u0257\7Y\2\2\u0255\u0256\7U\2\2\u0256\u0258\7K\2\2\u0257"+
+		"\u0255\3\2\2\2\u0257\u0258\3\2\2\2\u0258\u025c\3\2\2\2\u0259\u025a\5\u008c"+
+		"G\2\u025a\u025b\7\4\2\2\u025b\u025d\3\2\2\2\u025c\u0259\3\2\2\2\u025c"+
+		"\u025d\3\2\2\2\u025d\u025e\3\2\2\2\u025e\u025f\5\u009eP\2\u025f)\3\2\2"+
+		"\2\u0260\u0261\7D\2\2\u0261\u0264\7\u0087\2\2\u0262\u0263\7U\2\2\u0263"+
+		"\u0265\7K\2\2\u0264\u0262\3\2\2\2\u0264\u0265\3\2\2\2\u0265\u0269\3\2"+
+		"\2\2\u0266\u0267\5\u008cG\2\u0267\u0268\7\4\2\2\u0268\u026a\3\2\2\2\u0269"+
+		"\u0266\3\2\2\2\u0269\u026a\3\2\2\2\u026a\u026b\3\2\2\2\u026b\u026c\5\u0092"+
+		"J\2\u026c+\3\2\2\2\u026d\u026e\7D\2\2\u026e\u0271\7\u008d\2\2\u026f\u0270"+
+		"\7U\2\2\u0270\u0272\7K\2\2\u0271\u026f\3\2\2\2\u0271\u0272\3\2\2\2\u0272"+
+		"\u0276\3\2\2\2\u0273\u0274\5\u008cG\2\u0274\u0275\7\4\2\2\u0275\u0277"+
+		"\3\2\2\2\u0276\u0273\3\2\2\2\u0276\u0277\3\2\2\2\u0277\u0278\3\2\2\2\u0278"+
+		"\u0279\5\u00a0Q\2\u0279-\3\2\2\2\u027a\u027b\7D\2\2\u027b\u027e\7\u0094"+
+		"\2\2\u027c\u027d\7U\2\2\u027d\u027f\7K\2\2\u027e\u027c\3\2\2\2\u027e\u027f"+
+		"\3\2\2\2\u027f\u0283\3\2\2\2\u0280\u0281\5\u008cG\2\u0281\u0282\7\4\2"+
+		"\2\u0282\u0284\3\2\2\2\u0283\u0280\3\2\2\2\u0283\u0284\3\2\2\2\u0284\u0285"+
+		"\3\2\2\2\u0285\u0286\5\u00a2R\2\u0286/\3\2\2\2\u0287\u0289\5\\/\2\u0288"+
+		"\u0287\3\2\2\2\u0288\u0289\3\2\2\2\u0289\u028a\3\2\2\2\u028a\u0290\5p"+
+		"9\2\u028b\u028c\5x=\2\u028c\u028d\5p9\2\u028d\u028f\3\2\2\2\u028e\u028b"+
+		"\3\2\2\2\u028f\u0292\3\2\2\2\u0290\u028e\3\2\2\2\u0290\u0291\3\2\2\2\u0291"+
+		"\u029d\3\2\2\2\u0292\u0290\3\2\2\2\u0293\u0294\7r\2\2\u0294\u0295\7-\2"+
+		"\2\u0295\u029a\5`\61\2\u0296\u0297\7\7\2\2\u0297\u0299\5`\61\2\u0298\u0296"+
+		"\3\2\2\2\u0299\u029c\3\2\2\2\u029a\u0298\3\2\2\2\u029a\u029b\3\2\2\2\u029b"+
+		"\u029e\3\2\2\2\u029c\u029a\3\2\2\2\u029d\u0293\3\2\2\2\u029d\u029e\3\2"+
+		"\2\2\u029e\u02a5\3\2\2\2\u029f\u02a0\7g\2\2\u02a0\u02a3\5R*\2\u02a1\u02a2"+
+		"\t\5\2\2\u02a2\u02a4\5R*\2\u02a3\u02a1\3\2\2\2\u02a3\u02a4\3\2\2\2\u02a4"+
+		"\u02a6\3\2\2\2\u02a5\u029f\3\2\2\2\u02a5\u02a6\3\2\2\2\u02a6\61\3\2\2"+
+		"\2\u02a7\u02a9\5\\/\2\u02a8\u02a7\3\2\2\2\u02a8\u02a9\3\2\2\2\u02a9\u02bb"+
+		"\3\2\2\2\u02aa\u02bc\7]\2\2\u02ab\u02bc\7\177\2\2\u02ac\u02ad\7]\2\2\u02ad"+
+		"\u02ae\7q\2\2\u02ae\u02bc\7\177\2\2\u02af\u02b0\7]\2\2\u02b0\u02b1\7q"+
+		"\2\2\u02b1\u02bc\7\u0082\2\2\u02b2\u02b3\7]\2\2\u02b3\u02b4\7q\2\2\u02b4"+
+		"\u02bc\7\36\2\2\u02b5\u02b6\7]\2\2\u02b6\u02b7\7q\2\2\u02b7\u02bc\7M\2"+
+		"\2\u02b8\u02b9\7]\2\2\u02b9\u02ba\7q\2\2\u02ba\u02bc\7V\2\2\u02bb\u02aa"+
+		"\3\2\2\2\u02bb\u02ab\3\2\2\2\u02bb\u02ac\3\2\2\2\u02bb\u02af\3\2\2\2\u02bb"+
+		"\u02b2\3\2\2\2\u02bb\u02b5\3\2\2\2\u02bb\u02b8\3\2\2\2\u02bc\u02bd\3\2"+
+		"\2\2\u02bd\u02c1\7`\2\2\u02be\u02bf\5\u008cG\2\u02bf\u02c0\7\4\2\2\u02c0"+
+		"\u02c2\3\2\2\2\u02c1\u02be\3\2\2\2\u02c1\u02c2\3\2\2\2\u02c2\u02c3\3\2"+
+		"\2\2\u02c3\u02cf\5\u0092J\2\u02c4\u02c5\7\5\2\2\u02c5\u02ca\5\u0098M\2"+
+		"\u02c6\u02c7\7\7\2\2\u02c7\u02c9\5\u0098M\2\u02c8\u02c6\3\2\2\2\u02c9"+
+		"\u02cc\3\2\2\2\u02ca\u02c8\3\2\2\2\u02ca\u02cb\3\2\2\2\u02cb\u02cd\3\2"+
+		"\2\2\u02cc\u02ca\3\2\2\2\u02cd\u02ce\7\6\2\2\u02ce\u02d0\3\2\2\2\u02cf"+
+		"\u02c4\3\2\2\2\u02cf\u02d0\3\2\2\2\u02d0\u02f0\3\2\2\2\u02d1\u02d2\7\u0093"+
+		"\2\2\u02d2\u02d3\7\5\2\2\u02d3\u02d8\5R*\2\u02d4\u02d5\7\7\2\2\u02d5\u02d7"+
+		"\5R*\2\u02d6\u02d4\3\2\2\2\u02d7\u02da\3\2\2\2\u02d8\u02d6\3\2\2\2\u02d8"+
+		"\u02d9\3\2\2\2\u02d9\u02db\3\2\2\2\u02da\u02d8\3\2\2\2\u02db\u02ea\7\6"+
+		"\2\2\u02dc\u02dd\7\7\2\2\u02dd\u02de\7\5\2\2\u02de\u02e3\5R*\2\u02df\u02e0"+
+		"\7\7\2\2\u02e0\u02e2\5R*\2\u02e1\u02df\3\2\2\2\u02e2\u02e5\3\2\2\2\u02e3"+
+		"\u02e1\3\2\2\2\u02e3\u02e4\3\2\2\2\u02e4\u02e6\3\2\2\2\u02e5\u02e3\3\2"+
+		"\2\2\u02e6\u02e7\7\6\2\2\u02e7\u02e9\3\2\2\2\u02e8\u02dc\3\2\2\2\u02e9"+
+		"\u02ec\3\2\2\2\u02ea\u02e8\3\2\2\2\u02ea\u02eb\3\2\2\2\u02eb\u02f1\3\2"+
+		"\2\2\u02ec\u02ea\3\2\2\2\u02ed\u02f1\5@!\2\u02ee\u02ef\7=\2\2\u02ef\u02f1"+
+		"\7\u0093\2\2\u02f0\u02d1\3\2\2\2\u02f0\u02ed\3\2\2\2\u02f0\u02ee\3\2\2"+
+		"\2\u02f1\63\3\2\2\2\u02f2\u02f6\7u\2\2\u02f3\u02f4\5\u008cG\2\u02f4\u02f5"+
+		"\7\4\2\2\u02f5\u02f7\3\2\2\2\u02f6\u02f3\3\2\2\2\u02f6\u02f7\3\2\2\2\u02f7"+
+		"\u02f8\3\2\2\2\u02f8\u02ff\5\u00a6T\2\u02f9\u02fa\7\b\2\2\u02fa\u0300"+
+		"\5b\62\2\u02fb\u02fc\7\5\2\2\u02fc\u02fd\5b\62\2\u02fd\u02fe\7\6\2\2\u02fe"+
+		"\u0300\3\2\2\2\u02ff\u02f9\3\2\2\2\u02ff\u02fb\3\2\2\2\u02ff\u0300\3\2"+
+		"\2\2\u0300\65\3\2\2\2\u0301\u030c\7|\2\2\u0302\u030d\5\u009aN\2\u0303"+
+		"\u0304\5\u008cG\2\u0304\u0305\7\4\2\2\u0305\u0307\3\2\2\2\u0306\u0303"+
+		"\3\2\2\2\u0306\u0307\3\2\2\2\u0307\u030a\3\2\2\2\u0308\u030b\5\u0092J"+
+		"\2\u0309\u030b\5\u009eP\2\u030a\u0308\3\2\2\2\u030a\u0309\3\2\2\2\u030b"+
+		"\u030d\3\2\2\2\u030c\u0302\3\2\2\2\u030c\u0306\3\2\2\2\u030c\u030d\3\2"+
+		"\2\2\u030d\67\3\2\2\2\u030e\u0310\7}\2\2\u030f\u0311\7\u0084\2\2\u0310"+
+		"\u030f\3\2\2\2\u0310\u0311\3\2\2\2\u0311\u0312\3\2\2\2\u0312\u0313\5\u00a8"+
+		"U\2\u03139\3\2\2\2\u0314\u0319\7\u0082\2\2\u0315\u0317\7\u008c\2\2\u0316"+
+		"\u0318\5\u00acW\2\u0317\u0316\3\2\2\2\u0317\u0318\3\2\2\2\u0318\u031a"+
+		"\3\2\2\2\u0319\u0315\3\2\2\2\u0319\u031a\3\2\2\2\u031a\u0320\3\2\2\2\u031b"+
+		"\u031d\7\u008b\2\2\u031c\u031e\7\u0084\2\2\u031d\u031c\3\2\2\2\u031d\u031e"+
+		"\3\2\2\2\u031e\u031f\3\2\2\2\u031f\u0321\5\u00a8U\2\u0320\u031b\3\2\2"+
+		"\2\u0320\u0321\3\2\2\2\u0321;\3\2\2\2\u0322\u0323\7\u0084\2\2\u0323\u0324"+
+		"\5\u00a8U\2\u0324=\3\2\2\2\u0325\u0327\5\\/\2\u0326\u0325\3\2\2\2\u0326"+
+		"\u0327\3\2\2\2\u0327\u0328\3\2\2\2\u0328\u0333\5p9\2\u0329\u032a\7r\2"+
+		"\2\u032a\u032b\7-\2\2\u032b\u0330\5`\61\2\u032c\u032d\7\7\2\2\u032d\u032f"+
+		"\5`\61\2\u032e\u032c\3\2\2\2\u032f\u0332\3\2\2\2\u0330\u032e\3\2\2\2\u0330"+
+		"\u0331\3\2\2\2\u0331\u0334\3\2\2\2\u0332\u0330\3\2\2\2\u0333\u0329\3\2"+
+		"\2\2\u0333\u0334\3\2\2\2\u0334\u033b\3\2\2\2\u0335\u0336\7g\2\2\u0336"+
+		"\u0339\5R*\2\u0337\u0338\t\5\2\2\u0338\u033a\5R*\2\u0339\u0337\3\2\2\2"+
+		"\u0339\u033a\3\2\2\2\u033a\u033c\3\2\2\2\u033b\u0335\3\2\2\2\u033b\u033c"+
+		"\3\2\2\2\u033c?\3\2\2\2\u033d\u033f\5\\/\2\u033e\u033d\3\2\2\2\u033e\u033f"+
+		"\3\2\2\2\u033f\u0340\3\2\2\2\u0340\u0346\5B\"\2\u0341\u0342\5x=\2\u0342"+
+		"\u0343\5B\"\2\u0343\u0345\3\2\2\2\u0344\u0341\3\2\2\2\u0345\u0348\3\2"+
+		"\2\2\u0346\u0344\3\2\2\2\u0346\u0347\3\2\2\2\u0347\u0353\3\2\2\2\u0348"+
+		"\u0346\3\2\2\2\u0349\u034a\7r\2\2\u034a\u034b\7-\2\2\u034b\u0350\5`\61"+
+		"\2\u034c\u034d\7\7\2\2\u034d\u034f\5`\61\2\u034e\u034c\3\2\2\2\u034f\u0352"+
+		"\3\2\2\2\u0350\u034e\3\2\2\2\u0350\u0351\3\2\2\2\u0351\u0354\3\2\2\2\u0352"+
+		"\u0350\3\2\2\2\u0353\u0349\3\2\2\2\u0353\u0354\3\2\2\2\u0354\u035b\3\2"+
+		"\2\2\u0355\u0356\7g\2\2\u0356\u0359\5R*\2\u0357\u0358\t\5\2\2\u0358\u035a"+
+		"\5R*\2\u0359\u0357\3\2\2\2\u0359\u035a\3\2\2\2\u035a\u035c\3\2\2\2\u035b"+
+		"\u0355\3\2\2\2\u035b\u035c\3\2\2\2\u035cA\3\2\2\2\u035d\u035f\7\u0085"+
+		"\2\2\u035e\u0360\t\7\2\2\u035f\u035e\3\2\2\2\u035f\u0360\3\2\2\2\u0360"+
+		"\u0361\3\2\2\2\u0361\u0366\5f\64\2\u0362\u0363\7\7\2\2\u0363\u0365\5f"+
+		"\64\2\u0364\u0362\3\2\2\2\u0365\u0368\3\2\2\2\u0366\u0364\3\2\2\2\u0366"+
+		"\u0367\3\2\2\2\u0367\u0375\3\2\2\2\u0368\u0366\3\2\2\2\u0369\u0373\7P"+
+		"\2\2\u036a\u036f\5h\65\2\u036b\u036c\7\7\2\2\u036c\u036e\5h\65\2\u036d"+
+		"\u036b\3\2\2\2\u036e\u0371\3\2\2\2\u036f\u036d\3\2\2\2\u036f\u0370\3\2"+
+		"\2\2\u0370\u0374\3\2\2\2\u0371\u036f\3\2\2\2\u0372\u0374\5j\66\2\u0373"+
+		"\u036a\3\2\2\2\u0373\u0372\3\2\2\2\u0374\u0376\3\2\2\2\u0375\u0369\3\2"+
+		"\2\2\u0375\u0376\3\2\2\2\u0376\u0379\3\2\2\2\u0377\u0378\7\u0097\2\2\u0378"+
+		"\u037a\5R*\2\u0379\u0377\3\2\2\2\u0379\u037a\3\2\2\2\u037a\u0389\3\2\2"+
+		"\2\u037b\u037c\7S\2\2\u037c\u037d\7-\2\2\u037d\u0382\5R*\2\u037e\u037f"+
+		"\7\7\2\2\u037f\u0381\5R*\2\u0380\u037e\3\2\2\2\u0381\u0384\3\2\2\2\u0382"+
+		"\u0380\3\2\2\2\u0382\u0383\3\2\2\2\u0383\u0387\3\2\2\2\u0384\u0382\3\2"+
+		"\2\2\u0385\u0386\7T\2\2\u0386\u0388\5R*\2\u0387\u0385\3\2\2\2\u0387\u0388"+
+		"\3\2\2\2\u0388\u038a\3\2\2\2\u0389\u037b\3\2\2\2\u0389\u038a\3\2\2\2\u038a"+
+		"\u03a8\3\2\2\2\u038b\u038c\7\u0093\2\2\u038c\u038d\7\5\2\2\u038d\u0392"+
+		"\5R*\2\u038e\u038f\7\7\2\2\u038f\u0391\5R*\2\u0390\u038e\3\2\2\2\u0391"+
+		"\u0394\3\2\2\2\u0392\u0390\3\2\2\2\u0392\u0393\3\2\2\2\u0393\u0395\3\2"+
+		"\2\2\u0394\u0392\3\2\2\2\u0395\u03a4\7\6\2\2\u0396\u0397\7\7\2\2\u0397"+
+		"\u0398\7\5\2\2\u0398\u039d\5R*\2\u0399\u039a\7\7\2\2\u039a\u039c\5R*\2"+
+		"\u039b\u0399\3\2\2\2\u039c\u039f\3\2\2\2\u039d\u039b\3\2\2\2\u039d\u039e"+
+		"\3\2\2\2\u039e\u03a0\3\2\2\2\u039f\u039d\3\2\2\2\u03a0\u03a1\7\6\2\2\u03a1"+
+		"\u03a3\3\2\2\2\u03a2\u0396\3\2\2\2\u03a3\u03a6\3\2\2\2\u03a4\u03a2\3\2"+
+		"\2\2\u03a4\u03a5\3\2\2\2\u03a5\u03a8\3\2\2\2\u03a6\u03a4\3\2\2\2\u03a7"+
+		"\u035d\3\2\2\2\u03a7\u038b\3\2\2\2\u03a8C\3\2\2\2\u03a9\u03ab\5\\/\2\u03aa"+
+		"\u03a9\3\2\2\2\u03aa\u03ab\3\2\2\2\u03ab\u03ac\3\2\2\2\u03ac\u03b7\7\u0090"+
+		"\2\2\u03ad\u03ae\7q\2\2\u03ae\u03b8\7\u0082\2\2\u03af\u03b0\7q\2\2\u03b0"+
+		"\u03b8\7\36\2\2\u03b1\u03b2\7q\2\2\u03b2\u03b8\7\177\2\2\u03b3\u03b4\7"+
+		"q\2\2\u03b4\u03b8\7M\2\2\u03b5\u03b6\7q\2\2\u03b6\u03b8\7V\2\2\u03b7\u03ad"+
+		"\3\2\2\2\u03b7\u03af\3\2\2\2\u03b7\u03b1\3\2\2\2\u03b7\u03b3\3\2\2\2\u03b7"+
+		"\u03b5\3\2\2\2\u03b7\u03b8\3\2\2\2\u03b8\u03b9\3\2\2\2\u03b9\u03ba\5^"+
+		"\60\2\u03ba\u03bb\7\u0086\2\2\u03bb\u03bc\5\u0098M\2\u03bc\u03bd\7\b\2"+
+		"\2\u03bd\u03c5\5R*\2\u03be\u03bf\7\7\2\2\u03bf\u03c0\5\u0098M\2\u03c0"+
+		"\u03c1\7\b\2\2\u03c1\u03c2\5R*\2\u03c2\u03c4\3\2\2\2\u03c3\u03be\3\2\2"+
+		"\2\u03c4\u03c7\3\2\2\2\u03c5\u03c3\3\2\2\2\u03c5\u03c6\3\2\2\2\u03c6\u03ca"+
+		"\3\2\2\2\u03c7\u03c5\3\2\2\2\u03c8\u03c9\7\u0097\2\2\u03c9\u03cb\5R*\2"+
+		"\u03ca\u03c8\3\2\2\2\u03ca\u03cb\3\2\2\2\u03cbE\3\2\2\2\u03cc\u03ce\5"+
+		"\\/\2\u03cd\u03cc\3\2\2\2\u03cd\u03ce\3\2\2\2\u03ce\u03cf\3\2\2\2\u03cf"+
+		"\u03da\7\u0090\2\2\u03d0\u03d1\7q\2\2\u03d1\u03db\7\u0082\2\2\u03d2\u03d3"+
+		"\7q\2\2\u03d3\u03db\7\36\2\2\u03d4\u03d5\7q\2\2\u03d5\u03db\7\177\2\2"+
+		"\u03d6\u03d7\7q\2\2\u03d7\u03db\7M\2\2\u03d8\u03d9\7q\2\2\u03d9\u03db"+
+		"\7V\2\2\u03da\u03d0\3\2\2\2\u03da\u03d2\3\2\2\2\u03da\u03d4\3\2\2\2\u03da"+
+		"\u03d6\3\2\2\2\u03da\u03d8\3\2\2\2\u03da\u03db\3\2\2\2\u03db\u03dc\3\2"+
+		"\2\2\u03dc\u03dd\5^\60\2\u03dd\u03de\7\u0086\2\2\u03de\u03df\5\u0098M"+
+		"\2\u03df\u03e0\7\b\2\2\u03e0\u03e8\5R*\2\u03e1\u03e2\7\7\2\2\u03e2\u03e3"+
+		"\5\u0098M\2\u03e3\u03e4\7\b\2\2\u03e4\u03e5\5R*\2\u03e5\u03e7\3\2\2\2"+
+		"\u03e6\u03e1\3\2\2\2\u03e7\u03ea\3\2\2\2\u03e8\u03e6\3\2\2\2\u03e8\u03e9"+
+		"\3\2\2\2\u03e9\u03ed\3\2\2\2\u03ea\u03e8\3\2\2\2\u03eb\u03ec\7\u0097\2"+
+		"\2\u03ec\u03ee\5R*\2\u03ed\u03eb\3\2\2\2\u03ed\u03ee\3\2\2\2\u03ee\u0401"+
+		"\3\2\2\2\u03ef\u03f0\7r\2\2\u03f0\u03f1\7-\2\2\u03f1\u03f6\5`\61\2\u03f2"+
+		"\u03f3\7\7\2\2\u03f3\u03f5\5`\61\2\u03f4\u03f2\3\2\2\2\u03f5\u03f8\3\2"+
+		"\2\2\u03f6\u03f4\3\2\2\2\u03f6\u03f7\3\2\2\2\u03f7\u03fa\3\2\2\2\u03f8"+
+		"\u03f6\3\2\2\2\u03f9\u03ef\3\2\2\2\u03f9\u03fa\3\2\2\2\u03fa\u03fb\3\2"+
+		"\2\2\u03fb\u03fc\7g\2\2\u03fc\u03ff\5R*\2\u03fd\u03fe\t\5\2\2\u03fe\u0400"+
+		"\5R*\2\u03ff\u03fd\3\2\2\2\u03ff\u0400\3\2\2\2\u0400\u0402\3\2\2\2\u0401"+
+		"\u03f9\3\2\2\2\u0401\u0402\3\2\2\2\u0402G\3\2\2\2\u0403\u0404\7\u0092"+
+		"\2\2\u0404I\3\2\2\2\u0405\u0407\5\u0098M\2\u0406\u0408\5L\'\2\u0407\u0406"+
+		"\3\2\2\2\u0407\u0408\3\2\2\2\u0408\u040c\3\2\2\2\u0409\u040b\5N(\2\u040a"+
+		"\u0409\3\2\2\2\u040b\u040e\3\2\2\2\u040c\u040a\3\2\2\2\u040c\u040d\3\2"+
+		"\2\2\u040dK\3\2\2\2\u040e\u040c\3\2\2\2\u040f\u0411\5\u0088E\2\u0410\u040f"+
+		"\3\2\2\2\u0411\u0412\3\2\2\2\u0412\u0413\3\2\2\2\u0412\u0410\3\2\2\2\u0413"+
+		"\u041e\3\2\2\2\u0414\u0415\7\5\2\2\u0415\u0416\5z>\2\u0416\u0417\7\6\2"+
+		"\2\u0417\u041f\3\2\2\2\u0418\u0419\7\5\2\2\u0419\u041a\5z>\2\u041a\u041b"+
+		"\7\7\2\2\u041b\u041c\5z>\2\u041c\u041d\7\6\2\2\u041d\u041f\3\2\2\2\u041e"+
+		"\u0414\3\2\2\2\u041e\u0418\3\2\2\2\u041e\u041f\3\2\2\2\u041fM\3\2\2\2"+
+		"\u0420\u0421\7\66\2\2\u0421\u0423\5\u0088E\2\u0422\u0420\3\2\2\2\u0422"+
+		"\u0423\3\2\2\2\u0423\u0445\3\2\2\2\u0424\u0425\7v\2\2\u0425\u0427\7d\2"+
+		"\2\u0426\u0428\t\b\2\2\u0427\u0426\3\2\2\2\u0427\u0428\3\2\2\2\u0428\u0429"+
+		"\3\2\2\2\u0429\u042b\5P)\2\u042a\u042c\7)\2\2\u042b\u042a\3\2\2\2\u042b"+
+		"\u042c\3\2\2\2\u042c\u0446\3\2\2\2\u042d\u042f\7k\2\2\u042e\u042d\3\2"+
+		"\2\2\u042e\u042f\3\2\2\2\u042f\u0430\3\2\2\2\u0430\u0431\7m\2\2\u0431"+
+		"\u0446\5P)\2\u0432\u0433\7\u008f\2\2\u0433\u0446\5P)\2\u0434\u0435\7\61"+
+		"\2\2\u0435\u0436\7\5\2\2\u0436\u0437\5R*\2\u0437\u0438\7\6\2\2\u0438\u0446"+
+		"\3\2\2\2\u0439\u0440\7=\2\2\u043a\u0441\5z>\2\u043b\u0441\5|?\2\u043c"+
+		"\u043d\7\5\2\2\u043d\u043e\5R*\2\u043e\u043f\7\6\2\2\u043f\u0441\3\2\2"+
+		"\2\u0440\u043a\3\2\2\2\u0440\u043b\3\2\2\2\u0440\u043c\3\2\2\2\u0441\u0446"+
+		"\3\2\2\2\u0442\u0443\7\62\2\2\u0443\u0446\5\u009aN\2\u0444\u0446\5T+\2"+
+		"\u0445\u0424\3\2\2\2\u0445\u042e\3\2\2\2\u0445\u0432\3\2\2\2\u0445\u0434"+
+		"\3\2\2\2\u0445\u0439\3\2\2\2\u0445\u0442\3\2\2\2\u0445\u0444\3\2\2\2\u0446"+
+		"O\3\2\2\2\u0447\u0448\7p\2\2\u0448\u0449\7\65\2\2\u0449\u044b\t\t\2\2"+
+		"\u044a\u0447\3\2\2\2\u044a\u044b\3\2\2\2\u044bQ\3\2\2\2\u044c\u044d\b"+
+		"*\1\2\u044d\u0499\5|?\2\u044e\u0499\7\u009d\2\2\u044f\u0450\5\u008cG\2"+
+		"\u0450\u0451\7\4\2\2\u0451\u0453\3\2\2\2\u0452\u044f\3\2\2\2\u0452\u0453"+
+		"\3\2\2\2\u0453\u0454\3\2\2\2\u0454\u0455\5\u0092J\2\u0455\u0456\7\4\2"+
+		"\2\u0456\u0458\3\2\2\2\u0457\u0452\3\2\2\2\u0457\u0458\3\2\2\2\u0458\u0459"+
+		"\3\2\2\2\u0459\u0499\5\u0098M\2\u045a\u045b\5~@\2\u045b\u045c\5R*\27\u045c"+
+		"\u0499\3\2\2\2\u045d\u045e\5\u008aF\2\u045e\u046b\7\5\2\2\u045f\u0461"+
+		"\7C\2\2\u0460\u045f\3\2\2\2\u0460\u0461\3\2\2\2\u0461\u0462\3\2\2\2\u0462"+
+		"\u0467\5R*\2\u0463\u0464\7\7\2\2\u0464\u0466\5R*\2\u0465\u0463\3\2\2\2"+
+		"\u0466\u0469\3\2\2\2\u0467\u0465\3\2\2\2\u0467\u0468\3\2\2\2\u0468\u046c"+
+		"\3\2\2\2\u0469\u0467\3\2\2\2\u046a\u046c\7\t\2\2\u046b\u0460\3\2\2\2\u046b"+
+		"\u046a\3\2\2\2\u046b\u046c\3\2\2\2\u046c\u046d\3\2\2\2\u046d\u046e\7\6"+
+		"\2\2\u046e\u0499\3\2\2\2\u046f\u0470\7\5\2\2\u0470\u0471\5R*\2\u0471\u0472"+
+		"\7\6\2\2\u0472\u0499\3\2\2\2\u0473\u0474\7\60\2\2\u0474\u0475\7\5\2\2"+
+		"\u0475\u0476\5R*\2\u0476\u0477\7&\2\2\u0477\u0478\5L\'\2\u0478\u0479\7"+
+		"\6\2\2\u0479\u0499\3\2\2\2\u047a\u047c\7k\2\2\u047b\u047a\3\2\2\2\u047b"+
+		"\u047c\3\2\2\2\u047c\u047d\3\2\2\2\u047d\u047f\7K\2\2\u047e\u047b\3\2"+
+		"\2\2\u047e\u047f\3\2\2\2\u047f\u0480\3\2\2\2\u0480\u0481\7\5\2\2\u0481"+
+		"\u0482\5@!\2\u0482\u0483\7\6\2\2\u0483\u0499\3\2\2\2\u0484\u0486\7/\2"+
+		"\2\u0485\u0487\5R*\2\u0486\u0485\3\2\2\2\u0486\u0487\3\2\2\2\u0487\u048d"+
+		"\3\2\2\2\u0488\u0489\7\u0096\2\2\u0489\u048a\5R*\2\u048a\u048b\7\u008a"+
+		"\2\2\u048b\u048c\5R*\2\u048c\u048e\3\2\2\2\u048d\u0488\3\2\2\2\u048e\u048f"+
+		"\3\2\2\2\u048f\u048d\3\2\2\2\u048f\u0490\3\2\2\2\u0490\u0493\3\2\2\2\u0491"+
+		"\u0492\7F\2\2\u0492\u0494\5R*\2\u0493\u0491\3\2\2\2\u0493\u0494\3\2\2"+
+		"\2\u0494\u0495\3\2\2\2\u0495\u0496\7G\2\2\u0496\u0499\3\2\2\2\u0497\u0499"+
+		"\5V,\2\u0498\u044c\3\2\2\2\u0498\u044e\3\2\2\2\u0498\u0457\3\2\2\2\u0498"+
+		"\u045a\3\2\2\2\u0498\u045d\3\2\2\2\u0498\u046f\3\2\2\2\u0498\u0473\3\2"+
+		"\2\2\u0498\u047e\3\2\2\2\u0498\u0484\3\2\2\2\u0498\u0497\3\2\2\2\u0499"+
+		"\u04f1\3\2\2\2\u049a\u049b\f\26\2\2\u049b\u049c\7\r\2\2\u049c\u04f0\5"+
+		"R*\27\u049d\u049e\f\25\2\2\u049e\u049f\t\n\2\2\u049f\u04f0\5R*\26\u04a0"+
+		"\u04a1\f\24\2\2\u04a1\u04a2\t\13\2\2\u04a2\u04f0\5R*\25\u04a3\u04a4\f"+
+		"\23\2\2\u04a4\u04a5\t\f\2\2\u04a5\u04f0\5R*\24\u04a6\u04a7\f\22\2\2\u04a7"+
+		"\u04a8\t\r\2\2\u04a8\u04f0\5R*\23\u04a9\u04aa\f\21\2\2\u04aa\u04ab\t\16"+
+		"\2\2\u04ab\u04f0\5R*\22\u04ac\u04ad\f\17\2\2\u04ad\u04ae\7%\2\2\u04ae"+
+		"\u04f0\5R*\20\u04af\u04b0\f\16\2\2\u04b0\u04b1\7q\2\2\u04b1\u04f0\5R*"+
+		"\17\u04b2\u04b3\f\7\2\2\u04b3\u04b5\7a\2\2\u04b4\u04b6\7k\2\2\u04b5\u04b4"+
+		"\3\2\2\2\u04b5\u04b6\3\2\2\2\u04b6\u04b7\3\2\2\2\u04b7\u04f0\5R*\b\u04b8"+
+		"\u04ba\f\6\2\2\u04b9\u04bb\7k\2\2\u04ba\u04b9\3\2\2\2\u04ba\u04bb\3\2"+
+		"\2\2\u04bb\u04bc\3\2\2\2\u04bc\u04bd\7,\2\2\u04bd\u04be\5R*\2\u04be\u04bf"+
+		"\7%\2\2\u04bf\u04c0\5R*\7\u04c0\u04f0\3\2\2\2\u04c1\u04c3\f\20\2\2\u04c2"+
+		"\u04c4\7k\2\2\u04c3\u04c2\3\2\2\2\u04c3\u04c4\3\2\2\2\u04c4\u04c5\3\2"+
+		"\2\2\u04c5\u04d9\7X\2\2\u04c6\u04d0\7\5\2\2\u04c7\u04d1\5@!\2\u04c8\u04cd"+
+		"\5R*\2\u04c9\u04ca\7\7\2\2\u04ca\u04cc\5R*\2\u04cb\u04c9\3\2\2\2\u04cc"+
+		"\u04cf\3\2\2\2\u04cd\u04cb\3\2\2\2\u04cd\u04ce\3\2\2\2\u04ce\u04d1\3\2"+
+		"\2\2\u04cf\u04cd\3\2\2\2\u04d0\u04c7\3\2\2\2\u04d0\u04c8\3\2\2\2\u04d0"+
+		"\u04d1\3\2\2\2\u04d1\u04d2\3\2\2\2\u04d2\u04da\7\6\2\2\u04d3\u04d4\5\u008c"+
+		"G\2\u04d4\u04d5\7\4\2\2\u04d5\u04d7\3\2\2\2\u04d6\u04d3\3\2\2\2\u04d6"+
+		"\u04d7\3\2\2\2\u04d7\u04d8\3\2\2\2\u04d8\u04da\5\u0092J\2\u04d9\u04c6"+
+		"\3\2\2\2\u04d9\u04d6\3\2\2\2\u04da\u04f0\3\2\2\2\u04db\u04dc\f\n\2\2\u04dc"+
+		"\u04dd\7\62\2\2\u04dd\u04f0\5\u009aN\2\u04de\u04e0\f\t\2\2\u04df\u04e1"+
+		"\7k\2\2\u04e0\u04df\3\2\2\2\u04e0\u04e1\3\2\2\2\u04e1\u04e2\3\2\2\2\u04e2"+
+		"\u04e3\t\17\2\2\u04e3\u04e6\5R*\2\u04e4\u04e5\7H\2\2\u04e5\u04e7\5R*\2"+
+		"\u04e6\u04e4\3\2\2\2\u04e6\u04e7\3\2\2\2\u04e7\u04f0\3\2\2\2\u04e8\u04ed"+
+		"\f\b\2\2\u04e9\u04ee\7b\2\2\u04ea\u04ee\7l\2\2\u04eb\u04ec\7k\2\2\u04ec"+
+		"\u04ee\7m\2\2\u04ed\u04e9\3\2\2\2\u04ed\u04ea\3\2\2\2\u04ed\u04eb\3\2"+
+		"\2\2\u04ee\u04f0\3\2\2\2\u04ef\u049a\3\2\2\2\u04ef\u049d\3\2\2\2\u04ef"+
+		"\u04a0\3\2\2\2\u04ef\u04a3\3\2\2\2\u04ef\u04a6\3\2\2\2\u04ef\u04a9\3\2"+
+		"\2\2\u04ef\u04ac\3\2\2\2\u04ef\u04af\3\2\2\2\u04ef\u04b2\3\2\2\2\u04ef"+
+		"\u04b8\3\2\2\2\u04ef\u04c1\3\2\2\2\u04ef\u04db\3\2\2\2\u04ef\u04de\3\2"+
+		"\2\2\u04ef\u04e8\3\2\2\2\u04f0\u04f3\3\2\2\2\u04f1\u04ef\3\2\2\2\u04f1"+
+		"\u04f2\3\2\2\2\u04f2S\3\2\2\2\u04f3\u04f1\3\2\2\2\u04f4\u04f5\7z\2\2\u04f5"+
+		"\u0501\5\u009cO\2\u04f6\u04f7\7\5\2\2\u04f7\u04fc\5\u0098M\2\u04f8\u04f9"+
+		"\7\7\2\2\u04f9\u04fb\5\u0098M\2\u04fa\u04f8\3\2\2\2\u04fb\u04fe\3\2\2"+
+		"\2\u04fc\u04fa\3\2\2\2\u04fc\u04fd\3\2\2\2\u04fd\u04ff\3\2\2\2\u04fe\u04fc"+
+		"\3\2\2\2\u04ff\u0500\7\6\2\2\u0500\u0502\3\2\2\2\u0501\u04f6\3\2\2\2\u0501"+
+		"\u0502\3\2\2\2\u0502\u0515\3\2\2\2\u0503\u0504\7p\2\2\u0504\u050d\t\20"+
+		"\2\2\u0505\u0506\7\u0086\2\2\u0506\u050e\7m\2\2\u0507\u0508\7\u0086\2"+
+		"\2\u0508\u050e\7=\2\2\u0509\u050e\7.\2\2\u050a\u050e\7\u0080\2\2\u050b"+
+		"\u050c\7j\2\2\u050c\u050e\7\37\2\2\u050d\u0505\3\2\2\2\u050d\u0507\3\2"+
+		"\2\2\u050d\u0509\3\2\2\2\u050d\u050a\3\2\2\2\u050d\u050b\3\2\2\2\u050e"+
+		"\u0512\3\2\2\2\u050f\u0510\7h\2\2\u0510\u0512\5\u0088E\2\u0511\u0503\3"+
+		"\2\2\2\u0511\u050f\3\2\2\2\u0512\u0514\3\2\2\2\u0513\u0511\3\2\2\2\u0514"+
+		"\u0517\3\2\2\2\u0515\u0513\3\2\2\2\u0515\u0516\3\2\2\2\u0516\u0522\3\2"+
+		"\2\2\u0517\u0515\3\2\2\2\u0518\u051a\7k\2\2\u0519\u0518\3\2\2\2\u0519"+
+		"\u051a\3\2\2\2\u051a\u051b\3\2\2\2\u051b\u0520\7>\2\2\u051c\u051d\7[\2"+
+		"\2\u051d\u0521\7?\2\2\u051e\u051f\7[\2\2\u051f\u0521\7W\2\2\u0520\u051c"+
+		"\3\2\2\2\u0520\u051e\3\2\2\2\u0520\u0521\3\2\2\2\u0521\u0523\3\2\2\2\u0522"+
+		"\u0519\3\2\2\2\u0522\u0523\3\2\2\2\u0523U\3\2\2\2\u0524\u0525\7x\2\2\u0525"+
+		"\u052a\7\5\2\2\u0526\u052b\7V\2\2\u0527\u0528\t\21\2\2\u0528\u0529\7\7"+
+		"\2\2\u0529\u052b\5\u0080A\2\u052a\u0526\3\2\2\2\u052a\u0527\3\2\2\2\u052b"+
+		"\u052c\3\2\2\2\u052c\u052d\7\6\2\2\u052dW\3\2\2\2\u052e\u0531\5\u0098"+
+		"M\2\u052f\u0530\7\62\2\2\u0530\u0532\5\u009aN\2\u0531\u052f\3\2\2\2\u0531"+
+		"\u0532\3\2\2\2\u0532\u0534\3\2\2\2\u0533\u0535\t\b\2\2\u0534\u0533\3\2"+
+		"\2\2\u0534\u0535\3\2\2\2\u0535Y\3\2\2\2\u0536\u0537\7\66\2\2\u0537\u0539"+
+		"\5\u0088E\2\u0538\u0536\3\2\2\2\u0538\u0539\3\2\2\2\u0539\u055e\3\2\2"+
+		"\2\u053a\u053b\7v\2\2\u053b\u053e\7d\2\2\u053c\u053e\7\u008f\2\2\u053d"+
+		"\u053a\3\2\2\2\u053d\u053c\3\2\2\2\u053e\u053f\3\2\2\2\u053f\u0540\7\5"+
+		"\2\2\u0540\u0545\5X-\2\u0541\u0542\7\7\2\2\u0542\u0544\5X-\2\u0543\u0541"+
+		"\3\2\2\2\u0544\u0547\3\2\2\2\u0545\u0543\3\2\2\2\u0545\u0546\3\2\2\2\u0546"+
+		"\u0548\3\2\2\2\u0547\u0545\3\2\2\2\u0548\u0549\7\6\2\2\u0549\u054a\5P"+
+		")\2\u054a\u055f\3\2\2\2\u054b\u054c\7\61\2\2\u054c\u054d\7\5\2\2\u054d"+
+		"\u054e\5R*\2\u054e\u054f\7\6\2\2\u054f\u055f\3\2\2\2\u0550\u0551\7O\2"+
+		"\2\u0551\u0552\7d\2\2\u0552\u0553\7\5\2\2\u0553\u0558\5\u0098M\2\u0554"+
+		"\u0555\7\7\2\2\u0555\u0557\5\u0098M\2\u0556\u0554\3\2\2\2\u0557\u055a"+
+		"\3\2\2\2\u0558\u0556\3\2\2\2\u0558\u0559\3\2\2\2\u0559\u055b\3\2\2\2\u055a"+
+		"\u0558\3\2\2\2\u055b\u055c\7\6\2\2\u055c\u055d\5T+\2\u055d\u055f\3\2\2"+
+		"\2\u055e\u053d\3\2\2\2\u055e\u054b\3\2\2\2\u055e\u0550\3\2\2\2\u055f["+
+		"\3\2\2\2\u0560\u0562\7\u0098\2\2\u0561\u0563\7y\2\2\u0562\u0561\3\2\2"+
+		"\2\u0562\u0563\3\2\2\2\u0563\u0564\3\2\2\2\u0564\u0569\5d\63\2\u0565\u0566"+
+		"\7\7\2\2\u0566\u0568\5d\63\2\u0567\u0565\3\2\2\2\u0568\u056b\3\2\2\2\u0569"+
+		"\u0567\3\2\2\2\u0569\u056a\3\2\2\2\u056a]\3\2\2\2\u056b\u0569\3\2\2\2"+
+		"\u056c\u056d\5\u008cG\2\u056d\u056e\7\4\2\2\u056e\u0570\3\2\2\2\u056f"+
+		"\u056c\3\2\2\2\u056f\u0570\3\2\2\2\u0570\u0571\3\2\2\2\u0571\u0577\5\u0092"+
+		"J\2\u0572\u0573\7Z\2\2\u0573\u0574\7-\2\2\u0574\u0578\5\u009eP\2\u0575"+
+		"\u0576\7k\2\2\u0576\u0578\7Z\2\2\u0577\u0572\3\2\2\2\u0577\u0575\3\2\2"+
+		"\2\u0577\u0578\3\2\2\2\u0578_\3\2\2\2\u0579\u057c\5R*\2\u057a\u057b\7"+
+		"\62\2\2\u057b\u057d\5\u009aN\2\u057c\u057a\3\2\2\2\u057c\u057d\3\2\2\2"+
+		"\u057d\u057f\3\2\2\2\u057e\u0580\t\b\2\2\u057f\u057e\3\2\2\2\u057f\u0580"+
+		"\3\2\2\2\u0580a\3\2\2\2\u0581\u0585\5z>\2\u0582\u0585\5\u0088E\2\u0583"+
+		"\u0585\7\u009e\2\2\u0584\u0581\3\2\2\2\u0584\u0582\3\2\2\2\u0584\u0583"+
+		"\3\2\2\2\u0585c\3\2\2\2\u0586\u0592\5\u0092J\2\u0587\u0588\7\5\2\2\u0588"+
+		"\u058d\5\u0098M\2\u0589\u058a\7\7\2\2\u058a\u058c\5\u0098M\2\u058b\u0589"+
+		"\3\2\2\2\u058c\u058f\3\2\2\2\u058d\u058b\3\2\2\2\u058d\u058e\3\2\2\2\u058e"+
+		"\u0590\3\2\2\2\u058f\u058d\3\2\2\2\u0590\u0591\7\6\2\2\u0591\u0593\3\2"+
+		"\2\2\u0592\u0587\3\2\2\2\u0592\u0593\3\2\2\2\u0593\u0594\3\2\2\2\u0594"+
+		"\u0595\7&\2\2\u0595\u0596\7\5\2\2\u0596\u0597\5@!\2\u0597\u0598\7\6\2"+
+		"\2\u0598e\3\2\2\2\u0599\u05a6\7\t\2\2\u059a\u059b\5\u0092J\2\u059b\u059c"+
+		"\7\4\2\2\u059c\u059d\7\t\2\2\u059d\u05a6\3\2\2\2\u059e\u05a3\5R*\2\u059f"+
+		"\u05a1\7&\2\2\u05a0\u059f\3\2\2\2\u05a0\u05a1\3\2\2\2\u05a1\u05a2\3\2"+
+		"\2\2\u05a2\u05a4\5\u0084C\2\u05a3\u05a0\3\2\2\2\u05a3\u05a4\3\2\2\2\u05a4"+
+		"\u05a6\3\2\2\2\u05a5\u0599\3\2\2\2\u05a5\u059a\3\2\2\2\u05a5\u059e\3\2"+
+		"\2\2\u05a6g\3\2\2\2\u05a7\u05a8\5\u008eH\2\u05a8\u05a9\7\4\2\2\u05a9\u05ab"+
+		"\3\2\2\2\u05aa\u05a7\3\2\2\2\u05aa\u05ab\3\2\2\2\u05ab\u05ac\3\2\2\2\u05ac"+
+		"\u05b1\5\u0092J\2\u05ad\u05af\7&\2\2\u05ae\u05ad\3\2\2\2\u05ae\u05af\3"+
+		"\2\2\2\u05af\u05b0\3\2\2\2\u05b0\u05b2\5\u00aaV\2\u05b1\u05ae\3\2\2\2"+
+		"\u05b1\u05b2\3\2\2\2\u05b2\u05b8\3\2\2\2\u05b3\u05b4\7Z\2\2\u05b4\u05b5"+
+		"\7-\2\2\u05b5\u05b9\5\u009eP\2\u05b6\u05b7\7k\2\2\u05b7\u05b9\7Z\2\2\u05b8"+
+		"\u05b3\3\2\2\2\u05b8\u05b6\3\2\2\2\u05b8\u05b9\3\2\2\2\u05b9\u05ea\3\2"+
+		"\2\2\u05ba\u05bb\5\u008eH\2\u05bb\u05bc\7\4\2\2\u05bc\u05be\3\2\2\2\u05bd"+
+		"\u05ba\3\2\2\2\u05bd\u05be\3\2\2\2\u05be\u05bf\3\2\2\2\u05bf\u05c0\5\u0090"+
+		"I\2\u05c0\u05c9\7\5\2\2\u05c1\u05c6\5R*\2\u05c2\u05c3\7\7\2\2\u05c3\u05c5"+
+		"\5R*\2\u05c4\u05c2\3\2\2\2\u05c5\u05c8\3\2\2\2\u05c6\u05c4\3\2\2\2\u05c6"+
+		"\u05c7\3\2\2\2\u05c7\u05ca\3\2\2\2\u05c8\u05c6\3\2\2\2\u05c9\u05c1\3\2"+
+		"\2\2\u05c9\u05ca\3\2\2\2\u05ca\u05cb\3\2\2\2\u05cb\u05d0\7\6\2\2\u05cc"+
+		"\u05ce\7&\2\2\u05cd\u05cc\3\2\2\2\u05cd\u05ce\3\2\2\2\u05ce\u05cf\3\2"+
+		"\2\2\u05cf\u05d1\5\u00aaV\2\u05d0\u05cd\3\2\2\2\u05d0\u05d1\3\2\2\2\u05d1"+
+		"\u05ea\3\2\2\2\u05d2\u05dc\7\5\2\2\u05d3\u05d8\5h\65\2\u05d4\u05d5\7\7"+
+		"\2\2\u05d5\u05d7\5h\65\2\u05d6\u05d4\3\2\2\2\u05d7\u05da\3\2\2\2\u05d8"+
+		"\u05d6\3\2\2\2\u05d8\u05d9\3\2\2\2\u05d9\u05dd\3\2\2\2\u05da\u05d8\3\2"+
+		"\2\2\u05db\u05dd\5j\66\2\u05dc\u05d3\3\2\2\2\u05dc\u05db\3\2\2\2\u05dd"+
+		"\u05de\3\2\2\2\u05de\u05df\7\6\2\2\u05df\u05ea\3\2\2\2\u05e0\u05e1\7\5"+
+		"\2\2\u05e1\u05e2\5@!\2\u05e2\u05e7\7\6\2\2\u05e3\u05e5\7&\2\2\u05e4\u05e3"+
+		"\3\2\2\2\u05e4\u05e5\3\2\2\2\u05e5\u05e6\3\2\2\2\u05e6\u05e8\5\u00aaV"+
+		"\2\u05e7\u05e4\3\2\2\2\u05e7\u05e8\3\2\2\2\u05e8\u05ea\3\2\2\2\u05e9\u05aa"+
+		"\3\2\2\2\u05e9\u05bd\3\2\2\2\u05e9\u05d2\3\2\2\2\u05e9\u05e0\3\2\2\2\u05ea"+
+		"i\3\2\2\2\u05eb\u05f2\5h\65\2\u05ec\u05ed\5l\67\2\u05ed\u05ee\5h\65\2"+
+		"\u05ee\u05ef\5n8\2\u05ef\u05f1\3\2\2\2\u05f0\u05ec\3\2\2\2\u05f1\u05f4"+
+		"\3\2\2\2\u05f2\u05f0\3\2\2\2\u05f2\u05f3\3\2\2\2\u05f3k\3\2\2\2\u05f4"+
+		"\u05f2\3\2\2\2\u05f5\u0603\7\7\2\2\u05f6\u05f8\7i\2\2\u05f7\u05f6\3\2"+
+		"\2\2\u05f7\u05f8\3\2\2\2\u05f8\u05ff\3\2\2\2\u05f9\u05fb\7e\2\2\u05fa"+
+		"\u05fc\7s\2\2\u05fb\u05fa\3\2\2\2\u05fb\u05fc\3\2\2\2\u05fc\u0600\3\2"+
+		"\2\2\u05fd\u0600\7\\\2\2\u05fe\u0600\78\2\2\u05ff\u05f9\3\2\2\2\u05ff"+
+		"\u05fd\3\2\2\2\u05ff\u05fe\3\2\2\2\u05ff\u0600\3\2\2\2\u0600\u0601\3\2"+
+		"\2\2\u0601\u0603\7c\2\2\u0602\u05f5\3\2\2\2\u0602\u05f7\3\2\2\2\u0603"+
+		"m\3\2\2\2\u0604\u0605\7p\2\2\u0605\u0613\5R*\2\u0606\u0607\7\u0091\2\2"+
+		"\u0607\u0608\7\5\2\2\u0608\u060d\5\u0098M\2\u0609\u060a\7\7\2\2\u060a"+
+		"\u060c\5\u0098M\2\u060b\u0609\3\2\2\2\u060c\u060f\3\2\2\2\u060d\u060b"+
+		"\3\2\2\2\u060d\u060e\3\2\2\2\u060e\u0610\3\2\2\2\u060f\u060d\3\2\2\2\u0610"+
+		"\u0611\7\6\2\2\u0611\u0613\3\2\2\2\u0612\u0604\3\2\2\2\u0612\u0606\3\2"+
+		"\2\2\u0612\u0613\3\2\2\2\u0613o\3\2\2\2\u0614\u0616\7\u0085\2\2\u0615"+
+		"\u0617\t\7\2\2\u0616\u0615\3\2\2\2\u0616\u0617\3\2\2\2\u0617\u0618\3\2"+
+		"\2\2\u0618\u061d\5f\64\2\u0619\u061a\7\7\2\2\u061a\u061c\5f\64\2\u061b"+
+		"\u0619\3\2\2\2\u061c\u061f\3\2\2\2\u061d\u061b\3\2\2\2\u061d\u061e\3\2"+
+		"\2\2\u061e\u062c\3\2\2\2\u061f\u061d\3\2\2\2\u0620\u062a\7P\2\2\u0621"+
+		"\u0626\5h\65\2\u0622\u0623\7\7\2\2\u0623\u0625\5h\65\2\u0624\u0622\3\2"+
+		"\2\2\u0625\u0628\3\2\2\2\u0626\u0624\3\2\2\2\u0626\u0627\3\2\2\2\u0627"+
+		"\u062b\3\2\2\2\u0628\u0626\3\2\2\2\u0629\u062b\5j\66\2\u062a\u0621\3\2"+
+		"\2\2\u062a\u0629\3\2\2\2\u062b\u062d\3\2\2\2\u062c\u0620\3\2\2\2\u062c"+
+		"\u062d\3\2\2\2\u062d\u0630\3\2\2\2\u062e\u062f\7\u0097\2\2\u062f\u0631"+
+		"\5r:\2\u0630\u062e\3\2\2\2\u0630\u0631\3\2\2\2\u0631\u0639\3\2\2\2\u0632"+
+		"\u0633\7S\2\2\u0633\u0634\7-\2\2\u0634\u0637\5t;\2\u0635\u0636\7T\2\2"+
+		"\u0636\u0638\5v<\2\u0637\u0635\3\2\2\2\u0637\u0638\3\2\2\2\u0638\u063a"+
+		"\3\2\2\2\u0639\u0632\3\2\2\2\u0639\u063a\3\2\2\2\u063a\u0658\3\2\2\2\u063b"+
+		"\u063c\7\u0093\2\2\u063c\u063d\7\5\2\2\u063d\u0642\5R*\2\u063e\u063f\7"+
+		"\7\2\2\u063f\u0641\5R*\2\u0640\u063e\3\2\2\2\u0641\u0644\3\2\2\2\u0642"+
+		"\u0640\3\2\2\2\u0642\u0643\3\2\2\2\u0643\u0645\3\2\2\2\u0644\u0642\3\2"+
+		"\2\2\u0645\u0654\7\6\2\2\u0646\u0647\7\7\2\2\u0647\u0648\7\5\2\2\u0648"+
+		"\u064d\5R*\2\u0649\u064a\7\7\2\2\u064a\u064c\5R*\2\u064b\u0649\3\2\2\2"+
+		"\u064c\u064f\3\2\2\2\u064d\u064b\3\2\2\2\u064d\u064e\3\2\2\2\u064e\u0650"+
+		"\3\2\2\2\u064f\u064d\3\2\2\2\u0650\u0651\7\6\2\2\u0651\u0653\3\2\2\2\u0652"+
+		"\u0646\3\2\2\2\u0653\u0656\3\2\2\2\u0654\u0652\3\2\2\2\u0654\u0655\3\2"+
+		"\2\2\u0655\u0658\3\2\2\2\u0656\u0654\3\2\2\2\u0657\u0614\3\2\2\2\u0657"+
+		"\u063b\3\2\2\2\u0658q\3\2\2\2\u0659\u065a\5R*\2\u065as\3\2\2\2\u065b\u0660"+
+		"\5R*\2\u065c\u065d\7\7\2\2\u065d\u065f\5R*\2\u065e\u065c\3\2\2\2\u065f"+
+		"\u0662\3\2\2\2\u0660\u065e\3\2\2\2\u0660\u0661\3\2\2\2\u0661u\3\2\2\2"+
+		"\u0662\u0660\3\2\2\2\u0663\u0664\5R*\2\u0664w\3\2\2\2\u0665\u066b\7\u008e"+
+		"\2\2\u0666\u0667\7\u008e\2\2\u0667\u066b\7\"\2\2\u0668\u066b\7_\2\2\u0669"+
+		"\u066b\7I\2\2\u066a\u0665\3\2\2\2\u066a\u0666\3\2\2\2\u066a\u0668\3\2"+
+		"\2\2\u066a\u0669\3\2\2\2\u066by\3\2\2\2\u066c\u066e\t\13\2\2\u066d\u066c"+
+		"\3\2\2\2\u066d\u066e\3\2\2\2\u066e\u066f\3\2\2\2\u066f\u0670\7\u009c\2"+
+		"\2\u0670{\3\2\2\2\u0671\u0672\t\22\2\2\u0672}\3\2\2\2\u0673\u0674\t\23"+
+		"\2\2\u0674\177\3\2\2\2\u0675\u0676\7\u009e\2\2\u0676\u0081\3\2\2\2\u0677"+
+		"\u067a\5R*\2\u0678\u067a\5J&\2\u0679\u0677\3\2\2\2\u0679\u0678\3\2\2\2"+
+		"\u067a\u0083\3\2\2\2\u067b\u067c\t\24\2\2\u067c\u0085\3\2\2\2\u067d\u067e"+
+		"\t\25\2\2\u067e\u0087\3\2\2\2\u067f\u0680\5\u00aeX\2\u0680\u0089\3\2\2"+
+		"\2\u0681\u0682\5\u00aeX\2\u0682\u008b\3\2\2\2\u0683\u0684\5\u00aeX\2\u0684"+
+		"\u008d\3\2\2\2\u0685\u0686\5\u00aeX\2\u0686\u008f\3\2\2\2\u0687\u0688"+
+		"\5\u00aeX\2\u0688\u0091\3\2\2\2\u0689\u068a\5\u00aeX\2\u068a\u0093\3\2"+
+		"\2\2\u068b\u068c\5\u00aeX\2\u068c\u0095\3\2\2\2\u068d\u068e\5\u00aeX\2"+
+		"\u068e\u0097\3\2\2\2\u068f\u0690\5\u00aeX\2\u0690\u0099\3\2\2\2\u0691"+
+		"\u0692\5\u00aeX\2\u0692\u009b\3\2\2\2\u0693\u0694\5\u00aeX\2\u0694\u009d"+
+		"\3\2\2\2\u0695\u0696\5\u00aeX\2\u0696\u009f\3\2\2\2\u0697\u0698\5\u00ae"+
+		"X\2\u0698\u00a1\3\2\2\2\u0699\u069a\5\u00aeX\2\u069a\u00a3\3\2\2\2\u069b"+
+		"\u069c\5\u00aeX\2\u069c\u00a5\3\2\2\2\u069d\u069e\5\u00aeX\2\u069e\u00a7"+
+		"\3\2\2\2\u069f\u06a0\5\u00aeX\2\u06a0\u00a9\3\2\2\2\u06a1\u06a8\7\u009b"+
+		"\2\2\u06a2\u06a8\7\u009e\2\2\u06a3\u06a4\7\5\2\2\u06a4\u06a5\5\u00aaV"+
+		"\2\u06a5\u06a6\7\6\2\2\u06a6\u06a8\3\2\2\2\u06a7\u06a1\3\2\2\2\u06a7\u06a2"+
+		"\3\2\2\2\u06a7\u06a3\3\2\2\2\u06a8\u00ab\3\2\2\2\u06a9\u06aa\5\u00aeX"+
+		"\2\u06aa\u00ad\3\2\2\2\u06ab\u06b3\7\u009b\2\2\u06ac\u06b3\5\u0086D\2"+
+		"\u06ad\u06b3\7\u009e\2\2\u06ae\u06af\7\5\2\2\u06af\u06b0\5\u00aeX\2\u06b0"+
+		"\u06b1\7\6\2\2\u06b1\u06b3\3\2\2\2\u06b2\u06ab\3\2\2\2\u06b2\u06ac\3\2"+
+		"\2\2\u06b2\u06ad\3\2\2\2\u06b2\u06ae\3\2\2\2\u06b3\u00af\3\2\2\2\u00f2"+
+		"\u00b3\u00b5\u00c0\u00c7\u00cd\u00d4\u00d9\u00df\u00e5\u00e7\u0107\u010e"+
+		"\u0116\u0119\u0122\u0126\u012e\u0132\u0134\u0139\u013b\u013e\u0143\u0147"+
+		"\u014c\u0155\u0158\u015e\u0160\u0164\u016a\u016f\u017a\u0180\u0184\u018a"+
+		"\u018f\u0198\u019f\u01a6\u01aa\u01ae\u01b2\u01b8\u01bd\u01c4\u01cf\u01d2"+
+		"\u01d4\u01da\u01e0\u01e4\u01eb\u01f1\u01f7\u01fd\u0202\u020e\u0213\u021e"+
+		"\u0223\u0226\u022d\u0230\u0237\u0240\u0243\u0249\u024b\u024f\u0257\u025c"+
+		"\u0264\u0269\u0271\u0276\u027e\u0283\u0288\u0290\u029a\u029d\u02a3\u02a5"+
+		"\u02a8\u02bb\u02c1\u02ca\u02cf\u02d8\u02e3\u02ea\u02f0\u02f6\u02ff\u0306"+
+		"\u030a\u030c\u0310\u0317\u0319\u031d\u0320\u0326\u0330\u0333\u0339\u033b"+
+		"\u033e\u0346\u0350\u0353\u0359\u035b\u035f\u0366\u036f\u0373\u0375\u0379"+
+		"\u0382\u0387\u0389\u0392\u039d\u03a4\u03a7\u03aa\u03b7\u03c5\u03ca\u03cd"+
+		"\u03da\u03e8\u03ed\u03f6\u03f9\u03ff\u0401\u0407\u040c\u0412\u041e\u0422"+
+		"\u0427\u042b\u042e\u0440\u0445\u044a\u0452\u0457\u0460\u0467\u046b\u047b"+
+		"\u047e\u0486\u048f\u0493\u0498\u04b5\u04ba\u04c3\u04cd\u04d0\u04d6\u04d9"+
+		"\u04e0\u04e6\u04ed\u04ef\u04f1\u04fc\u0501\u050d\u0511\u0515\u0519\u0520"+
+		"\u0522\u052a\u0531\u0534\u0538\u053d\u0545\u0558\u055e\u0562\u0569\u056f"+
+		"\u0577\u057c\u057f\u0584\u058d\u0592\u05a0\u05a3\u05a5\u05aa\u05ae\u05b1"+
+		"\u05b8\u05bd\u05c6\u05c9\u05cd\u05d0\u05d8\u05dc\u05e4\u05e7\u05e9\u05f2"+
+		"\u05f7\u05fb\u05ff\u0602\u060d\u0612\u0616\u061d\u0626\u062a\u062c\u0630"+
+		"\u0637\u0639\u0642\u064d\u0654\u0657\u0660\u066a\u066d\u0679\u06a7\u06b2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
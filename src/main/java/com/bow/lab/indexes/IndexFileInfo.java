@@ -128,6 +128,10 @@ public class IndexFileInfo {
         columnInfos = schema.getColumnInfos(columnIndexes);
         columnInfos.add(new ColumnInfo("#TUPLE_FP",
             new ColumnType(SQLDataType.FILE_POINTER)));
+
+        // INCLUDE列存储在file-pointer之后，不参与key的比较
+        for (int i = 0; i < columnIndexes.numIncludedColumns(); i++)
+            columnInfos.add(schema.getColumnInfo(columnIndexes.getIncludedCol(i)));
     }
 
     
@@ -135,6 +139,19 @@ public class IndexFileInfo {
         return indexType;
     }
 
+
+    /**
+     * 设置要创建的索引的文件类型，只在创建索引之前使用
+     *
+     * @param indexType 索引文件的类型
+     */
+    public void setIndexType(DBFileType indexType) {
+        if (indexType == null)
+            throw new IllegalArgumentException("indexType cannot be null");
+
+        this.indexType = indexType;
+    }
+
     
     public IndexInfo getIndexInfo() {
         return indexInfo;
@@ -196,6 +213,16 @@ public class IndexFileInfo {
     }
 
 
+    /**
+     * 返回索引所在的表
+     *
+     * @return 索引所在的表
+     */
+    public TableFileInfo getTableFileInfo() {
+        return tblFileInfo;
+    }
+
+
     public List<ColumnInfo> getIndexSchema() {
         if (columnInfos == null)
             initIndexDetails(tblFileInfo.getSchema(), indexName);
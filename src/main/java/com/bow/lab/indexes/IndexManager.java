@@ -44,6 +44,18 @@ public interface IndexManager {
     void loadIndexInfo(IndexFileInfo idxFileInfo) throws IOException;
 
 
+    /**
+     * 为已有数据的表建立索引。索引必须是刚创建的空索引，表中现有的所有tuple
+     * 一次性加入索引，而不是逐个调用{@link #addTuple}。
+     *
+     * @param idxFileInfo 新创建的空索引
+     *
+     * @throws IOException if an IO error occurs while reading the table or
+     *         writing the index.
+     */
+    void buildIndex(IndexFileInfo idxFileInfo) throws IOException;
+
+
     /**
      * This method adds a tuple to an index.  The tuple must be a
      * {@link PageTuple} since the file-pointer to the tuple must be stored
@@ -78,6 +78,11 @@ public class CSTableManager implements TableManager {
 
     }
 
+    @Override
+    public void saveTableInfo(TableFileInfo tblFileInfo) throws IOException {
+
+    }
+
     @Override
     public void beforeCloseTable(TableFileInfo tblFileInfo) throws IOException {
 
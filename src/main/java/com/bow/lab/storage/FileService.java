@@ -162,7 +162,8 @@ public class FileService implements IFileService {
         RandomAccessFile fileContents = new RandomAccessFile(f, "rw");
 
         int typeID = fileContents.readUnsignedByte();
-        int pageSize = DBFile.decodePageSize(fileContents.readUnsignedByte());
+        int encodedPageSize = fileContents.readUnsignedByte();
+        int pageSize = DBFile.decodePageSize(encodedPageSize & DBFile.PAGESIZE_MASK);
 
         DBFileType type = DBFileType.valueOf(typeID);
         if (type == null)
@@ -175,6 +176,8 @@ public class FileService implements IFileService {
             throw new IOException("Invalid page size " + pageSize + " specified for data file " + f, iae);
         }
 
+        dbFile.setFormatVersion(DBFile.decodeFormatVersion(encodedPageSize));
+
         logger.debug(String.format("Opened existing database file %s; " + "type is %s, page size is %d.", f, type,
                 pageSize));
 
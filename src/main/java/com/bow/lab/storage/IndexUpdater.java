@@ -36,12 +36,29 @@ public class IndexUpdater implements RowEventListener {
 
     @Override
     public void beforeRowInserted(TableFileInfo tblFileInfo, Tuple newValues) {
-        // Ignore.
+
+        // 在行加入表之前打开索引：旧格式的索引打开时从表中的数据重建，
+        // 如果在行加入之后才重建，新的行会被加入两次
+        TableSchema schema = tblFileInfo.getSchema();
+        for (ColumnIndexes indexDef : schema.getIndexes().values()) {
+            try {
+                openIndex(tblFileInfo, indexDef.getIndexName());
+            } catch (IOException e) {
+                throw new EventDispatchException(
+                        "Couldn't open index " + indexDef.getIndexName() + " for table " + tblFileInfo.getTableName(),
+                        e);
+            }
+        }
     }
 
     @Override
     public void afterRowInserted(TableFileInfo tblFileInfo, Tuple newTuple) {
 
+        // 没有索引的表(例如列式存储的表)不需要PageTuple
+        if (tblFileInfo.getSchema().getIndexes().isEmpty()) {
+            return;
+        }
+
         if (!(newTuple instanceof PageTuple)) {
             throw new IllegalArgumentException("newTuple must be castable to PageTuple");
         }
@@ -53,6 +70,11 @@ public class IndexUpdater implements RowEventListener {
     @Override
     public void beforeRowUpdated(TableFileInfo tblFileInfo, Tuple oldTuple, Tuple newValues) {
 
+        // 没有索引的表(例如列式存储的表)不需要PageTuple
+        if (tblFileInfo.getSchema().getIndexes().isEmpty()) {
+            return;
+        }
+
         if (!(oldTuple instanceof PageTuple)) {
             throw new IllegalArgumentException("oldTuple must be castable to PageTuple");
         }
@@ -64,6 +86,11 @@ public class IndexUpdater implements RowEventListener {
     @Override
     public void afterRowUpdated(TableFileInfo tblFileInfo, Tuple oldValues, Tuple newTuple) {
 
+        // 没有索引的表(例如列式存储的表)不需要PageTuple
+        if (tblFileInfo.getSchema().getIndexes().isEmpty()) {
+            return;
+        }
+
         if (!(newTuple instanceof PageTuple)) {
             throw new IllegalArgumentException("newTuple must be castable to PageTuple");
         }
@@ -75,6 +102,11 @@ public class IndexUpdater implements RowEventListener {
     @Override
     public void beforeRowDeleted(TableFileInfo tblFileInfo, Tuple oldTuple) {
 
+        // 没有索引的表(例如列式存储的表)不需要PageTuple
+        if (tblFileInfo.getSchema().getIndexes().isEmpty()) {
+            return;
+        }
+
         if (!(oldTuple instanceof PageTuple)) {
             throw new IllegalArgumentException("oldTuple must be castable to PageTuple");
         }
@@ -108,7 +140,7 @@ public class IndexUpdater implements RowEventListener {
             logger.debug("Adding tuple to index " + indexDef.getIndexName());
 
             try {
-                IndexFileInfo idxFileInfo = indexService.openIndex(tblFileInfo, indexDef.getIndexName());
+                IndexFileInfo idxFileInfo = openIndex(tblFileInfo, indexDef.getIndexName());
 
                 IndexManager indexManager = idxFileInfo.getIndexManager();
                 indexManager.addTuple(idxFileInfo, ptup);
@@ -139,7 +171,7 @@ public class IndexUpdater implements RowEventListener {
             logger.debug("Removing tuple from index " + indexDef.getIndexName());
 
             try {
-                IndexFileInfo idxFileInfo = indexService.openIndex(tblFileInfo, indexDef.getIndexName());
+                IndexFileInfo idxFileInfo = openIndex(tblFileInfo, indexDef.getIndexName());
 
                 IndexManager indexManager = idxFileInfo.getIndexManager();
                 indexManager.deleteTuple(idxFileInfo, ptup);
@@ -149,4 +181,15 @@ public class IndexUpdater implements RowEventListener {
             }
         }
     }
+
+    /**
+     * 打开表上的索引。没有配置{@link IIndexService}的实现时使用
+     * {@link StorageManager}打开。
+     */
+    private IndexFileInfo openIndex(TableFileInfo tblFileInfo, String indexName) throws IOException {
+        if (indexService != null)
+            return indexService.openIndex(tblFileInfo, indexName);
+
+        return StorageManager.getInstance().openIndex(tblFileInfo, indexName);
+    }
 }
@@ -79,8 +79,8 @@ public class PageTupleUtil {
                 break;
 
             case FILE_POINTER:
-                // File-pointer = pageNo(2B)+offset(2B)
-                size = 4;
+                // File-pointer = pageNo(4B)+offset(2B)
+                size = FilePointer.STORAGE_SIZE;
                 break;
 
             default:
@@ -142,8 +142,8 @@ public class PageTupleUtil {
                 break;
 
             case FILE_POINTER:
-                value = new FilePointer(dbPage.readUnsignedShort(valueOffset),
-                        dbPage.readUnsignedShort(valueOffset + 2));
+                value = new FilePointer(dbPage.readInt(valueOffset),
+                        dbPage.readUnsignedShort(valueOffset + 4));
                 break;
 
             default:
@@ -111,6 +111,22 @@ public class SessionState {
     }
 
 
+    /**
+     * 使本会话加入另一个会话的事务，并输出到同一个客户端。并行执行查询的工作
+     * 线程通过它在发起查询的会话的事务中执行，而pin住的页面仍按本会话的ID
+     * 记录，由工作线程自己释放。
+     *
+     * @param owner 发起查询的会话
+     */
+    public void joinSession(SessionState owner) {
+        if (owner == null)
+            throw new IllegalArgumentException("owner cannot be null");
+
+        txnState = owner.txnState;
+        outputStream = owner.outputStream;
+    }
+
+
     @Override
     public int hashCode() {
         return sessionID;
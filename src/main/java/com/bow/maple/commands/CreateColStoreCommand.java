@@ -7,13 +7,13 @@ import java.util.HashMap;
 
 import com.bow.maple.relations.TableConstraintType;
 import com.bow.maple.relations.TableSchema;
+import com.bow.maple.storage.colstore.ColStoreLoader;
 import com.bow.maple.storage.colstore.ColStoreTableManager;
 import org.apache.log4j.Logger;
 
 import com.bow.maple.relations.ColumnInfo;
 
 import com.bow.maple.storage.DBFileType;
-import com.bow.maple.storage.FileAnalyzer;
 import com.bow.maple.storage.StorageManager;
 import com.bow.maple.storage.TableFileInfo;
 
@@ -53,15 +53,13 @@ public class CreateColStoreCommand extends CreateTableCommand {
 
 	@Override
 	public void execute() throws ExecutionException {
-		// Analyze file
-		FileAnalyzer analyzer;
-		try 
-		{
-			analyzer = new FileAnalyzer(fileName);
-			analyzer.analyze(getColumnInfos());
+		// 读一遍文件，按列缓存并统计，建表后再写入
+		ColStoreLoader loader = new ColStoreLoader(getColumnInfos());
+		try {
+			loader.parse(fileName);
 		}
 		catch (IOException e1) {
-			throw new ExecutionException("There was an error analyzing the data file.");
+			throw new ExecutionException("There was an error analyzing the data file.", e1);
 		}
 		
 		// Tell storageService to make colstore table
@@ -127,7 +125,7 @@ public class CreateColStoreCommand extends CreateTableCommand {
         logger.debug("New table " + getTableName() + " is created!");
 
         try {
-			((ColStoreTableManager) tblFileInfo.getTableManager()).writeTable(analyzer, tblFileInfo);
+			((ColStoreTableManager) tblFileInfo.getTableManager()).writeTable(loader, tblFileInfo);
 		} catch (IOException e) {
 			throw new ExecutionException("Could not write to table \"" + getTableName() +
 	                "\".  See nested exception for details.", e);
@@ -2,7 +2,12 @@ package com.bow.maple.commands;
 
 import com.bow.lab.indexes.IndexFileInfo;
 import com.bow.lab.indexes.IndexInfo;
+import com.bow.maple.relations.ColumnIndexes;
+import com.bow.maple.relations.ConstraintViolationException;
+import com.bow.maple.relations.KeyColumnIndexes;
+import com.bow.maple.relations.TableConstraintType;
 import com.bow.maple.relations.TableSchema;
+import com.bow.maple.storage.DBFileType;
 import com.bow.maple.storage.StorageManager;
 import com.bow.maple.storage.TableFileInfo;
 import org.apache.log4j.Logger;
@@ -10,6 +15,7 @@ import org.apache.log4j.Logger;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 
 /**
  * This command-class represents the <tt>CREATE INDEX</tt> DDL command.
@@ -22,6 +28,7 @@ public class CreateIndexCommand extends Command {
     private String indexName;
 
 
+    /** <tt>USING</tt>子句中的索引类型，BTREE或者HASH，没有指定时为<tt>null</tt> */
     private String indexType;
 
     /**
@@ -44,6 +51,12 @@ public class CreateIndexCommand extends Command {
     private ArrayList<String> columnNames = new ArrayList<String>();
 
 
+    /**
+     * <tt>INCLUDE</tt>子句中的列名。这些列的值只存储在索引中，不参与排序，
+     * 使查询这些列的语句可以只扫描索引。
+     */
+    private ArrayList<String> includedColumnNames = new ArrayList<String>();
+
 
     public CreateIndexCommand(String indexName, String tableName,
                               boolean unique) {
@@ -73,6 +86,11 @@ public class CreateIndexCommand extends Command {
     }
 
 
+    public void addIncludedColumn(String columnName) {
+        this.includedColumnNames.add(columnName);
+    }
+
+
     public void execute() throws ExecutionException {
         // Set up the index-file info based on the command details.
         StorageManager storageManager = StorageManager.getInstance();
@@ -93,14 +111,35 @@ public class CreateIndexCommand extends Command {
                 "Error occurred while opening table %s", tableName), e);
         }
 
-        // TODO:  Look up each column mentioned in the index, and build up the
-        //        details of the index.
+        if (tblFileInfo.getFileType() != DBFileType.HEAP_DATA_FILE) {
+            throw new ExecutionException(String.format(
+                "Can't create an index on table %s:  only heap-file tables " +
+                    "support indexes", tableName));
+        }
+
+        // Look up each column mentioned in the index, and build up the
+        // details of the index.
         TableSchema schema = tblFileInfo.getSchema();
+        ColumnIndexes colIndexes = makeColumnIndexes(schema);
+
+        DBFileType indexFileType = getIndexFileType();
+        if (colIndexes.numIncludedColumns() > 0 &&
+            indexFileType != DBFileType.BTREE_INDEX_FILE) {
+            throw new ExecutionException(
+                "INCLUDE columns are only supported for BTREE indexes");
+        }
+
+        // A unique index is recorded as a candidate key on the table, so that
+        // it is stored with the table's other constraints.
+        IndexInfo info = new IndexInfo(tableName, schema, colIndexes, unique);
+        if (unique)
+            info.setConstraintType(TableConstraintType.UNIQUE);
 
         logger.debug(String.format("Creating an IndexFileInfo object " +
             "describing the new index %s on table %s.", indexName, tableName));
         IndexFileInfo idxFileInfo =
-            new IndexFileInfo(indexName, tblFileInfo, (IndexInfo) null);
+            new IndexFileInfo(indexName, tblFileInfo, info);
+        idxFileInfo.setIndexType(indexFileType);
 
         if (indexName == null) {
             // This is an unnamed index.
@@ -129,14 +168,110 @@ public class CreateIndexCommand extends Command {
             }
         }
 
-        // TODO:  Store the index info on the table.
-        // schema.addIndex();
-
+        // Store the index info on the table.
         indexName = idxFileInfo.getIndexName();
+        colIndexes.setIndexName(indexName);
+        if (unique)
+            schema.addCandidateKey((KeyColumnIndexes) colIndexes);
+        else
+            schema.addIndex(colIndexes);
+
+        // 表中已有数据，一次性排序后建立索引
+        try {
+            idxFileInfo.getIndexManager().buildIndex(idxFileInfo);
+        }
+        catch (ConstraintViolationException e) {
+            schema.removeIndex(indexName);
+            throw new ExecutionException(e.getMessage(), e);
+        }
+        catch (IOException e) {
+            schema.removeIndex(indexName);
+            throw new ExecutionException(String.format(
+                "Could not build index \"%s\" on table \"%s\".  See " +
+                    "nested exception for details.", indexName, tableName), e);
+        }
+
+        try {
+            tblFileInfo.getTableManager().saveTableInfo(tblFileInfo);
+        }
+        catch (IOException e) {
+            throw new ExecutionException(String.format(
+                "Could not save index \"%s\" in the schema of table \"%s\".",
+                indexName, tableName), e);
+        }
+
         logger.debug(String.format("New index %s on table %s is created!",
             indexName, tableName));
 
-        System.out.printf("Created index %s on table %s.%n",
-            indexName, tableName);
+        out.printf("Created index %s on table %s.%n", indexName, tableName);
+    }
+
+
+    /**
+     * 根据<tt>USING</tt>子句确定索引文件的类型，默认是B<sup>+</sup>树
+     *
+     * @return 索引文件的类型
+     * @throws ExecutionException 不支持指定的索引类型
+     */
+    private DBFileType getIndexFileType() throws ExecutionException {
+        if (indexType == null || indexType.equalsIgnoreCase("BTREE"))
+            return DBFileType.BTREE_INDEX_FILE;
+
+        if (indexType.equalsIgnoreCase("HASH"))
+            return DBFileType.HASH_INDEX_FILE;
+
+        throw new ExecutionException(String.format(
+            "Unsupported index type %s; expected BTREE or HASH", indexType));
+    }
+
+
+    /**
+     * 根据列名找到索引中各列在表中的序号
+     *
+     * @param schema 表的schema
+     * @return 唯一索引返回{@link KeyColumnIndexes}，否则返回{@link ColumnIndexes}
+     * @throws ExecutionException 列不存在，或者在索引列和INCLUDE列中重复出现
+     */
+    private ColumnIndexes makeColumnIndexes(TableSchema schema)
+        throws ExecutionException {
+
+        HashSet<String> names = new HashSet<String>();
+        int[] cols = findColumns(schema, columnNames, names);
+        int[] includedCols = findColumns(schema, includedColumnNames, names);
+
+        ColumnIndexes colIndexes =
+            unique ? new KeyColumnIndexes(cols) : new ColumnIndexes(cols);
+        colIndexes.setIncludedColumns(includedCols);
+        return colIndexes;
+    }
+
+
+    /**
+     * 找到各个列在表中的序号
+     *
+     * @param schema 表的schema
+     * @param colNames 列名
+     * @param names 已经出现过的列名，用于检查重复
+     * @return 各列在表中的序号
+     * @throws ExecutionException 列不存在或者重复出现
+     */
+    private int[] findColumns(TableSchema schema, ArrayList<String> colNames,
+        HashSet<String> names) throws ExecutionException {
+
+        int[] cols = new int[colNames.size()];
+        for (int i = 0; i < cols.length; i++) {
+            String colName = colNames.get(i);
+            if (!names.add(colName)) {
+                throw new ExecutionException(String.format(
+                    "Column %s was specified multiple times", colName));
+            }
+
+            cols[i] = schema.getColumnIndex(colName);
+            if (cols[i] == -1) {
+                throw new ExecutionException(String.format(
+                    "Table %s doesn't have a column named %s", tableName, colName));
+            }
+        }
+        return cols;
     }
 }
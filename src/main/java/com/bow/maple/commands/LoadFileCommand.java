@@ -1,8 +1,8 @@
 package com.bow.maple.commands;
 
-import com.bow.maple.storage.FileAnalyzer;
 import com.bow.maple.storage.StorageManager;
 import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.storage.colstore.ColStoreLoader;
 import com.bow.maple.storage.colstore.ColStoreTableManager;
 
 import java.io.IOException;
@@ -43,18 +43,17 @@ public class LoadFileCommand extends Command {
         }
 
         // 解析要导入的文件
-        FileAnalyzer analyzer;
+        ColStoreLoader loader = new ColStoreLoader(tableFileInfo.getSchema().getColumnInfos());
         try {
-            analyzer = new FileAnalyzer(fileName);
-            analyzer.analyze(tableFileInfo.getSchema().getColumnInfos());
+            loader.parse(fileName);
         } catch (IOException e) {
-            throw new ExecutionException("There was an error analyzing the data file.");
+            throw new ExecutionException("There was an error analyzing the data file.", e);
         }
 
         // 导入文件
         try {
             ColStoreTableManager tableManager = (ColStoreTableManager) tableFileInfo.getTableManager();
-            tableManager.writeTable(analyzer, tableFileInfo);
+            tableManager.writeTable(loader, tableFileInfo);
         } catch (IOException e) {
             throw new ExecutionException("Could not write to table " + tableName + ".  See nested exception ", e);
         } catch (InterruptedException e) {
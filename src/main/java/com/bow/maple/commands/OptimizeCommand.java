@@ -6,8 +6,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 
+import com.bow.maple.storage.DBFileType;
 import com.bow.maple.storage.StorageManager;
 import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.storage.colstore.ColStoreTableManager;
 
 
 /**
@@ -80,6 +82,22 @@ public class OptimizeCommand extends Command {
 
         for (TableFileInfo tblFileInfo : tblInfos) {
 
+            // 列式存储的表：把delta中的行转换成列块
+            if (tblFileInfo.getFileType() == DBFileType.CS_DATA_FILE) {
+                ColStoreTableManager tableMgr =
+                    (ColStoreTableManager) tblFileInfo.getTableManager();
+                try {
+                    int moved = tableMgr.moveTuples(tblFileInfo);
+                    out.printf("Moved %d delta rows of table %s into column storage%n",
+                        moved, tblFileInfo.getTableName());
+                }
+                catch (IOException e) {
+                    throw new ExecutionException("IO error occurred while moving " +
+                        "delta rows of table " + tblFileInfo.getTableName(), e);
+                }
+                continue;
+            }
+
             out.println("TODO:  Optimizing table " + tblFileInfo.getTableName());
 
             /*
@@ -102,7 +102,8 @@ public abstract class QueryCommand extends Command {
                 // Execute the query plan, then print out the evaluation stats.
 
                 TupleProcessor processor = getTupleProcessor();
-                EvalStats stats = QueryEvaluator.executePlan(plan, processor);
+                boolean batch = QueryEvaluator.isBatchExecutionEnabled(queryType);
+                EvalStats stats = QueryEvaluator.executePlan(plan, processor, batch);
 
                 // Print out the evaluation statistics.
 
@@ -10,8 +10,10 @@ import java.util.List;
 import com.bow.maple.expressions.Environment;
 import com.bow.maple.expressions.Expression;
 import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.plans.IndexScanNode;
 import com.bow.maple.qeval.SimplePlanner;
 import com.bow.maple.qeval.TupleProcessor;
+import com.bow.maple.relations.ColumnIndexes;
 import com.bow.maple.relations.Schema;
 import com.bow.maple.relations.SchemaNameException;
 import com.bow.maple.relations.Tuple;
@@ -193,10 +195,32 @@ public class UpdateCommand extends QueryCommand {
         // Create a plan for executing the SQL query.
         Planner planner = new SimplePlanner();
         plan = planner.makeSimpleSelect(tableName, whereExpr);
+
+        // 索引扫描分批读取，修改索引列的行可能移到还没有读取的位置而被再次
+        // 更新，这时一次读出所有记录
+        if (plan instanceof IndexScanNode) {
+            IndexScanNode indexScan = (IndexScanNode) plan;
+            if (updatesIndexColumns(indexScan.idxFileInfo.getTableColumnIndexes()))
+                indexScan.setSnapshot(true);
+        }
         plan.prepare();
     }
 
 
+    /** 是否修改了索引的某一列 */
+    private boolean updatesIndexColumns(ColumnIndexes colIndexes) {
+        Schema schema = tblFileInfo.getSchema();
+        for (UpdateValue value : values) {
+            int colIndex = schema.getColumnIndex(value.getColumnName());
+            for (int i = 0; i < colIndexes.size(); i++) {
+                if (colIndexes.getCol(i) == colIndex)
+                    return true;
+            }
+        }
+        return false;
+    }
+
+
     protected TupleProcessor getTupleProcessor() {
         return new TupleUpdater(tblFileInfo, values);
     }
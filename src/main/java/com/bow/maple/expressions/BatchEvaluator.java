@@ -0,0 +1,269 @@
+package com.bow.maple.expressions;
+
+import com.bow.maple.relations.ColumnVector;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.relations.Schema;
+import com.bow.maple.relations.SchemaNameException;
+import com.bow.maple.relations.TupleBatch;
+
+/**
+ * 在{@link TupleBatch}上批量计算谓词，结果体现为batch选择向量的收缩。<br/>
+ * <ul>
+ * <li>AND表达式依次用每个term收缩选择向量，有效行为0时提前结束。</li>
+ * <li>形如<tt>列 op 常量</tt>的数值比较直接在long/double数组上循环，不装箱，
+ * 也不经过{@link Environment}。</li>
+ * <li>其余表达式退化为逐行计算，但使用batch的行视图，不复制tuple。</li>
+ * </ul>
+ * 比较的语义与{@link CompareOperator#evaluate}保持一致：任何一边为NULL时该行不满足。
+ */
+public class BatchEvaluator {
+
+    private BatchEvaluator() {
+        throw new UnsupportedOperationException("This class should not be instantiated.");
+    }
+
+    /**
+     * 用谓词过滤batch，只保留满足谓词的行
+     *
+     * @param predicate 谓词
+     * @param schema batch的schema
+     * @param batch 待过滤的batch，其选择向量会被原地改写
+     * @param env 逐行计算时使用的environment
+     */
+    public static void filter(Expression predicate, Schema schema, TupleBatch batch, Environment env) {
+        if (batch.getNumSelected() == 0)
+            return;
+
+        if (predicate instanceof BooleanOperator) {
+            BooleanOperator boolOp = (BooleanOperator) predicate;
+            if (boolOp.getType() == BooleanOperator.Type.AND_EXPR) {
+                for (int i = 0; i < boolOp.getNumTerms() && batch.getNumSelected() > 0; i++)
+                    filter(boolOp.getTerm(i), schema, batch, env);
+                return;
+            }
+        }
+
+        if (predicate instanceof CompareOperator && filterCompare((CompareOperator) predicate, schema, batch))
+            return;
+
+        filterRows(predicate, schema, batch, env);
+    }
+
+    /**
+     * 逐行计算谓词
+     */
+    private static void filterRows(Expression predicate, Schema schema, TupleBatch batch, Environment env) {
+        int[] sel = batch.getSelection();
+        int n = batch.getNumSelected();
+        int out = 0;
+        for (int i = 0; i < n; i++) {
+            int row = sel[i];
+            env.clear();
+            env.addTuple(schema, batch.getRowView(row));
+            if (predicate.evaluatePredicate(env))
+                sel[out++] = row;
+        }
+        batch.setNumSelected(out);
+    }
+
+    /**
+     * 尝试对<tt>列 op 常量</tt>形式的比较进行向量化计算
+     *
+     * @return 若已完成过滤返回true，无法向量化时返回false
+     */
+    private static boolean filterCompare(CompareOperator cmp, Schema schema, TupleBatch batch) {
+        Expression lhs = cmp.getLeftExpression();
+        Expression rhs = cmp.getRightExpression();
+        CompareOperator.Type type = cmp.getType();
+
+        if (lhs instanceof LiteralValue && rhs instanceof ColumnValue) {
+            // 常量在左边时交换两边，并调整比较方向
+            Expression tmp = lhs;
+            lhs = rhs;
+            rhs = tmp;
+            type = flip(type);
+        }
+
+        if (!(lhs instanceof ColumnValue) || !(rhs instanceof LiteralValue))
+            return false;
+
+        int colIndex;
+        try {
+            colIndex = schema.getColumnIndex(((ColumnValue) lhs).getColumnName());
+        } catch (SchemaNameException e) {
+            return false;
+        }
+        if (colIndex < 0)
+            return false;
+
+        Object literal = rhs.evaluate();
+        ColumnVector vector = batch.getColumn(colIndex);
+        if (literal == null) {
+            // 与NULL比较结果总是UNKNOWN
+            batch.setNumSelected(0);
+            return true;
+        }
+
+        boolean integral = literal instanceof Integer || literal instanceof Long ||
+            literal instanceof Short || literal instanceof Byte;
+        boolean floating = literal instanceof Double || literal instanceof Float;
+        if (!integral && !floating)
+            return false;
+
+        if (vector.getVectorType() == ColumnVector.VectorType.LONG) {
+            if (!integral)
+                return false;
+
+            filterLongs(vector, type, ((Number) literal).longValue(), batch);
+            return true;
+        } else if (vector.getVectorType() == ColumnVector.VectorType.DOUBLE) {
+            double value = ((Number) literal).doubleValue();
+            if (vector.getSQLType() == SQLDataType.FLOAT && !(literal instanceof Double)) {
+                // 与TypeConverter.coerceArithmetic一致，两边都转换成Float
+                value = ((Number) literal).floatValue();
+            }
+
+            filterDoubles(vector, type, value, batch);
+            return true;
+        }
+
+        return false;
+    }
+
+    private static void filterLongs(ColumnVector vector, CompareOperator.Type type, long value, TupleBatch batch) {
+        long[] values = vector.getLongValues();
+        boolean[] nulls = vector.getNulls();
+        int[] sel = batch.getSelection();
+        int n = batch.getNumSelected();
+        int out = 0;
+
+        switch (type) {
+        case EQUALS:
+            for (int i = 0; i < n; i++) {
+                int row = sel[i];
+                if (!nulls[row] && values[row] == value)
+                    sel[out++] = row;
+            }
+            break;
+
+        case NOT_EQUALS:
+            for (int i = 0; i < n; i++) {
+                int row = sel[i];
+                if (!nulls[row] && values[row] != value)
+                    sel[out++] = row;
+            }
+            break;
+
+        case LESS_THAN:
+            for (int i = 0; i < n; i++) {
+                int row = sel[i];
+                if (!nulls[row] && values[row] < value)
+                    sel[out++] = row;
+            }
+            break;
+
+        case GREATER_THAN:
+            for (int i = 0; i < n; i++) {
+                int row = sel[i];
+                if (!nulls[row] && values[row] > value)
+                    sel[out++] = row;
+            }
+            break;
+
+        case LESS_OR_EQUAL:
+            for (int i = 0; i < n; i++) {
+                int row = sel[i];
+                if (!nulls[row] && values[row] <= value)
+                    sel[out++] = row;
+            }
+            break;
+
+        case GREATER_OR_EQUAL:
+            for (int i = 0; i < n; i++) {
+                int row = sel[i];
+                if (!nulls[row] && values[row] >= value)
+                    sel[out++] = row;
+            }
+            break;
+
+        default:
+            throw new ExpressionException("Unrecognized comparison type " + type);
+        }
+
+        batch.setNumSelected(out);
+    }
+
+    private static void filterDoubles(ColumnVector vector, CompareOperator.Type type, double value,
+            TupleBatch batch) {
+        double[] values = vector.getDoubleValues();
+        boolean[] nulls = vector.getNulls();
+        int[] sel = batch.getSelection();
+        int n = batch.getNumSelected();
+        int out = 0;
+
+        for (int i = 0; i < n; i++) {
+            int row = sel[i];
+            if (nulls[row])
+                continue;
+
+            // 与Double.compareTo保持一致，包括NaN和-0.0的处理
+            int c = Double.compare(values[row], value);
+            boolean match;
+            switch (type) {
+            case EQUALS:
+                match = (c == 0);
+                break;
+
+            case NOT_EQUALS:
+                match = (c != 0);
+                break;
+
+            case LESS_THAN:
+                match = (c < 0);
+                break;
+
+            case GREATER_THAN:
+                match = (c > 0);
+                break;
+
+            case LESS_OR_EQUAL:
+                match = (c <= 0);
+                break;
+
+            case GREATER_OR_EQUAL:
+                match = (c >= 0);
+                break;
+
+            default:
+                throw new ExpressionException("Unrecognized comparison type " + type);
+            }
+
+            if (match)
+                sel[out++] = row;
+        }
+
+        batch.setNumSelected(out);
+    }
+
+    /**
+     * 交换比较两边时对应的比较类型
+     */
+    static CompareOperator.Type flip(CompareOperator.Type type) {
+        switch (type) {
+        case LESS_THAN:
+            return CompareOperator.Type.GREATER_THAN;
+
+        case GREATER_THAN:
+            return CompareOperator.Type.LESS_THAN;
+
+        case LESS_OR_EQUAL:
+            return CompareOperator.Type.GREATER_OR_EQUAL;
+
+        case GREATER_OR_EQUAL:
+            return CompareOperator.Type.LESS_OR_EQUAL;
+
+        default:
+            return type;
+        }
+    }
+}
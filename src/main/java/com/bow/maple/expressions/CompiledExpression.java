@@ -0,0 +1,31 @@
+package com.bow.maple.expressions;
+
+import com.bow.maple.relations.Tuple;
+
+/**
+ * 由{@link ExpressionCompiler}针对某个schema编译好的表达式。<br/>
+ * 列引用在编译时已解析为tuple中的列序号，计算时直接从tuple中取值，不需要
+ * {@link Environment}；中间结果以原始类型计算，不做装箱和类型转换。
+ * <p>
+ * 计算结果与{@link Expression#evaluate(Environment)}和
+ * {@link Expression#evaluatePredicate(Environment)}一致。编译结果带有计算时的
+ * 状态，不能在多个线程之间共享。
+ */
+public abstract class CompiledExpression {
+
+    /**
+     * 计算表达式的值
+     *
+     * @param tuple 输入tuple，其结构须与编译时的schema一致
+     * @return 表达式的值，SQL <tt>NULL</tt>返回<tt>null</tt>
+     */
+    public abstract Object evaluate(Tuple tuple);
+
+    /**
+     * 将表达式作为谓词计算，<tt>NULL</tt>视为不满足
+     *
+     * @param tuple 输入tuple，其结构须与编译时的schema一致
+     * @return tuple是否满足谓词
+     */
+    public abstract boolean evaluatePredicate(Tuple tuple);
+}
@@ -0,0 +1,716 @@
+package com.bow.maple.expressions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import com.bow.maple.relations.Schema;
+import com.bow.maple.relations.SchemaNameException;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.util.PropertiesUtil;
+import org.apache.log4j.Logger;
+
+/**
+ * 将{@link Expression}树编译成{@link CompiledExpression}。<br/>
+ * 编译时根据schema和常量确定每个子表达式的静态类型，再用{@link MethodHandles}的组合子
+ * 把按类型特化的操作拼成一条{@link MethodHandle}链，计算时只调用根句柄：
+ * <ul>
+ * <li>列引用解析为列序号，不再每行通过{@link Environment}按列名查找。</li>
+ * <li>算术和比较直接在int/long/float/double上进行，类型提升规则与
+ * {@link TypeConverter#coerceArithmetic}相同，不再每行调用类型转换。</li>
+ * <li>NULL通过计算状态中的标记传递，由<tt>guardWithTest</tt>跳过后续计算，结果与
+ * 解释执行一致。</li>
+ * </ul>
+ * 目前支持列引用、常量、算术、比较和AND/OR/NOT；其他表达式(如函数调用、子查询、
+ * NUMERIC类型)返回<tt>null</tt>，调用方应退回到解释执行。
+ */
+public class ExpressionCompiler {
+
+    private static Logger logger = Logger.getLogger(ExpressionCompiler.class);
+
+    /**
+     * 是否编译表达式，取值on/off，默认on
+     */
+    public static final String PROP_COMPILE_EXPRESSIONS = "nanodb.exec.compileExpressions";
+
+    private ExpressionCompiler() {
+        throw new UnsupportedOperationException("This class should not be instantiated.");
+    }
+
+    /**
+     * 是否开启了表达式编译
+     *
+     * @return true 开启
+     */
+    public static boolean isEnabled() {
+        return "on".equalsIgnoreCase(PropertiesUtil.getProperty(PROP_COMPILE_EXPRESSIONS, "on"));
+    }
+
+    /**
+     * 针对schema编译表达式
+     *
+     * @param expr 表达式
+     * @param schema 计算时输入tuple的schema
+     * @return 编译结果，表达式不支持编译或未开启编译时返回<tt>null</tt>
+     */
+    public static CompiledExpression compile(Expression expr, Schema schema) {
+        if (expr == null || schema == null || !isEnabled())
+            return null;
+
+        State state = new State();
+        Node root = compileNode(expr, schema, state);
+        if (root == null) {
+            logger.debug("Expression " + expr + " cannot be compiled; using interpreter.");
+            return null;
+        }
+
+        return new Root(root, state);
+    }
+
+    /**
+     * 递归编译子表达式
+     *
+     * @return 编译后的节点，不支持时返回<tt>null</tt>
+     */
+    private static Node compileNode(Expression expr, Schema schema, State state) {
+        if (expr instanceof LiteralValue)
+            return compileLiteral(expr.evaluate(), state);
+
+        if (expr instanceof ColumnValue)
+            return compileColumn((ColumnValue) expr, schema, state);
+
+        if (expr instanceof ArithmeticOperator)
+            return compileArithmetic((ArithmeticOperator) expr, schema, state);
+
+        if (expr instanceof CompareOperator)
+            return compileCompare((CompareOperator) expr, schema, state);
+
+        if (expr instanceof BooleanOperator)
+            return compileBoolean((BooleanOperator) expr, schema, state);
+
+        return null;
+    }
+
+    private static Node compileLiteral(Object value, State state) {
+        if (value == null) {
+            // 类型无关紧要，计算时总是NULL
+            return new Node(Kind.INT, literalHandle(state, true, 0), constantObject(null));
+        }
+
+        Kind kind = kindOf(value);
+        if (kind == null)
+            return null;
+
+        MethodHandle handle;
+        switch (kind) {
+        case INT:
+            handle = literalHandle(state, false, ((Number) value).intValue());
+            break;
+
+        case LONG:
+            handle = literalHandle(state, false, ((Number) value).longValue());
+            break;
+
+        case FLOAT:
+            handle = literalHandle(state, false, ((Number) value).floatValue());
+            break;
+
+        case DOUBLE:
+            handle = literalHandle(state, false, ((Number) value).doubleValue());
+            break;
+
+        case BOOLEAN:
+            handle = MethodHandles.dropArguments(MethodHandles.constant(int.class,
+                ((Boolean) value) ? TRUE : FALSE), 0, Tuple.class);
+            break;
+
+        default:
+            handle = MethodHandles.dropArguments(MethodHandles.constant(String.class, value),
+                0, Tuple.class);
+        }
+        return new Node(kind, handle, constantObject(value));
+    }
+
+    private static Node compileColumn(ColumnValue colValue, Schema schema, State state) {
+        ColumnName colName = colValue.getColumnName();
+        if (colName.isColumnWildcard())
+            return null;
+
+        int colIndex;
+        try {
+            colIndex = schema.getColumnIndex(colName);
+        } catch (SchemaNameException e) {
+            return null;
+        }
+
+        if (colIndex < 0)
+            return null;
+
+        Kind kind;
+        switch (schema.getColumnInfo(colIndex).getType().getBaseType()) {
+        case TINYINT:
+        case SMALLINT:
+        case INTEGER:
+            kind = Kind.INT;
+            break;
+
+        case BIGINT:
+            kind = Kind.LONG;
+            break;
+
+        case FLOAT:
+            kind = Kind.FLOAT;
+            break;
+
+        case DOUBLE:
+            kind = Kind.DOUBLE;
+            break;
+
+        case CHAR:
+        case VARCHAR:
+            kind = Kind.STRING;
+            break;
+
+        default:
+            return null;
+        }
+
+        // (Tuple)Object，直接返回列值，保持与解释执行相同的Java类型
+        MethodHandle getter = MethodHandles.insertArguments(GET_COLUMN_VALUE, 1, colIndex);
+
+        // 取出原始类型的值并记录是否为NULL
+        String unbox = kind == Kind.STRING ? "stringValue" : kind.name().toLowerCase() + "Value";
+        MethodHandle handle = MethodHandles.filterReturnValue(getter,
+            MethodHandles.insertArguments(findStatic(unbox, kind.type, State.class, Object.class),
+                0, state));
+        return new Node(kind, handle, getter);
+    }
+
+    private static Node compileArithmetic(ArithmeticOperator arith, Schema schema, State state) {
+        Node left = compileNode(arith.leftExpr, schema, state);
+        Node right = compileNode(arith.rightExpr, schema, state);
+        if (left == null || right == null)
+            return null;
+
+        Kind opKind = promote(left.kind, right.kind);
+        if (opKind == null)
+            return null;
+
+        // 整数相除的结果是DOUBLE，两边按LONG相除
+        Kind kind = opKind;
+        MethodHandle op;
+        if (arith.type == ArithmeticOperator.Type.DIVIDE && (opKind == Kind.INT || opKind == Kind.LONG)) {
+            kind = Kind.DOUBLE;
+            opKind = Kind.LONG;
+            op = findStatic("divideIntegers", double.class, long.class, long.class);
+        } else {
+            String name;
+            switch (arith.type) {
+            case ADD:
+                name = "add";
+                break;
+
+            case SUBTRACT:
+                name = "subtract";
+                break;
+
+            case MULTIPLY:
+                name = "multiply";
+                break;
+
+            case DIVIDE:
+                name = "divide";
+                break;
+
+            case REMAINDER:
+                name = "remainder";
+                break;
+
+            default:
+                return null;
+            }
+            op = findStatic(name, opKind.type, opKind.type, opKind.type);
+        }
+
+        // 有一边为NULL时结果为0，并由wasNull标记为NULL
+        MethodHandle zero = MethodHandles.explicitCastArguments(
+            MethodHandles.constant(int.class, 0), MethodType.methodType(kind.type));
+        MethodHandle handle = combineNonNull(state, left.as(opKind), right.as(opKind), op, zero);
+        return new Node(kind, handle, null);
+    }
+
+    private static Node compileCompare(CompareOperator cmp, Schema schema, State state) {
+        Node left = compileNode(cmp.leftExpr, schema, state);
+        Node right = compileNode(cmp.rightExpr, schema, state);
+        if (left == null || right == null)
+            return null;
+
+        Kind opKind;
+        if (left.kind == Kind.STRING && right.kind == Kind.STRING)
+            opKind = Kind.STRING;
+        else
+            opKind = promote(left.kind, right.kind);
+
+        if (opKind == null)
+            return null;
+
+        String name;
+        switch (cmp.type) {
+        case EQUALS:
+            name = "isEqual";
+            break;
+
+        case NOT_EQUALS:
+            name = "isNotEqual";
+            break;
+
+        case LESS_THAN:
+            name = "isLessThan";
+            break;
+
+        case GREATER_THAN:
+            name = "isGreaterThan";
+            break;
+
+        case LESS_OR_EQUAL:
+            name = "isLessOrEqual";
+            break;
+
+        case GREATER_OR_EQUAL:
+            name = "isGreaterOrEqual";
+            break;
+
+        default:
+            return null;
+        }
+
+        // (a, b) -> compare(a, b)，再按比较的类型转换成TRUE或FALSE
+        MethodHandle op = MethodHandles.filterReturnValue(
+            findStatic("compare", int.class, opKind.type, opKind.type),
+            findStatic(name, int.class, int.class));
+
+        MethodHandle handle = combineNonNull(state, left.as(opKind), right.as(opKind), op,
+            MethodHandles.constant(int.class, UNKNOWN));
+        return new Node(Kind.BOOLEAN, handle, null);
+    }
+
+    private static Node compileBoolean(BooleanOperator boolOp, Schema schema, State state) {
+        int numTerms = boolOp.getNumTerms();
+        if (numTerms == 0)
+            return null;
+
+        BooleanOperator.Type type = boolOp.getType();
+        if (type == BooleanOperator.Type.NOT_EXPR && numTerms != 1)
+            return null;
+
+        MethodHandle[] terms = new MethodHandle[numTerms];
+        for (int i = 0; i < numTerms; i++) {
+            Node term = compileNode(boolOp.getTerm(i), schema, state);
+            if (term == null || term.kind != Kind.BOOLEAN)
+                return null;
+            terms[i] = term.handle;
+        }
+
+        MethodHandle handle;
+        switch (type) {
+        case NOT_EXPR:
+            handle = MethodHandles.filterReturnValue(terms[0],
+                findStatic("not", int.class, int.class));
+            break;
+
+        case AND_EXPR:
+        case OR_EXPR:
+            handle = shortCircuit(terms, 0, type == BooleanOperator.Type.AND_EXPR);
+            break;
+
+        default:
+            throw new ExpressionException("Unrecognized boolean type " + type);
+        }
+        return new Node(Kind.BOOLEAN, handle, null);
+    }
+
+    /**
+     * 根据值的Java类型确定其静态类型
+     */
+    private static Kind kindOf(Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+            return Kind.INT;
+        if (value instanceof Long)
+            return Kind.LONG;
+        if (value instanceof Float)
+            return Kind.FLOAT;
+        if (value instanceof Double)
+            return Kind.DOUBLE;
+        if (value instanceof String)
+            return Kind.STRING;
+        if (value instanceof Boolean)
+            return Kind.BOOLEAN;
+        return null;
+    }
+
+    /**
+     * 两个数值类型运算时的公共类型，与{@link TypeConverter#coerceArithmetic}一致
+     *
+     * @return 公共类型，有非数值类型时返回<tt>null</tt>
+     */
+    private static Kind promote(Kind a, Kind b) {
+        if (!a.isNumeric() || !b.isNumeric())
+            return null;
+
+        return a.ordinal() > b.ordinal() ? a : b;
+    }
+
+    /**
+     * 子表达式的静态类型，数值类型按提升顺序排列
+     */
+    private enum Kind {
+        INT(int.class), LONG(long.class), FLOAT(float.class), DOUBLE(double.class),
+        STRING(String.class), BOOLEAN(int.class);
+
+        /** 句柄返回值的类型 */
+        final Class<?> type;
+
+        Kind(Class<?> type) {
+            this.type = type;
+        }
+
+        boolean isNumeric() {
+            return this == INT || this == LONG || this == FLOAT || this == DOUBLE;
+        }
+    }
+
+    /** 布尔计算结果：真 */
+    private static final int TRUE = 1;
+
+    /** 布尔计算结果：假 */
+    private static final int FALSE = 0;
+
+    /** 布尔计算结果：UNKNOWN，即有一边为NULL */
+    private static final int UNKNOWN = -1;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** (Tuple, int)Object，即{@link Tuple#getColumnValue} */
+    private static final MethodHandle GET_COLUMN_VALUE;
+
+    /** (State)boolean，读取{@link State#wasNull} */
+    private static final MethodHandle WAS_NULL;
+
+    static {
+        try {
+            GET_COLUMN_VALUE = LOOKUP.findVirtual(Tuple.class, "getColumnValue",
+                MethodType.methodType(Object.class, int.class));
+            WAS_NULL = LOOKUP.findGetter(State.class, "wasNull", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * 查找本类中的静态方法，方法按名字和参数类型重载
+     */
+    private static MethodHandle findStatic(String name, Class<?> rtype, Class<?>... ptypes) {
+        try {
+            return LOOKUP.findStatic(ExpressionCompiler.class, name,
+                MethodType.methodType(rtype, ptypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No compiled operation " + name, e);
+        }
+    }
+
+    /** 返回常量的(Tuple)Object */
+    private static MethodHandle constantObject(Object value) {
+        return MethodHandles.dropArguments(MethodHandles.constant(Object.class, value), 0, Tuple.class);
+    }
+
+    /** 返回常量并设置{@link State#wasNull}的(Tuple)T，value为原始类型 */
+    private static MethodHandle literalHandle(State state, boolean isNull, Object value) {
+        Class<?> type = MethodType.methodType(value.getClass()).unwrap().returnType();
+        MethodHandle handle = MethodHandles.insertArguments(
+            findStatic("literal", type, State.class, boolean.class, type), 0, state, isNull, value);
+        return MethodHandles.dropArguments(handle, 0, Tuple.class);
+    }
+
+    /**
+     * 组合两个操作数的计算：先计算left，为NULL时不再计算right；right也不为NULL
+     * 时才调用op，否则返回nullResult，{@link State#wasNull}保持为true。
+     *
+     * @param left (Tuple)A
+     * @param right (Tuple)B
+     * @param op (A, B)R
+     * @param nullResult ()R
+     * @return (Tuple)R
+     */
+    private static MethodHandle combineNonNull(State state, MethodHandle left, MethodHandle right,
+            MethodHandle op, MethodHandle nullResult) {
+        Class<?> a = left.type().returnType();
+        Class<?> b = right.type().returnType();
+        MethodHandle wasNull = WAS_NULL.bindTo(state);
+
+        // inner(b, a, tuple) = wasNull ? nullResult : op(a, b)
+        MethodHandle opBA = MethodHandles.permuteArguments(op,
+            MethodType.methodType(op.type().returnType(), b, a), 1, 0);
+        MethodHandle inner = MethodHandles.guardWithTest(
+            MethodHandles.dropArguments(wasNull, 0, b, a, Tuple.class),
+            MethodHandles.dropArguments(nullResult, 0, b, a, Tuple.class),
+            MethodHandles.dropArguments(opBA, 2, Tuple.class));
+
+        // afterLeft(a, tuple) = wasNull ? nullResult : inner(right(tuple), a, tuple)
+        MethodHandle afterLeft = MethodHandles.guardWithTest(
+            MethodHandles.dropArguments(wasNull, 0, a, Tuple.class),
+            MethodHandles.dropArguments(nullResult, 0, a, Tuple.class),
+            MethodHandles.foldArguments(inner, MethodHandles.dropArguments(right, 0, a)));
+
+        return MethodHandles.foldArguments(afterLeft, left);
+    }
+
+    /**
+     * 按顺序组合AND/OR的各个term：AND遇到不为TRUE的term返回FALSE，OR遇到TRUE
+     * 返回TRUE，之后的term不再计算
+     */
+    private static MethodHandle shortCircuit(MethodHandle[] terms, int i, boolean and) {
+        MethodHandle isTrue = MethodHandles.filterReturnValue(terms[i],
+            findStatic("isTrue", boolean.class, int.class));
+        MethodHandle decided = MethodHandles.dropArguments(
+            MethodHandles.constant(int.class, and ? FALSE : TRUE), 0, Tuple.class);
+
+        MethodHandle rest;
+        if (i == terms.length - 1) {
+            rest = MethodHandles.dropArguments(
+                MethodHandles.constant(int.class, and ? TRUE : FALSE), 0, Tuple.class);
+        } else {
+            rest = shortCircuit(terms, i + 1, and);
+        }
+
+        return and ? MethodHandles.guardWithTest(isTrue, rest, decided) :
+            MethodHandles.guardWithTest(isTrue, decided, rest);
+    }
+
+    /**
+     * 同一个编译结果中所有句柄共享的计算状态
+     */
+    private static class State {
+        /** 最近一次数值计算的结果是否为NULL */
+        boolean wasNull;
+    }
+
+    /**
+     * 编译后的子表达式。{@link #handle}的类型是(Tuple)T，T按{@link #kind}为
+     * int、long、float、double、String，BOOLEAN时是取值{@link #TRUE}、
+     * {@link #FALSE}或{@link #UNKNOWN}的int；数值结果是否为NULL通过
+     * {@link State#wasNull}判断，字符串为NULL时返回<tt>null</tt>。
+     */
+    private static class Node {
+
+        final Kind kind;
+
+        final MethodHandle handle;
+
+        /** 列引用和常量直接返回原值的(Tuple)Object，其他为<tt>null</tt> */
+        final MethodHandle objectHandle;
+
+        Node(Kind kind, MethodHandle handle, MethodHandle objectHandle) {
+            this.kind = kind;
+            this.handle = handle;
+            this.objectHandle = objectHandle;
+        }
+
+        /**
+         * 按提升后的类型计算，原始类型之间的拓宽转换与Java的一致
+         */
+        MethodHandle as(Kind target) {
+            if (target == kind)
+                return handle;
+            return MethodHandles.explicitCastArguments(handle,
+                MethodType.methodType(target.type, Tuple.class));
+        }
+    }
+
+    /*
+     * 句柄链中调用的操作，按名字和参数类型查找
+     */
+
+    private static int literal(State state, boolean isNull, int value) {
+        state.wasNull = isNull;
+        return value;
+    }
+
+    private static long literal(State state, boolean isNull, long value) {
+        state.wasNull = isNull;
+        return value;
+    }
+
+    private static float literal(State state, boolean isNull, float value) {
+        state.wasNull = isNull;
+        return value;
+    }
+
+    private static double literal(State state, boolean isNull, double value) {
+        state.wasNull = isNull;
+        return value;
+    }
+
+    private static int intValue(State state, Object value) {
+        state.wasNull = (value == null);
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    private static long longValue(State state, Object value) {
+        state.wasNull = (value == null);
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    private static float floatValue(State state, Object value) {
+        state.wasNull = (value == null);
+        return value == null ? 0 : ((Number) value).floatValue();
+    }
+
+    private static double doubleValue(State state, Object value) {
+        state.wasNull = (value == null);
+        return value == null ? 0 : ((Number) value).doubleValue();
+    }
+
+    private static String stringValue(State state, Object value) {
+        state.wasNull = (value == null);
+        return (String) value;
+    }
+
+    private static int add(int a, int b) { return a + b; }
+
+    private static long add(long a, long b) { return a + b; }
+
+    private static float add(float a, float b) { return a + b; }
+
+    private static double add(double a, double b) { return a + b; }
+
+    private static int subtract(int a, int b) { return a - b; }
+
+    private static long subtract(long a, long b) { return a - b; }
+
+    private static float subtract(float a, float b) { return a - b; }
+
+    private static double subtract(double a, double b) { return a - b; }
+
+    private static int multiply(int a, int b) { return a * b; }
+
+    private static long multiply(long a, long b) { return a * b; }
+
+    private static float multiply(float a, float b) { return a * b; }
+
+    private static double multiply(double a, double b) { return a * b; }
+
+    private static float divide(float a, float b) { return a / b; }
+
+    private static double divide(double a, double b) { return a / b; }
+
+    /** 整数相除，结果是DOUBLE */
+    private static double divideIntegers(long a, long b) { return (double) a / (double) b; }
+
+    private static int remainder(int a, int b) { return a % b; }
+
+    private static long remainder(long a, long b) { return a % b; }
+
+    private static float remainder(float a, float b) { return a % b; }
+
+    private static double remainder(double a, double b) { return a % b; }
+
+    private static int compare(int a, int b) { return Integer.compare(a, b); }
+
+    private static int compare(long a, long b) { return Long.compare(a, b); }
+
+    private static int compare(float a, float b) { return Float.compare(a, b); }
+
+    private static int compare(double a, double b) { return Double.compare(a, b); }
+
+    private static int compare(String a, String b) { return a.compareTo(b); }
+
+    private static int isEqual(int c) { return c == 0 ? TRUE : FALSE; }
+
+    private static int isNotEqual(int c) { return c != 0 ? TRUE : FALSE; }
+
+    private static int isLessThan(int c) { return c < 0 ? TRUE : FALSE; }
+
+    private static int isGreaterThan(int c) { return c > 0 ? TRUE : FALSE; }
+
+    private static int isLessOrEqual(int c) { return c <= 0 ? TRUE : FALSE; }
+
+    private static int isGreaterOrEqual(int c) { return c >= 0 ? TRUE : FALSE; }
+
+    /** 与{@link BooleanOperator#evaluate}一致，UNKNOWN按FALSE处理 */
+    private static boolean isTrue(int value) { return value == TRUE; }
+
+    private static int not(int value) { return value == TRUE ? FALSE : TRUE; }
+
+    /**
+     * 编译结果的入口，调用根节点的句柄
+     */
+    private static class Root extends CompiledExpression {
+
+        private final Node root;
+
+        private final State state;
+
+        Root(Node root, State state) {
+            this.root = root;
+            this.state = state;
+        }
+
+        @Override
+        public Object evaluate(Tuple tuple) {
+            try {
+                if (root.objectHandle != null)
+                    return (Object) root.objectHandle.invokeExact(tuple);
+
+                switch (root.kind) {
+                case INT: {
+                    int v = (int) root.handle.invokeExact(tuple);
+                    return state.wasNull ? null : Integer.valueOf(v);
+                }
+
+                case LONG: {
+                    long v = (long) root.handle.invokeExact(tuple);
+                    return state.wasNull ? null : Long.valueOf(v);
+                }
+
+                case FLOAT: {
+                    float v = (float) root.handle.invokeExact(tuple);
+                    return state.wasNull ? null : Float.valueOf(v);
+                }
+
+                case DOUBLE: {
+                    double v = (double) root.handle.invokeExact(tuple);
+                    return state.wasNull ? null : Double.valueOf(v);
+                }
+
+                case BOOLEAN: {
+                    int v = (int) root.handle.invokeExact(tuple);
+                    return v == UNKNOWN ? null : Boolean.valueOf(v == TRUE);
+                }
+
+                default:
+                    return (String) root.handle.invokeExact(tuple);
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new ExpressionException(t);
+            }
+        }
+
+        @Override
+        public boolean evaluatePredicate(Tuple tuple) {
+            if (root.kind == Kind.BOOLEAN) {
+                try {
+                    return (int) root.handle.invokeExact(tuple) == TRUE;
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new ExpressionException(t);
+                }
+            }
+
+            Object result = evaluate(tuple);
+            return result != null && TypeConverter.getBooleanValue(result);
+        }
+    }
+}
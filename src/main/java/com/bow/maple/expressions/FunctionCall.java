@@ -4,6 +4,9 @@ package com.bow.maple.expressions;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+
+import com.bow.maple.functions.AggregateFunction;
 
 import com.bow.maple.functions.Function;
 import com.bow.maple.functions.FunctionDirectory;
@@ -57,14 +60,48 @@ public class FunctionCall extends Expression {
     }
 
 
+    public String getFunctionName() {
+        return funcName;
+    }
+
+
+    public List<Expression> getArguments() {
+        return args;
+    }
+
+
+    /**
+     * 是否调用的是聚合函数。聚合函数由执行计划中的聚合节点计算，不能直接求值。
+     *
+     * @return 是聚合函数时返回true
+     */
+    public boolean isAggregate() {
+        return function == null && FunctionDirectory.getInstance().isAggregate(funcName);
+    }
+
+
     @Override
     public ColumnInfo getColumnInfo(Schema schema) throws SchemaNameException {
+        if (function == null) {
+            AggregateFunction aggregate = FunctionDirectory.getInstance().newAggregate(funcName);
+            if (aggregate == null)
+                throw new ExpressionException("Unrecognized function " + funcName);
+
+            return aggregate.getReturnType(args, schema);
+        }
         return function.getReturnType(args, schema);
     }
 
 
     @Override
     public Object evaluate(Environment env) throws ExpressionException {
+        if (function == null) {
+            if (isAggregate()) {
+                throw new ExpressionException("Aggregate function " + this +
+                    " can only be used as a SELECT value without GROUP BY");
+            }
+            throw new ExpressionException("Unrecognized function " + funcName);
+        }
         return function.evaluate(env, args);
     }
 
@@ -112,6 +149,10 @@ public class FunctionCall extends Expression {
 
         buf.append(funcName).append('(');
 
+        // COUNT(*)没有参数
+        if (args.isEmpty() && isAggregate())
+            buf.append('*');
+
         boolean first = true;
         for (Expression arg : args) {
             if (first)
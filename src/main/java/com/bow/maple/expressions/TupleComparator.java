@@ -249,6 +249,49 @@ public class TupleComparator implements Comparator<Tuple> {
     }
 
 
+    /**
+     * 只比较<tt>t</tt>的前<tt>prefix.getColumnCount()</tt>列与<tt>prefix</tt>。
+     * 与{@link #comparePartialTuples}不同，前缀相同时结果为0，而不是认为较短
+     * 的tuple更小，因此可以判断索引中的一个key是否落在某个前缀区间内。
+     *
+     * @param t 被比较的tuple，列数不能少于<tt>prefix</tt>
+     * @param prefix 前缀
+     * @return 负数、0或正数，表示<tt>t</tt>的前缀小于、等于或大于<tt>prefix</tt>
+     */
+    public static int comparePrefix(Tuple t, Tuple prefix) {
+        int size = prefix.getColumnCount();
+        if (t.getColumnCount() < size)
+            throw new IllegalArgumentException("tuple is shorter than the prefix");
+
+        for (int i = 0; i < size; i++) {
+            int cmp = compareValues(t.getColumnValue(i), prefix.getColumnValue(i));
+            if (cmp != 0)
+                return cmp;
+        }
+        return 0;
+    }
+
+
+    /**
+     * 比较两个值，先进行类型转换。<tt>NULL</tt>小于任何非<tt>NULL</tt>值，
+     * 两个<tt>NULL</tt>认为相等，与索引中的排序一致。
+     *
+     * @param objA 第一个值，可以为<tt>null</tt>
+     * @param objB 第二个值，可以为<tt>null</tt>
+     * @return 负数、0或正数，表示<tt>objA</tt>小于、等于或大于<tt>objB</tt>
+     */
+    @SuppressWarnings("unchecked")
+    public static int compareValues(Object objA, Object objB) {
+        if (objA == null)
+            return (objB == null) ? 0 : -1;
+        if (objB == null)
+            return 1;
+
+        TypeConverter.Pair p = TypeConverter.coerceComparison(objA, objB);
+        return ((Comparable) p.value1).compareTo(p.value2);
+    }
+
+
     /**
      * This is the private helper function that implements both the
      * {@link #compareTuples} method and the {@link #comparePartialTuples}
@@ -311,8 +354,8 @@ public class TupleComparator implements Comparator<Tuple> {
             
             TypeConverter.Pair p = TypeConverter.coerceComparison(objA, objB);
             
-            Comparable valueA = (Comparable) objA;
-            Comparable valueB = (Comparable) objB;
+            Comparable valueA = (Comparable) p.value1;
+            Comparable valueB = (Comparable) p.value2;
 
             // Although it should be "unknown" when we compare two NULL values
             // for equality, we say they are equal so that they will all appear
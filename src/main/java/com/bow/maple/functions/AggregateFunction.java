@@ -1,10 +1,27 @@
 package com.bow.maple.functions;
 
+import java.util.List;
+
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnVector;
+import com.bow.maple.relations.Schema;
 
 /**
  * This class provides the general abstraction for aggregate functions.
  */
 public abstract class AggregateFunction {
+    /**
+     * 返回聚合结果的列信息，与{@link Function#getReturnType}对应。结果列没有
+     * 名字，由SELECT子句生成。
+     *
+     * @param args 聚合函数的参数
+     * @param schema 计算参数时输入tuple的schema
+     * @return 聚合结果的列信息
+     */
+    public abstract ColumnInfo getReturnType(List<Expression> args, Schema schema);
+
+
     /**
      * Clears the aggregate function's current state so that the object can be
      * reused to compute an aggregate on another set of input values.
@@ -22,6 +39,21 @@ public abstract class AggregateFunction {
     public abstract void addValue(Object value);
 
 
+    /**
+     * 批量添加列向量中的值，只处理选择向量中的前<tt>numSelected</tt>行。
+     * 默认实现逐个调用{@link #addValue}，子类可针对原始类型的向量直接计算，
+     * 但结果必须与逐个调用{@link #addValue}一致。
+     *
+     * @param vector 输入的列向量
+     * @param selection 有效行号
+     * @param numSelected 有效行数
+     */
+    public void addBatch(ColumnVector vector, int[] selection, int numSelected) {
+        for (int i = 0; i < numSelected; i++)
+            addValue(vector.getValue(selection[i]));
+    }
+
+
     /**
      * Returns the aggregated result computed for this aggregate function.
      * Generally, if aggregate functions receive no non-<tt>null</tt> inputs
@@ -31,4 +63,28 @@ public abstract class AggregateFunction {
      * @return the result of the aggregate computation.
      */
     public abstract Object getResult();
+
+
+    /**
+     * 创建一个同样配置、状态已清空的聚合函数。并行聚合时每个分支各使用一个
+     * 实例计算部分结果，最后通过{@link #combine}合并。
+     *
+     * @return 新的聚合函数实例
+     */
+    public AggregateFunction newInstance() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() +
+            " does not support partial aggregation");
+    }
+
+
+    /**
+     * 将另一个实例的部分结果合并到本实例中，合并后的结果与把两部分输入都交给
+     * 同一个实例相同。
+     *
+     * @param partial 由{@link #newInstance()}创建并已计算了部分输入的实例
+     */
+    public void combine(AggregateFunction partial) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() +
+            " does not support partial aggregation");
+    }
 }
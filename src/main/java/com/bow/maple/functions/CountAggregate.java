@@ -1,6 +1,14 @@
 package com.bow.maple.functions;
 
 import java.util.HashSet;
+import java.util.List;
+
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.ColumnVector;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.relations.Schema;
 
 
 /**
@@ -26,6 +34,12 @@ public class CountAggregate extends AggregateFunction {
     }
 
 
+    @Override
+    public ColumnInfo getReturnType(List<Expression> args, Schema schema) {
+        return new ColumnInfo(new ColumnType(SQLDataType.INTEGER));
+    }
+
+
     public void clearResult() {
         count = -1;
 
@@ -71,6 +85,69 @@ public class CountAggregate extends AggregateFunction {
     }
 
 
+    /**
+     * 非DISTINCT计数只需要统计非NULL的行数，不必取出每个值。
+     */
+    @Override
+    public void addBatch(ColumnVector vector, int[] selection, int numSelected) {
+        if (distinct) {
+            super.addBatch(vector, selection, numSelected);
+            return;
+        }
+
+        boolean[] nulls = vector.getNulls();
+        int added = 0;
+        for (int i = 0; i < numSelected; i++) {
+            if (!nulls[selection[i]])
+                added++;
+        }
+
+        if (added == 0)
+            return;
+
+        if (count == -1)
+            count = 0;
+
+        count += added;
+    }
+
+
+    @Override
+    public AggregateFunction newInstance() {
+        CountAggregate fn = new CountAggregate(distinct, sortedInputs);
+        fn.clearResult();
+        return fn;
+    }
+
+
+    /**
+     * 非DISTINCT计数直接相加；基于hash的DISTINCT计数合并两边见过的值。
+     * 基于排序的DISTINCT计数只记得最后一个值，无法合并。
+     */
+    @Override
+    public void combine(AggregateFunction partial) {
+        CountAggregate other = (CountAggregate) partial;
+        if (distinct && sortedInputs)
+            super.combine(partial);
+
+        if (other.count == -1)
+            return;
+
+        if (count == -1)
+            count = 0;
+
+        if (distinct) {
+            for (Object value : other.valuesSeen) {
+                if (valuesSeen.add(value))
+                    count++;
+            }
+        }
+        else {
+            count += other.count;
+        }
+    }
+
+
     public Object getResult() {
         // A value of -1 indicates a NULL result.
         return (count == -1 ? null : Integer.valueOf(count));
@@ -24,6 +24,14 @@ public class FunctionDirectory {
         new ConcurrentHashMap<String, Function>();
 
 
+    /**
+     * 聚合函数的原型，使用时通过{@link AggregateFunction#newInstance()}创建
+     * 新的实例
+     */
+    private ConcurrentHashMap<String, AggregateFunction> aggregates =
+        new ConcurrentHashMap<String, AggregateFunction>();
+
+
     /**
      * @design (Donnie) This constructor is currently private just so that we
      *         can maintain this as a singleton.  There's no real reason why it
@@ -59,6 +67,12 @@ public class FunctionDirectory {
         addFunction("TAN", new Tan());
 
         // These are the aggregate functions:
+        addAggregate("AVG", new SumAvgAggregate(true));
+        addAggregate("COUNT", new CountAggregate(false, false));
+        addAggregate("COUNT-DISTINCT", new CountAggregate(true, false));
+        addAggregate("MAX", new MinMaxAggregate(false));
+        addAggregate("MIN", new MinMaxAggregate(true));
+        addAggregate("SUM", new SumAvgAggregate(false));
     }
 
 
@@ -99,4 +113,50 @@ public class FunctionDirectory {
         funcName = funcName.trim().toUpperCase();
         return functions.get(funcName);
     }
+
+
+    /**
+     * 添加聚合函数，名字的处理与{@link #addFunction}相同
+     *
+     * @param funcName 聚合函数的名字
+     * @param prototype 聚合函数的原型，须支持{@link AggregateFunction#newInstance()}
+     */
+    public void addAggregate(String funcName, AggregateFunction prototype) {
+        if (funcName == null)
+            throw new IllegalArgumentException("funcName cannot be null");
+
+        if (prototype == null)
+            throw new IllegalArgumentException("prototype cannot be null");
+
+        funcName = funcName.trim().toUpperCase();
+        if (functions.containsKey(funcName) || aggregates.containsKey(funcName)) {
+            throw new IllegalArgumentException("Function " + funcName +
+                " is already in the directory");
+        }
+
+        aggregates.put(funcName, prototype);
+    }
+
+
+    /**
+     * 是否是聚合函数
+     *
+     * @param funcName 函数名
+     * @return 是聚合函数时返回true
+     */
+    public boolean isAggregate(String funcName) {
+        return aggregates.containsKey(funcName.trim().toUpperCase());
+    }
+
+
+    /**
+     * 创建聚合函数的新实例
+     *
+     * @param funcName 聚合函数的名字
+     * @return 状态已清空的新实例，没有该聚合函数时返回<tt>null</tt>
+     */
+    public AggregateFunction newAggregate(String funcName) {
+        AggregateFunction prototype = aggregates.get(funcName.trim().toUpperCase());
+        return (prototype == null) ? null : prototype.newInstance();
+    }
 }
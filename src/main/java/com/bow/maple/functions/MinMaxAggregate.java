@@ -1,5 +1,12 @@
 package com.bow.maple.functions;
 
+import java.util.List;
+
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.ExpressionException;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnVector;
+import com.bow.maple.relations.Schema;
 
 /**
  * This aggregate function can be used to compute either the minimum or the
@@ -30,6 +37,20 @@ public class MinMaxAggregate extends AggregateFunction {
     }
 
 
+    /**
+     * 结果与参数的类型相同
+     */
+    @Override
+    public ColumnInfo getReturnType(List<Expression> args, Schema schema) {
+        if (args.size() != 1) {
+            throw new ExpressionException("Cannot call " + (minimumSwitch == 1 ? "MIN" : "MAX") +
+                " on " + args.size() + " arguments");
+        }
+
+        return new ColumnInfo(args.get(0).getColumnInfo(schema).getType());
+    }
+
+
     public void clearResult() {
         result = null;
     }
@@ -52,6 +73,59 @@ public class MinMaxAggregate extends AggregateFunction {
     }
 
 
+    /**
+     * 数值列先在原始类型上找出本批的最值所在的行，再只对这一行调用
+     * {@link #addValue}。
+     */
+    @Override
+    public void addBatch(ColumnVector vector, int[] selection, int numSelected) {
+        boolean[] nulls = vector.getNulls();
+        int bestRow = -1;
+
+        if (vector.getVectorType() == ColumnVector.VectorType.LONG) {
+            long[] values = vector.getLongValues();
+            for (int i = 0; i < numSelected; i++) {
+                int row = selection[i];
+                if (nulls[row])
+                    continue;
+
+                if (bestRow == -1 || minimumSwitch * Long.compare(values[bestRow], values[row]) > 0)
+                    bestRow = row;
+            }
+        }
+        else if (vector.getVectorType() == ColumnVector.VectorType.DOUBLE) {
+            double[] values = vector.getDoubleValues();
+            for (int i = 0; i < numSelected; i++) {
+                int row = selection[i];
+                if (nulls[row])
+                    continue;
+
+                if (bestRow == -1 || minimumSwitch * Double.compare(values[bestRow], values[row]) > 0)
+                    bestRow = row;
+            }
+        }
+        else {
+            super.addBatch(vector, selection, numSelected);
+            return;
+        }
+
+        if (bestRow != -1)
+            addValue(vector.getValue(bestRow));
+    }
+
+
+    @Override
+    public AggregateFunction newInstance() {
+        return new MinMaxAggregate(minimumSwitch == 1);
+    }
+
+
+    @Override
+    public void combine(AggregateFunction partial) {
+        addValue(((MinMaxAggregate) partial).result);
+    }
+
+
     public Object getResult() {
         return result;
     }
@@ -1,7 +1,16 @@
 package com.bow.maple.functions;
 
 
+import java.util.List;
+
 import com.bow.maple.expressions.ArithmeticOperator;
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.ExpressionException;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.ColumnVector;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.relations.Schema;
 
 /**
  */
@@ -23,6 +32,31 @@ public class SumAvgAggregate extends AggregateFunction {
     }
 
 
+    /**
+     * 与{@link ArithmeticOperator}的类型提升一致：较小的整数类型相加得到
+     * INTEGER；AVG除以整数的计数，FLOAT参数得到FLOAT，其他参数得到DOUBLE
+     */
+    @Override
+    public ColumnInfo getReturnType(List<Expression> args, Schema schema) {
+        if (args.size() != 1) {
+            throw new ExpressionException("Cannot call " + (computeAverage ? "AVG" : "SUM") +
+                " on " + args.size() + " arguments");
+        }
+
+        ColumnType argType = args.get(0).getColumnInfo(schema).getType();
+        SQLDataType baseType = argType.getBaseType();
+
+        if (computeAverage) {
+            if (baseType == SQLDataType.FLOAT)
+                return new ColumnInfo(argType);
+            return new ColumnInfo(new ColumnType(SQLDataType.DOUBLE));
+        }
+
+        if (baseType == SQLDataType.TINYINT || baseType == SQLDataType.SMALLINT)
+            return new ColumnInfo(new ColumnType(SQLDataType.INTEGER));
+        return new ColumnInfo(argType);
+    }
+
     @Override
     public void clearResult() {
         sum = null;
@@ -48,6 +82,112 @@ public class SumAvgAggregate extends AggregateFunction {
             count++;
     }
 
+    /**
+     * 整数列先在long上累加整批数据，再与之前的和相加一次；由于整数加法按位宽
+     * 回绕，结果与逐个相加相同。DOUBLE列按原顺序在double上累加。FLOAT列每一步都
+     * 要按float舍入，因此仍逐个相加。
+     */
+    @Override
+    public void addBatch(ColumnVector vector, int[] selection, int numSelected) {
+        boolean[] nulls = vector.getNulls();
+
+        if (vector.getVectorType() == ColumnVector.VectorType.LONG &&
+            (sum == null || sum instanceof Integer || sum instanceof Long)) {
+
+            long[] values = vector.getLongValues();
+            long acc = 0;
+            int added = 0;
+            int firstRow = -1;
+            for (int i = 0; i < numSelected; i++) {
+                int row = selection[i];
+                if (!nulls[row]) {
+                    acc += values[row];
+                    if (added == 0)
+                        firstRow = row;
+                    added++;
+                }
+            }
+
+            if (added == 0)
+                return;
+
+            if (added == 1) {
+                // 只有一个值时保持原有的类型处理
+                addValue(vector.getValue(firstRow));
+                return;
+            }
+
+            Object partial;
+            if (vector.getSQLType() == SQLDataType.BIGINT || sum instanceof Long)
+                partial = Long.valueOf(acc);
+            else
+                partial = Integer.valueOf((int) acc);
+
+            if (sum == null)
+                sum = partial;
+            else
+                sum = ArithmeticOperator.evalObjects(ArithmeticOperator.Type.ADD, sum, partial);
+
+            if (computeAverage)
+                count += added;
+        }
+        else if (vector.getSQLType() == SQLDataType.DOUBLE &&
+            (sum == null || sum instanceof Double)) {
+
+            double[] values = vector.getDoubleValues();
+            boolean hasSum = (sum != null);
+            double acc = hasSum ? (Double) sum : 0;
+            int added = 0;
+            for (int i = 0; i < numSelected; i++) {
+                int row = selection[i];
+                if (!nulls[row]) {
+                    if (hasSum) {
+                        acc += values[row];
+                    }
+                    else {
+                        acc = values[row];
+                        hasSum = true;
+                    }
+                    added++;
+                }
+            }
+
+            if (added == 0)
+                return;
+
+            sum = Double.valueOf(acc);
+            if (computeAverage)
+                count += added;
+        }
+        else {
+            super.addBatch(vector, selection, numSelected);
+        }
+    }
+
+    @Override
+    public AggregateFunction newInstance() {
+        SumAvgAggregate fn = new SumAvgAggregate(computeAverage);
+        fn.clearResult();
+        return fn;
+    }
+
+    /**
+     * 合并部分和与计数；AVG在两部分都合并后才做除法。
+     */
+    @Override
+    public void combine(AggregateFunction partial) {
+        SumAvgAggregate other = (SumAvgAggregate) partial;
+        if (other.sum == null)
+            return;
+
+        if (sum == null)
+            sum = other.sum;
+        else
+            sum = ArithmeticOperator.evalObjects(ArithmeticOperator.Type.ADD, sum, other.sum);
+
+        count += other.count;
+    }
+
     @Override
     public Object getResult() {
         if (sum == null) {
@@ -0,0 +1,449 @@
+package com.bow.maple.plans;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.bow.lab.indexes.IndexFileInfo;
+import com.bow.maple.expressions.ColumnName;
+import com.bow.maple.expressions.ColumnValue;
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.expressions.OrderByExpression;
+import com.bow.maple.expressions.TupleComparator;
+import com.bow.maple.qeval.ColumnStats;
+import com.bow.maple.qeval.PlanCost;
+import com.bow.maple.qeval.SelectivityEstimator;
+import com.bow.maple.qeval.TableStats;
+import com.bow.maple.relations.ColumnIndexes;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.KeyColumnIndexes;
+import com.bow.maple.relations.Schema;
+import com.bow.maple.storage.FilePointer;
+import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.storage.btreeindex.BTreeIndexPageTuple;
+import com.bow.maple.storage.btreeindex.BTreeRangeCursor;
+import org.apache.log4j.Logger;
+
+/**
+ * 通过B<sup>+</sup>树索引扫描表。<br/>
+ * 扫描范围由key前缀的下界和上界确定：等值查找时上下界相同，范围查找时最后一列
+ * 可以是一个区间，例如索引(a, b)上的<tt>a = 1 AND b &gt; 5</tt>对应下界(1, 5)
+ * (不含)和上界(1)(含)。从下界所在的叶子页面开始沿着叶子链表向右读取，直到超过上界。
+ * <p>
+ * 由{@link BTreeRangeCursor}每次读出区间内的一批file-pointer，按页面排序后
+ * 再到heap file中读取，每一批中每个数据页最多读取一次。读完一批后释放索引的
+ * latch，下一批从上一批的最后一个key之后重新定位，因此UPDATE/DELETE可以在扫描
+ * 过程中修改索引。设为按索引顺序输出时({@link #setOrdered})不再排序，按key的
+ * 顺序或逆序输出，可以省去ORDER BY的排序；逆序时游标从上界开始向左读取叶子页面。
+ * 若查询只用到索引中的列，可以设为只扫描索引
+ * ({@link #setIndexOnly})，此时直接输出索引中的key，不再访问表。
+ * <p>
+ * 上下界只用于缩小扫描范围，{@link #predicate}仍然会对每个tuple重新检查。
+ * <p>
+ * 作为索引嵌套循环连接的内表时，扫描是参数化的({@link #setProbeColumns})：
+ * 连接节点对每个外表tuple调用{@link #setProbeKey}设置等值查找的key，再重新
+ * initialize本节点。此时代价按一次查找估算。
+ */
+public class BTreeIndexScanNode extends IndexScanNode {
+
+    private static Logger logger = Logger.getLogger(BTreeIndexScanNode.class);
+
+    /** 估算索引高度时假设的内部节点扇出 */
+    private static final int ESTIMATED_FANOUT = 100;
+
+    /** 用于估算扫描区间大小的谓词，即生成上下界的那些条件 */
+    private Expression keyPredicate;
+
+    /** key前缀的下界，<tt>null</tt>表示从第一个key开始 */
+    private LiteralTuple lowerBound;
+
+    private boolean lowerInclusive;
+
+    /** key前缀的上界，<tt>null</tt>表示一直扫描到最后一个key */
+    private LiteralTuple upperBound;
+
+    private boolean upperInclusive;
+
+    /** 参数化查找时由连接节点提供的key列数，0表示上下界是固定的 */
+    private int numProbeColumns;
+
+    /** 按索引列的顺序输出tuple，而不是按数据页的顺序读取表 */
+    private boolean ordered;
+
+    /** 按索引列的逆序输出 */
+    private boolean descending;
+
+    /**
+     * 上一批读出的最后一个key，包括索引的各列和file-pointer，是唯一的。下一批
+     * 从它之后(逆序时从它之前)开始读取，为<tt>null</tt>时从区间的一端开始
+     */
+    private LiteralTuple resumeKey;
+
+    /** 区间内的key已经全部读出 */
+    private boolean rangeDone;
+
+    /**
+     * @param tblFileInfo 表
+     * @param idxFileInfo 表上的B<sup>+</sup>树索引
+     * @param keyPredicate 生成上下界的条件，用于估算代价，可以为<tt>null</tt>
+     * @param predicate 对每个tuple检查的谓词，可以为<tt>null</tt>
+     */
+    public BTreeIndexScanNode(TableFileInfo tblFileInfo, IndexFileInfo idxFileInfo,
+            Expression keyPredicate, Expression predicate) {
+        super(tblFileInfo, idxFileInfo, predicate);
+        this.keyPredicate = keyPredicate;
+    }
+
+    /**
+     * 设置key前缀的下界
+     *
+     * @param lowerBound 下界，列数不能超过索引的列数
+     * @param inclusive 是否包含等于下界的key
+     */
+    public void setLowerBound(LiteralTuple lowerBound, boolean inclusive) {
+        checkBound(lowerBound);
+        this.lowerBound = lowerBound;
+        this.lowerInclusive = inclusive;
+    }
+
+    /**
+     * 设置key前缀的上界
+     *
+     * @param upperBound 上界，列数不能超过索引的列数
+     * @param inclusive 是否包含等于上界的key
+     */
+    public void setUpperBound(LiteralTuple upperBound, boolean inclusive) {
+        checkBound(upperBound);
+        this.upperBound = upperBound;
+        this.upperInclusive = inclusive;
+    }
+
+    private void checkBound(LiteralTuple bound) {
+        if (bound != null && bound.getColumnCount() > idxFileInfo.getTableColumnIndexes().size()) {
+            throw new IllegalArgumentException("bound " + bound + " has more columns than index " +
+                idxFileInfo.getIndexName());
+        }
+    }
+
+    /**
+     * 按索引列的顺序输出tuple，用于满足ORDER BY，省去排序。不只扫描索引时
+     * file-pointer不再按页面排序，由{@link IndexScanNode}分批预读数据页。
+     *
+     * @param descending 是否按索引列的逆序输出
+     */
+    public void setOrdered(boolean descending) {
+        this.ordered = true;
+        this.descending = descending;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * 设置为参数化的等值查找，每次执行前由{@link #setProbeKey}提供索引前
+     * <tt>numProbeColumns</tt>列的值
+     *
+     * @param numProbeColumns key列数，不能超过索引的列数
+     */
+    public void setProbeColumns(int numProbeColumns) {
+        if (numProbeColumns < 0 || numProbeColumns > idxFileInfo.getTableColumnIndexes().size())
+            throw new IllegalArgumentException("Invalid number of probe columns:  " + numProbeColumns);
+
+        this.numProbeColumns = numProbeColumns;
+    }
+
+    @Override
+    public int getProbeColumns() {
+        return numProbeColumns;
+    }
+
+    @Override
+    public void setProbeKey(LiteralTuple key) {
+        if (key.getColumnCount() != numProbeColumns) {
+            throw new IllegalArgumentException("Probe key " + key + " should have " + numProbeColumns +
+                " columns");
+        }
+
+        setLowerBound(key, true);
+        setUpperBound(key, true);
+    }
+
+    /**
+     * 返回扫描区间内取值固定的前导列数，即上下界中相同的前缀的长度。参数化
+     * 查找时是查找的key列数。
+     */
+    public int getNumFixedColumns() {
+        if (numProbeColumns > 0)
+            return numProbeColumns;
+        if (lowerBound == null || upperBound == null)
+            return 0;
+
+        int n = 0;
+        while (n < lowerBound.getColumnCount() && n < upperBound.getColumnCount() &&
+            TupleComparator.compareValues(lowerBound.getColumnValue(n), upperBound.getColumnValue(n)) == 0) {
+            n++;
+        }
+        return n;
+    }
+
+    @Override
+    public boolean isUniqueLookup() {
+        ColumnIndexes colIndexes = idxFileInfo.getTableColumnIndexes();
+        if (numProbeColumns > 0)
+            return colIndexes instanceof KeyColumnIndexes && numProbeColumns == colIndexes.size();
+
+        return colIndexes instanceof KeyColumnIndexes && lowerBound != null && lowerInclusive &&
+            upperInclusive && lowerBound.getColumnCount() == colIndexes.size() &&
+            sameBound(lowerBound, upperBound);
+    }
+
+    @Override
+    public void prepare() {
+        TableStats tableStats = tblFileInfo.getStats();
+        Schema tableSchema = tblFileInfo.getSchema();
+        ArrayList<ColumnStats> tableColStats = tableStats.getAllColumnStats();
+
+        ColumnIndexes colIndexes = idxFileInfo.getTableColumnIndexes();
+        prepareSchemaStats(tableColStats);
+
+        // 扫描区间内的记录数
+        float numMatched;
+        if (isUniqueLookup()) {
+            numMatched = Math.min(1, tableStats.numTuples);
+        } else if (numProbeColumns > 0) {
+            // 每次查找的key事先未知，按各列不同值的个数估算
+            float keySelectivity = 1.0f;
+            for (int i = 0; i < numProbeColumns; i++) {
+                int numUnique = tableColStats.get(colIndexes.getCol(i)).getNumUniqueValues();
+                keySelectivity *= (numUnique > 0) ? 1.0f / numUnique : SelectivityEstimator.DEFAULT_SELECTIVITY;
+            }
+            numMatched = keySelectivity * tableStats.numTuples;
+        } else {
+            float keySelectivity = 1.0f;
+            if (keyPredicate != null)
+                keySelectivity = SelectivityEstimator.estimateSelectivity(keyPredicate, tableSchema, tableColStats);
+            numMatched = keySelectivity * tableStats.numTuples;
+        }
+
+        // 谓词在区间内的记录上再做一次过滤
+        float numTuples = numMatched;
+        if (predicate != null) {
+            float selectivity = SelectivityEstimator.estimateSelectivity(predicate, tableSchema, tableColStats);
+            numTuples = Math.min(numMatched, selectivity * tableStats.numTuples);
+        }
+
+        // 从根走到叶子，再读取区间所在的叶子页面
+        int numLeafPages = getNumIndexPages();
+        int height = 1;
+        if (numLeafPages > 1)
+            height += (int) Math.ceil(Math.log(numLeafPages) / Math.log(ESTIMATED_FANOUT));
+        float fraction = (tableStats.numTuples > 0) ? numMatched / tableStats.numTuples : 1.0f;
+        long leafIOs = Math.max(1, (long) Math.ceil(fraction * numLeafPages));
+
+        // 每一批file-pointer按页面排序后读取，每个数据页在一批中最多读一次；
+        // 按索引顺序输出时每一批预读的记录中，每个数据页最多读一次
+        long heapIOs = 0;
+        float cpuCost = numMatched + height;
+        if (!indexOnly) {
+            int batchSize = ordered ? HEAP_PREFETCH_BATCH : ENTRY_BATCH_SIZE;
+            float numBatches = (float) Math.ceil(numMatched / batchSize);
+            heapIOs = (long) Math.ceil(Math.min(numMatched,
+                numBatches * Math.min(tableStats.numDataPages, batchSize)));
+            cpuCost += numMatched;
+        }
+
+        float tupleSize = tableStats.avgTupleSize;
+        if (indexOnly && tableSchema.numColumns() > 0)
+            tupleSize = tupleSize * schema.numColumns() / tableSchema.numColumns();
+
+        cost = new PlanCost(numTuples, tupleSize, cpuCost, height - 1 + leafIOs + heapIOs);
+    }
+
+    /**
+     * 索引文件中除header页以外的页面数，作为叶子页面数的估计
+     */
+    private int getNumIndexPages() {
+        try {
+            return Math.max(1, idxFileInfo.getDBFile().getNumPages() - 1);
+        } catch (IOException e) {
+            logger.warn("Couldn't get the size of index " + idxFileInfo.getIndexName(), e);
+            return 1;
+        }
+    }
+
+    /**
+     * 由{@link BTreeRangeCursor}从上一批的最后一个key之后读出下一批记录。
+     * 读取期间持有索引的共享latch，返回后不再持有，因此扫描过程中可以修改
+     * 同一个索引：已经读过的key被删除不影响后面的读取，新插入的key若落在还
+     * 没有读取的部分也会被读到。
+     */
+    @Override
+    protected List<Object> readNextEntries(boolean first) throws IOException {
+        if (first) {
+            resumeKey = null;
+            rangeDone = false;
+        }
+        if (rangeDone)
+            return null;
+
+        // 从上一批的最后一个key之后继续，不包含这个key
+        LiteralTuple lower = lowerBound;
+        boolean lowerIncl = lowerInclusive;
+        LiteralTuple upper = upperBound;
+        boolean upperIncl = upperInclusive;
+        boolean reverse = ordered && descending;
+        if (resumeKey != null) {
+            if (reverse) {
+                upper = resumeKey;
+                upperIncl = false;
+            } else {
+                lower = resumeKey;
+                lowerIncl = false;
+            }
+        }
+
+        int numKeyCols = idxFileInfo.getTableColumnIndexes().size();
+        int limit = snapshot ? Integer.MAX_VALUE : ENTRY_BATCH_SIZE;
+
+        List<Object> result = new ArrayList<Object>();
+        List<FilePointer> filePointers = new ArrayList<FilePointer>();
+        BTreeRangeCursor cursor = new BTreeRangeCursor(idxFileInfo, lower, lowerIncl,
+            upper, upperIncl, reverse);
+        cursor.open();
+        try {
+            int count = 0;
+            BTreeIndexPageTuple key;
+            while ((key = cursor.next()) != null) {
+                if (indexOnly) {
+                    result.add(makeIndexOnlyTuple(key));
+                } else {
+                    filePointers.add((FilePointer) key.getColumnValue(numKeyCols));
+                }
+
+                // key只在下一次调用next之前有效，在这里复制
+                if (++count >= limit) {
+                    resumeKey = new LiteralTuple();
+                    for (int i = 0; i <= numKeyCols; i++)
+                        resumeKey.addValue(key.getColumnValue(i));
+                    break;
+                }
+            }
+            if (key == null)
+                rangeDone = true;
+        }
+        finally {
+            cursor.close();
+        }
+
+        if (!indexOnly) {
+            // 不要求顺序时按数据页的顺序读取表
+            if (!ordered)
+                Collections.sort(filePointers);
+            result.addAll(filePointers);
+        }
+
+        logger.debug(String.format("Index %s:  read %d entries, %d leaf pages",
+            idxFileInfo.getIndexName(), result.size(), cursor.getNumLeavesRead()));
+        return result;
+    }
+
+    @Override
+    protected boolean entriesSortedByPage() {
+        return !ordered;
+    }
+
+    /**
+     * 按索引列的顺序输出时，结果按索引的各列排序
+     */
+    @Override
+    public List<OrderByExpression> resultsOrderedBy() {
+        if (!ordered)
+            return null;
+
+        List<OrderByExpression> orderBy = new ArrayList<OrderByExpression>();
+        ColumnIndexes colIndexes = idxFileInfo.getTableColumnIndexes();
+        for (int i = 0; i < colIndexes.size(); i++) {
+            ColumnInfo colInfo = tblFileInfo.getSchema().getColumnInfo(colIndexes.getCol(i));
+            ColumnName colName = new ColumnName(colInfo.getTableName(), colInfo.getName());
+            orderBy.add(new OrderByExpression(new ColumnValue(colName), !descending));
+        }
+        return orderBy;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder();
+        buf.append(indexOnly ? "IndexOnlyScan[" : "IndexScan[");
+        buf.append("table:  ").append(tblFileInfo.getTableName());
+        buf.append(", index:  ").append(idxFileInfo.getIndexName());
+        if (numProbeColumns > 0) {
+            buf.append(", probe:  ");
+            ColumnIndexes colIndexes = idxFileInfo.getTableColumnIndexes();
+            for (int i = 0; i < numProbeColumns; i++) {
+                if (i > 0)
+                    buf.append(", ");
+                buf.append(tblFileInfo.getSchema().getColumnInfo(colIndexes.getCol(i)).getName());
+            }
+        } else if (lowerBound != null || upperBound != null) {
+            buf.append(", range:  ");
+            buf.append(lowerBound == null ? "(-inf" : (lowerInclusive ? "[" : "(") + lowerBound);
+            buf.append(", ");
+            buf.append(upperBound == null ? "+inf)" : upperBound + (upperInclusive ? "]" : ")"));
+        }
+        if (ordered)
+            buf.append(descending ? ", order:  desc" : ", order:  asc");
+        if (predicate != null)
+            buf.append(", pred:  ").append(predicate.toString());
+        buf.append("]");
+        return buf.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof BTreeIndexScanNode) {
+            BTreeIndexScanNode other = (BTreeIndexScanNode) obj;
+            return tblFileInfo.equals(other.tblFileInfo) &&
+                idxFileInfo.getIndexName().equals(other.idxFileInfo.getIndexName()) &&
+                (predicate != null ? predicate.equals(other.predicate) : other.predicate == null) &&
+                sameBound(lowerBound, other.lowerBound) && lowerInclusive == other.lowerInclusive &&
+                sameBound(upperBound, other.upperBound) && upperInclusive == other.upperInclusive &&
+                indexOnly == other.indexOnly && numProbeColumns == other.numProbeColumns &&
+                ordered == other.ordered && descending == other.descending;
+        }
+        return false;
+    }
+
+    private static boolean sameBound(LiteralTuple a, LiteralTuple b) {
+        if (a == null || b == null)
+            return a == b;
+        return TupleComparator.areTuplesEqual(a, b);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + tblFileInfo.hashCode();
+        hash = 31 * hash + idxFileInfo.getIndexName().hashCode();
+        hash = 31 * hash + (predicate != null ? predicate.hashCode() : 0);
+        hash = 31 * hash + (lowerBound != null ? lowerBound.getColumnCount() : 0);
+        hash = 31 * hash + (upperBound != null ? upperBound.getColumnCount() : 0);
+        hash = 31 * hash + (indexOnly ? 1 : 0);
+        hash = 31 * hash + numProbeColumns;
+        hash = 31 * hash + (ordered ? (descending ? 2 : 1) : 0);
+        return hash;
+    }
+
+    @Override
+    protected PlanNode clone() throws CloneNotSupportedException {
+        BTreeIndexScanNode node = (BTreeIndexScanNode) super.clone();
+
+        if (keyPredicate != null)
+            node.keyPredicate = keyPredicate.duplicate();
+
+        // 上下界创建后不再修改，可以共享
+        return node;
+    }
+}
@@ -6,14 +6,18 @@ import org.apache.log4j.Logger;
 
 import com.bow.maple.expressions.Expression;
 import com.bow.maple.relations.ColumnInfo;
-import com.bow.maple.storage.DBPage;
+import com.bow.maple.relations.ColumnVector;
 import com.bow.maple.storage.TableFileInfo;
-import com.bow.maple.storage.colstore.BlockColumnStoreReader;
-import com.bow.maple.storage.colstore.ColStoreBlock;
+import com.bow.maple.storage.colstore.ColumnVectorReader;
 
 /**
  * A select plan-node that scans a column store file, checking the optional predicate
  * against each tuple in the file.
+ * <p>
+ * 列中的值由{@link ColumnVectorReader}直接解码到调用者的{@link ColumnVector}中。
+ * 只读取满足条件的行时，先用{@link #seek}定位到行，不满足条件的行不会被解码，
+ * 整页都不满足条件时页面也不会被读取。
+ * </p>
  */
 public class CSFileScanNode {
 
@@ -29,20 +33,11 @@ public class CSFileScanNode {
     /** The index of the column that the node is scanning over. */
     private int columnIndex;
     
-    /** The block reader for column store files. */
-    private BlockColumnStoreReader reader;
-    
-    /** The current data page for the column. */
-    private DBPage currentPage;
-    
-    /** The current block of the column. */
-    private ColStoreBlock currentBlock;
+    /** 把列中的值解码到向量中 */
+    private ColumnVectorReader reader;
     
     /** The predicate to filter out the column values. */
     private Expression predicate;
-    
-    /** A flag to mark whether the node can produce any more values. */
-    boolean done;
 
     /**
      * Constructs a FileScanNode that reads values from columns, blockwise.
@@ -52,70 +47,51 @@ public class CSFileScanNode {
 		this.tblFileInfo = tblFileInfo;
 		this.colInfo = colInfo;
 		predicate = pred;
-		reader = new BlockColumnStoreReader();
-		currentPage = null;
-		currentBlock = null;
 		columnIndex = tblFileInfo.getSchema().getColumnIndex(colInfo);
-		done = false;
 	}
 
 	public void prepare() throws IOException {
-		currentPage = reader.getFirstDataPage(tblFileInfo, columnIndex);
-		if (currentPage != null) {
-			currentBlock = reader.getFirstBlockInPage(tblFileInfo, currentPage, 
-				columnIndex);
-		}
+		reader = new ColumnVectorReader(tblFileInfo, columnIndex);
 	}
-	
-	/**
-     * Advances the current object forward in the block. Gets the next block if 
-     * the current block is done. Otherwise gets the next object.
-     */
-	public Object getNextObject() throws IOException {
-		if (done) return null;
-		
-		Object ret = currentBlock.getNext();
-		
-		while (ret == null) {
-			getNextBlock();
-			if (currentBlock == null) {
-				return null;
-			}
-			ret = currentBlock.getNext();
-		}
-		return ret;
+
+	/** 返回扫描的列 */
+	public ColumnInfo getColumnInfo() {
+		return colInfo;
 	}
-	
+
+	/** 返回扫描的列在表中的序号 */
+	public int getColumnIndex() {
+		return columnIndex;
+	}
+
 	/**
-     * Advances the current block forward in the page. Gets the next page if 
-     * the current page is done. Otherwise gets the next block.
-     */
-	private void getNextBlock() throws IOException {
-		ColStoreBlock ret = reader.getNextBlockInPage(tblFileInfo, currentPage, 
-			columnIndex, currentBlock);
-		
-		while (ret == null) {
-			getNextPage();
-			if (currentPage == null) {
-				currentBlock = null;
-				return;
-			}
-			ret = reader.getFirstBlockInPage(tblFileInfo, currentPage, columnIndex);
-		}
-		
-		currentBlock = ret;
+	 * 定位到某个行组中的一行，之后的{@link #read}从这一行开始
+	 *
+	 * @param rowGroup 行组的序号
+	 * @param row 行在行组中的位置
+	 * @throws IOException 读取列文件出错
+	 */
+	public void seek(int rowGroup, int row) throws IOException {
+		reader.seek(rowGroup, row);
 	}
-	
+
 	/**
-     * Advances the current page forward in the page. Returns null if there are
-     * no more pages.
-     */
-	private void getNextPage() throws IOException {
-		currentPage = reader.getNextDataPage(tblFileInfo, currentPage, columnIndex);
-		
-		if (currentPage == null) {
-			done = true;
-		}
+	 * 把接下来的若干个值直接解码到向量中，不装箱
+	 *
+	 * @param vector 存放结果的向量，类型与列一致
+	 * @param start 向量中的起始位置
+	 * @param count 最多读出的值的个数
+	 * @return 读出的值的个数，只有没有更多的值时才小于<tt>count</tt>
+	 * @throws IOException 读取列文件出错
+	 */
+	public int read(ColumnVector vector, int start, int count) throws IOException {
+		return reader.read(vector, start, count);
+	}
+
+	/** 释放扫描中使用的页面 */
+	public void cleanUp() {
+		if (reader != null)
+			reader.close();
 	}
 
 	public String toString() {
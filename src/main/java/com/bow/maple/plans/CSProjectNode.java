@@ -1,208 +0,0 @@
-package com.bow.maple.plans;
-
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
-import org.apache.log4j.Logger;
-
-import com.bow.maple.commands.SelectClause;
-import com.bow.maple.commands.SelectValue;
-import com.bow.maple.expressions.ColumnValue;
-import com.bow.maple.expressions.Expression;
-import com.bow.maple.relations.ColumnInfo;
-import com.bow.maple.relations.Schema;
-import com.bow.maple.relations.Tuple;
-import com.bow.maple.storage.TableFileInfo;
-import com.bow.maple.storage.colstore.CSGeneratedTuple;
-
-/**
- * PlanNode representing the <tt>SELECT</tt> clause in a <tt>SELECT</tt>
- * operation.  This is the relational algebra Project operator.
- */
-public class CSProjectNode extends PlanNode {
-	
-	/** A logging object for reporting anything interesting that happens. */
-    private static Logger logger = Logger.getLogger(CSProjectNode.class);
-    
-    /** The new schema that this project node creates */
-    private List<SelectValue> projectionSpec;
-
-    /** The table to select from if this node is a leaf. */
-	private TableFileInfo tblFileInfo;
-	
-	/** The schema of tuples in the underlying table. */
-    private Schema inputSchema;
-    
-    /** The children nodes of the CSProjectNode */
-    private ArrayList<CSFileScanNode> fileScanChildren;
-    
-    /** The predicate of the <tt>SELECT</tt> clause. */
-    private Expression predicate;
-    
-    /** A child node of the CSProjectNode dealing with the predicate. */
-    private CSSimpleFilterNode predNode;
-    
-    /** A flag to mark whether the node can produce any more values. */
-    private boolean done;
-
-    /**
-     * This collection holds the non-wildcard column information, so that we can
-     * more easily assign schema to projected tuples.
-     */
-    private List<ColumnInfo> nonWildcardColumnInfos;
-	
-    /**
-     * Constructs a ProjectNode that assembles tuples from child nodes.
-     */
-	public CSProjectNode(SelectClause selClause, TableFileInfo tblFileInfo) {
-		super(OperationType.PROJECT);
-		
-		predicate = selClause.getWhereExpr();
-		projectionSpec = selClause.getSelectValues();
-		this.tblFileInfo = tblFileInfo;
-		inputSchema = this.tblFileInfo.getSchema();
-		fileScanChildren = new ArrayList<CSFileScanNode>();
-		done = false;
-	}
-
-
-
-	@Override
-	public void prepare() {
-		
-		predNode = new CSSimpleFilterNode(tblFileInfo, predicate);
-		
-		schema = new Schema();
-        nonWildcardColumnInfos = new ArrayList<ColumnInfo>();
-        
-        for (SelectValue selVal : projectionSpec) {
-            if (selVal.isWildcard()) {
-                schema.append(inputSchema);
-                nonWildcardColumnInfos = schema.getColumnInfos();
-                for (ColumnInfo colInfo : nonWildcardColumnInfos) {
-                	fileScanChildren.add(new CSFileScanNode(tblFileInfo, colInfo, null));
-                }
-            }
-            else if (selVal.isExpression()) {
-                // Determining the schema is relatively straightforward.
-
-                Expression expr = selVal.getExpression();
-                ColumnInfo colInfo;
-
-                if (expr instanceof ColumnValue) {
-                    // This is a simple column-reference.  Pull out the schema
-                    // and open the data file.
-                    ColumnValue colValue = (ColumnValue) expr;
-                    int colIndex = inputSchema.getColumnIndex(colValue.getColumnName());
-                    colInfo = inputSchema.getColumnInfo(colIndex);
-                    
-                    fileScanChildren.add(new CSFileScanNode(tblFileInfo, colInfo, null));
-                }
-                else {
-                    // This is a more complicated expression.  Guess the schema,
-                    // and assume that every row will have a distinct value.
-
-                    colInfo = expr.getColumnInfo(inputSchema);
-                    
-                    throw new UnsupportedOperationException(
-                        "Complex project support is currently incomplete.");
-                }
-
-                // Apply any aliases here...
-                String alias = selVal.getAlias();
-                if (alias != null)
-                    colInfo = new ColumnInfo(alias, colInfo.getType());
-
-                schema.addColumnInfo(colInfo);
-                nonWildcardColumnInfos.add(colInfo);
-            }
-            else if (selVal.isScalarSubquery()) {
-                throw new UnsupportedOperationException(
-                    "Scalar subquery support is currently incomplete.");
-            }
-        }
-        
-        predNode.prepare();
-        
-        for (CSFileScanNode node : fileScanChildren) {
-        	try {
-				node.prepare();
-			} catch (IOException e) {
-				// TODO Auto-generated catch block
-				e.printStackTrace();
-			}
-        }
-		
-	}
-
-
-	@Override
-	public void cleanUp() {
-		// TODO Auto-generated method stub
-		
-	}
-
-	@Override
-	public String toString() {
-		String plan = "CSProject[values:  " + projectionSpec.toString() + "]\n";
-		if (predicate != null) {
-			plan = plan + "\t" + predNode.toString();
-		}
-		for (CSFileScanNode node : fileScanChildren) {
-			plan = plan + "\t" + node.toString() + "\n";
-		}
-		return plan;
-	}
-	
-	/** Do initialization for the select operation.  Resets state variables. */
-    public void initialize() {
-        super.initialize();
-    }
-
-	@Override
-	public boolean equals(Object obj) {
-		// TODO Auto-generated method stub
-		return false;
-	}
-
-	@Override
-	public int hashCode() {
-		// TODO Auto-generated method stub
-		return 0;
-	}
-
-	@Override
-	public Tuple getNextTuple() throws IllegalStateException, IOException {
-		if (done) return null;
-		
-		CSGeneratedTuple tuple = new CSGeneratedTuple(nonWildcardColumnInfos);
-
-		Object temp;
-		while (!predNode.getNext()) {
-			for (int i = 0; i < fileScanChildren.size(); i++) {
-				CSFileScanNode node = fileScanChildren.get(i);
-				temp = node.getNextObject();
-				if (temp == null) {
-					done = true;
-					return null;
-				}
-			}
-		}
-		
-		for (int i = 0; i < fileScanChildren.size(); i++) {
-			CSFileScanNode node = fileScanChildren.get(i);
-			temp = node.getNextObject();
-			if (temp == null) {
-				done = true;
-				return null;
-			}
-			tuple.setColumnValue(i, temp);
-		}
-		
-		return tuple;
-	}
-	
-	
-
-}
@@ -0,0 +1,446 @@
+package com.bow.maple.plans;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+
+import com.bow.maple.expressions.ColumnName;
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.qeval.ColumnStats;
+import com.bow.maple.qeval.PlanCost;
+import com.bow.maple.qeval.SelectivityEstimator;
+import com.bow.maple.qeval.TableStats;
+import com.bow.maple.relations.Schema;
+import com.bow.maple.relations.TableSchema;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.relations.TupleBatch;
+import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.storage.colstore.DeltaStore;
+
+/**
+ * 扫描列式存储表的select节点，和{@link FileScanNode}一样作为一般执行计划的
+ * 叶子，可以参与连接、排序等。
+ * <p>
+ * 只读取查询用到的列：输出的schema只包含这些列(和谓词中的列)，与只扫描索引的
+ * {@link IndexScanNode}一样，其余的列的页面不会被读取。谓词不在输出的tuple上
+ * 求值，而是交给{@link CSSimpleFilterNode}在编码后的数据上按行组计算位图，
+ * 再只为满足条件的行解码输出的列。基本数据之后再逐行扫描delta中的行。
+ * </p>
+ * <p>
+ * 各列文件的页面不按行对齐，但行组是对齐的，并行扫描时每个分支通过
+ * {@link #setRowGroupRange}扫描其中一段行组，delta只由最后一个分支扫描。
+ * </p>
+ */
+public class CSScanNode extends SelectNode {
+
+    private static Logger logger = Logger.getLogger(CSScanNode.class);
+
+    public TableFileInfo tblFileInfo;
+
+    /** 查询用到的列名，为<tt>null</tt>表示输出所有列 */
+    private Set<String> referencedColumns;
+
+    /** 按行组计算满足{@link #predicate}的行 */
+    private CSSimpleFilterNode predNode;
+
+    /** 读取输出的各列，与{@link #schema}中的列一一对应 */
+    private ArrayList<CSFileScanNode> fileScanChildren;
+
+    /** 输出的各列在表中的序号 */
+    private int[] columnIndexes;
+
+    /** 扫描结束 */
+    private boolean done;
+
+    /** 当前的行组 */
+    private int rowGroup;
+
+    /** 当前行组中满足谓词的行，还没有开始时为<tt>null</tt> */
+    private BitSet matches;
+
+    /** 当前行组中下一个要输出的行，没有更多的行时为-1 */
+    private int matchPos;
+
+    /** delta中下一个要检查的行 */
+    private Tuple deltaTuple;
+
+    /** 已经开始扫描delta */
+    private boolean scanningDelta;
+
+    /**
+     * 只扫描[startRowGroup, endRowGroup)区间内的行组，-1表示扫描整个表，通过
+     * {@link #setRowGroupRange(int, int)}设置
+     */
+    private int startRowGroup = -1;
+
+    /** 扫描区间的结束行组(不含)，-1表示扫描到最后一个行组并扫描delta */
+    private int endRowGroup = -1;
+
+    /** 逐行执行时缓存的一批结果 */
+    private TupleBatch tupleBatch;
+
+    /** {@link #tupleBatch}中下一个要返回的行 */
+    private int tupleIndex;
+
+
+    /**
+     * @param tblFileInfo 列式存储的表
+     * @param predicate 谓词，必须能在表的schema上计算，可以为<tt>null</tt>
+     * @param referencedColumns 查询用到的列名，为<tt>null</tt>表示需要所有列
+     */
+    public CSScanNode(TableFileInfo tblFileInfo, Expression predicate,
+        Set<String> referencedColumns) {
+        super(predicate);
+
+        if (tblFileInfo == null)
+            throw new NullPointerException("table cannot be null");
+
+        this.tblFileInfo = tblFileInfo;
+        this.referencedColumns = referencedColumns;
+    }
+
+
+    /**
+     * 限定只扫描部分行组。只有扫描到最后的分支(<tt>endRowGroup</tt>为-1)
+     * 才扫描delta中的行
+     *
+     * @param startRowGroup 第一个要扫描的行组
+     * @param endRowGroup 结束行组(不含)，-1表示扫描到最后一个行组
+     */
+    public void setRowGroupRange(int startRowGroup, int endRowGroup) {
+        if (startRowGroup < 0)
+            throw new IllegalArgumentException("startRowGroup must be non-negative; got " + startRowGroup);
+
+        if (endRowGroup >= 0 && endRowGroup < startRowGroup) {
+            throw new IllegalArgumentException("endRowGroup " + endRowGroup +
+                " is before startRowGroup " + startRowGroup);
+        }
+
+        this.startRowGroup = startRowGroup;
+        this.endRowGroup = endRowGroup;
+    }
+
+    public int getStartRowGroup() {
+        return startRowGroup;
+    }
+
+    public int getEndRowGroup() {
+        return endRowGroup;
+    }
+
+
+    /**
+     * 确定输出的列，估计代价。谓词可能在prepare之后被替换，因此每次都重新
+     * 拆分谓词。
+     */
+    @Override
+    public void prepare() {
+        TableSchema tableSchema = tblFileInfo.getSchema();
+
+        // 谓词中的列也输出，上层对谓词的编译和估计都在输出的schema上进行
+        Set<Integer> predColumns = new HashSet<Integer>();
+        if (predicate != null) {
+            ArrayList<ColumnName> symbols = new ArrayList<ColumnName>();
+            predicate.getAllSymbols(symbols);
+            for (ColumnName name : symbols)
+                predColumns.add(tableSchema.getColumnIndex(name));
+        }
+
+        List<Integer> columns = new ArrayList<Integer>();
+        for (int i = 0; i < tableSchema.numColumns(); i++) {
+            if (referencedColumns == null || predColumns.contains(i) ||
+                referencedColumns.contains(tableSchema.getColumnInfo(i).getName())) {
+                columns.add(i);
+            }
+        }
+        // 没有用到任何列时(例如COUNT(*))仍要读一列来确定行数
+        if (columns.isEmpty())
+            columns.add(0);
+
+        schema = new Schema();
+        columnIndexes = new int[columns.size()];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            columnIndexes[i] = columns.get(i);
+            schema.addColumnInfo(tableSchema.getColumnInfo(columnIndexes[i]));
+        }
+        batch = null;
+        tupleBatch = null;
+
+        openColumns();
+        prepareCost();
+    }
+
+
+    /** 为输出的列和谓词创建读取的节点 */
+    private void openColumns() {
+        cleanUp();
+
+        TableSchema tableSchema = tblFileInfo.getSchema();
+        fileScanChildren = new ArrayList<CSFileScanNode>(columnIndexes.length);
+        for (int colIndex : columnIndexes) {
+            CSFileScanNode node = new CSFileScanNode(tblFileInfo,
+                tableSchema.getColumnInfo(colIndex), null);
+            try {
+                node.prepare();
+            } catch (IOException e) {
+                logger.warn("Couldn't open column " + colIndex + " of " +
+                    tblFileInfo.getTableName(), e);
+            }
+            fileScanChildren.add(node);
+        }
+
+        predNode = new CSSimpleFilterNode(tblFileInfo, predicate);
+        predNode.prepare();
+    }
+
+
+    /**
+     * 按表的统计信息估计结果的行数和代价，页面数按读取的列占全部列的比例折算
+     */
+    private void prepareCost() {
+        TableStats tableStats = tblFileInfo.getStats();
+        ArrayList<ColumnStats> tableColStats = tableStats.getAllColumnStats();
+
+        float selectivity = 1.0f;
+        if (predicate != null) {
+            selectivity = SelectivityEstimator.estimateSelectivity(predicate,
+                tblFileInfo.getSchema(), tableColStats);
+        }
+
+        // 谓词中的列都在输出的列中
+        stats = new ArrayList<ColumnStats>(columnIndexes.length);
+        for (int colIndex : columnIndexes)
+            stats.add(tableColStats.get(colIndex));
+
+        int numColumns = tblFileInfo.getSchema().numColumns();
+        cost = new PlanCost(tableStats.numTuples * selectivity,
+            tableStats.avgTupleSize * columnIndexes.length / numColumns, tableStats.numTuples,
+            (long) Math.ceil((double) tableStats.numDataPages * columnIndexes.length / numColumns));
+
+        if (startRowGroup >= 0) {
+            // 只扫描部分行组时按行组比例折算，delta中的行忽略不计
+            int numRowGroups = predNode.getNumRowGroups();
+            int last = (endRowGroup < 0) ? numRowGroups : Math.min(endRowGroup, numRowGroups);
+            float fraction = (numRowGroups > 0) ? Math.max(0, last - startRowGroup) / (float) numRowGroups : 0;
+            cost.numTuples *= fraction;
+            cost.cpuCost *= fraction;
+            cost.numBlockIOs = (long) Math.ceil(cost.numBlockIOs * fraction);
+        }
+    }
+
+
+    @Override
+    public void initialize() {
+        super.initialize();
+
+        done = false;
+        rowGroup = Math.max(startRowGroup, 0) - 1;
+        matches = null;
+        deltaTuple = null;
+        scanningDelta = false;
+        tupleIndex = 0;
+        if (tupleBatch != null)
+            tupleBatch.reset();
+    }
+
+
+    @Override
+    public void cleanUp() {
+        if (fileScanChildren != null) {
+            for (CSFileScanNode node : fileScanChildren)
+                node.cleanUp();
+        }
+        if (predNode != null)
+            predNode.cleanUp();
+    }
+
+
+    /**
+     * 谓词已经在读取时求过，不再检查
+     */
+    @Override
+    public Tuple getNextTuple() throws IllegalStateException, IOException {
+        advanceCurrentTuple();
+        return currentTuple;
+    }
+
+
+    @Override
+    protected void advanceCurrentTuple() throws IllegalStateException, IOException {
+        if (tupleBatch == null)
+            tupleBatch = new TupleBatch(schema);
+
+        if (tupleIndex >= tupleBatch.getNumSelected()) {
+            tupleIndex = 0;
+            if (!readRows(tupleBatch)) {
+                currentTuple = null;
+                return;
+            }
+        }
+        currentTuple = tupleBatch.getSelectedTuple(tupleIndex++);
+    }
+
+
+    /**
+     * 谓词已经在读取时求过，不再按批过滤
+     */
+    @Override
+    public TupleBatch getNextBatch() throws IllegalStateException, IOException {
+        if (batch == null)
+            batch = new TupleBatch(schema);
+
+        return readRows(batch) ? batch : null;
+    }
+
+
+    /**
+     * 按行组的顺序读出满足谓词的行，填入batch。位图中连续的行一次读出，各列
+     * 先定位到这些行，跳过中间不满足条件的行。所有的行组读完后再读delta。
+     *
+     * @return 没有更多的行时返回false
+     */
+    private boolean readRows(TupleBatch target) throws IOException {
+        target.reset();
+        if (done)
+            return false;
+
+        int capacity = target.getCapacity();
+        int size = 0;
+        while (size < capacity) {
+            if (scanningDelta) {
+                size = readDeltaRows(target, size);
+                break;
+            }
+
+            if (matches == null || matchPos < 0) {
+                rowGroup++;
+                int numRowGroups = predNode.getNumRowGroups();
+                if (endRowGroup >= 0 && rowGroup >= Math.min(endRowGroup, numRowGroups)) {
+                    // 区间内的行组已经扫描完，delta由最后一个分支扫描
+                    done = true;
+                    break;
+                }
+                if (rowGroup >= numRowGroups) {
+                    scanningDelta = true;
+                    deltaTuple = predNode.getDeltaStore().getFirstTuple();
+                    continue;
+                }
+                matches = predNode.getMatches(rowGroup);
+                matchPos = matches.nextSetBit(0);
+                continue;
+            }
+
+            int n = Math.min(matches.nextClearBit(matchPos) - matchPos, capacity - size);
+            for (int i = 0; i < fileScanChildren.size(); i++) {
+                CSFileScanNode node = fileScanChildren.get(i);
+                node.seek(rowGroup, matchPos);
+                if (node.read(target.getColumn(i), size, n) < n) {
+                    throw new IllegalStateException("Column " +
+                        node.getColumnInfo().getName() + " ended before row " +
+                        (matchPos + n) + " of row group " + rowGroup);
+                }
+            }
+            size += n;
+            matchPos = matches.nextSetBit(matchPos + n);
+        }
+
+        target.setSize(size);
+        return size > 0;
+    }
+
+
+    /**
+     * 把delta中满足谓词的行的输出列写入batch中从<tt>size</tt>开始的位置
+     *
+     * @return batch中的行数
+     */
+    private int readDeltaRows(TupleBatch target, int size) throws IOException {
+        int capacity = target.getCapacity();
+        DeltaStore deltaStore = predNode.getDeltaStore();
+        while (deltaTuple != null && size < capacity) {
+            if (predNode.isDeltaTupleSelected(deltaTuple)) {
+                for (int i = 0; i < columnIndexes.length; i++)
+                    target.getColumn(i).setValue(size, deltaTuple.getColumnValue(columnIndexes[i]));
+                size++;
+            }
+            deltaTuple = deltaStore.getNextTuple(deltaTuple);
+        }
+
+        if (deltaTuple == null)
+            done = true;
+        return size;
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof CSScanNode) {
+            CSScanNode other = (CSScanNode) obj;
+            return tblFileInfo.equals(other.tblFileInfo) &&
+                (predicate != null ? predicate.equals(other.predicate) : other.predicate == null) &&
+                (referencedColumns != null ? referencedColumns.equals(other.referencedColumns) :
+                    other.referencedColumns == null) &&
+                startRowGroup == other.startRowGroup && endRowGroup == other.endRowGroup;
+        }
+        return false;
+    }
+
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + (predicate != null ? predicate.hashCode() : 0);
+        hash = 31 * hash + tblFileInfo.hashCode();
+        hash = 31 * hash + (referencedColumns != null ? referencedColumns.hashCode() : 0);
+        hash = 31 * hash + startRowGroup;
+        hash = 31 * hash + endRowGroup;
+        return hash;
+    }
+
+
+    /**
+     * 副本有自己的读取位置和页面，不与原来的节点共享
+     */
+    @Override
+    protected PlanNode clone() throws CloneNotSupportedException {
+        CSScanNode node = (CSScanNode) super.clone();
+        node.tupleBatch = null;
+        node.batch = null;
+        if (columnIndexes != null) {
+            node.fileScanChildren = null;
+            node.predNode = null;
+            node.openColumns();
+        }
+        return node;
+    }
+
+
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder();
+        buf.append("CSScan[");
+        buf.append("table:  ").append(tblFileInfo.getTableName());
+        if (columnIndexes != null) {
+            buf.append(", columns:  [");
+            for (int i = 0; i < columnIndexes.length; i++) {
+                if (i > 0)
+                    buf.append(", ");
+                buf.append(schema.getColumnInfo(i).getName());
+            }
+            buf.append("]");
+        }
+        if (predicate != null)
+            buf.append(", pred:  ").append(predicate.toString());
+        if (startRowGroup >= 0) {
+            buf.append(", rowGroups:  [").append(startRowGroup).append(", ");
+            buf.append(endRowGroup < 0 ? "end" : String.valueOf(endRowGroup)).append(")");
+        }
+        buf.append("]");
+        return buf.toString();
+    }
+}
@@ -2,20 +2,40 @@ package com.bow.maple.plans;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.log4j.Logger;
 
+import com.bow.maple.expressions.BatchEvaluator;
+import com.bow.maple.expressions.BooleanOperator;
 import com.bow.maple.expressions.ColumnName;
 import com.bow.maple.expressions.Environment;
 import com.bow.maple.expressions.Expression;
+import com.bow.maple.qeval.AccessPathSelector;
 import com.bow.maple.relations.ColumnInfo;
 import com.bow.maple.relations.Schema;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.relations.TupleBatch;
 import com.bow.maple.storage.TableFileInfo;
-import com.bow.maple.storage.colstore.CSGeneratedTuple;
+import com.bow.maple.storage.colstore.BitmapPredicate;
+import com.bow.maple.storage.colstore.BlockColumnStoreReader;
+import com.bow.maple.storage.colstore.ColStoreTableManager;
+import com.bow.maple.storage.colstore.ColumnChunk;
+import com.bow.maple.storage.colstore.DeltaStore;
 
 /**
  * This select plan node implements a simple filter of a subplan based on a
  * predicate.
+ * <p>
+ * 按行组计算满足谓词的行的位图({@link #getMatches})，上层节点只读取位图中的
+ * 行。谓词中AND连接的各个条件里，由AND/OR/NOT连接的<tt>列 op 常量</tt>转换成
+ * {@link BitmapPredicate}，直接在编码后的数据上求值并按位图合并；其余的条件
+ * 只对已经满足前者的行读出所涉及的列，按批求值。删除位图中标记的行在求
+ * {@link #residual}之前清除。
+ * </p>
  */
 public class CSSimpleFilterNode {
 	/** A logging object for reporting anything interesting that happens. */
@@ -29,11 +49,17 @@ public class CSSimpleFilterNode {
 	
     /** The predicate being evaluated. */
 	private Expression predicate;
+
+	/** 在编码后的数据上求值的条件 */
+	private List<BitmapPredicate> bitmapPredicates;
+
+	/** 不能在编码后的数据上求值、需要逐行求值的条件，没有时为<tt>null</tt> */
+	private Expression residual;
 	
 	/** The table information pertaining to the predicate. */
 	private TableFileInfo tblFileInfo;
 	
-	/** Children nodes that read data pertaining to the predicate. */
+	/** Children nodes that read data pertaining to the residual predicate. */
     private ArrayList<CSFileScanNode> fileScanChildren;
    
     /** Schema used for predicate evaluation. */
@@ -41,9 +67,27 @@ public class CSSimpleFilterNode {
     
     /** Column infos used for predicate evaluation. */
     private ArrayList<ColumnInfo> infos;
+
+    /** 按列的序号存放各列的列块，只读入{@link #bitmapPredicates}用到的列 */
+    private List<List<ColumnChunk>> columnChunks;
+
+    /** 表的各个行组，用第一列的列块表示 */
+    private List<ColumnChunk> rowGroups;
     
-    /** A flag to mark whether the node can produce any more values. */
-    boolean done;
+    /**
+     * 根据各列块的最小值和最大值，谓词一定不满足的行组；没有可以跳过的行组时
+     * 为<tt>null</tt>
+     */
+    private boolean[] skippedRowGroups;
+
+    /** 表的delta和删除位图 */
+    private DeltaStore deltaStore;
+
+    /** 对{@link #residual}按批求值时使用，复用于各个行组 */
+    private TupleBatch residualBatch;
+
+    /** {@link #residualBatch}中每一行在行组中的位置 */
+    private int[] residualRows;
 
     /**
      * Constructs a SimpleFilterNode that evaluates a predicate over all rows.
@@ -53,27 +97,64 @@ public class CSSimpleFilterNode {
 		this.tblFileInfo = tblFileInfo;
 		fileScanChildren = new ArrayList<CSFileScanNode>();
 		infos = new ArrayList<ColumnInfo>();
+		bitmapPredicates = new ArrayList<BitmapPredicate>();
 		schema = null;
-		done = false;
 		environment = new Environment();
 	}
 
 	public void prepare() {
-		if (predicate == null) return;
-		
 		Schema prev = tblFileInfo.getSchema();
+		List<Expression> residualTerms = new ArrayList<Expression>();
+		if (predicate != null) {
+			for (Expression conjunct : AccessPathSelector.splitConjuncts(predicate)) {
+				BitmapPredicate bitmapPred = BitmapPredicate.fromExpression(prev, conjunct);
+				if (bitmapPred != null)
+					bitmapPredicates.add(bitmapPred);
+				else
+					residualTerms.add(conjunct);
+			}
+		}
+		if (residualTerms.size() == 1)
+			residual = residualTerms.get(0);
+		else if (residualTerms.size() > 1)
+			residual = new BooleanOperator(BooleanOperator.Type.AND_EXPR, residualTerms);
+
 		schema = new Schema();
 		ArrayList<ColumnName> symbols = new ArrayList<ColumnName>();
-		predicate.getAllSymbols(symbols);
+		if (residual != null)
+			residual.getAllSymbols(symbols);
 		
 		ColumnInfo current;
 		for (ColumnName name : symbols) {
 			current = prev.getColumnInfo(prev.getColumnIndex(name));
+			// 同一列在谓词中出现多次时只扫描一次，例如a >= 1 AND a < 10
+			if (infos.contains(current))
+				continue;
+
 			infos.add(current);
 			fileScanChildren.add(new CSFileScanNode(tblFileInfo, current, null));
 			schema.addColumnInfo(current);
 		}
 		
+		deltaStore = ((ColStoreTableManager) tblFileInfo.getTableManager()).getDeltaStore(tblFileInfo);
+		try {
+			BlockColumnStoreReader reader = new BlockColumnStoreReader();
+			rowGroups = reader.getColumnChunks(tblFileInfo, 0);
+
+			Set<Integer> columns = new TreeSet<Integer>();
+			for (BitmapPredicate bitmapPred : bitmapPredicates)
+				bitmapPred.getColumns(columns);
+			columnChunks = new ArrayList<List<ColumnChunk>>();
+			for (int i = 0; i < prev.numColumns(); i++) {
+				columnChunks.add(columns.contains(i) ?
+					new BlockColumnStoreReader().getColumnChunks(tblFileInfo, i) : null);
+			}
+			skippedRowGroups = findSkippedRowGroups();
+		} catch (IOException e) {
+			logger.warn("Couldn't read row groups of " + tblFileInfo.getTableName(), e);
+			rowGroups = new ArrayList<ColumnChunk>();
+		}
+
 		for (CSFileScanNode node : fileScanChildren) {
         	try {
 				node.prepare();
@@ -85,31 +166,159 @@ public class CSSimpleFilterNode {
 		
 		logger.debug(schema);	
 	}
+
+	/** 返回表中行组的个数，必须在{@link #prepare}之后调用 */
+	public int getNumRowGroups() {
+		return rowGroups.size();
+	}
 	
-	public boolean getNext() throws IOException {
-		if (done) return false;
-		if (predicate == null) return true;
-		
-		CSGeneratedTuple tuple = new CSGeneratedTuple(infos);
-		
-		Object temp;
-		for (int i = 0; i < fileScanChildren.size(); i++) {
-			CSFileScanNode node = fileScanChildren.get(i);
-			temp = node.getNextObject();
-			if (temp == null) {
-				done = true;
-				return false;
+	/**
+	 * 返回谓词一定不满足、可以整个跳过的行组，必须在{@link #prepare}之后调用
+	 *
+	 * @return 每个行组是否跳过，没有可以跳过的行组时返回<tt>null</tt>
+	 */
+	public boolean[] getSkippedRowGroups() {
+		return skippedRowGroups;
+	}
+
+
+	/**
+	 * 用{@link #bitmapPredicates}检查各个行组的zone map：任何一个条件在某个
+	 * 行组中一定不满足时，整个行组都可以跳过
+	 */
+	private boolean[] findSkippedRowGroups() {
+		boolean[] skipped = new boolean[rowGroups.size()];
+		int numSkipped = 0;
+
+		for (int i = 0; i < skipped.length; i++) {
+			for (BitmapPredicate bitmapPred : bitmapPredicates) {
+				if (!bitmapPred.mayMatch(columnChunks, i)) {
+					skipped[i] = true;
+					numSkipped++;
+					break;
+				}
 			}
-			tuple.setColumnValue(i, temp);
 		}
-		
+
+		if (!bitmapPredicates.isEmpty()) {
+			logger.debug(String.format("Zone maps of %s:  skipping %d of %d row groups",
+				tblFileInfo.getTableName(), numSkipped, skipped.length));
+		}
+		return (numSkipped > 0) ? skipped : null;
+	}
+
+
+	/**
+	 * 计算一个行组中满足谓词的行：先在编码后的数据上求{@link #bitmapPredicates}
+	 * 并按位图取交，去掉已经删除的行，再只对剩下的行求{@link #residual}
+	 *
+	 * @param rowGroup 行组的序号
+	 * @return 满足谓词的行，第<tt>i</tt>位对应行组中的第<tt>i</tt>行
+	 * @throws IOException 读取列文件出错
+	 */
+	public BitSet getMatches(int rowGroup) throws IOException {
+		if (skippedRowGroups != null && skippedRowGroups[rowGroup])
+			return new BitSet();
+
+		ColumnChunk chunk = rowGroups.get(rowGroup);
+		int numRows = chunk.getNumRows();
+		BitSet matches;
+		if (bitmapPredicates.isEmpty()) {
+			matches = new BitSet(numRows);
+			matches.set(0, numRows);
+		}
+		else {
+			matches = bitmapPredicates.get(0).evaluate(tblFileInfo, columnChunks, rowGroup,
+				numRows);
+			for (int i = 1; i < bitmapPredicates.size() && !matches.isEmpty(); i++) {
+				matches.and(bitmapPredicates.get(i).evaluate(tblFileInfo, columnChunks,
+					rowGroup, numRows));
+			}
+		}
+
+		if (deltaStore.hasDeletes() && !matches.isEmpty())
+			matches.andNot(deltaStore.getDeletedRows(chunk.getFirstRow(), numRows));
+
+		if (residual != null && !matches.isEmpty())
+			evaluateResidual(rowGroup, matches);
+		return matches;
+	}
+
+
+	/**
+	 * 只读出位图中的行涉及的列，按批对{@link #residual}求值，清除不满足的行
+	 */
+	private void evaluateResidual(int rowGroup, BitSet matches) throws IOException {
+		if (residualBatch == null) {
+			residualBatch = new TupleBatch(schema);
+			residualRows = new int[residualBatch.getCapacity()];
+		}
+		int capacity = residualBatch.getCapacity();
+
+		int pos = matches.nextSetBit(0);
+		while (pos >= 0) {
+			residualBatch.reset();
+			int size = 0;
+			while (pos >= 0 && size < capacity) {
+				int n = Math.min(matches.nextClearBit(pos) - pos, capacity - size);
+				for (int i = 0; i < fileScanChildren.size(); i++) {
+					CSFileScanNode node = fileScanChildren.get(i);
+					node.seek(rowGroup, pos);
+					node.read(residualBatch.getColumn(i), size, n);
+				}
+				for (int k = 0; k < n; k++)
+					residualRows[size + k] = pos + k;
+				size += n;
+				pos = matches.nextSetBit(pos + n);
+			}
+			residualBatch.setSize(size);
+
+			BatchEvaluator.filter(residual, schema, residualBatch, environment);
+
+			// 选择向量按升序排列，不在其中的行不满足谓词
+			int[] sel = residualBatch.getSelection();
+			int numSelected = residualBatch.getNumSelected();
+			int j = 0;
+			for (int row = 0; row < size; row++) {
+				if (j < numSelected && sel[j] == row)
+					j++;
+				else
+					matches.clear(residualRows[row]);
+			}
+		}
+	}
+	
+	/**
+	 * 判断delta中的一行是否满足谓词
+	 *
+	 * @param tuple delta中的行，schema与表相同
+	 * @return 满足谓词时返回true
+	 */
+	public boolean isDeltaTupleSelected(Tuple tuple) {
+		if (predicate == null)
+			return true;
+
 		environment.clear();
-        environment.addTuple(schema, tuple);
-        return predicate.evaluatePredicate(environment);
+		environment.addTuple(tblFileInfo.getSchema(), tuple);
+		return predicate.evaluatePredicate(environment);
+	}
+
+	/** 返回表的delta，必须在{@link #prepare}之后调用 */
+	public DeltaStore getDeltaStore() {
+		return deltaStore;
+	}
+	
+	/** 释放扫描中使用的页面 */
+	public void cleanUp() {
+		for (CSFileScanNode node : fileScanChildren)
+			node.cleanUp();
 	}
 	
 	public String toString() {
-        String plan = "CSSimpleFilter[pred:  " + predicate.toString() + "]\n";
+        String plan = "CSSimpleFilter[pred:  " + predicate.toString();
+        if (!bitmapPredicates.isEmpty())
+            plan = plan + ", encoded:  " + bitmapPredicates;
+        plan = plan + "]\n";
         for (CSFileScanNode node : fileScanChildren) {
 			plan = plan + "\t\t" + node.toString() + "\n";
 		}
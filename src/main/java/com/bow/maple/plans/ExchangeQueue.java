@@ -0,0 +1,123 @@
+package com.bow.maple.plans;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.bow.maple.relations.Tuple;
+
+/**
+ * exchange节点中生产者(工作线程)与消费者之间传递数据的队列。<br/>
+ * 队列中的元素是一组tuple，每个生产者结束时放入一个{@link End}标记，出错时
+ * 标记中带有异常，由消费者重新抛出。消费者取消后生产者的写入会尽快返回，
+ * 不会因队列已满而永远阻塞。
+ */
+class ExchangeQueue {
+
+    /** 生产者每次放入队列的tuple数 */
+    static final int CHUNK_SIZE = 1024;
+
+    /** 等待队列时检查是否已取消的间隔 */
+    private static final long POLL_INTERVAL_MS = 100;
+
+    /**
+     * 生产者结束标记
+     */
+    static class End {
+        final Throwable error;
+
+        End(Throwable error) {
+            this.error = error;
+        }
+    }
+
+    private final BlockingQueue<Object> queue;
+
+    private volatile boolean cancelled;
+
+    /**
+     * @param capacity 队列最多容纳的chunk数，0表示不限
+     */
+    ExchangeQueue(int capacity) {
+        queue = (capacity > 0) ? new LinkedBlockingQueue<Object>(capacity) : new LinkedBlockingQueue<Object>();
+    }
+
+    /**
+     * 生产者放入一组tuple，队列满时等待
+     *
+     * @return false 消费者已取消，生产者应停止
+     */
+    boolean put(List<Tuple> chunk) throws InterruptedException {
+        return offer(chunk);
+    }
+
+    /**
+     * 生产者结束时调用，放入结束标记
+     *
+     * @param error 生产者失败的原因，正常结束时为null
+     */
+    void finish(Throwable error) {
+        try {
+            offer(new End(error));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean offer(Object item) throws InterruptedException {
+        while (!cancelled) {
+            if (queue.offer(item, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * 消费者取出下一个元素，可能是一组tuple或{@link End}
+     *
+     * @throws IllegalStateException 队列已被取消，例如exchange被其它消费者重新启动
+     */
+    Object take() throws IOException {
+        try {
+            while (true) {
+                Object item = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (item != null)
+                    return item;
+
+                if (cancelled)
+                    throw new IllegalStateException("Exchange was cancelled");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for worker results");
+        }
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 消费者不再读取时调用，丢弃队列中的数据并让生产者停止
+     */
+    void cancel() {
+        cancelled = true;
+        queue.clear();
+    }
+
+    /**
+     * 将工作线程中的异常在消费者线程中重新抛出
+     */
+    static void rethrow(Throwable error) throws IOException {
+        if (error instanceof IOException)
+            throw (IOException) error;
+        if (error instanceof RuntimeException)
+            throw (RuntimeException) error;
+        if (error instanceof Error)
+            throw (Error) error;
+        throw new IOException("Parallel plan worker failed", error);
+    }
+}
@@ -1,5 +1,6 @@
 package com.bow.maple.plans;
 
+import java.io.EOFException;
 import java.io.IOException;
 
 import com.bow.maple.qeval.TableStats;
@@ -8,6 +9,10 @@ import org.apache.log4j.Logger;
 import com.bow.maple.expressions.Expression;
 import com.bow.maple.qeval.PlanCost;
 import com.bow.maple.qeval.SelectivityEstimator;
+import com.bow.maple.storage.BlockedTableReader;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.PageTuple;
+import com.bow.maple.storage.StorageManager;
 import com.bow.maple.storage.TableFileInfo;
 import com.bow.maple.storage.TableManager;
 
@@ -33,6 +38,15 @@ public class FileScanNode extends SelectNode implements Marked {
      */
     private boolean jumpToMarkedTuple;
 
+    /**
+     * 只扫描[startPage, endPage)区间内的数据页，-1表示扫描整个表，通过
+     * {@link #setPageRange(int, int)}设置。并行扫描时每个分支扫描其中一段
+     */
+    private int startPage = -1;
+
+    /** 扫描区间的结束页(不含)，-1表示一直扫描到文件末尾 */
+    private int endPage = -1;
+
     public FileScanNode(TableFileInfo tblFileInfo, Expression predicate) {
         super(predicate);
 
@@ -42,6 +56,38 @@ public class FileScanNode extends SelectNode implements Marked {
         this.tblFileInfo = tblFileInfo;
     }
 
+    /**
+     * 限定只扫描部分数据页。只支持heap file，其数据页从1开始编号
+     *
+     * @param startPage 第一个要扫描的数据页
+     * @param endPage 结束页(不含)，-1表示一直扫描到文件末尾
+     */
+    public void setPageRange(int startPage, int endPage) {
+        if (startPage < 1)
+            throw new IllegalArgumentException("startPage must be at least 1; got " + startPage);
+
+        if (endPage >= 0 && endPage < startPage) {
+            throw new IllegalArgumentException("endPage " + endPage +
+                " is before startPage " + startPage);
+        }
+
+        if (tblFileInfo.getTableManager().getBlockedReader() == null) {
+            throw new UnsupportedOperationException("Table " + tblFileInfo.getTableName() +
+                " cannot be scanned by page range");
+        }
+
+        this.startPage = startPage;
+        this.endPage = endPage;
+    }
+
+    public int getStartPage() {
+        return startPage;
+    }
+
+    public int getEndPage() {
+        return endPage;
+    }
+
     protected void prepareSchema() {
         // Grab the schema from the table.
         schema = tblFileInfo.getSchema();
@@ -69,6 +115,16 @@ public class FileScanNode extends SelectNode implements Marked {
         // The CPU cost是根据总tuple数计算的
         cost = new PlanCost(numTuples, tableStats.avgTupleSize, tableStats.numTuples, tableStats.numDataPages);
 
+        if (startPage > 0) {
+            // 只扫描部分页面时按页面比例折算
+            int numDataPages = tableStats.numDataPages;
+            int last = (endPage < 0) ? numDataPages + 1 : Math.min(endPage, numDataPages + 1);
+            float fraction = (numDataPages > 0) ? Math.max(0, last - startPage) / (float) numDataPages : 0;
+            cost.numTuples *= fraction;
+            cost.cpuCost *= fraction;
+            cost.numBlockIOs = (long) Math.ceil(cost.numBlockIOs * fraction);
+        }
+
         // TODO: We should update the table statistics based on the predicate,
         // but for now we'll leave them unchanged.
     }
@@ -102,6 +158,11 @@ public class FileScanNode extends SelectNode implements Marked {
             return;
         }
 
+        if (startPage > 0) {
+            advanceInPageRange();
+            return;
+        }
+
         TableManager tableManager = tblFileInfo.getTableManager();
         if (currentTuple == null) {
             // currentTuple 若为null则getFirstTuple
@@ -111,6 +172,51 @@ public class FileScanNode extends SelectNode implements Marked {
         }
     }
 
+    /**
+     * 在[startPage, endPage)区间内推进currentTuple，离开一个页面时unpin该页面
+     */
+    private void advanceInPageRange() throws IOException {
+        BlockedTableReader reader = tblFileInfo.getTableManager().getBlockedReader();
+
+        DBPage dbPage;
+        if (currentTuple == null) {
+            dbPage = loadRangePage(startPage);
+            if (dbPage == null)
+                return;
+
+            currentTuple = reader.getFirstTupleInPage(tblFileInfo, dbPage);
+        } else {
+            dbPage = ((PageTuple) currentTuple).getDBPage();
+            currentTuple = reader.getNextTupleInPage(tblFileInfo, dbPage, currentTuple);
+        }
+
+        // 当前页面读完了，跳到区间内的下一个页面
+        while (currentTuple == null) {
+            int nextPageNo = dbPage.getPageNo() + 1;
+            StorageManager.getInstance().unpinDBPage(dbPage);
+
+            dbPage = loadRangePage(nextPageNo);
+            if (dbPage == null)
+                return;
+
+            currentTuple = reader.getFirstTupleInPage(tblFileInfo, dbPage);
+        }
+    }
+
+    /**
+     * 加载区间内的页面，超出区间或文件末尾时返回null
+     */
+    private DBPage loadRangePage(int pageNo) throws IOException {
+        if (endPage >= 0 && pageNo >= endPage)
+            return null;
+
+        try {
+            return StorageManager.getInstance().loadDBPage(tblFileInfo.getDBFile(), pageNo);
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
     /**
      * 标记当前位置，方便回退
      */
@@ -164,7 +270,9 @@ public class FileScanNode extends SelectNode implements Marked {
     public boolean equals(Object obj) {
         if (obj instanceof FileScanNode) {
             FileScanNode other = (FileScanNode) obj;
-            return tblFileInfo.equals(other.tblFileInfo) && predicate.equals(other.predicate);
+            return tblFileInfo.equals(other.tblFileInfo) &&
+                (predicate != null ? predicate.equals(other.predicate) : other.predicate == null) &&
+                startPage == other.startPage && endPage == other.endPage;
         }
         return false;
     }
@@ -178,6 +286,8 @@ public class FileScanNode extends SelectNode implements Marked {
         int hash = 7;
         hash = 31 * hash + (predicate != null ? predicate.hashCode() : 0);
         hash = 31 * hash + tblFileInfo.hashCode();
+        hash = 31 * hash + startPage;
+        hash = 31 * hash + endPage;
         return hash;
     }
 
@@ -200,6 +310,10 @@ public class FileScanNode extends SelectNode implements Marked {
         buf.append("table:  ").append(tblFileInfo.getTableName());
         if (predicate != null)
             buf.append(", pred:  ").append(predicate.toString());
+        if (startPage > 0) {
+            buf.append(", pages:  [").append(startPage).append(", ");
+            buf.append(endPage < 0 ? "end" : String.valueOf(endPage)).append(")");
+        }
         buf.append("]");
         return buf.toString();
     }
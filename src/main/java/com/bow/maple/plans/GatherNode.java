@@ -0,0 +1,361 @@
+package com.bow.maple.plans;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import com.bow.maple.qeval.PlanCost;
+import com.bow.maple.qeval.WorkerPool;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.relations.TupleBatch;
+import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.storage.colstore.BlockColumnStoreReader;
+import org.apache.log4j.Logger;
+
+/**
+ * 将多个并行分支的结果汇总成一个tuple流的exchange节点(N到1)。<br/>
+ * 每个分支是一棵独立的子计划，通常是扫描同一张表不同页面区间的
+ * {@link FileScanNode}或不同行组区间的{@link CSScanNode}，加上在其上的过滤和投影。{@link #initialize()}时每个
+ * 分支被提交到{@link WorkerPool}，工作线程按批执行分支并把结果放入
+ * {@link ExchangeQueue}，本节点在调用线程中依次取出。
+ * <p>
+ * 结果的顺序不确定。分支之间不能共享plan node，应使用
+ * {@link PlanNode#duplicate()}得到的副本。
+ */
+public class GatherNode extends PlanNode {
+
+    private static Logger logger = Logger.getLogger(GatherNode.class);
+
+    /** 每个分支在队列中最多积压的chunk数 */
+    private static final int QUEUE_CHUNKS_PER_BRANCH = 4;
+
+    private List<PlanNode> branches;
+
+    /** 当前这一次执行的状态，每次{@link #initialize()}重新创建 */
+    private Run run;
+
+    private List<Tuple> currentChunk;
+
+    private int chunkPos;
+
+    /**
+     * 一次执行中工作线程与消费者共享的状态
+     */
+    private static class Run {
+        ExchangeQueue queue;
+
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+
+        /** 尚未结束的分支数，只由消费者线程访问 */
+        int remaining;
+    }
+
+    public GatherNode(List<PlanNode> branches) {
+        super(OperationType.EXCHANGE);
+
+        if (branches == null || branches.isEmpty())
+            throw new IllegalArgumentException("branches cannot be null or empty");
+
+        this.branches = new ArrayList<PlanNode>(branches);
+    }
+
+    public List<PlanNode> getBranches() {
+        return branches;
+    }
+
+    /**
+     * 若计划是heap file或列式存储表扫描上的一串过滤、投影和重命名节点，并且表
+     * 足够大，则把扫描拆成多个分支，每个分支复制整串节点，最后用
+     * <tt>GatherNode</tt>汇总；否则原样返回。
+     *
+     * @param plan 尚未prepare的计划
+     * @param parallelism 最多的分支数
+     * @param minPagesPerBranch 每个分支至少扫描的页面数
+     * @return 并行化后的计划
+     * @throws IOException 无法读取表文件的大小
+     */
+    public static PlanNode parallelize(PlanNode plan, int parallelism, int minPagesPerBranch)
+            throws IOException {
+        List<PlanNode> branches = split(plan, parallelism, minPagesPerBranch);
+        if (branches == null)
+            return plan;
+
+        return new GatherNode(branches);
+    }
+
+    /**
+     * 把扫描拆成多个分支：heap file按页面区间拆分，列式存储表按行组区间拆分。
+     * 每个分支复制扫描之上的整串过滤、投影和重命名节点。
+     *
+     * @param plan 尚未prepare的计划
+     * @param parallelism 最多的分支数
+     * @param minPagesPerBranch 每个分支至少扫描的页面数
+     * @return 各个分支，计划不能或不值得拆分时返回<tt>null</tt>
+     * @throws IOException 无法读取表文件的大小
+     */
+    public static List<PlanNode> split(PlanNode plan, int parallelism, int minPagesPerBranch)
+            throws IOException {
+        if (parallelism <= 1)
+            return null;
+
+        SelectNode scan = findParallelScan(plan);
+        if (scan == null)
+            return null;
+
+        // 拆分的单位：heap file的数据页从1开始，页面0是header页
+        TableFileInfo tblFileInfo;
+        int numUnits;
+        long numPages;
+        if (scan instanceof FileScanNode) {
+            tblFileInfo = ((FileScanNode) scan).tblFileInfo;
+            numUnits = tblFileInfo.getDBFile().getNumPages() - 1;
+            numPages = numUnits;
+        } else {
+            tblFileInfo = ((CSScanNode) scan).tblFileInfo;
+            numUnits = new BlockColumnStoreReader().getNumRowGroups(tblFileInfo, 0);
+            numPages = 0;
+            for (int i = 1; i <= tblFileInfo.getSchema().numColumns(); i++)
+                numPages += tblFileInfo.getDBFile(i).getNumPages();
+        }
+
+        int numBranches = (int) Math.min(Math.min(parallelism, numUnits),
+            numPages / Math.max(1, minPagesPerBranch));
+        if (numBranches <= 1)
+            return null;
+
+        logger.debug(String.format("Splitting scan of %s (%d pages) into %d branches",
+            tblFileInfo.getTableName(), numPages, numBranches));
+
+        List<PlanNode> branches = new ArrayList<PlanNode>(numBranches);
+        for (int i = 0; i < numBranches; i++) {
+            PlanNode branch = plan.duplicate();
+            int start = (int) ((long) numUnits * i / numBranches);
+            int end = (int) ((long) numUnits * (i + 1) / numBranches);
+
+            // 最后一个分支一直扫描到文件末尾，列式存储表还要扫描delta
+            if (i == numBranches - 1)
+                end = -1;
+
+            SelectNode branchScan = findParallelScan(branch);
+            if (branchScan instanceof FileScanNode)
+                ((FileScanNode) branchScan).setPageRange(1 + start, (end < 0) ? -1 : 1 + end);
+            else
+                ((CSScanNode) branchScan).setRowGroupRange(start, end);
+            branches.add(branch);
+        }
+
+        return branches;
+    }
+
+    /**
+     * 沿着单子节点的过滤、投影和重命名节点向下，找到可以按页面区间扫描的
+     * {@link FileScanNode}或按行组区间扫描的{@link CSScanNode}
+     */
+    private static SelectNode findParallelScan(PlanNode plan) {
+        while (plan instanceof ProjectNode || plan instanceof SimpleFilterNode || plan instanceof RenameNode)
+            plan = plan.leftChild;
+
+        if (plan instanceof CSScanNode) {
+            CSScanNode scan = (CSScanNode) plan;
+            return (scan.getStartRowGroup() >= 0) ? null : scan;
+        }
+
+        if (!(plan instanceof FileScanNode))
+            return null;
+
+        FileScanNode scan = (FileScanNode) plan;
+        if (scan.getStartPage() > 0 || scan.tblFileInfo.getTableManager().getBlockedReader() == null)
+            return null;
+
+        return scan;
+    }
+
+    @Override
+    public void prepare() {
+        float numTuples = 0;
+        float maxCpuCost = 0;
+        long numBlockIOs = 0;
+        for (PlanNode branch : branches) {
+            branch.prepare();
+            PlanCost branchCost = branch.getCost();
+            numTuples += branchCost.numTuples;
+            maxCpuCost = Math.max(maxCpuCost, branchCost.cpuCost);
+            numBlockIOs += branchCost.numBlockIOs;
+        }
+
+        PlanNode first = branches.get(0);
+        schema = first.getSchema();
+        stats = first.getStats();
+
+        // 分支并行执行，CPU开销取最慢的分支，再加上汇总每个tuple的开销
+        cost = new PlanCost(numTuples, first.getCost().tupleSize, maxCpuCost + numTuples, numBlockIOs);
+    }
+
+    @Override
+    public void initialize() {
+        super.initialize();
+
+        // 重新扫描时先停止上一次的执行
+        stop();
+
+        run = new Run();
+        run.queue = new ExchangeQueue(QUEUE_CHUNKS_PER_BRANCH * branches.size());
+        run.remaining = branches.size();
+        for (PlanNode branch : branches)
+            run.futures.add(WorkerPool.submit(new BranchWorker(branch, run.queue)));
+
+        currentChunk = null;
+        chunkPos = 0;
+    }
+
+    @Override
+    public Tuple getNextTuple() throws IllegalStateException, IOException {
+        if (run == null)
+            throw new IllegalStateException("GatherNode has not been initialized");
+
+        while (currentChunk == null || chunkPos >= currentChunk.size()) {
+            if (run.remaining == 0)
+                return null;
+
+            Object item = run.queue.take();
+            if (item instanceof ExchangeQueue.End) {
+                run.remaining--;
+                Throwable error = ((ExchangeQueue.End) item).error;
+                if (error != null) {
+                    stop();
+                    ExchangeQueue.rethrow(error);
+                }
+            } else {
+                @SuppressWarnings("unchecked")
+                List<Tuple> chunk = (List<Tuple>) item;
+                currentChunk = chunk;
+                chunkPos = 0;
+            }
+        }
+
+        return currentChunk.get(chunkPos++);
+    }
+
+    @Override
+    public void cleanUp() {
+        stop();
+    }
+
+    /**
+     * 取消当前执行并等待所有工作线程退出
+     */
+    private void stop() {
+        if (run == null)
+            return;
+
+        run.queue.cancel();
+        for (Future<Void> future : run.futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                logger.warn("Parallel branch failed during cleanup", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        run = null;
+        currentChunk = null;
+    }
+
+    /**
+     * 在工作线程中按批执行一个分支，把结果物化后放入队列
+     */
+    private static class BranchWorker implements Callable<Void> {
+
+        private PlanNode branch;
+
+        private ExchangeQueue queue;
+
+        BranchWorker(PlanNode branch, ExchangeQueue queue) {
+            this.branch = branch;
+            this.queue = queue;
+        }
+
+        @Override
+        public Void call() {
+            Throwable error = null;
+            try {
+                branch.initialize();
+
+                List<Tuple> chunk = new ArrayList<Tuple>(ExchangeQueue.CHUNK_SIZE);
+                TupleBatch batch;
+                while (!queue.isCancelled() && (batch = branch.getNextBatch()) != null) {
+                    // batch会被分支复用，必须复制出来
+                    for (int i = 0; i < batch.getNumSelected(); i++)
+                        chunk.add(batch.getSelectedTuple(i));
+
+                    if (chunk.size() >= ExchangeQueue.CHUNK_SIZE) {
+                        if (!queue.put(chunk))
+                            return null;
+                        chunk = new ArrayList<Tuple>(ExchangeQueue.CHUNK_SIZE);
+                    }
+                }
+
+                if (!chunk.isEmpty() && !queue.put(chunk))
+                    return null;
+            } catch (Throwable t) {
+                error = t;
+            } finally {
+                try {
+                    branch.cleanUp();
+                } catch (Throwable t) {
+                    if (error == null)
+                        error = t;
+                }
+            }
+
+            queue.finish(error);
+            return null;
+        }
+    }
+
+    @Override
+    public void printNodeTree(PrintStream out, boolean includeCosts, String indent) {
+        super.printNodeTree(out, includeCosts, indent);
+        for (PlanNode branch : branches)
+            branch.printNodeTree(out, includeCosts, indent + "    ");
+    }
+
+    @Override
+    public String toString() {
+        return "Gather[branches:  " + branches.size() + "]";
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof GatherNode) {
+            GatherNode other = (GatherNode) obj;
+            return branches.equals(other.branches);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * 17 + branches.hashCode();
+    }
+
+    @Override
+    protected PlanNode clone() throws CloneNotSupportedException {
+        GatherNode node = (GatherNode) super.clone();
+
+        node.branches = new ArrayList<PlanNode>(branches.size());
+        for (PlanNode branch : branches)
+            node.branches.add(branch.duplicate());
+
+        node.run = null;
+        node.currentChunk = null;
+        return node;
+    }
+}
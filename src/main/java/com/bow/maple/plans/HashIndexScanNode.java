@@ -0,0 +1,237 @@
+package com.bow.maple.plans;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.bow.lab.indexes.IndexFileInfo;
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.expressions.TupleComparator;
+import com.bow.maple.qeval.ColumnStats;
+import com.bow.maple.qeval.PlanCost;
+import com.bow.maple.qeval.SelectivityEstimator;
+import com.bow.maple.qeval.TableStats;
+import com.bow.maple.relations.ColumnIndexes;
+import com.bow.maple.relations.KeyColumnIndexes;
+import com.bow.maple.relations.Schema;
+import com.bow.maple.storage.FilePointer;
+import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.storage.hashindex.HashIndexManager;
+import org.apache.log4j.Logger;
+
+/**
+ * 通过哈希索引做等值查找。哈希索引只能查找完整的key，因此索引的每一列都要有
+ * 等值条件，例如索引(a, b)只能用于<tt>a = 1 AND b = 2</tt>，不能用于
+ * <tt>a = 1</tt>或范围条件。
+ * <p>
+ * 查找时只读取key所在的桶(首页面和溢出页面)，匹配的file-pointer按页面排序后
+ * 再到表中读取。{@link #predicate}仍然会对每个tuple重新检查。
+ * <p>
+ * 作为索引嵌套循环连接的内表时，每次由连接节点通过{@link #setProbeKey}提供
+ * 所有列的值。
+ */
+public class HashIndexScanNode extends IndexScanNode {
+
+    private static Logger logger = Logger.getLogger(HashIndexScanNode.class);
+
+    /** 用于估算匹配记录数的谓词，即生成查找key的那些条件 */
+    private Expression keyPredicate;
+
+    /** 查找的key，包括索引的所有列 */
+    private LiteralTuple searchKey;
+
+    /** 是否是参数化的查找，此时key由连接节点在每次执行前提供 */
+    private boolean probe;
+
+    /**
+     * @param tblFileInfo 表
+     * @param idxFileInfo 表上的哈希索引
+     * @param keyPredicate 生成查找key的条件，用于估算代价，可以为<tt>null</tt>
+     * @param predicate 对每个tuple检查的谓词，可以为<tt>null</tt>
+     */
+    public HashIndexScanNode(TableFileInfo tblFileInfo, IndexFileInfo idxFileInfo,
+            Expression keyPredicate, Expression predicate) {
+        super(tblFileInfo, idxFileInfo, predicate);
+        this.keyPredicate = keyPredicate;
+    }
+
+    /**
+     * 设置查找的key
+     *
+     * @param searchKey 索引所有列的值
+     */
+    public void setSearchKey(LiteralTuple searchKey) {
+        int numKeyCols = idxFileInfo.getTableColumnIndexes().size();
+        if (searchKey.getColumnCount() != numKeyCols) {
+            throw new IllegalArgumentException("Search key " + searchKey + " should have " +
+                numKeyCols + " columns for hash index " + idxFileInfo.getIndexName());
+        }
+        this.searchKey = searchKey;
+    }
+
+    /**
+     * 设置为参数化的等值查找，每次执行前由{@link #setProbeKey}提供所有列的值
+     */
+    public void setProbe() {
+        probe = true;
+    }
+
+    @Override
+    public int getProbeColumns() {
+        return probe ? idxFileInfo.getTableColumnIndexes().size() : 0;
+    }
+
+    @Override
+    public void setProbeKey(LiteralTuple key) {
+        if (!probe)
+            throw new IllegalStateException("Hash index scan is not parameterized");
+
+        setSearchKey(key);
+    }
+
+    @Override
+    public boolean isUniqueLookup() {
+        return idxFileInfo.getTableColumnIndexes() instanceof KeyColumnIndexes;
+    }
+
+    @Override
+    public void prepare() {
+        TableStats tableStats = tblFileInfo.getStats();
+        Schema tableSchema = tblFileInfo.getSchema();
+        ArrayList<ColumnStats> tableColStats = tableStats.getAllColumnStats();
+
+        ColumnIndexes colIndexes = idxFileInfo.getTableColumnIndexes();
+        prepareSchemaStats(tableColStats);
+
+        // 匹配key的记录数
+        float numMatched;
+        if (isUniqueLookup()) {
+            numMatched = Math.min(1, tableStats.numTuples);
+        } else if (keyPredicate != null) {
+            numMatched = tableStats.numTuples *
+                SelectivityEstimator.estimateSelectivity(keyPredicate, tableSchema, tableColStats);
+        } else {
+            // 每次查找的key事先未知，按各列不同值的个数估算
+            float keySelectivity = 1.0f;
+            for (int i = 0; i < colIndexes.size(); i++) {
+                int numUnique = tableColStats.get(colIndexes.getCol(i)).getNumUniqueValues();
+                keySelectivity *= (numUnique > 0) ? 1.0f / numUnique : SelectivityEstimator.DEFAULT_SELECTIVITY;
+            }
+            numMatched = keySelectivity * tableStats.numTuples;
+        }
+
+        float numTuples = numMatched;
+        if (predicate != null) {
+            float selectivity = SelectivityEstimator.estimateSelectivity(predicate, tableSchema, tableColStats);
+            numTuples = Math.min(numMatched, selectivity * tableStats.numTuples);
+        }
+
+        // 读取头页面、目录页面和桶的首页面，溢出页面忽略不计
+        long bucketIOs = 3;
+        long heapIOs = 0;
+        float cpuCost = numMatched + 1;
+        if (!indexOnly) {
+            heapIOs = (long) Math.ceil(Math.min(tableStats.numDataPages, numMatched));
+            cpuCost += numMatched;
+        }
+
+        float tupleSize = tableStats.avgTupleSize;
+        if (indexOnly && tableSchema.numColumns() > 0)
+            tupleSize = tupleSize * schema.numColumns() / tableSchema.numColumns();
+
+        cost = new PlanCost(numTuples, tupleSize, cpuCost, bucketIOs + heapIOs);
+    }
+
+    /**
+     * 第一次调用时读出key所在的桶中匹配的所有记录，只有一个桶，不再分批
+     */
+    @Override
+    protected List<Object> readNextEntries(boolean first) throws IOException {
+        if (!first)
+            return null;
+        if (searchKey == null)
+            throw new IllegalStateException("No search key for hash index scan");
+
+        HashIndexManager indexManager = (HashIndexManager) idxFileInfo.getIndexManager();
+        List<LiteralTuple> keys = indexManager.lookup(idxFileInfo, searchKey);
+
+        int numKeyCols = idxFileInfo.getTableColumnIndexes().size();
+        List<Object> result = new ArrayList<Object>();
+        if (indexOnly) {
+            for (LiteralTuple key : keys)
+                result.add(makeIndexOnlyTuple(key));
+        } else {
+            // 按数据页的顺序读取表
+            List<FilePointer> filePointers = new ArrayList<FilePointer>();
+            for (LiteralTuple key : keys)
+                filePointers.add((FilePointer) key.getColumnValue(numKeyCols));
+            Collections.sort(filePointers);
+            result.addAll(filePointers);
+        }
+
+        logger.debug(String.format("Index %s:  %d entries match %s",
+            idxFileInfo.getIndexName(), result.size(), searchKey));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder();
+        buf.append(indexOnly ? "HashIndexOnlyScan[" : "HashIndexScan[");
+        buf.append("table:  ").append(tblFileInfo.getTableName());
+        buf.append(", index:  ").append(idxFileInfo.getIndexName());
+        if (probe) {
+            buf.append(", probe:  ");
+            ColumnIndexes colIndexes = idxFileInfo.getTableColumnIndexes();
+            for (int i = 0; i < colIndexes.size(); i++) {
+                if (i > 0)
+                    buf.append(", ");
+                buf.append(tblFileInfo.getSchema().getColumnInfo(colIndexes.getCol(i)).getName());
+            }
+        } else if (searchKey != null) {
+            buf.append(", key:  ").append(searchKey);
+        }
+        if (predicate != null)
+            buf.append(", pred:  ").append(predicate.toString());
+        buf.append("]");
+        return buf.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof HashIndexScanNode) {
+            HashIndexScanNode other = (HashIndexScanNode) obj;
+            return tblFileInfo.equals(other.tblFileInfo) &&
+                idxFileInfo.getIndexName().equals(other.idxFileInfo.getIndexName()) &&
+                (predicate != null ? predicate.equals(other.predicate) : other.predicate == null) &&
+                (searchKey != null ? other.searchKey != null &&
+                    TupleComparator.areTuplesEqual(searchKey, other.searchKey) : other.searchKey == null) &&
+                indexOnly == other.indexOnly && probe == other.probe;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + tblFileInfo.hashCode();
+        hash = 31 * hash + idxFileInfo.getIndexName().hashCode();
+        hash = 31 * hash + (predicate != null ? predicate.hashCode() : 0);
+        hash = 31 * hash + (indexOnly ? 1 : 0);
+        hash = 31 * hash + (probe ? 1 : 0);
+        return hash;
+    }
+
+    @Override
+    protected PlanNode clone() throws CloneNotSupportedException {
+        HashIndexScanNode node = (HashIndexScanNode) super.clone();
+
+        if (keyPredicate != null)
+            node.keyPredicate = keyPredicate.duplicate();
+
+        // 查找的key创建后不再修改，可以共享
+        return node;
+    }
+}
@@ -0,0 +1,238 @@
+package com.bow.maple.plans;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.expressions.OrderByExpression;
+import com.bow.maple.qeval.PlanCost;
+import com.bow.maple.relations.JoinType;
+import com.bow.maple.relations.Tuple;
+
+/**
+ * 索引嵌套循环连接。<br/>
+ * 右子节点(内表)的最底层是一个参数化的{@link IndexScanNode}，其上只能
+ * 有重命名和过滤节点。对左子节点的每个tuple，计算{@link #outerKeys}得到key，
+ * 在内表的索引上做一次等值查找，而不是像{@link NestedLoopsJoinNode}那样
+ * 重新扫描整个内表。查找到的tuple仍然用连接谓词重新检查。
+ * <p>
+ * 目前只支持内连接，key中有NULL的外表tuple不会和任何tuple连接。
+ */
+public class IndexNestedLoopsJoinNode extends ThetaJoinNode {
+
+    /** 在外表tuple上计算的表达式，依次对应索引的前若干列 */
+    private List<Expression> outerKeys;
+
+    /** 右子树中的索引扫描节点 */
+    private IndexScanNode innerScan;
+
+    private Tuple leftTuple;
+
+    private boolean done;
+
+    /**
+     * @param leftChild 外表
+     * @param rightChild 内表，最底层是参数化的索引扫描
+     * @param joinType 连接类型，只支持内连接
+     * @param predicate 连接谓词，可以为<tt>null</tt>
+     * @param outerKeys 每次查找的key，个数须等于索引扫描的探测列数
+     */
+    public IndexNestedLoopsJoinNode(PlanNode leftChild, PlanNode rightChild, JoinType joinType,
+            Expression predicate, List<Expression> outerKeys) {
+        super(leftChild, rightChild, joinType, predicate);
+
+        if (joinType != JoinType.INNER)
+            throw new IllegalArgumentException("Index nested-loop joins only support inner joins");
+
+        innerScan = findIndexScan(rightChild);
+        if (innerScan == null)
+            throw new IllegalArgumentException("rightChild must be an index scan:  " + rightChild);
+
+        if (outerKeys == null || outerKeys.isEmpty() || outerKeys.size() != innerScan.getProbeColumns()) {
+            throw new IllegalArgumentException("Expected " + innerScan.getProbeColumns() +
+                " outer keys, got " + outerKeys);
+        }
+
+        this.outerKeys = new ArrayList<Expression>(outerKeys);
+    }
+
+    /**
+     * 沿着重命名和过滤节点向下找到索引扫描
+     */
+    private static IndexScanNode findIndexScan(PlanNode plan) {
+        while (plan instanceof RenameNode || plan instanceof SimpleFilterNode)
+            plan = plan.leftChild;
+
+        return (plan instanceof IndexScanNode) ? (IndexScanNode) plan : null;
+    }
+
+    /**
+     * 输出按外表的顺序排列，但这里和嵌套循环连接一样不报告顺序。
+     */
+    public List<OrderByExpression> resultsOrderedBy() {
+        return null;
+    }
+
+    @Override
+    public void prepare() {
+        leftChild.prepare();
+        rightChild.prepare();
+
+        prepareSchemaStats();
+
+        PlanCost leftCost = leftChild.getCost();
+        PlanCost rightCost = rightChild.getCost();
+        if (leftCost != null && rightCost != null) {
+            // 内表的代价是一次查找的代价，其结果已经满足等值连接条件
+            float numTuples = leftCost.numTuples * rightCost.numTuples;
+            float tupleSize = leftCost.tupleSize + rightCost.tupleSize;
+
+            float cpuCost = leftCost.cpuCost + leftCost.numTuples * rightCost.cpuCost;
+            long numBlockIOs = leftCost.numBlockIOs + (long) Math.ceil(leftCost.numTuples) * rightCost.numBlockIOs;
+
+            cost = new PlanCost(numTuples, tupleSize, cpuCost, numBlockIOs);
+        }
+    }
+
+    @Override
+    public void initialize() {
+        super.initialize();
+
+        done = false;
+        leftTuple = null;
+    }
+
+    @Override
+    public void cleanUp() {
+        leftChild.cleanUp();
+        rightChild.cleanUp();
+    }
+
+    @Override
+    public Tuple getNextTuple() throws IOException {
+        if (done)
+            return null;
+
+        while (true) {
+            if (leftTuple == null) {
+                leftTuple = leftChild.getNextTuple();
+                if (leftTuple == null) {
+                    done = true;
+                    return null;
+                }
+
+                if (!probe(leftTuple)) {
+                    leftTuple = null;
+                    continue;
+                }
+            }
+
+            Tuple rightTuple = rightChild.getNextTuple();
+            if (rightTuple == null) {
+                // 这个外表tuple的匹配已经取完
+                leftTuple = null;
+                continue;
+            }
+
+            if (canJoinTuples(rightTuple))
+                return joinTuples(leftTuple, rightTuple);
+        }
+    }
+
+    /**
+     * 用外表tuple的key重新初始化内表的查找
+     *
+     * @return key中有NULL时不可能匹配，返回false
+     */
+    private boolean probe(Tuple outer) {
+        environment.clear();
+        environment.addTuple(leftSchema, outer);
+
+        LiteralTuple key = new LiteralTuple();
+        for (Expression outerKey : outerKeys) {
+            Object value = outerKey.evaluate(environment);
+            if (value == null)
+                return false;
+            key.addValue(value);
+        }
+
+        innerScan.setProbeKey(key);
+        rightChild.initialize();
+        return true;
+    }
+
+    private boolean canJoinTuples(Tuple rightTuple) {
+        if (predicate == null)
+            return true;
+
+        environment.clear();
+        environment.addTuple(leftSchema, leftTuple);
+        environment.addTuple(rightSchema, rightTuple);
+
+        return predicate.evaluatePredicate(environment);
+    }
+
+    /**
+     * 内表必须是有索引的一侧，不能交换
+     */
+    @Override
+    public void swap() {
+        throw new UnsupportedOperationException("Can't swap the children of an index nested-loop join");
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof IndexNestedLoopsJoinNode) {
+            IndexNestedLoopsJoinNode other = (IndexNestedLoopsJoinNode) obj;
+
+            return (predicate != null ? predicate.equals(other.predicate) : other.predicate == null) &&
+                outerKeys.equals(other.outerKeys) && leftChild.equals(other.leftChild) &&
+                rightChild.equals(other.rightChild);
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 11;
+        hash = 31 * hash + (predicate != null ? predicate.hashCode() : 0);
+        hash = 31 * hash + outerKeys.hashCode();
+        hash = 31 * hash + leftChild.hashCode();
+        hash = 31 * hash + rightChild.hashCode();
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder();
+
+        buf.append("IndexNestedLoops[keys:  ").append(outerKeys);
+
+        if (predicate != null)
+            buf.append(", pred:  ").append(predicate);
+
+        buf.append(']');
+
+        return buf.toString();
+    }
+
+    @Override
+    protected PlanNode clone() throws CloneNotSupportedException {
+        IndexNestedLoopsJoinNode node = (IndexNestedLoopsJoinNode) super.clone();
+
+        if (predicate != null)
+            node.predicate = predicate.duplicate();
+
+        node.outerKeys = new ArrayList<Expression>(outerKeys.size());
+        for (Expression outerKey : outerKeys)
+            node.outerKeys.add(outerKey.duplicate());
+
+        // 子节点已被复制，重新找到其中的索引扫描
+        node.innerScan = findIndexScan(node.rightChild);
+        node.leftTuple = null;
+        return node;
+    }
+}
@@ -1,20 +1,44 @@
 package com.bow.maple.plans;
 
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.TreeSet;
 
+import com.bow.lab.indexes.IndexFileInfo;
 import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.LiteralTuple;
 import com.bow.maple.expressions.OrderByExpression;
 
+import com.bow.maple.qeval.ColumnStats;
+import com.bow.maple.relations.ColumnIndexes;
+import com.bow.maple.relations.Schema;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.FilePointer;
+import com.bow.maple.storage.InvalidFilePointerException;
+import com.bow.maple.storage.StorageManager;
 import com.bow.maple.storage.TableFileInfo;
 import com.bow.maple.storage.TableManager;
+import org.apache.log4j.Logger;
 
 
 /**
  * A select plan-node that scans a table file using an index, checking retrieved
  * tuples against the optional predicate.
+ * <p>
+ * 匹配的记录由子类的{@link #readNextEntries}分批读出，每批最多
+ * {@link #ENTRY_BATCH_SIZE}条：只扫描索引({@link #setIndexOnly})时是索引列
+ * 的值，否则是file-pointer，通常按页面排好序，再到表中读取tuple。一批读完后
+ * 才读取下一批，内存中不会保存整个区间。
+ * <p>
+ * 作为索引嵌套循环连接的内表时，扫描是参数化的：连接节点对每个外表tuple
+ * 调用{@link #setProbeKey}设置等值查找的key，再重新initialize本节点。
  */
-public abstract class IndexScanNode extends SelectNode {
+public abstract class IndexScanNode extends SelectNode implements Marked {
+
+    private static Logger logger = Logger.getLogger(IndexScanNode.class);
 
     /** Reference to the TableManager object for NanoDB for internal use. */
     private TableManager tableManager;
@@ -24,19 +48,176 @@ public abstract class IndexScanNode extends SelectNode {
     public TableFileInfo tblFileInfo;
 
 
-    public IndexScanNode(TableFileInfo tblFileInfo, Object index,
+    /** 扫描所用的索引 */
+    public IndexFileInfo idxFileInfo;
+
+
+    /** 只扫描索引，输出索引中的列 */
+    protected boolean indexOnly;
+
+
+    /**
+     * 开始扫描时一次读出所有匹配的记录。UPDATE修改索引列时需要：分批读取时
+     * 修改后的key可能落在还没有读取的部分，同一行会被再次读到。
+     */
+    protected boolean snapshot;
+
+
+    /** 每次从索引读出的记录数 */
+    protected static final int ENTRY_BATCH_SIZE = 1024;
+
+
+    /**
+     * 当前这一批记录，只扫描索引时是key，否则是file-pointer，通常按页面
+     * 排好序。第一次推进时读取
+     */
+    private List<Object> entries;
+
+
+    /** 子类已经没有更多的记录 */
+    private boolean entriesDone;
+
+
+    /** 下一个要读取的记录在{@link #entries}中的位置 */
+    private int position;
+
+
+    /**
+     * {@link #markCurrentPosition()}时当前tuple的位置。有标记时读取下一批
+     * 不丢弃标记之后的记录，以便回到标记处
+     */
+    private int markedPosition = -1;
+
+
+    /**
+     * file-pointer不按页面排序时，每次预读后面这么多条记录所在的数据页
+     */
+    protected static final int HEAP_PREFETCH_BATCH = 64;
+
+
+    /** {@link #entries}中这个位置之前的记录所在的数据页已经预读 */
+    private int prefetchedPosition;
+
+
+    public IndexScanNode(TableFileInfo tblFileInfo, IndexFileInfo idxFileInfo,
                          Expression predicate) {
         super(predicate);
 
         if (tblFileInfo == null)
             throw new NullPointerException("table cannot be null");
 
+        if (idxFileInfo == null)
+            throw new NullPointerException("index cannot be null");
+
         this.tblFileInfo = tblFileInfo;
+        this.idxFileInfo = idxFileInfo;
+    }
+
+
+    public void setIndexOnly(boolean indexOnly) {
+        this.indexOnly = indexOnly;
+    }
+
 
-        // TODO:  Store the index information.
+    public boolean isIndexOnly() {
+        return indexOnly;
     }
 
 
+    /**
+     * 设置为开始扫描时一次读出所有匹配的记录，见{@link #snapshot}
+     */
+    public void setSnapshot(boolean snapshot) {
+        this.snapshot = snapshot;
+    }
+
+
+    /**
+     * 返回参数化查找时由连接节点提供的key列数，0表示不是参数化的
+     */
+    public abstract int getProbeColumns();
+
+
+    /**
+     * 设置下一次执行时查找的key，调用后需要重新{@link #initialize}
+     *
+     * @param key 索引前{@link #getProbeColumns}列的值
+     */
+    public abstract void setProbeKey(LiteralTuple key);
+
+
+    /**
+     * 是否是在唯一索引上对所有列的等值查找，此时最多只有一个结果
+     */
+    public abstract boolean isUniqueLookup();
+
+
+    /**
+     * 读取下一批匹配的记录，除非设置了{@link #snapshot}，最多
+     * {@link #ENTRY_BATCH_SIZE}条。只扫描索引时返回只含索引列的tuple，否则
+     * 返回file-pointer，由本类读取表。
+     *
+     * @param first 是否是{@link #initialize}之后的第一批
+     * @return 下一批记录，没有更多的记录时返回<tt>null</tt>或者空的列表
+     * @throws IOException 读取索引出错
+     */
+    protected abstract List<Object> readNextEntries(boolean first) throws IOException;
+
+
+    /**
+     * {@link #readNextEntries}返回的file-pointer是否已经按页面排好序。没有排序时
+     * (例如按索引顺序输出)，读取表之前分批把后面的记录所在的数据页按页号顺序
+     * 读入缓冲区。
+     */
+    protected boolean entriesSortedByPage() {
+        return true;
+    }
+
+
+    /**
+     * 根据是否只扫描索引设置输出的schema和各列的统计信息
+     */
+    protected void prepareSchemaStats(ArrayList<ColumnStats> tableColStats) {
+        Schema tableSchema = tblFileInfo.getSchema();
+        if (indexOnly) {
+            // 只输出索引中的列和INCLUDE列，不包括file-pointer
+            ColumnIndexes colIndexes = idxFileInfo.getTableColumnIndexes();
+            schema = new Schema();
+            stats = new ArrayList<ColumnStats>();
+            for (int i = 0; i < colIndexes.size(); i++) {
+                schema.addColumnInfo(tableSchema.getColumnInfo(colIndexes.getCol(i)));
+                stats.add(tableColStats.get(colIndexes.getCol(i)));
+            }
+            for (int i = 0; i < colIndexes.numIncludedColumns(); i++) {
+                schema.addColumnInfo(tableSchema.getColumnInfo(colIndexes.getIncludedCol(i)));
+                stats.add(tableColStats.get(colIndexes.getIncludedCol(i)));
+            }
+        } else {
+            schema = tableSchema;
+            stats = tableColStats;
+        }
+    }
+
+
+    /**
+     * 只扫描索引时，由索引中的一条记录生成输出的tuple：先是索引的各列，
+     * 然后是INCLUDE列，跳过二者之间的file-pointer
+     *
+     * @param key 索引中的记录
+     * @return 与{@link #prepareSchemaStats}生成的schema对应的tuple
+     */
+    protected LiteralTuple makeIndexOnlyTuple(Tuple key) {
+        ColumnIndexes colIndexes = idxFileInfo.getTableColumnIndexes();
+        int numKeyCols = colIndexes.size();
+
+        LiteralTuple tuple = new LiteralTuple();
+        for (int i = 0; i < numKeyCols; i++)
+            tuple.addValue(key.getColumnValue(i));
+        for (int i = 0; i < colIndexes.numIncludedColumns(); i++)
+            tuple.addValue(key.getColumnValue(numKeyCols + 1 + i));
+        return tuple;
+    }
+
 
     /**
      * Creates a copy of this simple filter node node and its subtree.  This
@@ -48,16 +229,17 @@ public abstract class IndexScanNode extends SelectNode {
 
         // The table-info doesn't need to be copied since it's immutable.
         node.tblFileInfo = tblFileInfo;
-        // TODO:  Copy the index information.
+        // 索引信息同样可以共享
+        node.idxFileInfo = idxFileInfo;
+        node.entries = null;
 
         return node;
     }
 
 
     /**
-     * Currently we will always say that the index-scan node produces unsorted
-     * results.  In actuality, an index scan's results will be sorted if the
-     * index is an ordered index, which will almost always be the case.
+     * 默认输出的结果是无序的：file-pointer按页面排序后读取表。按索引顺序
+     * 输出的子类覆盖此方法。
      */
     public List<OrderByExpression> resultsOrderedBy() {
         return null;
@@ -87,4 +269,118 @@ public abstract class IndexScanNode extends SelectNode {
         // Grab the column info from the table.
         schema = tblFileInfo.getSchema();
     }
+
+
+    @Override
+    public void initialize() {
+        super.initialize();
+
+        entries = null;
+        entriesDone = false;
+        position = 0;
+        markedPosition = -1;
+        prefetchedPosition = 0;
+    }
+
+
+    @Override
+    public void cleanUp() {
+        entries = null;
+    }
+
+
+    @Override
+    protected void advanceCurrentTuple() throws IOException {
+        currentTuple = null;
+        while (currentTuple == null) {
+            if ((entries == null || position >= entries.size()) && !readNextBatch())
+                break;
+
+            if (!indexOnly && position >= prefetchedPosition && !entriesSortedByPage())
+                prefetchHeapPages();
+
+            Object entry = entries.get(position++);
+            if (indexOnly) {
+                currentTuple = (Tuple) entry;
+            } else {
+                TableManager tableManager = tblFileInfo.getTableManager();
+                try {
+                    currentTuple = tableManager.getTuple(tblFileInfo, (FilePointer) entry);
+                } catch (InvalidFilePointerException e) {
+                    // 读取索引之后tuple已被删除
+                    logger.debug("Skipping deleted tuple " + entry);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * 由子类读出下一批记录。有标记时保留标记之后的记录，新的记录接在后面。
+     *
+     * @return 没有更多的记录时返回false
+     */
+    private boolean readNextBatch() throws IOException {
+        if (entriesDone)
+            return false;
+
+        List<Object> next = readNextEntries(entries == null);
+        if (next == null || next.isEmpty()) {
+            entriesDone = true;
+            return false;
+        }
+
+        if (entries != null && markedPosition >= 0) {
+            List<Object> kept = new ArrayList<Object>(entries.subList(markedPosition, entries.size()));
+            kept.addAll(next);
+            position -= markedPosition;
+            markedPosition = 0;
+            entries = kept;
+        } else {
+            entries = next;
+            position = 0;
+        }
+        prefetchedPosition = position;
+        return true;
+    }
+
+
+    /**
+     * 把从当前位置开始的一批记录所在的数据页按页号顺序读入缓冲区，不保持pin。
+     * 这里只读页面，tuple仍然在输出时读取，扫描期间的修改可以看到。
+     */
+    private void prefetchHeapPages() throws IOException {
+        int end = Math.min(entries.size(), position + HEAP_PREFETCH_BATCH);
+        TreeSet<Integer> pageNos = new TreeSet<Integer>();
+        for (int i = position; i < end; i++)
+            pageNos.add(((FilePointer) entries.get(i)).getPageNo());
+
+        StorageManager storageManager = StorageManager.getInstance();
+        DBFile dbFile = tblFileInfo.getDBFile();
+        for (int pageNo : pageNos) {
+            // 页面可能已经随着删除而被截掉
+            if (pageNo < dbFile.getNumPages())
+                storageManager.unpinDBPage(storageManager.loadDBPage(dbFile, pageNo));
+        }
+        prefetchedPosition = end;
+    }
+
+
+    @Override
+    public void markCurrentPosition() {
+        if (currentTuple == null)
+            throw new IllegalStateException("There is no current tuple!");
+
+        markedPosition = position - 1;
+    }
+
+
+    @Override
+    public void resetToLastMark() {
+        if (markedPosition < 0)
+            throw new IllegalStateException("There is no last-marked tuple!");
+
+        // 下一次推进时重新读取标记的tuple
+        position = markedPosition;
+    }
 }
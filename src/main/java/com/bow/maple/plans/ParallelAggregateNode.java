@@ -0,0 +1,282 @@
+package com.bow.maple.plans;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import com.bow.maple.expressions.ColumnValue;
+import com.bow.maple.expressions.Environment;
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.functions.AggregateFunction;
+import com.bow.maple.qeval.ColumnStats;
+import com.bow.maple.qeval.PlanCost;
+import com.bow.maple.qeval.WorkerPool;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.Schema;
+import com.bow.maple.relations.SchemaNameException;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.relations.TupleBatch;
+
+/**
+ * 不带GROUP BY的全表聚合的并行实现。<br/>
+ * 每个分支在工作线程中按批执行，用{@link AggregateFunction#newInstance()}得到的
+ * 实例计算部分聚合结果；参数是单个列时直接调用
+ * {@link AggregateFunction#addBatch}在列向量上计算，参数是常量(例如
+ * <tt>COUNT(*)</tt>)时只计算一次。所有分支结束后在调用线程中
+ * 用{@link AggregateFunction#combine}合并，输出一个tuple。
+ */
+public class ParallelAggregateNode extends PlanNode {
+
+    private List<PlanNode> branches;
+
+    /** 聚合函数的原型，每次执行时通过newInstance()创建实例 */
+    private List<AggregateFunction> functions;
+
+    /** 每个聚合函数的参数，在分支的schema上计算 */
+    private List<Expression> arguments;
+
+    private List<ColumnInfo> resultColumns;
+
+    private boolean done;
+
+    /**
+     * @param branches 并行执行的分支，分支之间不能共享plan node
+     * @param functions 聚合函数，须支持{@link AggregateFunction#combine}
+     * @param arguments 每个聚合函数的参数
+     * @param resultColumns 每个聚合结果在输出schema中的列
+     */
+    public ParallelAggregateNode(List<PlanNode> branches, List<AggregateFunction> functions,
+            List<Expression> arguments, List<ColumnInfo> resultColumns) {
+        super(OperationType.GROUP_AGGREGATE);
+
+        if (branches == null || branches.isEmpty())
+            throw new IllegalArgumentException("branches cannot be null or empty");
+
+        if (functions.size() != arguments.size() || functions.size() != resultColumns.size())
+            throw new IllegalArgumentException("functions, arguments and resultColumns must have the same size");
+
+        this.branches = new ArrayList<PlanNode>(branches);
+        this.functions = new ArrayList<AggregateFunction>(functions);
+        this.arguments = new ArrayList<Expression>(arguments);
+        this.resultColumns = new ArrayList<ColumnInfo>(resultColumns);
+    }
+
+    public List<PlanNode> getBranches() {
+        return branches;
+    }
+
+    @Override
+    public void prepare() {
+        float maxCpuCost = 0;
+        float numInputTuples = 0;
+        long numBlockIOs = 0;
+        for (PlanNode branch : branches) {
+            branch.prepare();
+            PlanCost branchCost = branch.getCost();
+            numInputTuples += branchCost.numTuples;
+            maxCpuCost = Math.max(maxCpuCost, branchCost.cpuCost);
+            numBlockIOs += branchCost.numBlockIOs;
+        }
+
+        schema = new Schema();
+        stats = new ArrayList<ColumnStats>();
+        for (ColumnInfo colInfo : resultColumns) {
+            schema.addColumnInfo(colInfo);
+            stats.add(new ColumnStats());
+        }
+
+        // 每个分支的输入在各自线程中聚合，合并的开销只与分支数有关
+        cost = new PlanCost(1, resultColumns.size() * 8,
+            maxCpuCost + numInputTuples / branches.size() + branches.size(), numBlockIOs);
+    }
+
+    @Override
+    public void initialize() {
+        super.initialize();
+        done = false;
+    }
+
+    @Override
+    public Tuple getNextTuple() throws IllegalStateException, IOException {
+        if (done)
+            return null;
+        done = true;
+
+        List<Future<List<AggregateFunction>>> futures = new ArrayList<Future<List<AggregateFunction>>>();
+        for (PlanNode branch : branches)
+            futures.add(WorkerPool.submit(new PartialAggregator(branch)));
+
+        List<AggregateFunction> results = newInstances();
+        Throwable error = null;
+        for (Future<List<AggregateFunction>> future : futures) {
+            try {
+                List<AggregateFunction> partials = future.get();
+                if (error == null) {
+                    for (int i = 0; i < results.size(); i++)
+                        results.get(i).combine(partials.get(i));
+                }
+            } catch (ExecutionException e) {
+                if (error == null)
+                    error = e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for partial aggregates", e);
+            }
+        }
+
+        if (error != null)
+            ExchangeQueue.rethrow(error);
+
+        LiteralTuple tuple = new LiteralTuple(results.size());
+        for (int i = 0; i < results.size(); i++)
+            tuple.setColumnValue(i, results.get(i).getResult());
+        return tuple;
+    }
+
+    private List<AggregateFunction> newInstances() {
+        List<AggregateFunction> instances = new ArrayList<AggregateFunction>(functions.size());
+        for (AggregateFunction fn : functions)
+            instances.add(fn.newInstance());
+        return instances;
+    }
+
+    @Override
+    public void cleanUp() {
+        // 工作线程在返回部分结果前已经清理了各自的分支
+    }
+
+    /**
+     * 在工作线程中对一个分支计算部分聚合结果
+     */
+    private class PartialAggregator implements Callable<List<AggregateFunction>> {
+
+        private PlanNode branch;
+
+        PartialAggregator(PlanNode branch) {
+            this.branch = branch;
+        }
+
+        @Override
+        public List<AggregateFunction> call() throws Exception {
+            List<AggregateFunction> partials = newInstances();
+            Schema branchSchema = branch.getSchema();
+
+            // 参数是单个列时记下列序号，直接在列向量上聚合
+            int[] argColumns = new int[arguments.size()];
+            for (int i = 0; i < argColumns.length; i++) {
+                argColumns[i] = -1;
+                Expression arg = arguments.get(i);
+                if (arg instanceof ColumnValue) {
+                    try {
+                        argColumns[i] = branchSchema.getColumnIndex(((ColumnValue) arg).getColumnName());
+                    } catch (SchemaNameException e) {
+                        // 按表达式计算
+                    }
+                }
+            }
+
+            // 不引用任何列的参数在每一行上的值都相同
+            Object[] constants = new Object[arguments.size()];
+            boolean[] isConstant = new boolean[arguments.size()];
+            for (int i = 0; i < constants.length; i++) {
+                if (argColumns[i] < 0 && !arguments.get(i).hasSymbols()) {
+                    isConstant[i] = true;
+                    constants[i] = arguments.get(i).evaluate();
+                }
+            }
+
+            Environment env = new Environment();
+            branch.initialize();
+            try {
+                TupleBatch batch;
+                while ((batch = branch.getNextBatch()) != null) {
+                    int[] sel = batch.getSelection();
+                    int n = batch.getNumSelected();
+                    for (int i = 0; i < argColumns.length; i++) {
+                        AggregateFunction fn = partials.get(i);
+                        if (argColumns[i] >= 0) {
+                            fn.addBatch(batch.getColumn(argColumns[i]), sel, n);
+                        } else if (isConstant[i]) {
+                            for (int j = 0; j < n; j++)
+                                fn.addValue(constants[i]);
+                        } else {
+                            Expression arg = arguments.get(i);
+                            for (int j = 0; j < n; j++) {
+                                env.clear();
+                                env.addTuple(branchSchema, batch.getRowView(sel[j]));
+                                fn.addValue(arg.evaluate(env));
+                            }
+                        }
+                    }
+                }
+            } finally {
+                branch.cleanUp();
+            }
+
+            return partials;
+        }
+    }
+
+    @Override
+    public void printNodeTree(PrintStream out, boolean includeCosts, String indent) {
+        super.printNodeTree(out, includeCosts, indent);
+        for (PlanNode branch : branches)
+            branch.printNodeTree(out, includeCosts, indent + "    ");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder();
+        buf.append("ParallelAggregate[");
+        for (int i = 0; i < functions.size(); i++) {
+            if (i > 0)
+                buf.append(", ");
+            buf.append(functions.get(i).getClass().getSimpleName());
+            buf.append('(').append(arguments.get(i)).append(')');
+        }
+        buf.append(", branches:  ").append(branches.size()).append("]");
+        return buf.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof ParallelAggregateNode) {
+            ParallelAggregateNode other = (ParallelAggregateNode) obj;
+            return branches.equals(other.branches) && arguments.equals(other.arguments) &&
+                resultColumns.equals(other.resultColumns);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 17;
+        hash = 31 * hash + branches.hashCode();
+        hash = 31 * hash + arguments.hashCode();
+        hash = 31 * hash + resultColumns.hashCode();
+        return hash;
+    }
+
+    @Override
+    protected PlanNode clone() throws CloneNotSupportedException {
+        ParallelAggregateNode node = (ParallelAggregateNode) super.clone();
+
+        node.branches = new ArrayList<PlanNode>(branches.size());
+        for (PlanNode branch : branches)
+            node.branches.add(branch.duplicate());
+
+        node.arguments = new ArrayList<Expression>(arguments.size());
+        for (Expression arg : arguments)
+            node.arguments.add(arg.duplicate());
+
+        // 聚合函数只作为原型使用，执行时总是创建新实例，可以共享
+        node.functions = new ArrayList<AggregateFunction>(functions);
+        node.resultColumns = new ArrayList<ColumnInfo>(resultColumns);
+        return node;
+    }
+}
@@ -11,6 +11,7 @@ import com.bow.maple.qeval.ColumnStats;
 import com.bow.maple.qeval.PlanCost;
 import com.bow.maple.relations.Schema;
 import com.bow.maple.relations.Tuple;
+import com.bow.maple.relations.TupleBatch;
 
 /**
  * Represents a query plan node in its most abstract form. To create actual plan
@@ -52,7 +53,12 @@ public abstract class PlanNode implements Cloneable {
         /**
          * A materialize plan-node.
          */
-        MATERIALIZE
+        MATERIALIZE,
+
+        /**
+         * 在工作线程之间传递tuple的exchange节点，用于并行执行。
+         */
+        EXCHANGE
     }
 
     /** The type of this plan node. */
@@ -102,6 +108,11 @@ public abstract class PlanNode implements Cloneable {
      */
     protected Environment environment;
 
+    /**
+     * 批量执行时复用的batch，由{@link #getNextBatch()}在第一次调用时分配
+     */
+    protected TupleBatch batch;
+
     /**
      * Constructs a PlanNode with a given operation type. This method will be
      * called by subclass constructors.
@@ -233,7 +244,33 @@ public abstract class PlanNode implements Cloneable {
      */
     public abstract Tuple getNextTuple() throws IllegalStateException, IOException;
 
+    /**
+     * 批量获取下一批结果。默认实现是行适配器：反复调用{@link #getNextTuple()}
+     * 填满一个batch，因此所有plan node都可以参与批量执行；能够直接按批处理的
+     * 节点应覆盖此方法。<br/>
+     * 返回的batch由本节点复用，在下一次调用之前有效。同一次执行中不要混用
+     * {@link #getNextTuple()}和此方法。
+     *
+     * @return 至少含一个有效行的batch，没有更多数据时返回<tt>null</tt>
+     *
+     * @throws IOException if table data cannot be read from the filesystem
+     * @throws IllegalStateException if a plan node is not properly initialized
+     */
+    public TupleBatch getNextBatch() throws IllegalStateException, IOException {
+        if (batch == null)
+            batch = new TupleBatch(schema);
+
+        batch.reset();
+        while (!batch.isFull()) {
+            Tuple tuple = getNextTuple();
+            if (tuple == null)
+                break;
+
+            batch.addTuple(tuple);
+        }
 
+        return batch.getNumSelected() > 0 ? batch : null;
+    }
 
     /**
      * Perform any necessary clean up tasks. This should probably be called when
@@ -379,6 +416,7 @@ public abstract class PlanNode implements Cloneable {
 
         // Environment is used for execution.
         node.environment = null;
+        node.batch = null;
 
         // Copy the children if applicable.
         if (this.leftChild != null)
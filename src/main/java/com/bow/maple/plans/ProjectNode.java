@@ -8,13 +8,17 @@ import java.util.SortedMap;
 
 import com.bow.maple.commands.SelectValue;
 import com.bow.maple.expressions.ColumnName;
+import com.bow.maple.expressions.CompiledExpression;
 import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.ExpressionCompiler;
 import com.bow.maple.expressions.LiteralTuple;
 import com.bow.maple.qeval.ColumnStats;
 import com.bow.maple.qeval.PlanCost;
 import com.bow.maple.relations.ColumnInfo;
 import com.bow.maple.relations.Schema;
+import com.bow.maple.relations.ColumnVector;
 import com.bow.maple.relations.Tuple;
+import com.bow.maple.relations.TupleBatch;
 import org.apache.log4j.Logger;
 
 import com.bow.maple.expressions.ColumnValue;
@@ -51,6 +55,24 @@ public class ProjectNode extends PlanNode {
     /** True if we have finished pulling tuples from children. */
     private boolean done;
 
+    /**
+     * 投影只包含通配符和列引用时，记录每个输出列对应的输入列下标，批量执行时
+     * 可直接复用子节点的列向量；含有其他表达式时为<tt>null</tt>。
+     */
+    private int[] inputColumnIndexes;
+
+    /** 与{@link #batch}共享列向量的子节点batch */
+    private TupleBatch sharedChildBatch;
+
+    /**
+     * 与{@link #projectionSpec}一一对应的编译后表达式，通配符或不支持编译的表达式
+     * 对应位置为<tt>null</tt>
+     */
+    private CompiledExpression[] compiledExprs;
+
+    /** 是否所有表达式都已编译，此时投影时不需要设置environment */
+    private boolean allCompiled;
+
     /**
      * Constructs a ProjectNode that pulls tuples from a child node.
      *
@@ -164,6 +186,41 @@ public class ProjectNode extends PlanNode {
                 throw new UnsupportedOperationException("Scalar subquery support is currently incomplete.");
             }
         }
+
+        inputColumnIndexes = computeInputColumnIndexes();
+
+        // schema可能已改变，在initialize时重新编译
+        compiledExprs = null;
+    }
+
+    /**
+     * 若每个输出列都直接来自某个输入列，返回输出列到输入列的映射
+     *
+     * @return 映射数组，不能直接映射时返回<tt>null</tt>
+     */
+    private int[] computeInputColumnIndexes() {
+        ArrayList<Integer> indexes = new ArrayList<Integer>();
+        for (SelectValue selVal : projectionSpec) {
+            if (selVal.isWildcard()) {
+                ColumnName wildcard = selVal.getWildcard();
+                if (wildcard.isTableSpecified()) {
+                    indexes.addAll(inputSchema.findColumns(wildcard).keySet());
+                } else {
+                    for (int i = 0; i < inputSchema.numColumns(); i++)
+                        indexes.add(i);
+                }
+            } else if (selVal.isExpression() && selVal.getExpression() instanceof ColumnValue) {
+                ColumnValue colValue = (ColumnValue) selVal.getExpression();
+                indexes.add(inputSchema.getColumnIndex(colValue.getColumnName()));
+            } else {
+                return null;
+            }
+        }
+
+        int[] result = new int[indexes.size()];
+        for (int i = 0; i < result.length; i++)
+            result[i] = indexes.get(i);
+        return result;
     }
 
     /**
@@ -195,6 +252,53 @@ public class ProjectNode extends PlanNode {
         return projectTuple(currentTuple);
     }
 
+    /**
+     * 批量投影。
+     * <ul>
+     * <li>平凡投影直接返回子节点的batch。</li>
+     * <li>只含通配符和列引用时，输出batch复用子节点的列向量，只复制选择向量。</li>
+     * <li>其余情况对每个有效行计算表达式，写入本节点的batch。</li>
+     * </ul>
+     */
+    @Override
+    public TupleBatch getNextBatch() throws IllegalStateException, IOException {
+        if (done)
+            return null;
+
+        TupleBatch childBatch = leftChild.getNextBatch();
+        if (childBatch == null) {
+            done = true;
+            return null;
+        }
+
+        if (isTrivial())
+            return childBatch;
+
+        if (inputColumnIndexes != null) {
+            if (batch == null || sharedChildBatch != childBatch) {
+                ColumnVector[] columns = new ColumnVector[inputColumnIndexes.length];
+                for (int i = 0; i < columns.length; i++)
+                    columns[i] = childBatch.getColumn(inputColumnIndexes[i]);
+
+                batch = new TupleBatch(schema, columns, childBatch.getCapacity());
+                sharedChildBatch = childBatch;
+            }
+
+            batch.copyRowsFrom(childBatch);
+            return batch;
+        }
+
+        if (batch == null || batch.getCapacity() < childBatch.getCapacity())
+            batch = new TupleBatch(schema, childBatch.getCapacity());
+
+        batch.reset();
+        int[] sel = childBatch.getSelection();
+        for (int i = 0; i < childBatch.getNumSelected(); i++)
+            batch.addTuple(projectTuple(childBatch.getRowView(sel[i])));
+
+        return batch;
+    }
+
     /**
      * Helper function that advances the current tuple reference in the node.
      *
@@ -222,8 +326,10 @@ public class ProjectNode extends PlanNode {
 
         // The projection is *not* trivial, so we need to do some evaluatin'.
 
-        environment.clear();
-        environment.addTuple(inputSchema, tuple);
+        if (!allCompiled) {
+            environment.clear();
+            environment.addTuple(inputSchema, tuple);
+        }
 
         // Create an empty tuple to add values to.
         LiteralTuple newTuple = new LiteralTuple();
@@ -232,7 +338,8 @@ public class ProjectNode extends PlanNode {
 
         Iterator<ColumnInfo> iterNonWildcardCols = nonWildcardColumnInfos.iterator();
 
-        for (SelectValue selVal : projectionSpec) {
+        for (int iSel = 0; iSel < projectionSpec.size(); iSel++) {
+            SelectValue selVal = projectionSpec.get(iSel);
             if (selVal.isWildcard()) {
                 // This value is a wildcard. Find the columns that match the
                 // wildcard, then add their values one by one.
@@ -260,10 +367,16 @@ public class ProjectNode extends PlanNode {
 
                 // Get the result of the projection for this value.
 
-                Object result = expr.evaluate(environment);
+                Object result;
+                if (compiledExprs[iSel] != null)
+                    result = compiledExprs[iSel].evaluate(tuple);
+                else
+                    result = expr.evaluate(environment);
                 ColumnInfo colInfo = iterNonWildcardCols.next();
 
-                logger.debug(String.format("Expression:  %s \tColInfo:  %s\tAlias:  %s", expr, colInfo, alias));
+                if (logger.isDebugEnabled()) {
+                    logger.debug(String.format("Expression:  %s \tColInfo:  %s\tAlias:  %s", expr, colInfo, alias));
+                }
 
                 // Add the result to the tuple.
 
@@ -292,10 +405,30 @@ public class ProjectNode extends PlanNode {
 
         done = false;
         currentTuple = null;
+        sharedChildBatch = null;
+
+        if (compiledExprs == null)
+            compileExpressions();
 
         leftChild.initialize();
     }
 
+    /**
+     * 编译投影中的表达式，不支持编译的表达式仍解释执行
+     */
+    private void compileExpressions() {
+        compiledExprs = new CompiledExpression[projectionSpec.size()];
+        allCompiled = true;
+        for (int i = 0; i < compiledExprs.length; i++) {
+            SelectValue selVal = projectionSpec.get(i);
+            if (selVal.isExpression()) {
+                compiledExprs[i] = ExpressionCompiler.compile(selVal.getExpression(), inputSchema);
+                if (compiledExprs[i] == null)
+                    allCompiled = false;
+            }
+        }
+    }
+
     @Override
     public void cleanUp() {
         leftChild.cleanUp();
@@ -374,6 +507,8 @@ public class ProjectNode extends PlanNode {
             newList.add(newSel);
         }
         node.projectionSpec = newList;
+        node.sharedChildBatch = null;
+        node.compiledExprs = null;
 
         return node;
     }
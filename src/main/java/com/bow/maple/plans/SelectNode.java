@@ -2,8 +2,12 @@ package com.bow.maple.plans;
 
 import java.io.IOException;
 
+import com.bow.maple.expressions.BatchEvaluator;
+import com.bow.maple.expressions.CompiledExpression;
 import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.ExpressionCompiler;
 import com.bow.maple.relations.Tuple;
+import com.bow.maple.relations.TupleBatch;
 
 /**
  * PlanNode representing the <tt>WHERE</tt> clause in a <tt>SELECT</tt>
@@ -26,6 +30,16 @@ public abstract class SelectNode extends PlanNode {
      */
     private boolean done;
 
+    /**
+     * 编译后的谓词，谓词不支持编译时为<tt>null</tt>，此时使用解释执行
+     */
+    private CompiledExpression compiledPredicate;
+
+    /**
+     * {@link #compiledPredicate}对应的谓词，谓词被替换后需要重新编译
+     */
+    private Expression compiledSource;
+
     /**
      * Constructs a SelectNode that scans a file for tuples.
      *
@@ -47,6 +61,11 @@ public abstract class SelectNode extends PlanNode {
 
         done = false;
         currentTuple = null;
+
+        if (predicate != compiledSource) {
+            compiledPredicate = ExpressionCompiler.compile(predicate, schema);
+            compiledSource = predicate;
+        }
     }
 
     /**
@@ -78,11 +97,56 @@ public abstract class SelectNode extends PlanNode {
         return currentTuple;
     }
 
+    /**
+     * 批量版本：先通过{@link #advanceCurrentTuple()}把一批tuple读入列向量，再用
+     * {@link BatchEvaluator}一次性过滤整批数据，不再为每行设置environment。
+     * 整批都被过滤掉时继续读取下一批。
+     */
+    @Override
+    public TupleBatch getNextBatch() throws IllegalStateException, IOException {
+        if (batch == null)
+            batch = new TupleBatch(schema);
+
+        while (!done) {
+            batch.reset();
+            fillBatch(batch);
+
+            if (predicate != null)
+                BatchEvaluator.filter(predicate, schema, batch, environment);
+
+            if (batch.getNumSelected() > 0)
+                return batch;
+        }
+
+        return null;
+    }
+
+    /**
+     * 读取tuple直到batch填满或者数据读完，子类可覆盖以直接按批读取
+     *
+     * @param batch 待填充的batch
+     */
+    protected void fillBatch(TupleBatch batch) throws IllegalStateException, IOException {
+        while (!batch.isFull()) {
+            advanceCurrentTuple();
+            if (currentTuple == null) {
+                done = true;
+                return;
+            }
+
+            batch.addTuple(currentTuple);
+        }
+    }
+
     private boolean isTupleSelected(Tuple tuple) {
         // 谓词为null，则所有tuple都满足
         if (predicate == null) {
             return true;
         }
+
+        if (compiledPredicate != null && predicate == compiledSource)
+            return compiledPredicate.evaluatePredicate(tuple);
+
         // Set up the environment and then evaluate the predicate!
         environment.clear();
         environment.addTuple(schema, tuple);
@@ -112,6 +176,10 @@ public abstract class SelectNode extends PlanNode {
         else
             node.predicate = null;
 
+        // 编译结果带有计算状态，不共享
+        node.compiledPredicate = null;
+        node.compiledSource = null;
+
         return node;
     }
 }
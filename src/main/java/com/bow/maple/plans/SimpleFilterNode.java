@@ -3,10 +3,12 @@ package com.bow.maple.plans;
 import java.io.IOException;
 import java.util.ArrayList;
 
+import com.bow.maple.expressions.BatchEvaluator;
 import com.bow.maple.expressions.Expression;
 import com.bow.maple.qeval.ColumnStats;
 import com.bow.maple.qeval.PlanCost;
 import com.bow.maple.qeval.SelectivityEstimator;
+import com.bow.maple.relations.TupleBatch;
 
 /**
  * 通过{@link SelectNode#getNextTuple()}进行过滤<br/>
@@ -72,6 +74,24 @@ public class SimpleFilterNode extends SelectNode {
         currentTuple = leftChild.getNextTuple();
     }
 
+    /**
+     * 直接在子节点返回的batch上收缩选择向量，不复制数据
+     */
+    @Override
+    public TupleBatch getNextBatch() throws IllegalStateException, IOException {
+        while (true) {
+            TupleBatch childBatch = leftChild.getNextBatch();
+            if (childBatch == null)
+                return null;
+
+            if (predicate != null)
+                BatchEvaluator.filter(predicate, schema, childBatch, environment);
+
+            if (childBatch.getNumSelected() > 0)
+                return childBatch;
+        }
+    }
+
     /**
      * Returns true if the passed-in object is a <tt>SimpleFilterNode</tt> with
      * the same predicate and child sub-expression.
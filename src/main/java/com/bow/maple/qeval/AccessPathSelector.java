@@ -0,0 +1,567 @@
+package com.bow.maple.qeval;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.bow.lab.indexes.IndexFileInfo;
+import com.bow.maple.expressions.BooleanOperator;
+import com.bow.maple.expressions.ColumnName;
+import com.bow.maple.expressions.ColumnValue;
+import com.bow.maple.expressions.CompareOperator;
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.expressions.LiteralValue;
+import com.bow.maple.expressions.OrderByExpression;
+import com.bow.maple.plans.BTreeIndexScanNode;
+import com.bow.maple.plans.CSScanNode;
+import com.bow.maple.plans.HashIndexScanNode;
+import com.bow.maple.plans.IndexScanNode;
+import com.bow.maple.plans.FileScanNode;
+import com.bow.maple.plans.SelectNode;
+import com.bow.maple.relations.ColumnIndexes;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.relations.TableSchema;
+import com.bow.maple.storage.DBFileType;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.storage.btreeindex.BTreeIndexManager;
+import com.bow.maple.storage.hashindex.HashIndexManager;
+import org.apache.log4j.Logger;
+
+/**
+ * 为单表上的选择操作选择访问路径：全表扫描，或者表上某个B<sup>+</sup>树索引的
+ * 等值/范围扫描。<br/>
+ * 能用于索引的条件是<tt>列 op 常量</tt>形式的比较(op不是!=)。对每个索引，从第一
+ * 列开始依次匹配等值条件，第一个没有等值条件的列上可以再使用一个范围条件，由此
+ * 得到key前缀的上下界。哈希索引只有在所有列都有等值条件时才能使用。各候选计划的代价由{@link SelectivityEstimator}和表、
+ * 索引的统计信息估算，取最便宜的一个。
+ */
+public class AccessPathSelector {
+
+    private static Logger logger = Logger.getLogger(AccessPathSelector.class);
+
+    /** 比较代价时，一次页面读取相当于处理多少个tuple */
+    private static final float IO_COST_WEIGHT = 10;
+
+    private AccessPathSelector() {
+        throw new IllegalArgumentException("This class should not be instantiated.");
+    }
+
+    /**
+     * 为表选择访问路径
+     *
+     * @param tblFileInfo 要扫描的表
+     * @param conjuncts 作用在这张表上的AND条件，列名可以用表的别名限定，按列名匹配
+     * @param predicate 放在扫描节点上的谓词，必须能在表的schema上计算；为
+     *        <tt>null</tt>时调用者负责在扫描之上过滤
+     * @param referencedColumns 查询用到的所有列名，为<tt>null</tt>表示需要所有列，
+     *        此时不会只扫描索引；列式存储的表只读取这些列
+     * @return 扫描节点，已经prepare
+     * @throws IOException 打开索引文件出错
+     */
+    public static SelectNode chooseAccessPath(TableFileInfo tblFileInfo, Collection<Expression> conjuncts,
+            Expression predicate, Set<String> referencedColumns) throws IOException {
+
+        // 列式存储的表没有索引，只读取用到的列，谓词在编码后的数据上求值
+        if (tblFileInfo.getFileType() == DBFileType.CS_DATA_FILE) {
+            CSScanNode csScan = new CSScanNode(tblFileInfo, predicate, referencedColumns);
+            csScan.prepare();
+            return csScan;
+        }
+
+        FileScanNode fileScan = new FileScanNode(tblFileInfo, predicate);
+        fileScan.prepare();
+
+        TableSchema schema = tblFileInfo.getSchema();
+        if (tblFileInfo.getFileType() != DBFileType.HEAP_DATA_FILE || schema.getIndexes().isEmpty() ||
+            conjuncts == null || conjuncts.isEmpty()) {
+            return fileScan;
+        }
+
+        // 没有统计信息时无法比较代价，只要能做等值查找就使用索引
+        TableStats tableStats = tblFileInfo.getStats();
+        boolean haveStats = tableStats.numDataPages > 0;
+
+        SelectNode best = fileScan;
+        float bestCost = haveStats ? totalCost(fileScan.getCost()) : Float.MAX_VALUE;
+        int bestEqualities = 0;
+
+        for (Map.Entry<String, ColumnIndexes> entry : schema.getIndexes().entrySet()) {
+            ColumnIndexes colIndexes = entry.getValue();
+            KeyRange range = matchIndex(schema, colIndexes, conjuncts);
+            if (range == null)
+                continue;
+
+            IndexFileInfo idxFileInfo = StorageManager.getInstance().openIndex(tblFileInfo, entry.getKey());
+            IndexScanNode indexScan;
+            if (idxFileInfo.getIndexManager() instanceof BTreeIndexManager) {
+                BTreeIndexScanNode btreeScan = new BTreeIndexScanNode(tblFileInfo, idxFileInfo,
+                    range.makeKeyPredicate(), predicate);
+                range.applyTo(btreeScan);
+                indexScan = btreeScan;
+            } else if (idxFileInfo.getIndexManager() instanceof HashIndexManager) {
+                // 哈希索引只能查找完整的key
+                if (range.numEqualities != colIndexes.size())
+                    continue;
+
+                HashIndexScanNode hashScan = new HashIndexScanNode(tblFileInfo, idxFileInfo,
+                    range.makeKeyPredicate(), predicate);
+                hashScan.setSearchKey(range.makeBound(null));
+                indexScan = hashScan;
+            } else {
+                continue;
+            }
+            indexScan.setIndexOnly(coversColumns(schema, colIndexes, referencedColumns));
+            indexScan.prepare();
+
+            if (haveStats) {
+                float cost = totalCost(indexScan.getCost());
+                if (cost < bestCost) {
+                    best = indexScan;
+                    bestCost = cost;
+                }
+            } else if (range.numEqualities > bestEqualities ||
+                (range.numEqualities == bestEqualities && indexScan.isUniqueLookup())) {
+                best = indexScan;
+                bestEqualities = range.numEqualities;
+            }
+        }
+
+        logger.debug("Chose access path " + best + " for table " + tblFileInfo.getTableName());
+        return best;
+    }
+
+    /**
+     * 为<tt>UPDATE</tt>和<tt>DELETE</tt>选择访问路径，扫描返回的tuple必须能交给
+     * 表管理器修改。{@link CSScanNode}输出的是解码后的副本，列式存储的表因此
+     * 使用{@link FileScanNode}，由表管理器返回delta或基本数据中的行。
+     *
+     * @param tblFileInfo 要修改的表
+     * @param predicate 选择要修改的行的谓词，可以为<tt>null</tt>
+     * @return 扫描节点，已经prepare
+     * @throws IOException 打开索引文件出错
+     */
+    public static SelectNode chooseUpdatePath(TableFileInfo tblFileInfo, Expression predicate)
+            throws IOException {
+        if (tblFileInfo.getFileType() == DBFileType.CS_DATA_FILE) {
+            FileScanNode fileScan = new FileScanNode(tblFileInfo, predicate);
+            fileScan.prepare();
+            return fileScan;
+        }
+        return chooseAccessPath(tblFileInfo, splitConjuncts(predicate), predicate, null);
+    }
+
+    /**
+     * 为索引嵌套循环连接选择内表上用于查找的索引。索引的前若干列都要有等值
+     * 连接条件，这些列组成每次查找的key。
+     *
+     * @param tblFileInfo 内表
+     * @param probeColumns 有等值连接条件的列在表中的序号
+     * @param predicate 放在扫描节点上的谓词，可以为<tt>null</tt>
+     * @param referencedColumns 查询用到的所有列名，为<tt>null</tt>表示需要所有列
+     * @return 参数化的索引扫描，已经prepare；没有可用的索引时返回<tt>null</tt>
+     * @throws IOException 打开索引文件出错
+     */
+    public static IndexScanNode chooseProbeIndex(TableFileInfo tblFileInfo, Set<Integer> probeColumns,
+            Expression predicate, Set<String> referencedColumns) throws IOException {
+
+        TableSchema schema = tblFileInfo.getSchema();
+        if (tblFileInfo.getFileType() != DBFileType.HEAP_DATA_FILE || probeColumns.isEmpty())
+            return null;
+
+        boolean haveStats = tblFileInfo.getStats().numDataPages > 0;
+
+        IndexScanNode best = null;
+        float bestCost = Float.MAX_VALUE;
+        int bestColumns = 0;
+        for (Map.Entry<String, ColumnIndexes> entry : schema.getIndexes().entrySet()) {
+            ColumnIndexes colIndexes = entry.getValue();
+            int numColumns = 0;
+            while (numColumns < colIndexes.size() && probeColumns.contains(colIndexes.getCol(numColumns)))
+                numColumns++;
+            if (numColumns == 0)
+                continue;
+
+            IndexFileInfo idxFileInfo = StorageManager.getInstance().openIndex(tblFileInfo, entry.getKey());
+            IndexScanNode indexScan;
+            if (idxFileInfo.getIndexManager() instanceof BTreeIndexManager) {
+                BTreeIndexScanNode btreeScan = new BTreeIndexScanNode(tblFileInfo, idxFileInfo, null, predicate);
+                btreeScan.setProbeColumns(numColumns);
+                indexScan = btreeScan;
+            } else if (idxFileInfo.getIndexManager() instanceof HashIndexManager &&
+                numColumns == colIndexes.size()) {
+                HashIndexScanNode hashScan = new HashIndexScanNode(tblFileInfo, idxFileInfo, null, predicate);
+                hashScan.setProbe();
+                indexScan = hashScan;
+            } else {
+                continue;
+            }
+            indexScan.setIndexOnly(coversColumns(schema, colIndexes, referencedColumns));
+            indexScan.prepare();
+
+            float cost = totalCost(indexScan.getCost());
+            if (haveStats ? cost < bestCost : (numColumns > bestColumns ||
+                (numColumns == bestColumns && indexScan.isUniqueLookup()))) {
+                best = indexScan;
+                bestCost = cost;
+                bestColumns = numColumns;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * 单表查询有ORDER BY时，尝试由B<sup>+</sup>树索引的顺序满足它，省去排序。
+     * ORDER BY的各项必须是这张表的列，方向相同，并且依次是索引的前几列；
+     * 扫描区间内取值固定的前导列(上下界中相同的部分)可以跳过，例如索引(a, b)上的
+     * <tt>WHERE a = 1 ORDER BY b</tt>。
+     * <p>
+     * <tt>scan</tt>是这样的B<sup>+</sup>树索引扫描时，改为按索引顺序输出；
+     * <tt>scan</tt>是全表扫描时，只考虑覆盖查询所有列的索引，按顺序只扫描索引。
+     * 按索引顺序读取表可能比排序更慢，只有代价不超过原来的扫描加上排序时才
+     * 使用。
+     *
+     * @param tblFileInfo 表
+     * @param scan {@link #chooseAccessPath}选出的扫描节点
+     * @param orderByExprs ORDER BY的各项
+     * @param referencedColumns 查询用到的所有列名，为<tt>null</tt>表示需要所有列
+     * @return 按ORDER BY的顺序输出的扫描节点，已经prepare；不能省去排序时返回
+     *         <tt>null</tt>
+     * @throws IOException 打开索引文件出错
+     */
+    public static SelectNode chooseOrderedAccessPath(TableFileInfo tblFileInfo, SelectNode scan,
+            List<OrderByExpression> orderByExprs, Set<String> referencedColumns) throws IOException {
+
+        TableSchema schema = tblFileInfo.getSchema();
+        if (tblFileInfo.getFileType() != DBFileType.HEAP_DATA_FILE || orderByExprs.isEmpty())
+            return null;
+
+        // ORDER BY中各列在表中的序号
+        boolean ascending = orderByExprs.get(0).isAscending();
+        int[] orderCols = new int[orderByExprs.size()];
+        for (int i = 0; i < orderCols.length; i++) {
+            OrderByExpression orderBy = orderByExprs.get(i);
+            if (orderBy.isAscending() != ascending || !(orderBy.getExpression() instanceof ColumnValue))
+                return null;
+
+            ColumnName colName = ((ColumnValue) orderBy.getExpression()).getColumnName();
+            if (colName.isColumnWildcard())
+                return null;
+            orderCols[i] = schema.getColumnIndex(colName);
+            if (orderCols[i] < 0)
+                return null;
+        }
+
+        // 原来的计划还要再排序
+        PlanCost scanCost = scan.getCost();
+        float sortedCost = Float.MAX_VALUE;
+        if (tblFileInfo.getStats().numDataPages > 0 && scanCost != null) {
+            sortedCost = totalCost(scanCost) +
+                scanCost.numTuples * (float) Math.log(Math.max(1, scanCost.numTuples));
+        }
+
+        BTreeIndexScanNode ordered = null;
+        if (scan instanceof BTreeIndexScanNode) {
+            BTreeIndexScanNode btreeScan = (BTreeIndexScanNode) scan;
+            if (btreeScan.getProbeColumns() == 0 && matchesOrder(
+                btreeScan.idxFileInfo.getTableColumnIndexes(), btreeScan.getNumFixedColumns(), orderCols)) {
+                ordered = (BTreeIndexScanNode) btreeScan.duplicate();
+            }
+        } else if (scan instanceof FileScanNode) {
+            for (Map.Entry<String, ColumnIndexes> entry : schema.getIndexes().entrySet()) {
+                ColumnIndexes colIndexes = entry.getValue();
+                if (!matchesOrder(colIndexes, 0, orderCols) ||
+                    !coversColumns(schema, colIndexes, referencedColumns)) {
+                    continue;
+                }
+
+                IndexFileInfo idxFileInfo = StorageManager.getInstance().openIndex(tblFileInfo, entry.getKey());
+                if (idxFileInfo.getIndexManager() instanceof BTreeIndexManager) {
+                    ordered = new BTreeIndexScanNode(tblFileInfo, idxFileInfo, null, scan.predicate);
+                    ordered.setIndexOnly(true);
+                    break;
+                }
+            }
+        }
+        if (ordered == null)
+            return null;
+
+        ordered.setOrdered(!ascending);
+        ordered.prepare();
+        if (totalCost(ordered.getCost()) > sortedCost)
+            return null;
+
+        logger.debug("Chose ordered access path " + ordered + " for table " + tblFileInfo.getTableName());
+        return ordered;
+    }
+
+    /**
+     * ORDER BY的各列是否依次是索引的列，前<tt>numFixedColumns</tt>列取值固定，
+     * 可以不出现在ORDER BY中
+     */
+    private static boolean matchesOrder(ColumnIndexes colIndexes, int numFixedColumns, int[] orderCols) {
+        int i = 0;
+        for (int col : orderCols) {
+            while (i < numFixedColumns && colIndexes.getCol(i) != col)
+                i++;
+            if (i >= colIndexes.size() || colIndexes.getCol(i) != col)
+                return false;
+            i++;
+        }
+        return true;
+    }
+
+    /**
+     * 用于比较计划的总代价，页面读取按{@link #IO_COST_WEIGHT}折算
+     */
+    static float totalCost(PlanCost cost) {
+        return cost.cpuCost + IO_COST_WEIGHT * cost.numBlockIOs;
+    }
+
+    /**
+     * 查询用到的这张表的列是否都在索引中，包括索引的INCLUDE列
+     */
+    private static boolean coversColumns(TableSchema schema, ColumnIndexes colIndexes,
+            Set<String> referencedColumns) {
+        if (referencedColumns == null)
+            return false;
+
+        for (int i = 0; i < schema.numColumns(); i++) {
+            if (referencedColumns.contains(schema.getColumnInfo(i).getName()) &&
+                !colIndexes.containsColumn(i))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * 把谓词拆成AND的各项
+     *
+     * @param expr 谓词，可以为<tt>null</tt>
+     * @return 各项条件
+     */
+    public static List<Expression> splitConjuncts(Expression expr) {
+        List<Expression> conjuncts = new ArrayList<Expression>();
+        if (expr instanceof BooleanOperator && ((BooleanOperator) expr).getType() == BooleanOperator.Type.AND_EXPR) {
+            BooleanOperator bool = (BooleanOperator) expr;
+            for (int i = 0; i < bool.getNumTerms(); i++)
+                conjuncts.addAll(splitConjuncts(bool.getTerm(i)));
+        } else if (expr != null) {
+            conjuncts.add(expr);
+        }
+        return conjuncts;
+    }
+
+    /**
+     * 一个列上可用于索引的比较条件，列总在左边
+     */
+    private static class ColumnCompare {
+        CompareOperator.Type type;
+
+        Object value;
+
+        ColumnCompare(CompareOperator.Type type, Object value) {
+            this.type = type;
+            this.value = value;
+        }
+    }
+
+    /**
+     * 若条件是表中某列与常量的比较，返回列在表中的序号，并把比较(列在左边)存入
+     * <tt>result</tt>；否则返回-1
+     */
+    private static int matchCompare(TableSchema schema, Expression expr, ColumnCompare[] result) {
+        if (!(expr instanceof CompareOperator))
+            return -1;
+
+        CompareOperator comp = (CompareOperator) expr;
+        CompareOperator.Type type = comp.getType();
+        Expression left = comp.getLeftExpression();
+        Expression right = comp.getRightExpression();
+        if (left instanceof LiteralValue && right instanceof ColumnValue) {
+            Expression tmp = left;
+            left = right;
+            right = tmp;
+            type = flip(type);
+        }
+
+        if (type == CompareOperator.Type.NOT_EQUALS || !(left instanceof ColumnValue) ||
+            !(right instanceof LiteralValue)) {
+            return -1;
+        }
+
+        ColumnName colName = ((ColumnValue) left).getColumnName();
+        if (colName.isColumnWildcard())
+            return -1;
+
+        int colIndex = schema.getColumnIndex(colName.getColumnName());
+        if (colIndex < 0)
+            return -1;
+
+        // 只使用与列类型一致的常量，避免索引中的顺序与比较的语义不同。
+        // 与NULL比较的结果总是未知，不用于索引
+        Object value = right.evaluate();
+        SQLDataType colType = schema.getColumnInfo(colIndex).getType().getBaseType();
+        if (value == null || !(SQLDataType.isNumber(colType) && value instanceof Number) &&
+            !(SQLDataType.isString(colType) && value instanceof String)) {
+            return -1;
+        }
+
+        result[0] = new ColumnCompare(type, value);
+        return colIndex;
+    }
+
+    private static CompareOperator.Type flip(CompareOperator.Type type) {
+        switch (type) {
+            case LESS_THAN:
+                return CompareOperator.Type.GREATER_THAN;
+            case GREATER_THAN:
+                return CompareOperator.Type.LESS_THAN;
+            case LESS_OR_EQUAL:
+                return CompareOperator.Type.GREATER_OR_EQUAL;
+            case GREATER_OR_EQUAL:
+                return CompareOperator.Type.LESS_OR_EQUAL;
+            default:
+                return type;
+        }
+    }
+
+    /**
+     * 从索引的第一列开始匹配条件，得到扫描区间
+     *
+     * @return 扫描区间，索引不可用时返回<tt>null</tt>
+     */
+    private static KeyRange matchIndex(TableSchema schema, ColumnIndexes colIndexes,
+            Collection<Expression> conjuncts) {
+        // 按列收集条件
+        List<List<ColumnCompare>> compares = new ArrayList<List<ColumnCompare>>();
+        for (int i = 0; i < colIndexes.size(); i++)
+            compares.add(new ArrayList<ColumnCompare>());
+
+        ColumnCompare[] match = new ColumnCompare[1];
+        for (Expression conjunct : conjuncts) {
+            int colIndex = matchCompare(schema, conjunct, match);
+            if (colIndex < 0)
+                continue;
+
+            for (int i = 0; i < colIndexes.size(); i++) {
+                if (colIndexes.getCol(i) == colIndex)
+                    compares.get(i).add(match[0]);
+            }
+        }
+
+        KeyRange range = new KeyRange(schema, colIndexes);
+        for (int i = 0; i < colIndexes.size(); i++) {
+            ColumnCompare equality = null;
+            for (ColumnCompare cmp : compares.get(i)) {
+                if (cmp.type == CompareOperator.Type.EQUALS) {
+                    equality = cmp;
+                    break;
+                }
+            }
+
+            if (equality != null) {
+                range.addEquality(equality.value);
+                continue;
+            }
+
+            // 第一个没有等值条件的列上使用范围条件，之后的列不再使用
+            for (ColumnCompare cmp : compares.get(i)) {
+                if (cmp.type == CompareOperator.Type.GREATER_THAN || cmp.type == CompareOperator.Type.GREATER_OR_EQUAL) {
+                    if (range.lowerCompare == null)
+                        range.lowerCompare = cmp;
+                } else if (range.upperCompare == null) {
+                    range.upperCompare = cmp;
+                }
+            }
+            break;
+        }
+
+        if (range.numEqualities == 0 && range.lowerCompare == null && range.upperCompare == null)
+            return null;
+
+        return range;
+    }
+
+    /**
+     * 索引上的扫描区间：前若干列的等值条件，加上下一列上的范围条件
+     */
+    private static class KeyRange {
+        TableSchema schema;
+
+        ColumnIndexes colIndexes;
+
+        List<Object> equalValues = new ArrayList<Object>();
+
+        int numEqualities;
+
+        ColumnCompare lowerCompare;
+
+        ColumnCompare upperCompare;
+
+        KeyRange(TableSchema schema, ColumnIndexes colIndexes) {
+            this.schema = schema;
+            this.colIndexes = colIndexes;
+        }
+
+        void addEquality(Object value) {
+            equalValues.add(value);
+            numEqualities++;
+        }
+
+        void applyTo(BTreeIndexScanNode node) {
+            if (lowerCompare != null) {
+                node.setLowerBound(makeBound(lowerCompare.value),
+                    lowerCompare.type == CompareOperator.Type.GREATER_OR_EQUAL);
+            } else if (numEqualities > 0) {
+                node.setLowerBound(makeBound(null), true);
+            }
+
+            if (upperCompare != null) {
+                node.setUpperBound(makeBound(upperCompare.value),
+                    upperCompare.type == CompareOperator.Type.LESS_OR_EQUAL);
+            } else if (numEqualities > 0) {
+                node.setUpperBound(makeBound(null), true);
+            }
+        }
+
+        /**
+         * 等值部分加上范围条件的值(若有)组成的前缀
+         */
+        LiteralTuple makeBound(Object rangeValue) {
+            LiteralTuple bound = new LiteralTuple();
+            for (Object value : equalValues)
+                bound.addValue(value);
+            if (rangeValue != null)
+                bound.addValue(rangeValue);
+            return bound;
+        }
+
+        /**
+         * 生成上下界的条件，列名用表名限定，用于在表的schema上估算选择率
+         */
+        Expression makeKeyPredicate() {
+            BooleanOperator and = new BooleanOperator(BooleanOperator.Type.AND_EXPR);
+            for (int i = 0; i < numEqualities; i++)
+                and.addTerm(makeCompare(i, CompareOperator.Type.EQUALS, equalValues.get(i)));
+            if (lowerCompare != null)
+                and.addTerm(makeCompare(numEqualities, lowerCompare.type, lowerCompare.value));
+            if (upperCompare != null)
+                and.addTerm(makeCompare(numEqualities, upperCompare.type, upperCompare.value));
+
+            return (and.getNumTerms() == 1) ? and.getTerm(0) : and;
+        }
+
+        private Expression makeCompare(int keyCol, CompareOperator.Type type, Object value) {
+            ColumnInfo colInfo = schema.getColumnInfo(colIndexes.getCol(keyCol));
+            ColumnValue column = new ColumnValue(new ColumnName(colInfo.getTableName(), colInfo.getName()));
+            return new CompareOperator(type, column, new LiteralValue(value));
+        }
+    }
+}
@@ -9,6 +9,7 @@ package com.bow.maple.qeval;
  * <li>the number of <tt>NULL</tt> values in the column</li>
  * <li>the minimum value for the column</li>
  * <li>the maximum value for the column</li>
+ * <li>optionally, an equi-depth histogram of the column's values</li>
  * </ul>
  * The {@link ColumnStatsCollector} class can be used to easily collect these
  * statistics for a particular column of a table.
@@ -34,11 +35,18 @@ public class ColumnStats {
      */
     private Object maxValue;
 
+    /**
+     * 等深直方图的边界，按从小到大的顺序；<tt>n</tt>个边界分出<tt>n-1</tt>个桶，
+     * 每个桶中的行数大致相同。默认NULL，表示没有直方图
+     */
+    private Object[] histogram;
+
     public ColumnStats() {
         numUniqueValues = -1;
         numNullValues = -1;
         minValue = null;
         maxValue = null;
+        histogram = null;
     }
 
     /**
@@ -144,6 +152,40 @@ public class ColumnStats {
         this.maxValue = maxValue;
     }
 
+    /**
+     * Returns the bucket boundaries of the column's equi-depth histogram, or
+     * <tt>null</tt> if the column has no histogram.
+     *
+     * @return the bucket boundaries in ascending order; bucket <tt>i</tt>
+     *         spans from boundary <tt>i</tt> to boundary <tt>i + 1</tt>
+     */
+    public Object[] getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Sets the bucket boundaries of the column's equi-depth histogram.
+     *
+     * @param histogram the bucket boundaries in ascending order, at least two
+     *        of them, or <tt>null</tt> if the column has no histogram
+     */
+    public void setHistogram(Object[] histogram) {
+        if (histogram != null && histogram.length < 2) {
+            throw new IllegalArgumentException("A histogram needs at least two boundaries; got " +
+                histogram.length);
+        }
+        this.histogram = histogram;
+    }
+
+    /**
+     * Returns <tt>true</tt> if this column-stats object has a histogram.
+     *
+     * @return <tt>true</tt> if this column-stats object has a histogram
+     */
+    public boolean hasHistogram() {
+        return histogram != null;
+    }
+
     /**
      * Returns <tt>true</tt> if this column-stats object has both minimum and
      * maximum values.
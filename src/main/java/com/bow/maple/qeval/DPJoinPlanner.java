@@ -13,14 +13,27 @@ import java.util.Set;
 
 import com.bow.maple.commands.SelectValue;
 import com.bow.maple.expressions.ColumnName;
+import com.bow.maple.expressions.ColumnValue;
+import com.bow.maple.expressions.CompareOperator;
 import com.bow.maple.expressions.Expression;
-import com.bow.maple.plans.CSProjectNode;
-import com.bow.maple.plans.FileScanNode;
+import com.bow.maple.expressions.FunctionCall;
+import com.bow.maple.expressions.LiteralValue;
+import com.bow.maple.functions.AggregateFunction;
+import com.bow.maple.functions.FunctionDirectory;
+import com.bow.maple.plans.GatherNode;
+import com.bow.maple.plans.IndexNestedLoopsJoinNode;
+import com.bow.maple.plans.IndexScanNode;
 import com.bow.maple.plans.NestedLoopsJoinNode;
+import com.bow.maple.plans.ParallelAggregateNode;
 import com.bow.maple.plans.SelectNode;
 import com.bow.maple.plans.SortNode;
+import com.bow.maple.relations.ColumnIndexes;
+import com.bow.maple.relations.ColumnInfo;
 import com.bow.maple.relations.JoinType;
+import com.bow.maple.relations.SQLDataType;
 import com.bow.maple.relations.Schema;
+import com.bow.maple.relations.SchemaNameException;
+import com.bow.maple.relations.TableSchema;
 import com.bow.maple.storage.StorageManager;
 import com.bow.maple.storage.TableFileInfo;
 import org.apache.log4j.Logger;
@@ -33,7 +46,6 @@ import com.bow.maple.plans.PlanNode;
 import com.bow.maple.plans.ProjectNode;
 import com.bow.maple.plans.RenameNode;
 import com.bow.maple.plans.SimpleFilterNode;
-import com.bow.maple.storage.DBFileType;
 
 /**
  * This planner implementation uses dynamic programming to devise an optimal
@@ -45,6 +57,12 @@ public class DPJoinPlanner implements Planner {
 
     private static Logger logger = Logger.getLogger(DPJoinPlanner.class);
 
+    /**
+     * 当前查询用到的所有列名，用于判断能否只扫描索引，列式存储的表也只读取
+     * 这些列；为<tt>null</tt>表示查询需要表中所有的列(例如<tt>SELECT *</tt>)
+     */
+    private Set<String> referencedColumns;
+
     /**
      * 一个JoinComponent就是一个连接1个或者多个叶子的query plan。<br/>
      * leaf是基表或者是FROM子句里的subquery。<br/>
@@ -67,6 +85,11 @@ public class DPJoinPlanner implements Planner {
          */
         public Set<Expression> conjunctsUsed;
 
+        /**
+         * 叶子对应的FROM子句，非叶子时为<tt>null</tt>
+         */
+        public FromClause leafClause;
+
         /**
          * 此构造器只是简单的将leaf node包装成一个JoinComponent<br/>
          * 它并不能将多个叶子连接成一个join-plan
@@ -112,27 +135,36 @@ public class DPJoinPlanner implements Planner {
             throw new UnsupportedOperationException("NanoDB doesn't yet support SQL queries without a FROM clause!");
         }
 
-        // If we have a columnstore table, we can create a separate plan for
-        // that.
-        if (fromClause.isBaseTable()) {
-            TableFileInfo tableInfo = StorageManager.getInstance().openTable(fromClause.getTableName());
-
-            if (tableInfo.getFileType() == DBFileType.CS_DATA_FILE) {
-                logger.debug("Jumping to ColumnStore planner.");
-                PlanNode plan = new CSProjectNode(selClause, tableInfo);
-                plan.prepare();
-                return plan;
-            }
-        }
-
         // 将WHERE后的谓词放入whereConjuncts
         HashSet<Expression> whereConjuncts = new HashSet<Expression>();
         addConjuncts(whereConjuncts, selClause.getWhereExpr());
 
-        // 通过谓词下移的方式构造JOIN
-        JoinComponent joinComp = makeJoinPlan(fromClause, whereConjuncts);
+        // 通过谓词下移的方式构造JOIN，FROM中的子查询会递归调用本方法，结束后恢复
+        Set<String> outerColumns = referencedColumns;
+        Set<String> queryColumns = collectReferencedColumns(selClause);
+        referencedColumns = queryColumns;
+        JoinComponent joinComp;
+        try {
+            joinComp = makeJoinPlan(fromClause, whereConjuncts);
+        } finally {
+            referencedColumns = outerColumns;
+        }
         PlanNode plan = joinComp.joinPlan;
 
+        // 单表查询的ORDER BY能由B+树索引的顺序满足时，按索引顺序扫描，不再排序
+        List<OrderByExpression> orderByExprs = selClause.getOrderByExprs();
+        boolean orderedByIndex = false;
+        if (!orderByExprs.isEmpty() && fromClause.isBaseTable() && !fromClause.isRenamed() &&
+            plan instanceof SelectNode && !orderByUsesAliases(selClause)) {
+            TableFileInfo tableInfo = StorageManager.getInstance().openTable(fromClause.getTableName());
+            SelectNode orderedScan = AccessPathSelector.chooseOrderedAccessPath(tableInfo,
+                (SelectNode) plan, orderByExprs, queryColumns);
+            if (orderedScan != null) {
+                plan = orderedScan;
+                orderedByIndex = true;
+            }
+        }
+
         // 找出没有用到的谓词，添加到执行计划中
         HashSet<Expression> unusedConjuncts = new HashSet<Expression>(whereConjuncts);
         unusedConjuncts.removeAll(joinComp.conjunctsUsed);
@@ -141,18 +173,24 @@ public class DPJoinPlanner implements Planner {
             plan = addPredicateToPlan(plan, finalPredicate);
         }
 
-        // TODO: Grouping/aggregation will go somewhere in here.
+        // TODO: GROUP BY还不支持，这里只处理不带GROUP BY的聚合
+        PlanNode aggregate = makeAggregatePlan(plan, selClause);
+        if (aggregate != null) {
+            plan = aggregate;
+        } else {
+            // Depending on the SELECT clause, create a project node at the top of
+            // the tree.
+            if (!selClause.isTrivialProject()) {
+                List<SelectValue> selectValues = selClause.getSelectValues();
+                plan = new ProjectNode(plan, selectValues);
+            }
 
-        // Depending on the SELECT clause, create a project node at the top of
-        // the tree.
-        if (!selClause.isTrivialProject()) {
-            List<SelectValue> selectValues = selClause.getSelectValues();
-            plan = new ProjectNode(plan, selectValues);
+            // 表足够大时按页面区间拆分扫描，过滤和投影在工作线程中执行
+            plan = GatherNode.parallelize(plan, WorkerPool.getParallelism(), WorkerPool.getMinPagesPerWorker());
         }
 
         // Finally, apply any sorting at the end.
-        List<OrderByExpression> orderByExprs = selClause.getOrderByExprs();
-        if (!orderByExprs.isEmpty())
+        if (!orderByExprs.isEmpty() && !orderedByIndex)
             plan = new SortNode(plan, orderByExprs);
 
         plan.prepare();
@@ -160,6 +198,85 @@ public class DPJoinPlanner implements Planner {
         return plan;
     }
 
+    /**
+     * ORDER BY中的列名是否可能指向SELECT中的别名，而不是表中的同名列。此时
+     * 排序按投影之后的值进行，不能由扫描的顺序满足。
+     *
+     * @param selClause 查询
+     * @return ORDER BY中有列名与某个不是该列本身的SELECT项的别名相同时返回true
+     */
+    private boolean orderByUsesAliases(SelectClause selClause) {
+        for (OrderByExpression orderBy : selClause.getOrderByExprs()) {
+            if (!(orderBy.getExpression() instanceof ColumnValue))
+                continue;
+
+            ColumnName colName = ((ColumnValue) orderBy.getExpression()).getColumnName();
+            for (SelectValue selVal : selClause.getSelectValues()) {
+                String alias = selVal.getAlias();
+                if (alias == null || !alias.equals(colName.getColumnName()))
+                    continue;
+
+                if (!selVal.isSimpleColumnValue() || !colName.getColumnName().equals(
+                    ((ColumnValue) selVal.getExpression()).getColumnName().getColumnName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 收集查询中用到的所有列名
+     *
+     * @param selClause 查询
+     * @return 列名集合，查询需要所有列时返回<tt>null</tt>
+     */
+    private Set<String> collectReferencedColumns(SelectClause selClause) {
+        List<Expression> exprs = new ArrayList<Expression>();
+        for (SelectValue selVal : selClause.getSelectValues()) {
+            if (!selVal.isExpression())
+                return null;
+            exprs.add(selVal.getExpression());
+        }
+        exprs.add(selClause.getWhereExpr());
+        exprs.addAll(selClause.getGroupByExprs());
+        exprs.add(selClause.getHavingExpr());
+        for (OrderByExpression orderBy : selClause.getOrderByExprs())
+            exprs.add(orderBy.getExpression());
+        collectJoinExprs(selClause.getFromClause(), exprs);
+
+        ArrayList<ColumnName> symbols = new ArrayList<ColumnName>();
+        try {
+            for (Expression expr : exprs) {
+                if (expr != null)
+                    expr.getAllSymbols(symbols);
+            }
+        } catch (UnsupportedOperationException e) {
+            // 例如带子查询的IN，无法确定用到了哪些列
+            return null;
+        }
+
+        Set<String> columns = new HashSet<String>();
+        for (ColumnName colName : symbols) {
+            // COUNT(*)之类的通配符不需要任何列
+            if (!colName.isColumnWildcard())
+                columns.add(colName.getColumnName());
+        }
+        return columns;
+    }
+
+    /**
+     * 收集FROM子句中所有的连接条件
+     */
+    private void collectJoinExprs(FromClause fromClause, List<Expression> exprs) {
+        if (fromClause == null || !fromClause.isJoinExpr())
+            return;
+
+        exprs.add(fromClause.getPreparedJoinExpr());
+        collectJoinExprs(fromClause.getLeftChild(), exprs);
+        collectJoinExprs(fromClause.getRightChild(), exprs);
+    }
+
     /**
      * 生成一个连接计划
      * 
@@ -292,6 +409,7 @@ public class DPJoinPlanner implements Planner {
             PlanNode leafPlan = makeLeafPlan(leafClause, conjuncts, leafConjuncts);
 
             JoinComponent leaf = new JoinComponent(leafPlan, leafConjuncts);
+            leaf.leafClause = leafClause;
             result.add(leaf);
         }
 
@@ -344,8 +462,10 @@ public class DPJoinPlanner implements Planner {
                     // 构建子查询的执行计划
                     plan = makePlan(fromClause.getSelectClause());
                 } else {
-                    // 基表
-                    plan = makeSimpleSelect(fromClause.getTableName(), null);
+                    // 基表，先按全表扫描得到schema，确定谓词后再选择访问路径。列式存储
+                    // 的表只扫描查询用到的列
+                    TableFileInfo tableInfo = StorageManager.getInstance().openTable(fromClause.getTableName());
+                    plan = AccessPathSelector.chooseAccessPath(tableInfo, null, null, referencedColumns);
                 }
 
                 // 如果有别名
@@ -361,7 +481,18 @@ public class DPJoinPlanner implements Planner {
                 findExprsUsingSchemas(conjuncts, false, leafConjuncts, schema);
                 // 将这些谓词合并成一个
                 Expression leafPredicate = makePredicate(leafConjuncts);
-                if (leafPredicate != null) {
+                if (clauseType == FromClause.ClauseType.BASE_TABLE && leafPredicate != null) {
+                    // 根据谓词选择全表扫描或者索引扫描。有别名时谓词中的列名用的是
+                    // 别名，不能放在扫描节点上，仍在重命名之后过滤
+                    TableFileInfo tableInfo = StorageManager.getInstance().openTable(fromClause.getTableName());
+                    boolean renamed = fromClause.isRenamed();
+                    plan = AccessPathSelector.chooseAccessPath(tableInfo, leafConjuncts,
+                        renamed ? null : leafPredicate, referencedColumns);
+                    if (renamed) {
+                        plan = new RenameNode(plan, fromClause.getResultName());
+                        plan = addPredicateToPlan(plan, leafPredicate);
+                    }
+                } else if (leafPredicate != null) {
                     // 谓词下移
                     plan = addPredicateToPlan(plan, leafPredicate);
                 }
@@ -446,9 +577,13 @@ public class DPJoinPlanner implements Planner {
                         logger.info("Setting current best-plan.");
                         nextJoinPlans.put(leaves, component);
                     } else {
-                        PlanCost bestCost = currentBest.joinPlan.getCost();
-                        // 新的连接cost更小则替换
-                        if (component.joinPlan.getCost().cpuCost < bestCost.cpuCost) {
+                        // 新的连接cost更小则替换。没有统计信息时代价往往都是0，
+                        // 此时优先使用索引连接
+                        float cost = AccessPathSelector.totalCost(component.joinPlan.getCost());
+                        float bestCost = AccessPathSelector.totalCost(currentBest.joinPlan.getCost());
+                        if (cost < bestCost || (cost == bestCost &&
+                            component.joinPlan instanceof IndexNestedLoopsJoinNode &&
+                            !(currentBest.joinPlan instanceof IndexNestedLoopsJoinNode))) {
                             logger.info("Replacing current best-plan with new plan!");
                             nextJoinPlans.put(leaves, component);
                         }
@@ -510,10 +645,17 @@ public class DPJoinPlanner implements Planner {
             Expression joinPredicate = makePredicate(joinConjuncts);
 
             // 将leafPlan连接到已有最优节点prevPlan，注意此处始终为prevPlan left join leafPlan
-            NestedLoopsJoinNode newJoinPlan = new NestedLoopsJoinNode(prevPlan, leafPlan, JoinType.INNER,
-                    joinPredicate);
+            PlanNode newJoinPlan = new NestedLoopsJoinNode(prevPlan, leafPlan, JoinType.INNER, joinPredicate);
             newJoinPlan.prepare();
 
+            // 叶子是有索引的基表时，考虑对每个prevPlan的tuple在索引中查找；
+            // 没有统计信息时代价相同，也选择索引连接
+            PlanNode indexJoinPlan = makeIndexJoin(prevPlan, leaf, joinConjuncts, joinPredicate);
+            if (indexJoinPlan != null && AccessPathSelector.totalCost(indexJoinPlan.getCost()) <=
+                AccessPathSelector.totalCost(newJoinPlan.getCost())) {
+                newJoinPlan = indexJoinPlan;
+            }
+
             joinConjuncts.addAll(subplanConjuncts);
             JoinComponent joinComponent = new JoinComponent(newJoinPlan, newLeavesUsed, joinConjuncts);
             results.add(joinComponent);
@@ -521,6 +663,114 @@ public class DPJoinPlanner implements Planner {
         return results;
     }
 
+    /**
+     * 以leaf为内表构造索引嵌套循环连接。内表的索引前若干列都要和outerPlan中
+     * 的列有等值连接条件。
+     *
+     * @param outerPlan 外表
+     * @param leaf 内表
+     * @param joinConjuncts 两者之间的连接条件
+     * @param joinPredicate 连接条件合并成的谓词
+     * @return 已经prepare的连接计划，无法使用索引时返回<tt>null</tt>
+     */
+    private PlanNode makeIndexJoin(PlanNode outerPlan, JoinComponent leaf, Collection<Expression> joinConjuncts,
+            Expression joinPredicate) {
+        FromClause leafClause = leaf.leafClause;
+        if (leafClause == null || !leafClause.isBaseTable() || joinConjuncts.isEmpty())
+            return null;
+
+        try {
+            TableFileInfo tableInfo = StorageManager.getInstance().openTable(leafClause.getTableName());
+            TableSchema tableSchema = tableInfo.getSchema();
+            if (tableSchema.getIndexes().isEmpty())
+                return null;
+
+            // 内表的列在表中的序号 -> outerPlan上对应的列
+            Map<Integer, Expression> equalities = new HashMap<Integer, Expression>();
+            Schema outerSchema = outerPlan.getSchema();
+            Schema innerSchema = leaf.joinPlan.getSchema();
+            for (Expression conjunct : joinConjuncts) {
+                if (!(conjunct instanceof CompareOperator))
+                    continue;
+
+                CompareOperator comp = (CompareOperator) conjunct;
+                if (comp.getType() != CompareOperator.Type.EQUALS)
+                    continue;
+
+                Expression left = comp.getLeftExpression();
+                Expression right = comp.getRightExpression();
+                if (!matchJoinColumns(left, right, innerSchema, outerSchema, tableSchema, equalities))
+                    matchJoinColumns(right, left, innerSchema, outerSchema, tableSchema, equalities);
+            }
+            if (equalities.isEmpty())
+                return null;
+
+            // 有别名时谓词中的列名用的是别名，只能在重命名之后过滤
+            Expression leafPredicate = makePredicate(leaf.conjunctsUsed);
+            boolean renamed = leafClause.isRenamed();
+            IndexScanNode indexScan = AccessPathSelector.chooseProbeIndex(tableInfo, equalities.keySet(),
+                renamed ? null : leafPredicate, referencedColumns);
+            if (indexScan == null)
+                return null;
+
+            List<Expression> outerKeys = new ArrayList<Expression>();
+            ColumnIndexes colIndexes = indexScan.idxFileInfo.getTableColumnIndexes();
+            for (int i = 0; i < indexScan.getProbeColumns(); i++)
+                outerKeys.add(equalities.get(colIndexes.getCol(i)));
+
+            PlanNode innerPlan = indexScan;
+            if (renamed) {
+                innerPlan = new RenameNode(innerPlan, leafClause.getResultName());
+                if (leafPredicate != null)
+                    innerPlan = addPredicateToPlan(innerPlan, leafPredicate);
+            }
+
+            PlanNode joinPlan = new IndexNestedLoopsJoinNode(outerPlan, innerPlan, JoinType.INNER, joinPredicate,
+                outerKeys);
+            joinPlan.prepare();
+            return joinPlan;
+        } catch (IOException e) {
+            logger.warn("Couldn't consider an index join on " + leafClause.getTableName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 若<tt>inner</tt>是内表的列、<tt>outer</tt>是外表的列，且两者的类型可以
+     * 在索引中比较，将其记入<tt>equalities</tt>
+     */
+    private boolean matchJoinColumns(Expression inner, Expression outer, Schema innerSchema, Schema outerSchema,
+            TableSchema tableSchema, Map<Integer, Expression> equalities) {
+        if (!(inner instanceof ColumnValue) || !(outer instanceof ColumnValue))
+            return false;
+
+        int innerIndex;
+        int outerIndex;
+        try {
+            innerIndex = innerSchema.getColumnIndex(((ColumnValue) inner).getColumnName());
+            outerIndex = outerSchema.getColumnIndex(((ColumnValue) outer).getColumnName());
+        } catch (SchemaNameException e) {
+            return false;
+        }
+        if (innerIndex < 0 || outerIndex < 0)
+            return false;
+
+        int tableIndex = tableSchema.getColumnIndex(innerSchema.getColumnInfo(innerIndex).getName());
+        if (tableIndex < 0)
+            return false;
+
+        SQLDataType innerType = tableSchema.getColumnInfo(tableIndex).getType().getBaseType();
+        SQLDataType outerType = outerSchema.getColumnInfo(outerIndex).getType().getBaseType();
+        if (!(SQLDataType.isNumber(innerType) && SQLDataType.isNumber(outerType)) &&
+            !(SQLDataType.isString(innerType) && SQLDataType.isString(outerType))) {
+            return false;
+        }
+
+        if (!equalities.containsKey(tableIndex))
+            equalities.put(tableIndex, outer);
+        return true;
+    }
+
     /**
      * 将连接条件合并成一个谓词
      * 
@@ -537,6 +787,76 @@ public class DPJoinPlanner implements Planner {
         return predicate;
     }
 
+    /**
+     * 不带GROUP BY、SELECT中都是聚合函数的查询用{@link ParallelAggregateNode}
+     * 计算：输入按{@link GatherNode#split}拆成多个分支，各分支在工作线程中计算
+     * 部分聚合结果，最后合并。表太小不值得拆分时只有一个分支。
+     *
+     * @param plan 聚合的输入，尚未prepare
+     * @param selClause 查询
+     * @return 聚合的执行计划，SELECT中没有聚合函数时返回<tt>null</tt>
+     * @throws IOException 无法读取表文件的大小
+     */
+    public static PlanNode makeAggregatePlan(PlanNode plan, SelectClause selClause) throws IOException {
+        List<SelectValue> selectValues = selClause.getSelectValues();
+        boolean hasAggregates = false;
+        boolean hasScalars = false;
+        for (SelectValue selVal : selectValues) {
+            if (selVal.isExpression() && selVal.getExpression() instanceof FunctionCall &&
+                ((FunctionCall) selVal.getExpression()).isAggregate()) {
+                hasAggregates = true;
+            } else {
+                hasScalars = true;
+            }
+        }
+
+        if (!hasAggregates)
+            return null;
+
+        if (!selClause.getGroupByExprs().isEmpty() || selClause.getHavingExpr() != null) {
+            throw new UnsupportedOperationException(
+                "NanoDB doesn't yet support aggregates with GROUP BY or HAVING");
+        }
+
+        if (hasScalars) {
+            throw new UnsupportedOperationException(
+                "Without GROUP BY, every SELECT value must be an aggregate function");
+        }
+
+        // 结果列的类型由输入的schema决定
+        plan.prepare();
+        Schema inputSchema = plan.getSchema();
+
+        List<AggregateFunction> functions = new ArrayList<AggregateFunction>();
+        List<Expression> arguments = new ArrayList<Expression>();
+        List<ColumnInfo> resultColumns = new ArrayList<ColumnInfo>();
+        Schema resultSchema = new Schema();
+        for (SelectValue selVal : selectValues) {
+            FunctionCall call = (FunctionCall) selVal.getExpression();
+            Expression arg;
+            if (call.getArguments().isEmpty()) {
+                // COUNT(*)统计所有的行，包括值为NULL的行
+                arg = new LiteralValue(Integer.valueOf(1));
+            } else {
+                arg = call.getArguments().get(0);
+            }
+
+            functions.add(FunctionDirectory.getInstance().newAggregate(call.getFunctionName()));
+            arguments.add(arg);
+
+            ColumnInfo colInfo = selVal.getColumnInfos(inputSchema, resultSchema).get(0);
+            resultSchema.addColumnInfo(colInfo);
+            resultColumns.add(colInfo);
+        }
+
+        List<PlanNode> branches = GatherNode.split(plan, WorkerPool.getParallelism(),
+            WorkerPool.getMinPagesPerWorker());
+        if (branches == null)
+            branches = Collections.singletonList(plan);
+
+        return new ParallelAggregateNode(branches, functions, arguments, resultColumns);
+    }
+
     /**
      * 给PlanNode添加谓词，遵循谓词越靠近数据源效率越高
      * 
@@ -627,13 +947,13 @@ public class DPJoinPlanner implements Planner {
     }
 
     /**
-     * 构建一个扫描表的执行计划
+     * 构建一个扫描表的执行计划，谓词能用上表的索引且代价更低时使用索引扫描
      * 
      * @param tableName the table that the select will operate against
      * @param predicate the selection predicate to apply, or <tt>null</tt> if
      *        all tuples in the table should be returned
      *
-     * @return FileScanNode
+     * @return FileScanNode或者IndexScanNode
      * @throws IOException 文件不存在等异常
      */
     public SelectNode makeSimpleSelect(String tableName, Expression predicate) throws IOException {
@@ -642,7 +962,7 @@ public class DPJoinPlanner implements Planner {
         TableFileInfo tableInfo = StorageManager.getInstance().openTable(tableName);
 
         // Make a SelectNode to read rows from the table, with the specified
-        // predicate.
-        return new FileScanNode(tableInfo, predicate);
+        // predicate.  UPDATE和DELETE需要表中完整的tuple，因此不只扫描索引。
+        return AccessPathSelector.chooseUpdatePath(tableInfo, predicate);
     }
 }
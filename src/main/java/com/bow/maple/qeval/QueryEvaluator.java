@@ -1,11 +1,41 @@
 package com.bow.maple.qeval;
 
+import com.bow.maple.commands.QueryCommand;
 import com.bow.maple.plans.PlanNode;
 import com.bow.maple.relations.Schema;
 import com.bow.maple.relations.Tuple;
+import com.bow.maple.relations.TupleBatch;
+import com.bow.maple.util.PropertiesUtil;
 
 public class QueryEvaluator {
 
+    /**
+     * 是否按批执行查询计划，取值on/off，默认off
+     */
+    public static final String PROP_EXEC_BATCH = "nanodb.exec.batch";
+
+    /**
+     * 是否开启了批量执行
+     *
+     * @return true 按{@link PlanNode#getNextBatch()}执行
+     */
+    public static boolean isBatchExecutionEnabled() {
+        return "on".equalsIgnoreCase(PropertiesUtil.getProperty(PROP_EXEC_BATCH, "off"));
+    }
+
+    /**
+     * 某一类查询是否按批执行。按批执行时交给processor的是复制出来的tuple，
+     * <tt>UPDATE</tt>和<tt>DELETE</tt>修改的必须是表中原来的tuple，否则只改了
+     * 副本而没有任何错误，因此它们总是逐行执行。
+     *
+     * @param queryType 查询的类型
+     * @return true 按{@link PlanNode#getNextBatch()}执行
+     */
+    public static boolean isBatchExecutionEnabled(QueryCommand.Type queryType) {
+        return isBatchExecutionEnabled() &&
+            queryType != QueryCommand.Type.UPDATE && queryType != QueryCommand.Type.DELETE;
+    }
+
     /**
      * Executes the specified query plan, and feeds the results to the specified
      * tuple processor.
@@ -20,6 +50,22 @@ public class QueryEvaluator {
      *         tuple-processing.
      */
     public static EvalStats executePlan(PlanNode plan, TupleProcessor processor) throws Exception {
+        return executePlan(plan, processor, isBatchExecutionEnabled());
+    }
+
+    /**
+     * 执行查询计划。按批执行时交给processor的是复制出来的tuple，修改表的
+     * processor须用{@link #isBatchExecutionEnabled(QueryCommand.Type)}决定
+     * <tt>batch</tt>。
+     *
+     * @param plan 查询计划
+     * @param processor 处理每一行结果
+     * @param batch 是否按{@link PlanNode#getNextBatch()}执行
+     * @return 执行的统计信息
+     * @throws Exception 执行查询或者处理结果出错
+     */
+    public static EvalStats executePlan(PlanNode plan, TupleProcessor processor, boolean batch)
+            throws Exception {
 
         // Execute the plan, and record some basic statistics as we go.
         long startTime = System.nanoTime();
@@ -29,6 +75,9 @@ public class QueryEvaluator {
 
         plan.initialize();
 
+        if (batch)
+            return executeBatches(plan, processor, startTime);
+
         int rowsProduced = 0;
         try {
             Tuple tuple;
@@ -52,4 +101,29 @@ public class QueryEvaluator {
         // Return the basic statistics we gathered.
         return new EvalStats(rowsProduced, elapsedTimeNanos);
     }
+
+    /**
+     * 按批拉取结果，只在交给processor时才把每行物化成tuple
+     */
+    private static EvalStats executeBatches(PlanNode plan, TupleProcessor processor, long startTime)
+            throws Exception {
+        int rowsProduced = 0;
+        try {
+            while (true) {
+                TupleBatch batch = plan.getNextBatch();
+                if (batch == null)
+                    break;
+
+                for (int i = 0; i < batch.getNumSelected(); i++) {
+                    rowsProduced++;
+                    processor.process(batch.getSelectedTuple(i));
+                }
+            }
+        } finally {
+            plan.cleanUp();
+        }
+
+        long elapsedTimeNanos = System.nanoTime() - startTime;
+        return new EvalStats(rowsProduced, elapsedTimeNanos);
+    }
 }
@@ -10,6 +10,7 @@ import com.bow.maple.expressions.BooleanOperator;
 import com.bow.maple.expressions.ColumnValue;
 import com.bow.maple.expressions.Expression;
 import com.bow.maple.expressions.LiteralValue;
+import com.bow.maple.expressions.TupleComparator;
 
 import com.bow.maple.relations.ColumnInfo;
 import com.bow.maple.relations.SQLDataType;
@@ -257,6 +258,11 @@ public class SelectivityEstimator {
                 int numUnique = colStats.getNumUniqueValues();
                 if (numUnique > 0) {
                     selectivity = 1.0f / (float) numUnique;
+                    if (colStats.hasHistogram()) {
+                        // 出现次数很多的值会占满直方图中的若干个桶
+                        selectivity = Math.max(selectivity,
+                            estimateHistogramEquals(colStats.getHistogram(), value));
+                    }
                     if (compType == CompareOperator.Type.NOT_EQUALS) {
                         // 不等于就直接取反
                         selectivity = 1.0f - selectivity;
@@ -266,7 +272,15 @@ public class SelectivityEstimator {
 
             case GREATER_OR_EQUAL:
             case LESS_THAN:
-                if (typeSupportsCompareEstimates(sqlType) && colStats.hasDifferentMinMaxValues()) {
+                if (colStats.hasHistogram()) {
+                    // 有直方图时按落在value之下的桶估计，不要求值均匀分布
+                    selectivity = estimateHistogramFraction(colStats.getHistogram(), value, false,
+                        sqlType);
+                    if (compType == CompareOperator.Type.GREATER_OR_EQUAL) {
+                        selectivity = 1.0f - selectivity;
+                    }
+                }
+                else if (typeSupportsCompareEstimates(sqlType) && colStats.hasDifferentMinMaxValues()) {
                     Object minVal = colStats.getMinValue();
                     Object maxVal = colStats.getMaxValue();
                     // selectivity = (maxVal-value)/(maxVal-minVal)
@@ -279,7 +293,14 @@ public class SelectivityEstimator {
 
             case LESS_OR_EQUAL:
             case GREATER_THAN:
-                if (typeSupportsCompareEstimates(sqlType) && colStats.hasDifferentMinMaxValues()) {
+                if (colStats.hasHistogram()) {
+                    selectivity = estimateHistogramFraction(colStats.getHistogram(), value, true,
+                        sqlType);
+                    if (compType == CompareOperator.Type.GREATER_THAN) {
+                        selectivity = 1.0f - selectivity;
+                    }
+                }
+                else if (typeSupportsCompareEstimates(sqlType) && colStats.hasDifferentMinMaxValues()) {
                     Object minVal = colStats.getMinValue();
                     Object maxVal = colStats.getMaxValue();
                     selectivity = computeRatio(minVal, value, minVal, maxVal);
@@ -351,6 +372,75 @@ public class SelectivityEstimator {
         return selectivity;
     }
 
+    /**
+     * This helper function uses an equi-depth histogram to estimate the
+     * fraction of a column's values that are less than <tt>value</tt>, or less
+     * than or equal to <tt>value</tt> if <tt>inclusive</tt> is true.  Buckets
+     * entirely below the value count fully; within the bucket containing the
+     * value, the fraction is interpolated between the bucket's boundaries for
+     * numeric types, and assumed to be one half otherwise.
+     *
+     * @param histogram the histogram's bucket boundaries, in ascending order
+     * @param value the value the column is being compared to
+     * @param inclusive true if values equal to <tt>value</tt> should be counted
+     * @param sqlType the SQL data type of the column
+     *
+     * @return the estimated fraction in the range [0, 1].
+     */
+    private static float estimateHistogramFraction(Object[] histogram, Object value,
+            boolean inclusive, SQLDataType sqlType) {
+
+        int numBuckets = histogram.length - 1;
+        float buckets = 0.0f;
+        for (int i = 0; i < numBuckets; i++) {
+            Object low = histogram[i];
+            Object high = histogram[i + 1];
+
+            int cmpHigh = TupleComparator.compareValues(value, high);
+            if (cmpHigh > 0 || (cmpHigh == 0 && inclusive)) {
+                // 整个桶都满足
+                buckets += 1.0f;
+                continue;
+            }
+
+            int cmpLow = TupleComparator.compareValues(value, low);
+            if (cmpLow < 0 || (cmpLow == 0 && !inclusive))
+                break;
+
+            // value落在这个桶中，之后的桶都不满足
+            if (typeSupportsCompareEstimates(sqlType) && !low.equals(high))
+                buckets += computeRatio(low, value, low, high);
+            else
+                buckets += 0.5f;
+            break;
+        }
+        return buckets / numBuckets;
+    }
+
+    /**
+     * This helper function uses an equi-depth histogram to estimate the
+     * fraction of a column's values that are equal to <tt>value</tt>.  Only
+     * values frequent enough to fill whole buckets by themselves can be
+     * recognized this way, so the result is a lower bound; the caller combines
+     * it with the estimate based on the number of distinct values.
+     *
+     * @param histogram the histogram's bucket boundaries, in ascending order
+     * @param value the value the column is being compared to
+     *
+     * @return the estimated fraction in the range [0, 1].
+     */
+    private static float estimateHistogramEquals(Object[] histogram, Object value) {
+        int numBuckets = histogram.length - 1;
+        int singleValueBuckets = 0;
+        for (int i = 0; i < numBuckets; i++) {
+            if (TupleComparator.compareValues(value, histogram[i]) == 0 &&
+                TupleComparator.compareValues(value, histogram[i + 1]) == 0) {
+                singleValueBuckets++;
+            }
+        }
+        return (float) singleValueBuckets / numBuckets;
+    }
+
     /**
      * This method computes the function (high1-low1)/(high2-low2)<br/>
      * given <tt>Object</tt>-values that can be coerced into types that can be
@@ -6,7 +6,7 @@ import java.util.List;
 
 import com.bow.maple.commands.SelectValue;
 import com.bow.maple.expressions.Expression;
-import com.bow.maple.plans.FileScanNode;
+import com.bow.maple.plans.GatherNode;
 import com.bow.maple.plans.NestedLoopsJoinNode;
 import com.bow.maple.plans.SortNode;
 import com.bow.maple.storage.PageTuple;
@@ -48,22 +48,34 @@ public class SimplePlanner implements Planner {
             throw new UnsupportedOperationException("NanoDB doesn't yet support SQL queries without a FROM clause!");
         }
 
-        // 构造JOIN或是子查询的执行计划
-        PlanNode plan = makeJoinTree(fromClause);
-
-        // 取出过滤的谓词融入到已有的plan中
+        // 取出过滤的谓词
         Expression whereExpr = selClause.getWhereExpr();
-        if (whereExpr != null) {
-            DPJoinPlanner.addPredicateToPlan(plan, whereExpr);
+
+        PlanNode plan;
+        if (whereExpr != null && fromClause.isBaseTable() && !fromClause.isRenamed()) {
+            // 单表查询，谓词可以用来选择索引扫描
+            plan = makeSimpleSelect(fromClause.getTableName(), whereExpr);
+        } else {
+            // 构造JOIN或是子查询的执行计划，将谓词融入到已有的plan中
+            plan = makeJoinTree(fromClause);
+            if (whereExpr != null)
+                plan = DPJoinPlanner.addPredicateToPlan(plan, whereExpr);
         }
 
-        // TODO: Grouping/aggregation will go somewhere in here.
+        // TODO: GROUP BY还不支持，这里只处理不带GROUP BY的聚合
+        PlanNode aggregate = DPJoinPlanner.makeAggregatePlan(plan, selClause);
+        if (aggregate != null) {
+            plan = aggregate;
+        } else {
+            // Depending on the SELECT clause, create a project node at the top of
+            // the tree.
+            if (!selClause.isTrivialProject()) {
+                List<SelectValue> selectValues = selClause.getSelectValues();
+                plan = new ProjectNode(plan, selectValues);
+            }
 
-        // Depending on the SELECT clause, create a project node at the top of
-        // the tree.
-        if (!selClause.isTrivialProject()) {
-            List<SelectValue> selectValues = selClause.getSelectValues();
-            plan = new ProjectNode(plan, selectValues);
+            // 表足够大时按页面区间拆分扫描，过滤和投影在工作线程中执行
+            plan = GatherNode.parallelize(plan, WorkerPool.getParallelism(), WorkerPool.getMinPagesPerWorker());
         }
 
         // Finally, apply any sorting at the end.
@@ -172,7 +184,7 @@ public class SimplePlanner implements Planner {
      */
     public SelectNode makeSimpleSelect(String tableName, Expression predicate) throws IOException {
         TableFileInfo tableInfo = StorageManager.getInstance().openTable(tableName);
-        SelectNode node = new FileScanNode(tableInfo, predicate);
+        SelectNode node = AccessPathSelector.chooseUpdatePath(tableInfo, predicate);
         return node;
     }
 }
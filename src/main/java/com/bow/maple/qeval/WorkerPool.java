@@ -0,0 +1,98 @@
+package com.bow.maple.qeval;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.bow.maple.client.SessionState;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.util.PropertiesUtil;
+
+/**
+ * 并行执行查询计划时使用的工作线程池。<br/>
+ * 每个任务在工作线程自己的{@link SessionState}中执行，该会话通过
+ * {@link SessionState#joinSession}加入提交任务的会话的事务；在其中pin住的页面
+ * 须在任务结束时由{@link #submit}统一释放，并清除线程上的会话，避免线程复用时
+ * 残留状态。
+ */
+public class WorkerPool {
+
+    /**
+     * 扫描的并行度：大于1时对足够大的表按页面区间并行扫描；0或负数表示使用
+     * 全部CPU核数。默认1，即不并行
+     */
+    public static final String PROP_PARALLELISM = "nanodb.exec.parallelism";
+
+    /**
+     * 每个并行分支至少扫描的页面数，表太小时并行的收益抵不过线程开销
+     */
+    public static final String PROP_PARALLEL_MIN_PAGES = "nanodb.exec.parallel.minPages";
+
+    public static final int DEFAULT_PARALLEL_MIN_PAGES = 64;
+
+    private static final AtomicInteger nextThreadID = new AtomicInteger(1);
+
+    private static ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "maple-worker-" + nextThreadID.getAndIncrement());
+            // 工作线程不应阻止数据库退出
+            t.setDaemon(true);
+            return t;
+        }
+    });
+
+    private WorkerPool() {
+        throw new UnsupportedOperationException("This class should not be instantiated.");
+    }
+
+    /**
+     * 返回配置的并行度，至少为1
+     *
+     * @return 并行度
+     */
+    public static int getParallelism() {
+        int parallelism = PropertiesUtil.getInt(PROP_PARALLELISM, 1);
+        if (parallelism <= 0)
+            parallelism = Runtime.getRuntime().availableProcessors();
+        return parallelism;
+    }
+
+    public static int getMinPagesPerWorker() {
+        return Math.max(1, PropertiesUtil.getInt(PROP_PARALLEL_MIN_PAGES, DEFAULT_PARALLEL_MIN_PAGES));
+    }
+
+    /**
+     * 在工作线程上执行任务，任务在调用线程的会话的事务中执行，结束后释放该线程
+     * 会话pin住的页面
+     *
+     * @param task 要执行的任务
+     * @return 任务的future
+     */
+    public static <T> Future<T> submit(final Callable<T> task) {
+        final SessionState owner = SessionState.get();
+        return executor.submit(new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                try {
+                    SessionState.get().joinSession(owner);
+                    return task.call();
+                } finally {
+                    releaseSession();
+                }
+            }
+        });
+    }
+
+    private static void releaseSession() {
+        try {
+            StorageManager.getInstance().unpinAllPages();
+        } catch (IllegalStateException e) {
+            // 存储层未初始化(例如只在内存中执行的计划)，没有需要释放的页面
+        }
+        SessionState.remove();
+    }
+}
@@ -22,6 +22,13 @@ public class ColumnIndexes {
     private int[] colIndexes;
 
 
+    /**
+     * <tt>CREATE INDEX ... INCLUDE (...)</tt>中的列。这些列的值与key一起
+     * 存储在索引中，不参与排序和查找，只用于只扫描索引的查询。
+     */
+    private int[] includedCols = new int[0];
+
+
     public ColumnIndexes(int[] colIndexes) {
         this(null, colIndexes);
     }
@@ -70,6 +77,76 @@ public class ColumnIndexes {
     }
 
 
+    /**
+     * 返回INCLUDE列的个数
+     *
+     * @return INCLUDE列的个数，没有时为0
+     */
+    public int numIncludedColumns() {
+        return includedCols.length;
+    }
+
+
+    /**
+     * 返回第<tt>i</tt>个INCLUDE列在表中的序号
+     *
+     * @param i INCLUDE列的位置
+     * @return 列在表中的序号
+     */
+    public int getIncludedCol(int i) {
+        return includedCols[i];
+    }
+
+
+    /**
+     * 设置INCLUDE列，不能与key中的列重复
+     *
+     * @param includedCols INCLUDE列在表中的序号
+     */
+    public void setIncludedColumns(int[] includedCols) {
+        if (includedCols == null)
+            throw new IllegalArgumentException("includedCols must be specified");
+
+        HashSet<Integer> seen = new HashSet<Integer>();
+        for (int i : colIndexes)
+            seen.add(i);
+
+        for (int i : includedCols) {
+            if (i < 0) {
+                throw new IllegalArgumentException(
+                    "includedCols cannot contain negative values; got " +
+                    Arrays.toString(includedCols));
+            }
+            if (!seen.add(i)) {
+                throw new IllegalArgumentException(
+                    "includedCols cannot repeat key or included columns; got " +
+                    Arrays.toString(includedCols));
+            }
+        }
+
+        this.includedCols = includedCols.clone();
+    }
+
+
+    /**
+     * 索引中是否存储了指定的列，包括key中的列和INCLUDE列
+     *
+     * @param col 列在表中的序号
+     * @return 索引中存储了该列时返回true
+     */
+    public boolean containsColumn(int col) {
+        for (int i : colIndexes) {
+            if (i == col)
+                return true;
+        }
+        for (int i : includedCols) {
+            if (i == col)
+                return true;
+        }
+        return false;
+    }
+
+
     /**
      * Returns true if the specified <tt>ColumnIndexes</tt> object has the same
      * columns as this object, in the exact same order.
@@ -134,6 +211,9 @@ public class ColumnIndexes {
             buf.append(i);
         }
         buf.append(')');
+
+        if (includedCols.length > 0)
+            buf.append(" INCLUDE ").append(Arrays.toString(includedCols));
         
         return buf.toString();
     }
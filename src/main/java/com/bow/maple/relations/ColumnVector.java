@@ -0,0 +1,215 @@
+package com.bow.maple.relations;
+
+/**
+ * 批量执行时一列数据的向量表示。<br/>
+ * 整数类型(TINYINT/SMALLINT/INTEGER/BIGINT)存放在<tt>long[]</tt>中，浮点类型
+ * (FLOAT/DOUBLE)存放在<tt>double[]</tt>中，其余类型仍以<tt>Object[]</tt>存放。
+ * NULL值通过{@link #nulls}标记，此时对应槽位的值无意义。
+ * <p>
+ * 向量在{@link TupleBatch}中复用，不会在每一批数据时重新分配。
+ *
+ * @see TupleBatch
+ */
+public class ColumnVector {
+
+    /**
+     * 向量的物理存储方式
+     */
+    public enum VectorType {
+        /** 整数类型，存放在long数组中 */
+        LONG,
+
+        /** 浮点类型，存放在double数组中 */
+        DOUBLE,
+
+        /** 其他类型，存放在Object数组中 */
+        OBJECT
+    }
+
+    /** 此列的SQL类型，取值时据此还原出与{@link Tuple}一致的Java类型 */
+    private SQLDataType sqlType;
+
+    private VectorType vectorType;
+
+    private long[] longValues;
+
+    private double[] doubleValues;
+
+    private Object[] objectValues;
+
+    /** true表示对应行的值为NULL */
+    private boolean[] nulls;
+
+    /**
+     * 构造一个指定容量的列向量
+     *
+     * @param sqlType 列的SQL类型
+     * @param capacity 向量容量，即一批数据的最大行数
+     */
+    public ColumnVector(SQLDataType sqlType, int capacity) {
+        if (sqlType == null)
+            throw new IllegalArgumentException("sqlType cannot be null");
+
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive; got " + capacity);
+
+        this.sqlType = sqlType;
+        this.vectorType = getVectorType(sqlType);
+        this.nulls = new boolean[capacity];
+
+        switch (vectorType) {
+        case LONG:
+            longValues = new long[capacity];
+            break;
+
+        case DOUBLE:
+            doubleValues = new double[capacity];
+            break;
+
+        default:
+            objectValues = new Object[capacity];
+        }
+    }
+
+    /**
+     * 根据SQL类型决定向量的存储方式
+     *
+     * @param sqlType SQL类型
+     * @return 存储方式
+     */
+    public static VectorType getVectorType(SQLDataType sqlType) {
+        switch (sqlType) {
+        case TINYINT:
+        case SMALLINT:
+        case INTEGER:
+        case BIGINT:
+            return VectorType.LONG;
+
+        case FLOAT:
+        case DOUBLE:
+            return VectorType.DOUBLE;
+
+        default:
+            return VectorType.OBJECT;
+        }
+    }
+
+    public SQLDataType getSQLType() {
+        return sqlType;
+    }
+
+    public VectorType getVectorType() {
+        return vectorType;
+    }
+
+    public int getCapacity() {
+        return nulls.length;
+    }
+
+    /**
+     * 直接访问底层数组，供紧凑循环使用。仅当{@link #getVectorType()}为LONG时有效。
+     *
+     * @return long数组
+     */
+    public long[] getLongValues() {
+        return longValues;
+    }
+
+    /**
+     * 直接访问底层数组，供紧凑循环使用。仅当{@link #getVectorType()}为DOUBLE时有效。
+     *
+     * @return double数组
+     */
+    public double[] getDoubleValues() {
+        return doubleValues;
+    }
+
+    public Object[] getObjectValues() {
+        return objectValues;
+    }
+
+    public boolean[] getNulls() {
+        return nulls;
+    }
+
+    public boolean isNull(int row) {
+        return nulls[row];
+    }
+
+    public void setNull(int row) {
+        nulls[row] = true;
+        if (objectValues != null)
+            objectValues[row] = null;
+    }
+
+    public void setLong(int row, long value) {
+        nulls[row] = false;
+        longValues[row] = value;
+    }
+
+    public void setDouble(int row, double value) {
+        nulls[row] = false;
+        doubleValues[row] = value;
+    }
+
+    /**
+     * 将一个(装箱的)值写入指定行
+     *
+     * @param row 行号
+     * @param value 值，null表示SQL NULL
+     */
+    public void setValue(int row, Object value) {
+        if (value == null) {
+            setNull(row);
+            return;
+        }
+
+        nulls[row] = false;
+        switch (vectorType) {
+        case LONG:
+            longValues[row] = ((Number) value).longValue();
+            break;
+
+        case DOUBLE:
+            doubleValues[row] = ((Number) value).doubleValue();
+            break;
+
+        default:
+            objectValues[row] = value;
+        }
+    }
+
+    /**
+     * 取出指定行的值，数值类型会按列的SQL类型装箱，以保证与逐行执行时的结果类型一致
+     *
+     * @param row 行号
+     * @return 值，SQL NULL返回null
+     */
+    public Object getValue(int row) {
+        if (nulls[row])
+            return null;
+
+        switch (sqlType) {
+        case TINYINT:
+            return Byte.valueOf((byte) longValues[row]);
+
+        case SMALLINT:
+            return Short.valueOf((short) longValues[row]);
+
+        case INTEGER:
+            return Integer.valueOf((int) longValues[row]);
+
+        case BIGINT:
+            return Long.valueOf(longValues[row]);
+
+        case FLOAT:
+            return Float.valueOf((float) doubleValues[row]);
+
+        case DOUBLE:
+            return Double.valueOf(doubleValues[row]);
+
+        default:
+            return objectValues[row];
+        }
+    }
+}
@@ -107,6 +107,29 @@ public class TableSchema extends Schema {
     }
 
 
+    /**
+     * 从schema中去掉一个普通索引或者候选键，例如建立索引失败时撤销
+     * {@link #addIndex}或{@link #addCandidateKey}。主键不能去掉。
+     *
+     * @param indexName 索引名
+     * @return 被去掉的索引，没有这个索引时返回<tt>null</tt>
+     */
+    public ColumnIndexes removeIndex(String indexName) {
+        ColumnIndexes index = indexes.get(indexName);
+        if (index == null)
+            return null;
+
+        if (index == primaryKey)
+            throw new IllegalArgumentException("Can't remove the primary key index " + indexName);
+
+        if (candidateKeys != null)
+            candidateKeys.remove(index);
+
+        indexes.remove(indexName);
+        return index;
+    }
+
+
     public int numCandidateKeys() {
         return candidateKeys.size();
     }
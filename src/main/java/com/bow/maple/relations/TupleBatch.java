@@ -0,0 +1,236 @@
+package com.bow.maple.relations;
+
+import com.bow.maple.expressions.LiteralTuple;
+
+/**
+ * 批量执行时在plan node之间传递的一批数据，最多{@link #getCapacity()}行。<br/>
+ * 数据按列存放在{@link ColumnVector}中，另有一个选择向量(selection vector)
+ * 记录当前仍然有效的行号：过滤节点只需改写选择向量，无需移动数据。
+ * <p>
+ * 一个batch对象由产生它的plan node持有并复用，调用方只能在下一次
+ * {@link com.bow.maple.plans.PlanNode#getNextBatch()}之前使用其中的数据。
+ *
+ * @see ColumnVector
+ */
+public class TupleBatch {
+
+    /** 默认每批的最大行数 */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private Schema schema;
+
+    private ColumnVector[] columns;
+
+    private int capacity;
+
+    /** 已写入的行数(物理行) */
+    private int size;
+
+    /** 有效行的行号，前{@link #numSelected}个有效，且按升序排列 */
+    private int[] selection;
+
+    private int numSelected;
+
+    /** 用于按行访问batch的视图，避免为每行创建新tuple */
+    private RowView rowView;
+
+    /**
+     * 按schema为每一列分配向量
+     *
+     * @param schema 数据的schema
+     * @param capacity 每批最大行数
+     */
+    public TupleBatch(Schema schema, int capacity) {
+        this(schema, allocateColumns(schema, capacity), capacity);
+    }
+
+    public TupleBatch(Schema schema) {
+        this(schema, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 用已有的列向量构造batch，投影时可直接复用子节点的列向量而不必复制数据
+     *
+     * @param schema 数据的schema
+     * @param columns 每列对应的向量
+     * @param capacity 每批最大行数
+     */
+    public TupleBatch(Schema schema, ColumnVector[] columns, int capacity) {
+        if (schema == null)
+            throw new IllegalArgumentException("schema cannot be null");
+
+        if (columns.length != schema.numColumns()) {
+            throw new IllegalArgumentException("Expected " + schema.numColumns() +
+                " column vectors, got " + columns.length);
+        }
+
+        this.schema = schema;
+        this.columns = columns;
+        this.capacity = capacity;
+        this.selection = new int[capacity];
+        this.rowView = new RowView();
+    }
+
+    private static ColumnVector[] allocateColumns(Schema schema, int capacity) {
+        ColumnVector[] columns = new ColumnVector[schema.numColumns()];
+        for (int i = 0; i < columns.length; i++) {
+            SQLDataType type = schema.getColumnInfo(i).getType().getBaseType();
+            columns[i] = new ColumnVector(type, capacity);
+        }
+        return columns;
+    }
+
+    /**
+     * 清空batch以便写入下一批数据
+     */
+    public void reset() {
+        size = 0;
+        numSelected = 0;
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    public int getNumColumns() {
+        return columns.length;
+    }
+
+    public ColumnVector getColumn(int colIndex) {
+        return columns[colIndex];
+    }
+
+    public int[] getSelection() {
+        return selection;
+    }
+
+    public int getNumSelected() {
+        return numSelected;
+    }
+
+    /**
+     * 过滤后更新有效行数，有效行号须已写入{@link #getSelection()}的前n个位置
+     *
+     * @param numSelected 有效行数
+     */
+    public void setNumSelected(int numSelected) {
+        if (numSelected < 0 || numSelected > size) {
+            throw new IllegalArgumentException("numSelected must be in range [0, " +
+                size + "]; got " + numSelected);
+        }
+        this.numSelected = numSelected;
+    }
+
+    /**
+     * 直接写入列向量之后设置行数，所有行都是有效的
+     *
+     * @param size 已写入的行数
+     */
+    public void setSize(int size) {
+        if (size < 0 || size > capacity) {
+            throw new IllegalArgumentException("size must be in range [0, " +
+                capacity + "]; got " + size);
+        }
+        this.size = size;
+        for (int i = 0; i < size; i++)
+            selection[i] = i;
+        numSelected = size;
+    }
+
+    /**
+     * 行适配器：将一个tuple的各列写入向量，新行默认是有效的
+     *
+     * @param tuple 要追加的tuple
+     */
+    public void addTuple(Tuple tuple) {
+        if (size == capacity)
+            throw new IllegalStateException("Batch is full");
+
+        for (int i = 0; i < columns.length; i++)
+            columns[i].setValue(size, tuple.getColumnValue(i));
+
+        selection[numSelected++] = size;
+        size++;
+    }
+
+    /**
+     * 与另一个batch共享行数和选择向量，用于列向量复用的投影结果
+     *
+     * @param src 源batch
+     */
+    public void copyRowsFrom(TupleBatch src) {
+        size = src.size;
+        numSelected = src.numSelected;
+        System.arraycopy(src.selection, 0, selection, 0, numSelected);
+    }
+
+    /**
+     * 将第i个有效行物化成一个可缓存的tuple
+     *
+     * @param i 选择向量中的位置，而不是物理行号
+     * @return 物化后的tuple
+     */
+    public LiteralTuple getSelectedTuple(int i) {
+        int row = selection[i];
+        LiteralTuple tuple = new LiteralTuple(columns.length);
+        for (int iCol = 0; iCol < columns.length; iCol++)
+            tuple.setColumnValue(iCol, columns[iCol].getValue(row));
+        return tuple;
+    }
+
+    /**
+     * 返回指向物理行row的视图，视图对象会被复用，不可缓存
+     *
+     * @param row 物理行号
+     * @return 行视图
+     */
+    public Tuple getRowView(int row) {
+        rowView.row = row;
+        return rowView;
+    }
+
+    /**
+     * 以{@link Tuple}接口访问batch中某一行的视图
+     */
+    private class RowView implements Tuple {
+
+        private int row;
+
+        @Override
+        public boolean isCacheable() {
+            return false;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columns.length;
+        }
+
+        @Override
+        public boolean isNullValue(int colIndex) {
+            return columns[colIndex].isNull(row);
+        }
+
+        @Override
+        public Object getColumnValue(int colIndex) {
+            return columns[colIndex].getValue(row);
+        }
+
+        @Override
+        public void setColumnValue(int colIndex, Object value) {
+            columns[colIndex].setValue(row, value);
+        }
+    }
+}
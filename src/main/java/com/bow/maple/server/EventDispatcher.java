@@ -44,6 +44,11 @@ public class EventDispatcher {
     }
 
 
+    public void removeCommandEventListener(CommandEventListener listener) {
+        commandEventListeners.remove(listener);
+    }
+
+
     /**
      *
      * @param cmd the command that is about to be executed
@@ -69,6 +74,11 @@ public class EventDispatcher {
     }
 
 
+    public void removeRowEventListener(RowEventListener listener) {
+        rowEventListeners.remove(listener);
+    }
+
+
     public void fireBeforeRowInserted(TableFileInfo tblFileInfo,
                                       Tuple newValues) {
         logger.debug("Firing beforeRowInserted");
@@ -379,7 +379,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 			e=expression();
 			uc.addValue(name, e);
 			{
-			_loop107:
+			_loop110:
 			do {
 				if ((LA(1)==COMMA)) {
 					match(COMMA);
@@ -389,7 +389,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					uc.addValue(name, e);
 				}
 				else {
-					break _loop107;
+					break _loop110;
 				}
 				
 			} while (true);
@@ -616,7 +616,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 			tblName=dbobj_ident();
 			c = new AnalyzeCommand(tblName, verbose);
 			{
-			_loop121:
+			_loop124:
 			do {
 				if ((LA(1)==COMMA)) {
 					match(COMMA);
@@ -624,7 +624,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					c.addTable(tblName);
 				}
 				else {
-					break _loop121;
+					break _loop124;
 				}
 				
 			} while (true);
@@ -734,7 +734,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 			tblName=dbobj_ident();
 			c = new VerifyCommand(tblName);
 			{
-			_loop126:
+			_loop129:
 			do {
 				if ((LA(1)==COMMA)) {
 					match(COMMA);
@@ -742,7 +742,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					c.addTable(tblName);
 				}
 				else {
-					break _loop126;
+					break _loop129;
 				}
 				
 			} while (true);
@@ -768,7 +768,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 			tblName=dbobj_ident();
 			c = new OptimizeCommand(tblName);
 			{
-			_loop129:
+			_loop132:
 			do {
 				if ((LA(1)==COMMA)) {
 					match(COMMA);
@@ -776,7 +776,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					c.addTable(tblName);
 				}
 				else {
-					break _loop129;
+					break _loop132;
 				}
 				
 			} while (true);
@@ -921,6 +921,8 @@ public NanoSqlParser(ParserSharedInputState state) {
 			case DESC:
 			case FROM:
 			case FULL:
+			case GROUP:
+			case HAVING:
 			case IN:
 			case INNER:
 			case JOIN:
@@ -938,8 +940,6 @@ public NanoSqlParser(ParserSharedInputState state) {
 			case QUOTED_IDENT:
 			case COMMA:
 			case RPAREN:
-			case GROUP:
-			case HAVING:
 			case STAR:
 			case EQUALS:
 			case NOT_EQUALS:
@@ -1152,6 +1152,42 @@ public NanoSqlParser(ParserSharedInputState state) {
 			} while (true);
 			}
 			match(RPAREN);
+			{
+			switch ( LA(1)) {
+			case INCLUDE:
+			{
+				match(INCLUDE);
+				match(LPAREN);
+				colName=dbobj_ident();
+				c.addIncludedColumn(colName);
+				{
+				_loop57:
+				do {
+					if ((LA(1)==COMMA)) {
+						match(COMMA);
+						colName=dbobj_ident();
+						c.addIncludedColumn(colName);
+					}
+					else {
+						break _loop57;
+					}
+					
+				} while (true);
+				}
+				match(RPAREN);
+				break;
+			}
+			case EOF:
+			case SEMICOLON:
+			{
+				break;
+			}
+			default:
+			{
+				throw new NoViableAltException(LT(1), getFilename());
+			}
+			}
+			}
 		}
 		catch (RecognitionException ex) {
 			reportError(ex);
@@ -1807,11 +1843,15 @@ public NanoSqlParser(ParserSharedInputState state) {
 				sc.setDistinct(true);
 				break;
 			}
+			case AVG:
 			case COUNT:
 			case EXISTS:
 			case FALSE:
+			case MAX:
+			case MIN:
 			case NOT:
 			case NULL:
+			case SUM:
 			case TRUE:
 			case INT_LITERAL:
 			case LONG_LITERAL:
@@ -1836,7 +1876,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 			sv=select_value();
 			sc.addSelectValue(sv);
 			{
-			_loop62:
+			_loop65:
 			do {
 				if ((LA(1)==COMMA)) {
 					match(COMMA);
@@ -1844,7 +1884,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					sc.addSelectValue(sv);
 				}
 				else {
-					break _loop62;
+					break _loop65;
 				}
 				
 			} while (true);
@@ -1859,11 +1899,11 @@ public NanoSqlParser(ParserSharedInputState state) {
 				break;
 			}
 			case EOF:
+			case GROUP:
 			case ORDER:
 			case WHERE:
 			case SEMICOLON:
 			case RPAREN:
-			case GROUP:
 			{
 				break;
 			}
@@ -1883,10 +1923,10 @@ public NanoSqlParser(ParserSharedInputState state) {
 				break;
 			}
 			case EOF:
+			case GROUP:
 			case ORDER:
 			case SEMICOLON:
 			case RPAREN:
-			case GROUP:
 			{
 				break;
 			}
@@ -1905,7 +1945,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 				e=expression();
 				sc.addGroupByExpr(e);
 				{
-				_loop67:
+				_loop70:
 				do {
 					if ((LA(1)==COMMA)) {
 						match(COMMA);
@@ -1913,7 +1953,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 						sc.addGroupByExpr(e);
 					}
 					else {
-						break _loop67;
+						break _loop70;
 					}
 					
 				} while (true);
@@ -1991,7 +2031,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 				}
 				sc.addOrderByExpr(new OrderByExpression(e, ascending));
 				{
-				_loop73:
+				_loop76:
 				do {
 					if ((LA(1)==COMMA)) {
 						match(COMMA);
@@ -2026,7 +2066,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 						sc.addOrderByExpr(new OrderByExpression(e, ascending));
 					}
 					else {
-						break _loop73;
+						break _loop76;
 					}
 					
 				} while (true);
@@ -2113,11 +2153,15 @@ public NanoSqlParser(ParserSharedInputState state) {
 				sv = new SelectValue(new ColumnName());
 				break;
 			}
+			case AVG:
 			case COUNT:
 			case EXISTS:
 			case FALSE:
+			case MAX:
+			case MIN:
 			case NOT:
 			case NULL:
+			case SUM:
 			case TRUE:
 			case INT_LITERAL:
 			case LONG_LITERAL:
@@ -2160,12 +2204,12 @@ public NanoSqlParser(ParserSharedInputState state) {
 				}
 				case EOF:
 				case FROM:
+				case GROUP:
 				case ORDER:
 				case WHERE:
 				case SEMICOLON:
 				case COMMA:
 				case RPAREN:
-				case GROUP:
 				{
 					break;
 				}
@@ -2202,7 +2246,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 		try {      // for error handling
 			fc=join_expr();
 			{
-			_loop79:
+			_loop82:
 			do {
 				if ((LA(1)==COMMA)) {
 					match(COMMA);
@@ -2210,7 +2254,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					fc = new FromClause(fc, next, JoinType.CROSS);
 				}
 				else {
-					break _loop79;
+					break _loop82;
 				}
 				
 			} while (true);
@@ -2264,7 +2308,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 		try {      // for error handling
 			fc=from_expr();
 			{
-			_loop91:
+			_loop94:
 			do {
 				if ((_tokenSet_12.member(LA(1)))) {
 					{
@@ -2409,7 +2453,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 						fc.addUsingName(n);
 						
 						{
-						_loop90:
+						_loop93:
 						do {
 							if ((LA(1)==COMMA)) {
 								match(COMMA);
@@ -2417,7 +2461,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 								fc.addUsingName(n);
 							}
 							else {
-								break _loop90;
+								break _loop93;
 							}
 							
 						} while (true);
@@ -2428,6 +2472,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					case EOF:
 					case CROSS:
 					case FULL:
+					case GROUP:
 					case INNER:
 					case JOIN:
 					case LEFT:
@@ -2438,7 +2483,6 @@ public NanoSqlParser(ParserSharedInputState state) {
 					case SEMICOLON:
 					case COMMA:
 					case RPAREN:
-					case GROUP:
 					{
 						break;
 					}
@@ -2451,7 +2495,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					}
 				}
 				else {
-					break _loop91;
+					break _loop94;
 				}
 				
 			} while (true);
@@ -2507,6 +2551,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 				case EOF:
 				case CROSS:
 				case FULL:
+				case GROUP:
 				case INNER:
 				case JOIN:
 				case LEFT:
@@ -2519,7 +2564,6 @@ public NanoSqlParser(ParserSharedInputState state) {
 				case SEMICOLON:
 				case COMMA:
 				case RPAREN:
-				case GROUP:
 				{
 					break;
 				}
@@ -2590,7 +2634,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 				name=dbobj_ident();
 				cols = new ArrayList<String>(); cols.add(name);
 				{
-				_loop101:
+				_loop104:
 				do {
 					if ((LA(1)==COMMA)) {
 						match(COMMA);
@@ -2598,7 +2642,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 						cols.add(name);
 					}
 					else {
-						break _loop101;
+						break _loop104;
 					}
 					
 				} while (true);
@@ -2639,7 +2683,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 			e=expression();
 			exprs.add(e);
 			{
-			_loop104:
+			_loop107:
 			do {
 				if ((LA(1)==COMMA)) {
 					match(COMMA);
@@ -2647,7 +2691,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					exprs.add(e);
 				}
 				else {
-					break _loop104;
+					break _loop107;
 				}
 				
 			} while (true);
@@ -2673,7 +2717,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 		try {      // for error handling
 			e=logical_and_expr();
 			{
-			_loop138:
+			_loop141:
 			do {
 				if ((LA(1)==OR)) {
 					match(OR);
@@ -2693,7 +2737,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					
 				}
 				else {
-					break _loop138;
+					break _loop141;
 				}
 				
 			} while (true);
@@ -2718,11 +2762,15 @@ public NanoSqlParser(ParserSharedInputState state) {
 			match(LPAREN);
 			{
 			switch ( LA(1)) {
+			case AVG:
 			case COUNT:
 			case EXISTS:
 			case FALSE:
+			case MAX:
+			case MIN:
 			case NOT:
 			case NULL:
+			case SUM:
 			case TRUE:
 			case INT_LITERAL:
 			case LONG_LITERAL:
@@ -2738,7 +2786,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 				e=expression();
 				exprs.add(e);
 				{
-				_loop135:
+				_loop138:
 				do {
 					if ((LA(1)==COMMA)) {
 						match(COMMA);
@@ -2746,7 +2794,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 						exprs.add(e);
 					}
 					else {
-						break _loop135;
+						break _loop138;
 					}
 					
 				} while (true);
@@ -2784,7 +2832,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 		try {      // for error handling
 			e=logical_not_expr();
 			{
-			_loop141:
+			_loop144:
 			do {
 				if ((LA(1)==AND)) {
 					match(AND);
@@ -2804,7 +2852,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					
 				}
 				else {
-					break _loop141;
+					break _loop144;
 				}
 				
 			} while (true);
@@ -2835,10 +2883,14 @@ public NanoSqlParser(ParserSharedInputState state) {
 				notExpr = true;
 				break;
 			}
+			case AVG:
 			case COUNT:
 			case EXISTS:
 			case FALSE:
+			case MAX:
+			case MIN:
 			case NULL:
+			case SUM:
 			case TRUE:
 			case INT_LITERAL:
 			case LONG_LITERAL:
@@ -2861,9 +2913,13 @@ public NanoSqlParser(ParserSharedInputState state) {
 			}
 			{
 			switch ( LA(1)) {
+			case AVG:
 			case COUNT:
 			case FALSE:
+			case MAX:
+			case MIN:
 			case NULL:
+			case SUM:
 			case TRUE:
 			case INT_LITERAL:
 			case LONG_LITERAL:
@@ -3109,6 +3165,8 @@ public NanoSqlParser(ParserSharedInputState state) {
 			case DESC:
 			case FROM:
 			case FULL:
+			case GROUP:
+			case HAVING:
 			case INNER:
 			case JOIN:
 			case LEFT:
@@ -3122,8 +3180,6 @@ public NanoSqlParser(ParserSharedInputState state) {
 			case QUOTED_IDENT:
 			case COMMA:
 			case RPAREN:
-			case GROUP:
-			case HAVING:
 			{
 				break;
 			}
@@ -3176,7 +3232,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 		try {      // for error handling
 			e=mult_expr();
 			{
-			_loop160:
+			_loop163:
 			do {
 				if ((LA(1)==PLUS||LA(1)==MINUS)) {
 					{
@@ -3203,7 +3259,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					e = new ArithmeticOperator(mathType, e, e2);
 				}
 				else {
-					break _loop160;
+					break _loop163;
 				}
 				
 			} while (true);
@@ -3232,7 +3288,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 		try {      // for error handling
 			e=unary_op_expr();
 			{
-			_loop164:
+			_loop167:
 			do {
 				if ((LA(1)==STAR||LA(1)==SLASH||LA(1)==PERCENT)) {
 					{
@@ -3265,7 +3321,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					e = new ArithmeticOperator(mathType, e, e2);
 				}
 				else {
-					break _loop164;
+					break _loop167;
 				}
 				
 			} while (true);
@@ -3304,9 +3360,13 @@ public NanoSqlParser(ParserSharedInputState state) {
 				e=unary_op_expr();
 				break;
 			}
+			case AVG:
 			case COUNT:
 			case FALSE:
+			case MAX:
+			case MIN:
 			case NULL:
+			case SUM:
 			case TRUE:
 			case INT_LITERAL:
 			case LONG_LITERAL:
@@ -3407,11 +3467,15 @@ public NanoSqlParser(ParserSharedInputState state) {
 				match(LPAREN);
 				{
 				switch ( LA(1)) {
+				case AVG:
 				case COUNT:
 				case EXISTS:
 				case FALSE:
+				case MAX:
+				case MIN:
 				case NOT:
 				case NULL:
+				case SUM:
 				case TRUE:
 				case INT_LITERAL:
 				case LONG_LITERAL:
@@ -3447,7 +3511,7 @@ public NanoSqlParser(ParserSharedInputState state) {
 					cn=column_name();
 					e = new ColumnValue(cn);
 				}
-				else if ((LA(1)==COUNT||LA(1)==IDENT||LA(1)==QUOTED_IDENT) && (LA(2)==LPAREN)) {
+				else if ((_tokenSet_22.member(LA(1))) && (LA(2)==LPAREN)) {
 					e=function_call();
 				}
 			else {
@@ -3466,6 +3530,8 @@ public NanoSqlParser(ParserSharedInputState state) {
  * A function call can refer to either a normal scalar function, or it can refer
  * to an aggregate function call.  It's up to the query executor to ensure that
  * the function actually exists, and that it's the proper type for its context.
+ * SUM, AVG, MIN and MAX are keywords, so they are matched separately.  COUNT(*) has no arguments
+ * and counts every row.
  */
 	public final FunctionCall  function_call() throws RecognitionException, TokenStreamException {
 		FunctionCall f;
@@ -3488,6 +3554,34 @@ public NanoSqlParser(ParserSharedInputState state) {
 				f = new FunctionCall(name, args);
 				break;
 			}
+			case SUM:
+			{
+				match(SUM);
+				args=param_list();
+				f = new FunctionCall("SUM", args);
+				break;
+			}
+			case AVG:
+			{
+				match(AVG);
+				args=param_list();
+				f = new FunctionCall("AVG", args);
+				break;
+			}
+			case MIN:
+			{
+				match(MIN);
+				args=param_list();
+				f = new FunctionCall("MIN", args);
+				break;
+			}
+			case MAX:
+			{
+				match(MAX);
+				args=param_list();
+				f = new FunctionCall("MAX", args);
+				break;
+			}
 			case COUNT:
 			{
 				match(COUNT);
@@ -3495,12 +3589,16 @@ public NanoSqlParser(ParserSharedInputState state) {
 				match(LPAREN);
 				{
 				switch ( LA(1)) {
+				case AVG:
 				case COUNT:
 				case DISTINCT:
 				case EXISTS:
 				case FALSE:
+				case MAX:
+				case MIN:
 				case NOT:
 				case NULL:
+				case SUM:
 				case TRUE:
 				case INT_LITERAL:
 				case LONG_LITERAL:
@@ -3521,11 +3619,15 @@ public NanoSqlParser(ParserSharedInputState state) {
 						name="COUNT-DISTINCT";
 						break;
 					}
+					case AVG:
 					case COUNT:
 					case EXISTS:
 					case FALSE:
+					case MAX:
+					case MIN:
 					case NOT:
 					case NULL:
+					case SUM:
 					case TRUE:
 					case INT_LITERAL:
 					case LONG_LITERAL:
@@ -3553,7 +3655,6 @@ public NanoSqlParser(ParserSharedInputState state) {
 				case STAR:
 				{
 					match(STAR);
-					args.add(new ColumnValue(new ColumnName()));
 					break;
 				}
 				default:
@@ -3618,8 +3719,11 @@ public NanoSqlParser(ParserSharedInputState state) {
 		"\"foreign\"",
 		"\"from\"",
 		"\"full\"",
+		"\"group\"",
+		"\"having\"",
 		"\"if\"",
 		"\"in\"",
+		"\"include\"",
 		"\"index\"",
 		"\"inner\"",
 		"\"insert\"",
@@ -3697,8 +3801,6 @@ public NanoSqlParser(ParserSharedInputState state) {
 		"LPAREN",
 		"COMMA",
 		"RPAREN",
-		"GROUP",
-		"HAVING",
 		"STAR",
 		"EQUALS",
 		"NOT_EQUALS",
@@ -3725,109 +3827,114 @@ public NanoSqlParser(ParserSharedInputState state) {
 	}
 	public static final BitSet _tokenSet_0 = new BitSet(mk_tokenSet_0());
 	private static final long[] mk_tokenSet_1() {
-		long[] data = { 2L, 17592186044416L, 0L, 0L};
+		long[] data = { 2L, 140737488355328L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_1 = new BitSet(mk_tokenSet_1());
 	private static final long[] mk_tokenSet_2() {
-		long[] data = { -6857178294605820670L, -149533580279805L, 0L, 0L};
+		long[] data = { 482805159378832642L, -1196268642238435L, 1L, 0L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_2 = new BitSet(mk_tokenSet_2());
 	private static final long[] mk_tokenSet_3() {
-		long[] data = { 0L, 281474976710656L, 0L, 0L};
+		long[] data = { 0L, 2251799813685248L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_3 = new BitSet(mk_tokenSet_3());
 	private static final long[] mk_tokenSet_4() {
-		long[] data = { 2361690142621584642L, -439804650061822L, 0L, 0L};
+		long[] data = { 446776362359868674L, -3518437200494575L, 1L, 0L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_4 = new BitSet(mk_tokenSet_4());
 	private static final long[] mk_tokenSet_5() {
-		long[] data = { 721701840286646272L, 2048L, 0L, 0L};
+		long[] data = { 5773614722289500160L, 16384L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_5 = new BitSet(mk_tokenSet_5());
 	private static final long[] mk_tokenSet_6() {
-		long[] data = { 0L, 1688849860263936L, 0L, 0L};
+		long[] data = { 0L, 13510798882111488L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_6 = new BitSet(mk_tokenSet_6());
 	private static final long[] mk_tokenSet_7() {
-		long[] data = { 721701840286646272L, 1688849860265984L, 0L, 0L};
+		long[] data = { 5773614722289500160L, 13510798882127872L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_7 = new BitSet(mk_tokenSet_7());
 	private static final long[] mk_tokenSet_8() {
-		long[] data = { 2L, 1143492092887040L, 0L, 0L};
+		long[] data = { 2L, 9147936743096320L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_8 = new BitSet(mk_tokenSet_8());
 	private static final long[] mk_tokenSet_9() {
-		long[] data = { 36028814198833154L, 3958241861042176L, 0L, 0L};
+		long[] data = { 288230462051057666L, 13651536378855424L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_9 = new BitSet(mk_tokenSet_9());
 	private static final long[] mk_tokenSet_10() {
-		long[] data = { 36028797018963970L, 3395291907620864L, 0L, 0L};
+		long[] data = { 288230444871188482L, 9147936751484928L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_10 = new BitSet(mk_tokenSet_10());
 	private static final long[] mk_tokenSet_11() {
-		long[] data = { 2342479338022112258L, 8567394604679168L, 0L, 0L};
+		long[] data = { 293090475320019970L, 14495961308987393L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_11 = new BitSet(mk_tokenSet_11());
 	private static final long[] mk_tokenSet_12() {
-		long[] data = { 2306450523756167168L, 0L, 0L};
+		long[] data = { 4859875762896896L, 1L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_12 = new BitSet(mk_tokenSet_12());
 	private static final long[] mk_tokenSet_13() {
-		long[] data = { 36028797018963970L, 3958241861042176L, 0L, 0L};
+		long[] data = { 288230444871188482L, 13651536378855424L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_13 = new BitSet(mk_tokenSet_13());
 	private static final long[] mk_tokenSet_14() {
-		long[] data = { 2346982920402501634L, 3958241861058560L, 0L, 0L};
+		long[] data = { 329119117653049346L, 13651536378986497L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_14 = new BitSet(mk_tokenSet_14());
 	private static final long[] mk_tokenSet_15() {
-		long[] data = { -9223372036854775808L, 32768L, 0L, 0L};
+		long[] data = { 0L, 262148L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_15 = new BitSet(mk_tokenSet_15());
 	private static final long[] mk_tokenSet_16() {
-		long[] data = { 2360493736531594242L, 8567394604679168L, 0L, 0L};
+		long[] data = { 437205663395875842L, 14495961308987393L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_16 = new BitSet(mk_tokenSet_16());
 	private static final long[] mk_tokenSet_17() {
-		long[] data = { 2360493736531594498L, 8567394604679168L, 0L, 0L};
+		long[] data = { 437205663395876098L, 14495961308987393L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_17 = new BitSet(mk_tokenSet_17());
 	private static final long[] mk_tokenSet_18() {
-		long[] data = { 3377704553414656L, 3460285688157570048L, 1L, 0L, 0L, 0L};
+		long[] data = { 30399302317641728L, 6929698422337315328L, 2L, 0L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_18 = new BitSet(mk_tokenSet_18());
 	private static final long[] mk_tokenSet_19() {
-		long[] data = { 2361690142621584642L, 1143474500702044162L, 0L, 0L};
+		long[] data = { 446776362359868674L, 2284310173503717393L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_19 = new BitSet(mk_tokenSet_19());
 	private static final long[] mk_tokenSet_20() {
-		long[] data = { 2361690142621584642L, 4602239014522585090L, 0L, 0L};
+		long[] data = { 446776362359868674L, 9201839201144799249L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_20 = new BitSet(mk_tokenSet_20());
 	private static final long[] mk_tokenSet_21() {
-		long[] data = { 2361690142621584642L, -431008557039614L, 0L, 0L};
+		long[] data = { 446776362359868674L, -3448068456316911L, 1L, 0L, 0L, 0L};
 		return data;
 	}
 	public static final BitSet _tokenSet_21 = new BitSet(mk_tokenSet_21());
+	private static final long[] mk_tokenSet_22() {
+		long[] data = { 3377699721580544L, 844424930132480L, 0L, 0L};
+		return data;
+	}
+	public static final BitSet _tokenSet_22 = new BitSet(mk_tokenSet_22());
 	
 	}
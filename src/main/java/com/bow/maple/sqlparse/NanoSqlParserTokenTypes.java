@@ -48,103 +48,104 @@ public interface NanoSqlParserTokenTypes {
 	int FOREIGN = 33;
 	int FROM = 34;
 	int FULL = 35;
-	int IF = 36;
-	int IN = 37;
-	int INDEX = 38;
-	int INNER = 39;
-	int INSERT = 40;
-	int INTO = 41;
-	int IS = 42;
-	int JOIN = 43;
-	int KEY = 44;
-	int LEFT = 45;
-	int LIKE = 46;
-	int MAX = 47;
-	int MIN = 48;
-	int NATURAL = 49;
-	int NOT = 50;
-	int NULL = 51;
-	int ON = 52;
-	int OPTIMIZE = 53;
-	int OR = 54;
-	int ORDER = 55;
-	int OUTER = 56;
-	int PRIMARY = 57;
-	int QUIT = 58;
-	int REFERENCES = 59;
-	int RENAME = 60;
-	int RIGHT = 61;
-	int ROLLBACK = 62;
-	int SELECT = 63;
-	int SET = 64;
-	int SIMILAR = 65;
-	int SOME = 66;
-	int START = 67;
-	int STDDEV = 68;
-	int STORE = 69;
-	int SUM = 70;
-	int TABLE = 71;
-	int TO = 72;
-	int TRANSACTION = 73;
-	int TRUE = 74;
-	int UNIQUE = 75;
-	int UNKNOWN = 76;
-	int UPDATE = 77;
-	int USING = 78;
-	int VALUES = 79;
-	int VARIANCE = 80;
-	int VERBOSE = 81;
-	int VERIFY = 82;
-	int VIEW = 83;
-	int WHERE = 84;
-	int WORK = 85;
-	int TYPE_BIGINT = 86;
-	int TYPE_BLOB = 87;
-	int TYPE_CHAR = 88;
-	int TYPE_CHARACTER = 89;
-	int TYPE_DATE = 90;
-	int TYPE_DATETIME = 91;
-	int TYPE_DECIMAL = 92;
-	int TYPE_FLOAT = 93;
-	int TYPE_DOUBLE = 94;
-	int TYPE_INT = 95;
-	int TYPE_INTEGER = 96;
-	int TYPE_NUMERIC = 97;
-	int TYPE_TEXT = 98;
-	int TYPE_TIME = 99;
-	int TYPE_TIMESTAMP = 100;
-	int TYPE_VARCHAR = 101;
-	int TYPE_VARYING = 102;
-	int INT_LITERAL = 103;
-	int LONG_LITERAL = 104;
-	int FLOAT_LITERAL = 105;
-	int DEC_LITERAL = 106;
-	int PERIOD = 107;
-	int SEMICOLON = 108;
-	int IDENT = 109;
-	int QUOTED_IDENT = 110;
-	int TEMPORARY = 111;
-	int LPAREN = 112;
-	int COMMA = 113;
-	int RPAREN = 114;
-	int GROUP = 115;
-	int HAVING = 116;
-	int STAR = 117;
-	int EQUALS = 118;
-	int NOT_EQUALS = 119;
-	int GRTR_THAN = 120;
-	int LESS_THAN = 121;
-	int GRTR_EQUAL = 122;
-	int LESS_EQUAL = 123;
-	int PLUS = 124;
-	int MINUS = 125;
-	int SLASH = 126;
-	int PERCENT = 127;
-	int STRING_LITERAL = 128;
-	int COLON = 129;
-	int NEWLINE = 130;
-	int WS = 131;
-	int COMMENT = 132;
-	int COMPARE_OPERATOR = 133;
-	int NUM_LITERAL_OR_SYMBOL = 134;
+	int GROUP = 36;
+	int HAVING = 37;
+	int IF = 38;
+	int IN = 39;
+	int INCLUDE = 40;
+	int INDEX = 41;
+	int INNER = 42;
+	int INSERT = 43;
+	int INTO = 44;
+	int IS = 45;
+	int JOIN = 46;
+	int KEY = 47;
+	int LEFT = 48;
+	int LIKE = 49;
+	int MAX = 50;
+	int MIN = 51;
+	int NATURAL = 52;
+	int NOT = 53;
+	int NULL = 54;
+	int ON = 55;
+	int OPTIMIZE = 56;
+	int OR = 57;
+	int ORDER = 58;
+	int OUTER = 59;
+	int PRIMARY = 60;
+	int QUIT = 61;
+	int REFERENCES = 62;
+	int RENAME = 63;
+	int RIGHT = 64;
+	int ROLLBACK = 65;
+	int SELECT = 66;
+	int SET = 67;
+	int SIMILAR = 68;
+	int SOME = 69;
+	int START = 70;
+	int STDDEV = 71;
+	int STORE = 72;
+	int SUM = 73;
+	int TABLE = 74;
+	int TO = 75;
+	int TRANSACTION = 76;
+	int TRUE = 77;
+	int UNIQUE = 78;
+	int UNKNOWN = 79;
+	int UPDATE = 80;
+	int USING = 81;
+	int VALUES = 82;
+	int VARIANCE = 83;
+	int VERBOSE = 84;
+	int VERIFY = 85;
+	int VIEW = 86;
+	int WHERE = 87;
+	int WORK = 88;
+	int TYPE_BIGINT = 89;
+	int TYPE_BLOB = 90;
+	int TYPE_CHAR = 91;
+	int TYPE_CHARACTER = 92;
+	int TYPE_DATE = 93;
+	int TYPE_DATETIME = 94;
+	int TYPE_DECIMAL = 95;
+	int TYPE_FLOAT = 96;
+	int TYPE_DOUBLE = 97;
+	int TYPE_INT = 98;
+	int TYPE_INTEGER = 99;
+	int TYPE_NUMERIC = 100;
+	int TYPE_TEXT = 101;
+	int TYPE_TIME = 102;
+	int TYPE_TIMESTAMP = 103;
+	int TYPE_VARCHAR = 104;
+	int TYPE_VARYING = 105;
+	int INT_LITERAL = 106;
+	int LONG_LITERAL = 107;
+	int FLOAT_LITERAL = 108;
+	int DEC_LITERAL = 109;
+	int PERIOD = 110;
+	int SEMICOLON = 111;
+	int IDENT = 112;
+	int QUOTED_IDENT = 113;
+	int TEMPORARY = 114;
+	int LPAREN = 115;
+	int COMMA = 116;
+	int RPAREN = 117;
+	int STAR = 118;
+	int EQUALS = 119;
+	int NOT_EQUALS = 120;
+	int GRTR_THAN = 121;
+	int LESS_THAN = 122;
+	int GRTR_EQUAL = 123;
+	int LESS_EQUAL = 124;
+	int PLUS = 125;
+	int MINUS = 126;
+	int SLASH = 127;
+	int PERCENT = 128;
+	int STRING_LITERAL = 129;
+	int COLON = 130;
+	int NEWLINE = 131;
+	int WS = 132;
+	int COMMENT = 133;
+	int COMPARE_OPERATOR = 134;
+	int NUM_LITERAL_OR_SYMBOL = 135;
 }
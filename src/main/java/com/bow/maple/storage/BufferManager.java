@@ -23,6 +23,8 @@ import org.slf4j.LoggerFactory;
 /**
  * The buffer manager reduces the number of disk IO operations by managing an
  * in-memory cache of data pages.
+ * <p>
+ * 并行扫描时多个工作线程会同时访问缓存，因此所有公开方法都是同步的。
  *
  * @todo Add integrity checks, e.g. to make sure every cached page's file
  *       appears in the collection of cached files.
@@ -229,7 +231,7 @@ public class BufferManager {
      *         already been opened, or <tt>null</tt> if the file isn't currently
      *         open.
      */
-    public DBFile getFile(String filename) {
+    public synchronized DBFile getFile(String filename) {
         DBFile dbFile = cachedFiles.get(filename);
 
         logger.debug(String.format(
@@ -244,7 +246,7 @@ public class BufferManager {
      * 将dbFile存放在内存中
      * @param dbFile 打开的文件
      */
-    public void addFile(DBFile dbFile) {
+    public synchronized void addFile(DBFile dbFile) {
         if (dbFile == null){
             throw new IllegalArgumentException("dbFile cannot be null");
         }
@@ -264,7 +266,7 @@ public class BufferManager {
     }
     
     
-    public void pinPage(DBPage dbPage) {
+    public synchronized void pinPage(DBPage dbPage) {
         // Make sure this page is pinned by the session so that we don't
         // flush it until the session is done with it.
         
@@ -289,7 +291,7 @@ public class BufferManager {
         pinnedBySession.add(pp);
     }
 
-    public void unpinPage(DBPage dbPage) {
+    public synchronized void unpinPage(DBPage dbPage) {
         // If the page is pinned by the session then unpin it.
         int sessionID = SessionState.get().getSessionID();
         PinnedPageInfo pp = new PinnedPageInfo(sessionID, dbPage);
@@ -320,7 +322,7 @@ public class BufferManager {
      * generally done at the end of each transaction so that pages aren't
      * pinned forever, and can actually be evicted from the buffer manager.
      */
-    public void unpinAllPages() {
+    public synchronized void unpinAllPages() {
         // Unpin all pages pinned by this session.
         int sessionID = SessionState.get().getSessionID();
 
@@ -345,7 +347,7 @@ public class BufferManager {
     }
 
 
-    public DBPage getPage(DBFile dbFile, int pageNo) {
+    public synchronized DBPage getPage(DBFile dbFile, int pageNo) {
         DBPage dbPage = cachedPages.get(new CachedPageInfo(dbFile, pageNo));
 
         logger.debug(String.format(
@@ -367,7 +369,7 @@ public class BufferManager {
      * @param dbPage 数据页
      * @throws IOException e
      */
-    public void addPage(DBPage dbPage) throws IOException {
+    public synchronized void addPage(DBPage dbPage) throws IOException {
         if (dbPage == null){
             throw new IllegalArgumentException("dbPage cannot be null");
         }
@@ -475,6 +477,10 @@ public class BufferManager {
                 }
                 
                 LogSequenceNumber pageLSN = dbPage.getPageLSN();
+                if (pageLSN == null) {
+                    // 没有写入WAL的修改，例如列式存储导入的数据
+                    continue;
+                }
                 if (maxLSN == null || pageLSN.compareTo(maxLSN) > 0)
                     maxLSN = pageLSN;
             }
@@ -523,7 +529,7 @@ public class BufferManager {
      * @throws IOException if an IO error occurs while updating the write-ahead
      *         log, or while writing the file's contents.
      */
-    public void writeDBFile(DBFile dbFile, int minPageNo, int maxPageNo,
+    public synchronized void writeDBFile(DBFile dbFile, int minPageNo, int maxPageNo,
                             boolean sync) throws IOException {
 
         logger.info(String.format("Writing all dirty pages for file %s to disk%s.",
@@ -579,7 +585,7 @@ public class BufferManager {
      * @throws IOException if an IO error occurs while updating the write-ahead
      *         log, or while writing the file's contents.
      */
-    public void writeDBFile(DBFile dbFile, boolean sync) throws IOException {
+    public synchronized void writeDBFile(DBFile dbFile, boolean sync) throws IOException {
         writeDBFile(dbFile, 0, Integer.MAX_VALUE, sync);
     }
 
@@ -597,7 +603,7 @@ public class BufferManager {
      * @throws IOException if an IO error occurs while updating the write-ahead
      *         log, or while writing the file's contents.
      */
-    public void writeAll(boolean sync) throws IOException {
+    public synchronized void writeAll(boolean sync) throws IOException {
         logger.info("Writing ALL dirty pages in the Buffer Manager to disk.");
 
         Iterator<Map.Entry<CachedPageInfo, DBPage>> entries =
@@ -649,7 +655,7 @@ public class BufferManager {
      * @throws IOException if an IO error occurs while updating the write-ahead
      *         log, or the file's contents
      */
-    public void flushDBFile(DBFile dbFile) throws IOException {
+    public synchronized void flushDBFile(DBFile dbFile) throws IOException {
         logger.info("Flushing all pages for file " + dbFile +
             " from the Buffer Manager.");
 
@@ -702,7 +708,7 @@ public class BufferManager {
      * @throws IOException if an IO error occurs while updating the write-ahead
      *         log, or the file's contents
      */
-    public void flushAll() throws IOException {
+    public synchronized void flushAll() throws IOException {
         logger.info("Flushing ALL database pages from the Buffer Manager.");
 
         Iterator<Map.Entry<CachedPageInfo, DBPage>> entries =
@@ -747,7 +753,7 @@ public class BufferManager {
      *
      * @throws IOException if an IO error occurs while writing out dirty pages
      */
-    public void removeDBFile(DBFile dbFile) throws IOException {
+    public synchronized void removeDBFile(DBFile dbFile) throws IOException {
         logger.info("Removing DBFile " + dbFile + " from buffer manager");
         flushDBFile(dbFile);
         cachedFiles.remove(dbFile.getDataFile().getName());
@@ -765,7 +771,7 @@ public class BufferManager {
      *
      * @throws IOException if an IO error occurs while writing out dirty pages
      */
-    public List<DBFile> removeAll() throws IOException {
+    public synchronized List<DBFile> removeAll() throws IOException {
         logger.info("Removing ALL DBFiles from buffer manager");
 
         // Flush all pages, ensuring that dirty pages will be written too.
@@ -35,8 +35,9 @@ import java.io.RandomAccessFile;
  * <ul>
  *   <li><u>Byte 0:</u>  file type (unsigned byte) - value taken from
  *       {@link DBFileType}</li>
- *   <li><u>Byte 1:</u>  page size  <i>p</i> (unsigned byte) - file's page
- *       size is <i>P</i> = 2<sup>p</sup></li>
+ *   <li><u>Byte 1:</u>  page size  <i>p</i> (low 5 bits) - file's page
+ *       size is <i>P</i> = 2<sup>p</sup>; 高3位是文件格式的版本号，见
+ *       {@link #CURRENT_FORMAT_VERSION}</li>
  * </ul>
  *
  * @see RandomAccessFile
@@ -56,6 +57,34 @@ public class DBFile {
     public static final int DEFAULT_PAGESIZE = 8192;
 
 
+    /** 第1个字节中格式版本号的位移，低5位保存页面大小的对数 */
+    public static final int FORMAT_VERSION_SHIFT = 5;
+
+    /** 第1个字节中页面大小部分的掩码 */
+    public static final int PAGESIZE_MASK = (1 << FORMAT_VERSION_SHIFT) - 1;
+
+    /** 旧的文件格式，页号用2字节的unsigned short存储，最多65536页 */
+    public static final int LEGACY_FORMAT_VERSION = 0;
+
+    /** 页号改为用4字节的int存储的文件格式，之前的格式页号是2字节的 */
+    public static final int INT_PAGE_NO_FORMAT_VERSION = 1;
+
+    /** B<sup>+</sup>树索引的叶子页面在头部之后保存key的公共前缀 */
+    public static final int KEY_PREFIX_FORMAT_VERSION = 2;
+
+    /** B<sup>+</sup>树索引的叶子页面末尾是key位置的slot目录 */
+    public static final int LEAF_SLOT_FORMAT_VERSION = 3;
+
+    /** B<sup>+</sup>树索引的内部页面末尾是指针位置的slot目录 */
+    public static final int INNER_SLOT_FORMAT_VERSION = 4;
+
+    /**
+     * 当前的文件格式，每次改变页面布局时加1。B<sup>+</sup>树索引的版本低于
+     * 此值时，打开索引时重建。
+     */
+    public static final int CURRENT_FORMAT_VERSION = INNER_SLOT_FORMAT_VERSION;
+
+
     /** The actual data file on disk. */
     private File dataFile;
 
@@ -72,6 +101,13 @@ public class DBFile {
     private int pageSize;
 
 
+    /**
+     * 文件格式的版本号。新建的文件都是{@link #CURRENT_FORMAT_VERSION}，打开已有
+     * 文件时从第1个字节读出。
+     */
+    private int formatVersion = CURRENT_FORMAT_VERSION;
+
+
     /** The file data is accessed via this variable. */
     private RandomAccessFile fileContents;
 
@@ -158,6 +194,34 @@ public class DBFile {
     }
 
 
+    /**
+     * 把页面大小和格式版本号编码到文件第1个字节中
+     *
+     * @param pageSize the page-size to encode
+     * @param formatVersion 文件格式的版本号
+     *
+     * @return 文件第1个字节的值
+     */
+    public static int encodePageSizeAndVersion(int pageSize, int formatVersion) {
+        if (formatVersion < 0 || formatVersion > (0xFF >> FORMAT_VERSION_SHIFT))
+            throw new IllegalArgumentException("Invalid format version " + formatVersion);
+
+        return (formatVersion << FORMAT_VERSION_SHIFT) | encodePageSize(pageSize);
+    }
+
+
+    /**
+     * 从文件第1个字节中取出格式版本号
+     *
+     * @param encoded 文件第1个字节的值
+     *
+     * @return 文件格式的版本号
+     */
+    public static int decodeFormatVersion(int encoded) {
+        return (encoded & 0xFF) >>> FORMAT_VERSION_SHIFT;
+    }
+
+
 
     /**
      * Constructs a new object from the specified information, and opens the
@@ -276,6 +340,27 @@ public class DBFile {
     }
 
 
+    /**
+     * 返回文件格式的版本号
+     *
+     * @return 文件格式的版本号
+     */
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+
+    /**
+     * 设置文件格式的版本号，只修改内存中的值，调用者负责把第0页的第1个字节写回
+     * 文件。
+     *
+     * @param formatVersion 文件格式的版本号
+     */
+    public void setFormatVersion(int formatVersion) {
+        this.formatVersion = formatVersion;
+    }
+
+
     /**
      * Reads the current file-length of this database file and computes the
      * total number of pages based on this value.  Note that since this method
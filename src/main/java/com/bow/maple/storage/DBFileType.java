@@ -25,6 +25,18 @@ public enum DBFileType {
     BTREE_INDEX_FILE(0x0A),
 
 
+    /**
+     * 建立索引时外部排序产生的临时文件，保存一个有序的run
+     */
+    SORT_RUN_FILE(0x0B),
+
+
+    /**
+     * 线性哈希索引文件，只支持等值查找
+     */
+    HASH_INDEX_FILE(0x0C),
+
+
     /**
      * Represents a transaction-state file used for write-ahead logging and
      * recovery.
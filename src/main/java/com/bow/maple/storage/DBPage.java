@@ -819,7 +819,7 @@ public class DBPage {
                 break;
 
             case FILE_POINTER:
-                value = new FilePointer(readUnsignedShort(position), readUnsignedShort(position + 2));
+                value = new FilePointer(readInt(position), readUnsignedShort(position + 4));
                 break;
 
             default:
@@ -921,9 +921,9 @@ public class DBPage {
 
             case FILE_POINTER: {
                 FilePointer fptr = (FilePointer) value;
-                writeShort(position, fptr.getPageNo());
-                writeShort(position + 2, fptr.getOffset());
-                dataSize = 4;
+                writeInt(position, fptr.getPageNo());
+                writeShort(position + 4, fptr.getOffset());
+                dataSize = FilePointer.STORAGE_SIZE;
                 break;
             }
 
@@ -989,7 +989,7 @@ public class DBPage {
             }
 
             case FILE_POINTER: {
-                dataSize = 4;
+                dataSize = FilePointer.STORAGE_SIZE;
                 break;
             }
 
@@ -6,5 +6,11 @@ public enum FileEncoding {
     // 字典压缩
     DICTIONARY,
     // 无压缩
-    NONE
-}
\ No newline at end of file
+    NONE,
+    // 整数减去列块的最小值(frame of reference)后按固定位数紧密排列
+    BITPACK,
+    // 整数按与前一个值的差存储，差值减去页面中的最小差值后按固定位数紧密排列，适合有序的列
+    DELTA,
+    // 整页的值做LZ4风格的块压缩，适合不同值很多的字符串列
+    LZ
+}
@@ -140,7 +140,8 @@ public class FileManager {
 
         DBPage firstPage = loadDBPage(dbFile, 0, true);
         firstPage.writeByte(0, type.getID());
-        firstPage.writeByte(1, DBFile.encodePageSize(pageSize));
+        firstPage.writeByte(1,
+            DBFile.encodePageSizeAndVersion(pageSize, DBFile.CURRENT_FORMAT_VERSION));
         saveDBPage(firstPage);
 
         return dbFile;
@@ -168,7 +169,8 @@ public class FileManager {
         RandomAccessFile fileContents = new RandomAccessFile(f, "rw");
 
         int typeID = fileContents.readUnsignedByte();
-        int pageSize = DBFile.decodePageSize(fileContents.readUnsignedByte());
+        int encodedPageSize = fileContents.readUnsignedByte();
+        int pageSize = DBFile.decodePageSize(encodedPageSize & DBFile.PAGESIZE_MASK);
 
         DBFileType type = DBFileType.valueOf(typeID);
         if (type == null)
@@ -183,6 +185,8 @@ public class FileManager {
                 " specified for data file " + f, iae);
         }
 
+        dbFile.setFormatVersion(DBFile.decodeFormatVersion(encodedPageSize));
+
         logger.debug(String.format("Opened existing database file %s; " +
             "type is %s, page size is %d.", f, type, pageSize));
 
@@ -227,7 +231,21 @@ public class FileManager {
 
         long pageStart = getPageStart(dbFile, pageNo);
 
+        // 文件句柄的读写位置是共享的，seek和读写必须一起在文件句柄上同步
         RandomAccessFile fileContents = dbFile.getFileContents();
+        synchronized (fileContents) {
+            loadPageData(dbFile, fileContents, page, pageStart, create);
+        }
+
+        return page;
+    }
+
+
+    /** 在文件句柄上同步后读出页面的内容，页面超出文件末尾时按需扩展文件 */
+    private void loadPageData(DBFile dbFile, RandomAccessFile fileContents,
+        DBPage page, long pageStart, boolean create) throws IOException {
+
+        int pageNo = page.getPageNo();
         fileContents.seek(pageStart);
         try {
             fileContents.readFully(page.getPageData());
@@ -268,8 +286,6 @@ public class FileManager {
                 throw e;
             }
         }
-
-        return page;
     }
 
 
@@ -319,8 +335,10 @@ public class FileManager {
         long pageStart = getPageStart(dbFile, page.getPageNo());
 
         RandomAccessFile fileContents = dbFile.getFileContents();
-        fileContents.seek(pageStart);
-        fileContents.write(page.getPageData());
+        synchronized (fileContents) {
+            fileContents.seek(pageStart);
+            fileContents.write(page.getPageData());
+        }
         page.setDirty(false);
     }
 
@@ -20,6 +20,10 @@ public class FilePointer implements Comparable<FilePointer>, Cloneable {
     public static final FilePointer ZERO_FILE_POINTER = new FilePointer(0, 0);
 
 
+    /** 存储一个file-pointer占用的字节数：pageNo(4B)+offset(2B) */
+    public static final int STORAGE_SIZE = 6;
+
+
     /** The page number in the table file.  This value is nonnegative. */
     private int pageNo;
 
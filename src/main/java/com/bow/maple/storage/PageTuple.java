@@ -251,7 +251,8 @@ public abstract class PageTuple implements IPageTuple {
             int valueSize = PageTupleUtil.getStorageSize(colType, dataLength);
             // 删除此列的值
             deleteTupleDataRange(valueOffsets[iCol], valueSize);
-            // 在此值前面的offset都要加上valueSize
+            // 在此值前面的offset都要加上valueSize，tuple的开头也后移了
+            pageOffset += valueSize;
             for (int jCol = 0; jCol < iCol; jCol++) {
                 if (valueOffsets[jCol] != NULL_OFFSET)
                     valueOffsets[jCol] += valueSize;
@@ -312,16 +313,20 @@ public abstract class PageTuple implements IPageTuple {
             deleteTupleDataRange(offset, oldDataSize - newDataSize);
         }
 
-        // 写值
-        PageTupleUtil.writeNonNullValue(dbPage, offset, colType, value);
-
-        // 更新valueOffsets
+        // [tuple开头, offset)的数据整体移动了changed，包括NULL标记和这一列的
+        // 起始位置，新值从offset - changed开始
         int changed = newDataSize - oldDataSize;
-        for (int jCol = 0; jCol <= colIndex; jCol++) {
+        pageOffset -= changed;
+        for (int jCol = 0; jCol < colIndex; jCol++) {
             if (valueOffsets[jCol] != NULL_OFFSET) {
                 valueOffsets[jCol] -= changed;
             }
         }
+        valueOffsets[colIndex] = offset - changed;
+        setNullFlag(colIndex, false);
+
+        // 写值
+        PageTupleUtil.writeNonNullValue(dbPage, valueOffsets[colIndex], colType, value);
     }
 
     /**
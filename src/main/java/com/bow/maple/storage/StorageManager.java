@@ -13,8 +13,10 @@ import com.bow.maple.relations.TableConstraintType;
 import com.bow.maple.relations.TableSchema;
 import com.bow.maple.server.EventDispatcher;
 import com.bow.maple.storage.btreeindex.BTreeIndexManager;
+import com.bow.maple.storage.hashindex.HashIndexManager;
 import com.bow.maple.storage.colstore.ColStoreTableManager;
 import com.bow.maple.storage.heapfile.HeapFileTableManager;
+import com.bow.maple.storage.writeahead.WALManager;
 import com.bow.maple.transactions.TransactionManager;
 import com.bow.maple.util.PropertiesUtil;
 import org.apache.log4j.Logger;
@@ -64,6 +66,10 @@ public class StorageManager {
     private static StorageManager storageMgr = null;
 
 
+    /** 表被修改时维护索引，随存储管理器注册和注销 */
+    private static IndexUpdater indexUpdater = null;
+
+
     /**
      * This method initializes the singleton instance of the storage manager.
      * It should only be called once, at database startup.
@@ -84,8 +90,8 @@ public class StorageManager {
         storageMgr.finishInit();
 
         // Register the component that manages indexes when tables are modified.
-        EventDispatcher.getInstance().addRowEventListener(
-            new IndexUpdater());
+        indexUpdater = new IndexUpdater();
+        EventDispatcher.getInstance().addRowEventListener(indexUpdater);
     }
 
 
@@ -120,6 +126,10 @@ public class StorageManager {
 
         storageMgr.shutdownStorage();
         storageMgr = null;
+
+        // 同一个进程中重新初始化时不能重复维护索引
+        EventDispatcher.getInstance().removeRowEventListener(indexUpdater);
+        indexUpdater = null;
     }
 
 
@@ -246,6 +256,9 @@ public class StorageManager {
         fileTypeManagers.put(DBFileType.BTREE_INDEX_FILE,
             new BTreeIndexManager(this));
 
+        fileTypeManagers.put(DBFileType.HASH_INDEX_FILE,
+            new HashIndexManager(this));
+
         fileTypeManagers.put(DBFileType.CS_DATA_FILE,
         	new ColStoreTableManager(this));
     }
@@ -257,11 +270,18 @@ public class StorageManager {
 
 
     private void shutdownStorage() throws IOException {
-        transactionManager.forceWAL();
+        // 关闭了事务处理时没有事务管理器
+        if (transactionManager != null)
+            transactionManager.shutdown();
 
         List<DBFile> dbFiles = bufferManager.removeAll();
-        for (DBFile dbFile : dbFiles)
+        WALManager walManager = (WALManager) fileTypeManagers.get(DBFileType.WRITE_AHEAD_LOG_FILE);
+        for (DBFile dbFile : dbFiles) {
+            // WAL的页面不在bufferManager中，关闭前由WALManager写出并移出缓存
+            if (walManager != null && dbFile.getType() == DBFileType.WRITE_AHEAD_LOG_FILE)
+                walManager.closeWALFile(dbFile);
             fileManager.closeDBFile(dbFile);
+        }
     }
 
 
@@ -406,13 +426,24 @@ public class StorageManager {
     public DBPage loadDBPage(DBFile dbFile, int pageNo, boolean create)
         throws IOException {
 
-        // Try to retrieve from the buffer manager.
+        // Try to retrieve from the buffer manager.  The buffer manager's
+        // lock is only held for the lookup and the insert, never across disk
+        // reads, so that parallel scans of different files don't serialize.
         DBPage dbPage = bufferManager.getPage(dbFile, pageNo);
-        if (dbPage == null) {
-            // Buffer manager didn't have it.  Read direct from the file, then
-            // add it to the buffer manager.
-            dbPage = fileManager.loadDBPage(dbFile, pageNo, create);
-            bufferManager.addPage(dbPage);
+        if (dbPage != null)
+            return dbPage;
+
+        // 同一文件的缺页按文件串行处理：持有文件锁期间该页面只能由当前线程
+        // 放入缓存，因此重新检查后从文件读出的内容不会比缓存中的旧，同一页面
+        // 也不会被读入两次
+        synchronized (dbFile) {
+            dbPage = bufferManager.getPage(dbFile, pageNo);
+            if (dbPage == null) {
+                // Buffer manager didn't have it.  Read direct from the file, then
+                // add it to the buffer manager.
+                dbPage = fileManager.loadDBPage(dbFile, pageNo, create);
+                bufferManager.addPage(dbPage);
+            }
         }
 
         return dbPage;
@@ -459,6 +490,27 @@ public class StorageManager {
     }
 
 
+    /**
+     * 把文件在缓存中的脏页面写回磁盘并同步。不经过WAL写入的页面(例如列式存储
+     * 追加的列块)在依赖它们的修改记录到日志之前须调用此方法。
+     *
+     * @param dbFile 要写回的文件
+     * @throws IOException 写入或同步出错
+     */
+    public void syncDBFile(DBFile dbFile) throws IOException {
+        bufferManager.writeDBFile(dbFile, true);
+    }
+
+
+    /**
+     * 释放当前会话pin住的所有页面。并行扫描的工作线程各自有独立的会话，
+     * 结束时须调用此方法，否则页面会一直无法被换出。
+     */
+    public void unpinAllPages() {
+        bufferManager.unpinAllPages();
+    }
+
+
     /*========================================================================
      * CODE RELATED TO TABLE FILES
      */
@@ -697,7 +749,7 @@ public class StorageManager {
      *         while storing the initial index data.
      */
     public void createIndex(IndexFileInfo idxFileInfo) throws IOException {
-        String indexName = idxFileInfo.getTableName();
+        String indexName = idxFileInfo.getIndexName();
         String idxFileName = getIndexFileName(indexName);
 
         DBFileType type = idxFileInfo.getIndexType();
@@ -710,7 +762,7 @@ public class StorageManager {
             " at path " + dbFile.getDataFile());
 
         // Cache this index since it's now considered "open".
-        openIndexes.put(idxFileInfo.getTableName(), idxFileInfo);
+        openIndexes.put(idxFileInfo.getIndexName(), idxFileInfo);
 
         idxFileInfo.setDBFile(dbFile);
         idxFileInfo.setIndexManager(idxManager);
@@ -761,7 +813,7 @@ public class StorageManager {
             " at path " + dbFile.getDataFile());
 
         // Cache this index since it's now considered "open".
-        openIndexes.put(idxFileInfo.getTableName(), idxFileInfo);
+        openIndexes.put(idxFileInfo.getIndexName(), idxFileInfo);
 
         idxFileInfo.setDBFile(dbFile);
         idxFileInfo.setIndexManager(idxManager);
@@ -44,6 +44,18 @@ public interface TableManager {
     void loadTableInfo(TableFileInfo tblFileInfo) throws IOException;
 
 
+    /**
+     * 把内存中修改过的schema(例如<tt>CREATE INDEX</tt>新增的索引)重新写入
+     * 表文件。
+     *
+     * @param tblFileInfo 已经打开的表
+     *
+     * @throws IOException if an IO error occurs when attempting to save the
+     *         table's schema.
+     */
+    void saveTableInfo(TableFileInfo tblFileInfo) throws IOException;
+
+
     /**
      * This method closes a table file that is currently open, possibly flushing
      * any dirty pages to the table's storage in the process.
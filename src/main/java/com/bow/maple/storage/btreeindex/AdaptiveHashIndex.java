@@ -0,0 +1,153 @@
+package com.bow.maple.storage.btreeindex;
+
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.bow.maple.relations.Tuple;
+
+
+/**
+ * <p>
+ * 一个B<sup>+</sup>树索引的自适应哈希索引：只在内存中，把经常查找的key直接
+ * 映射到它所在的叶子页面，再次查找这些key时不必从根节点下降。
+ * </p>
+ * <p>
+ * 每次从根节点下降查找时记录该key的查找次数，达到{@link #promoteThreshold}后
+ * 才加入哈希表。查找次数和哈希表都按LRU淘汰，各自最多{@link #maxEntries}个
+ * key。叶子页面分裂、合并、与兄弟页面移动key或者被释放时，由
+ * {@link #invalidatePage}删除指向该页面的所有记录。
+ * </p>
+ * <p>
+ * 叶子页面中单个key的插入和删除会移动key在页面中的位置，因此只记录页号，
+ * 页面中的位置仍由二分查找确定。这样的插入和删除也不会使记录失效，使用记录
+ * 前由{@link BTreeIndexManager}检查页面中的第一个key小于查找的key：这时左边
+ * 的叶子页面中不会有匹配的key，从这个页面向右扫描即可。
+ * </p>
+ * <p>
+ * 多个会话在共享的树latch下并发查找，所有方法都是同步的。
+ * </p>
+ */
+class AdaptiveHashIndex {
+
+    /** 哈希表和查找次数中各自最多保存的key的个数 */
+    private final int maxEntries;
+
+    /** 从根节点查找多少次之后加入哈希表 */
+    private final int promoteThreshold;
+
+    /** 查找的key到叶子页面页号的映射，按访问顺序排列 */
+    private final LinkedHashMap<List<Object>, Integer> leafPages;
+
+    /** 各个key从根节点查找的次数，最多记到{@link #promoteThreshold} */
+    private final LinkedHashMap<List<Object>, Integer> probeCounts;
+
+
+    AdaptiveHashIndex(final int maxEntries, int promoteThreshold) {
+        if (maxEntries <= 0)
+            throw new IllegalArgumentException("maxEntries must be positive");
+
+        this.maxEntries = maxEntries;
+        this.promoteThreshold = Math.max(1, promoteThreshold);
+
+        leafPages = new LinkedHashMap<List<Object>, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, Integer> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        probeCounts = new LinkedHashMap<List<Object>, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, Integer> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+
+    /**
+     * 哈希表使用key中各列的值，查找的key可以只包含索引的前几列
+     */
+    private static List<Object> makeHashKey(Tuple searchKey) {
+        List<Object> values = new ArrayList<Object>(searchKey.getColumnCount());
+        for (int i = 0; i < searchKey.getColumnCount(); i++)
+            values.add(searchKey.getColumnValue(i));
+        return values;
+    }
+
+
+    /**
+     * 查找key所在的叶子页面
+     *
+     * @param searchKey 查找的key
+     * @return 叶子页面的页号，不在哈希表中时返回<tt>null</tt>
+     */
+    synchronized Integer lookup(Tuple searchKey) {
+        return leafPages.get(makeHashKey(searchKey));
+    }
+
+
+    /**
+     * 记录一次从根节点下降的查找。达到阈值的key仍然保留查找次数，它的记录
+     * 因页面变化而失效后，下一次下降时立即重新加入哈希表。
+     *
+     * @param searchKey 查找的key
+     * @return 查找次数达到阈值，应当加入哈希表时返回true
+     */
+    synchronized boolean recordProbe(Tuple searchKey) {
+        List<Object> hashKey = makeHashKey(searchKey);
+        Integer count = probeCounts.get(hashKey);
+        int newCount = (count == null) ? 1 : Math.min(count + 1, promoteThreshold);
+        probeCounts.put(hashKey, newCount);
+        return newCount >= promoteThreshold;
+    }
+
+
+    /**
+     * 把key加入哈希表
+     *
+     * @param searchKey 查找的key
+     * @param pageNo key所在的叶子页面
+     */
+    synchronized void put(Tuple searchKey, int pageNo) {
+        leafPages.put(makeHashKey(searchKey), pageNo);
+    }
+
+
+    /**
+     * 删除一个key的记录，用于检查发现记录已经过时的情况
+     */
+    synchronized void remove(Tuple searchKey) {
+        leafPages.remove(makeHashKey(searchKey));
+    }
+
+
+    /**
+     * 删除指向某个页面的所有记录
+     *
+     * @param pageNo 内容发生了结构性变化或者被释放的页面
+     */
+    synchronized void invalidatePage(int pageNo) {
+        Iterator<Integer> iter = leafPages.values().iterator();
+        while (iter.hasNext()) {
+            if (iter.next() == pageNo)
+                iter.remove();
+        }
+    }
+
+
+    /** 删除所有记录，用于重新建立整个索引 */
+    synchronized void clear() {
+        leafPages.clear();
+        probeCounts.clear();
+    }
+
+
+    synchronized int size() {
+        return leafPages.size();
+    }
+}
@@ -0,0 +1,577 @@
+package com.bow.maple.storage.btreeindex;
+
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.bow.lab.indexes.IndexFileInfo;
+import com.bow.lab.storage.heap.PageTupleUtil;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.expressions.TupleComparator;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ConstraintViolationException;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBFileType;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileManager;
+import com.bow.maple.storage.PageTuple;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.storage.TableManager;
+import com.bow.maple.util.PropertiesUtil;
+import org.apache.log4j.Logger;
+
+
+/**
+ * <p>
+ * 为已有数据的表自底向上地建立B<sup>+</sup>树索引，而不是对每个tuple调用
+ * {@link BTreeIndexManager#addTuple}从根节点向下插入：
+ * </p>
+ * <ol>
+ * <li>扫描整个表，生成每个tuple的key(索引列加上tuple的file-pointer)。内存中
+ *     的key超过{@link #PROP_SORT_BUFFER_SIZE}字节时排序后写入一个临时的run
+ *     文件，最后多路归并所有的run，得到有序的key序列。</li>
+ * <li>从左到右依次填充叶子页面，每页按前缀压缩后的大小填到
+ *     {@link #PROP_FILL_FACTOR}为止，留出空间给之后的插入。叶子页面在文件中
+ *     连续存放，并依次链接。</li>
+ * <li>用相邻叶子页面之间截短的分隔key(见{@link InnerPage#makeSeparatorKey})，
+ *     一层一层地向上建立内部页面，直到只剩一个页面作为根。</li>
+ * </ol>
+ * <p>
+ * 叶子页面和内部页面按顺序直接写入文件，不经过缓冲池，也不写WAL；写完后
+ * 同步文件，最后才通过缓冲池修改头页面中的根页面和第一个叶子页面。
+ * </p>
+ */
+class BTreeBulkLoader {
+    /** A logging object for reporting anything interesting that happens. */
+    private static Logger logger = Logger.getLogger(BTreeBulkLoader.class);
+
+
+    /**
+     * 批量建立索引时页面的填充率，用百分比表示，默认90。内部页面也按这个比例
+     * 填充。
+     */
+    public static final String PROP_FILL_FACTOR = "nanodb.index.fillFactor";
+
+    public static final int DEFAULT_FILL_FACTOR = 90;
+
+
+    /**
+     * 外部排序时在内存中排序的key的总字节数，超过后写出一个run。默认4M
+     */
+    public static final String PROP_SORT_BUFFER_SIZE = "nanodb.index.sortBufferSize";
+
+    public static final int DEFAULT_SORT_BUFFER_SIZE = 4 * 1024 * 1024;
+
+
+    private static final int POINTER_SIZE = BTreeIndexManager.POINTER_SIZE;
+
+
+    private static final Comparator<Tuple> KEY_COMPARATOR = new Comparator<Tuple>() {
+        @Override
+        public int compare(Tuple a, Tuple b) {
+            return TupleComparator.compareTuples(a, b);
+        }
+    };
+
+
+    private StorageManager storageManager;
+
+    private BTreeIndexManager indexManager;
+
+    private IndexFileInfo idxFileInfo;
+
+    private DBFile dbFile;
+
+    /** 索引的schema，最后一列是file-pointer */
+    private List<ColumnInfo> colInfos;
+
+    /** 直接读写索引文件和run文件，不经过缓冲池 */
+    private FileManager fileManager;
+
+    private int pageSize;
+
+    private int fillFactor;
+
+    private int sortBufferSize;
+
+    /** 外部排序产生的临时文件，建立完成后删除 */
+    private ArrayList<DBFile> runFiles = new ArrayList<DBFile>();
+
+    /** 下一个要写入索引文件的页号 */
+    private int nextPageNo;
+
+
+    BTreeBulkLoader(StorageManager storageManager, BTreeIndexManager indexManager,
+                    IndexFileInfo idxFileInfo) {
+        this.storageManager = storageManager;
+        this.indexManager = indexManager;
+        this.idxFileInfo = idxFileInfo;
+
+        dbFile = idxFileInfo.getDBFile();
+        colInfos = idxFileInfo.getIndexSchema();
+        fileManager = new FileManager(storageManager.getBaseDir());
+        pageSize = dbFile.getPageSize();
+
+        fillFactor = PropertiesUtil.getInt(PROP_FILL_FACTOR, DEFAULT_FILL_FACTOR);
+        if (fillFactor < 50 || fillFactor > 100) {
+            logger.warn(String.format("%s = %d is out of range [50, 100], using %d",
+                PROP_FILL_FACTOR, fillFactor, DEFAULT_FILL_FACTOR));
+            fillFactor = DEFAULT_FILL_FACTOR;
+        }
+
+        sortBufferSize = Math.max(pageSize,
+            PropertiesUtil.getInt(PROP_SORT_BUFFER_SIZE, DEFAULT_SORT_BUFFER_SIZE));
+    }
+
+
+    /**
+     * 扫描表并建立索引。
+     *
+     * @param unique 为<tt>true</tt>时，索引列(不含file-pointer)相同且不含
+     *        <tt>NULL</tt>的两个key会导致建立失败
+     *
+     * @throws ConstraintViolationException 唯一索引中出现重复的key
+     * @throws IOException 读取表、写入索引或者临时文件出错
+     */
+    void load(boolean unique) throws IOException {
+        DBPage dbpHeader = storageManager.loadDBPage(dbFile, 0);
+        try {
+            if (HeaderPage.getRootPageNo(dbpHeader) != 0) {
+                throw new IllegalStateException("Index " + idxFileInfo.getIndexName() +
+                    " is not empty; can only bulk-load a new index");
+            }
+
+            nextPageNo = dbFile.getNumPages();
+
+            List<SortedRun> runs = sortKeys();
+            List<PageEntry> leaves = writeLeaves(runs, unique);
+
+            int rootPageNo = 0;
+            int firstLeafPageNo = 0;
+            if (!leaves.isEmpty()) {
+                firstLeafPageNo = leaves.get(0).pageNo;
+
+                List<PageEntry> level = leaves;
+                while (level.size() > 1)
+                    level = writeInnerLevel(level);
+
+                rootPageNo = level.get(0).pageNo;
+            }
+
+            // 先让数据页面落盘，再修改头页面指向新的树
+            fileManager.syncDBFile(dbFile);
+
+            HeaderPage.setRootPageNo(dbpHeader, rootPageNo);
+            HeaderPage.setFirstLeafPageNo(dbpHeader, firstLeafPageNo);
+            HeaderPage.setFirstEmptyPageNo(dbpHeader, 0);
+            storageManager.logDBPageWrite(dbpHeader);
+
+            logger.info(String.format("Bulk-loaded index %s:  %d leaves, root page %d, %d pages total",
+                idxFileInfo.getIndexName(), leaves.size(), rootPageNo, nextPageNo));
+        }
+        finally {
+            storageManager.unpinDBPage(dbpHeader);
+            deleteRunFiles();
+        }
+    }
+
+
+    /**
+     * 扫描表生成所有的key并排序。内存放不下时把排好序的部分写入run文件。
+     *
+     * @return 需要归并的有序序列，最后一个是留在内存中的部分
+     */
+    private List<SortedRun> sortKeys() throws IOException {
+        TableFileInfo tblFileInfo = idxFileInfo.getTableFileInfo();
+        TableManager tableManager = tblFileInfo.getTableManager();
+
+        ArrayList<SortedRun> runs = new ArrayList<SortedRun>();
+        ArrayList<LiteralTuple> buffer = new ArrayList<LiteralTuple>();
+        long bufferBytes = 0;
+        // 叶子页面中至少还有一个空的前缀和两个slot
+        int maxKeySize = pageSize - LeafPage.OFFSET_KEY_PREFIX - 2 -
+            LeafPage.getSlotDirectorySize(1);
+
+        Tuple tup = tableManager.getFirstTuple(tblFileInfo);
+        while (tup != null) {
+            LiteralTuple key = indexManager.makeStoredKeyValue(idxFileInfo, (PageTuple) tup);
+            if (key.getStorageSize() > maxKeySize) {
+                throw new IOException(String.format("Key %s is %d bytes, too large for index %s",
+                    key, key.getStorageSize(), idxFileInfo.getIndexName()));
+            }
+
+            buffer.add(key);
+            bufferBytes += key.getStorageSize();
+            if (bufferBytes >= sortBufferSize) {
+                Collections.sort(buffer, KEY_COMPARATOR);
+                runs.add(writeRun(buffer));
+                buffer.clear();
+                bufferBytes = 0;
+            }
+
+            tup = tableManager.getNextTuple(tblFileInfo, tup);
+        }
+
+        Collections.sort(buffer, KEY_COMPARATOR);
+        runs.add(new MemoryRun(buffer));
+
+        logger.debug(String.format("Sorted keys for index %s into %d runs",
+            idxFileInfo.getIndexName(), runs.size()));
+
+        return runs;
+    }
+
+
+    /**
+     * 把排好序的key依次写入一个新的run文件。run文件的数据页面从第1页开始，
+     * 每页开头是key的个数，然后是连续存放的key。
+     */
+    private SortedRun writeRun(List<LiteralTuple> keys) throws IOException {
+        String filename = String.format("%s_run%03d.tmp", idxFileInfo.getIndexName(),
+            runFiles.size() + 1);
+        DBFile runFile = fileManager.createDBFile(filename, DBFileType.SORT_RUN_FILE, pageSize);
+        runFiles.add(runFile);
+
+        int pageNo = 1;
+        DBPage page = new DBPage(runFile, pageNo);
+        int offset = 2;
+        int numKeys = 0;
+
+        for (LiteralTuple key : keys) {
+            if (offset + key.getStorageSize() > pageSize) {
+                page.writeShort(0, numKeys);
+                fileManager.saveDBPage(page);
+
+                pageNo++;
+                page = new DBPage(runFile, pageNo);
+                offset = 2;
+                numKeys = 0;
+            }
+
+            offset = PageTupleUtil.storeTuple(page, offset, colInfos, key);
+            numKeys++;
+        }
+
+        page.writeShort(0, numKeys);
+        fileManager.saveDBPage(page);
+
+        logger.debug(String.format("Wrote %d keys into sort run %s (%d pages)",
+            keys.size(), filename, pageNo));
+
+        return new FileRun(runFile);
+    }
+
+
+    /**
+     * 归并所有的run，按顺序把key填入叶子页面。
+     *
+     * @return 每个叶子页面的页号和它与前一个页面之间的分隔key，第一个页面是
+     *         它的第一个key，索引为空时返回空列表
+     */
+    private List<PageEntry> writeLeaves(List<SortedRun> runs, boolean unique)
+        throws IOException {
+
+        PriorityQueue<SortedRun> queue = new PriorityQueue<SortedRun>(runs.size(),
+            new Comparator<SortedRun>() {
+                @Override
+                public int compare(SortedRun a, SortedRun b) {
+                    return TupleComparator.compareTuples(a.current, b.current);
+                }
+            });
+
+        for (SortedRun run : runs) {
+            if (run.advance())
+                queue.add(run);
+        }
+
+        ArrayList<PageEntry> leaves = new ArrayList<PageEntry>();
+        int fillLimit = getFillLimit(LeafPage.OFFSET_KEY_PREFIX);
+
+        DBPage leaf = null;
+        // 当前叶子页面中的key，以及它们不计前缀压缩时的大小之和
+        ArrayList<LiteralTuple> leafKeys = new ArrayList<LiteralTuple>();
+        int keysSize = 0;
+        LiteralTuple prevKey = null;
+
+        while (!queue.isEmpty()) {
+            SortedRun run = queue.poll();
+            LiteralTuple key = run.current;
+            if (run.advance())
+                queue.add(run);
+
+            if (unique && prevKey != null && isDuplicate(prevKey, key)) {
+                throw new ConstraintViolationException(String.format(
+                    "Can't create unique index %s:  duplicate key %s",
+                    idxFileInfo.getIndexName(), key));
+            }
+
+            if (leaf != null) {
+                // 加入这个key之后的共同前缀和编码后的大小
+                int numKeys = leafKeys.size() + 1;
+                int prefixLen = LeafPage.getKeyPrefix(colInfos, leafKeys.get(0), key).length();
+                int encodedSize = 2 + keysSize + key.getStorageSize() - prefixLen * (numKeys - 1) +
+                    LeafPage.getSlotDirectorySize(numKeys);
+                if (LeafPage.OFFSET_KEY_PREFIX + encodedSize > fillLimit) {
+                    // 当前叶子页面已满，它的下一个页面就是紧接着写入的页面
+                    finishLeaf(leaf, leafKeys, nextPageNo);
+                    leaf = null;
+                }
+            }
+
+            if (leaf == null) {
+                leaf = newPage(BTreeIndexManager.BTREE_LEAF_PAGE);
+                leafKeys.clear();
+                keysSize = 0;
+
+                LiteralTuple separator = (prevKey == null) ? key :
+                    InnerPage.makeSeparatorKey(colInfos, prevKey, key);
+                leaves.add(new PageEntry(leaf.getPageNo(), separator));
+            }
+
+            leafKeys.add(key);
+            keysSize += key.getStorageSize();
+            prevKey = key;
+        }
+
+        if (leaf != null)
+            finishLeaf(leaf, leafKeys, 0);
+
+        return leaves;
+    }
+
+
+    private void finishLeaf(DBPage leaf, List<LiteralTuple> leafKeys, int nextLeafPageNo)
+        throws IOException {
+        LeafPage.writeKeys(leaf, colInfos, leafKeys, 0, leafKeys.size());
+        leaf.writeInt(LeafPage.OFFSET_NEXT_PAGE_NO, nextLeafPageNo);
+        fileManager.saveDBPage(leaf);
+    }
+
+
+    /**
+     * 比较索引列(不含file-pointer和INCLUDE列)，含有<tt>NULL</tt>的key不算重复
+     */
+    private boolean isDuplicate(Tuple prevKey, Tuple key) {
+        int numKeyCols = idxFileInfo.getTableColumnIndexes().size();
+        for (int i = 0; i < numKeyCols; i++) {
+            Object value = key.getColumnValue(i);
+            if (value == null || TupleComparator.compareValues(prevKey.getColumnValue(i), value) != 0)
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * 为下一层的页面建立一层内部页面。每个内部页面的第一个指针之后，依次是
+     * 子页面的分隔key和指向该子页面的指针。
+     *
+     * @param children 下一层的页面，按key的顺序排列
+     * @return 新建立的内部页面
+     */
+    private List<PageEntry> writeInnerLevel(List<PageEntry> children) throws IOException {
+        int fillLimit = getFillLimit(InnerPage.OFFSET_FIRST_POINTER);
+
+        // 先把子页面分组，每组对应一个内部页面
+        ArrayList<Integer> groupStarts = new ArrayList<Integer>();
+        int offset = 0;
+        for (int i = 0; i < children.size(); i++) {
+            int entrySize = children.get(i).key.getStorageSize() + InnerPage.POINTER_ENTRY_SIZE;
+            if (groupStarts.isEmpty() || offset + entrySize > fillLimit) {
+                groupStarts.add(i);
+                offset = InnerPage.OFFSET_FIRST_POINTER + InnerPage.POINTER_ENTRY_SIZE;
+            }
+            else {
+                offset += entrySize;
+            }
+        }
+
+        // 内部页面至少要有两个指针。最后一组只有一个子页面时，能放下就并入
+        // 前一组，否则从前一组借一个子页面过来。
+        int numGroups = groupStarts.size();
+        if (numGroups > 1 && groupStarts.get(numGroups - 1) == children.size() - 1) {
+            int prevStart = groupStarts.get(numGroups - 2);
+            if (getInnerPageSize(children, prevStart, children.size()) <= pageSize)
+                groupStarts.remove(numGroups - 1);
+            else
+                groupStarts.set(numGroups - 1, children.size() - 2);
+        }
+
+        ArrayList<PageEntry> parents = new ArrayList<PageEntry>();
+        for (int g = 0; g < groupStarts.size(); g++) {
+            int start = groupStarts.get(g);
+            int end = (g + 1 < groupStarts.size()) ? groupStarts.get(g + 1) : children.size();
+
+            DBPage inner = newPage(BTreeIndexManager.BTREE_INNER_PAGE);
+            offset = InnerPage.OFFSET_FIRST_POINTER;
+            inner.writeShort(InnerPage.getSlotOffset(inner, 0), offset);
+            inner.writeInt(offset, children.get(start).pageNo);
+            offset += POINTER_SIZE;
+
+            for (int i = start + 1; i < end; i++) {
+                PageEntry child = children.get(i);
+                offset = PageTupleUtil.storeTuple(inner, offset, colInfos, child.key);
+                inner.writeShort(InnerPage.getSlotOffset(inner, i - start), offset);
+                inner.writeInt(offset, child.pageNo);
+                offset += POINTER_SIZE;
+            }
+
+            inner.writeShort(InnerPage.OFFSET_NUM_POINTERS, end - start);
+            fileManager.saveDBPage(inner);
+
+            // 第一个子页面的分隔key同样分隔这个内部页面和它左边的页面
+            parents.add(new PageEntry(inner.getPageNo(), children.get(start).key));
+        }
+
+        return parents;
+    }
+
+
+    /**
+     * 计算以<tt>children[start, end)</tt>为子页面的内部页面占用的字节数，包括
+     * slot目录
+     */
+    private static int getInnerPageSize(List<PageEntry> children, int start, int end) {
+        int size = InnerPage.OFFSET_FIRST_POINTER + InnerPage.POINTER_ENTRY_SIZE;
+        for (int i = start + 1; i < end; i++)
+            size += children.get(i).key.getStorageSize() + InnerPage.POINTER_ENTRY_SIZE;
+        return size;
+    }
+
+
+    /**
+     * 按填充率计算页面中数据的结束位置
+     */
+    private int getFillLimit(int headerSize) {
+        return headerSize + (pageSize - headerSize) * fillFactor / 100;
+    }
+
+
+    /**
+     * 在索引文件末尾分配一个新页面
+     */
+    private DBPage newPage(int pageType) throws IOException {
+        DBPage dbPage = new DBPage(dbFile, nextPageNo);
+        dbPage.writeByte(0, pageType);
+        nextPageNo++;
+        return dbPage;
+    }
+
+
+    private void deleteRunFiles() {
+        for (DBFile runFile : runFiles) {
+            try {
+                fileManager.deleteDBFile(runFile);
+            }
+            catch (IOException e) {
+                logger.warn("Couldn't delete sort run " + runFile, e);
+            }
+        }
+        runFiles.clear();
+    }
+
+
+    /**
+     * 一个页面和它左边的分隔key(不大于它的子树中的第一个key)
+     */
+    private static class PageEntry {
+        int pageNo;
+
+        LiteralTuple key;
+
+        PageEntry(int pageNo, LiteralTuple key) {
+            this.pageNo = pageNo;
+            this.key = key;
+        }
+    }
+
+
+    /**
+     * 外部排序中的一个有序序列，{@link #current}是当前的key
+     */
+    private abstract static class SortedRun {
+        LiteralTuple current;
+
+        /**
+         * 移动到下一个key
+         *
+         * @return 序列已经结束时返回<tt>false</tt>
+         */
+        abstract boolean advance() throws IOException;
+    }
+
+
+    private static class MemoryRun extends SortedRun {
+        private List<LiteralTuple> keys;
+
+        private int index = 0;
+
+        MemoryRun(List<LiteralTuple> keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        boolean advance() {
+            if (index >= keys.size()) {
+                current = null;
+                return false;
+            }
+
+            current = keys.get(index);
+            // 已经取出的key不再需要，尽早释放
+            keys.set(index, null);
+            index++;
+            return true;
+        }
+    }
+
+
+    /**
+     * 顺序读取一个run文件，每次只在内存中保留一个页面
+     */
+    private class FileRun extends SortedRun {
+        private DBFile runFile;
+
+        private PageKeyComparator pageKeys = new PageKeyComparator(colInfos);
+
+        private DBPage page;
+
+        private int offset;
+
+        private int remaining;
+
+        FileRun(DBFile runFile) {
+            this.runFile = runFile;
+        }
+
+        @Override
+        boolean advance() throws IOException {
+            while (remaining == 0) {
+                int pageNo = (page == null) ? 1 : page.getPageNo() + 1;
+                if (pageNo >= runFile.getNumPages()) {
+                    current = null;
+                    return false;
+                }
+
+                page = fileManager.loadDBPage(runFile, pageNo);
+                offset = 2;
+                remaining = page.readUnsignedShort(0);
+            }
+
+            int keySize = pageKeys.getKeySize(page, offset);
+            current = new LiteralTuple(new BTreeIndexPageTuple(page, offset, colInfos));
+            current.setStorageSize(keySize);
+
+            offset += keySize;
+            remaining--;
+            return true;
+        }
+    }
+}
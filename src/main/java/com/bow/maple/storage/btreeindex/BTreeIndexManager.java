@@ -4,13 +4,15 @@ package com.bow.maple.storage.btreeindex;
 import java.io.IOException;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.bow.lab.storage.heap.PageTupleUtil;
-import com.bow.maple.expressions.TupleComparator;
 import org.apache.log4j.Logger;
 
 import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.expressions.TupleComparator;
 
 import com.bow.lab.indexes.IndexFileInfo;
 import com.bow.lab.indexes.IndexInfo;
@@ -18,12 +20,15 @@ import com.bow.lab.indexes.IndexManager;
 
 import com.bow.maple.relations.ColumnIndexes;
 import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.KeyColumnIndexes;
 import com.bow.maple.relations.TableConstraintType;
 
 import com.bow.maple.storage.DBFile;
 import com.bow.maple.storage.DBPage;
 import com.bow.maple.storage.PageTuple;
 import com.bow.maple.storage.StorageManager;
+import com.bow.maple.transactions.LockMode;
+import com.bow.maple.util.PropertiesUtil;
 
 
 /**
@@ -47,7 +52,7 @@ import com.bow.maple.storage.StorageManager;
  *     {@link InnerPage} and {@link LeafPage} classes.</li>
  * <li>Empty nodes are formed into a simple singly linked list.  Each empty
  *     node holds a page-pointer to the next empty node in the sequence, using
- *     an unsigned short stored at index 1 (after the page-type value in index
+ *     an int stored at index 1 (after the page-type value in index
  *     0).  The final empty page stores 0 as its next-page pointer value.</li>
  * </ul>
  * <p>
@@ -58,6 +63,9 @@ import com.bow.maple.storage.StorageManager;
  * appended to the key-value being stored, so the last column is always the
  * file-pointer to the tuple.
  * </p>
+ * <p>
+ * 多个会话可以并发访问同一个索引，并发控制见{@link BTreeLatches}。
+ * </p>
  */
 public class BTreeIndexManager implements IndexManager {
     /** A logging object for reporting anything interesting that happens. */
@@ -82,7 +90,19 @@ public class BTreeIndexManager implements IndexManager {
      * This value is stored in a B-tree page's byte 0, to indicate that the page
      * is empty.
      */
-    public static final int BTREE_EMPTY_PAGE = 2;
+    public static final int BTREE_EMPTY_PAGE = 3;
+
+
+    /**
+     * 索引文件中页号(头页面中的各个页号、叶子页面的下一页、内部页面的指针以及
+     * 空页面链表)占用的字节数。页号以int存储，见
+     * {@link com.bow.maple.storage.DBFile#INT_PAGE_NO_FORMAT_VERSION}。
+     */
+    public static final int POINTER_SIZE = 4;
+
+
+    /** 空页面中，下一个空页面的页号存储的位置 */
+    public static final int OFFSET_NEXT_EMPTY_PAGE = 1;
 
 
     /**
@@ -94,6 +114,30 @@ public class BTreeIndexManager implements IndexManager {
     public static final boolean CLEAR_OLD_DATA = true;
 
 
+    /**
+     * 每个索引的自适应哈希索引中最多保存的key的个数，0表示不使用自适应哈希
+     * 索引，见{@link AdaptiveHashIndex}
+     */
+    public static final String PROP_ADAPTIVE_HASH_SIZE = "nanodb.index.adaptiveHash.size";
+
+    public static final int DEFAULT_ADAPTIVE_HASH_SIZE = 1024;
+
+
+    /** 一个key从根节点查找多少次之后加入自适应哈希索引 */
+    public static final String PROP_ADAPTIVE_HASH_THRESHOLD = "nanodb.index.adaptiveHash.threshold";
+
+    public static final int DEFAULT_ADAPTIVE_HASH_THRESHOLD = 3;
+
+
+    /**
+     * 范围扫描进入一个新的叶子页面时，预读它右边的多少个兄弟叶子页面，0表示
+     * 不预读，见{@link BTreeRangeCursor}
+     */
+    public static final String PROP_PREFETCH_LEAVES = "nanodb.index.prefetchLeaves";
+
+    public static final int DEFAULT_PREFETCH_LEAVES = 8;
+
+
     /**
      * The table manager uses the storage manager a lot, so it caches a reference
      * to the singleton instance of the storage manager at initialization.
@@ -115,6 +159,28 @@ public class BTreeIndexManager implements IndexManager {
     private InnerPageOperations innerPageOps;
 
 
+    /** 每个索引文件的latch，见{@link BTreeLatches} */
+    private final ConcurrentHashMap<DBFile, BTreeLatches> latches =
+        new ConcurrentHashMap<DBFile, BTreeLatches>();
+
+
+    /** 每个索引文件的自适应哈希索引，见{@link AdaptiveHashIndex} */
+    private final ConcurrentHashMap<DBFile, AdaptiveHashIndex> adaptiveHashIndexes =
+        new ConcurrentHashMap<DBFile, AdaptiveHashIndex>();
+
+
+    /** 自适应哈希索引的大小，0表示不使用 */
+    private int adaptiveHashSize;
+
+
+    /** key加入自适应哈希索引之前从根节点查找的次数 */
+    private int adaptiveHashThreshold;
+
+
+    /** 范围扫描预读的叶子页面数 */
+    private int prefetchLeaves;
+
+
     /**
      * Initializes the heap-file table manager.  This class shouldn't be
      * initialized directly, since the storage manager will initialize it when
@@ -132,6 +198,13 @@ public class BTreeIndexManager implements IndexManager {
 
         innerPageOps = new InnerPageOperations(this);
         leafPageOps = new LeafPageOperations(this, innerPageOps);
+
+        adaptiveHashSize = Math.max(0,
+            PropertiesUtil.getInt(PROP_ADAPTIVE_HASH_SIZE, DEFAULT_ADAPTIVE_HASH_SIZE));
+        adaptiveHashThreshold = PropertiesUtil.getInt(PROP_ADAPTIVE_HASH_THRESHOLD,
+            DEFAULT_ADAPTIVE_HASH_THRESHOLD);
+        prefetchLeaves = Math.max(0,
+            PropertiesUtil.getInt(PROP_PREFETCH_LEAVES, DEFAULT_PREFETCH_LEAVES));
     }
 
 
@@ -199,7 +272,138 @@ public class BTreeIndexManager implements IndexManager {
      *         table's schema and other details.
      */
     public void loadIndexInfo(IndexFileInfo idxFileInfo) throws IOException {
-        // For now, we don't need to do anything in this method.
+        DBFile dbFile = idxFileInfo.getDBFile();
+        if (dbFile.getFormatVersion() < DBFile.CURRENT_FORMAT_VERSION)
+            upgradeIndexFormat(idxFileInfo);
+    }
+
+
+    /**
+     * 旧格式的索引文件中页号是2字节的，或者叶子页面没有key前缀，或者页面没有
+     * slot目录，逐页转换需要改写每一个页面，不如直接丢弃所有数据页面，从表中
+     * 的数据重新建立索引。版本低于{@link DBFile#CURRENT_FORMAT_VERSION}的索引
+     * 都这样处理。
+     * <p>
+     * 截断文件不经过WAL，无法回滚；索引的内容完全可以从表中重新得到，所以
+     * 不需要回滚，只要保证中途崩溃后还会再次重建：头页面中的版本号最后才写，
+     * 写之前先把重建的页面写回磁盘，版本号仍是旧的时下次打开会重新截断、重建。
+     *
+     * @param idxFileInfo 旧格式的索引
+     *
+     * @throws IOException 截断索引文件或者重建索引出错
+     */
+    private void upgradeIndexFormat(IndexFileInfo idxFileInfo) throws IOException {
+        DBFile dbFile = idxFileInfo.getDBFile();
+
+        logger.info(String.format("Index %s uses file format version %d; " +
+            "rebuilding it in format version %d", idxFileInfo.getIndexName(),
+            dbFile.getFormatVersion(), DBFile.CURRENT_FORMAT_VERSION));
+
+        // 索引刚刚打开，数据页面都不在缓冲区中，可以直接截断文件
+        dbFile.getFileContents().setLength(dbFile.getPageSize());
+
+        DBPage dbpHeader = storageManager.loadDBPage(dbFile, 0);
+        try {
+            HeaderPage.setRootPageNo(dbpHeader, 0);
+            HeaderPage.setFirstLeafPageNo(dbpHeader, 0);
+            HeaderPage.setFirstEmptyPageNo(dbpHeader, 0);
+            storageManager.logDBPageWrite(dbpHeader);
+        }
+        finally {
+            storageManager.unpinDBPage(dbpHeader);
+        }
+
+        buildIndex(idxFileInfo);
+        storageManager.syncDBFile(dbFile);
+
+        // 重建的索引已经在磁盘上，最后写入新的版本号
+        dbpHeader = storageManager.loadDBPage(dbFile, 0);
+        try {
+            dbpHeader.writeByte(1, DBFile.encodePageSizeAndVersion(
+                dbFile.getPageSize(), DBFile.CURRENT_FORMAT_VERSION));
+            storageManager.logDBPageWrite(dbpHeader);
+        }
+        finally {
+            storageManager.unpinDBPage(dbpHeader);
+        }
+        storageManager.syncDBFile(dbFile);
+        dbFile.setFormatVersion(DBFile.CURRENT_FORMAT_VERSION);
+    }
+
+
+    /**
+     * 用{@link BTreeBulkLoader}对表中现有的数据排序后自底向上建立索引。主键
+     * 和候选键的索引建立时检查key是否重复。
+     */
+    @Override
+    public void buildIndex(IndexFileInfo idxFileInfo) throws IOException {
+        boolean unique = idxFileInfo.getTableColumnIndexes() instanceof KeyColumnIndexes;
+
+        BTreeLatches indexLatches = getLatches(idxFileInfo);
+        indexLatches.lockTree(LockMode.EXCLUSIVE);
+        try {
+            AdaptiveHashIndex adaptiveHash = getAdaptiveHashIndex(idxFileInfo.getDBFile());
+            if (adaptiveHash != null)
+                adaptiveHash.clear();
+
+            BTreeBulkLoader loader = new BTreeBulkLoader(storageManager, this, idxFileInfo);
+            loader.load(unique);
+        }
+        finally {
+            indexLatches.unlockTree(LockMode.EXCLUSIVE);
+        }
+    }
+
+
+    /**
+     * 返回索引文件的latch，第一次访问时创建
+     */
+    BTreeLatches getLatches(IndexFileInfo idxFileInfo) {
+        DBFile dbFile = idxFileInfo.getDBFile();
+        BTreeLatches indexLatches = latches.get(dbFile);
+        if (indexLatches == null) {
+            BTreeLatches newLatches = new BTreeLatches();
+            indexLatches = latches.putIfAbsent(dbFile, newLatches);
+            if (indexLatches == null)
+                indexLatches = newLatches;
+        }
+        return indexLatches;
+    }
+
+
+    /**
+     * 返回索引文件的自适应哈希索引，第一次访问时创建
+     *
+     * @return 自适应哈希索引，配置为不使用时返回<tt>null</tt>
+     */
+    AdaptiveHashIndex getAdaptiveHashIndex(DBFile dbFile) {
+        if (adaptiveHashSize == 0)
+            return null;
+
+        AdaptiveHashIndex adaptiveHash = adaptiveHashIndexes.get(dbFile);
+        if (adaptiveHash == null) {
+            AdaptiveHashIndex newHash =
+                new AdaptiveHashIndex(adaptiveHashSize, adaptiveHashThreshold);
+            adaptiveHash = adaptiveHashIndexes.putIfAbsent(dbFile, newHash);
+            if (adaptiveHash == null)
+                adaptiveHash = newHash;
+        }
+        return adaptiveHash;
+    }
+
+
+    /**
+     * 叶子页面的key发生了结构性的变化(分裂、合并、与兄弟页面移动key)或者
+     * 页面被释放，删除自适应哈希索引中指向该页面的记录。调用者持有排他的
+     * 树latch。
+     *
+     * @param dbFile 索引文件
+     * @param pageNo 页号
+     */
+    void invalidateLeaf(DBFile dbFile, int pageNo) {
+        AdaptiveHashIndex adaptiveHash = adaptiveHashIndexes.get(dbFile);
+        if (adaptiveHash != null)
+            adaptiveHash.invalidatePage(pageNo);
     }
 
 
@@ -214,29 +418,443 @@ public class BTreeIndexManager implements IndexManager {
         logger.debug("Adding search-key value " + newTupleKey + " to index " +
             idxFileInfo.getIndexName());
 
-        // Navigate to the leaf-page, creating one if the index is currently
-        // empty.
-        ArrayList<Integer> pagePath = new ArrayList<Integer>();
-        LeafPage leaf =
-            navigateToLeafPage(idxFileInfo, newTupleKey, true, pagePath);
+        BTreeLatches indexLatches = getLatches(idxFileInfo);
+
+        // 乐观插入：叶子页面放得下新的key时，只需要这个叶子的排他latch
+        indexLatches.lockTree(LockMode.SHARED);
+        try {
+            LeafPage leaf = navigateToLeafPage(idxFileInfo, newTupleKey, false,
+                null, LockMode.EXCLUSIVE);
+            if (leaf != null) {
+                try {
+                    if (leaf.getFreeSpace() >= leaf.getSpaceNeeded(newTupleKey)) {
+                        leaf.addEntry(newTupleKey);
+                        return;
+                    }
+                }
+                finally {
+                    indexLatches.unlockLeaf(leaf.getPageNo(), LockMode.EXCLUSIVE);
+                }
+            }
+        }
+        finally {
+            indexLatches.unlockTree(LockMode.SHARED);
+        }
 
-        leafPageOps.addEntry(leaf, newTupleKey, pagePath);
+        // 需要分裂叶子页面或者建立根页面，在排他的树latch下重新执行
+        indexLatches.lockTree(LockMode.EXCLUSIVE);
+        try {
+            // Navigate to the leaf-page, creating one if the index is currently
+            // empty.  分裂后仍然放不下新的key时，重新查找叶子页面再插入
+            boolean added = false;
+            while (!added) {
+                ArrayList<Integer> pagePath = new ArrayList<Integer>();
+                LeafPage leaf =
+                    navigateToLeafPage(idxFileInfo, newTupleKey, true, pagePath, null);
+
+                added = leafPageOps.addEntry(leaf, newTupleKey, pagePath);
+            }
+        }
+        finally {
+            indexLatches.unlockTree(LockMode.EXCLUSIVE);
+        }
     }
 
 
+    /**
+     * 从叶子页面中删除tuple对应的key。删除后叶子页面不足半满时，与兄弟页面
+     * 合并或者从兄弟页面借入key，合并释放的页面加入空页面链表。详见
+     * {@link LeafPageOperations#deleteEntry}。
+     */
     @Override
     public void deleteTuple(IndexFileInfo idxFileInfo, PageTuple tup)
         throws IOException {
-        // TODO:  IMPLEMENT
+
+        LiteralTuple oldTupleKey = makeStoredKeyValue(idxFileInfo, tup);
+
+        logger.debug("Removing search-key value " + oldTupleKey +
+            " from index " + idxFileInfo.getIndexName());
+
+        BTreeLatches indexLatches = getLatches(idxFileInfo);
+
+        // 乐观删除：删除后叶子页面不需要合并时，只需要这个叶子的排他latch
+        indexLatches.lockTree(LockMode.SHARED);
+        try {
+            ArrayList<Integer> pagePath = new ArrayList<Integer>();
+            LeafPage leaf = navigateToLeafPage(idxFileInfo, oldTupleKey, false,
+                pagePath, LockMode.EXCLUSIVE);
+            if (leaf == null) {
+                logger.warn("Search-key value " + oldTupleKey +
+                    " was not found in index " + idxFileInfo.getIndexName());
+                return;
+            }
+
+            try {
+                if (leafPageOps.canDeleteWithoutMerge(leaf, oldTupleKey, pagePath.size() == 1)) {
+                    // 不会合并，deleteEntry只修改这个叶子页面
+                    if (!leafPageOps.deleteEntry(leaf, oldTupleKey, pagePath)) {
+                        logger.warn("Search-key value " + oldTupleKey +
+                            " was not found in index " + idxFileInfo.getIndexName());
+                    }
+                    return;
+                }
+            }
+            finally {
+                indexLatches.unlockLeaf(leaf.getPageNo(), LockMode.EXCLUSIVE);
+            }
+        }
+        finally {
+            indexLatches.unlockTree(LockMode.SHARED);
+        }
+
+        // 删除后可能需要合并页面，在排他的树latch下重新执行
+        indexLatches.lockTree(LockMode.EXCLUSIVE);
+        try {
+            ArrayList<Integer> pagePath = new ArrayList<Integer>();
+            LeafPage leaf =
+                navigateToLeafPage(idxFileInfo, oldTupleKey, false, pagePath, null);
+
+            if (leaf == null || !leafPageOps.deleteEntry(leaf, oldTupleKey, pagePath)) {
+                logger.warn("Search-key value " + oldTupleKey +
+                    " was not found in index " + idxFileInfo.getIndexName());
+            }
+        }
+        finally {
+            indexLatches.unlockTree(LockMode.EXCLUSIVE);
+        }
+    }
+
+
+    /**
+     * 开始读取索引：以共享模式获取树latch，之后才能调用{@link #findLeafPage}、
+     * {@link #getFirstLeafPage}和{@link #loadLeafPage}。读取期间树的结构不会
+     * 变化，必须与{@link #endRead}配对调用。
+     *
+     * @param idxFileInfo 索引
+     */
+    public void beginRead(IndexFileInfo idxFileInfo) {
+        getLatches(idxFileInfo).lockTree(LockMode.SHARED);
+    }
+
+
+    /**
+     * 结束读取索引，释放{@link #beginRead}获取的树latch
+     *
+     * @param idxFileInfo 索引
+     */
+    public void endRead(IndexFileInfo idxFileInfo) {
+        getLatches(idxFileInfo).unlockTree(LockMode.SHARED);
+    }
+
+
+    /**
+     * 找到<tt>searchKey</tt>所在的叶子页面。<tt>searchKey</tt>可以只包含索引
+     * 的前几列，此时返回的是可能包含该前缀的最左边的叶子页面，从这里沿着
+     * {@link LeafPage#getNextPageNo()}向右即可找到所有具有该前缀的key。
+     *
+     * 返回的页面持有共享的叶子latch，用完后调用{@link #releaseLeafPage}。
+     *
+     * 经常查找的key由{@link AdaptiveHashIndex}直接找到叶子页面，不必从根节点
+     * 下降。
+     *
+     * @param idxFileInfo 索引
+     * @param searchKey 完整的key或者key的前缀
+     * @return 叶子页面，索引为空时返回<tt>null</tt>
+     * @throws IOException 读取索引文件出错
+     */
+    public LeafPage findLeafPage(IndexFileInfo idxFileInfo, LiteralTuple searchKey)
+        throws IOException {
+
+        AdaptiveHashIndex adaptiveHash = getAdaptiveHashIndex(idxFileInfo.getDBFile());
+        if (adaptiveHash == null)
+            return navigateToLeafPage(idxFileInfo, searchKey, false, null, LockMode.SHARED);
+
+        Integer cachedPageNo = adaptiveHash.lookup(searchKey);
+        if (cachedPageNo != null) {
+            LeafPage leaf = loadCachedLeafPage(idxFileInfo, cachedPageNo, searchKey);
+            if (leaf != null) {
+                logger.debug("Adaptive hash index of " + idxFileInfo.getIndexName() +
+                    " found " + searchKey + " in leaf page " + leaf.getPageNo());
+                return leaf;
+            }
+
+            adaptiveHash.remove(searchKey);
+        }
+
+        LeafPage leaf =
+            navigateToLeafPage(idxFileInfo, searchKey, false, null, LockMode.SHARED);
+
+        // 只记录第一个key比它小的页面，这样下次可以不经过父节点确认
+        if (leaf != null && adaptiveHash.recordProbe(searchKey) &&
+            leaf.getNumEntries() > 0 && leaf.compareKey(0, searchKey) < 0) {
+            adaptiveHash.put(searchKey, leaf.getPageNo());
+        }
+        return leaf;
+    }
+
+
+    /**
+     * 加载自适应哈希索引记录的叶子页面，并检查它仍然可以作为查找的起点：
+     * 页面仍是叶子页面，并且第一个key小于<tt>searchKey</tt>。这时左边的页面
+     * 中的key都小于<tt>searchKey</tt>，匹配的key只能在这个页面或者它右边的
+     * 页面中。
+     *
+     * @return 持有共享latch的叶子页面，记录已经过时则返回<tt>null</tt>
+     */
+    private LeafPage loadCachedLeafPage(IndexFileInfo idxFileInfo, int pageNo,
+        LiteralTuple searchKey) throws IOException {
+
+        DBFile dbFile = idxFileInfo.getDBFile();
+        if (pageNo >= dbFile.getNumPages())
+            return null;
+
+        DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo);
+        if (dbPage.readByte(0) != BTREE_LEAF_PAGE) {
+            storageManager.unpinDBPage(dbPage);
+            return null;
+        }
+
+        getLatches(idxFileInfo).lockLeaf(pageNo, LockMode.SHARED);
+        LeafPage leaf = new LeafPage(dbPage, idxFileInfo);
+        if (leaf.getNumEntries() > 0 && leaf.compareKey(0, searchKey) < 0)
+            return leaf;
+
+        releaseLeafPage(leaf);
+        return null;
+    }
+
+
+    /**
+     * 返回索引的第一个叶子页面，索引为空时返回<tt>null</tt>。返回的页面持有
+     * 共享的叶子latch，用完后调用{@link #releaseLeafPage}。
+     */
+    public LeafPage getFirstLeafPage(IndexFileInfo idxFileInfo) throws IOException {
+        DBPage dbpHeader = storageManager.loadDBPage(idxFileInfo.getDBFile(), 0);
+        int firstLeafPageNo = HeaderPage.getFirstLeafPageNo(dbpHeader);
+        if (firstLeafPageNo == 0)
+            return null;
+
+        return loadLeafPage(idxFileInfo, firstLeafPageNo);
+    }
+
+
+    /**
+     * 加载指定页号的叶子页面，用于沿着叶子链表扫描。返回的页面持有共享的叶子
+     * latch，应当先加载下一个叶子再释放当前的叶子。
+     */
+    public LeafPage loadLeafPage(IndexFileInfo idxFileInfo, int pageNo)
+        throws IOException {
+        DBPage dbPage = storageManager.loadDBPage(idxFileInfo.getDBFile(), pageNo);
+        getLatches(idxFileInfo).lockLeaf(pageNo, LockMode.SHARED);
+        return new LeafPage(dbPage, idxFileInfo);
+    }
+
+
+    /**
+     * 释放{@link #findLeafPage}、{@link #getFirstLeafPage}或者
+     * {@link #loadLeafPage}返回的叶子页面的latch，并且unpin页面
+     *
+     * @param leaf 叶子页面
+     */
+    public void releaseLeafPage(LeafPage leaf) {
+        getLatches(leaf.getIndexFileInfo()).unlockLeaf(leaf.getPageNo(), LockMode.SHARED);
+        storageManager.unpinDBPage(leaf.getDBPage());
     }
 
 
+    /** 范围扫描预读的叶子页面数，0表示不预读 */
+    int getPrefetchLeaves() {
+        return prefetchLeaves;
+    }
+
+
+    /**
+     * 预读叶子页面<tt>leaf</tt>右边的兄弟叶子页面，把它们读入缓冲区。叶子
+     * 页面只记录了下一个页面的页号，因此用<tt>leaf</tt>的第一个key重新从根
+     * 节点下降，由父节点中<tt>leaf</tt>之后的指针得到后面的页号，按页号从小
+     * 到大的顺序读取。只预读同一个父节点下的页面。
+     * <p>
+     * 父节点中的分隔key不大于它右边页面中的所有key，分隔key已经超过
+     * <tt>upperBound</tt>时，后面的页面不会有区间内的key，不再预读。
+     * <p>
+     * 调用者必须持有共享的树latch，读入的页面不加latch，也不保持pin。
+     *
+     * @param idxFileInfo 索引
+     * @param leaf 当前的叶子页面
+     * @param maxPages 最多预读的页面数
+     * @param upperBound 扫描区间的上界，<tt>null</tt>表示没有上界
+     * @return 预读的页号，按叶子链表中的顺序
+     * @throws IOException 读取索引文件出错
+     */
+    List<Integer> prefetchNextLeaves(IndexFileInfo idxFileInfo, LeafPage leaf,
+        int maxPages, LiteralTuple upperBound) throws IOException {
+
+        List<Integer> pageNos = new ArrayList<Integer>();
+        if (maxPages <= 0 || leaf.getNumEntries() == 0)
+            return pageNos;
+
+        // 键是唯一的(最后一列是file-pointer)，用第一个key下降会回到这个页面
+        List<Integer> pagePath = new ArrayList<Integer>();
+        LeafPage found = navigateToLeafPage(idxFileInfo, new LiteralTuple(leaf.getKey(0)), false,
+            pagePath, null);
+        if (found == null)
+            return pageNos;
+
+        storageManager.unpinDBPage(found.getDBPage());
+        if (found.getPageNo() != leaf.getPageNo() || pagePath.size() < 2)
+            return pageNos;
+
+        DBFile dbFile = idxFileInfo.getDBFile();
+        DBPage dbpParent = storageManager.loadDBPage(dbFile, pagePath.get(pagePath.size() - 2));
+        InnerPage parent = new InnerPage(dbpParent, idxFileInfo);
+        int index = parent.getIndexOfPointer(leaf.getPageNo());
+        if (index >= 0) {
+            for (int i = index + 1; i < parent.getNumPointers() && pageNos.size() < maxPages; i++) {
+                if (upperBound != null &&
+                    TupleComparator.comparePrefix(parent.getKey(i - 1), upperBound) > 0) {
+                    break;
+                }
+                pageNos.add(parent.getPointer(i));
+            }
+        }
+        storageManager.unpinDBPage(dbpParent);
+
+        List<Integer> sorted = new ArrayList<Integer>(pageNos);
+        Collections.sort(sorted);
+        for (int pageNo : sorted)
+            storageManager.unpinDBPage(storageManager.loadDBPage(dbFile, pageNo));
+
+        if (!pageNos.isEmpty()) {
+            logger.debug("Prefetched leaf pages " + sorted + " of index " +
+                idxFileInfo.getIndexName());
+        }
+        return pageNos;
+    }
+
+
+    /**
+     * 找到前缀不超过<tt>upperBound</tt>的最大的key可能所在的叶子页面，作为
+     * 逆序扫描的起点。这个页面右边的叶子中的key都超出了上界；分隔key可能已经
+     * 过时，页面中也可能没有满足上界的key，此时应继续向左扫描。
+     * <p>
+     * 调用者必须持有共享的树latch，返回的页面持有共享的叶子latch，用完后调用
+     * {@link #releaseLeafPage}。
+     *
+     * @param idxFileInfo 索引
+     * @param upperBound 上界，<tt>null</tt>表示返回最后一个叶子页面
+     * @param inclusive 是否包含等于上界的key
+     * @return 叶子页面，索引为空时返回<tt>null</tt>
+     * @throws IOException 读取索引文件出错
+     */
+    LeafPage findLastLeafPage(IndexFileInfo idxFileInfo, LiteralTuple upperBound,
+        boolean inclusive) throws IOException {
+
+        DBFile dbFile = idxFileInfo.getDBFile();
+        DBPage dbpHeader = storageManager.loadDBPage(dbFile, 0);
+        int rootPageNo = HeaderPage.getRootPageNo(dbpHeader);
+        storageManager.unpinDBPage(dbpHeader);
+        if (rootPageNo == 0)
+            return null;
+
+        int pageNo = descendRightmost(idxFileInfo, rootPageNo, upperBound, inclusive);
+        return loadLeafPage(idxFileInfo, pageNo);
+    }
+
+
+    /**
+     * 返回叶子链表中<tt>leaf</tt>前面的叶子页面的页号。叶子页面只记录了下一个
+     * 页面，因此用<tt>leaf</tt>的第一个key重新从根节点下降，在路径上找到最近
+     * 的一个不是经由最左指针到达的内部页面，它左边的子树中最右的叶子就是前一个
+     * 页面。
+     * <p>
+     * 调用者必须持有共享的树latch，此时树的结构不变，可以先释放<tt>leaf</tt>
+     * 的latch再加载前一个页面。
+     *
+     * @param idxFileInfo 索引
+     * @param leaf 当前的叶子页面
+     * @return 前一个叶子页面的页号，<tt>leaf</tt>是第一个叶子页面时返回0
+     * @throws IOException 读取索引文件出错
+     */
+    int getPrevLeafPageNo(IndexFileInfo idxFileInfo, LeafPage leaf) throws IOException {
+        // 共享模式下的删除不会使叶子少于半满，只有作为根的叶子页面可能是空的
+        if (leaf.getNumEntries() == 0)
+            return 0;
+
+        // 键是唯一的(最后一列是file-pointer)，用第一个key下降会回到这个页面
+        List<Integer> pagePath = new ArrayList<Integer>();
+        LeafPage found = navigateToLeafPage(idxFileInfo, new LiteralTuple(leaf.getKey(0)), false,
+            pagePath, null);
+        if (found == null)
+            return 0;
+
+        storageManager.unpinDBPage(found.getDBPage());
+        if (found.getPageNo() != leaf.getPageNo()) {
+            throw new IllegalStateException("First key of leaf page " + leaf.getPageNo() +
+                " of index " + idxFileInfo.getIndexName() + " leads to page " + found.getPageNo());
+        }
+
+        DBFile dbFile = idxFileInfo.getDBFile();
+        int childPageNo = leaf.getPageNo();
+        for (int i = pagePath.size() - 2; i >= 0; i--) {
+            DBPage dbpInner = storageManager.loadDBPage(dbFile, pagePath.get(i));
+            InnerPage inner = new InnerPage(dbpInner, idxFileInfo);
+            int index = inner.getIndexOfPointer(childPageNo);
+            int siblingPageNo = (index > 0) ? inner.getPointer(index - 1) : 0;
+            storageManager.unpinDBPage(dbpInner);
+
+            if (siblingPageNo != 0)
+                return descendRightmost(idxFileInfo, siblingPageNo, null, false);
+
+            childPageNo = pagePath.get(i);
+        }
+        return 0;
+    }
+
+
+    /**
+     * 从<tt>pageNo</tt>开始下降到前缀不超过<tt>upperBound</tt>的最右边的叶子
+     * 页面，读过的内部页面不保持pin
+     *
+     * @param upperBound 上界，<tt>null</tt>表示总是沿着最后一个指针下降
+     * @return 叶子页面的页号
+     */
+    private int descendRightmost(IndexFileInfo idxFileInfo, int pageNo,
+        LiteralTuple upperBound, boolean inclusive) throws IOException {
+
+        DBFile dbFile = idxFileInfo.getDBFile();
+        while (true) {
+            DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo);
+            int pageType = dbPage.readByte(0);
+            if (pageType == BTREE_LEAF_PAGE) {
+                storageManager.unpinDBPage(dbPage);
+                return pageNo;
+            }
+            if (pageType != BTREE_INNER_PAGE)
+                throw new IOException("Invalid page type encountered:  " + pageType);
+
+            InnerPage inner = new InnerPage(dbPage, idxFileInfo);
+            int index = (upperBound == null) ? inner.getNumPointers() - 1 :
+                inner.findLastChildIndex(upperBound, inclusive);
+            pageNo = inner.getPointer(index);
+            storageManager.unpinDBPage(dbPage);
+        }
+    }
+
+
+    /**
+     * 检查期间以排他模式持有树latch，看到的是一致的树
+     */
     @Override
     public List<String> verifyIndex(IndexFileInfo idxFileInfo) throws IOException {
-        BTreeIndexVerifier verifier = new BTreeIndexVerifier(idxFileInfo);
-        List<String> errors = verifier.verify();
-
-        return errors;
+        BTreeLatches indexLatches = getLatches(idxFileInfo);
+        indexLatches.lockTree(LockMode.EXCLUSIVE);
+        try {
+            BTreeIndexVerifier verifier = new BTreeIndexVerifier(idxFileInfo);
+            return verifier.verify();
+        }
+        finally {
+            indexLatches.unlockTree(LockMode.EXCLUSIVE);
+        }
     }
 
 
@@ -263,6 +881,9 @@ public class BTreeIndexManager implements IndexManager {
      *        from root to leaf.  If {@code null} is passed then nothing is
      *        stored as the method traverses the index structure.
      *
+     * @param leafLatch 在共享的树latch下访问时，返回前对叶子页面加的latch；
+     *        持有排他的树latch时为{@code null}
+     *
      * @return the leaf-page where the search-key would appear, or {@code null}
      *         if the index is currently empty and {@code createIfNeeded} is
      *         {@code false}.
@@ -272,7 +893,8 @@ public class BTreeIndexManager implements IndexManager {
      */
     private LeafPage navigateToLeafPage(IndexFileInfo idxFileInfo,
                                         LiteralTuple searchKey, boolean createIfNeeded,
-                                        List<Integer> pagePath) throws IOException {
+                                        List<Integer> pagePath, LockMode leafLatch)
+        throws IOException {
 
         String indexName = idxFileInfo.getIndexName();
 
@@ -339,30 +961,13 @@ public class BTreeIndexManager implements IndexManager {
                     dbPage.getPageNo() + " is invalid:  it contains no keys!");
             }
 
-            for (int i = 0; i < numKeys; i++) {
-                BTreeIndexPageTuple key = innerPage.getKey(i);
-                int cmp = TupleComparator.comparePartialTuples(searchKey, key);
-                if (cmp < 0) {
-                    logger.debug("Value is less than key at index " + i +
-                        "; following pointer " + i + " before this key.");
-                    nextPageNo = innerPage.getPointer(i);
-                    break;
-                }
-                else if (cmp == 0) {
-                    logger.debug("Value is equal to key at index " + i +
-                        "; following pointer " + (i+1) + " after this key.");
-                    nextPageNo = innerPage.getPointer(i + 1);
-                    break;
-                }
-            }
-
-            if (nextPageNo == -1) {
-                // None of the other entries in the page matched the tuple.  Get
-                // the last pointer in the page.
-                logger.debug("Value is greater than all keys in this page;" +
-                    " following last pointer " + numKeys + " in the page.");
-                nextPageNo = innerPage.getPointer(numKeys);
-            }
+            // Binary search over the keys in the page bytes.  This follows the
+            // same rules as TupleComparator.comparePartialTuples():  a key
+            // equal to the search-key sends us to the pointer after it.
+            int pointerIndex = innerPage.findChildIndex(searchKey);
+            logger.debug("Following pointer " + pointerIndex + " of " +
+                (numKeys + 1) + " in the page.");
+            nextPageNo = innerPage.getPointer(pointerIndex);
 
             // Navigate to the next page in the index.
             dbPage = storageManager.loadDBPage(dbFile, nextPageNo);
@@ -374,6 +979,10 @@ public class BTreeIndexManager implements IndexManager {
                 pagePath.add(nextPageNo);
         }
 
+        // 先加latch再读取叶子页面的内容
+        if (leafLatch != null)
+            getLatches(idxFileInfo).lockLeaf(dbPage.getPageNo(), leafLatch);
+
         return new LeafPage(dbPage, idxFileInfo);
     }
 
@@ -415,7 +1024,7 @@ public class BTreeIndexManager implements IndexManager {
             logger.debug("First empty page number is " + pageNo);
 
             newPage = storageManager.loadDBPage(dbFile, pageNo);
-            int nextEmptyPage = newPage.readUnsignedShort(1);
+            int nextEmptyPage = newPage.readInt(OFFSET_NEXT_EMPTY_PAGE);
             HeaderPage.setFirstEmptyPageNo(dbpHeader, nextEmptyPage);
         }
 
@@ -443,6 +1052,7 @@ public class BTreeIndexManager implements IndexManager {
         //        Instead, we'll leave all the pages around forever...
 
         DBFile dbFile = dbPage.getDBFile();
+        invalidateLeaf(dbFile, dbPage.getPageNo());
         
         // Record in the page that it is empty.
         dbPage.writeByte(0, BTREE_EMPTY_PAGE);
@@ -451,11 +1061,12 @@ public class BTreeIndexManager implements IndexManager {
 
         // Retrieve the old "first empty page" value, and store it in this page.
         int prevEmptyPageNo = HeaderPage.getFirstEmptyPageNo(dbpHeader);
-        dbPage.writeShort(1, prevEmptyPageNo);
+        dbPage.writeInt(OFFSET_NEXT_EMPTY_PAGE, prevEmptyPageNo);
 
         if (CLEAR_OLD_DATA) {
             // Clear out the remainder of the data-page since it's now unused.
-            dbPage.setDataRange(3, dbPage.getPageSize() - 3, (byte) 0);
+            int dataStart = OFFSET_NEXT_EMPTY_PAGE + POINTER_SIZE;
+            dbPage.setDataRange(dataStart, dbPage.getPageSize() - dataStart, (byte) 0);
         }
 
         // Store the new "first empty page" value into the header.
@@ -477,8 +1088,8 @@ public class BTreeIndexManager implements IndexManager {
      * @return a tuple-literal that can be used for storing, looking up, or
      *         deleting the specific tuple {@code ptup}.
      */
-    private LiteralTuple makeStoredKeyValue(IndexFileInfo idxFileInfo,
-                                            PageTuple ptup) {
+    LiteralTuple makeStoredKeyValue(IndexFileInfo idxFileInfo,
+                                    PageTuple ptup) {
 
         // Figure out what columns from the table we use for the index keys.
         ColumnIndexes colIndexes = idxFileInfo.getTableColumnIndexes();
@@ -492,6 +1103,10 @@ public class BTreeIndexManager implements IndexManager {
         // key-values are unique in the index.
         newKeyVal.addValue(ptup.getExternalReference());
 
+        // INCLUDE列的值放在file-pointer之后，只供只扫描索引的查询使用
+        for (int i = 0; i < colIndexes.numIncludedColumns(); i++)
+            newKeyVal.addValue(ptup.getColumnValue(colIndexes.getIncludedCol(i)));
+
         List<ColumnInfo> colInfos = idxFileInfo.getIndexSchema();
         int storageSize = PageTupleUtil.getTupleStorageSize(colInfos, newKeyVal);
         newKeyVal.setStorageSize(storageSize);
@@ -11,11 +11,37 @@ import java.util.List;
 /**
  * This class uses the <tt>PageTuple</tt> class functionality to access and
  * manipulate keys stored in a B<sup>+</sup> tree index file.
+ * <p>
+ * 叶子页面中的key可能省略了第一列中页面内所有key共同的前缀(见
+ * {@link LeafPage})，此时由<tt>keyPrefix</tt>补全，{@link #getColumnValue}
+ * 返回完整的值，而{@link #getSize()}仍是页面中实际存储的字节数。
  */
 public class BTreeIndexPageTuple extends PageTuple {
+
+    /** 第一列省略的前缀，没有省略时为空串 */
+    private String keyPrefix;
+
+
     public BTreeIndexPageTuple(DBPage dbPage, int pageOffset,
                                List<ColumnInfo> colInfos) {
+        this(dbPage, pageOffset, colInfos, "");
+    }
+
+
+    public BTreeIndexPageTuple(DBPage dbPage, int pageOffset,
+                               List<ColumnInfo> colInfos, String keyPrefix) {
         super(dbPage, pageOffset, colInfos);
+        this.keyPrefix = keyPrefix;
+    }
+
+
+    @Override
+    public Object getColumnValue(int colIndex) {
+        Object value = super.getColumnValue(colIndex);
+        if (colIndex == 0 && value != null && !keyPrefix.isEmpty())
+            value = keyPrefix + value;
+
+        return value;
     }
 
 
@@ -1,5 +1,7 @@
 package com.bow.maple.storage.btreeindex;
 
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.SQLDataType;
 import com.bow.maple.relations.Tuple;
 import com.bow.maple.expressions.TupleComparator;
 import com.bow.maple.expressions.LiteralTuple;
@@ -18,6 +20,10 @@ import java.util.List;
 /**
  * This class provides some simple verification operations for B<sup>+</sup>
  * trees.
+ * <p>
+ * 叶子页面中的key按补全前缀之后的值检查顺序；内部页面中的key可能是截短的
+ * 分隔key，只要求不大于右边子树的第一个key、大于左边子树的最后一个key。
+ * </p>
  */
 public class BTreeIndexVerifier {
     /** A logging object for reporting anything interesting that happens. */
@@ -175,6 +181,10 @@ public class BTreeIndexVerifier {
 
         DBPage dbpHeader = storageManager.loadDBPage(dbFile, 0);
         int rootPageNo = HeaderPage.getRootPageNo(dbpHeader);
+        if (rootPageNo == 0) {
+            // 删除了所有的key，索引为空
+            return;
+        }
 
         scanTree(rootPageNo, 0, null, null);
     }
@@ -206,6 +216,30 @@ public class BTreeIndexVerifier {
         case BTreeIndexManager.BTREE_INNER_PAGE:
         {
             logger.trace("It's an inner page.");
+
+            // slot目录：第一个指针在页面头部之后，每个slot与解码出的key的长度
+            // 一致，数据不能伸入slot目录
+            int numPointers = dbPage.readUnsignedShort(InnerPage.OFFSET_NUM_POINTERS);
+            int slotsStart = InnerPage.getSlotOffset(dbPage, numPointers - 1);
+            PageKeyComparator comparator = new PageKeyComparator(idxFileInfo.getIndexSchema());
+            int offset = InnerPage.OFFSET_FIRST_POINTER;
+            boolean badSlot = false;
+            for (int k = 0; k < numPointers && !badSlot; k++) {
+                int slot = dbPage.readUnsignedShort(InnerPage.getSlotOffset(dbPage, k));
+                if (slot != offset || offset + BTreeIndexManager.POINTER_SIZE > slotsStart) {
+                    errors.add(String.format("Pass 2:  Inner page %d slot %d " +
+                        "is %d, but the pointer is at %d", pageNo, k, slot, offset));
+                    badSlot = true;
+                }
+                else {
+                    offset += BTreeIndexManager.POINTER_SIZE;
+                    if (k < numPointers - 1)
+                        offset += comparator.getKeySize(dbPage, offset);
+                }
+            }
+            if (badSlot)
+                break;
+
             InnerPage inner = new InnerPage(dbPage, idxFileInfo);
 
             ArrayList<Integer> refPages = new ArrayList<Integer>();
@@ -314,8 +348,61 @@ public class BTreeIndexVerifier {
         case BTreeIndexManager.BTREE_LEAF_PAGE:
         {
             logger.trace("It's a leaf page.");
+
+            // 前缀压缩的格式：前缀必须在页面之内，只用于VARCHAR的第一列，
+            // 并且页面中第一列没有NULL
+            int prefixLen = dbPage.readUnsignedShort(LeafPage.OFFSET_KEY_PREFIX);
+            if (LeafPage.OFFSET_KEY_PREFIX + 2 + prefixLen > dbPage.getPageSize()) {
+                errors.add(String.format("Pass 2:  Leaf page %d key prefix " +
+                    "is %d bytes, past the end of the page", pageNo, prefixLen));
+                break;
+            }
+
+            // slot目录：第一个key紧跟在前缀之后，每个slot与解码出的key的
+            // 长度一致，数据不能伸入slot目录
+            int numEntries = dbPage.readUnsignedShort(LeafPage.OFFSET_NUM_ENTRIES);
+            int slotsStart = LeafPage.getSlotOffset(dbPage, numEntries);
+            int offset = LeafPage.OFFSET_KEY_PREFIX + 2 + prefixLen;
+            if (offset > slotsStart) {
+                errors.add(String.format("Pass 2:  Leaf page %d has %d " +
+                    "entries, too many for its slot directory", pageNo, numEntries));
+                break;
+            }
+            PageKeyComparator comparator = new PageKeyComparator(idxFileInfo.getIndexSchema());
+            boolean badSlot = false;
+            for (int k = 0; k <= numEntries && !badSlot; k++) {
+                int slot = dbPage.readUnsignedShort(LeafPage.getSlotOffset(dbPage, k));
+                if (slot != offset || offset > slotsStart) {
+                    errors.add(String.format("Pass 2:  Leaf page %d slot %d " +
+                        "is %d, but the key data is at %d", pageNo, k, slot, offset));
+                    badSlot = true;
+                }
+                else if (k < numEntries) {
+                    offset += comparator.getKeySize(dbPage, offset);
+                }
+            }
+            if (badSlot)
+                break;
+
             LeafPage leaf = new LeafPage(dbPage, idxFileInfo);
 
+            if (prefixLen > 0) {
+                ColumnInfo firstCol = idxFileInfo.getIndexSchema().get(0);
+                if (firstCol.getType().getBaseType() != SQLDataType.VARCHAR) {
+                    errors.add(String.format("Pass 2:  Leaf page %d has key " +
+                        "prefix \"%s\" but first column is %s", pageNo,
+                        leaf.getKeyPrefix(), firstCol.getType()));
+                }
+
+                for (int k = 0; k < leaf.getNumEntries(); k++) {
+                    if (leaf.getKey(k).isNullValue(0)) {
+                        errors.add(String.format("Pass 2:  Leaf page %d key " +
+                            "%d is NULL in first column, but page has key " +
+                            "prefix \"%s\"", pageNo, k, leaf.getKeyPrefix()));
+                    }
+                }
+            }
+
             // Make sure the keys are in the proper order in the page.
 
             int numKeys = leaf.getNumEntries();
@@ -375,6 +462,8 @@ public class BTreeIndexVerifier {
 
         DBPage dbpHeader = storageManager.loadDBPage(dbFile, 0);
         int pageNo = HeaderPage.getRootPageNo(dbpHeader);
+        if (pageNo == 0)
+            return;
 
         // Walk down the leftmost pointers in the inner pages until we reach
         // the leftmost leaf page.  Then we can walk across the leaves and
@@ -485,7 +574,7 @@ public class BTreeIndexVerifier {
             }
 
             DBPage dbPage = storageManager.loadDBPage(dbFile, emptyPageNo);
-            emptyPageNo = dbPage.readUnsignedShort(1);
+            emptyPageNo = dbPage.readInt(BTreeIndexManager.OFFSET_NEXT_EMPTY_PAGE);
         }
     }
     
@@ -0,0 +1,94 @@
+package com.bow.maple.storage.btreeindex;
+
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.bow.maple.transactions.LockMode;
+
+
+/**
+ * <p>
+ * 一个B<sup>+</sup>树索引的latch，保证多个会话并发访问索引时页面的一致性。
+ * latch只在单个索引操作期间持有，与事务的锁无关。
+ * </p>
+ * <p>
+ * 分为两级：
+ * </p>
+ * <ul>
+ *   <li><b>树latch</b>：查找、扫描以及不改变树结构的插入和删除以共享模式持有；
+ *       分裂、移动key、合并等改变树结构的操作(structure modification)以排他
+ *       模式持有。因此在共享模式下，内部页面、叶子链表、头页面和空页面链表都
+ *       不会变化，下降时不需要对内部页面加latch。</li>
+ *   <li><b>叶子latch</b>：共享模式下读叶子页面时加共享latch，插入或删除key时
+ *       加排他latch。每个操作同一时刻最多持有一个叶子latch，扫描时先获取下一个
+ *       叶子的latch再释放当前叶子的latch，都是从左向右，不会死锁。</li>
+ * </ul>
+ * <p>
+ * 插入和删除先以乐观的方式进行：持有共享的树latch下降到叶子页面，加排他的叶子
+ * latch后检查叶子能否放下新的key(或者删除后仍不少于半满)。不能时释放所有latch，
+ * 再以排他的树latch从根重新执行，即乐观的latch coupling加重启。
+ * </p>
+ */
+class BTreeLatches {
+
+    /** 树latch，保护树的结构 */
+    private final ReentrantReadWriteLock treeLatch = new ReentrantReadWriteLock();
+
+    /** 叶子页面的latch，按页号创建 */
+    private final ConcurrentHashMap<Integer, ReentrantReadWriteLock> leafLatches =
+        new ConcurrentHashMap<Integer, ReentrantReadWriteLock>();
+
+
+    private static Lock getLock(ReentrantReadWriteLock latch, LockMode mode) {
+        return (mode == LockMode.EXCLUSIVE) ? latch.writeLock() : latch.readLock();
+    }
+
+
+    /**
+     * 获取树latch。持有共享的树latch时不能再请求排他的树latch。
+     *
+     * @param mode latch的模式
+     */
+    void lockTree(LockMode mode) {
+        getLock(treeLatch, mode).lock();
+    }
+
+
+    void unlockTree(LockMode mode) {
+        getLock(treeLatch, mode).unlock();
+    }
+
+
+    /**
+     * 当前线程是否以排他模式持有树latch。此时其它线程都不在树中，不需要叶子
+     * latch。
+     */
+    boolean holdsTreeExclusive() {
+        return treeLatch.isWriteLockedByCurrentThread();
+    }
+
+
+    /**
+     * 获取叶子页面的latch，调用者必须以共享模式持有树latch
+     *
+     * @param pageNo 叶子页面的页号
+     * @param mode latch的模式
+     */
+    void lockLeaf(int pageNo, LockMode mode) {
+        ReentrantReadWriteLock latch = leafLatches.get(pageNo);
+        if (latch == null) {
+            ReentrantReadWriteLock newLatch = new ReentrantReadWriteLock();
+            latch = leafLatches.putIfAbsent(pageNo, newLatch);
+            if (latch == null)
+                latch = newLatch;
+        }
+        getLock(latch, mode).lock();
+    }
+
+
+    void unlockLeaf(int pageNo, LockMode mode) {
+        getLock(leafLatches.get(pageNo), mode).unlock();
+    }
+}
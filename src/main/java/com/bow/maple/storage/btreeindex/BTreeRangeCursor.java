@@ -0,0 +1,301 @@
+package com.bow.maple.storage.btreeindex;
+
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.bow.lab.indexes.IndexFileInfo;
+import com.bow.maple.expressions.LiteralTuple;
+import org.apache.log4j.Logger;
+
+
+/**
+ * <p>
+ * B<sup>+</sup>树索引上的区间游标：从下界所在的叶子页面开始，沿着叶子链表
+ * 向右按key的顺序返回区间内的key，直到超过上界。上下界都是key的前缀，可以
+ * 分别指定是否包含边界，<tt>null</tt>表示该方向不限制。
+ * </p>
+ * <p>
+ * 逆序游标({@link #BTreeRangeCursor(IndexFileInfo, LiteralTuple, boolean,
+ * LiteralTuple, boolean, boolean)})从上界所在的叶子页面开始向左按key的逆序
+ * 返回，直到低于下界。叶子页面没有指向左边的指针，每到一个新的页面都由
+ * {@link BTreeIndexManager#getPrevLeafPageNo}重新从根节点下降找到前一个页面。
+ * </p>
+ * <p>
+ * 正序游标进入第二个叶子页面时才开始预读：由父节点找到后面的若干个兄弟叶子页面
+ * (个数见{@link BTreeIndexManager#PROP_PREFETCH_LEAVES})，按页号顺序读入
+ * 缓冲区，到达最后一个预读的页面时再预读下一批。只落在一个叶子页面中的查找
+ * (例如等值查找)不会预读，仍然可以由{@link AdaptiveHashIndex}直接找到叶子。
+ * </p>
+ * <p>
+ * {@link #open}与{@link #close}之间持有索引的共享树latch，以及当前叶子页面
+ * 的共享latch，必须配对调用。{@link #next}返回的key直接读取页面，在下一次
+ * 调用{@link #next}或{@link #close}之前有效，需要保留时应复制出来。
+ * </p>
+ */
+public class BTreeRangeCursor {
+
+    private static Logger logger = Logger.getLogger(BTreeRangeCursor.class);
+
+    private final BTreeIndexManager indexManager;
+
+    private final IndexFileInfo idxFileInfo;
+
+    /** key前缀的下界，<tt>null</tt>表示从第一个key开始 */
+    private final LiteralTuple lowerBound;
+
+    private final boolean lowerInclusive;
+
+    /** key前缀的上界，<tt>null</tt>表示一直扫描到最后一个key */
+    private final LiteralTuple upperBound;
+
+    private final boolean upperInclusive;
+
+    /** 按key的逆序从上界向下界扫描 */
+    private final boolean descending;
+
+    /** 当前的叶子页面，持有共享latch */
+    private LeafPage leaf;
+
+    /** 下一个要返回的key在{@link #leaf}中的位置，逆序扫描时小于0表示页面已读完 */
+    private int position;
+
+    /** 正序扫描时是否已经越过了下界，之后的页面不必再查找下界 */
+    private boolean pastLowerBound;
+
+    /** 已经超出区间或者到达了叶子链表的一端 */
+    private boolean done;
+
+    /** 已经预读、还没有到达的叶子页面，按叶子链表中的顺序 */
+    private List<Integer> prefetched = new ArrayList<Integer>();
+
+    /** 读取的叶子页面数 */
+    private int numLeaves;
+
+
+    /**
+     * @param idxFileInfo B<sup>+</sup>树索引
+     * @param lowerBound 下界，可以为<tt>null</tt>
+     * @param lowerInclusive 是否包含等于下界的key
+     * @param upperBound 上界，可以为<tt>null</tt>
+     * @param upperInclusive 是否包含等于上界的key
+     */
+    public BTreeRangeCursor(IndexFileInfo idxFileInfo, LiteralTuple lowerBound,
+        boolean lowerInclusive, LiteralTuple upperBound, boolean upperInclusive) {
+        this(idxFileInfo, lowerBound, lowerInclusive, upperBound, upperInclusive, false);
+    }
+
+
+    /**
+     * @param idxFileInfo B<sup>+</sup>树索引
+     * @param lowerBound 下界，可以为<tt>null</tt>
+     * @param lowerInclusive 是否包含等于下界的key
+     * @param upperBound 上界，可以为<tt>null</tt>
+     * @param upperInclusive 是否包含等于上界的key
+     * @param descending 是否从上界开始按key的逆序返回
+     */
+    public BTreeRangeCursor(IndexFileInfo idxFileInfo, LiteralTuple lowerBound,
+        boolean lowerInclusive, LiteralTuple upperBound, boolean upperInclusive,
+        boolean descending) {
+
+        this.idxFileInfo = idxFileInfo;
+        this.indexManager = (BTreeIndexManager) idxFileInfo.getIndexManager();
+        this.lowerBound = lowerBound;
+        this.lowerInclusive = lowerInclusive;
+        this.upperBound = upperBound;
+        this.upperInclusive = upperInclusive;
+        this.descending = descending;
+    }
+
+
+    /**
+     * 获取共享的树latch，定位到下界(逆序时为上界)所在的叶子页面
+     *
+     * @throws IOException 读取索引文件出错
+     */
+    public void open() throws IOException {
+        indexManager.beginRead(idxFileInfo);
+        try {
+            if (descending)
+                leaf = indexManager.findLastLeafPage(idxFileInfo, upperBound, upperInclusive);
+            else if (lowerBound != null)
+                leaf = indexManager.findLeafPage(idxFileInfo, lowerBound);
+            else
+                leaf = indexManager.getFirstLeafPage(idxFileInfo);
+        }
+        catch (IOException e) {
+            indexManager.endRead(idxFileInfo);
+            throw e;
+        }
+
+        position = 0;
+        pastLowerBound = (lowerBound == null);
+        done = (leaf == null);
+        if (leaf != null) {
+            numLeaves = 1;
+            if (descending)
+                seekUpperBound();
+            else
+                seekLowerBound();
+        }
+    }
+
+
+    /**
+     * 返回区间内的下一个key
+     *
+     * @return 下一个key，已经没有区间内的key时返回<tt>null</tt>
+     * @throws IOException 读取索引文件出错
+     */
+    public BTreeIndexPageTuple next() throws IOException {
+        if (descending)
+            return previous();
+
+        while (!done) {
+            if (position < leaf.getNumEntries()) {
+                if (upperBound != null) {
+                    int cmp = leaf.compareKey(position, upperBound);
+                    if (cmp > 0 || (cmp == 0 && !upperInclusive)) {
+                        done = true;
+                        break;
+                    }
+                }
+                return leaf.getKey(position++);
+            }
+
+            moveToNextLeaf();
+        }
+        return null;
+    }
+
+
+    /**
+     * 逆序扫描时返回区间内的前一个key
+     */
+    private BTreeIndexPageTuple previous() throws IOException {
+        while (!done) {
+            if (position >= 0) {
+                if (lowerBound != null) {
+                    int cmp = leaf.compareKey(position, lowerBound);
+                    if (cmp < 0 || (cmp == 0 && !lowerInclusive)) {
+                        done = true;
+                        break;
+                    }
+                }
+                return leaf.getKey(position--);
+            }
+
+            moveToPrevLeaf();
+        }
+        return null;
+    }
+
+
+    /**
+     * 释放当前的叶子页面和树latch
+     */
+    public void close() {
+        if (leaf != null) {
+            indexManager.releaseLeafPage(leaf);
+            leaf = null;
+        }
+        indexManager.endRead(idxFileInfo);
+
+        logger.debug(String.format("Index %s:  read %d leaf pages", idxFileInfo.getIndexName(),
+            numLeaves));
+    }
+
+
+    /** 返回已经读取的叶子页面数 */
+    public int getNumLeavesRead() {
+        return numLeaves;
+    }
+
+
+    /**
+     * 在页面上二分查找下界，只有下界之前的页面需要查找。带前缀的下界可能
+     * 跨过多个页面，此时从下一个页面的开头继续查找。
+     */
+    private void seekLowerBound() {
+        if (pastLowerBound)
+            return;
+
+        position = lowerInclusive ? leaf.findFirstKeyAtLeast(lowerBound) :
+            leaf.findFirstKeyGreaterThan(lowerBound);
+        pastLowerBound = (position < leaf.getNumEntries());
+    }
+
+
+    /**
+     * 逆序扫描的起点页面中二分查找上界。起点右边的页面中的key都超出了上界，
+     * 左边的页面中的key都不超过上界，只有这个页面需要查找。
+     */
+    private void seekUpperBound() {
+        if (upperBound == null)
+            position = leaf.getNumEntries() - 1;
+        else if (upperInclusive)
+            position = leaf.findFirstKeyGreaterThan(upperBound) - 1;
+        else
+            position = leaf.findFirstKeyAtLeast(upperBound) - 1;
+    }
+
+
+    /**
+     * 先找到前一个页面的页号，释放当前页面后再latch前一个页面，不会与从左向
+     * 右的扫描以相反的顺序持有两个叶子latch。没有前一个页面时结束。
+     */
+    private void moveToPrevLeaf() throws IOException {
+        int prevPageNo = indexManager.getPrevLeafPageNo(idxFileInfo, leaf);
+        indexManager.releaseLeafPage(leaf);
+        leaf = (prevPageNo == 0) ? null : indexManager.loadLeafPage(idxFileInfo, prevPageNo);
+
+        if (leaf == null) {
+            done = true;
+            return;
+        }
+
+        numLeaves++;
+        position = leaf.getNumEntries() - 1;
+    }
+
+
+    /**
+     * 先latch下一个页面再释放当前页面，没有下一个页面时结束
+     */
+    private void moveToNextLeaf() throws IOException {
+        int nextPageNo = leaf.getNextPageNo();
+        LeafPage nextLeaf = (nextPageNo == 0) ? null :
+            indexManager.loadLeafPage(idxFileInfo, nextPageNo);
+        indexManager.releaseLeafPage(leaf);
+        leaf = nextLeaf;
+        position = 0;
+
+        if (leaf == null) {
+            done = true;
+            return;
+        }
+
+        numLeaves++;
+        prefetch();
+        seekLowerBound();
+    }
+
+
+    /**
+     * 当前页面是最后一个预读的页面，或者不在预读的页面中时，预读它后面的
+     * 页面
+     */
+    private void prefetch() throws IOException {
+        int prefetchLeaves = indexManager.getPrefetchLeaves();
+        if (prefetchLeaves <= 0)
+            return;
+
+        Integer pageNo = leaf.getPageNo();
+        if (prefetched.remove(pageNo) && !prefetched.isEmpty())
+            return;
+
+        prefetched = indexManager.prefetchNextLeaves(idxFileInfo, leaf, prefetchLeaves,
+            upperBound);
+    }
+}
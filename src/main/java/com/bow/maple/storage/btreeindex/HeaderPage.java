@@ -12,8 +12,8 @@ import org.apache.log4j.Logger;
  *
  * <ul>
  *   <li><u>Byte 0:</u>  {@link DBFileType#BTREE_INDEX_FILE} (unsigned byte)</li>
- *   <li><u>Byte 1:</u>  page size  <i>p</i> (unsigned byte) - file's page
- *       size is <i>P</i> = 2<sup>p</sup></li>
+ *   <li><u>Byte 1:</u>  page size  <i>p</i> and format version - file's
+ *       page size is <i>P</i> = 2<sup>p</sup></li>
  *
  *   <li>Byte 2-M:  Specification of index key-columns and column ordering.</li>
  *   <li>Byte P-2 to P-1:  the page of the file that is the root of the index</li>
@@ -30,7 +30,7 @@ public class HeaderPage {
 
     /**
      * The offset in the header page where the root page of the index is stored.
-     * This value is an unsigned short.
+     * This value is an int.
      */
     public static final int OFFSET_ROOT_PAGE = 4;
 
@@ -38,16 +38,16 @@ public class HeaderPage {
     /**
      * The offset in the header page where the first leaf page of the index is
      * stored.  This allows the leaves of the index to be iterated through in
-     * sequential order.  This value is an unsigned short.
+     * sequential order.  This value is an int.
      */
-    public static final int OFFSET_FIRST_LEAF_PAGE = 6;
+    public static final int OFFSET_FIRST_LEAF_PAGE = 8;
 
 
     /**
      * The offset in the header page where the first empty page is located in
-     * the file.
+     * the file.  This value is an int.
      */
-    public static final int OFFSET_FIRST_EMPTY_PAGE = 10;
+    public static final int OFFSET_FIRST_EMPTY_PAGE = 12;
 
 
     /**
@@ -81,7 +81,7 @@ public class HeaderPage {
      */
     public static int getRootPageNo(DBPage dbPage) {
         verifyIsHeaderPage(dbPage);
-        return dbPage.readUnsignedShort(OFFSET_ROOT_PAGE);
+        return dbPage.readInt(OFFSET_ROOT_PAGE);
     }
 
 
@@ -101,7 +101,7 @@ public class HeaderPage {
                 "rootPageNo must be > 0; got " + rootPageNo);
         }
 
-        dbPage.writeShort(OFFSET_ROOT_PAGE, rootPageNo);
+        dbPage.writeInt(OFFSET_ROOT_PAGE, rootPageNo);
     }
 
 
@@ -114,7 +114,7 @@ public class HeaderPage {
      */
     public static int getFirstLeafPageNo(DBPage dbPage) {
         verifyIsHeaderPage(dbPage);
-        return dbPage.readUnsignedShort(OFFSET_FIRST_LEAF_PAGE);
+        return dbPage.readInt(OFFSET_FIRST_LEAF_PAGE);
     }
 
 
@@ -134,7 +134,7 @@ public class HeaderPage {
                 "firstLeafPageNo must be >= 0; got " + firstLeafPageNo);
         }
 
-        dbPage.writeShort(OFFSET_FIRST_LEAF_PAGE, firstLeafPageNo);
+        dbPage.writeInt(OFFSET_FIRST_LEAF_PAGE, firstLeafPageNo);
     }
 
 
@@ -148,7 +148,7 @@ public class HeaderPage {
      */
     public static int getFirstEmptyPageNo(DBPage dbPage) {
         verifyIsHeaderPage(dbPage);
-        return dbPage.readUnsignedShort(OFFSET_FIRST_EMPTY_PAGE);
+        return dbPage.readInt(OFFSET_FIRST_EMPTY_PAGE);
     }
 
 
@@ -168,5 +168,5 @@ public class HeaderPage {
                 "firstEmptyPageNo must be >= 0; got " + firstEmptyPageNo);
         }
 
-        dbPage.writeShort(OFFSET_FIRST_EMPTY_PAGE, firstEmptyPageNo);
+        dbPage.writeInt(OFFSET_FIRST_EMPTY_PAGE, firstEmptyPageNo);
     }}
@@ -5,8 +5,10 @@ import java.util.List;
 
 import com.bow.lab.storage.heap.PageTupleUtil;
 import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.expressions.TupleComparator;
 import com.bow.lab.indexes.IndexFileInfo;
 import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.SQLDataType;
 import com.bow.maple.relations.Tuple;
 import com.bow.maple.storage.DBPage;
 import org.apache.log4j.Logger;
@@ -24,6 +26,17 @@ import org.apache.log4j.Logger;
  * leaves and/or inner pages of the B<sup>+</sup> tree structure, are provided
  * by the {@link LeafPageOperations} and {@link InnerPageOperations} classes.
  * </p>
+ * <p>
+ * 叶子页面分裂或者重新分配时，父节点中的key不必是右边页面完整的第一个key，
+ * 只要大于左边页面的最后一个key、不大于右边页面的第一个key即可，见
+ * {@link #makeSeparatorKey}。较短的key使内部节点可以容纳更多的指针。
+ * </p>
+ * <p>
+ * 页面末尾是slot目录，从页面末尾向前增长：第<i>i</i>个slot是2字节的第
+ * <i>i</i>个指针的位置，第<i>i</i>个key紧跟在它之后。包装页面时不需要逐个
+ * 解码key来确定它们的位置。修改页面的操作移动数据之后按新的内容重写slot
+ * 目录，见{@link #writeSlotDirectory}。
+ * </p>
  */
 public class InnerPage {
     /** A logging object for reporting anything interesting that happens. */
@@ -46,6 +59,18 @@ public class InnerPage {
     public static final int OFFSET_FIRST_POINTER = 5;
 
 
+    /** 每个指针(子节点的页号)占用的字节数 */
+    private static final int POINTER_SIZE = BTreeIndexManager.POINTER_SIZE;
+
+
+    /** slot目录中每一项占用的字节数，指针的位置以unsigned short存储 */
+    public static final int SLOT_SIZE = 2;
+
+
+    /** 每个指针连同它在slot目录中的一项占用的字节数 */
+    public static final int POINTER_ENTRY_SIZE = POINTER_SIZE + SLOT_SIZE;
+
+
     /** The actual data page that holds the B<sup>+</sup> tree leaf node. */
     private DBPage dbPage;
 
@@ -62,19 +87,16 @@ public class InnerPage {
 
 
     /**
-     * An array of the offsets where the pointers are stored in this non-leaf
-     * page.  Each pointer points to another page within the index file.  There
-     * is one more pointer than keys, since each key must be sandwiched between
-     * two pointers.
+     * An array of the keys stored in this non-leaf page, created lazily by
+     * {@link #getKey}.  Key <tt>i</tt> always starts right after pointer
+     * <tt>i</tt>.  Each key also stores the file-pointer for the associated
+     * tuple, as the last value in the key.
      */
-    private int[] pointerOffsets;
+    private BTreeIndexPageTuple[] keys;
 
 
-    /**
-     * An array of the keys stored in this non-leaf page.  Each key also stores
-     * the file-pointer for the associated tuple, as the last value in the key.
-     */
-    private BTreeIndexPageTuple[] keys;
+    /** 直接在页面字节上比较key */
+    private PageKeyComparator comparator;
 
 
     /**
@@ -96,6 +118,7 @@ public class InnerPage {
     public InnerPage(DBPage dbPage, IndexFileInfo idxFileInfo) {
         this.dbPage = dbPage;
         this.idxFileInfo = idxFileInfo;
+        this.comparator = new PageKeyComparator(idxFileInfo.getIndexSchema());
 
         loadPageContents();
     }
@@ -154,14 +177,16 @@ public class InnerPage {
 
         int offset = OFFSET_FIRST_POINTER;
 
-        dbPage.writeShort(offset, pagePtr1);
-        offset += 2;
+        dbPage.writeInt(offset, pagePtr1);
+        offset += POINTER_SIZE;
 
         offset = PageTupleUtil.storeTuple(dbPage, offset,
             idxFileInfo.getIndexSchema(), key1);
 
-        dbPage.writeShort(offset, pagePtr2);
+        dbPage.writeInt(offset, pagePtr2);
 
+        dbPage.writeShort(getSlotOffset(dbPage, 0), OFFSET_FIRST_POINTER);
+        dbPage.writeShort(getSlotOffset(dbPage, 1), offset);
         dbPage.writeShort(OFFSET_NUM_POINTERS, 2);
 
         return new InnerPage(dbPage, idxFileInfo);
@@ -169,49 +194,65 @@ public class InnerPage {
 
 
     /**
-     * This private helper scans through the inner page's contents and caches
-     * the contents of the inner page in a way that makes it easy to use and
-     * manipulate.
+     * This private helper reads the inner page's header and caches it in the
+     * fields of the wrapper.  Pointer positions are read from the slot
+     * directory when needed, and key objects are created lazily by
+     * {@link #getKey}.
      */
     private void loadPageContents() {
         numPointers = dbPage.readUnsignedShort(OFFSET_NUM_POINTERS);
         if (numPointers > 0) {
-            pointerOffsets = new int[numPointers];
             keys = new BTreeIndexPageTuple[numPointers - 1];
+            endOffset = getPointerOffset(numPointers - 1) + POINTER_SIZE;
+        }
+        else {
+            // There are no entries (pointers + keys).
+            endOffset = OFFSET_FIRST_POINTER;
+            keys = null;
+        }
+    }
 
-            List<ColumnInfo> colInfos = idxFileInfo.getIndexSchema();
 
-            // Handle first pointer + key separately since we know their offsets
+    /**
+     * 返回第<tt>index</tt>个slot在页面中的位置
+     *
+     * @param dbPage 内部页面
+     * @param index slot的序号，即指针的序号
+     * @return slot的位置
+     */
+    static int getSlotOffset(DBPage dbPage, int index) {
+        return dbPage.getPageSize() - SLOT_SIZE * (index + 1);
+    }
+
 
-            pointerOffsets[0] = OFFSET_FIRST_POINTER;
-            BTreeIndexPageTuple key = new BTreeIndexPageTuple(dbPage,
-                OFFSET_FIRST_POINTER + 2, colInfos);
-            keys[0] = key;
+    /** 从slot目录中读出第<tt>index</tt>个指针的位置 */
+    private int getPointerOffset(int index) {
+        return dbPage.readUnsignedShort(getSlotOffset(dbPage, index));
+    }
 
-            // Handle all the pointer/key pairs.  This excludes the last
-            // pointer.
 
-            int keyEndOffset;
-            for (int i = 1; i < numPointers - 1; i++) {
-                // Next pointer starts where the previous key ends.
-                keyEndOffset = key.getEndOffset();
-                pointerOffsets[i] = keyEndOffset;
-                
-                // Next key starts after the next pointer.
-                key = new BTreeIndexPageTuple(dbPage, keyEndOffset + 2, colInfos);
-                keys[i] = key;
-            }
+    /**
+     * 页面中的数据移动之后，从第一个指针开始逐个解码key，按新的位置重写slot
+     * 目录，然后重新读取页面头部。调用时缓存的<tt>numPointers</tt>还是修改前
+     * 的值，不再使用的slot据此清除。
+     */
+    private void writeSlotDirectory() {
+        int newNumPointers = dbPage.readUnsignedShort(OFFSET_NUM_POINTERS);
 
-            keyEndOffset = key.getEndOffset();
-            pointerOffsets[numPointers - 1] = keyEndOffset;
-            endOffset = keyEndOffset + 2;
+        int offset = OFFSET_FIRST_POINTER;
+        for (int i = 0; i < newNumPointers; i++) {
+            dbPage.writeShort(getSlotOffset(dbPage, i), offset);
+            offset += POINTER_SIZE;
+            if (i < newNumPointers - 1)
+                offset += comparator.getKeySize(dbPage, offset);
         }
-        else {
-            // There are no entries (pointers + keys).
-            endOffset = OFFSET_FIRST_POINTER;
-            pointerOffsets = null;
-            keys = null;
+
+        if (BTreeIndexManager.CLEAR_OLD_DATA && numPointers > newNumPointers) {
+            dbPage.setDataRange(getSlotOffset(dbPage, numPointers - 1),
+                SLOT_SIZE * (numPointers - newNumPointers), (byte) 0);
         }
+
+        loadPageContents();
     }
 
 
@@ -225,6 +266,16 @@ public class InnerPage {
     }
 
 
+    /**
+     * 返回此页面对应的数据页，合并后用于释放页面
+     *
+     * @return 页面对应的数据页
+     */
+    public DBPage getDBPage() {
+        return dbPage;
+    }
+
+
     /**
      * Returns the page-number of this leaf page.
      *
@@ -268,11 +319,12 @@ public class InnerPage {
 
     /**
      * Returns the amount of space available in this inner page, in bytes.
+     * The slot directory is not free space.
      *
      * @return the amount of space available in this inner page, in bytes.
      */
     public int getFreeSpace() {
-        return dbPage.getPageSize() - endOffset;
+        return getSlotOffset(dbPage, numPointers - 1) - endOffset;
     }
 
 
@@ -284,7 +336,7 @@ public class InnerPage {
      * @return the pointer at that index
      */
     public int getPointer(int index) {
-        return dbPage.readUnsignedShort(pointerOffsets[index]);
+        return dbPage.readInt(getPointerOffset(index));
     }
 
 
@@ -296,7 +348,119 @@ public class InnerPage {
      * @return the key at that index
      */
     public BTreeIndexPageTuple getKey(int index) {
-        return keys[index];
+        BTreeIndexPageTuple key = keys[index];
+        if (key == null) {
+            key = new BTreeIndexPageTuple(dbPage, getPointerOffset(index) + POINTER_SIZE,
+                idxFileInfo.getIndexSchema());
+            keys[index] = key;
+        }
+        return key;
+    }
+
+
+    /**
+     * 二分查找应当沿着哪个指针向下查找<tt>searchKey</tt>。<br/>
+     * 若<tt>searchKey</tt>包含索引的所有列(包括file-pointer)，返回第一个大于它的
+     * key之前的指针，即等于某个key时进入该key右边的子树；若只是前缀，返回第一个
+     * 前缀不小于它的key之前的指针，这样所有前缀相同的key都在这个子树或者其右边，
+     * 与{@link com.bow.maple.expressions.TupleComparator#comparePartialTuples}
+     * 的语义一致。查找过程中不创建key对象。
+     *
+     * @param searchKey 查找的key
+     * @return 指针的位置
+     */
+    public int findChildIndex(Tuple searchKey) {
+        boolean strict = searchKey.getColumnCount() >= comparator.getNumColumns();
+
+        int low = 0;
+        int high = getNumKeys();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = comparator.comparePrefix(dbPage, getPointerOffset(mid) + POINTER_SIZE, searchKey);
+            if (cmp < 0 || (strict && cmp == 0))
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+
+    /**
+     * 二分查找前缀不超过<tt>bound</tt>的最大的key所在的子树，用于逆序扫描时
+     * 从上界开始下降：返回第一个前缀大于<tt>bound</tt>(不包含边界时为不小于)
+     * 的key之前的指针，这个key右边的子树中的key都超出了上界。
+     *
+     * @param bound 上界，可以只包含索引的前几列
+     * @param inclusive 是否包含等于上界的key
+     * @return 指针的位置
+     */
+    public int findLastChildIndex(Tuple bound, boolean inclusive) {
+        int low = 0;
+        int high = getNumKeys();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = comparator.comparePrefix(dbPage, getPointerOffset(mid) + POINTER_SIZE, bound);
+            if (cmp < 0 || (inclusive && cmp == 0))
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+
+    /**
+     * 生成相邻两个叶子页面之间的分隔key S，满足<tt>left &lt; S &lt;= right</tt>。
+     * 找到两个key第一个不同的列，之前的列与<tt>right</tt>相同；该列是VARCHAR
+     * 时只保留比公共前缀多一个字符的部分，之后的列(包括file-pointer)都是
+     * <tt>NULL</tt>。<tt>NULL</tt>小于任何值，因此S不大于<tt>right</tt>。
+     * 例如"smith"与"smythe"之间的分隔key是("smy", NULL, ...)。
+     *
+     * @param colInfos 索引的schema，最后一列是file-pointer
+     * @param left 左边页面的最后一个key
+     * @param right 右边页面的第一个key，必须大于<tt>left</tt>
+     * @return 分隔key，已经计算了storage size
+     */
+    public static LiteralTuple makeSeparatorKey(List<ColumnInfo> colInfos,
+                                                Tuple left, Tuple right) {
+        int numColumns = colInfos.size();
+
+        LiteralTuple separator = new LiteralTuple();
+        int i = 0;
+        while (i < numColumns) {
+            Object leftValue = left.getColumnValue(i);
+            Object rightValue = right.getColumnValue(i);
+            if (TupleComparator.compareValues(leftValue, rightValue) != 0)
+                break;
+
+            separator.addValue(rightValue);
+            i++;
+        }
+
+        if (i < numColumns) {
+            Object leftValue = left.getColumnValue(i);
+            Object rightValue = right.getColumnValue(i);
+            if (colInfos.get(i).getType().getBaseType() == SQLDataType.VARCHAR &&
+                leftValue != null && rightValue != null) {
+                String leftStr = leftValue.toString();
+                String rightStr = rightValue.toString();
+                int len = 0;
+                while (len < leftStr.length() && len < rightStr.length() &&
+                       leftStr.charAt(len) == rightStr.charAt(len)) {
+                    len++;
+                }
+                // left < right，因此right比公共前缀长
+                rightValue = rightStr.substring(0, len + 1);
+            }
+            separator.addValue(rightValue);
+
+            for (i++; i < numColumns; i++)
+                separator.addValue(null);
+        }
+
+        separator.setStorageSize(PageTupleUtil.getTupleStorageSize(colInfos, separator));
+        return separator;
     }
 
 
@@ -320,8 +484,8 @@ public class InnerPage {
 
 
     public void replaceKey(int index, Tuple key) {
-        int oldStart = keys[index].getOffset();
-        int oldLen = keys[index].getEndOffset() - oldStart;
+        int oldStart = getPointerOffset(index) + POINTER_SIZE;
+        int oldLen = getPointerOffset(index + 1) - oldStart;
         
         List<ColumnInfo> colInfos = idxFileInfo.getIndexSchema();
         int newLen = PageTupleUtil.getTupleStorageSize(colInfos, key);
@@ -329,7 +493,7 @@ public class InnerPage {
         if (newLen != oldLen) {
             // Need to adjust the amount of space the key takes.
             
-            if (endOffset + newLen - oldLen > dbPage.getPageSize()) {
+            if (newLen - oldLen > getFreeSpace()) {
                 throw new IllegalArgumentException(
                     "New key-value is too large to fit in non-leaf page.");
             }
@@ -340,9 +504,7 @@ public class InnerPage {
 
         PageTupleUtil.storeTuple(dbPage, oldStart, colInfos, key);
 
-        // Reload the page contents.
-        // TODO:  This is slow, but it should be fine for now.
-        loadPageContents();
+        writeSlotDirectory();
     }
 
 
@@ -394,7 +556,7 @@ public class InnerPage {
         if (i < numPointers - 1) {
             // There's a key i associated with pointer i.  Use the key's offset,
             // since it's after the pointer.
-            oldKeyStart = keys[i].getOffset();
+            oldKeyStart = getPointerOffset(i) + POINTER_SIZE;
         }
         else {
             // The pageNo1 pointer is the last pointer in the sequence.  Use
@@ -408,8 +570,8 @@ public class InnerPage {
 
         List<ColumnInfo> colInfos = idxFileInfo.getIndexSchema();
         int newKeySize = PageTupleUtil.getTupleStorageSize(colInfos, key1);
-        int newEntrySize = newKeySize + 2;
-        if (endOffset + newEntrySize > dbPage.getPageSize()) {
+        int newEntrySize = newKeySize + POINTER_SIZE;
+        if (newEntrySize + SLOT_SIZE > getFreeSpace()) {
             throw new IllegalArgumentException("New key-value and " +
                 "page-pointer are too large to fit in non-leaf page.");
         }
@@ -422,14 +584,14 @@ public class InnerPage {
 
         // Write in the new key/pointer values.
         PageTupleUtil.storeTuple(dbPage, oldKeyStart, colInfos, key1);
-        dbPage.writeShort(oldKeyStart + newKeySize, pagePtr2);
+        dbPage.writeInt(oldKeyStart + newKeySize, pagePtr2);
 
         // Finally, increment the number of pointers in the page, then reload
         // the cached data.
 
         dbPage.writeShort(OFFSET_NUM_POINTERS, numPointers + 1);
 
-        loadPageContents();
+        writeSlotDirectory();
 
         if (logger.isTraceEnabled()) {
             logger.trace("Non-leaf page " + getPageNo() +
@@ -438,6 +600,38 @@ public class InnerPage {
     }
 
 
+    /**
+     * 删除页面中的指针<tt>pagePtr</tt>以及它左边的key，用于删除合并后被释放的
+     * 子节点。<tt>pagePtr</tt>不能是第一个指针，因为合并时总是把右边的节点并入
+     * 左边的节点。
+     *
+     * @param pagePtr 要删除的页面指针
+     *
+     * @throws IllegalArgumentException 页面中没有该指针，或者它是第一个指针
+     */
+    public void deletePointer(int pagePtr) {
+        int index = getIndexOfPointer(pagePtr);
+        if (index < 1) {
+            throw new IllegalArgumentException("Can't delete page-pointer " +
+                pagePtr + " from non-leaf page " + getPageNo() +
+                " (pointer index " + index + ")");
+        }
+
+        // Remove key (index - 1) and pointer index.
+        int start = getPointerOffset(index - 1) + POINTER_SIZE;
+        int end = getPointerOffset(index) + POINTER_SIZE;
+        int len = end - start;
+
+        dbPage.moveDataRange(end, start, endOffset - end);
+        if (BTreeIndexManager.CLEAR_OLD_DATA)
+            dbPage.setDataRange(endOffset - len, len, (byte) 0);
+
+        dbPage.writeShort(OFFSET_NUM_POINTERS, numPointers - 1);
+
+        writeSlotDirectory();
+    }
+
+
     /**
      * <p>
      * This helper function moves the specified number of page-pointers to the
@@ -464,20 +658,16 @@ public class InnerPage {
      *        tree is being increased) then this value will be {@code null}.
      *
      * @return the key that should go into the parent node, between the
-     *         page-pointers for this node and its sibling
-     *
-     * @todo (Donnie) When support for deletion is added to the index
-     *       implementation, we will need to support the case when the incoming
-     *       {@code parentKey} is non-{@code null}, but the returned key is
-     *       {@code null} because one of the two siblings' pointers will be
-     *       removed.
+     *         page-pointers for this node and its sibling, or {@code null} if
+     *         all pointers were moved (i.e. the two nodes were merged, and the
+     *         parent's pointer to this node must be removed)
      */
     public LiteralTuple movePointersLeft(InnerPage leftSibling, int count,
                                          Tuple parentKey) {
 
-        if (count < 0 || count > numPointers) {
-            throw new IllegalArgumentException("count must be in range [0, " +
-                numPointers + "), got " + count);
+        if (count < 1 || count > numPointers) {
+            throw new IllegalArgumentException("count must be in range [1, " +
+                numPointers + "], got " + count);
         }
 
         // The parent-key can be null if we are splitting a page into two pages.
@@ -498,7 +688,9 @@ public class InnerPage {
         // to include the parent-key before the first pointer from the right
         // page.  Then update the count of pointers in the destination page.
 
-        int moveEndOffset = pointerOffsets[count] + 2;
+        // Pointers 0..count-1 and the keys between them are moved; the key
+        // after the last moved pointer goes up to the parent.
+        int moveEndOffset = getPointerOffset(count - 1) + POINTER_SIZE;
         int len = moveEndOffset - OFFSET_FIRST_POINTER;
 
         if (parentKey != null) {
@@ -524,8 +716,8 @@ public class InnerPage {
         if (count < numPointers) {
             // There's a key to the right of the last pointer we moved.  This
             // will become the new parent key.
-            BTreeIndexPageTuple key = keys[count - 1];
-            int keyEndOff = key.getEndOffset();
+            BTreeIndexPageTuple key = getKey(count - 1);
+            int keyEndOff = getPointerOffset(count);
             newParentKey = new LiteralTuple(key);
 
             // Slide left the remainder of the data.
@@ -541,9 +733,9 @@ public class InnerPage {
         }
         dbPage.writeShort(OFFSET_NUM_POINTERS, numPointers - count);
 
-        // Update the cached info for both non-leaf pages.
-        loadPageContents();
-        leftSibling.loadPageContents();
+        // Update the slots and cached info for both non-leaf pages.
+        writeSlotDirectory();
+        leftSibling.writeSlotDirectory();
 
         return newParentKey;
     }
@@ -575,13 +767,9 @@ public class InnerPage {
      *        tree is being increased) then this value will be {@code null}.
      *
      * @return the key that should go into the parent node, between the
-     *         page-pointers for this node and its sibling
-     *
-     * @todo (Donnie) When support for deletion is added to the index
-     *       implementation, we will need to support the case when the incoming
-     *       {@code parentKey} is non-{@code null}, but the returned key is
-     *       {@code null} because one of the two siblings' pointers will be
-     *       removed.
+     *         page-pointers for this node and its sibling, or {@code null} if
+     *         all pointers were moved (i.e. the two nodes were merged, and the
+     *         parent's pointer to this node must be removed)
      */
     public LiteralTuple movePointersRight(InnerPage rightSibling, int count,
                                           Tuple parentKey) {
@@ -597,7 +785,7 @@ public class InnerPage {
         }
 
         int startPointerIndex = numPointers - count;
-        int startOffset = pointerOffsets[startPointerIndex];
+        int startOffset = (count > 0) ? getPointerOffset(startPointerIndex) : endOffset;
         int len = endOffset - startOffset;
         
         logger.debug("Moving everything after pointer " + startPointerIndex +
@@ -650,8 +838,8 @@ public class InnerPage {
         if (count < numPointers) {
             // There's a key to the left of the last pointer we moved.  This
             // will become the new parent key.
-            BTreeIndexPageTuple key = keys[startPointerIndex - 1];
-            int keyOff = key.getOffset();
+            BTreeIndexPageTuple key = getKey(startPointerIndex - 1);
+            int keyOff = getPointerOffset(startPointerIndex - 1) + POINTER_SIZE;
             newParentKey = new LiteralTuple(key);
             
             // Cut down the remainder of the data.
@@ -664,9 +852,9 @@ public class InnerPage {
         }
         dbPage.writeShort(OFFSET_NUM_POINTERS, numPointers - count);
 
-        // Update the cached info for both non-leaf pages.
-        loadPageContents();
-        rightSibling.loadPageContents();
+        // Update the slots and cached info for both non-leaf pages.
+        writeSlotDirectory();
+        rightSibling.writeSlotDirectory();
 
         if (logger.isTraceEnabled()) {
             logger.trace("Non-leaf page " + getPageNo() +
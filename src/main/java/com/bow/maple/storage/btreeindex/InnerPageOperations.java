@@ -26,6 +26,11 @@ public class InnerPageOperations {
     /** A logging object for reporting anything interesting that happens. */
     private static Logger logger = Logger.getLogger(InnerPageOperations.class);
 
+
+    /** 每个指针占用的字节数，包括它在slot目录中的一项 */
+    private static final int POINTER_SIZE = InnerPage.POINTER_ENTRY_SIZE;
+
+
     private StorageManager storageManager;
     
     private BTreeIndexManager bTreeManager;
@@ -83,7 +88,7 @@ public class InnerPageOperations {
                 int newKeySize = PageTupleUtil.getTupleStorageSize(
                     page.getIndexFileInfo().getIndexSchema(), key1);
 
-                if (page.getFreeSpace() - oldKeySize + newKeySize >= 0) {
+                if (page.getFreeSpace() + oldKeySize - newKeySize >= 0) {
                     // We have room - go ahead and do this.
                     page.replaceKey(i, key1);
                 }
@@ -119,11 +124,220 @@ public class InnerPageOperations {
     }
 
 
+    /**
+     * <p>
+     * 从内部节点中删除指针<tt>pagePtr</tt>以及它左边的key，用于子节点合并之后。
+     * 删除后如果页面中的数据不足一半，与叶子页面的处理相同：先尝试与同一个父
+     * 节点下的兄弟节点合并(父节点中两者之间的key下移到合并后的页面)，不能合并
+     * 时从兄弟节点借入指针，并更新父节点中的key。
+     * </p>
+     * <p>
+     * 根节点只剩下一个指针时，它唯一的子节点成为新的根节点，树的高度减一。
+     * </p>
+     *
+     * @param page 要删除指针的内部节点
+     *
+     * @param pagePath 从根节点到该节点经过的页号
+     *
+     * @param pagePtr 要删除的指针，不能是页面中的第一个指针
+     *
+     * @throws IOException if an IO error occurs while updating the index
+     */
+    public void deletePointer(InnerPage page, List<Integer> pagePath,
+                              int pagePtr) throws IOException {
+
+        int pathSize = pagePath.size();
+        if (pagePath.get(pathSize - 1) != page.getPageNo()) {
+            throw new IllegalArgumentException(
+                "Inner page number doesn't match last page-number in page path");
+        }
+
+        page.deletePointer(pagePtr);
+
+        IndexFileInfo idxFileInfo = page.getIndexFileInfo();
+
+        if (pathSize == 1) {
+            // This page is the root.  If it only has one child left, that
+            // child becomes the new root.
+            if (page.getNumPointers() == 1) {
+                int newRootPageNo = page.getPointer(0);
+
+                DBPage dbpHeader =
+                    storageManager.loadDBPage(idxFileInfo.getDBFile(), 0);
+                HeaderPage.setRootPageNo(dbpHeader, newRootPageNo);
+                bTreeManager.releaseDataPage(page.getDBPage());
+
+                logger.debug("Set index root-page to page " + newRootPageNo);
+            }
+            return;
+        }
+
+        if (getUsedSpace(page) >= getCapacity(page) / 2)
+            return;
+
+        InnerPage parentPage = loadPage(idxFileInfo, pagePath.get(pathSize - 2));
+        int pagePtrIndex = parentPage.getIndexOfPointer(page.getPageNo());
+
+        InnerPage prevPage = null;
+        LiteralTuple prevParentKey = null;
+        if (pagePtrIndex - 1 >= 0) {
+            prevPage = loadPage(idxFileInfo,
+                parentPage.getPointer(pagePtrIndex - 1));
+            prevParentKey = new LiteralTuple(parentPage.getKey(pagePtrIndex - 1));
+        }
+
+        InnerPage nextPage = null;
+        LiteralTuple nextParentKey = null;
+        if (pagePtrIndex + 1 < parentPage.getNumPointers()) {
+            nextPage = loadPage(idxFileInfo,
+                parentPage.getPointer(pagePtrIndex + 1));
+            nextParentKey = new LiteralTuple(parentPage.getKey(pagePtrIndex));
+        }
+
+        pagePath.remove(pathSize - 1);
+
+        if (prevPage != null && canMerge(prevPage, page, prevParentKey)) {
+            mergePages(prevPage, page, prevParentKey, parentPage, pagePath);
+        }
+        else if (nextPage != null && canMerge(page, nextPage, nextParentKey)) {
+            mergePages(page, nextPage, nextParentKey, parentPage, pagePath);
+        }
+        else if (prevPage == null || !redistributePointers(prevPage, page,
+                 prevParentKey, parentPage, pagePath)) {
+            if (nextPage != null) {
+                redistributePointers(page, nextPage, nextParentKey,
+                    parentPage, pagePath);
+            }
+        }
+    }
+
+
+    /**
+     * 判断右边节点的所有指针以及父节点中的key能否放入左边的节点
+     */
+    private boolean canMerge(InnerPage prevPage, InnerPage nextPage,
+                             Tuple parentKey) {
+        int parentKeySize = PageTupleUtil.getTupleStorageSize(
+            prevPage.getIndexFileInfo().getIndexSchema(), parentKey);
+
+        return getUsedSpace(nextPage) + parentKeySize <= prevPage.getFreeSpace();
+    }
+
+
+    /**
+     * 把右边节点的所有指针移到左边的兄弟节点，父节点中两者之间的key放在中间。
+     * 然后释放右边的节点，并从父节点中删除指向它的指针。
+     */
+    private void mergePages(InnerPage prevPage, InnerPage nextPage,
+        Tuple parentKey, InnerPage parentPage, List<Integer> pagePath)
+        throws IOException {
+
+        logger.debug(String.format("Merging inner-page %d into left-sibling " +
+            "inner-page %d", nextPage.getPageNo(), prevPage.getPageNo()));
+
+        nextPage.movePointersLeft(prevPage, nextPage.getNumPointers(), parentKey);
+
+        int nextPageNo = nextPage.getPageNo();
+        bTreeManager.releaseDataPage(nextPage.getDBPage());
+
+        deletePointer(parentPage, pagePath, nextPageNo);
+    }
+
+
+    /**
+     * 在两个相邻的内部节点之间移动指针，使两个节点的数据量大致相同，并替换父
+     * 节点中两者之间的key。至少移动一个指针，但数据较多的节点至少保留两个
+     * 指针。
+     *
+     * @return 没有可移动的指针，或者父节点放不下新的key时返回false
+     */
+    private boolean redistributePointers(InnerPage prevPage, InnerPage nextPage,
+        Tuple parentKey, InnerPage parentPage, List<Integer> pagePath) {
+
+        List<ColumnInfo> colInfos = prevPage.getIndexFileInfo().getIndexSchema();
+
+        // Move pointers from the fuller page to the emptier one.
+        boolean movingRight = getUsedSpace(prevPage) > getUsedSpace(nextPage);
+        InnerPage src = movingRight ? prevPage : nextPage;
+        InnerPage dst = movingRight ? nextPage : prevPage;
+
+        int numPointers = src.getNumPointers();
+        int srcUsed = getUsedSpace(src);
+        int dstUsed = getUsedSpace(dst);
+
+        // Each pointer moved brings one key along into the destination:  the
+        // first one is the parent key, and after that the keys from the source
+        // page.  The source page loses a pointer and its adjacent key.
+        int incomingKeySize = PageTupleUtil.getTupleStorageSize(colInfos, parentKey);
+        int count = 0;
+        while (count < numPointers - 2) {
+            int keyIndex = movingRight ? numPointers - count - 2 : count;
+            int keySize = src.getKey(keyIndex).getSize();
+
+            if (dstUsed + incomingKeySize + POINTER_SIZE > getCapacity(dst))
+                break;
+
+            if (count > 0 &&
+                dstUsed + incomingKeySize + POINTER_SIZE > srcUsed - keySize - POINTER_SIZE)
+                break;
+
+            dstUsed += incomingKeySize + POINTER_SIZE;
+            srcUsed -= keySize + POINTER_SIZE;
+            incomingKeySize = keySize;
+            count++;
+        }
+
+        if (count == 0)
+            return false;
+
+        // This key from the source page goes up to the parent.
+        int newKeyIndex = movingRight ? numPointers - count - 1 : count - 1;
+        int newKeySize = src.getKey(newKeyIndex).getSize();
+        int oldKeySize = PageTupleUtil.getTupleStorageSize(colInfos, parentKey);
+        if (parentPage.getFreeSpace() + oldKeySize < newKeySize) {
+            logger.debug("Parent page " + parentPage.getPageNo() +
+                " has no room for the new key; not redistributing.");
+            return false;
+        }
+
+        logger.debug(String.format("Relocating %d pointers from inner-page %d " +
+            "to inner-page %d", count, src.getPageNo(), dst.getPageNo()));
+
+        LiteralTuple newParentKey;
+        if (movingRight)
+            newParentKey = prevPage.movePointersRight(nextPage, count, parentKey);
+        else
+            newParentKey = nextPage.movePointersLeft(prevPage, count, parentKey);
+
+        replaceKey(parentPage, pagePath, prevPage.getPageNo(), newParentKey,
+            nextPage.getPageNo());
+
+        return true;
+    }
+
+
+    /** 内部节点中可以存放指针、key和slot目录的字节数 */
+    private static int getCapacity(InnerPage page) {
+        return page.getDBPage().getPageSize() - InnerPage.OFFSET_FIRST_POINTER;
+    }
+
+
+    /** 内部节点中指针、key和slot目录占用的字节数 */
+    private static int getUsedSpace(InnerPage page) {
+        return getCapacity(page) - page.getFreeSpace();
+    }
+
+
     /**
      * This helper function determines how many pointers must be relocated from
-     * one inner page to another, in order to free up the specified number of
-     * bytes.  If it is possible, the number of pointers that must be relocated
-     * is returned.  If it is not possible, the method returns 0.
+     * one inner page to another, in order to make room for a new entry.  If it
+     * is possible, the number of pointers that must be relocated is returned.
+     * If it is not possible, the method returns 0.
+     * <p>
+     * 移动<tt>count</tt>个指针时，原来的父节点key和其中<tt>count - 1</tt>个key
+     * 移入兄弟页面，剩下的一个key成为新的父节点key。新的项加入移动之后包含
+     * <tt>pagePtr1</tt>的页面，该页面要放得下；父节点中的key替换成新的key之后
+     * 也要放得下。
      *
      * @param page the inner page to relocate entries from
      *
@@ -135,8 +349,12 @@ public class InnerPageOperations {
      *        {@code false} if the sibling is to the left of {@code page} (and
      *        therefore we are moving entries left).
      *
-     * @param bytesRequired the number of bytes that must be freed up in
-     *        {@code page} by the operation
+     * @param pagePtr1 the existing page-pointer after which the new entry will
+     *        be inserted
+     *
+     * @param bytesRequired the size of the new entry, including its pointer
+     *
+     * @param parentPage the parent of the two pages
      *
      * @param parentKeySize the size of the parent key that must also be
      *        relocated into the adjacent page, and therefore affects how many
@@ -146,56 +364,49 @@ public class InnerPageOperations {
      *         required space, or 0 if it is not possible.
      */
     private int tryNonLeafRelocateForSpace(InnerPage page, InnerPage adjPage,
-        boolean movingRight, int bytesRequired, int parentKeySize) {
+        boolean movingRight, int pagePtr1, int bytesRequired,
+        InnerPage parentPage, int parentKeySize) {
 
         int numKeys = page.getNumKeys();
+        int ptrIndex1 = page.getIndexOfPointer(pagePtr1);
         int pageBytesFree = page.getFreeSpace();
         int adjBytesFree = adjPage.getFreeSpace();
-
-        // The parent key always has to move to the adjacent page, so if that
-        // won't fit, don't even try.
-        if (adjBytesFree < parentKeySize)
-            return 0;
-
-        adjBytesFree -= parentKeySize;
-
-        int keyBytesMoved = 0;
-        int lastKeySize = parentKeySize;
-
-        int numRelocated = 0;
-        while (true) {
-            if (adjBytesFree < keyBytesMoved + 2 * numRelocated) {
-                numRelocated--;
+        int parentBytesFree = parentPage.getFreeSpace() + parentKeySize;
+
+        // 移入兄弟页面的key的总字节数，从原来的父节点key开始
+        int keyBytesMoved = parentKeySize;
+        // 从本页面移出的key的总字节数
+        int keyBytesRemoved = 0;
+
+        // 本页面至少保留两个指针
+        for (int count = 1; count < numKeys; count++) {
+            // Figure out the index of the key that is promoted to the parent,
+            // based on the direction we are moving values.
+            int index = movingRight ? numKeys - count : count - 1;
+            int keySize = page.getKey(index).getSize();
+            keyBytesRemoved += keySize;
+
+            boolean entryInAdj = movingRight ?
+                ptrIndex1 >= numKeys + 1 - count : ptrIndex1 < count;
+
+            int adjNeeded = keyBytesMoved + POINTER_SIZE * count +
+                (entryInAdj ? bytesRequired : 0);
+            if (adjBytesFree < adjNeeded) {
+                // 再多移动只会需要更多的空间
                 break;
             }
 
-            // Figure out the index of the key we need the size of, based on the
-            // direction we are moving values.  If we are moving values right,
-            // we need to look at the keys starting at the rightmost one.  If we
-            // are moving values left, we need to start with the leftmost key.
-            int index;
-            if (movingRight)
-                index = numKeys - numRelocated - 1;
-            else
-                index = numRelocated;
-
-            keyBytesMoved += lastKeySize;
-
-            lastKeySize = page.getKey(index).getSize();
-            logger.debug("Key " + index + " is " + lastKeySize + " bytes");
-
-            numRelocated++;
-
-            // Since we don't yet know which page the new pointer will go into,
-            // stop when we can put the pointer in either page.
-            if (pageBytesFree >= bytesRequired &&
-                (adjBytesFree + keyBytesMoved + 2 * numRelocated) >= bytesRequired) {
-                break;
+            int pageAvailable = pageBytesFree + keyBytesRemoved + POINTER_SIZE * count;
+            if ((entryInAdj || pageAvailable >= bytesRequired) &&
+                parentBytesFree >= keySize) {
+                logger.debug("Relocating " + count + " pointers frees enough space");
+                return count;
             }
+
+            keyBytesMoved += keySize;
         }
 
-        assert numRelocated >= 0;
-        return numRelocated;
+        return 0;
     }
 
 
@@ -220,9 +431,9 @@ public class InnerPageOperations {
     public void addEntry(InnerPage page, List<Integer> pagePath,
         int pagePtr1, Tuple key1, int pagePtr2) throws IOException {
 
-        // The new entry will be the key, plus 2 bytes for the page-pointer.
+        // The new entry will be the key, plus the bytes for the page-pointer.
         List<ColumnInfo> colInfos = page.getIndexFileInfo().getIndexSchema();
-        int newEntrySize = PageTupleUtil.getTupleStorageSize(colInfos, key1) + 2;
+        int newEntrySize = PageTupleUtil.getTupleStorageSize(colInfos, key1) + POINTER_SIZE;
 
         if (page.getFreeSpace() < newEntrySize) {
             // Try to relocate entries from this inner page to either sibling,
@@ -282,7 +493,7 @@ public class InnerPageOperations {
                 int parentKeySize = parentKey.getSize();
 
                 int count = tryNonLeafRelocateForSpace(page, prevPage, false,
-                    newEntrySize, parentKeySize);
+                    pagePtr1, newEntrySize, parentPage, parentKeySize);
 
                 if (count > 0) {
                     // Yes, we can do it!
@@ -329,7 +540,7 @@ public class InnerPageOperations {
                 int parentKeySize = parentKey.getSize();
 
                 int count = tryNonLeafRelocateForSpace(page, nextPage, true,
-                    newEntrySize, parentKeySize);
+                    pagePtr1, newEntrySize, parentPage, parentKeySize);
 
                 if (count > 0) {
                     // Yes, we can do it!
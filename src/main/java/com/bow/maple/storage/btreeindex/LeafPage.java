@@ -7,10 +7,11 @@ import java.util.List;
 import com.bow.lab.storage.heap.PageTupleUtil;
 import org.apache.log4j.Logger;
 
-import com.bow.maple.expressions.TupleComparator;
 import com.bow.maple.expressions.LiteralTuple;
 import com.bow.lab.indexes.IndexFileInfo;
 import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.relations.Tuple;
 import com.bow.maple.storage.DBPage;
 
 
@@ -26,6 +27,19 @@ import com.bow.maple.storage.DBPage;
  * leaves and/or inner pages of the B<sup>+</sup> tree structure, are provided
  * by the {@link LeafPageOperations} and {@link InnerPageOperations} classes.
  * </p>
+ * <p>
+ * 索引的第一列是VARCHAR时，叶子页面使用前缀压缩：页面头部记录页面中所有key
+ * 第一列共同的前缀，每个key的第一列只存储去掉前缀之后的部分。页面中有第一列
+ * 为<tt>NULL</tt>的key时前缀为空。key按顺序存放，共同前缀就是第一个和最后
+ * 一个key的公共前缀。插入的key不以该前缀开头时前缀变短，整个页面重新编码；
+ * 删除key不改变前缀。在页面之间移动key时两个页面都按新的内容重新编码，
+ * 见{@link #setKeys}。
+ * </p>
+ * <p>
+ * 页面末尾是slot目录，从页面末尾向前增长：第<i>i</i>个slot是2字节的第
+ * <i>i</i>个key的起始位置，最后一个slot(第<tt>numEntries</tt>个)是数据的
+ * 结束位置。包装页面时不需要逐个解码key来确定它们的位置。
+ * </p>
  */
 public class LeafPage {
     /** A logging object for reporting anything interesting that happens. */
@@ -39,7 +53,8 @@ public class LeafPage {
     /**
      * The offset where the next-sibling page number is stored in this page.
      * The only leaf page that doesn't have a next sibling is the last leaf
-     * in the index; its "next page" value will be set to 0.
+     * in the index; its "next page" value will be set to 0.  This value is an
+     * int.
      */
     public static final int OFFSET_NEXT_PAGE_NO = 1;
 
@@ -47,11 +62,19 @@ public class LeafPage {
     /**
      * The offset where the number of key+pointer entries is stored in the page.
      */
-    public static final int OFFSET_NUM_ENTRIES = 3;
+    public static final int OFFSET_NUM_ENTRIES =
+        OFFSET_NEXT_PAGE_NO + BTreeIndexManager.POINTER_SIZE;
+
+
+    /**
+     * 第一列共同前缀的存储位置，格式与VARCHAR相同：2字节的长度，然后是前缀
+     * 的内容。第一个key紧跟在前缀之后。
+     */
+    public static final int OFFSET_KEY_PREFIX = OFFSET_NUM_ENTRIES + 2;
 
 
-    /** The offset of the first key in the leaf page. */
-    public static final int OFFSET_FIRST_KEY = 5;
+    /** slot目录中每一项占用的字节数，key的位置以unsigned short存储 */
+    public static final int SLOT_SIZE = 2;
 
 
     /** The actual data page that holds the B<sup>+</sup> tree leaf node. */
@@ -77,10 +100,23 @@ public class LeafPage {
 
 
     /**
-     * A list of the keys stored in this leaf page.  Each key also stores the
-     * file-pointer for the associated tuple, as the last value in the key.
+     * The keys stored in this leaf page, created lazily by {@link #getKey}.
+     * Each key also stores the file-pointer for the associated tuple, as the
+     * last value in the key.
+     */
+    private BTreeIndexPageTuple[] keys;
+
+
+    /** 直接在页面字节上比较key */
+    private PageKeyComparator comparator;
+
+
+    /**
+     * 页面中所有key第一列省略的共同前缀，没有时为空串。插入key时只会变短，
+     * 删除key后不会变长，页面放不下新的key时由
+     * {@link LeafPageOperations#addEntry}重新计算。
      */
-    private ArrayList<BTreeIndexPageTuple> keys;
+    private String keyPrefix;
 
 
     /**
@@ -108,6 +144,7 @@ public class LeafPage {
         this.dbPage = dbPage;
         this.idxFileInfo = idxFileInfo;
         this.colInfos = idxFileInfo.getIndexSchema();
+        this.comparator = new PageKeyComparator(colInfos);
 
         loadPageContents();
     }
@@ -128,42 +165,59 @@ public class LeafPage {
     public static LeafPage init(DBPage dbPage, IndexFileInfo idxFileInfo) {
         dbPage.writeByte(OFFSET_PAGE_TYPE, BTreeIndexManager.BTREE_LEAF_PAGE);
         dbPage.writeShort(OFFSET_NUM_ENTRIES, 0);
-        dbPage.writeShort(OFFSET_NEXT_PAGE_NO, 0);
+        dbPage.writeInt(OFFSET_NEXT_PAGE_NO, 0);
+        dbPage.writeShort(OFFSET_KEY_PREFIX, 0);
+        dbPage.writeShort(getSlotOffset(dbPage, 0), OFFSET_KEY_PREFIX + 2);
 
         return new LeafPage(dbPage, idxFileInfo);
     }
 
 
     /**
-     * This private helper scans through the leaf page's contents and caches
-     * the contents of the leaf page in a way that makes it easy to use and
-     * manipulate.
+     * This private helper reads the leaf page's header and caches it in the
+     * fields of the wrapper.  Key positions are read from the slot directory
+     * when needed, and key objects are created lazily by {@link #getKey}.
      */
     private void loadPageContents() {
         numEntries = dbPage.readUnsignedShort(OFFSET_NUM_ENTRIES);
-        keys = new ArrayList<BTreeIndexPageTuple>(numEntries);
+        keys = new BTreeIndexPageTuple[numEntries];
+        keyPrefix = dbPage.readVarString65535(OFFSET_KEY_PREFIX);
+        endOffset = getKeyOffset(numEntries);
+    }
 
-        if (numEntries > 0) {
-            // Handle first key separately since we know its offset.
 
-            BTreeIndexPageTuple key =
-                new BTreeIndexPageTuple(dbPage, OFFSET_FIRST_KEY, colInfos);
+    /**
+     * 返回第<tt>index</tt>个slot在页面中的位置
+     *
+     * @param dbPage 叶子页面
+     * @param index slot的序号，从0到key的个数(含)
+     * @return slot的位置
+     */
+    static int getSlotOffset(DBPage dbPage, int index) {
+        return dbPage.getPageSize() - SLOT_SIZE * (index + 1);
+    }
 
-            keys.add(key);
 
-            // Handle remaining keys.
-            for (int i = 1; i < numEntries; i++) {
-                int keyEndOffset = key.getEndOffset();
-                key = new BTreeIndexPageTuple(dbPage, keyEndOffset, colInfos);
-                keys.add(key);
-            }
+    /**
+     * 返回<tt>numEntries</tt>个key的slot目录占用的字节数，包括记录数据结束
+     * 位置的最后一个slot
+     */
+    static int getSlotDirectorySize(int numEntries) {
+        return SLOT_SIZE * (numEntries + 1);
+    }
 
-            endOffset = key.getEndOffset();
-        }
-        else {
-            // There are no entries (pointers + keys).
-            endOffset = OFFSET_FIRST_KEY;
-        }
+
+    /**
+     * 从slot目录中读出第<tt>index</tt>个key的起始位置，<tt>index</tt>等于
+     * key的个数时返回数据的结束位置
+     */
+    private int getKeyOffset(int index) {
+        return dbPage.readUnsignedShort(getSlotOffset(dbPage, index));
+    }
+
+
+    private void setKeyOffset(int index, int offset) {
+        dbPage.writeShort(getSlotOffset(dbPage, index), offset);
     }
 
 
@@ -177,6 +231,16 @@ public class LeafPage {
     }
 
 
+    /**
+     * 返回此叶子页面对应的数据页，扫描完成后可用于unpin
+     *
+     * @return 叶子页面对应的数据页
+     */
+    public DBPage getDBPage() {
+        return dbPage;
+    }
+
+
     /**
      * Returns the page-number of this leaf page.
      *
@@ -195,7 +259,7 @@ public class LeafPage {
      *         pages, or 0 if this is the last leaf-page in the index.
      */
     public int getNextPageNo() {
-        return dbPage.readUnsignedShort(OFFSET_NEXT_PAGE_NO);
+        return dbPage.readInt(OFFSET_NEXT_PAGE_NO);
     }
 
 
@@ -208,10 +272,10 @@ public class LeafPage {
     public void setNextPageNo(int pageNo) {
         if (pageNo < 0) {
             throw new IllegalArgumentException(
-                "pageNo must be in range [0, 65535]; got " + pageNo);
+                "pageNo must be nonnegative; got " + pageNo);
         }
         
-        dbPage.writeShort(OFFSET_NEXT_PAGE_NO, pageNo);
+        dbPage.writeInt(OFFSET_NEXT_PAGE_NO, pageNo);
     }
 
 
@@ -233,7 +297,45 @@ public class LeafPage {
      * @return the amount of space available in this leaf page, in bytes.
      */
     public int getFreeSpace() {
-        return dbPage.getPageSize() - endOffset;
+        return getSlotOffset(dbPage, numEntries) - endOffset;
+    }
+
+
+    /**
+     * 页面中可以存放前缀、key和slot目录的字节数
+     */
+    public int getCapacity() {
+        return dbPage.getPageSize() - OFFSET_KEY_PREFIX;
+    }
+
+
+    /**
+     * 前缀、所有key和slot目录占用的字节数
+     */
+    public int getUsedSpace() {
+        return endOffset - OFFSET_KEY_PREFIX + getSlotDirectorySize(numEntries);
+    }
+
+
+    /**
+     * 返回页面中所有key第一列省略的共同前缀
+     */
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+
+    /**
+     * 计算插入<tt>newKey</tt>需要的字节数。新的key不以当前的前缀开头时，前缀
+     * 变短，其它key也要变长，都计算在内。新的key在slot目录中还要占用一项。
+     *
+     * @param newKey 要插入的完整的key，已经计算了storage size
+     * @return 插入后页面多占用的字节数
+     */
+    public int getSpaceNeeded(LiteralTuple newKey) {
+        String newPrefix = commonPrefix(keyPrefix, newKey.getColumnValue(0));
+        int shrink = keyPrefix.length() - newPrefix.length();
+        return getStoredSize(newKey, newPrefix) + shrink * (numEntries - 1) + SLOT_SIZE;
     }
 
 
@@ -245,20 +347,81 @@ public class LeafPage {
      * @return the key at that index
      */
     public BTreeIndexPageTuple getKey(int index) {
-        return keys.get(index);
+        if (index < 0 || index >= numEntries) {
+            throw new IndexOutOfBoundsException("Key index " + index +
+                " is not in range [0, " + numEntries + ")");
+        }
+
+        BTreeIndexPageTuple key = keys[index];
+        if (key == null) {
+            key = new BTreeIndexPageTuple(dbPage, getKeyOffset(index), colInfos, keyPrefix);
+            keys[index] = key;
+        }
+        return key;
+    }
+
+
+    /**
+     * 比较指定位置的key的前<tt>searchKey.getColumnCount()</tt>列与
+     * <tt>searchKey</tt>，直接读取页面中的字节，不创建key对象。
+     *
+     * @param index key的位置
+     * @param searchKey 查找的key，可以只包含索引的前几列
+     * @return 负数、0或正数，表示页面中的key小于、等于或大于<tt>searchKey</tt>
+     */
+    public int compareKey(int index, Tuple searchKey) {
+        return comparator.comparePrefix(dbPage, getKeyOffset(index), searchKey, keyPrefix);
+    }
+
+
+    /**
+     * 二分查找第一个前缀不小于<tt>searchKey</tt>的key的位置
+     *
+     * @param searchKey 查找的key，可以只包含索引的前几列
+     * @return key的位置，所有key都小于<tt>searchKey</tt>时返回
+     *         {@link #getNumEntries()}
+     */
+    public int findFirstKeyAtLeast(Tuple searchKey) {
+        return binarySearch(searchKey, false);
+    }
+
+
+    /**
+     * 二分查找第一个前缀大于<tt>searchKey</tt>的key的位置
+     *
+     * @param searchKey 查找的key，可以只包含索引的前几列
+     * @return key的位置，没有更大的key时返回{@link #getNumEntries()}
+     */
+    public int findFirstKeyGreaterThan(Tuple searchKey) {
+        return binarySearch(searchKey, true);
+    }
+
+
+    private int binarySearch(Tuple searchKey, boolean strict) {
+        int low = 0;
+        int high = numEntries;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareKey(mid, searchKey);
+            if (cmp < 0 || (strict && cmp == 0))
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
     }
 
 
     /**
-     * Returns the size of the key at the specified index, in bytes.
+     * Returns the size of the key at the specified index, in bytes.  This
+     * does not include the key's slot.
      *
      * @param index the index of the key to get the size of
      *
      * @return the size of the specified key, in bytes
      */
     public int getKeySize(int index) {
-        BTreeIndexPageTuple key = getKey(index);
-        return key.getEndOffset() - key.getOffset();
+        return getKeyOffset(index + 1) - getKeyOffset(index);
     }
 
 
@@ -281,50 +444,42 @@ public class LeafPage {
                 "be computed before this method is called.");
         }
 
-        if (getFreeSpace() < newKey.getStorageSize()) {
+        if (getFreeSpace() < getSpaceNeeded(newKey)) {
             throw new IllegalArgumentException(String.format(
                 "Not enough space in this node to store the new key " +
                 "(%d bytes free; %d bytes required)", getFreeSpace(),
-                newKey.getStorageSize()));
+                getSpaceNeeded(newKey)));
         }
 
-        if (numEntries == 0) {
-            logger.debug("Leaf page is empty; storing new entry at start.");
-            addEntryAtIndex(newKey, 0);
+        if (newKey.getColumnCount() != colInfos.size()) {
+            throw new IllegalArgumentException("New key " + newKey +
+                " must include all index columns and the file-pointer");
         }
-        else {
-            int i;
-            for (i = 0; i < numEntries; i++) {
-                BTreeIndexPageTuple key = keys.get(i);
-
-                /* This gets REALLY verbose... */
-                logger.trace(i + ":  comparing " + newKey + " to " + key);
-
-                // Compare the tuple to the current key.  Once we find where the
-                // new key/tuple should go, copy the key/pointer into the page.
-                int cmp = TupleComparator.compareTuples(newKey, key);
-                if (cmp < 0) {
-                    logger.debug("Storing new entry at index " + i +
-                        " in the leaf page.");
-                    addEntryAtIndex(newKey, i);
-                    break;
-                }
-                else if (cmp == 0) {
-                    // This should NEVER happen!  Remember that every key has
-                    // a uniquifier associated with it - the actual location of
-                    // the associated tuple - so this should be an error.
-                    throw new IllegalStateException("Key " + newKey +
-                        " already appears in the index!");
-                }
-            }
-
-            if (i == numEntries) {
-                // The new tuple will go at the end of this page's entries.
-                logger.debug("Storing new entry at end of leaf page.");
-                addEntryAtIndex(newKey, numEntries);
-            }
+
+        // Find the first key that is not less than the new key.  Since every
+        // key includes a "uniquifier" (the file-pointer), an equal key there
+        // means the index would become invalid.
+        int i = findFirstKeyAtLeast(newKey);
+        if (i < numEntries && compareKey(i, newKey) == 0) {
+            throw new IllegalStateException("Key " + newKey +
+                " already appears in the index!");
         }
 
+        String newPrefix = commonPrefix(keyPrefix, newKey.getColumnValue(0));
+        if (!newPrefix.equals(keyPrefix)) {
+            // 新的key不以当前的前缀开头，整个页面按较短的前缀重新编码
+            logger.debug("Key prefix of leaf-page " + getPageNo() + " shrinks from \"" +
+                keyPrefix + "\" to \"" + newPrefix + "\"");
+            List<LiteralTuple> allKeys = getAllKeys();
+            allKeys.add(i, newKey);
+            setKeys(allKeys, 0, allKeys.size());
+            return;
+        }
+
+        logger.debug("Storing new entry at index " + i + " of " + numEntries +
+            " in the leaf page.");
+        addEntryAtIndex(newKey, i);
+
         // The addEntryAtIndex() method updates the internal fields that cache
         // where keys live, etc.  So, we don't need to do that here.
     }
@@ -343,13 +498,9 @@ public class LeafPage {
         logger.debug("Leaf-page is starting with data ending at index " +
             endOffset + ", and has " + numEntries + " entries.");
 
-        // Get the length of the new tuple, and add in the size of the
-        // file-pointer as well.
-        int len = newKey.getStorageSize();
-        if (len == -1) {
-            throw new IllegalArgumentException("New key's storage size must " +
-                "be computed before this method is called.");
-        }
+        // 页面中存储的是去掉前缀之后的key
+        LiteralTuple storedKey = stripPrefix(newKey, keyPrefix);
+        int len = getStoredSize(newKey, keyPrefix);
 
         logger.debug("New key's storage size is " + len + " bytes");
 
@@ -357,12 +508,10 @@ public class LeafPage {
         if (index < numEntries) {
             // Need to slide keys after this index over, in order to make space.
 
-            BTreeIndexPageTuple key = getKey(index);
-
             // Make space for the new key/pointer to be stored, then copy in
             // the new values.
 
-            keyOffset = key.getOffset();
+            keyOffset = getKeyOffset(index);
 
             logger.debug("Moving leaf-page data in range [" + keyOffset + ", " +
                 endOffset + ") over by " + len + " bytes");
@@ -376,14 +525,17 @@ public class LeafPage {
         }
 
         // Write the key and its associated file-pointer value into the page.
-        PageTupleUtil.storeTuple(dbPage, keyOffset, colInfos, newKey);
+        PageTupleUtil.storeTuple(dbPage, keyOffset, colInfos, storedKey);
+
+        // 后面的slot向页面开头移动一项，它们的key都后移了len字节。第j+1个
+        // slot在第j个之前，从后往前改写不会覆盖还没有读取的slot。
+        for (int j = numEntries; j >= index; j--)
+            setKeyOffset(j + 1, getKeyOffset(j) + len);
+        setKeyOffset(index, keyOffset);
 
         // Increment the total number of entries.
         dbPage.writeShort(OFFSET_NUM_ENTRIES, numEntries + 1);
 
-        // Reload the page contents now that we have a new key in the mix.
-        // TODO:  We could do this more efficiently, but this should be
-        //        sufficient for now.
         loadPageContents();
 
         logger.debug("Wrote new key to leaf-page at offset " + keyOffset + ".");
@@ -393,116 +545,215 @@ public class LeafPage {
 
 
     /**
-     * This helper function moves the specified number of entries to the left
-     * sibling of this leaf node.  The data is copied in one shot so that the
-     * transfer will be fast, and the various associated bookkeeping values in
-     * both leaves are updated.
+     * 从叶子页面中删除与<tt>oldKey</tt>完全相同的key(包括最后的file-pointer)，
+     * 其后的key向前移动。只修改本页面，删除后页面不足半满时的合并和重新分配
+     * 由{@link LeafPageOperations#deleteEntry}处理，索引中的删除都应通过它进行。
      *
-     * @param leftSibling the left sibling of this leaf-node in the index file
-     *
-     * @param count the number of entries (i.e. keys) to move to the left
-     *        sibling
-     */
-    public void moveEntriesLeft(LeafPage leftSibling, int count) {
-        if (leftSibling == null)
-            throw new IllegalArgumentException("leftSibling cannot be null");
-
-        if (leftSibling.getNextPageNo() != getPageNo()) {
-            logger.error(String.format("Left sibling leaf %d says that page " +
-                "%d is its right sibling, not this page %d",
-                leftSibling.getPageNo(), leftSibling.getNextPageNo(), getPageNo()));
-            
-            throw new IllegalArgumentException("leftSibling " +
-                leftSibling.getPageNo() + " isn't actually the left " +
-                "sibling of this leaf-node " + getPageNo());
-        }
-
-        if (count < 0 || count > numEntries) {
-            throw new IllegalArgumentException("count must be in range [0, " +
-                numEntries + "), got " + count);
+     * @param oldKey 要删除的key
+     * @return 找到并删除返回true，页面中没有该key时返回false
+     */
+    public boolean deleteEntry(LiteralTuple oldKey) {
+        int i = findFirstKeyAtLeast(oldKey);
+        if (i < numEntries && compareKey(i, oldKey) == 0) {
+            deleteEntryAtIndex(i);
+            return true;
         }
+        return false;
+    }
 
-        int moveEndOffset = getKey(count).getOffset();
-        int len = moveEndOffset - OFFSET_FIRST_KEY;
 
-        // Copy the range of key-data to the destination page.  Then update the
-        // count of entries in the destination page.
-        // Don't need to move any data in the left sibling; we are appending!
-        leftSibling.dbPage.write(leftSibling.endOffset, dbPage.getPageData(),
-            OFFSET_FIRST_KEY, len);             // Copy the key-data across
-        leftSibling.dbPage.writeShort(OFFSET_NUM_ENTRIES,
-            leftSibling.numEntries + count);    // Update the entry-count
+    /**
+     * 删除指定位置的key，把后面的数据向前移动
+     *
+     * @param index 要删除的key的位置
+     */
+    private void deleteEntryAtIndex(int index) {
+        int keyOffset = getKeyOffset(index);
+        int len = getKeySize(index);
 
-        // Remove that range of key-data from this page.
-        dbPage.moveDataRange(moveEndOffset, OFFSET_FIRST_KEY,
-            endOffset - moveEndOffset);
-        dbPage.writeShort(OFFSET_NUM_ENTRIES, numEntries - count);
+        logger.debug("Removing key at index " + index + " (offset " +
+            keyOffset + ", " + len + " bytes) from leaf-page " + getPageNo());
 
-        // Only erase the old data in the leaf page if we are trying to make
-        // sure everything works properly.
+        dbPage.moveDataRange(keyOffset + len, keyOffset, endOffset - keyOffset - len);
         if (BTreeIndexManager.CLEAR_OLD_DATA)
             dbPage.setDataRange(endOffset - len, len, (byte) 0);
 
-        // Update the cached info for both leaves.
+        // 后面的slot向页面末尾移动一项
+        for (int j = index; j < numEntries; j++)
+            setKeyOffset(j, getKeyOffset(j + 1) - len);
+        if (BTreeIndexManager.CLEAR_OLD_DATA)
+            dbPage.setDataRange(getSlotOffset(dbPage, numEntries), SLOT_SIZE, (byte) 0);
+
+        dbPage.writeShort(OFFSET_NUM_ENTRIES, numEntries - 1);
+
         loadPageContents();
-        leftSibling.loadPageContents();
     }
 
 
     /**
-     * This helper function moves the specified number of entries to the right
-     * sibling of this leaf node.  The data is copied in one shot so that the
-     * transfer will be fast, and the various associated bookkeeping values in
-     * both leaves are updated.
+     * 读出页面中的所有key，第一列已经补全了前缀
      *
-     * @param rightSibling the right sibling of this leaf-node in the index file
+     * @return 按顺序排列的key，已经计算了完整的storage size
+     */
+    public List<LiteralTuple> getAllKeys() {
+        List<LiteralTuple> result = new ArrayList<LiteralTuple>(numEntries + 1);
+        for (int i = 0; i < numEntries; i++) {
+            LiteralTuple key = new LiteralTuple(getKey(i));
+            key.setStorageSize(PageTupleUtil.getTupleStorageSize(colInfos, key));
+            result.add(key);
+        }
+        return result;
+    }
+
+
+    /**
+     * 用<tt>keys[from, to)</tt>替换页面中的所有key，按这些key的共同前缀重新
+     * 编码。用于在页面之间移动key，调用者需要先用{@link #getEncodedSize}确认
+     * 放得下。
+     *
+     * @param keys 按顺序排列的完整的key，已经计算了storage size
+     * @param from 第一个key的位置
+     * @param to 最后一个key之后的位置
+     */
+    public void setKeys(List<LiteralTuple> keys, int from, int to) {
+        int oldEnd = endOffset;
+        int oldSlots = getSlotOffset(dbPage, numEntries);
+        int newEnd = writeKeys(dbPage, colInfos, keys, from, to);
+        if (BTreeIndexManager.CLEAR_OLD_DATA) {
+            // 新的slot目录可能伸入原来的数据区域
+            int newSlots = getSlotOffset(dbPage, to - from);
+            int clearEnd = Math.min(oldEnd, newSlots);
+            if (newEnd < clearEnd)
+                dbPage.setDataRange(newEnd, clearEnd - newEnd, (byte) 0);
+
+            if (newSlots > oldSlots)
+                dbPage.setDataRange(oldSlots, newSlots - oldSlots, (byte) 0);
+        }
+
+        loadPageContents();
+    }
+
+
+    /**
+     * 把<tt>keys[from, to)</tt>按它们的共同前缀编码后写入叶子页面，并设置
+     * key的个数和slot目录，不修改下一个页面的页号。
      *
-     * @param count the number of entries (i.e. keys) to move to the right
-     *        sibling
+     * @param dbPage 叶子页面
+     * @param colInfos 索引的schema
+     * @param keys 按顺序排列的完整的key，已经计算了storage size
+     * @param from 第一个key的位置
+     * @param to 最后一个key之后的位置
+     * @return 最后一个key的结束位置
      */
-    public void moveEntriesRight(LeafPage rightSibling, int count) {
-        if (rightSibling == null)
-            throw new IllegalArgumentException("rightSibling cannot be null");
+    static int writeKeys(DBPage dbPage, List<ColumnInfo> colInfos,
+                         List<LiteralTuple> keys, int from, int to) {
+        String prefix = (from < to) ?
+            getKeyPrefix(colInfos, keys.get(from), keys.get(to - 1)) : "";
 
-        if (getNextPageNo() != rightSibling.getPageNo()) {
-            throw new IllegalArgumentException("rightSibling " +
-                rightSibling.getPageNo() + " isn't actually the right " +
-                "sibling of this leaf-node " + getPageNo());
+        if (OFFSET_KEY_PREFIX + getEncodedSize(colInfos, keys, from, to) > dbPage.getPageSize()) {
+            throw new IllegalArgumentException(String.format(
+                "%d keys don't fit in leaf-page %d", to - from, dbPage.getPageNo()));
         }
-        
-        if (count < 0 || count > numEntries) {
-            throw new IllegalArgumentException("count must be in range [0, " +
-                numEntries + "), got " + count);
+
+        dbPage.writeShort(OFFSET_NUM_ENTRIES, to - from);
+        dbPage.writeVarString65535(OFFSET_KEY_PREFIX, prefix);
+
+        int offset = OFFSET_KEY_PREFIX + 2 + prefix.length();
+        for (int i = from; i < to; i++) {
+            dbPage.writeShort(getSlotOffset(dbPage, i - from), offset);
+            offset = PageTupleUtil.storeTuple(dbPage, offset, colInfos, stripPrefix(keys.get(i), prefix));
         }
+        dbPage.writeShort(getSlotOffset(dbPage, to - from), offset);
+
+        return offset;
+    }
 
-        int startOffset = getKey(numEntries - count).getOffset();
-        int len = endOffset - startOffset;
 
-        // Copy the range of key-data to the destination page.  Then update the
-        // count of entries in the destination page.
+    /**
+     * 计算<tt>keys[from, to)</tt>编码后占用的字节数，包括前缀和slot目录，
+     * 不包括页面头部{@link #OFFSET_KEY_PREFIX}之前的部分
+     *
+     * @param colInfos 索引的schema
+     * @param keys 按顺序排列的完整的key，已经计算了storage size
+     * @param from 第一个key的位置
+     * @param to 最后一个key之后的位置
+     * @return 编码后的字节数，与{@link #getCapacity()}比较
+     */
+    static int getEncodedSize(List<ColumnInfo> colInfos, List<LiteralTuple> keys,
+                              int from, int to) {
+        int size = 2 + getSlotDirectorySize(to - from);
+        for (int i = from; i < to; i++)
+            size += keys.get(i).getStorageSize();
+
+        if (to - from > 1) {
+            // 前缀本身存储一次，每个key省略一次
+            int prefixLen = getKeyPrefix(colInfos, keys.get(from), keys.get(to - 1)).length();
+            size -= prefixLen * (to - from - 1);
+        }
+        return size;
+    }
 
-        // Make room for the data
-        rightSibling.dbPage.moveDataRange(OFFSET_FIRST_KEY,
-            OFFSET_FIRST_KEY + len, rightSibling.endOffset - OFFSET_FIRST_KEY);
 
-        // Copy the key-data across
-        rightSibling.dbPage.write(OFFSET_FIRST_KEY, dbPage.getPageData(),
-            startOffset, len);
+    /**
+     * 计算从<tt>first</tt>到<tt>last</tt>之间(含)所有key第一列的共同前缀。
+     * key是有序的，因此就是两者的公共前缀。
+     *
+     * @param colInfos 索引的schema
+     * @param first 第一个key
+     * @param last 最后一个key
+     * @return 共同前缀，第一列不是VARCHAR或者有<tt>NULL</tt>时为空串
+     */
+    static String getKeyPrefix(List<ColumnInfo> colInfos, Tuple first, Tuple last) {
+        if (colInfos.get(0).getType().getBaseType() != SQLDataType.VARCHAR)
+            return "";
 
-        // Update the entry-count
-        rightSibling.dbPage.writeShort(OFFSET_NUM_ENTRIES,
-            rightSibling.numEntries + count);
+        Object firstValue = first.getColumnValue(0);
+        if (firstValue == null)
+            return "";
 
-        // Remove that range of key-data from this page.
-        dbPage.writeShort(OFFSET_NUM_ENTRIES, numEntries - count);
+        return commonPrefix(firstValue.toString(), last.getColumnValue(0));
+    }
 
-        // Only erase the old data in the leaf page if we are trying to make
-        // sure everything works properly.
-        if (BTreeIndexManager.CLEAR_OLD_DATA)
-            dbPage.setDataRange(startOffset, len, (byte) 0);
-        
-        // Update the cached info for both leaves.
-        loadPageContents();
-        rightSibling.loadPageContents();
+
+    /**
+     * 返回<tt>prefix</tt>与字符串<tt>value</tt>的公共前缀
+     */
+    private static String commonPrefix(String prefix, Object value) {
+        if (prefix.isEmpty() || value == null)
+            return "";
+
+        String str = value.toString();
+        int len = Math.min(prefix.length(), str.length());
+        int i = 0;
+        while (i < len && prefix.charAt(i) == str.charAt(i))
+            i++;
+
+        return prefix.substring(0, i);
+    }
+
+
+    /**
+     * 返回第一列去掉<tt>prefix</tt>之后的key
+     */
+    private static LiteralTuple stripPrefix(LiteralTuple key, String prefix) {
+        if (prefix.isEmpty())
+            return key;
+
+        LiteralTuple stored = new LiteralTuple(key);
+        stored.setColumnValue(0, key.getColumnValue(0).toString().substring(prefix.length()));
+        return stored;
+    }
+
+
+    /**
+     * 去掉前缀之后key的storage size，VARCHAR每个字符占一个字节
+     */
+    private static int getStoredSize(LiteralTuple key, String prefix) {
+        if (key.getStorageSize() == -1) {
+            throw new IllegalArgumentException("Key's storage size must " +
+                "be computed before this method is called.");
+        }
+
+        return key.getStorageSize() - prefix.length();
     }
 }
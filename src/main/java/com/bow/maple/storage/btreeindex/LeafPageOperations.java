@@ -2,6 +2,7 @@ package com.bow.maple.storage.btreeindex;
 
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.bow.lab.indexes.IndexFileInfo;
@@ -11,6 +12,7 @@ import org.apache.log4j.Logger;
 
 import com.bow.maple.expressions.TupleComparator;
 import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.relations.ColumnInfo;
 import com.bow.maple.storage.StorageManager;
 
 
@@ -19,6 +21,13 @@ import com.bow.maple.storage.StorageManager;
  * performed on leaf nodes.  These operations are provided here and not on the
  * {@link LeafPage} class since they sometimes involve splitting or merging
  * leaf nodes, updating parent nodes, and so forth.
+ * <p>
+ * 叶子页面是前缀压缩的(见{@link LeafPage})，一组key占用的空间取决于它们的
+ * 共同前缀，不等于各个key的大小之和。因此在页面之间移动key时，先把涉及的
+ * 所有key按顺序放在一个列表中，用{@link LeafPage#getEncodedSize}计算分界位置
+ * 两边编码后的大小，再分别重写两个页面。父节点中的key由
+ * {@link InnerPage#makeSeparatorKey}生成。
+ * </p>
  *
  * {@link com.bow.lab.storage.btree.LeafPageOperations}
  */
@@ -76,6 +85,11 @@ public class LeafPageOperations {
      * This operation is provided here and not on the {@link LeafPage} class,
      * because adding the new entry might require the leaf page to be split into
      * two pages.
+     * <p>
+     * 前缀压缩的页面在极少数情况下，加入新的key使前缀变短后，即使分裂成两个
+     * 页面也放不下。此时只把原来的key分到两个页面中，返回false，调用者需要从
+     * 根节点重新查找叶子页面再次插入。
+     * </p>
      *
      * @param leaf the leaf page to add the entry to
      *
@@ -84,37 +98,350 @@ public class LeafPageOperations {
      * @param pagePath the path of pages taken from the root page to this leaf
      *        page, represented as a list of page numbers in the data file
      *
+     * @return 插入了新的key返回true，只分裂了页面返回false
+     *
      * @throws IOException if an IO error occurs while updating the index
      */
-    public void addEntry(LeafPage leaf, LiteralTuple newTupleKey,
-                         List<Integer> pagePath) throws IOException {
+    public boolean addEntry(LeafPage leaf, LiteralTuple newTupleKey,
+                            List<Integer> pagePath) throws IOException {
 
-        // Figure out where the new key-value goes in the leaf page.
+        // 前缀只在插入时变短，删除key后可能有更长的共同前缀；分裂前先按现有的
+        // key重新编码，空出的空间可能足够放下新的key
+        if (leaf.getFreeSpace() < leaf.getSpaceNeeded(newTupleKey))
+            recomputeKeyPrefix(leaf);
 
-        int newEntrySize = newTupleKey.getStorageSize();
-        if (leaf.getFreeSpace() < newEntrySize) {
+        if (leaf.getFreeSpace() < leaf.getSpaceNeeded(newTupleKey)) {
             // Try to relocate entries from this leaf to either sibling,
             // or if that can't happen, split the leaf page into two.
-            if (!relocateEntriesAndAddKey(leaf, pagePath, newTupleKey))
-                splitLeafAndAddKey(leaf, pagePath, newTupleKey);
+            if (relocateEntriesAndAddKey(leaf, pagePath, newTupleKey))
+                return true;
+
+            return splitLeafAndAddKey(leaf, pagePath, newTupleKey);
         }
         else {
             // There is room in the leaf for the new key.  Add it there.
             leaf.addEntry(newTupleKey);
+            return true;
         }
     }
 
 
 
+    /**
+     * <p>
+     * 从叶子页面中删除一个key。删除后如果页面中的数据不足一半，依次尝试：
+     * </p>
+     * <ol>
+     * <li>与左边或右边的兄弟页面合并。总是把右边页面的key并入左边的页面，
+     *     释放右边的页面，并从父节点中删除指向它的指针，父节点可能因此继续
+     *     合并。</li>
+     * <li>不能合并时从兄弟页面借入key，使两个页面大致平衡，并更新父节点中
+     *     两个页面之间的key。</li>
+     * </ol>
+     * <p>
+     * 兄弟页面只在同一个父节点下查找。叶子页面同时是根节点时，页面变空后
+     * 索引也变为空。{@link #canDeleteWithoutMerge}返回true时只修改该叶子页面。
+     * </p>
+     *
+     * @param leaf 包含该key的叶子页面
+     *
+     * @param oldKey 要删除的key，包括最后的file-pointer
+     *
+     * @param pagePath 从根节点到该叶子页面经过的页号
+     *
+     * @return 找到并删除了该key返回true，页面中没有该key时返回false
+     *
+     * @throws IOException if an IO error occurs while updating the index
+     */
+    public boolean deleteEntry(LeafPage leaf, LiteralTuple oldKey,
+                               List<Integer> pagePath) throws IOException {
+
+        if (!leaf.deleteEntry(oldKey))
+            return false;
+
+        int pathSize = pagePath.size();
+        if (pagePath.get(pathSize - 1) != leaf.getPageNo()) {
+            throw new IllegalArgumentException(
+                "Leaf page number doesn't match last page-number in page path");
+        }
+
+        IndexFileInfo idxFileInfo = leaf.getIndexFileInfo();
+
+        if (pathSize == 1) {
+            // The leaf is also the root.  Once it is empty, so is the index.
+            if (leaf.getNumEntries() == 0) {
+                logger.debug("Root leaf-page " + leaf.getPageNo() +
+                    " is empty; index is now empty.");
+
+                DBPage dbpHeader =
+                    storageManager.loadDBPage(idxFileInfo.getDBFile(), 0);
+                HeaderPage.setRootPageNo(dbpHeader, 0);
+                HeaderPage.setFirstLeafPageNo(dbpHeader, 0);
+                bTreeManager.releaseDataPage(leaf.getDBPage());
+            }
+            return true;
+        }
+
+        if (leaf.getUsedSpace() >= leaf.getCapacity() / 2)
+            return true;
+
+        InnerPage parentPage =
+            innerPageOps.loadPage(idxFileInfo, pagePath.get(pathSize - 2));
+        int pagePtrIndex = parentPage.getIndexOfPointer(leaf.getPageNo());
+
+        LeafPage prevPage = null;
+        if (pagePtrIndex - 1 >= 0) {
+            prevPage = loadLeafPage(idxFileInfo,
+                parentPage.getPointer(pagePtrIndex - 1));
+        }
+
+        LeafPage nextPage = null;
+        if (pagePtrIndex + 1 < parentPage.getNumPointers()) {
+            nextPage = loadLeafPage(idxFileInfo,
+                parentPage.getPointer(pagePtrIndex + 1));
+        }
+
+        pagePath.remove(pathSize - 1);
+
+        if (prevPage != null && canMerge(prevPage, leaf)) {
+            mergeLeaves(prevPage, leaf, parentPage, pagePath);
+        }
+        else if (nextPage != null && canMerge(leaf, nextPage)) {
+            mergeLeaves(leaf, nextPage, parentPage, pagePath);
+        }
+        else if (prevPage == null ||
+                 !redistributeEntries(prevPage, leaf, parentPage, pagePath)) {
+            if (nextPage != null)
+                redistributeEntries(leaf, nextPage, parentPage, pagePath);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * 把右边叶子页面的所有key移到左边的兄弟页面，释放右边的页面，并从父节点
+     * 中删除指向它的指针。
+     *
+     * @param prevLeaf 左边的页面
+     * @param nextLeaf 右边的页面，合并后被释放
+     * @param parentPage 两个页面的父节点
+     * @param pagePath 从根节点到父节点经过的页号
+     *
+     * @throws IOException if an IO error occurs while updating the index
+     */
+    private void mergeLeaves(LeafPage prevLeaf, LeafPage nextLeaf,
+        InnerPage parentPage, List<Integer> pagePath) throws IOException {
+
+        logger.debug(String.format("Merging leaf-page %d into left-sibling " +
+            "leaf-page %d", nextLeaf.getPageNo(), prevLeaf.getPageNo()));
+
+        List<LiteralTuple> keys = prevLeaf.getAllKeys();
+        keys.addAll(nextLeaf.getAllKeys());
+        setKeys(prevLeaf, keys, 0, keys.size());
+        prevLeaf.setNextPageNo(nextLeaf.getNextPageNo());
+
+        int nextPageNo = nextLeaf.getPageNo();
+        bTreeManager.releaseDataPage(nextLeaf.getDBPage());
+
+        innerPageOps.deletePointer(parentPage, pagePath, nextPageNo);
+    }
+
+
+    /**
+     * 用<tt>keys</tt>中的一段替换叶子页面中所有的key，并使自适应哈希索引中
+     * 指向该页面的记录失效
+     */
+    private void setKeys(LeafPage leaf, List<LiteralTuple> keys, int from, int to) {
+        bTreeManager.invalidateLeaf(leaf.getDBPage().getDBFile(), leaf.getPageNo());
+        leaf.setKeys(keys, from, to);
+    }
+
+
+    /**
+     * 页面中现有的key的共同前缀比页面记录的前缀长时，按新的前缀重新编码
+     *
+     * @param leaf 叶子页面
+     */
+    private void recomputeKeyPrefix(LeafPage leaf) {
+        int numEntries = leaf.getNumEntries();
+        if (numEntries == 0)
+            return;
+
+        List<ColumnInfo> colInfos = leaf.getIndexFileInfo().getIndexSchema();
+        String prefix = LeafPage.getKeyPrefix(colInfos, leaf.getKey(0),
+            leaf.getKey(numEntries - 1));
+        if (prefix.length() > leaf.getKeyPrefix().length()) {
+            logger.debug("Key prefix of leaf-page " + leaf.getPageNo() + " grows from \"" +
+                leaf.getKeyPrefix() + "\" to \"" + prefix + "\"");
+            List<LiteralTuple> keys = leaf.getAllKeys();
+            setKeys(leaf, keys, 0, keys.size());
+        }
+    }
+
+
+    /**
+     * 判断两个相邻的叶子页面的所有key能否放入一个页面
+     */
+    private static boolean canMerge(LeafPage prevLeaf, LeafPage nextLeaf) {
+        // 合并后的共同前缀可能比两个页面各自的前缀短，按合并后的内容计算
+        List<LiteralTuple> keys = prevLeaf.getAllKeys();
+        keys.addAll(nextLeaf.getAllKeys());
+        List<ColumnInfo> colInfos = prevLeaf.getIndexFileInfo().getIndexSchema();
+        return LeafPage.getEncodedSize(colInfos, keys, 0, keys.size()) <= prevLeaf.getCapacity();
+    }
+
+
+    /**
+     * 在两个相邻的叶子页面之间移动key，使两个页面编码后的数据量尽量接近，
+     * 并更新父节点中两个页面之间的key。每个页面至少保留一个key。
+     *
+     * @param prevLeaf 左边的页面
+     * @param nextLeaf 右边的页面
+     * @param parentPage 两个页面的父节点
+     * @param pagePath 从根节点到父节点经过的页号
+     *
+     * @return 没有可移动的key，或者父节点放不下新的key时返回false
+     */
+    private boolean redistributeEntries(LeafPage prevLeaf, LeafPage nextLeaf,
+        InnerPage parentPage, List<Integer> pagePath) {
+
+        List<ColumnInfo> colInfos = prevLeaf.getIndexFileInfo().getIndexSchema();
+        List<LiteralTuple> keys = prevLeaf.getAllKeys();
+        int numPrev = keys.size();
+        keys.addAll(nextLeaf.getAllKeys());
+
+        int boundary = chooseBoundary(colInfos, keys, prevLeaf.getCapacity(),
+            1, keys.size() - 1);
+        if (boundary < 0 || boundary == numPrev)
+            return false;
+
+        LiteralTuple newParentKey = InnerPage.makeSeparatorKey(colInfos,
+            keys.get(boundary - 1), keys.get(boundary));
+        if (!hasRoomForKey(parentPage, prevLeaf.getPageNo(), newParentKey))
+            return false;
+
+        logger.debug(String.format("Relocating %d entries between leaf-page %d " +
+            "and leaf-page %d", Math.abs(boundary - numPrev), prevLeaf.getPageNo(),
+            nextLeaf.getPageNo()));
+
+        setKeys(prevLeaf, keys, 0, boundary);
+        setKeys(nextLeaf, keys, boundary, keys.size());
+
+        innerPageOps.replaceKey(parentPage, pagePath, prevLeaf.getPageNo(),
+            newParentKey, nextLeaf.getPageNo());
+
+        return true;
+    }
+
+
+    /**
+     * 判断从叶子页面中删除<tt>oldKey</tt>之后是否不需要与兄弟页面合并或者
+     * 重新分配，此时删除只修改这一个页面，可以在共享的树latch下进行。
+     *
+     * @param leaf 包含该key的叶子页面
+     * @param oldKey 要删除的key
+     * @param isRoot 叶子页面是否同时是根节点
+     * @return 删除后不需要修改其它页面时返回true
+     */
+    boolean canDeleteWithoutMerge(LeafPage leaf, LiteralTuple oldKey, boolean isRoot) {
+        if (isRoot)
+            return leaf.getNumEntries() > 1;
+
+        // 删除的key实际只释放去掉前缀之后的部分，这里的估计偏保守
+        return leaf.getUsedSpace() - oldKey.getStorageSize() >= leaf.getCapacity() / 2;
+    }
+
+
+    /**
+     * 父节点在<tt>pagePtr</tt>之后的key替换为<tt>newKey</tt>之后是否还放得下
+     */
+    private static boolean hasRoomForKey(InnerPage parentPage, int pagePtr,
+                                         LiteralTuple newKey) {
+        int ptrIndex = parentPage.getIndexOfPointer(pagePtr);
+        int oldKeySize = parentPage.getKey(ptrIndex).getSize();
+        if (parentPage.getFreeSpace() + oldKeySize < newKey.getStorageSize()) {
+            logger.debug("Parent page " + parentPage.getPageNo() +
+                " has no room for the new key.");
+            return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * 返回叶子页面中的所有key，并把<tt>key</tt>插入到它应在的位置
+     */
+    private static List<LiteralTuple> getKeysWith(LeafPage leaf, LiteralTuple key) {
+        List<LiteralTuple> keys = leaf.getAllKeys();
+        int i = 0;
+        while (i < keys.size() && TupleComparator.compareTuples(keys.get(i), key) < 0)
+            i++;
+
+        keys.add(i, key);
+        return keys;
+    }
+
+
+    /**
+     * 在<tt>[minBoundary, maxBoundary]</tt>中选择分界位置<tt>b</tt>，使
+     * <tt>keys[0, b)</tt>和<tt>keys[b, n)</tt>编码后都能放入一个叶子页面，并且
+     * 两边的大小最接近。
+     *
+     * @param colInfos 索引的schema
+     * @param keys 按顺序排列的key，已经计算了storage size
+     * @param capacity 叶子页面可以存放前缀和key的字节数
+     * @param minBoundary 分界位置的最小值，至少为1
+     * @param maxBoundary 分界位置的最大值，至多为<tt>n - 1</tt>
+     * @return 分界位置，不存在时返回-1
+     */
+    private static int chooseBoundary(List<ColumnInfo> colInfos,
+        List<LiteralTuple> keys, int capacity, int minBoundary, int maxBoundary) {
+
+        int n = keys.size();
+        int best = -1;
+        int bestDiff = Integer.MAX_VALUE;
+        for (int b = minBoundary; b <= maxBoundary; b++) {
+            int leftSize = LeafPage.getEncodedSize(colInfos, keys, 0, b);
+            if (leftSize > capacity)
+                break;  // 左边只会越来越大
+
+            int rightSize = LeafPage.getEncodedSize(colInfos, keys, b, n);
+            if (rightSize > capacity)
+                continue;
+
+            int diff = Math.abs(leftSize - rightSize);
+            if (diff < bestDiff) {
+                best = b;
+                bestDiff = diff;
+            }
+        }
+
+        logger.debug("Boundary for " + n + " keys in [" + minBoundary + ", " +
+            maxBoundary + "]:  " + best);
+        return best;
+    }
+
+
+    /**
+     * 把<tt>page</tt>中的一部分key移到左边或右边的兄弟页面，腾出空间后插入
+     * 新的key。移动后两个页面编码后都必须放得下，父节点也必须放得下新的分隔
+     * key。
+     *
+     * @param page 放不下新的key的叶子页面
+     * @param pagePath 从根节点到该页面经过的页号
+     * @param key 要插入的key
+     * @return 插入成功返回true，两个兄弟页面都不能腾出空间时返回false
+     * @throws IOException if an IO error occurs while updating the index
+     */
     private boolean relocateEntriesAndAddKey(LeafPage page,
         List<Integer> pagePath, LiteralTuple key) throws IOException {
 
         // See if we are able to relocate records either direction to free up
         // space for the new key.
 
-        int bytesRequired = key.getStorageSize();
-
         IndexFileInfo idxFileInfo = page.getIndexFileInfo();
+        List<ColumnInfo> colInfos = idxFileInfo.getIndexSchema();
 
         int pathSize = pagePath.size();
         if (pathSize == 1)  // This node is also the root - no parent.
@@ -125,14 +452,15 @@ public class LeafPageOperations {
                 "leaf page number doesn't match last page-number in page path");
         }
 
-        int parentPageNo = 0;
-        if (pathSize >= 2)
-            parentPageNo = pagePath.get(pathSize - 2);
+        int parentPageNo = pagePath.get(pathSize - 2);
 
         InnerPage parentPage = innerPageOps.loadPage(idxFileInfo, parentPageNo);
         int numPointers = parentPage.getNumPointers();
         int pagePtrIndex = parentPage.getIndexOfPointer(page.getPageNo());
 
+        // 本页面的key加上新的key
+        List<LiteralTuple> pageKeys = getKeysWith(page, key);
+
         // Check each sibling in its own code block so that we can constrain
         // the scopes of the variables a bit.  This keeps us from accidentally
         // reusing the "prev" variables in the "next" section.
@@ -148,32 +476,38 @@ public class LeafPageOperations {
                 // See if we can move some of this leaf's entries to the
                 // previous leaf, to free up space.
 
-                int count = tryLeafRelocateForSpace(page, prevPage, false,
-                    bytesRequired);
+                List<LiteralTuple> keys = prevPage.getAllKeys();
+                int numPrev = keys.size();
+                keys.addAll(pageKeys);
+
+                int boundary = chooseBoundary(colInfos, keys, page.getCapacity(),
+                    numPrev + 1, keys.size() - 1);
+                LiteralTuple separator = (boundary < 0) ? null :
+                    InnerPage.makeSeparatorKey(colInfos, keys.get(boundary - 1),
+                        keys.get(boundary));
 
-                if (count > 0) {
+                if (separator != null &&
+                    hasRoomForKey(parentPage, prevPage.getPageNo(), separator)) {
                     // Yes, we can do it!
 
                     logger.debug(String.format("Relocating %d entries from " +
-                        "leaf-page %d to left-sibling leaf-page %d", count,
-                        page.getPageNo(), prevPage.getPageNo()));
+                        "leaf-page %d to left-sibling leaf-page %d",
+                        boundary - numPrev, page.getPageNo(), prevPage.getPageNo()));
 
                     logger.debug("Space before relocation:  Leaf = " +
                         page.getFreeSpace() + " bytes\t\tSibling = " +
                         prevPage.getFreeSpace() + " bytes");
 
-                    page.moveEntriesLeft(prevPage, count);
+                    setKeys(prevPage, keys, 0, boundary);
+                    setKeys(page, keys, boundary, keys.size());
 
                     logger.debug("Space after relocation:  Leaf = " +
                         page.getFreeSpace() + " bytes\t\tSibling = " +
                         prevPage.getFreeSpace() + " bytes");
 
-                    BTreeIndexPageTuple firstRightKey =
-                        addEntryToLeafPair(prevPage, page, key);
-
                     pagePath.remove(pathSize - 1);
                     innerPageOps.replaceKey(parentPage, pagePath,
-                        prevPage.getPageNo(), firstRightKey, page.getPageNo());
+                        prevPage.getPageNo(), separator, page.getPageNo());
 
                     return true;
                 }
@@ -191,32 +525,38 @@ public class LeafPageOperations {
                 // See if we can move some of this leaf's entries to the next
                 // leaf, to free up space.
 
-                int count = tryLeafRelocateForSpace(page, nextPage, true,
-                    bytesRequired);
+                List<LiteralTuple> keys = new ArrayList<LiteralTuple>(pageKeys);
+                int numPage = keys.size();
+                keys.addAll(nextPage.getAllKeys());
+
+                int boundary = chooseBoundary(colInfos, keys, page.getCapacity(),
+                    1, numPage - 1);
+                LiteralTuple separator = (boundary < 0) ? null :
+                    InnerPage.makeSeparatorKey(colInfos, keys.get(boundary - 1),
+                        keys.get(boundary));
 
-                if (count > 0) {
+                if (separator != null &&
+                    hasRoomForKey(parentPage, page.getPageNo(), separator)) {
                     // Yes, we can do it!
 
                     logger.debug(String.format("Relocating %d entries from " +
-                        "leaf-page %d to right-sibling leaf-page %d", count,
-                        page.getPageNo(), nextPage.getPageNo()));
+                        "leaf-page %d to right-sibling leaf-page %d",
+                        numPage - boundary, page.getPageNo(), nextPage.getPageNo()));
 
                     logger.debug("Space before relocation:  Leaf = " +
                         page.getFreeSpace() + " bytes\t\tSibling = " +
                         nextPage.getFreeSpace() + " bytes");
 
-                    page.moveEntriesRight(nextPage, count);
+                    setKeys(page, keys, 0, boundary);
+                    setKeys(nextPage, keys, boundary, keys.size());
 
                     logger.debug("Space after relocation:  Leaf = " +
                         page.getFreeSpace() + " bytes\t\tSibling = " +
                         nextPage.getFreeSpace() + " bytes");
 
-                    BTreeIndexPageTuple firstRightKey =
-                        addEntryToLeafPair(page, nextPage, key);
-
                     pagePath.remove(pathSize - 1);
                     innerPageOps.replaceKey(parentPage, pagePath,
-                        page.getPageNo(), firstRightKey, nextPage.getPageNo());
+                        page.getPageNo(), separator, nextPage.getPageNo());
 
                     return true;
                 }
@@ -229,116 +569,6 @@ public class LeafPageOperations {
     }
 
 
-    /**
-     * This helper method takes a pair of leaf nodes that are siblings to each
-     * other, and adds the specified key to whichever leaf the key should go
-     * into.  The method returns the first key in the right leaf-page, since
-     * this value is necessary to update the parent node of the pair of leaves.
-     *
-     * @param prevLeaf the first leaf in the pair, left sibling of
-     *        {@code nextLeaf}
-     *
-     * @param nextLeaf the second leaf in the pair, right sibling of
-     *        {@code prevLeaf}
-     *
-     * @param key the key to insert into the pair of leaves
-     *
-     * @return the first key of {@code nextLeaf}, after the insert is completed
-     */
-    private BTreeIndexPageTuple addEntryToLeafPair(LeafPage prevLeaf,
-        LeafPage nextLeaf, LiteralTuple key) {
-
-        BTreeIndexPageTuple firstRightKey = nextLeaf.getKey(0);
-        if (TupleComparator.compareTuples(key, firstRightKey) < 0) {
-            // The new key goes in the left page.
-            prevLeaf.addEntry(key);
-        }
-        else {
-            // The new key goes in the right page.
-            nextLeaf.addEntry(key);
-
-            // Re-retrieve the right page's first key since it may have changed.
-            firstRightKey = nextLeaf.getKey(0);
-        }
-
-        return firstRightKey;
-    }
-
-
-    /**
-     * This helper function determines how many entries must be relocated from
-     * one leaf-page to another, in order to free up the specified number of
-     * bytes.  If it is possible, the number of entries that must be relocated
-     * is returned.  If it is not possible, the method returns 0.
-     *
-     * @param leaf the leaf node to relocate entries from
-     *
-     * @param adjLeaf the adjacent leaf (predecessor or successor) to relocate
-     *        entries to
-     *
-     * @param movingRight pass {@code true} if the sibling is to the right of
-     *        {@code page} (and therefore we are moving entries right), or
-     *        {@code false} if the sibling is to the left of {@code page} (and
-     *        therefore we are moving entries left).
-     *
-     * @param bytesRequired the number of bytes that must be freed up in
-     *        {@code leaf} by the operation
-     *
-     * @return the number of entries that must be relocated to free up the
-     *         required space, or 0 if it is not possible.
-     */
-    private int tryLeafRelocateForSpace(LeafPage leaf, LeafPage adjLeaf,
-        boolean movingRight, int bytesRequired) {
-
-        int numKeys = leaf.getNumEntries();
-        int leafBytesFree = leaf.getFreeSpace();
-        int adjBytesFree = adjLeaf.getFreeSpace();
-
-        logger.debug("Leaf bytes free:  " + leafBytesFree +
-            "\t\tAdjacent leaf bytes free:  " + adjBytesFree);
-
-        // Subtract the bytes-required from the adjacent-bytes-free value so
-        // that we ensure we always have room to put the key in either node.
-        adjBytesFree -= bytesRequired;
-
-        int numRelocated = 0;
-        while (true) {
-            // Figure out the index of the key we need the size of, based on the
-            // direction we are moving values.  If we are moving values right,
-            // we need to look at the keys starting at the rightmost one.  If we
-            // are moving values left, we need to start with the leftmost key.
-            int index;
-            if (movingRight)
-                index = numKeys - numRelocated - 1;
-            else
-                index = numRelocated;
-
-            int keySize = leaf.getKeySize(index);
-
-            logger.debug("Key " + index + " is " + keySize + " bytes");
-
-            if (adjBytesFree < keySize)
-                break;
-
-            numRelocated++;
-
-            leafBytesFree += keySize;
-            adjBytesFree -= keySize;
-
-            // Since we don't yet know which leaf the new key will go into,
-            // stop when we can put the key in either leaf.
-            if (leafBytesFree >= bytesRequired &&
-                adjBytesFree >= bytesRequired) {
-                break;
-            }
-        }
-
-        logger.debug("Can relocate " + numRelocated + " keys to free up space.");
-
-        return numRelocated;
-    }
-
-
     /**
      * <p>
      * This helper function splits the specified leaf-node into two nodes, also
@@ -348,29 +578,52 @@ public class LeafPageOperations {
      * relocate values to the left or right sibling of the leaf.
      * </p>
      * <p>
-     * When the leaf node is split, half of the keys are put into the new leaf,
-     * regardless of the size of individual keys.  In other words, this method
-     * doesn't try to keep the leaves half-full based on bytes used.
+     * 分裂时选择使两个页面编码后的大小最接近的分界位置。如果加入新的key后
+     * 无论怎样分都放不下，只分裂原来的key，返回false。
      * </p>
      *
-     *
      * @param leaf the leaf node to split and then add the key to
      * @param pagePath the sequence of page-numbers traversed to reach this
      *        leaf node.
      *
      * @param key the new key to insert into the leaf node
      *
+     * @return 插入了新的key返回true，只分裂了页面返回false
+     *
      * @throws IOException if an IO error occurs during the operation.
      */
-    private void splitLeafAndAddKey(LeafPage leaf, List<Integer> pagePath,
-                                    LiteralTuple key) throws IOException {
+    private boolean splitLeafAndAddKey(LeafPage leaf, List<Integer> pagePath,
+                                       LiteralTuple key) throws IOException {
 
         int pathSize = pagePath.size();
         if (pagePath.get(pathSize - 1) != leaf.getPageNo()) {
             throw new IllegalArgumentException(
                 "Leaf page number doesn't match last page-number in page path");
         }
-        
+
+        IndexFileInfo idxFileInfo = leaf.getIndexFileInfo();
+        List<ColumnInfo> colInfos = idxFileInfo.getIndexSchema();
+
+        // Figure out where to divide the keys between the old page and the
+        // new page.
+
+        boolean added = true;
+        List<LiteralTuple> keys = getKeysWith(leaf, key);
+        int boundary = chooseBoundary(colInfos, keys, leaf.getCapacity(),
+            1, keys.size() - 1);
+        if (boundary < 0) {
+            added = false;
+            keys = leaf.getAllKeys();
+            boundary = chooseBoundary(colInfos, keys, leaf.getCapacity(),
+                1, keys.size() - 1);
+            logger.debug("New key doesn't fit in either half of leaf-page " +
+                leaf.getPageNo() + "; splitting existing keys only");
+        }
+        if (boundary < 0) {
+            throw new IllegalStateException("Can't split leaf-page " +
+                leaf.getPageNo() + " with " + keys.size() + " keys");
+        }
+
         if (logger.isDebugEnabled()) {
             logger.debug("Splitting leaf-page " + leaf.getPageNo() +
                 " into two leaves.");
@@ -380,7 +633,6 @@ public class LeafPageOperations {
         // Get a new blank page in the index, with the same parent as the
         // leaf-page we were handed.
 
-        IndexFileInfo idxFileInfo = leaf.getIndexFileInfo();
         DBFile dbFile = idxFileInfo.getDBFile();
         DBPage newDBPage = bTreeManager.getNewDataPage(dbFile);
         LeafPage newLeaf = LeafPage.init(newDBPage, idxFileInfo);
@@ -393,29 +645,21 @@ public class LeafPageOperations {
         if (logger.isDebugEnabled()) {
             logger.debug("    New next-page:  " + leaf.getNextPageNo());
             logger.debug("    New next-leaf next-page:  " + newLeaf.getNextPageNo());
-        }
-
-        // Figure out how many values we want to move from the old page to the
-        // new page.
-
-        int numEntries = leaf.getNumEntries();
-
-        if (logger.isDebugEnabled()) {
             logger.debug(String.format("Relocating %d entries from left-leaf %d" +
-                " to right-leaf %d", numEntries, leaf.getPageNo(), newLeaf.getPageNo()));
-            logger.debug("    Old left # of entries:  " + leaf.getNumEntries());
-            logger.debug("    Old right # of entries:  " + newLeaf.getNumEntries());
+                " to right-leaf %d", keys.size() - boundary, leaf.getPageNo(),
+                newLeaf.getPageNo()));
         }
 
-        leaf.moveEntriesRight(newLeaf, numEntries / 2);
+        setKeys(leaf, keys, 0, boundary);
+        setKeys(newLeaf, keys, boundary, keys.size());
 
         if (logger.isDebugEnabled()) {
             logger.debug("    New left # of entries:  " + leaf.getNumEntries());
             logger.debug("    New right # of entries:  " + newLeaf.getNumEntries());
         }
 
-        BTreeIndexPageTuple firstRightKey =
-            addEntryToLeafPair(leaf, newLeaf, key);
+        LiteralTuple separator = InnerPage.makeSeparatorKey(colInfos,
+            keys.get(boundary - 1), keys.get(boundary));
 
         // If the current node doesn't have a parent, it's because it's
         // currently the root.
@@ -424,7 +668,7 @@ public class LeafPageOperations {
             // parent.
             DBPage parentPage = bTreeManager.getNewDataPage(dbFile);
             InnerPage.init(parentPage, idxFileInfo,
-                leaf.getPageNo(), firstRightKey, newLeaf.getPageNo());
+                leaf.getPageNo(), separator, newLeaf.getPageNo());
 
             int parentPageNo = parentPage.getPageNo();
 
@@ -439,18 +683,18 @@ public class LeafPageOperations {
             // the parent node's contents to be moved or split, if the parent
             // is full.)
 
-            // (We already set the new leaf's parent-page-number earlier.)
-
             int parentPageNo = pagePath.get(pathSize - 2);
             DBPage dbpParent = storageManager.loadDBPage(dbFile, parentPageNo);
             InnerPage parentPage = new InnerPage(dbpParent, idxFileInfo);
             
             pagePath.remove(pathSize - 1);
             innerPageOps.addEntry(parentPage, pagePath,
-                leaf.getPageNo(), firstRightKey, newLeaf.getPageNo());
+                leaf.getPageNo(), separator, newLeaf.getPageNo());
 
             logger.debug("Parent page " + parentPageNo + " now has " +
                 parentPage.getNumPointers() + " page-pointers.");
         }
+
+        return added;
     }
 }
@@ -0,0 +1,250 @@
+package com.bow.maple.storage.btreeindex;
+
+
+import java.util.List;
+
+import com.bow.lab.storage.heap.PageTupleUtil;
+import com.bow.maple.expressions.TupleComparator;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FilePointer;
+
+
+/**
+ * <p>
+ * 直接在页面的字节上访问B<sup>+</sup>树中的key，不创建
+ * {@link BTreeIndexPageTuple}对象。用于计算页面中各个key的位置，以及在二分
+ * 查找时比较页面中的key与查找的key。
+ * </p>
+ * <p>
+ * 定长的数值列和file-pointer按列的类型直接读出基本类型进行比较。CHAR/VARCHAR
+ * 列，或者查找值的类型与列的类型不一致时(例如整数列与小数比较)，读出列值后
+ * 用{@link TupleComparator#compareValues}比较，结果与{@link TupleComparator}
+ * 一致：<tt>NULL</tt>小于任何值。
+ * </p>
+ * <p>
+ * 叶子页面中第一列可能省略了页面内共同的前缀，比较时传入该前缀，先比较前缀
+ * 再比较页面中存储的后缀，不拼接字符串。
+ * </p>
+ */
+class PageKeyComparator {
+
+    /** 索引中各列的类型，最后一列是file-pointer */
+    private final ColumnType[] colTypes;
+
+    /** key开头null-bitmap的字节数 */
+    private final int nullFlagsSize;
+
+
+    PageKeyComparator(List<ColumnInfo> colInfos) {
+        colTypes = new ColumnType[colInfos.size()];
+        for (int i = 0; i < colTypes.length; i++)
+            colTypes[i] = colInfos.get(i).getType();
+
+        nullFlagsSize = PageTupleUtil.getNullFlagsSize(colTypes.length);
+    }
+
+
+    /**
+     * 返回索引的列数，包括最后的file-pointer
+     *
+     * @return 索引的列数
+     */
+    int getNumColumns() {
+        return colTypes.length;
+    }
+
+
+    /**
+     * 计算从<tt>keyOffset</tt>开始的key占用的字节数
+     *
+     * @param dbPage key所在的页面
+     * @param keyOffset key的起始位置
+     * @return key的长度
+     */
+    int getKeySize(DBPage dbPage, int keyOffset) {
+        int valueOffset = keyOffset + nullFlagsSize;
+        for (int i = 0; i < colTypes.length; i++) {
+            if (!isNull(dbPage, keyOffset, i))
+                valueOffset += getValueSize(dbPage, valueOffset, colTypes[i]);
+        }
+        return valueOffset - keyOffset;
+    }
+
+
+    /**
+     * 比较页面中的key的前<tt>searchKey.getColumnCount()</tt>列与
+     * <tt>searchKey</tt>。前缀相同时结果为0。
+     *
+     * @param dbPage key所在的页面
+     * @param keyOffset key的起始位置
+     * @param searchKey 查找的key，列数不能超过索引的列数
+     * @return 负数、0或正数，表示页面中的key小于、等于或大于<tt>searchKey</tt>
+     */
+    int comparePrefix(DBPage dbPage, int keyOffset, Tuple searchKey) {
+        return comparePrefix(dbPage, keyOffset, searchKey, "");
+    }
+
+
+    /**
+     * 比较第一列省略了<tt>keyPrefix</tt>的key与<tt>searchKey</tt>，见
+     * {@link #comparePrefix(DBPage, int, Tuple)}
+     *
+     * @param keyPrefix 页面中第一列省略的前缀，没有省略时为空串
+     */
+    int comparePrefix(DBPage dbPage, int keyOffset, Tuple searchKey, String keyPrefix) {
+        int numColumns = searchKey.getColumnCount();
+        if (numColumns > colTypes.length)
+            throw new IllegalArgumentException("Search key " + searchKey + " has too many columns");
+
+        int valueOffset = keyOffset + nullFlagsSize;
+        for (int i = 0; i < numColumns; i++) {
+            Object value = searchKey.getColumnValue(i);
+            ColumnType colType = colTypes[i];
+
+            int cmp;
+            if (isNull(dbPage, keyOffset, i)) {
+                cmp = (value == null) ? 0 : -1;
+            }
+            else if (value == null) {
+                cmp = 1;
+                valueOffset += getValueSize(dbPage, valueOffset, colType);
+            }
+            else {
+                if (i == 0 && !keyPrefix.isEmpty()) {
+                    if (value instanceof String) {
+                        cmp = compareWithPrefix(dbPage, valueOffset, keyPrefix, (String) value);
+                    }
+                    else {
+                        // 类型不一致时才需要完整的值，按通常的规则转换后比较
+                        Object pageValue = keyPrefix + dbPage.readVarString65535(valueOffset);
+                        cmp = TupleComparator.compareValues(pageValue, value);
+                    }
+                }
+                else {
+                    cmp = compareValue(dbPage, valueOffset, colType, value);
+                }
+                valueOffset += getValueSize(dbPage, valueOffset, colType);
+            }
+
+            if (cmp != 0)
+                return cmp;
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * 比较页面中一个非<tt>NULL</tt>的列值与查找值
+     */
+    private static int compareValue(DBPage dbPage, int valueOffset, ColumnType colType, Object value) {
+        switch (colType.getBaseType()) {
+            case INTEGER:
+                if (isIntegral(value))
+                    return Long.compare(dbPage.readInt(valueOffset), ((Number) value).longValue());
+                break;
+
+            case SMALLINT:
+                if (isIntegral(value))
+                    return Long.compare(dbPage.readShort(valueOffset), ((Number) value).longValue());
+                break;
+
+            case TINYINT:
+                if (isIntegral(value))
+                    return Long.compare(dbPage.readByte(valueOffset), ((Number) value).longValue());
+                break;
+
+            case BIGINT:
+                if (isIntegral(value))
+                    return Long.compare(dbPage.readLong(valueOffset), ((Number) value).longValue());
+                break;
+
+            case FLOAT:
+                if (value instanceof Number)
+                    return Double.compare(dbPage.readFloat(valueOffset), ((Number) value).doubleValue());
+                break;
+
+            case DOUBLE:
+                if (value instanceof Number)
+                    return Double.compare(dbPage.readDouble(valueOffset), ((Number) value).doubleValue());
+                break;
+
+            case FILE_POINTER:
+                if (value instanceof FilePointer) {
+                    FilePointer fp = (FilePointer) value;
+                    int cmp = Integer.compare(dbPage.readInt(valueOffset), fp.getPageNo());
+                    if (cmp == 0)
+                        cmp = dbPage.readUnsignedShort(valueOffset + 4) - fp.getOffset();
+                    return cmp;
+                }
+                break;
+
+            default:
+                break;
+        }
+
+        // 字符串或者类型不一致的值，读出后按通常的规则比较
+        Object pageValue = PageTupleUtil.getColumnValue(dbPage, valueOffset, colType);
+        return TupleComparator.compareValues(pageValue, value);
+    }
+
+
+    /**
+     * 比较由<tt>keyPrefix</tt>和页面中存储的后缀组成的字符串与<tt>value</tt>，
+     * 直接读取页面中的字节，不创建字符串。结果与{@link String#compareTo}一致。
+     *
+     * @param valueOffset 后缀的起始位置，开头是2字节的长度
+     */
+    private static int compareWithPrefix(DBPage dbPage, int valueOffset, String keyPrefix,
+                                         String value) {
+        int prefixLength = keyPrefix.length();
+        int length = prefixLength + dbPage.readUnsignedShort(valueOffset);
+        int suffixStart = valueOffset + 2 - prefixLength;
+        byte[] data = dbPage.getPageData();
+
+        int n = Math.min(length, value.length());
+        for (int i = 0; i < n; i++) {
+            char c;
+            if (i < prefixLength) {
+                c = keyPrefix.charAt(i);
+            }
+            else {
+                // 与readVarString65535一样按US-ASCII解码
+                int b = data[suffixStart + i] & 0xFF;
+                c = (b < 0x80) ? (char) b : '\uFFFD';
+            }
+
+            if (c != value.charAt(i))
+                return c - value.charAt(i);
+        }
+        return length - value.length();
+    }
+
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short ||
+            value instanceof Byte;
+    }
+
+
+    /**
+     * 读取key的null-bitmap中某一列的标志位
+     */
+    private static boolean isNull(DBPage dbPage, int keyOffset, int colIndex) {
+        int nullFlag = dbPage.readUnsignedByte(keyOffset + colIndex / 8);
+        return ((nullFlag >> (colIndex % 8)) & 0x01) != 0;
+    }
+
+
+    private static int getValueSize(DBPage dbPage, int valueOffset, ColumnType colType) {
+        int dataLength = 0;
+        if (colType.getBaseType() == SQLDataType.VARCHAR)
+            dataLength = dbPage.readUnsignedShort(valueOffset);
+
+        return PageTupleUtil.getStorageSize(colType, dataLength);
+    }
+}
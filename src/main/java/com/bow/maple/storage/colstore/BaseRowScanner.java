@@ -0,0 +1,132 @@
+package com.bow.maple.storage.colstore;
+
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+
+import com.bow.maple.relations.TupleBatch;
+import com.bow.maple.storage.TableFileInfo;
+
+
+/**
+ * 按行的顺序逐行读出列式存储表的基本数据，跳过删除位图中标记的行，供
+ * {@link ColStoreTableManager#getFirstTuple}和
+ * {@link ColStoreTableManager#getNextTuple}使用。各列每次解码一批行，返回的
+ * {@link CSBaseTuple}记录行号和这个扫描，以便继续读下一行。
+ */
+class BaseRowScanner {
+
+    private TableFileInfo tblFileInfo;
+
+    private DeltaStore deltaStore;
+
+    /** 每一列的读取器，按列的序号 */
+    private ColumnVectorReader[] readers;
+
+    /** 表的各个行组，用第一列的列块表示；扫描开始之后追加的行组不会读到 */
+    private List<ColumnChunk> rowGroups;
+
+    private TupleBatch batch;
+
+    /** 当前的行组 */
+    private int rowGroup;
+
+    /** 当前行组中已经读入{@link #batch}的行数 */
+    private int rowsRead;
+
+    /** 当前行组中被删除的行 */
+    private BitSet deleted;
+
+    /** {@link #batch}中第一行在行组中的位置 */
+    private int batchStart;
+
+    /** {@link #batch}中下一个要返回的行 */
+    private int batchIndex;
+
+
+    BaseRowScanner(TableFileInfo tblFileInfo, DeltaStore deltaStore) throws IOException {
+        this.tblFileInfo = tblFileInfo;
+        this.deltaStore = deltaStore;
+
+        int numColumns = tblFileInfo.getSchema().numColumns();
+        readers = new ColumnVectorReader[numColumns];
+        for (int i = 0; i < numColumns; i++)
+            readers[i] = new ColumnVectorReader(tblFileInfo, i);
+
+        rowGroups = new BlockColumnStoreReader().getColumnChunks(tblFileInfo, 0);
+        batch = new TupleBatch(tblFileInfo.getSchema());
+        rowGroup = -1;
+    }
+
+
+    /**
+     * 返回下一个没有删除的行
+     *
+     * @return 没有更多的行时返回<tt>null</tt>，同时释放读取器使用的页面
+     * @throws IOException 读取列文件出错
+     */
+    CSBaseTuple next() throws IOException {
+        while (true) {
+            while (batchIndex < batch.size()) {
+                int row = batchStart + batchIndex;
+                batchIndex++;
+                if (deleted.get(row))
+                    continue;
+
+                CSBaseTuple tup = new CSBaseTuple(
+                    rowGroups.get(rowGroup).getFirstRow() + row, this);
+                for (int i = 0; i < readers.length; i++)
+                    tup.addValue(batch.getColumn(i).getValue(batchIndex - 1));
+                return tup;
+            }
+
+            if (!readBatch()) {
+                close();
+                return null;
+            }
+        }
+    }
+
+
+    /**
+     * 从当前行组中读入下一批行，当前行组读完时进入下一个行组
+     *
+     * @return 没有更多的行时返回false
+     */
+    private boolean readBatch() throws IOException {
+        while (rowGroup < 0 || rowsRead == rowGroups.get(rowGroup).getNumRows()) {
+            rowGroup++;
+            if (rowGroup >= rowGroups.size())
+                return false;
+
+            ColumnChunk chunk = rowGroups.get(rowGroup);
+            deleted = deltaStore.getDeletedRows(chunk.getFirstRow(), chunk.getNumRows());
+            rowsRead = 0;
+            for (ColumnVectorReader reader : readers)
+                reader.seek(rowGroup, 0);
+        }
+
+        int n = Math.min(batch.getCapacity(), rowGroups.get(rowGroup).getNumRows() - rowsRead);
+        batch.reset();
+        for (int i = 0; i < readers.length; i++) {
+            if (readers[i].read(batch.getColumn(i), 0, n) < n) {
+                throw new IllegalStateException("Column " + i + " of " +
+                    tblFileInfo.getTableName() + " ended before row " + (rowsRead + n) +
+                    " of row group " + rowGroup);
+            }
+        }
+        batch.setSize(n);
+        batchStart = rowsRead;
+        batchIndex = 0;
+        rowsRead += n;
+        return true;
+    }
+
+
+    /** 释放读取器使用的页面 */
+    void close() {
+        for (ColumnVectorReader reader : readers)
+            reader.close();
+    }
+}
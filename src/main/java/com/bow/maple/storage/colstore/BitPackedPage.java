@@ -0,0 +1,109 @@
+package com.bow.maple.storage.colstore;
+
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileEncoding;
+import com.bow.maple.storage.PageReader;
+import com.bow.maple.storage.PageWriter;
+
+/**
+ * 位压缩(frame of reference + bit packing)的整数页面。列块中的每个值减去列块
+ * 的最小值后，按列块统一的位数紧密排列，同一个列块的所有页面使用相同的参考值
+ * 和位数，因此除最后一页外每页的行数相同，可以直接算出某一行所在的页面。
+ *
+ * <pre>
+ * |    1B  |       1B     |   4B   |  4B  |        4B       |   8B   |  1B  |  变长   |
+ * |FileType|encodePageSize|页面标记 |count |NEXT_BLOCK_OFFSET|  参考值 |  位数 | 压缩的值 |
+ * </pre>
+ */
+public class BitPackedPage {
+
+    public static final int ENCODING_OFFSET = 2;
+
+    public static final int ENCODING_MARKER = FileEncoding.BITPACK.ordinal();
+
+    public static final int COUNT_OFFSET = 6;
+
+    public static final int NEXT_BLOCK_START_OFFSET = 10;
+
+    public static final int BASE_OFFSET = 14;
+
+    public static final int WIDTH_OFFSET = 22;
+
+    public static final int FIRST_VALUE_OFFSET = 23;
+
+
+    /**
+     * 返回每个页面能存放的值的个数
+     *
+     * @param pageSize 页面大小
+     * @param width 每个值占用的位数
+     */
+    public static int getCapacity(int pageSize, int width) {
+        return (int) ((long) (pageSize - FIRST_VALUE_OFFSET) * 8 / width);
+    }
+
+
+    /**
+     * 把<tt>values[from]</tt>开始的<tt>count</tt>个值写入一个新的页面
+     *
+     * @param dbPage 要写入的页面
+     * @param values 列块中的值
+     * @param from 第一个值的位置
+     * @param count 值的个数，不能超过{@link #getCapacity}
+     * @param base 参考值，即列块中的最小值
+     * @param width 每个值减去参考值后占用的位数
+     */
+    public static void writePage(DBPage dbPage, long[] values, int from, int count, long base,
+        int width) {
+
+        if (count > getCapacity(dbPage.getPageSize(), width))
+            throw new IllegalArgumentException("Too many values for a page: " + count);
+
+        byte[] packed = new byte[BitPacking.packedSize(count, width)];
+        BitPacking.pack(values, from, count, base, width, packed, 0);
+        dbPage.write(FIRST_VALUE_OFFSET, packed);
+
+        PageWriter writer = new PageWriter(dbPage);
+        writer.setPosition(ENCODING_OFFSET);
+        writer.writeInt(ENCODING_MARKER);
+        writer.writeInt(count);
+        writer.writeInt(FIRST_VALUE_OFFSET + packed.length);
+        writer.writeLong(base);
+        writer.writeByte(width);
+    }
+
+
+    /** 返回页面中每个值占用的位数 */
+    public static int getWidth(DBPage dbPage) {
+        checkMarker(dbPage);
+        return dbPage.readUnsignedByte(WIDTH_OFFSET);
+    }
+
+
+    /**
+     * 读出页面中的所有值
+     *
+     * @param dbPage 位压缩的页面
+     * @param dest 存放结果，长度不能小于页面中值的个数
+     * @return 值的个数
+     */
+    public static int decode(DBPage dbPage, long[] dest) {
+        checkMarker(dbPage);
+
+        PageReader reader = new PageReader(dbPage);
+        reader.setPosition(COUNT_OFFSET);
+        int count = reader.readInt();
+        reader.setPosition(BASE_OFFSET);
+        long base = reader.readLong();
+        int width = reader.readUnsignedByte();
+
+        BitPacking.unpack(dbPage.getPageData(), FIRST_VALUE_OFFSET, count, base, width, dest, 0);
+        return count;
+    }
+
+
+    private static void checkMarker(DBPage dbPage) {
+        if (dbPage.readInt(ENCODING_OFFSET) != ENCODING_MARKER)
+            throw new IllegalArgumentException("Wrong encoding type");
+    }
+}
@@ -0,0 +1,86 @@
+package com.bow.maple.storage.colstore;
+
+
+/**
+ * 把整数按固定的位数紧密地排列在字节数组中，第<tt>i</tt>个值占用第
+ * <tt>i * width</tt>位开始的<tt>width</tt>位，低位在前。值按无符号数处理，
+ * 调用者先减去参考值(frame of reference)，使所有的值都不小于0。
+ */
+public class BitPacking {
+
+    /**
+     * 返回存放<tt>0</tt>到<tt>range</tt>(按无符号数)之间的值需要的位数，至少为1
+     */
+    public static int bitWidth(long range) {
+        return Math.max(1, 64 - Long.numberOfLeadingZeros(range));
+    }
+
+
+    /**
+     * 返回<tt>count</tt>个<tt>width</tt>位的值占用的字节数
+     */
+    public static int packedSize(int count, int width) {
+        return (int) (((long) count * width + 7) / 8);
+    }
+
+
+    /**
+     * 把<tt>values[from]</tt>开始的<tt>count</tt>个值减去<tt>base</tt>后写入
+     * <tt>out</tt>。<tt>out</tt>中对应的字节须为0。
+     *
+     * @param values 要写入的值
+     * @param from 第一个值的位置
+     * @param count 值的个数
+     * @param base 参考值，每个值减去它之后不能超出<tt>width</tt>位
+     * @param width 每个值占用的位数，1到64
+     * @param out 输出的字节数组
+     * @param offset 在输出中的起始位置
+     */
+    public static void pack(long[] values, int from, int count, long base, int width,
+        byte[] out, int offset) {
+
+        long mask = (width == 64) ? -1L : (1L << width) - 1;
+        long bitPos = 0;
+        for (int i = 0; i < count; i++) {
+            long v = (values[from + i] - base) & mask;
+            int pos = offset + (int) (bitPos >>> 3);
+            int shift = (int) (bitPos & 7);
+
+            out[pos++] |= (byte) (v << shift);
+            for (int written = 8 - shift; written < width; written += 8)
+                out[pos++] |= (byte) (v >>> written);
+
+            bitPos += width;
+        }
+    }
+
+
+    /**
+     * 读出<tt>count</tt>个值，每个值加上<tt>base</tt>后写入<tt>dest</tt>
+     *
+     * @param data 存放值的字节数组
+     * @param offset 第0个值在数组中的起始位置
+     * @param count 值的个数
+     * @param base 参考值
+     * @param width 每个值占用的位数
+     * @param dest 存放结果的数组
+     * @param destPos 结果的起始位置
+     */
+    public static void unpack(byte[] data, int offset, int count, long base, int width,
+        long[] dest, int destPos) {
+
+        long mask = (width == 64) ? -1L : (1L << width) - 1;
+        long bitPos = 0;
+        for (int i = 0; i < count; i++) {
+            int pos = offset + (int) (bitPos >>> 3);
+            int shift = (int) (bitPos & 7);
+
+            long v = (data[pos++] & 0xFF) >>> shift;
+            for (int bits = 8 - shift; bits < width; bits += 8)
+                v |= (long) (data[pos++] & 0xFF) << bits;
+
+            dest[destPos + i] = (v & mask) + base;
+            bitPos += width;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.bow.maple.storage.colstore;
+
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import com.bow.maple.expressions.BooleanOperator;
+import com.bow.maple.expressions.ColumnName;
+import com.bow.maple.expressions.ColumnValue;
+import com.bow.maple.expressions.CompareOperator;
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.LiteralValue;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.relations.Schema;
+import com.bow.maple.storage.TableFileInfo;
+
+
+/**
+ * <p>
+ * 由AND/OR/NOT连接的{@link ColumnPredicate}，按行组在编码后的数据上求值：
+ * 每个{@link ColumnPredicate}得到一个位图，AND/OR/NOT分别对应位图的交、并和
+ * 补。列式存储的表中没有<tt>NULL</tt>，因此NOT可以直接取补。
+ * </p>
+ * <p>
+ * 只有所有的叶子都是<tt>列 op 常量</tt>时才能构造，其余的谓词仍然逐行求值。
+ * </p>
+ */
+public class BitmapPredicate {
+
+    /** 叶子节点的条件，不是叶子时为<tt>null</tt> */
+    private ColumnPredicate leaf;
+
+    /** 连接{@link #terms}的运算 */
+    private BooleanOperator.Type type;
+
+    private List<BitmapPredicate> terms;
+
+
+    private BitmapPredicate(ColumnPredicate leaf) {
+        this.leaf = leaf;
+    }
+
+
+    private BitmapPredicate(BooleanOperator.Type type, List<BitmapPredicate> terms) {
+        this.type = type;
+        this.terms = terms;
+    }
+
+
+    /**
+     * 把表达式转换成在位图上求值的谓词
+     *
+     * @param tblSchema 表的schema
+     * @param expr 谓词
+     * @return 不能在编码后的数据上求值时返回<tt>null</tt>
+     */
+    public static BitmapPredicate fromExpression(Schema tblSchema, Expression expr) {
+        if (expr instanceof BooleanOperator) {
+            BooleanOperator boolOp = (BooleanOperator) expr;
+            List<BitmapPredicate> terms = new ArrayList<BitmapPredicate>();
+            for (int i = 0; i < boolOp.getNumTerms(); i++) {
+                BitmapPredicate term = fromExpression(tblSchema, boolOp.getTerm(i));
+                if (term == null)
+                    return null;
+                terms.add(term);
+            }
+            if (terms.isEmpty())
+                return null;
+            return new BitmapPredicate(boolOp.getType(), terms);
+        }
+
+        ColumnPredicate columnPred = makeColumnPredicate(tblSchema, expr);
+        return (columnPred != null) ? new BitmapPredicate(columnPred) : null;
+    }
+
+
+    /**
+     * 若条件是表中某列与常量的比较，返回对应的{@link ColumnPredicate}，否则
+     * 返回<tt>null</tt>
+     */
+    private static ColumnPredicate makeColumnPredicate(Schema tblSchema, Expression expr) {
+        if (!(expr instanceof CompareOperator))
+            return null;
+
+        CompareOperator comp = (CompareOperator) expr;
+        comp.normalize();
+        if (!(comp.getLeftExpression() instanceof ColumnValue) ||
+            !(comp.getRightExpression() instanceof LiteralValue)) {
+            return null;
+        }
+
+        ColumnName colName = ((ColumnValue) comp.getLeftExpression()).getColumnName();
+        int colIndex = tblSchema.getColumnIndex(colName);
+        if (colIndex < 0)
+            return null;
+
+        // 只使用与列类型一致的常量，比较的语义与列中值的顺序相同。与NULL
+        // 比较的结果总是未知，仍然逐行求值
+        Object value = comp.getRightExpression().evaluate();
+        SQLDataType colType = tblSchema.getColumnInfo(colIndex).getType().getBaseType();
+        if (value == null || !(SQLDataType.isNumber(colType) && value instanceof Number) &&
+            !(SQLDataType.isString(colType) && value instanceof String)) {
+            return null;
+        }
+
+        return new ColumnPredicate(colIndex, comp.getType(), value);
+    }
+
+
+    /**
+     * 收集条件中用到的列的序号
+     */
+    public void getColumns(Set<Integer> columns) {
+        if (leaf != null) {
+            columns.add(leaf.getColumn());
+            return;
+        }
+        for (BitmapPredicate term : terms)
+            term.getColumns(columns);
+    }
+
+
+    /**
+     * 根据zone map判断行组中是否可能有满足条件的行
+     *
+     * @param chunks 每一列的各个列块，按列的序号
+     * @param rowGroup 行组的序号
+     * @return 一定没有时返回false
+     */
+    public boolean mayMatch(List<List<ColumnChunk>> chunks, int rowGroup) {
+        if (leaf != null)
+            return leaf.mayMatch(chunks.get(leaf.getColumn()).get(rowGroup));
+
+        switch (type) {
+            case AND_EXPR:
+                for (BitmapPredicate term : terms) {
+                    if (!term.mayMatch(chunks, rowGroup))
+                        return false;
+                }
+                return true;
+
+            case OR_EXPR:
+                for (BitmapPredicate term : terms) {
+                    if (term.mayMatch(chunks, rowGroup))
+                        return true;
+                }
+                return false;
+
+            default:
+                // 最小值和最大值不能说明NOT是否满足
+                return true;
+        }
+    }
+
+
+    /**
+     * 对一个行组求值
+     *
+     * @param tblFileInfo 列式存储的表
+     * @param chunks 每一列的各个列块，按列的序号，只需要条件中用到的列
+     * @param rowGroup 行组的序号
+     * @param numRows 行组中的行数
+     * @return 满足条件的行，第<tt>i</tt>位对应行组中的第<tt>i</tt>行
+     * @throws IOException 读取列文件出错
+     */
+    public BitSet evaluate(TableFileInfo tblFileInfo, List<List<ColumnChunk>> chunks,
+        int rowGroup, int numRows) throws IOException {
+
+        if (leaf != null) {
+            BitSet result = new BitSet(numRows);
+            leaf.evaluate(tblFileInfo, chunks.get(leaf.getColumn()).get(rowGroup), result);
+            return result;
+        }
+
+        BitSet result = terms.get(0).evaluate(tblFileInfo, chunks, rowGroup, numRows);
+        switch (type) {
+            case AND_EXPR:
+                for (int i = 1; i < terms.size() && !result.isEmpty(); i++)
+                    result.and(terms.get(i).evaluate(tblFileInfo, chunks, rowGroup, numRows));
+                break;
+
+            case OR_EXPR:
+                for (int i = 1; i < terms.size() && result.cardinality() < numRows; i++)
+                    result.or(terms.get(i).evaluate(tblFileInfo, chunks, rowGroup, numRows));
+                break;
+
+            case NOT_EXPR:
+                result.flip(0, numRows);
+                break;
+
+            default:
+                throw new IllegalStateException("Unrecognized boolean operator " + type);
+        }
+        return result;
+    }
+
+
+    @Override
+    public String toString() {
+        if (leaf != null)
+            return leaf.toString();
+
+        if (type == BooleanOperator.Type.NOT_EXPR)
+            return "NOT " + terms.get(0);
+
+        StringBuilder buf = new StringBuilder("(");
+        for (int i = 0; i < terms.size(); i++) {
+            if (i > 0)
+                buf.append(' ').append(type.stringRep()).append(' ');
+            buf.append(terms.get(i));
+        }
+        return buf.append(')').toString();
+    }
+}
@@ -3,9 +3,11 @@ package com.bow.maple.storage.colstore;
 import java.io.EOFException;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.List;
 
 import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnVector;
 import com.bow.maple.storage.DBFile;
 import com.bow.maple.storage.DBPage;
 import com.bow.maple.storage.StorageManager;
@@ -15,6 +17,11 @@ import org.apache.log4j.Logger;
 import com.bow.maple.relations.ColumnType;
 import com.bow.maple.storage.FileEncoding;
 
+/**
+ * 按行组读取列式存储表的一列。列文件的第0页({@link RowGroupPage})记录了各个
+ * 列块的位置，读取时按列块的顺序遍历页面，进入字典编码的列块时先读入它的字典。
+ * 一个reader同一时刻只跟踪一列的位置。
+ */
 public class BlockColumnStoreReader {
     /**
      * The table reader uses the storage manager a lot, so it caches a reference
@@ -31,8 +38,20 @@ public class BlockColumnStoreReader {
     /** Information for dictionary encoded pages. */
     private int blockNum;
 
-    /** The dictionary for dictionary encoded pages. */
-    private HashMap<Integer, Object> dict;
+    /** The dictionary for dictionary encoded pages, indexed by code. */
+    private Object[] dict;
+
+    /** {@link #chunks}所属的表 */
+    private TableFileInfo chunksTable;
+
+    /** {@link #chunks}所属的列 */
+    private int chunksColumn;
+
+    /** 当前列的各个列块，按行号的顺序 */
+    private List<ColumnChunk> chunks;
+
+    /** 最近返回的页面所在的列块 */
+    private int chunkIndex;
     
     /**
      * Initializes the blocked heap-file table reader.
@@ -42,71 +61,192 @@ public class BlockColumnStoreReader {
         bitsize = -1;
         blockNum = -1;
         dict = null;
+        chunksColumn = -1;
+        chunkIndex = -1;
     }
-    
-    /** Get first data page. For dictionary encoding, that's the second page. */
-    public DBPage getFirstDataPage(TableFileInfo tblFileInfo, int column) throws IOException {
-        // Try to fetch the first data page.  If none exists, return null.
-        DBPage dbPage = null;
+
+
+    /**
+     * 返回一列的各个列块，由列文件的第0页读出
+     *
+     * @param tblFileInfo 列式存储的表
+     * @param column 列的序号
+     * @return 各个列块，按行号的顺序
+     * @throws IOException 读取列文件出错
+     */
+    public List<ColumnChunk> getColumnChunks(TableFileInfo tblFileInfo, int column)
+        throws IOException {
+
+        if (chunks != null && chunksTable == tblFileInfo && chunksColumn == column)
+            return chunks;
+
+        List<ColumnChunk> result = new ArrayList<ColumnChunk>();
         try {
-            dbPage = storageManager.loadDBPage(tblFileInfo.getDBFile(column + 1), 0);
-            if (CSDataPage.getEncoding(dbPage) == FileEncoding.DICTIONARY.ordinal()) {
-            	bitsize = DictionaryPage.getBitSize(dbPage);
-            	blockNum = DictionaryPage.getBlockNum(dbPage);
-            	dict = DictionaryPage.constructDictionary(dbPage, 
-            		tblFileInfo.getSchema().getColumnInfo(column));
-            	
-            	dbPage = storageManager.loadDBPage(tblFileInfo.getDBFile(column + 1), 1);
-            	
+            DBPage dirPage = storageManager.loadDBPage(tblFileInfo.getDBFile(column + 1), 0);
+            if (RowGroupPage.isRowGroupPage(dirPage)) {
+                result = RowGroupPage.readColumnChunks(dirPage,
+                    tblFileInfo.getSchema().getColumnInfo(column).getType());
+            }
+            else {
+                // 还没有导入数据，或者是按行组划分之前的格式，需要重新导入
+                logger.warn(String.format("Column %d of %s has no row-group page; " +
+                    "the table must be reloaded", column, tblFileInfo.getTableName()));
             }
+            storageManager.unpinDBPage(dirPage);
         }
         catch (EOFException e) {
-            // Ignore.
+            // 列文件是空的
         }
-        return dbPage;
+
+        chunks = result;
+        chunksTable = tblFileInfo;
+        chunksColumn = column;
+        chunkIndex = -1;
+        return chunks;
+    }
+
+
+    /** 返回行组的个数 */
+    public int getNumRowGroups(TableFileInfo tblFileInfo, int column) throws IOException {
+        return getColumnChunks(tblFileInfo, column).size();
     }
 
+
+    /**
+     * 返回最近一次返回的页面所在的行组的序号
+     *
+     * @return 当前行组的序号，还没有返回过页面时为-1
+     */
+    public int getCurrentRowGroup() {
+        return chunkIndex;
+    }
+
+
+    /**
+     * 返回最近一次返回的页面所在的列块
+     *
+     * @return 当前的列块，还没有返回过页面时为<tt>null</tt>
+     */
+    public ColumnChunk getCurrentColumnChunk() {
+        if (chunks == null || chunkIndex < 0 || chunkIndex >= chunks.size())
+            return null;
+        return chunks.get(chunkIndex);
+    }
+
+    
+    /** Get first data page, skipping the row-group page and the dictionary page. */
+    public DBPage getFirstDataPage(TableFileInfo tblFileInfo, int column) throws IOException {
+        return getFirstDataPage(tblFileInfo, column, 0);
+    }
+
+
+    /**
+     * 返回一个行组的第一个数据页面，字典编码时同时读入这个列块的字典
+     *
+     * @param tblFileInfo 列式存储的表
+     * @param column 列的序号
+     * @param rowGroup 行组的序号
+     * @return 第一个数据页面，没有这个行组时返回<tt>null</tt>
+     * @throws IOException 读取列文件出错
+     */
+    public DBPage getFirstDataPage(TableFileInfo tblFileInfo, int column, int rowGroup)
+        throws IOException {
+
+        List<ColumnChunk> columnChunks = getColumnChunks(tblFileInfo, column);
+        if (rowGroup >= columnChunks.size())
+            return null;
+
+        enterChunk(tblFileInfo, column, rowGroup);
+        return storageManager.loadDBPage(tblFileInfo.getDBFile(column + 1),
+            chunks.get(rowGroup).getFirstDataPageNo());
+    }
+
+
     /** Get last data page. */
     public DBPage getLastDataPage(TableFileInfo tblFileInfo, int column) throws IOException {
-        // Try to fetch the last data page.  If none exists, return null.
-        DBFile dbFile = tblFileInfo.getDBFile(column + 1);
-        int numPages = dbFile.getNumPages();
-
-        DBPage dbPage = null;
-        // If we have at least 2 pages, then we have at least 1 data page!
-        if (numPages >= 2)
-            dbPage = storageManager.loadDBPage(dbFile, numPages - 1);
+        List<ColumnChunk> columnChunks = getColumnChunks(tblFileInfo, column);
+        if (columnChunks.isEmpty())
+            return null;
 
-        return dbPage;
+        int rowGroup = columnChunks.size() - 1;
+        enterChunk(tblFileInfo, column, rowGroup);
+        return storageManager.loadDBPage(tblFileInfo.getDBFile(column + 1),
+            chunks.get(rowGroup).getLastDataPageNo());
     }
 
     /** Get next data page, and return null if it doesn't exist. */
     public DBPage getNextDataPage(TableFileInfo tblFileInfo, DBPage dbPage, int column)
         throws IOException {
 
-        DBFile dbFile = tblFileInfo.getDBFile(column + 1);
-        int numPages = dbFile.getNumPages();
-
-        DBPage nextPage = null;
-        int nextPageNo = dbPage.getPageNo() + 1;
-        if (nextPageNo < numPages)
-            nextPage = storageManager.loadDBPage(dbFile, nextPageNo);
-
-        return nextPage;
+        ColumnChunk chunk = findChunk(tblFileInfo, column, dbPage.getPageNo());
+        if (dbPage.getPageNo() < chunk.getLastDataPageNo()) {
+            return storageManager.loadDBPage(tblFileInfo.getDBFile(column + 1),
+                dbPage.getPageNo() + 1);
+        }
+        return getFirstDataPage(tblFileInfo, column, chunkIndex + 1);
     }
 
     /** Get previous data page, and return null if it doesn't exist. */
     public DBPage getPrevDataPage(TableFileInfo tblFileInfo, DBPage dbPage, int column)
         throws IOException {
 
+        ColumnChunk chunk = findChunk(tblFileInfo, column, dbPage.getPageNo());
         DBFile dbFile = tblFileInfo.getDBFile(column + 1);
+        if (dbPage.getPageNo() > chunk.getFirstDataPageNo())
+            return storageManager.loadDBPage(dbFile, dbPage.getPageNo() - 1);
 
-        DBPage prevPage = null;
-        int prevPageNo = dbPage.getPageNo() - 1;
-        if (prevPageNo >= 1)
-            prevPage = storageManager.loadDBPage(dbFile, prevPageNo);
+        if (chunkIndex == 0)
+            return null;
 
-        return prevPage;
+        int rowGroup = chunkIndex - 1;
+        enterChunk(tblFileInfo, column, rowGroup);
+        return storageManager.loadDBPage(dbFile, chunks.get(rowGroup).getLastDataPageNo());
+    }
+
+
+    /**
+     * 找到数据页面所在的列块，通常就是当前的列块
+     */
+    private ColumnChunk findChunk(TableFileInfo tblFileInfo, int column, int pageNo)
+        throws IOException {
+
+        List<ColumnChunk> columnChunks = getColumnChunks(tblFileInfo, column);
+        ColumnChunk current = getCurrentColumnChunk();
+        if (current != null && pageNo >= current.getFirstDataPageNo() &&
+            pageNo <= current.getLastDataPageNo()) {
+            return current;
+        }
+
+        for (int i = 0; i < columnChunks.size(); i++) {
+            ColumnChunk chunk = columnChunks.get(i);
+            if (pageNo >= chunk.getFirstDataPageNo() && pageNo <= chunk.getLastDataPageNo()) {
+                enterChunk(tblFileInfo, column, i);
+                return chunk;
+            }
+        }
+        throw new IllegalArgumentException("Page " + pageNo + " is not a data page of column " +
+            column);
+    }
+
+
+    /**
+     * 把某个列块作为当前的列块，字典编码时读入它的字典
+     */
+    private void enterChunk(TableFileInfo tblFileInfo, int column, int rowGroup)
+        throws IOException {
+
+        ColumnChunk chunk = chunks.get(rowGroup);
+        if (chunk.getEncoding() == FileEncoding.DICTIONARY &&
+            (rowGroup != chunkIndex || dict == null)) {
+            DBPage dictPage = storageManager.loadDBPage(tblFileInfo.getDBFile(column + 1),
+                chunk.getFirstPageNo());
+            bitsize = DictionaryPage.getBitSize(dictPage);
+            blockNum = DictionaryPage.getBlockNum(dictPage);
+            dict = DictionaryPage.readDictionary(dictPage,
+                tblFileInfo.getSchema().getColumnInfo(column));
+            storageManager.unpinDBPage(dictPage);
+        }
+        chunkIndex = rowGroup;
     }
 
     /** Get the first block in the data page, using data page abstract classes. */
@@ -166,7 +306,7 @@ public class BlockColumnStoreReader {
     			current = (sblock & mask) >> (i * bitsize);
     			if (current == 0) break;
     			
-    			contents.add(dict.get(current));
+    			contents.add(dict[current]);
     			
     			mask = mask << bitsize;
     		}
@@ -174,6 +314,9 @@ public class BlockColumnStoreReader {
     		return new ColStoreBlock(dbPage, DictionaryPage.FIRST_BLOCK_OFFSET, 
     			DictionaryPage.FIRST_BLOCK_OFFSET + 2, colInfo, 
     			FileEncoding.DICTIONARY, contents, contents.size());
+    	}
+    	else if (isDecodedByPage(enc)) {
+    		return getPageBlock(dbPage, CSDataPage.FIRST_BLOCK_OFFSET, colInfo, enc);
     	}
  		return null;
     }
@@ -242,7 +385,7 @@ public class BlockColumnStoreReader {
     			current = (sblock & mask) >> (i * bitsize);
     			if (current == 0) break;
     			
-    			contents.add(dict.get(current));
+    			contents.add(dict[current]);
     			
     			mask = mask << bitsize;
     		}
@@ -250,7 +393,56 @@ public class BlockColumnStoreReader {
     		return new ColStoreBlock(dbPage, offset, offset + 2, colInfo, 
     			FileEncoding.DICTIONARY, contents, contents.size());
     	}
+    	else if (isDecodedByPage(enc)) {
+    		return getPageBlock(dbPage, offset, colInfo, enc);
+    	}
         return null;
     }
 
+
+
+    /** 位压缩、差分编码和块压缩的页面整页解码 */
+    private static boolean isDecodedByPage(int enc) {
+        return enc == FileEncoding.BITPACK.ordinal() || enc == FileEncoding.DELTA.ordinal() ||
+            enc == FileEncoding.LZ.ordinal();
+    }
+
+
+    /**
+     * 整页解码的页面中，整个页面的值作为一个块
+     *
+     * @param offset 块的起始位置，不在页面的数据中时返回<tt>null</tt>
+     */
+    private static ColStoreBlock getPageBlock(DBPage dbPage, int offset, ColumnInfo colInfo,
+        int enc) {
+
+        int end = dbPage.readInt(CSDataPage.NEXT_BLOCK_START_OFFSET);
+        int count = CSDataPage.getCount(dbPage);
+        if (offset >= end || count == 0)
+            return null;
+
+        FileEncoding encoding = FileEncoding.values()[enc];
+        ArrayList<Object> contents = new ArrayList<Object>(count);
+        if (encoding == FileEncoding.LZ) {
+            Object[] values = new Object[count];
+            LZPage.decode(dbPage, new byte[LZPage.getRawLength(dbPage)], values);
+            contents.addAll(Arrays.asList(values));
+        }
+        else {
+            long[] values = new long[count];
+            if (encoding == FileEncoding.BITPACK)
+                BitPackedPage.decode(dbPage, values);
+            else
+                DeltaPage.decode(dbPage, values);
+
+            // 按列的类型装箱
+            ColumnVector vector = new ColumnVector(colInfo.getType().getBaseType(), count);
+            for (int i = 0; i < count; i++) {
+                vector.setLong(i, values[i]);
+                contents.add(vector.getValue(i));
+            }
+        }
+        return new ColStoreBlock(dbPage, offset, end, colInfo, encoding, contents,
+            contents.size());
+    }
 }
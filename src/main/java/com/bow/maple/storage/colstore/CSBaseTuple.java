@@ -0,0 +1,34 @@
+package com.bow.maple.storage.colstore;
+
+
+import com.bow.maple.expressions.LiteralTuple;
+
+
+/**
+ * 从列式存储表的基本数据中读出的一行。删除和更新时用行号在删除位图中标记
+ * 这一行，delta中的行则是heap file中的tuple。
+ */
+public class CSBaseTuple extends LiteralTuple {
+
+    /** 行在基本数据中的行号 */
+    private final int rowId;
+
+    /** 读出这一行的扫描，用来读取下一行 */
+    private final transient BaseRowScanner scanner;
+
+
+    CSBaseTuple(int rowId, BaseRowScanner scanner) {
+        this.rowId = rowId;
+        this.scanner = scanner;
+    }
+
+
+    public int getRowId() {
+        return rowId;
+    }
+
+
+    BaseRowScanner getScanner() {
+        return scanner;
+    }
+}
@@ -18,6 +18,10 @@ public class CSDataPage {
     public static final int ENCODING_OFFSET = 2;
     
     public static final int COUNT_OFFSET = 6;
+
+    public static final int NEXT_BLOCK_START_OFFSET = 10;
+
+    public static final int FIRST_BLOCK_OFFSET = 14;
 	
     /** Get the encoding of the page. */
 	public static int getEncoding(DBPage dbPage) {
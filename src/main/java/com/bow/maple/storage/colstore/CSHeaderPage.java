@@ -1,7 +1,16 @@
 package com.bow.maple.storage.colstore;
 
+import java.util.ArrayList;
+
+import com.bow.lab.storage.heap.PageTupleUtil;
+import com.bow.maple.qeval.ColumnStats;
+import com.bow.maple.qeval.TableStats;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.Schema;
 import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.PageReader;
 import com.bow.maple.storage.PageWriter;
+import com.bow.maple.storage.TableFileInfo;
 import com.bow.maple.storage.heapfile.HeaderPage;
 import org.apache.log4j.Logger;
 
@@ -10,6 +19,13 @@ import org.apache.log4j.Logger;
  * a table header page within a column store.
  * 
  * Designs are similar to {@link HeaderPage}.
+ *
+ * <p>
+ * 统计信息紧接在schema之后：先是统计信息占用的字节数(4B，为0表示还没有
+ * 统计信息)，然后是数据页面数、行数、平均行大小，以及每列的统计信息。每列
+ * 的统计信息以一个标记字节开始，标记字节中为1的位表示对应的值不存在，格式与
+ * {@link HeaderPage}相同，另外多了一个等深直方图：1字节的边界个数和各个边界。
+ * </p>
  */
 public class CSHeaderPage {
 
@@ -23,6 +39,19 @@ public class CSHeaderPage {
     
     public static final int SCHEMA_START_OFFSET = 14;
 
+    private static final int COLSTAT_NULLMASK_HISTOGRAM = 0x10;
+
+    private static final int COLSTAT_NULLMASK_NUM_DISTINCT_VALUES = 0x08;
+
+    private static final int COLSTAT_NULLMASK_NUM_NULL_VALUES = 0x04;
+
+    private static final int COLSTAT_NULLMASK_MIN_VALUE = 0x02;
+
+    private static final int COLSTAT_NULLMASK_MAX_VALUE = 0x01;
+
+    /** 直方图的边界个数存放在1个字节中 */
+    public static final int MAX_HISTOGRAM_BOUNDS = 255;
+
 	public static void initNewPage(DBPage dbPage) {
 		PageWriter rleWriter = new PageWriter(dbPage);
         rleWriter.setPosition(ENCODING_OFFSET);
@@ -39,4 +68,158 @@ public class CSHeaderPage {
         rleWriter.writeInt(schemaSize);
 	}
 
+
+	public static int getSchemaSize(DBPage dbPage) {
+		return dbPage.readInt(SCHEMA_SIZE_OFFSET);
+	}
+
+
+	/** 返回统计信息的起始位置，即schema之后的第一个字节 */
+	public static int getStatsOffset(DBPage dbPage) {
+		return SCHEMA_START_OFFSET + getSchemaSize(dbPage) + 1;
+	}
+
+
+	/**
+	 * 读出头页面中的统计信息
+	 *
+	 * @param dbPage 表的头页面
+	 * @param tblFileInfo 已经读入schema的表
+	 * @return 表的统计信息，还没有统计信息时返回<tt>null</tt>
+	 */
+	public static TableStats getTableStats(DBPage dbPage, TableFileInfo tblFileInfo) {
+		PageReader reader = new PageReader(dbPage);
+		reader.setPosition(getStatsOffset(dbPage));
+		if (reader.readInt() == 0)
+			return null;
+
+		int numDataPages = reader.readInt();
+		int numTuples = reader.readInt();
+		float avgTupleSize = reader.readFloat();
+
+		Schema schema = tblFileInfo.getSchema();
+		ArrayList<ColumnStats> colStats = new ArrayList<ColumnStats>(schema.numColumns());
+		for (int i = 0; i < schema.numColumns(); i++) {
+			ColumnType colType = schema.getColumnInfo(i).getType();
+			ColumnStats c = new ColumnStats();
+			int nullMask = reader.readUnsignedByte();
+
+			if ((nullMask & COLSTAT_NULLMASK_NUM_DISTINCT_VALUES) == 0)
+				c.setNumUniqueValues(reader.readInt());
+
+			if ((nullMask & COLSTAT_NULLMASK_NUM_NULL_VALUES) == 0)
+				c.setNumNullValues(reader.readInt());
+
+			if ((nullMask & COLSTAT_NULLMASK_MIN_VALUE) == 0)
+				c.setMinValue(reader.readObject(colType));
+
+			if ((nullMask & COLSTAT_NULLMASK_MAX_VALUE) == 0)
+				c.setMaxValue(reader.readObject(colType));
+
+			if ((nullMask & COLSTAT_NULLMASK_HISTOGRAM) == 0) {
+				Object[] histogram = new Object[reader.readUnsignedByte()];
+				for (int j = 0; j < histogram.length; j++)
+					histogram[j] = reader.readObject(colType);
+				c.setHistogram(histogram);
+			}
+			colStats.add(c);
+		}
+		return new TableStats(numDataPages, numTuples, avgTupleSize, colStats);
+	}
+
+
+	/**
+	 * 把表的统计信息写入头页面。页面中放不下的最小值、最大值和直方图不写入，
+	 * 读出时这些值未知。
+	 *
+	 * @param dbPage 表的头页面
+	 * @param tblFileInfo 表，统计信息由{@link TableFileInfo#getStats}得到
+	 */
+	public static void setTableStats(DBPage dbPage, TableFileInfo tblFileInfo) {
+		Schema schema = tblFileInfo.getSchema();
+		TableStats stats = tblFileInfo.getStats();
+
+		int statsOffset = getStatsOffset(dbPage);
+		PageWriter writer = new PageWriter(dbPage);
+		writer.setPosition(statsOffset + 4);
+		writer.writeInt(stats.numDataPages);
+		writer.writeInt(stats.numTuples);
+		writer.writeFloat(stats.avgTupleSize);
+
+		// 先给每列的标记字节和两个计数留出空间，剩下的空间按列的顺序使用
+		int available = dbPage.getPageSize() - writer.getPosition() - 9 * schema.numColumns();
+		ArrayList<ColumnStats> colStats = stats.getAllColumnStats();
+		for (int i = 0; i < colStats.size(); i++) {
+			ColumnType colType = schema.getColumnInfo(i).getType();
+			ColumnStats c = colStats.get(i);
+
+			Object minVal = c.getMinValue();
+			Object maxVal = c.getMaxValue();
+			Object[] histogram = c.getHistogram();
+
+			int minMaxSize = 0;
+			if (minVal != null && maxVal != null)
+				minMaxSize = getValueSize(colType, minVal) + getValueSize(colType, maxVal);
+			if (minMaxSize > available) {
+				minVal = null;
+				maxVal = null;
+				minMaxSize = 0;
+			}
+			available -= minMaxSize;
+
+			if (histogram != null) {
+				int histogramSize = 1;
+				for (Object bound : histogram)
+					histogramSize += getValueSize(colType, bound);
+				if (histogram.length > MAX_HISTOGRAM_BOUNDS || histogramSize > available) {
+					logger.debug("Histogram of column " + schema.getColumnInfo(i).getName() +
+						" doesn't fit in the header page");
+					histogram = null;
+				}
+				else {
+					available -= histogramSize;
+				}
+			}
+
+			int nullMask = 0;
+			if (c.getNumUniqueValues() == -1)
+				nullMask |= COLSTAT_NULLMASK_NUM_DISTINCT_VALUES;
+			if (c.getNumNullValues() == -1)
+				nullMask |= COLSTAT_NULLMASK_NUM_NULL_VALUES;
+			if (minVal == null)
+				nullMask |= COLSTAT_NULLMASK_MIN_VALUE;
+			if (maxVal == null)
+				nullMask |= COLSTAT_NULLMASK_MAX_VALUE;
+			if (histogram == null)
+				nullMask |= COLSTAT_NULLMASK_HISTOGRAM;
+
+			writer.writeByte(nullMask);
+			if (c.getNumUniqueValues() != -1)
+				writer.writeInt(c.getNumUniqueValues());
+			if (c.getNumNullValues() != -1)
+				writer.writeInt(c.getNumNullValues());
+			if (minVal != null)
+				writer.writeObject(colType, minVal);
+			if (maxVal != null)
+				writer.writeObject(colType, maxVal);
+			if (histogram != null) {
+				writer.writeByte(histogram.length);
+				for (Object bound : histogram)
+					writer.writeObject(colType, bound);
+			}
+		}
+
+		int statsSize = writer.getPosition() - statsOffset - 4;
+		dbPage.writeInt(statsOffset, statsSize);
+		logger.debug("Column-store statistics use " + statsSize + " bytes of the header page");
+	}
+
+
+	/** 返回一个值写入页面时占用的字节数 */
+	private static int getValueSize(ColumnType colType, Object value) {
+		int dataLength = 0;
+		if (value instanceof String)
+			dataLength = ((String) value).length();
+		return PageTupleUtil.getStorageSize(colType, dataLength);
+	}
 }
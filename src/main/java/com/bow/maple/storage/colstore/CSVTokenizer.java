@@ -0,0 +1,170 @@
+package com.bow.maple.storage.colstore;
+
+
+import java.io.IOException;
+import java.io.Reader;
+
+
+/**
+ * <p>
+ * 按行读取逗号分隔的文本文件，把每行拆成字段。与
+ * <tt>readLine().split(",")</tt>不同，这里不创建整行的字符串，也不使用正则
+ * 表达式：直接在读缓冲区中查找行尾和逗号，去掉字段两端的空白后由缓冲区中的
+ * 字符创建字段的字符串，每个字段只复制一次。
+ * </p>
+ * <p>
+ * 与原来的格式一致，不支持带引号的字段。空行被跳过，<tt>\r\n</tt>结尾的行
+ * 也可以正确处理。
+ * </p>
+ */
+class CSVTokenizer {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+
+    /** 读缓冲区，一行超过缓冲区大小时扩大 */
+    private char[] buffer;
+
+    /** 当前行在缓冲区中的起始位置 */
+    private int pos;
+
+    /** 缓冲区中有效字符的结束位置 */
+    private int limit;
+
+    /** 已经读取的行数，包括空行，用于报告错误的位置 */
+    private int lineNo;
+
+
+    CSVTokenizer(Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+
+    CSVTokenizer(Reader reader, int bufferSize) {
+        this.reader = reader;
+        this.buffer = new char[Math.max(16, bufferSize)];
+    }
+
+
+    /** 返回最后读取的一行的行号，从1开始 */
+    int getLineNo() {
+        return lineNo;
+    }
+
+
+    /**
+     * 读取下一个非空行
+     *
+     * @param fields 存放各字段的数组，超过数组长度的字段不保存
+     * @return 这一行的字段个数，可能大于<tt>fields.length</tt>；文件已经结束
+     *         时返回-1
+     * @throws IOException 读取文件出错
+     */
+    int readRow(String[] fields) throws IOException {
+        while (true) {
+            int lineEnd = findLineEnd();
+            if (lineEnd < 0)
+                return -1;
+
+            lineNo++;
+            int next = lineEnd;
+            if (next < limit && buffer[next] == '\n')
+                next++;
+
+            int end = lineEnd;
+            if (end > pos && buffer[end - 1] == '\r')
+                end--;
+
+            int numFields = 0;
+            if (!isBlank(pos, end))
+                numFields = splitFields(pos, end, fields);
+
+            pos = next;
+            if (numFields > 0)
+                return numFields;
+        }
+    }
+
+
+    /**
+     * 确保缓冲区中有完整的一行，返回行尾(换行符或者文件末尾)的位置
+     *
+     * @return 行尾的位置，已经没有数据时返回-1
+     */
+    private int findLineEnd() throws IOException {
+        int scan = pos;
+        while (true) {
+            for (int i = scan; i < limit; i++) {
+                if (buffer[i] == '\n')
+                    return i;
+            }
+
+            scan = limit - pos;
+            if (!fill()) {
+                // 最后一行没有换行符
+                return (pos < limit) ? limit : -1;
+            }
+            scan += pos;
+        }
+    }
+
+
+    /**
+     * 把当前行移到缓冲区的开头，再读入更多的字符
+     *
+     * @return 读到了新的字符时返回true，文件已经结束时返回false
+     */
+    private boolean fill() throws IOException {
+        if (pos > 0) {
+            System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+            limit -= pos;
+            pos = 0;
+        }
+
+        if (limit == buffer.length) {
+            char[] newBuffer = new char[buffer.length * 2];
+            System.arraycopy(buffer, 0, newBuffer, 0, limit);
+            buffer = newBuffer;
+        }
+
+        int n = reader.read(buffer, limit, buffer.length - limit);
+        if (n <= 0)
+            return false;
+
+        limit += n;
+        return true;
+    }
+
+
+    private boolean isBlank(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buffer[i] > ' ')
+                return false;
+        }
+        return true;
+    }
+
+
+    private int splitFields(int start, int end, String[] fields) {
+        int numFields = 0;
+        int fieldStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i < end && buffer[i] != ',')
+                continue;
+
+            if (numFields < fields.length) {
+                int s = fieldStart;
+                int e = i;
+                while (s < e && buffer[s] <= ' ')
+                    s++;
+                while (e > s && buffer[e - 1] <= ' ')
+                    e--;
+                fields[numFields] = new String(buffer, s, e - s);
+            }
+            numFields++;
+            fieldStart = i + 1;
+        }
+        return numFields;
+    }
+}
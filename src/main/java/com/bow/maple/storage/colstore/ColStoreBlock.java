@@ -164,6 +164,11 @@ public class ColStoreBlock {
     	return blockContents;
     }
     
+    /** 块中值的个数，游程编码的块中是游程的长度 */
+    public int getSize() {
+    	return blockSize;
+    }
+    
     /** True if the block contains only one value. Useful for grouping/aggregation. */
     public boolean isOneValue() {
     	return (encode == FileEncoding.RLE || encode == FileEncoding.NONE);
@@ -0,0 +1,935 @@
+package com.bow.maple.storage.colstore;
+
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import com.bow.maple.expressions.TypeConverter;
+import com.bow.maple.qeval.WorkerPool;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.ColumnVector;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileEncoding;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.util.PropertiesUtil;
+import org.apache.log4j.Logger;
+
+
+/**
+ * <p>
+ * 列式存储表的批量导入：只读一遍输入文件，由{@link CSVTokenizer}拆分字段，
+ * 按行组(row group)缓存成各列的列块，同时在读取过程中统计每个列块的最值和
+ * 不同值。读完后为每个列块选择编码，各列的文件由多个线程并行
+ * 编码写入。取代原来{@link com.bow.maple.storage.FileAnalyzer}先分析一遍、
+ * 再为每一列各读一遍文件的做法，导入的I/O与列数无关。
+ * </p>
+ * <p>
+ * 每个列块独立选择编码：按列块中的值估计每种可用的编码需要的页面数，选择页面
+ * 最少的一种，页面数相同时选择字节数最少的。整数列可以使用位压缩
+ * ({@link BitPackedPage})和差分编码({@link DeltaPage})；不能使用字典编码的
+ * <tt>VARCHAR</tt>列可以使用块压缩({@link LZPage})，但解压的代价较高，只有
+ * 比其他编码少用页面时才使用。每个列块从新的页面开始，字典编码的列块在第一个
+ * 页面中存放自己的字典。列文件的第0页由{@link RowGroupPage}记录各个列块的
+ * 位置。
+ * </p>
+ */
+public class ColStoreLoader {
+
+    private static Logger logger = Logger.getLogger(ColStoreLoader.class);
+
+    /** 每个行组的行数 */
+    public static final String PROP_ROW_GROUP_ROWS = "nanodb.colstore.rowGroupRows";
+
+    public static final int DEFAULT_ROW_GROUP_ROWS = 64 * 1024;
+
+    /** 并行写入列文件的线程数，0或负数表示使用全部CPU核数 */
+    public static final String PROP_PARALLELISM = "nanodb.colstore.load.parallelism";
+
+    public static final int DEFAULT_PARALLELISM = 0;
+
+    /** 估计块压缩的压缩率时最多压缩的页面数 */
+    private static final int LZ_SAMPLE_PAGES = 8;
+
+    /** 字典编码的每个块是16位，字典最多容纳这么多个不同的值(编码0不用) */
+    private static final int MAX_DICTIONARY_SIZE = (1 << 16) - 1;
+
+    /** 输入文件所在的目录 */
+    private final String inputFilePrefix =
+        PropertiesUtil.getProperty("nanodb.inputFileDir", "input_datafiles/");
+
+    private StorageManager storageManager;
+
+    private final int rowGroupRows;
+
+    private final int parallelism;
+
+    private final LoadColumn[] columns;
+
+    /** 读入的行数 */
+    private int numRows;
+
+
+    /** 一个行组在一列中的值，以及它们的统计和选定的编码 */
+    private static class Chunk {
+        String[] values;
+
+        int size;
+
+        /** 整数列中解析出的值，只在选择编码和写入位压缩、差分编码的列块时使用 */
+        long[] longs;
+
+        /**
+         * 不同的值，同时用来让相同的值共用一个字符串对象。个数超过
+         * {@link #MAX_DICTIONARY_SIZE}后不再记录，这个列块也不能使用字典编码
+         */
+        HashMap<String, String> distincts = new HashMap<String, String>();
+
+        FileEncoding encoding;
+
+        /** 列块中的最小值和最大值 */
+        String minValue;
+
+        String maxValue;
+
+        double minNumber;
+
+        double maxNumber;
+
+        Chunk(int capacity) {
+            values = new String[capacity];
+        }
+
+        void add(String value, boolean numeric, double number) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+
+            if (minValue == null) {
+                minValue = maxValue = value;
+                minNumber = maxNumber = number;
+            } else if (numeric) {
+                if (number < minNumber) {
+                    minValue = value;
+                    minNumber = number;
+                } else if (number > maxNumber) {
+                    maxValue = value;
+                    maxNumber = number;
+                }
+            } else {
+                if (value.compareTo(minValue) < 0)
+                    minValue = value;
+                else if (value.compareTo(maxValue) > 0)
+                    maxValue = value;
+            }
+        }
+    }
+
+
+    /** 导入过程中一列的数据 */
+    private static class LoadColumn {
+        final ColumnInfo colInfo;
+
+        final boolean numeric;
+
+        /** 是否是整数列，可以使用位压缩和差分编码 */
+        final boolean integral;
+
+        final List<Chunk> chunks = new ArrayList<Chunk>();
+
+        LoadColumn(ColumnInfo colInfo) {
+            this.colInfo = colInfo;
+            this.numeric = SQLDataType.isNumber(colInfo.getType().getBaseType());
+            this.integral = ColumnVector.getVectorType(colInfo.getType().getBaseType()) ==
+                ColumnVector.VectorType.LONG;
+        }
+    }
+
+
+    /**
+     * @param colInfos 表中各列的信息，输入文件中的字段按这个顺序排列
+     */
+    public ColStoreLoader(List<ColumnInfo> colInfos) {
+        this(colInfos, PropertiesUtil.getInt(PROP_ROW_GROUP_ROWS, DEFAULT_ROW_GROUP_ROWS));
+    }
+
+
+    /**
+     * @param colInfos 表中各列的信息
+     * @param rowGroupRows 每个行组的行数
+     */
+    ColStoreLoader(List<ColumnInfo> colInfos, int rowGroupRows) {
+        this.rowGroupRows = Math.max(1, rowGroupRows);
+
+        int threads = PropertiesUtil.getInt(PROP_PARALLELISM, DEFAULT_PARALLELISM);
+        if (threads <= 0)
+            threads = Runtime.getRuntime().availableProcessors();
+        parallelism = threads;
+
+        columns = new LoadColumn[colInfos.size()];
+        for (int i = 0; i < columns.length; i++)
+            columns[i] = new LoadColumn(colInfos.get(i));
+    }
+
+
+    /**
+     * 读取输入目录中的文件。文件的第一行是列名，之后每行是一条记录。
+     *
+     * @param fileName 输入文件名
+     * @throws IOException 文件不存在、读取出错或者格式不对
+     */
+    public void parse(String fileName) throws IOException {
+        Reader reader = new BufferedReader(new FileReader(inputFilePrefix + fileName));
+        try {
+            parse(reader);
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+
+    /**
+     * 读取输入并按列缓存，见{@link #parse(String)}
+     */
+    void parse(Reader reader) throws IOException {
+        CSVTokenizer tokenizer = new CSVTokenizer(reader);
+        String[] fields = new String[columns.length];
+
+        // 第一行是列名
+        if (tokenizer.readRow(fields) < 0)
+            return;
+
+        int numFields;
+        while ((numFields = tokenizer.readRow(fields)) >= 0) {
+            if (numFields != columns.length) {
+                throw new IOException(String.format("Line %d has %d values, but the table has %d columns",
+                    tokenizer.getLineNo(), numFields, columns.length));
+            }
+
+            for (int i = 0; i < columns.length; i++)
+                addValue(columns[i], fields[i], tokenizer.getLineNo());
+            numRows++;
+        }
+
+        finish();
+    }
+
+
+    /**
+     * 加入一行，用于tuple mover把delta中的行转换成列块。加入所有的行之后须
+     * 调用{@link #finish}。
+     *
+     * @param tup 一行数据，值不能为NULL
+     * @throws IOException 值的个数与列数不同，或者值不是列的类型
+     */
+    public void addRow(Tuple tup) throws IOException {
+        if (tup.getColumnCount() != columns.length) {
+            throw new IOException(String.format("Row has %d values, but the table has %d columns",
+                tup.getColumnCount(), columns.length));
+        }
+
+        numRows++;
+        for (int i = 0; i < columns.length; i++)
+            addValue(columns[i], TypeConverter.getStringValue(tup.getColumnValue(i)), numRows);
+    }
+
+
+    /**
+     * 所有的行都已加入，为每个列块选择编码
+     */
+    public void finish() {
+        for (LoadColumn column : columns)
+            chooseEncodings(column);
+    }
+
+
+    private void addValue(LoadColumn column, String value, int lineNo) throws IOException {
+        double number = 0;
+        if (column.numeric) {
+            try {
+                number = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new IOException(String.format("Line %d:  \"%s\" is not a valid value for column %s",
+                    lineNo, value, column.colInfo.getName()));
+            }
+        }
+
+        Chunk chunk = column.chunks.isEmpty() ? null : column.chunks.get(column.chunks.size() - 1);
+        if (chunk == null || chunk.size == rowGroupRows) {
+            chunk = new Chunk(Math.min(rowGroupRows, 1024));
+            column.chunks.add(chunk);
+        }
+
+        if (chunk.distincts != null) {
+            String existing = chunk.distincts.get(value);
+            if (existing != null) {
+                value = existing;
+            } else if (chunk.distincts.size() < MAX_DICTIONARY_SIZE) {
+                chunk.distincts.put(value, value);
+            } else {
+                chunk.distincts = null;
+            }
+        }
+
+        chunk.add(value, column.numeric, number);
+    }
+
+
+    /**
+     * 一个列块使用各种编码时估计需要的空间，保留页面最少的一种；页面数相同时
+     * 保留字节数最少的，都相同时保留先考虑的
+     */
+    private static class SizeEstimate {
+        FileEncoding encoding;
+
+        long pages = Long.MAX_VALUE;
+
+        long bytes = Long.MAX_VALUE;
+
+        /**
+         * @param candidate 编码
+         * @param dataBytes 数据占用的字节数
+         * @param pageSpace 每个页面中可以存放数据的字节数
+         * @param extraPages 数据之外的页面数，例如字典页面
+         */
+        void consider(FileEncoding candidate, long dataBytes, int pageSpace, int extraPages) {
+            long candidatePages = getPages(dataBytes, pageSpace) + extraPages;
+            if (candidatePages < pages || (candidatePages == pages && dataBytes < bytes)) {
+                encoding = candidate;
+                pages = candidatePages;
+                bytes = dataBytes;
+            }
+        }
+
+        static long getPages(long dataBytes, int pageSpace) {
+            return Math.max(1, (dataBytes + pageSpace - 1) / pageSpace);
+        }
+    }
+
+
+    /**
+     * 按每个列块中的值估计各种编码需要的页面数，选择页面最少的编码。字典必须
+     * 放得下一个页面；块压缩只用于不能使用字典编码的<tt>VARCHAR</tt>列块，并且
+     * 要比其他编码少用页面。
+     */
+    private void chooseEncodings(LoadColumn column) {
+        int pageSize = StorageManager.getCurrentPageSize();
+        ColumnType colType = column.colInfo.getType();
+        for (Chunk chunk : column.chunks) {
+            SizeEstimate estimate = new SizeEstimate();
+
+            // 不压缩时每个值另存4字节的行号；RLE的每个重复段存放值、起始行号和长度
+            long plainBytes = 0;
+            long rleBytes = 0;
+            for (int i = 0; i < chunk.size; i++) {
+                int size = DBPage.getObjectDiskSize(chunk.values[i], colType);
+                plainBytes += size + 4;
+                if (i == 0 || !chunk.values[i].equals(chunk.values[i - 1]))
+                    rleBytes += size + 8;
+            }
+            estimate.consider(FileEncoding.RLE, rleBytes,
+                pageSize - RLEPage.FIRST_BLOCK_OFFSET, 0);
+
+            boolean dictionary = chunk.distincts != null &&
+                getDictionarySize(column, chunk) <= pageSize;
+            if (dictionary) {
+                int blockNum = 16 / getDictionaryBitSize(chunk.distincts.size());
+                long blocks = (chunk.size + blockNum - 1) / blockNum;
+                estimate.consider(FileEncoding.DICTIONARY, blocks * 2,
+                    pageSize - DictionaryPage.FIRST_BLOCK_OFFSET, 1);
+            }
+
+            if (column.integral)
+                chunk.longs = parseLongs(chunk);
+            if (chunk.longs != null) {
+                long[] longs = chunk.longs;
+                long min = longs[0];
+                long max = longs[0];
+                long minDelta = 0;
+                long maxDelta = 0;
+                for (int i = 1; i < chunk.size; i++) {
+                    min = Math.min(min, longs[i]);
+                    max = Math.max(max, longs[i]);
+                    long delta = longs[i] - longs[i - 1];
+                    minDelta = (i == 1) ? delta : Math.min(minDelta, delta);
+                    maxDelta = (i == 1) ? delta : Math.max(maxDelta, delta);
+                }
+
+                estimate.consider(FileEncoding.BITPACK,
+                    BitPacking.packedSize(chunk.size, BitPacking.bitWidth(max - min)),
+                    pageSize - BitPackedPage.FIRST_VALUE_OFFSET, 0);
+
+                // 每页的位数按页面中的差值决定，不会超过按整个列块估计的位数
+                if (chunk.size > 1) {
+                    estimate.consider(FileEncoding.DELTA, BitPacking.packedSize(chunk.size - 1,
+                        BitPacking.bitWidth(maxDelta - minDelta)),
+                        pageSize - DeltaPage.FIRST_DELTA_OFFSET, 0);
+                }
+            }
+
+            estimate.consider(FileEncoding.NONE, plainBytes,
+                pageSize - UncompressedPage.FIRST_BLOCK_OFFSET, 0);
+
+            if (colType.getBaseType() == SQLDataType.VARCHAR && !dictionary) {
+                long lzBytes = estimateLZSize(chunk, pageSize);
+                int lzSpace = pageSize - LZPage.FIRST_DATA_OFFSET;
+                if (SizeEstimate.getPages(lzBytes, lzSpace) < estimate.pages)
+                    estimate.consider(FileEncoding.LZ, lzBytes, lzSpace, 0);
+            }
+
+            chunk.encoding = estimate.encoding;
+
+            // 之后不再需要
+            if (chunk.encoding != FileEncoding.DICTIONARY)
+                chunk.distincts = null;
+            if (chunk.encoding != FileEncoding.BITPACK && chunk.encoding != FileEncoding.DELTA)
+                chunk.longs = null;
+        }
+    }
+
+
+    /**
+     * 把整数列中的值解析成<tt>long</tt>
+     *
+     * @return 解析出的值，有不是整数的值时返回<tt>null</tt>
+     */
+    private static long[] parseLongs(Chunk chunk) {
+        long[] longs = new long[chunk.size];
+        try {
+            for (int i = 0; i < chunk.size; i++)
+                longs[i] = Long.parseLong(chunk.values[i]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return longs;
+    }
+
+
+    /**
+     * 估计块压缩后的字节数：从列块的开头取最多{@link #LZ_SAMPLE_PAGES}个页面的
+     * 数据，按页面的大小分段压缩，用得到的压缩率推算整个列块
+     */
+    private static long estimateLZSize(Chunk chunk, int pageSize) {
+        int space = pageSize - LZPage.FIRST_DATA_OFFSET;
+        long totalRaw = 0;
+        for (int i = 0; i < chunk.size; i++)
+            totalRaw += LZPage.getRawSize(chunk.values[i]);
+
+        byte[] raw = new byte[space];
+        byte[] compressed = new byte[LZBlockCodec.maxCompressedLength(space)];
+        long sampledRaw = 0;
+        long sampledCompressed = 0;
+        int i = 0;
+        for (int segment = 0; segment < LZ_SAMPLE_PAGES && i < chunk.size; segment++) {
+            int rawLen = 0;
+            while (i < chunk.size && rawLen < space) {
+                int size = LZPage.getRawSize(chunk.values[i]);
+                if (rawLen + size > raw.length) {
+                    raw = Arrays.copyOf(raw, rawLen + size);
+                    compressed = new byte[LZBlockCodec.maxCompressedLength(raw.length)];
+                }
+                rawLen = LZPage.appendValue(raw, rawLen, chunk.values[i]);
+                i++;
+            }
+
+            sampledRaw += rawLen;
+            sampledCompressed += LZBlockCodec.compress(raw, 0, rawLen, compressed, 0,
+                compressed.length);
+        }
+
+        if (sampledRaw == 0)
+            return 0;
+        return (long) Math.ceil(totalRaw * (double) sampledCompressed / sampledRaw);
+    }
+
+
+    /** 字典中有<tt>numValues</tt>个值时每个编码的位数，编码0不用 */
+    private static int getDictionaryBitSize(int numValues) {
+        int bitsize = (int) Math.ceil(Math.log(numValues + 1) / Math.log(2));
+        return Math.max(1, bitsize);
+    }
+
+
+    /**
+     * 字典页面需要的字节数：页头、bitsize等三个整数，以及每个值和它的编码
+     */
+    private static int getDictionarySize(LoadColumn column, Chunk chunk) {
+        ColumnType colType = column.colInfo.getType();
+        int size = DictionaryPage.FIRST_BLOCK_OFFSET + 12;
+        for (String value : chunk.distincts.keySet())
+            size += DBPage.getObjectDiskSize(value, colType) + 4;
+        return size;
+    }
+
+
+    /** 返回读入的行数 */
+    public int getNumRows() {
+        return numRows;
+    }
+
+
+    /**
+     * 返回一列各个列块的编码，按行组的顺序
+     *
+     * @param column 列的序号
+     * @return 各列块的编码
+     */
+    public List<FileEncoding> getChunkEncodings(int column) {
+        List<FileEncoding> encodings = new ArrayList<FileEncoding>();
+        for (Chunk chunk : columns[column].chunks)
+            encodings.add(chunk.encoding);
+        return encodings;
+    }
+
+
+    /**
+     * 把读入的数据写到表的各个列文件中。各列由不同的线程并行写入，
+     * 线程数见{@link #PROP_PARALLELISM}。
+     *
+     * @param tblFileInfo 列式存储的表
+     * @throws IOException 写入出错
+     * @throws InterruptedException 等待写入线程时被中断
+     */
+    public void write(TableFileInfo tblFileInfo) throws IOException, InterruptedException {
+        writeColumns(tblFileInfo, false);
+    }
+
+
+    /**
+     * 把读入的数据作为新的行组追加到表的各个列文件中，已有的列块不变
+     *
+     * @param tblFileInfo 列式存储的表
+     * @throws IOException 写入出错
+     * @throws InterruptedException 等待写入线程时被中断
+     */
+    public void append(TableFileInfo tblFileInfo) throws IOException, InterruptedException {
+        writeColumns(tblFileInfo, true);
+    }
+
+
+    private void writeColumns(final TableFileInfo tblFileInfo, final boolean append)
+        throws IOException, InterruptedException {
+        storageManager = StorageManager.getInstance();
+        checkRowGroupSpace(tblFileInfo, append);
+
+        int numThreads = Math.min(parallelism, columns.length);
+        if (numThreads <= 1) {
+            for (int i = 0; i < columns.length; i++)
+                writeColumn(tblFileInfo, i, append);
+            return;
+        }
+
+        // 各线程轮流分配列
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int t = 0; t < numThreads; t++) {
+            final int first = t;
+            final int step = numThreads;
+            futures.add(WorkerPool.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    for (int i = first; i < columns.length; i += step)
+                        writeColumn(tblFileInfo, i, append);
+                    return null;
+                }
+            }));
+        }
+
+        IOException error = null;
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (error == null) {
+                    Throwable cause = e.getCause();
+                    error = (cause instanceof IOException) ? (IOException) cause :
+                        new IOException("Couldn't write column data", cause);
+                }
+            }
+        }
+        if (error != null)
+            throw error;
+    }
+
+
+    /**
+     * 检查各列第0页的行组目录能否放下所有新的列块。目录放不下时在写入任何
+     * 数据之前失败，以免部分列已经追加了列块而其余的列没有。
+     *
+     * @throws IOException 某一列的目录放不下，或者读取目录出错
+     */
+    private void checkRowGroupSpace(TableFileInfo tblFileInfo, boolean append)
+        throws IOException {
+        for (int index = 0; index < columns.length; index++) {
+            LoadColumn column = columns[index];
+            DBFile dbFile = tblFileInfo.getDBFile(index + 1);
+            ColumnType colType = column.colInfo.getType();
+
+            int freeSpace = dbFile.getPageSize() - RowGroupPage.FIRST_ENTRY_OFFSET;
+            if (append && dbFile.getNumPages() > 0) {
+                DBPage dirPage = storageManager.loadDBPage(dbFile, 0);
+                try {
+                    if (RowGroupPage.isRowGroupPage(dirPage))
+                        freeSpace = RowGroupPage.getFreeSpace(dirPage);
+                }
+                finally {
+                    storageManager.unpinDBPage(dirPage);
+                }
+            }
+
+            int needed = 0;
+            for (Chunk chunk : column.chunks) {
+                ColumnChunk columnChunk = new ColumnChunk(0, chunk.size, 0, 0, chunk.encoding,
+                    chunk.minValue, chunk.maxValue);
+                needed += RowGroupPage.getEntrySize(columnChunk, colType);
+            }
+
+            if (needed > freeSpace) {
+                throw new IOException(String.format("Column %s has too many row groups; " +
+                    "increase %s", column.colInfo.getName(), PROP_ROW_GROUP_ROWS));
+            }
+        }
+    }
+
+
+    /**
+     * 依次写入一列的各个列块，每个列块从新的页面开始，最后在第0页记录各个
+     * 列块的位置。追加时从最后一个列块之后的页面和行号开始。
+     */
+    private void writeColumn(TableFileInfo tblFileInfo, int index, boolean append)
+        throws IOException {
+        LoadColumn column = columns[index];
+        DBFile dbFile = tblFileInfo.getDBFile(index + 1);
+        ColumnType colType = column.colInfo.getType();
+
+        List<ColumnChunk> columnChunks = new ArrayList<ColumnChunk>();
+        int pageNo = 1;
+        int firstRow = 0;
+        DBPage dirPage = storageManager.loadDBPage(dbFile, 0, true);
+        if (append && RowGroupPage.isRowGroupPage(dirPage)) {
+            for (ColumnChunk existing : RowGroupPage.readColumnChunks(dirPage, colType)) {
+                pageNo = existing.getFirstPageNo() + existing.getNumPages();
+                firstRow = existing.getFirstRow() + existing.getNumRows();
+            }
+        }
+        else {
+            RowGroupPage.initNewPage(dirPage);
+        }
+        storageManager.unpinDBPage(dirPage);
+        for (Chunk chunk : column.chunks) {
+            int endPageNo;
+            switch (chunk.encoding) {
+                case DICTIONARY:
+                    endPageNo = writeDictionaryChunk(dbFile, column, chunk, pageNo);
+                    break;
+
+                case BITPACK:
+                    endPageNo = writeBitPackedChunk(dbFile, chunk, pageNo);
+                    break;
+
+                case DELTA:
+                    endPageNo = writeDeltaChunk(dbFile, chunk, pageNo);
+                    break;
+
+                case LZ:
+                    endPageNo = writeLZChunk(dbFile, column, chunk, pageNo);
+                    break;
+
+                default:
+                    endPageNo = writeChunk(dbFile, column, chunk, pageNo, firstRow);
+            }
+
+            columnChunks.add(new ColumnChunk(firstRow, chunk.size, pageNo, endPageNo - pageNo,
+                chunk.encoding, chunk.minValue, chunk.maxValue));
+            pageNo = endPageNo;
+            firstRow += chunk.size;
+
+            // 写完的列块不再需要
+            chunk.values = null;
+            chunk.distincts = null;
+            chunk.longs = null;
+        }
+
+        dirPage = storageManager.loadDBPage(dbFile, 0, true);
+        try {
+            for (ColumnChunk columnChunk : columnChunks) {
+                if (!RowGroupPage.addColumnChunk(dirPage, columnChunk, colType)) {
+                    throw new IOException(String.format("Column %s has too many row groups; " +
+                        "increase %s", column.colInfo.getName(), PROP_ROW_GROUP_ROWS));
+                }
+            }
+        }
+        finally {
+            storageManager.unpinDBPage(dirPage);
+        }
+
+        logger.debug("Column " + column.colInfo.getName() + " written with encodings " +
+            getChunkEncodings(index));
+    }
+
+
+    /**
+     * 写入一个RLE或者不压缩的列块
+     *
+     * @return 列块之后的第一个页号
+     */
+    private int writeChunk(DBFile dbFile, LoadColumn column, Chunk chunk, int pageNo,
+        int firstRow) throws IOException {
+
+        ColumnType colType = column.colInfo.getType();
+        DBPage dbPage = initPage(dbFile, pageNo, chunk.encoding, null);
+        int rowId = firstRow;
+
+        int i = 0;
+        while (i < chunk.size) {
+            String value = chunk.values[i];
+            int count = 1;
+            if (chunk.encoding == FileEncoding.RLE) {
+                while (i + count < chunk.size && chunk.values[i + count].equals(value))
+                    count++;
+            }
+
+            if (!writeValue(dbPage, chunk.encoding, value, rowId, count, colType)) {
+                dbPage = initPage(dbFile, dbPage.getPageNo() + 1, chunk.encoding, dbPage);
+                if (!writeValue(dbPage, chunk.encoding, value, rowId, count, colType)) {
+                    throw new IOException("Value " + value + " of column " +
+                        column.colInfo.getName() + " doesn't fit in a page");
+                }
+            }
+
+            rowId += count;
+            i += count;
+        }
+
+        int endPageNo = dbPage.getPageNo() + 1;
+        storageManager.unpinDBPage(dbPage);
+        return endPageNo;
+    }
+
+
+    private static boolean writeValue(DBPage dbPage, FileEncoding encoding, String value,
+        int rowId, int count, ColumnType colType) {
+        if (encoding == FileEncoding.RLE)
+            return RLEPage.writeBlock(dbPage, value, rowId, count, colType);
+        else
+            return UncompressedPage.writeBlock(dbPage, value, rowId, colType);
+    }
+
+
+    /**
+     * 加载并初始化一个数据页面，同时unpin写完的上一个页面
+     */
+    private DBPage initPage(DBFile dbFile, int pageNo, FileEncoding encoding, DBPage prevPage)
+        throws IOException {
+
+        if (prevPage != null)
+            storageManager.unpinDBPage(prevPage);
+
+        DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo, true);
+        if (encoding == FileEncoding.RLE)
+            RLEPage.initNewPage(dbPage);
+        else if (encoding == FileEncoding.DICTIONARY)
+            DictionaryPage.initNewPage(dbPage);
+        else
+            UncompressedPage.initNewPage(dbPage);
+        return dbPage;
+    }
+
+
+    /**
+     * 写入一个位压缩的列块，所有页面使用列块的最小值作为参考值，位数相同
+     *
+     * @return 列块之后的第一个页号
+     */
+    private int writeBitPackedChunk(DBFile dbFile, Chunk chunk, int pageNo) throws IOException {
+        long min = chunk.longs[0];
+        long max = chunk.longs[0];
+        for (int i = 1; i < chunk.size; i++) {
+            min = Math.min(min, chunk.longs[i]);
+            max = Math.max(max, chunk.longs[i]);
+        }
+
+        int width = BitPacking.bitWidth(max - min);
+        int perPage = BitPackedPage.getCapacity(dbFile.getPageSize(), width);
+        for (int i = 0; i < chunk.size; i += perPage) {
+            DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo++, true);
+            BitPackedPage.writePage(dbPage, chunk.longs, i, Math.min(perPage, chunk.size - i),
+                min, width);
+            storageManager.unpinDBPage(dbPage);
+        }
+        return pageNo;
+    }
+
+
+    /**
+     * 写入一个差分编码的列块，每个页面放入尽量多的值
+     *
+     * @return 列块之后的第一个页号
+     */
+    private int writeDeltaChunk(DBFile dbFile, Chunk chunk, int pageNo) throws IOException {
+        int i = 0;
+        while (i < chunk.size) {
+            int count = DeltaPage.fit(chunk.longs, i, chunk.size, dbFile.getPageSize());
+            DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo++, true);
+            DeltaPage.writePage(dbPage, chunk.longs, i, count);
+            storageManager.unpinDBPage(dbPage);
+            i += count;
+        }
+        return pageNo;
+    }
+
+
+    /**
+     * 写入一个块压缩的列块。每个页面放入尽量多的值：先按上一个页面的压缩率
+     * 估计能放下的值的个数并压缩，再在已知放得下和放不下的个数之间二分查找。
+     *
+     * @return 列块之后的第一个页号
+     */
+    private int writeLZChunk(DBFile dbFile, LoadColumn column, Chunk chunk, int pageNo)
+        throws IOException {
+
+        // 整个列块先排列成未压缩的格式，offsets[i]是第i个值的位置
+        int[] offsets = new int[chunk.size + 1];
+        for (int i = 0; i < chunk.size; i++)
+            offsets[i + 1] = offsets[i] + LZPage.getRawSize(chunk.values[i]);
+        byte[] raw = new byte[offsets[chunk.size]];
+        for (int i = 0; i < chunk.size; i++)
+            LZPage.appendValue(raw, offsets[i], chunk.values[i]);
+
+        int space = dbFile.getPageSize() - LZPage.FIRST_DATA_OFFSET;
+        byte[] output = new byte[space];
+        byte[] fitOutput = new byte[space];
+        double ratio = 1.0;
+
+        int i = 0;
+        while (i < chunk.size) {
+            // 已知放得下的值的个数，以及已知放不下的值的个数
+            int fit = 0;
+            int fitLength = 0;
+            int noFit = chunk.size - i + 1;
+
+            int guess = countForBytes(offsets, i, (long) (space * ratio));
+            while (noFit - fit > 1) {
+                guess = Math.max(fit + 1, Math.min(guess, noFit - 1));
+                int rawLength = offsets[i + guess] - offsets[i];
+                int length = LZBlockCodec.compress(raw, offsets[i], rawLength, output, 0, space);
+                if (length >= 0) {
+                    fit = guess;
+                    fitLength = length;
+                    byte[] tmp = fitOutput;
+                    fitOutput = output;
+                    output = tmp;
+
+                    // 按这次的压缩率估计整个页面能放下的值，留一些余量
+                    double r = rawLength / (double) Math.max(1, length);
+                    guess = countForBytes(offsets, i, (long) (space * r * 0.95));
+                    if (guess <= fit)
+                        guess = fit + (noFit - fit) / 2;
+                }
+                else {
+                    noFit = guess;
+                    guess = fit + (noFit - fit) / 2;
+                }
+            }
+
+            if (fit == 0) {
+                throw new IOException("Value " + chunk.values[i] + " of column " +
+                    column.colInfo.getName() + " doesn't fit in a page");
+            }
+
+            int rawLength = offsets[i + fit] - offsets[i];
+            DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo++, true);
+            LZPage.writePage(dbPage, fitOutput, fitLength, rawLength, fit);
+            storageManager.unpinDBPage(dbPage);
+
+            ratio = rawLength / (double) Math.max(1, fitLength);
+            i += fit;
+        }
+        return pageNo;
+    }
+
+
+    /**
+     * 返回从第<tt>from</tt>个值开始，未压缩的数据达到<tt>target</tt>字节需要的
+     * 值的个数，至少为1，至多为剩余的值的个数
+     */
+    private static int countForBytes(int[] offsets, int from, long target) {
+        long key = Math.min((long) offsets[from] + target, Integer.MAX_VALUE);
+        int index = Arrays.binarySearch(offsets, from + 1, offsets.length, (int) key);
+        if (index < 0)
+            index = -index - 1;
+        return Math.max(1, Math.min(index, offsets.length - 1) - from);
+    }
+
+
+    /**
+     * 写入一个字典编码的列块：第一个页面存放这个列块的字典，之后的页面中每个
+     * 16位的块存放若干个值的编码
+     *
+     * @return 列块之后的第一个页号
+     */
+    private int writeDictionaryChunk(DBFile dbFile, LoadColumn column, Chunk chunk, int pageNo)
+        throws IOException {
+
+        DBPage dictPage = initPage(dbFile, pageNo, FileEncoding.DICTIONARY, null);
+        DBPage dbPage = initPage(dbFile, pageNo + 1, FileEncoding.DICTIONARY, null);
+
+        // 编码从1开始，0表示块中没有值
+        LinkedHashMap<String, Integer> dict = new LinkedHashMap<String, Integer>();
+        int bitsize = getDictionaryBitSize(chunk.distincts.size());
+        int blockNum = 16 / bitsize;
+
+        int currentBlock = 0;
+        int blockIndex = 0;
+        for (int i = 0; i < chunk.size; i++) {
+            String value = chunk.values[i];
+            Integer code = dict.get(value);
+            if (code == null) {
+                code = dict.size() + 1;
+                dict.put(value, code);
+            }
+
+            currentBlock |= code << (blockIndex * bitsize);
+            blockIndex++;
+            if (blockIndex == blockNum) {
+                dbPage = writeDictionaryBlock(dbFile, dbPage, currentBlock, blockIndex);
+                currentBlock = 0;
+                blockIndex = 0;
+            }
+        }
+        if (blockIndex > 0)
+            dbPage = writeDictionaryBlock(dbFile, dbPage, currentBlock, blockIndex);
+
+        int endPageNo = dbPage.getPageNo() + 1;
+        storageManager.unpinDBPage(dbPage);
+
+        DictionaryPage.writeDictionary(dictPage, new HashMap<String, Integer>(dict), bitsize,
+            blockNum, column.colInfo);
+        storageManager.unpinDBPage(dictPage);
+        return endPageNo;
+    }
+
+
+    private DBPage writeDictionaryBlock(DBFile dbFile, DBPage dbPage, int block, int numValues)
+        throws IOException {
+        if (!DictionaryPage.writeBlock(dbPage, block, numValues)) {
+            dbPage = initPage(dbFile, dbPage.getPageNo() + 1, FileEncoding.DICTIONARY, dbPage);
+            DictionaryPage.writeBlock(dbPage, block, numValues);
+        }
+        return dbPage;
+    }
+}
@@ -0,0 +1,288 @@
+package com.bow.maple.storage.colstore;
+
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+
+import com.bow.lab.storage.heap.PageTupleUtil;
+import com.bow.maple.qeval.ColumnStats;
+import com.bow.maple.qeval.TableStats;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.TableSchema;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.util.PropertiesUtil;
+
+
+/**
+ * <p>
+ * 收集列式存储表的统计信息，供基于代价的优化器估计选择率和代价。直接按块读取
+ * 各列的编码数据：游程编码的一个游程只处理一次，字典编码的值是字典中共享的
+ * 对象，位压缩、差分编码和块压缩的页面整页解码，不需要像heap file那样逐行
+ * 构造tuple。删除位图中标记的行不计入，delta中的行逐行加入。
+ * </p>
+ * <p>
+ * 不同值的个数在{@link #MAX_TRACKED_VALUES}个以内是精确的，超过后按已经读过
+ * 的行的比例外推。直方图是等深的，由每隔固定行数抽取的一行构造，最小值和最大
+ * 值总是精确的。
+ * </p>
+ */
+public class ColStoreStatsCollector {
+
+    private static Logger logger = Logger.getLogger(ColStoreStatsCollector.class);
+
+    /** 每列直方图的桶数，0表示不收集直方图 */
+    public static final String PROP_HISTOGRAM_BUCKETS = "nanodb.colstore.stats.histogramBuckets";
+
+    public static final int DEFAULT_HISTOGRAM_BUCKETS = 16;
+
+    /** 精确统计不同值时最多记录的值的个数 */
+    private static final int MAX_TRACKED_VALUES = 64 * 1024;
+
+    /** 构造直方图时最多抽取的行数 */
+    private static final int HISTOGRAM_SAMPLE_ROWS = 16 * 1024;
+
+    private StorageManager storageManager;
+
+    private TableFileInfo tblFileInfo;
+
+    private DeltaStore deltaStore;
+
+    private final int numBuckets;
+
+
+    /**
+     * @param tblFileInfo 列式存储的表
+     * @param deltaStore 表的delta和删除位图
+     */
+    public ColStoreStatsCollector(TableFileInfo tblFileInfo, DeltaStore deltaStore) {
+        this.storageManager = StorageManager.getInstance();
+        this.tblFileInfo = tblFileInfo;
+        this.deltaStore = deltaStore;
+        numBuckets = Math.min(CSHeaderPage.MAX_HISTOGRAM_BOUNDS - 1,
+            Math.max(0, PropertiesUtil.getInt(PROP_HISTOGRAM_BUCKETS, DEFAULT_HISTOGRAM_BUCKETS)));
+    }
+
+
+    /**
+     * 读取表的全部数据，计算统计信息
+     *
+     * @return 表的统计信息，数据页面数包括各列的页面和delta的页面
+     * @throws IOException 读取文件出错
+     */
+    public TableStats collect() throws IOException {
+        TableSchema schema = tblFileInfo.getSchema();
+        int numColumns = schema.numColumns();
+
+        // 行数事先可以算出(不减去删除的行)，用来确定抽样的间隔
+        long numRows = (long) deltaStore.getNumBaseRows() + deltaStore.getNumDeltaRows();
+        int stride = (int) Math.max(1, (numRows + HISTOGRAM_SAMPLE_ROWS - 1) / HISTOGRAM_SAMPLE_ROWS);
+
+        ColumnCollector[] collectors = new ColumnCollector[numColumns];
+        for (int i = 0; i < numColumns; i++)
+            collectors[i] = new ColumnCollector(schema.getColumnInfo(i).getType(), stride);
+
+        // 各列的行组是对齐的，每个行组的删除位图只读一次
+        BlockColumnStoreReader reader = new BlockColumnStoreReader();
+        List<BitSet> deletedRows = new ArrayList<BitSet>();
+        for (ColumnChunk chunk : reader.getColumnChunks(tblFileInfo, 0))
+            deletedRows.add(deltaStore.getDeletedRows(chunk.getFirstRow(), chunk.getNumRows()));
+
+        int numDataPages = 0;
+        for (int column = 0; column < numColumns; column++) {
+            List<ColumnChunk> chunks = reader.getColumnChunks(tblFileInfo, column);
+            for (int rowGroup = 0; rowGroup < chunks.size(); rowGroup++) {
+                numDataPages += chunks.get(rowGroup).getNumPages();
+                addColumnChunk(reader, column, rowGroup, deletedRows.get(rowGroup),
+                    collectors[column]);
+            }
+        }
+
+        TableFileInfo deltaFileInfo = deltaStore.getDeltaFileInfo();
+        if (deltaFileInfo != null) {
+            // delta的第0页是heap file的头页面
+            numDataPages += deltaFileInfo.getDBFile().getNumPages() - 1;
+            for (Tuple tup = deltaStore.getFirstTuple(); tup != null;
+                 tup = deltaStore.getNextTuple(tup)) {
+                for (int i = 0; i < numColumns; i++)
+                    collectors[i].addRun(tup.getColumnValue(i), 1);
+            }
+        }
+
+        int numTuples = (int) collectors[0].numValues;
+        float avgTupleSize = 0;
+        ArrayList<ColumnStats> colStats = new ArrayList<ColumnStats>(numColumns);
+        for (ColumnCollector collector : collectors) {
+            colStats.add(collector.getColumnStats(numBuckets));
+            if (numTuples > 0)
+                avgTupleSize += (float) collector.valueBytes / numTuples;
+        }
+        if (numTuples > 0)
+            avgTupleSize += PageTupleUtil.getNullFlagsSize(numColumns);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(String.format("Table %s stats:  %d data pages, %d tuples, " +
+                "average tuple size %.1f bytes", tblFileInfo.getTableName(), numDataPages,
+                numTuples, avgTupleSize));
+            for (int i = 0; i < numColumns; i++) {
+                ColumnStats c = colStats.get(i);
+                logger.debug(String.format("    Column %s:  %d distinct values, min = %s, " +
+                    "max = %s, %s", schema.getColumnInfo(i).getName(), c.getNumUniqueValues(),
+                    c.getMinValue(), c.getMaxValue(),
+                    c.hasHistogram() ? (c.getHistogram().length - 1) + " buckets" : "no histogram"));
+            }
+        }
+        return new TableStats(numDataPages, numTuples, avgTupleSize, colStats);
+    }
+
+
+    /**
+     * 按块读取一个列块，把没有删除的行加入统计
+     */
+    private void addColumnChunk(BlockColumnStoreReader reader, int column, int rowGroup,
+        BitSet deleted, ColumnCollector collector) throws IOException {
+
+        ColumnChunk chunk = reader.getColumnChunks(tblFileInfo, column).get(rowGroup);
+        int row = 0;
+        DBPage dbPage = reader.getFirstDataPage(tblFileInfo, column, rowGroup);
+        while (dbPage != null) {
+            ColStoreBlock block = reader.getFirstBlockInPage(tblFileInfo, dbPage, column);
+            while (block != null) {
+                if (block.isOneValue()) {
+                    // 一个游程中的行一起处理
+                    int size = block.getSize();
+                    int live = size;
+                    if (!deleted.isEmpty())
+                        live -= deleted.get(row, row + size).cardinality();
+                    if (live > 0)
+                        collector.addRun(block.asArray().get(0), live);
+                    row += size;
+                }
+                else {
+                    for (Object value : block.asArray()) {
+                        if (!deleted.get(row))
+                            collector.addRun(value, 1);
+                        row++;
+                    }
+                }
+                block = reader.getNextBlockInPage(tblFileInfo, dbPage, column, block);
+            }
+
+            DBPage nextPage = null;
+            if (dbPage.getPageNo() < chunk.getLastDataPageNo())
+                nextPage = reader.getNextDataPage(tblFileInfo, dbPage, column);
+            storageManager.unpinDBPage(dbPage);
+            dbPage = nextPage;
+        }
+
+        if (row != chunk.getNumRows()) {
+            throw new IOException(String.format("Column %d of %s has %d rows in row group %d, " +
+                "expected %d", column, tblFileInfo.getTableName(), row, rowGroup,
+                chunk.getNumRows()));
+        }
+    }
+
+
+    /**
+     * 一列的统计信息
+     */
+    private static class ColumnCollector {
+
+        private final ColumnType colType;
+
+        /** 每隔多少行抽取一行构造直方图 */
+        private final int stride;
+
+        /** 已经加入的行数 */
+        private long numValues;
+
+        /** 值按行存储时占用的总字节数 */
+        private long valueBytes;
+
+        /** 已经看到的不同值，超过上限后为<tt>null</tt> */
+        private HashSet<Object> distinct = new HashSet<Object>();
+
+        /** 不同值超过上限时已经加入的行数，没有超过时为-1 */
+        private long overflowRows = -1;
+
+        private Comparable minValue;
+
+        private Comparable maxValue;
+
+        /** 抽取的行的值 */
+        private ArrayList<Comparable> sample = new ArrayList<Comparable>();
+
+
+        ColumnCollector(ColumnType colType, int stride) {
+            this.colType = colType;
+            this.stride = stride;
+        }
+
+
+        /**
+         * 加入连续的<tt>count</tt>个相同的值
+         */
+        @SuppressWarnings("unchecked")
+        void addRun(Object value, int count) {
+            Comparable comp = (Comparable) value;
+
+            // [numValues, numValues + count)中行号是stride的倍数的行被抽取
+            long start = numValues;
+            long end = start + count;
+            for (long n = (end + stride - 1) / stride - (start + stride - 1) / stride; n > 0; n--)
+                sample.add(comp);
+            numValues = end;
+
+            int dataLength = (value instanceof String) ? ((String) value).length() : 0;
+            valueBytes += (long) PageTupleUtil.getStorageSize(colType, dataLength) * count;
+
+            if (overflowRows < 0 && distinct.add(value) && distinct.size() > MAX_TRACKED_VALUES) {
+                overflowRows = numValues;
+                distinct = null;
+            }
+
+            if (minValue == null || comp.compareTo(minValue) < 0)
+                minValue = comp;
+            if (maxValue == null || comp.compareTo(maxValue) > 0)
+                maxValue = comp;
+        }
+
+
+        @SuppressWarnings("unchecked")
+        ColumnStats getColumnStats(int numBuckets) {
+            if (numValues == 0)
+                return new ColumnStats(0, 0, null, null);
+
+            int numUnique;
+            if (overflowRows < 0) {
+                numUnique = distinct.size();
+            }
+            else {
+                // 之后的行中新出现的值按之前的比例估计
+                numUnique = (int) Math.min(numValues,
+                    Math.round((double) (MAX_TRACKED_VALUES + 1) * numValues / overflowRows));
+            }
+
+            // 列式存储的表中不能有NULL
+            ColumnStats stats = new ColumnStats(numUnique, 0, minValue, maxValue);
+            if (numBuckets > 0 && numUnique > 1) {
+                Collections.sort(sample);
+                Object[] histogram = new Object[numBuckets + 1];
+                histogram[0] = minValue;
+                histogram[numBuckets] = maxValue;
+                for (int i = 1; i < numBuckets; i++)
+                    histogram[i] = sample.get((int) ((long) i * sample.size() / numBuckets));
+                stats.setHistogram(histogram);
+            }
+            return stats;
+        }
+    }
+}
@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.qeval.TableStats;
 import com.bow.maple.relations.TableSchema;
 import com.bow.maple.relations.Tuple;
 import org.apache.log4j.Logger;
@@ -19,7 +21,6 @@ import com.bow.maple.storage.BlockedTableReader;
 import com.bow.maple.storage.DBFile;
 import com.bow.maple.storage.DBFileType;
 import com.bow.maple.storage.DBPage;
-import com.bow.maple.storage.FileAnalyzer;
 import com.bow.maple.storage.FilePointer;
 import com.bow.maple.storage.InvalidFilePointerException;
 import com.bow.maple.storage.PageReader;
@@ -27,11 +28,13 @@ import com.bow.maple.storage.PageWriter;
 import com.bow.maple.storage.StorageManager;
 import com.bow.maple.storage.TableFileInfo;
 import com.bow.maple.storage.TableManager;
+import com.bow.maple.storage.heapfile.HeapFileTableManager;
 
 
 /**
- * This class manages heap files that use the slotted page format for storing
- * variable-size tuples.
+ * This class manages column-store tables.  Each column is stored in its own
+ * file; rows added after loading go to a {@link DeltaStore}, and deleted rows
+ * of the loaded data are marked in its delete bitmap.
  */
 public class ColStoreTableManager implements TableManager {
 
@@ -44,6 +47,12 @@ public class ColStoreTableManager implements TableManager {
      * to the singleton instance of the storage manager at initialization.
      */
     private StorageManager storageManager;
+
+    /** delta中的行存放在heap file中 */
+    private HeapFileTableManager heapManager;
+
+    /** 已经打开的表的delta，按表名 */
+    private Map<String, DeltaStore> deltaStores = new HashMap<String, DeltaStore>();
     
     /**
      * Initializes the column store table manager.  This class shouldn't be
@@ -59,6 +68,7 @@ public class ColStoreTableManager implements TableManager {
             throw new IllegalArgumentException("storageService cannot be null");
 
         this.storageManager = storageManager;
+        this.heapManager = new HeapFileTableManager(storageManager);
 	}
 
 	@Override
@@ -127,7 +137,15 @@ public class ColStoreTableManager implements TableManager {
         // encoded page size, and the second 2 bytes are the schema size.)
         logger.debug("Column store " + tableName + " schema uses " + schemaSize +
             " bytes of the " + dbFile.getPageSize() + "-byte header page.");
-		
+
+        // 各列文件的目录页，没有导入数据时也可以插入
+        for (int i = 0; i < schema.numColumns(); i++) {
+            DBPage dirPage = storageManager.loadDBPage(tblFileInfo.getDBFile(i + 1), 0);
+            RowGroupPage.initNewPage(dirPage);
+            storageManager.unpinDBPage(dirPage);
+        }
+        tblFileInfo.setStats(new TableStats(schema.numColumns()));
+        openDeltaStore(tblFileInfo);
 	}
 	
 	/**
@@ -312,8 +330,45 @@ public class ColStoreTableManager implements TableManager {
         }
         
         tblFileInfo.setFileType(DBFileType.CS_DATA_FILE);
-		
+
+        // 导入数据或者ANALYZE之后头页面中才有统计信息
+        TableStats stats = CSHeaderPage.getTableStats(dbPage, tblFileInfo);
+        if (stats == null)
+            stats = new TableStats(schema.numColumns());
+        tblFileInfo.setStats(stats);
+        logger.debug(stats);
+        storageManager.unpinDBPage(dbPage);
+
+        // delta文件在这里加入表的文件，关闭和删除表时一起处理
+        openDeltaStore(tblFileInfo);
 	}
+
+
+    private void openDeltaStore(TableFileInfo tblFileInfo) throws IOException {
+        DeltaStore deltaStore = new DeltaStore(storageManager, heapManager, tblFileInfo);
+        deltaStore.open();
+        synchronized (deltaStores) {
+            deltaStores.put(tblFileInfo.getTableName(), deltaStore);
+        }
+    }
+
+
+    /**
+     * 返回表的delta和删除位图
+     *
+     * @param tblFileInfo 已经打开的列式存储的表
+     * @return 表的delta
+     */
+    public DeltaStore getDeltaStore(TableFileInfo tblFileInfo) {
+        synchronized (deltaStores) {
+            DeltaStore deltaStore = deltaStores.get(tblFileInfo.getTableName());
+            if (deltaStore == null) {
+                throw new IllegalStateException("Table " + tblFileInfo.getTableName() +
+                    " is not open");
+            }
+            return deltaStore;
+        }
+    }
 	
 	/**
      * This helper function writes a primary key or candidate key to the table's
@@ -394,9 +449,18 @@ public class ColStoreTableManager implements TableManager {
         return fk;
     }
 
+	@Override
+	public void saveTableInfo(TableFileInfo tblFileInfo) throws IOException {
+		// 列式存储的表不支持索引，schema创建后不会改变
+		throw new UnsupportedOperationException(
+			"Column-store tables don't support altering the schema");
+	}
+
 	@Override
 	public void beforeCloseTable(TableFileInfo tblFileInfo) throws IOException {
-		// Do nothing
+		synchronized (deltaStores) {
+			deltaStores.remove(tblFileInfo.getTableName());
+		}
 	}
 
 	@Override
@@ -404,46 +468,168 @@ public class ColStoreTableManager implements TableManager {
 		// Do nothing
 	}
 
+	/**
+	 * 先返回delta中的行，再按行号的顺序返回基本数据中没有删除的行。更新基本
+	 * 数据中的行会把新的值插入delta，delta已经扫描过，新的行不会被再次返回。
+	 */
 	@Override
 	public Tuple getFirstTuple(TableFileInfo tblFileInfo) throws IOException {
-		// Would have liked to throw an exception, but the interface doesn't 
-		// support it...
-		return null;
+		DeltaStore deltaStore = getDeltaStore(tblFileInfo);
+		Tuple tup = deltaStore.getFirstTuple();
+		if (tup == null)
+			tup = new BaseRowScanner(tblFileInfo, deltaStore).next();
+		return tup;
 	}
 
 	@Override
 	public Tuple getNextTuple(TableFileInfo tblFileInfo, Tuple tup)
 			throws IOException {
-		return null;
+		if (tup instanceof CSBaseTuple)
+			return ((CSBaseTuple) tup).getScanner().next();
+
+		DeltaStore deltaStore = getDeltaStore(tblFileInfo);
+		Tuple next = deltaStore.getNextTuple(tup);
+		if (next == null)
+			next = new BaseRowScanner(tblFileInfo, deltaStore).next();
+		return next;
 	}
 
+	/** 只有delta中的行有文件指针 */
 	@Override
 	public Tuple getTuple(TableFileInfo tblFileInfo, FilePointer fptr)
 			throws InvalidFilePointerException, IOException {
-		return null;
+		TableFileInfo deltaFileInfo = getDeltaStore(tblFileInfo).getDeltaFileInfo();
+		if (deltaFileInfo == null) {
+			throw new InvalidFilePointerException("Table " + tblFileInfo.getTableName() +
+				" has no delta rows");
+		}
+		return heapManager.getTuple(deltaFileInfo, fptr);
 	}
 
+	/**
+	 * 新的行插入delta。delta中的行数已经达到{@link DeltaStore#PROP_MOVE_ROWS}时，
+	 * 先由{@link #moveTuples}把它们转换成列块。
+	 */
 	@Override
 	public Tuple addTuple(TableFileInfo tblFileInfo, Tuple tup)
 			throws IOException {
-		return null;
+		checkValues(tblFileInfo, tup);
+
+		DeltaStore deltaStore = getDeltaStore(tblFileInfo);
+		if (deltaStore.getNumDeltaRows() >= DeltaStore.getMoveRows())
+			moveTuples(tblFileInfo);
+		return deltaStore.addTuple(tup);
 	}
 
+	/**
+	 * delta中的行直接修改；基本数据中的行在删除位图中标记，新的值插入delta
+	 */
 	@Override
 	public void updateTuple(TableFileInfo tblFileInfo, Tuple tup,
 			Map<String, Object> newValues) throws IOException {
-		return;
+		DeltaStore deltaStore = getDeltaStore(tblFileInfo);
+		if (!(tup instanceof CSBaseTuple)) {
+			for (Map.Entry<String, Object> entry : newValues.entrySet()) {
+				if (entry.getValue() == null) {
+					throw new IllegalArgumentException("Column-store tables cannot store NULL in " +
+						entry.getKey());
+				}
+			}
+			deltaStore.updateTuple(tup, newValues);
+			return;
+		}
+
+		TableSchema schema = tblFileInfo.getSchema();
+		LiteralTuple newTuple = new LiteralTuple(tup);
+		for (Map.Entry<String, Object> entry : newValues.entrySet())
+			newTuple.setColumnValue(schema.getColumnIndex(entry.getKey()), entry.getValue());
+		checkValues(tblFileInfo, newTuple);
+
+		deltaStore.markDeleted(((CSBaseTuple) tup).getRowId());
+		deltaStore.addTuple(newTuple);
 	}
 
 	@Override
 	public void deleteTuple(TableFileInfo tblFileInfo, Tuple tup)
 			throws IOException {
-		
+		DeltaStore deltaStore = getDeltaStore(tblFileInfo);
+		if (tup instanceof CSBaseTuple)
+			deltaStore.markDeleted(((CSBaseTuple) tup).getRowId());
+		else
+			deltaStore.deleteTuple(tup);
+	}
+
+	/** 列式存储的表中不能有NULL */
+	private void checkValues(TableFileInfo tblFileInfo, Tuple tup) {
+		TableSchema schema = tblFileInfo.getSchema();
+		if (tup.getColumnCount() != schema.numColumns()) {
+			throw new IllegalArgumentException(String.format(
+				"Tuple has %d values, but table %s has %d columns", tup.getColumnCount(),
+				tblFileInfo.getTableName(), schema.numColumns()));
+		}
+		for (int i = 0; i < schema.numColumns(); i++) {
+			if (tup.isNullValue(i)) {
+				throw new IllegalArgumentException("Column-store tables cannot store NULL in " +
+					schema.getColumnInfo(i).getName());
+			}
+		}
+	}
+
+	/**
+	 * tuple mover：把delta中的行按导入时的规则编码成新的行组，追加到各个列
+	 * 文件的末尾，再清空delta。追加的行在基本数据中的行号接在原有的行之后，
+	 * 删除位图不受影响。
+	 *
+	 * @param tblFileInfo 列式存储的表
+	 * @return 转换的行数
+	 * @throws IOException 读写文件出错
+	 */
+	public int moveTuples(TableFileInfo tblFileInfo) throws IOException {
+		DeltaStore deltaStore = getDeltaStore(tblFileInfo);
+		if (deltaStore.getNumDeltaRows() == 0)
+			return 0;
+
+		ColStoreLoader loader = new ColStoreLoader(tblFileInfo.getSchema().getColumnInfos());
+		for (Tuple tup = deltaStore.getFirstTuple(); tup != null;
+			 tup = deltaStore.getNextTuple(tup)) {
+			loader.addRow(tup);
+		}
+		loader.finish();
+
+		try {
+			loader.append(tblFileInfo);
+		}
+		catch (InterruptedException e) {
+			throw new IOException("Interrupted while writing delta rows of " +
+				tblFileInfo.getTableName(), e);
+		}
+
+		// 列块的页面没有记录到WAL，清空delta的修改却会记录；崩溃后delta已经清空
+		// 而列块还没有写到磁盘的话，这些行就丢失了。所以先把各列文件(包括第0页
+		// 的行组目录)写回磁盘，再清空delta。
+		int numColumns = tblFileInfo.getSchema().numColumns();
+		for (int i = 0; i < numColumns; i++)
+			storageManager.syncDBFile(tblFileInfo.getDBFile(i + 1));
+		deltaStore.moved(loader.getNumRows());
+
+		logger.debug(String.format("Moved %d delta rows of %s into column storage",
+			loader.getNumRows(), tblFileInfo.getTableName()));
+		return loader.getNumRows();
 	}
 
+	/**
+	 * 由{@link ColStoreStatsCollector}从各列的编码数据计算统计信息，保存在表的
+	 * 头页面中。导入数据后会自动调用。
+	 */
 	@Override
 	public void analyzeTable(TableFileInfo tblFileInfo) throws IOException {
-		// TODO This would be interesting...
+		DeltaStore deltaStore = getDeltaStore(tblFileInfo);
+		tblFileInfo.setStats(new ColStoreStatsCollector(tblFileInfo, deltaStore).collect());
+
+		DBPage headerPage = storageManager.loadDBPage(tblFileInfo.getDBFile(), 0);
+		CSHeaderPage.setTableStats(headerPage, tblFileInfo);
+		storageManager.logDBPageWrite(headerPage);
+		storageManager.unpinDBPage(headerPage);
 	}
 
 	@Override
@@ -451,23 +637,22 @@ public class ColStoreTableManager implements TableManager {
 		return null;
 	}
 
-    public void writeTable(FileAnalyzer analyzer, TableFileInfo tblFileInfo) throws IOException, InterruptedException {
-        for (int i = 0; i < tblFileInfo.getSchema().numColumns(); i++) {
-            // Get the column's DBFile and ColInfo
-            DBFile dbFile = tblFileInfo.getDBFile(i + 1);
-            ColumnInfo colInfo = tblFileInfo.getSchema().getColumnInfo(i);
-            switch (analyzer.getEncoding(i)) {
-            case RLE:
-                writeRLE(dbFile, analyzer, i, colInfo);
-                break;
-            case DICTIONARY:
-                writeDictionary(dbFile, analyzer, i, colInfo);
-                break;
-            case NONE:
-                writeUncompressed(dbFile, analyzer, i, colInfo);
-                break;
-            }
-        }
+    /**
+     * 把{@link ColStoreLoader}读入的数据写到表的各个列文件中
+     *
+     * @param loader 已经读取了输入文件的loader
+     * @param tblFileInfo 列式存储的表
+     * @throws IOException 写入出错
+     * @throws InterruptedException 等待写入线程时被中断
+     */
+    public void writeTable(ColStoreLoader loader, TableFileInfo tblFileInfo)
+        throws IOException, InterruptedException {
+        loader.write(tblFileInfo);
+        getDeltaStore(tblFileInfo).reloaded(loader.getNumRows());
+        logger.debug("Loaded " + loader.getNumRows() + " rows into " + tblFileInfo.getTableName());
+
+        // 刚写入的页面还在缓冲区中，这时计算统计信息的代价很小
+        analyzeTable(tblFileInfo);
     }
 	
 	public void printTable(TableFileInfo tblFileInfo) throws IOException {
@@ -492,155 +677,4 @@ public class ColStoreTableManager implements TableManager {
 			}
 		}
 	}
-	
-	/** Write the dictionary encoded data to disk. */
-	private void writeDictionary(DBFile file, FileAnalyzer analyzer, int index,
-			ColumnInfo info) throws IOException {
-		
-		DBPage dbPage = storageManager.loadDBPage(file, 0);
-		DictionaryPage.initNewPage(dbPage);
-		
-		dbPage = storageManager.loadDBPage(file, 1, true);
-		DictionaryPage.initNewPage(dbPage);
-		
-		HashMap<String, Integer> dict = new HashMap<String, Integer>();
-		
-		int distincts = analyzer.getCounts(index) + 1;
-		int bitsize = (int) Math.ceil(Math.log(distincts)/Math.log(2));
-		
-		int blockNum = (int) Math.floor(16.0 / bitsize);
-		
-		int val = 1;
-		int currentBlock = 0;
-		int blockIndex = 0;
-		
-		String object = analyzer.getNextObject(index);
-		
-		while (object != null) {
-			if (!dict.containsKey(object)) {
-				dict.put(object, val);
-				val++;
-			}
-			
-			int bitrep = dict.get(object);
-			
-			currentBlock = currentBlock | (bitrep << (blockIndex * bitsize));
-			
-			blockIndex++;
-			if (blockIndex == blockNum) {
-
-				if (DictionaryPage.writeBlock(dbPage, currentBlock, blockIndex)) {
-					logger.debug("Written to file!");
-				}
-				else
-				{
-					dbPage = storageManager.loadDBPage(file, dbPage.getPageNo() + 1, true);
-					DictionaryPage.initNewPage(dbPage);
-					DictionaryPage.writeBlock(dbPage, currentBlock, blockIndex);
-					logger.debug("New page loaded!");
-				}
-				
-				blockIndex = 0;
-				currentBlock = 0;
-			}
-			
-			object = analyzer.getNextObject(index);
-		}
-		
-		if (DictionaryPage.writeBlock(dbPage, currentBlock, blockIndex)) {
-		    logger.debug("Written to file!");
-		}
-		else
-		{
-			dbPage = storageManager.loadDBPage(file, dbPage.getPageNo() + 1, true);
-			DictionaryPage.initNewPage(dbPage);
-			DictionaryPage.writeBlock(dbPage, currentBlock, blockIndex);
-			logger.debug("New page loaded!");
-		}
-		blockIndex = 0;
-		currentBlock = 0;
-		
-		dbPage = storageManager.loadDBPage(file, 0);
-		
-		logger.debug(dict);
-		
-		DictionaryPage.writeDictionary(dbPage, dict, bitsize, blockNum, info);
-	}
-
-    /**
-     * 将数据通过非压缩方式写入到文件中
-     * @param file 数据文件
-     * @param analyzer 数据内容
-     * @param index 数据偏移量 like rowId
-     * @param info 列信息
-     * @throws IOException e
-     * @throws InterruptedException e
-     */
-    private void writeUncompressed(DBFile file, FileAnalyzer analyzer, int index, ColumnInfo info)
-            throws IOException, InterruptedException {
-
-        DBPage dbPage = storageManager.loadDBPage(file, 0);
-        UncompressedPage.initNewPage(dbPage);
-
-        int rowId = 0;
-        String object = analyzer.getNextObject(index);
-        while (object != null) {
-            if (UncompressedPage.writeBlock(dbPage, object, rowId, info.getType())) {
-                logger.debug("Written to file: " + object);
-            } else {
-                // 当前页空间不够时
-                dbPage = storageManager.loadDBPage(file, dbPage.getPageNo() + 1, true);
-                UncompressedPage.initNewPage(dbPage);
-                UncompressedPage.writeBlock(dbPage, object, rowId, info.getType());
-                logger.debug("New page loaded!");
-            }
-
-            rowId++;
-            object = analyzer.getNextObject(index);
-        }
-
-    }
-
-	/** Write the RLE data to disk. */
-	private void writeRLE(DBFile file, FileAnalyzer analyzer, int index, 
-			ColumnInfo info) throws IOException, InterruptedException {
-		
-		DBPage dbPage = storageManager.loadDBPage(file, 0);
-		RLEPage.initNewPage(dbPage);
-		
-		int position = 0;
-		// Start creating RLE block
-		
-		String object = analyzer.getNextObject(index);
-		
-		while (object != null) {
-			int start = position;
-			int count = 1;
-			
-			String compare = analyzer.getNextObject(index);
-			
-			while (compare != null && compare.equals(object)) {
-				count++;
-				position++;
-				compare = analyzer.getNextObject(index);
-			}
-			
-			logger.debug("Run: (" + object + ", " + start + ", " + count + ")");
-			
-			if (RLEPage.writeBlock(dbPage, object, start, count, info.getType())) {
-				logger.debug("Written to file!");
-			}
-			else
-			{
-				dbPage = storageManager.loadDBPage(file, dbPage.getPageNo() + 1, true);
-				RLEPage.initNewPage(dbPage);
-				RLEPage.writeBlock(dbPage, object, start, count, info.getType());
-				logger.debug("New page loaded!");
-			}
-			
-			analyzer.reset(index);
-			position++;
-			object = analyzer.getNextObject(index);
-		}
-	}
 }
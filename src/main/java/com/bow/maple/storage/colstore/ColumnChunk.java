@@ -0,0 +1,145 @@
+package com.bow.maple.storage.colstore;
+
+
+import com.bow.maple.expressions.CompareOperator;
+import com.bow.maple.expressions.TupleComparator;
+import com.bow.maple.storage.FileEncoding;
+
+
+/**
+ * 一个行组(row group)在某一列中的数据，即列文件中连续的若干个页面。各列的
+ * 行组按相同的行数划分，同一个行组在各列中覆盖相同的行，因此可以按行组对齐
+ * 地重建元组，或者跳过整个行组。每个列块有自己的编码；字典编码的列块的第一个
+ * 页面存放它自己的字典，数据从下一个页面开始。
+ * <p>
+ * 列块还记录了其中的最小值和最大值(zone map)，扫描时可以据此跳过谓词不可能
+ * 满足的整个行组。列式存储的表中没有<tt>NULL</tt>，因此不记录<tt>NULL</tt>的
+ * 个数。
+ */
+public class ColumnChunk {
+
+    /** 列块中第一行的行号，从0开始 */
+    private final int firstRow;
+
+    /** 列块中的行数 */
+    private final int numRows;
+
+    /** 列块的第一个页面，字典编码时是字典页面 */
+    private final int firstPageNo;
+
+    /** 列块占用的页面数，包括字典页面 */
+    private final int numPages;
+
+    private final FileEncoding encoding;
+
+    /** 列块中的最小值，没有记录时为<tt>null</tt> */
+    private final Object minValue;
+
+    /** 列块中的最大值，没有记录时为<tt>null</tt> */
+    private final Object maxValue;
+
+
+    public ColumnChunk(int firstRow, int numRows, int firstPageNo, int numPages,
+        FileEncoding encoding, Object minValue, Object maxValue) {
+        this.firstRow = firstRow;
+        this.numRows = numRows;
+        this.firstPageNo = firstPageNo;
+        this.numPages = numPages;
+        this.encoding = encoding;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+    }
+
+
+    public int getFirstRow() {
+        return firstRow;
+    }
+
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+
+    public int getFirstPageNo() {
+        return firstPageNo;
+    }
+
+
+    public int getNumPages() {
+        return numPages;
+    }
+
+
+    public FileEncoding getEncoding() {
+        return encoding;
+    }
+
+
+    public Object getMinValue() {
+        return minValue;
+    }
+
+
+    public Object getMaxValue() {
+        return maxValue;
+    }
+
+
+    /** 是否记录了最小值和最大值 */
+    public boolean hasZoneMap() {
+        return minValue != null && maxValue != null;
+    }
+
+
+    /**
+     * 根据最小值和最大值判断列块中是否可能有满足<tt>列 op value</tt>的值
+     *
+     * @param type 比较运算，列在左边
+     * @param value 与列比较的常量，类型与列一致
+     * @return 可能有满足条件的值时返回true，一定没有时返回false
+     */
+    public boolean mayMatch(CompareOperator.Type type, Object value) {
+        if (!hasZoneMap() || value == null)
+            return true;
+
+        int cmpMin = TupleComparator.compareValues(minValue, value);
+        int cmpMax = TupleComparator.compareValues(maxValue, value);
+        switch (type) {
+            case EQUALS:
+                return cmpMin <= 0 && cmpMax >= 0;
+            case NOT_EQUALS:
+                return !(cmpMin == 0 && cmpMax == 0);
+            case LESS_THAN:
+                return cmpMin < 0;
+            case LESS_OR_EQUAL:
+                return cmpMin <= 0;
+            case GREATER_THAN:
+                return cmpMax > 0;
+            case GREATER_OR_EQUAL:
+                return cmpMax >= 0;
+            default:
+                return true;
+        }
+    }
+
+
+    /** 返回第一个数据页面的页号，字典编码时跳过字典页面 */
+    public int getFirstDataPageNo() {
+        return (encoding == FileEncoding.DICTIONARY) ? firstPageNo + 1 : firstPageNo;
+    }
+
+
+    /** 返回最后一个数据页面的页号 */
+    public int getLastDataPageNo() {
+        return firstPageNo + numPages - 1;
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("ColumnChunk[rows %d-%d, pages %d-%d, %s, min %s, max %s]",
+            firstRow, firstRow + numRows - 1, firstPageNo, getLastDataPageNo(), encoding,
+            minValue, maxValue);
+    }
+}
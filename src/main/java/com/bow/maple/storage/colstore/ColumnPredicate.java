@@ -0,0 +1,301 @@
+package com.bow.maple.storage.colstore;
+
+
+import java.io.IOException;
+import java.util.BitSet;
+
+import com.bow.maple.expressions.CompareOperator;
+import com.bow.maple.expressions.TupleComparator;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileEncoding;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+
+
+/**
+ * <p>
+ * 列式存储表中一列与常量的比较<tt>列 op 常量</tt>，直接在编码后的页面上求值，
+ * 结果是一个行组中各行是否满足条件的位图，不构造{@link ColStoreBlock}和
+ * 元组：
+ * </p>
+ * <ul>
+ *   <li>RLE：每个重复段只比较一次，满足时在位图中设置整段</li>
+ *   <li>字典编码：先用常量与字典中的每个值比较一次，得到每个编码是否满足
+ *       条件，之后只需要按编码查表，不解码成值</li>
+ *   <li>不压缩：逐个读出值比较</li>
+ *   <li>位压缩和差分编码：整页解码成<tt>long</tt>，常量是整数时直接比较原始
+ *       类型的值，不装箱</li>
+ *   <li>块压缩：整页解压后逐个比较</li>
+ * </ul>
+ */
+public class ColumnPredicate {
+
+    /** 列在表中的序号 */
+    private final int column;
+
+    /** 比较运算，列在左边 */
+    private final CompareOperator.Type type;
+
+    /** 与列比较的常量，类型与列一致 */
+    private final Object value;
+
+    /** 常量是整数时为true，与位压缩和差分编码的值直接比较{@link #longValue} */
+    private final boolean integral;
+
+    private final long longValue;
+
+
+    public ColumnPredicate(int column, CompareOperator.Type type, Object value) {
+        if (value == null)
+            throw new IllegalArgumentException("value cannot be null");
+
+        this.column = column;
+        this.type = type;
+        this.value = value;
+
+        integral = value instanceof Long || value instanceof Integer ||
+            value instanceof Short || value instanceof Byte;
+        longValue = integral ? ((Number) value).longValue() : 0;
+    }
+
+
+    public int getColumn() {
+        return column;
+    }
+
+
+    /**
+     * 根据列块的最小值和最大值判断其中是否可能有满足条件的值
+     */
+    public boolean mayMatch(ColumnChunk chunk) {
+        return chunk.mayMatch(type, value);
+    }
+
+
+    /**
+     * 判断一个值是否满足条件，与{@link CompareOperator}的语义相同
+     */
+    public boolean matches(Object colValue) {
+        if (colValue == null)
+            return false;
+
+        int cmp = TupleComparator.compareValues(colValue, value);
+        switch (type) {
+            case EQUALS:
+                return cmp == 0;
+            case NOT_EQUALS:
+                return cmp != 0;
+            case LESS_THAN:
+                return cmp < 0;
+            case LESS_OR_EQUAL:
+                return cmp <= 0;
+            case GREATER_THAN:
+                return cmp > 0;
+            case GREATER_OR_EQUAL:
+                return cmp >= 0;
+            default:
+                throw new IllegalStateException("Unrecognized comparison type " + type);
+        }
+    }
+
+
+    /**
+     * 判断一个整数值是否满足条件，常量不是整数时按{@link #matches(Object)}比较
+     */
+    public boolean matches(long colValue) {
+        if (!integral)
+            return matches(Long.valueOf(colValue));
+
+        int cmp = Long.compare(colValue, longValue);
+        switch (type) {
+            case EQUALS:
+                return cmp == 0;
+            case NOT_EQUALS:
+                return cmp != 0;
+            case LESS_THAN:
+                return cmp < 0;
+            case LESS_OR_EQUAL:
+                return cmp <= 0;
+            case GREATER_THAN:
+                return cmp > 0;
+            case GREATER_OR_EQUAL:
+                return cmp >= 0;
+            default:
+                throw new IllegalStateException("Unrecognized comparison type " + type);
+        }
+    }
+
+
+    /**
+     * 在一个列块上求值
+     *
+     * @param tblFileInfo 列式存储的表
+     * @param chunk 这一列中的列块
+     * @param matches 存放结果的位图，第<tt>i</tt>位对应列块中的第<tt>i</tt>行，
+     *        调用前应当清空
+     * @throws IOException 读取列文件出错
+     */
+    public void evaluate(TableFileInfo tblFileInfo, ColumnChunk chunk, BitSet matches)
+        throws IOException {
+
+        StorageManager storageManager = StorageManager.getInstance();
+        DBFile dbFile = tblFileInfo.getDBFile(column + 1);
+        ColumnInfo colInfo = tblFileInfo.getSchema().getColumnInfo(column);
+        ColumnType colType = colInfo.getType();
+
+        // 字典编码时把常量转换成编码的集合
+        boolean[] matchingCodes = null;
+        int bitsize = 0;
+        int blockNum = 0;
+        if (chunk.getEncoding() == FileEncoding.DICTIONARY) {
+            DBPage dictPage = storageManager.loadDBPage(dbFile, chunk.getFirstPageNo());
+            bitsize = DictionaryPage.getBitSize(dictPage);
+            blockNum = DictionaryPage.getBlockNum(dictPage);
+            Object[] dict = DictionaryPage.readDictionary(dictPage, colInfo);
+            storageManager.unpinDBPage(dictPage);
+
+            matchingCodes = new boolean[dict.length];
+            boolean any = false;
+            for (int code = 1; code < dict.length; code++) {
+                matchingCodes[code] = matches(dict[code]);
+                any |= matchingCodes[code];
+            }
+
+            // 没有满足条件的编码时不必读数据页面
+            if (!any)
+                return;
+        }
+
+        // 整页解码的页面使用的数组
+        long[] longs = null;
+        Object[] objects = null;
+        byte[] buffer = null;
+
+        int row = 0;
+        for (int pageNo = chunk.getFirstDataPageNo(); pageNo <= chunk.getLastDataPageNo();
+             pageNo++) {
+            DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo);
+            try {
+                int end = dbPage.readInt(CSDataPage.NEXT_BLOCK_START_OFFSET);
+                switch (chunk.getEncoding()) {
+                    case RLE:
+                        evaluateRLE(dbPage, end, colType, chunk.getFirstRow(), matches);
+                        break;
+
+                    case DICTIONARY:
+                        row = evaluateDictionary(dbPage, end, bitsize, blockNum, matchingCodes,
+                            row, matches);
+                        break;
+
+                    case BITPACK:
+                    case DELTA: {
+                        int count = CSDataPage.getCount(dbPage);
+                        if (longs == null || longs.length < count)
+                            longs = new long[count];
+                        if (chunk.getEncoding() == FileEncoding.BITPACK)
+                            BitPackedPage.decode(dbPage, longs);
+                        else
+                            DeltaPage.decode(dbPage, longs);
+
+                        for (int i = 0; i < count; i++, row++) {
+                            if (matches(longs[i]))
+                                matches.set(row);
+                        }
+                        break;
+                    }
+
+                    case LZ: {
+                        int count = CSDataPage.getCount(dbPage);
+                        if (objects == null || objects.length < count)
+                            objects = new Object[count];
+                        int rawLength = LZPage.getRawLength(dbPage);
+                        if (buffer == null || buffer.length < rawLength)
+                            buffer = new byte[rawLength];
+                        LZPage.decode(dbPage, buffer, objects);
+
+                        for (int i = 0; i < count; i++, row++) {
+                            if (matches(objects[i]))
+                                matches.set(row);
+                        }
+                        break;
+                    }
+
+                    default:
+                        evaluateUncompressed(dbPage, end, colType, chunk.getFirstRow(), matches);
+                }
+            }
+            finally {
+                storageManager.unpinDBPage(dbPage);
+            }
+        }
+    }
+
+
+    /** RLE页面中的每一段：值、起始行号和长度，每段比较一次 */
+    private void evaluateRLE(DBPage dbPage, int end, ColumnType colType, int firstRow,
+        BitSet matches) {
+
+        int offset = RLEPage.FIRST_BLOCK_OFFSET;
+        while (offset < end) {
+            Object colValue = dbPage.readObject(offset, colType);
+            offset += DBPage.getObjectDiskSize(colValue, colType);
+            int start = dbPage.readInt(offset) - firstRow;
+            int length = dbPage.readInt(offset + 4);
+            offset += 8;
+
+            if (matches(colValue))
+                matches.set(start, start + length);
+        }
+    }
+
+
+    /** 不压缩的页面中的每个值：值和行号 */
+    private void evaluateUncompressed(DBPage dbPage, int end, ColumnType colType, int firstRow,
+        BitSet matches) {
+
+        int offset = UncompressedPage.FIRST_BLOCK_OFFSET;
+        while (offset < end) {
+            Object colValue = dbPage.readObject(offset, colType);
+            offset += DBPage.getObjectDiskSize(colValue, colType);
+            int row = dbPage.readInt(offset) - firstRow;
+            offset += 4;
+
+            if (matches(colValue))
+                matches.set(row);
+        }
+    }
+
+
+    /**
+     * 字典编码的页面中每个16位的块存放若干个编码，编码0表示块中没有更多的值
+     *
+     * @return 下一个页面中第一个值在列块中的行号
+     */
+    private static int evaluateDictionary(DBPage dbPage, int end, int bitsize, int blockNum,
+        boolean[] matchingCodes, int row, BitSet matches) {
+
+        int mask = (1 << bitsize) - 1;
+        for (int offset = DictionaryPage.FIRST_BLOCK_OFFSET; offset < end; offset += 2) {
+            int block = dbPage.readUnsignedShort(offset);
+            for (int i = 0; i < blockNum; i++) {
+                int code = (block >> (i * bitsize)) & mask;
+                if (code == 0)
+                    break;
+
+                if (matchingCodes[code])
+                    matches.set(row);
+                row++;
+            }
+        }
+        return row;
+    }
+
+
+    @Override
+    public String toString() {
+        return "#" + column + " " + type.stringRep() + " " + value;
+    }
+}
@@ -0,0 +1,714 @@
+package com.bow.maple.storage.colstore;
+
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.ColumnVector;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileEncoding;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+
+
+/**
+ * <p>
+ * 按行的顺序把列式存储表的一列解码到{@link ColumnVector}中，代替逐个构造
+ * {@link ColStoreBlock}和装箱的值：
+ * </p>
+ * <ul>
+ *   <li>整数和浮点数直接从页面读出，写入向量的<tt>long[]</tt>/<tt>double[]</tt>，
+ *       不装箱</li>
+ *   <li>RLE的每一段只读一次，用{@link Arrays#fill}展开到向量中</li>
+ *   <li>字典编码的列块进入时把字典转换成原始类型的数组，之后按编码查表</li>
+ *   <li>位压缩、差分编码和块压缩的页面在第一次读取其中的值时整页解码到复用
+ *       的数组中，跳过的页面不解码</li>
+ * </ul>
+ * <p>
+ * 读取的位置可以停在页面、RLE段或者字典块的中间，因此向量的容量与页面的
+ * 大小无关，调用者可以一直复用同一个向量。
+ * </p>
+ * <p>
+ * {@link #seek}定位到某个行组中的某一行，只读取满足条件的行时用来跳过其余的
+ * 行。字典编码、位压缩和定长值不压缩的列块中，除最后一页外每页的行数固定，可以直接
+ * 算出行所在的页面和偏移量，跳过的页面不会被读取；其余的列块只读出块的头部，
+ * 不解码值。
+ * </p>
+ */
+public class ColumnVectorReader {
+
+    private StorageManager storageManager;
+
+    private TableFileInfo tblFileInfo;
+
+    /** 列在表中的序号 */
+    private int column;
+
+    private DBFile dbFile;
+
+    private ColumnType colType;
+
+    private ColumnVector.VectorType vectorType;
+
+    /** 各个行组在这一列中的列块 */
+    private List<ColumnChunk> chunks;
+
+    /** 当前的行组，还没有开始时为-1 */
+    private int rowGroup;
+
+    /** 下一个要读出的行在当前行组中的位置 */
+    private int rowInChunk;
+
+    /** 值的存储大小，变长的类型为-1 */
+    private int fixedSize;
+
+    /** 当前的数据页面，还没有读入时为<tt>null</tt> */
+    private DBPage dbPage;
+
+    /** 当前列块中下一个要读入的页号 */
+    private int nextPageNo;
+
+    /** 当前页面中下一个块的偏移量 */
+    private int offset;
+
+    /** 当前页面中数据结束的偏移量 */
+    private int endOffset;
+
+    /** 当前RLE段中还没有读出的行数 */
+    private int runRemaining;
+
+    private long runLong;
+
+    private double runDouble;
+
+    private Object runObject;
+
+    /** 字典编码的列块的字典，按编码存放，只使用与{@link #vectorType}对应的一个 */
+    private long[] dictLongs;
+
+    private double[] dictDoubles;
+
+    private Object[] dictObjects;
+
+    /** 字典所属的行组 */
+    private int dictRowGroup;
+
+    private int dictBitsize;
+
+    private int dictBlockNum;
+
+    /** 当前列块的编码位数，不是字典编码时为0 */
+    private int bitsize;
+
+    /** 当前列块每个字典块中的编码个数，不是字典编码时为0 */
+    private int blockNum;
+
+    /** 当前字典块中的编码 */
+    private int block;
+
+    /** 当前字典块中下一个编码的位置，不小于{@link #blockNum}时读下一个块 */
+    private int blockPos;
+
+    /** 当前位压缩列块中每个值的位数，进入列块时从第一个数据页面读出 */
+    private int packWidth;
+
+    /**
+     * 整页解码的页面(位压缩、差分编码和块压缩)中的值，整数放在
+     * {@link #pageLongs}中，字符串放在{@link #pageObjects}中
+     */
+    private long[] pageLongs;
+
+    private Object[] pageObjects;
+
+    /** 块压缩的页面解压用的缓冲区 */
+    private byte[] lzBuffer;
+
+    /** 当前整页解码的页面中值的个数，其他编码的页面为0 */
+    private int pageCount;
+
+    /** 当前整页解码的页面中下一个值的位置 */
+    private int pagePos;
+
+    /** 当前页面是否已经解码 */
+    private boolean pageDecoded;
+
+    /** 是否已经读完所有的行组 */
+    private boolean done;
+
+
+    /**
+     * @param tblFileInfo 列式存储的表
+     * @param column 列的序号
+     */
+    public ColumnVectorReader(TableFileInfo tblFileInfo, int column) {
+        this.storageManager = StorageManager.getInstance();
+        this.tblFileInfo = tblFileInfo;
+        this.column = column;
+        this.dbFile = tblFileInfo.getDBFile(column + 1);
+        this.colType = tblFileInfo.getSchema().getColumnInfo(column).getType();
+        this.vectorType = ColumnVector.getVectorType(colType.getBaseType());
+        this.fixedSize = getFixedSize(colType);
+        rowGroup = -1;
+        dictRowGroup = -1;
+    }
+
+
+    /**
+     * 定位到某个行组中的一行，之后的{@link #read}从这一行开始读。向后定位时
+     * 跳过中间的行，向前定位时从行组的开头重新开始。
+     *
+     * @param group 行组的序号
+     * @param row 行在行组中的位置
+     * @throws IOException 读取列文件出错
+     */
+    public void seek(int group, int row) throws IOException {
+        if (group != rowGroup || row < rowInChunk || done) {
+            if (!startChunk(group))
+                throw new IllegalArgumentException("No row group " + group + " in column " + column);
+        }
+        skip(row - rowInChunk);
+    }
+
+
+    /**
+     * 读出接下来的若干行，写入向量中从<tt>start</tt>开始的位置
+     *
+     * @param vector 存放结果的向量，类型与列一致
+     * @param start 向量中的起始位置
+     * @param count 最多读出的行数
+     * @return 读出的行数，只有没有更多的行时才小于<tt>count</tt>
+     * @throws IOException 读取列文件出错
+     */
+    public int read(ColumnVector vector, int start, int count) throws IOException {
+        int row = start;
+        int end = start + count;
+
+        while (row < end) {
+            int before = row;
+            if (runRemaining > 0) {
+                row += fillRun(vector, row, Math.min(runRemaining, end - row));
+            }
+            else if (blockPos < blockNum) {
+                row = decodeCodes(vector, row, end);
+            }
+            else if (pagePos < pageCount) {
+                row = copyDecoded(vector, row, end);
+            }
+            else if (dbPage != null && offset < endOffset) {
+                row = decodeBlocks(vector, row, end);
+            }
+            else if (!nextPage()) {
+                break;
+            }
+            rowInChunk += row - before;
+        }
+        return row - start;
+    }
+
+
+    /**
+     * 释放当前的页面，不再读取
+     */
+    public void close() {
+        if (dbPage != null) {
+            storageManager.unpinDBPage(dbPage);
+            dbPage = null;
+        }
+        done = true;
+    }
+
+
+    /**
+     * 在当前行组中向后跳过n行
+     */
+    private void skip(int n) throws IOException {
+        while (n > 0) {
+            if (runRemaining > 0) {
+                int k = Math.min(n, runRemaining);
+                runRemaining -= k;
+                rowInChunk += k;
+                n -= k;
+            }
+            else if (blockPos < blockNum) {
+                int k = Math.min(n, blockNum - blockPos);
+                blockPos += k;
+                rowInChunk += k;
+                n -= k;
+            }
+            else if (pagePos < pageCount) {
+                int k = Math.min(n, pageCount - pagePos);
+                pagePos += k;
+                rowInChunk += k;
+                n -= k;
+            }
+            else if (hasFixedLayout()) {
+                positionAt(rowInChunk + n);
+                n = 0;
+            }
+            else if (dbPage != null && offset < endOffset) {
+                if (getCurrentChunk().getEncoding() == FileEncoding.RLE) {
+                    // 段中剩下的行可能会被读出，需要段的值
+                    offset += readRunValue(offset);
+                    runRemaining = dbPage.readInt(offset + 4);
+                    offset += 8;
+                }
+                else {
+                    // 只读出值的长度
+                    offset += getStoredSize(offset) + 4;
+                    rowInChunk++;
+                    n--;
+                }
+            }
+            else if (nextPageNo <= getCurrentChunk().getLastDataPageNo()) {
+                loadPage(nextPageNo);
+            }
+            else {
+                throw new IllegalArgumentException("Row " + (rowInChunk + n) +
+                    " is past the end of row group " + rowGroup);
+            }
+        }
+    }
+
+
+    /**
+     * 字典编码、位压缩和定长值不压缩的列块中，除最后一页外每页的行数相同
+     */
+    private boolean hasFixedLayout() {
+        FileEncoding encoding = getCurrentChunk().getEncoding();
+        return encoding == FileEncoding.DICTIONARY || encoding == FileEncoding.BITPACK ||
+            (encoding == FileEncoding.NONE && fixedSize > 0);
+    }
+
+
+    /**
+     * 位压缩、差分编码和块压缩的页面整页解码，不逐个读出块
+     */
+    private boolean isDecodedByPage() {
+        FileEncoding encoding = getCurrentChunk().getEncoding();
+        return encoding == FileEncoding.BITPACK || encoding == FileEncoding.DELTA ||
+            encoding == FileEncoding.LZ;
+    }
+
+
+    /**
+     * 在每页行数固定的列块中直接定位到一行，只读入这一行所在的页面
+     */
+    private void positionAt(int row) throws IOException {
+        int space = dbFile.getPageSize() - CSDataPage.FIRST_BLOCK_OFFSET;
+        FileEncoding encoding = getCurrentChunk().getEncoding();
+        boolean dictionary = encoding == FileEncoding.DICTIONARY;
+        int rowsPerPage;
+        if (encoding == FileEncoding.BITPACK)
+            rowsPerPage = BitPackedPage.getCapacity(dbFile.getPageSize(), packWidth);
+        else if (dictionary)
+            rowsPerPage = (space / 2) * blockNum;
+        else
+            rowsPerPage = space / (fixedSize + 4);
+
+        int pageNo = getCurrentChunk().getFirstDataPageNo() + row / rowsPerPage;
+        int rowInPage = row % rowsPerPage;
+        if (dbPage == null || dbPage.getPageNo() != pageNo)
+            loadPage(pageNo);
+
+        if (encoding == FileEncoding.BITPACK) {
+            pagePos = rowInPage;
+        }
+        else if (dictionary) {
+            offset = CSDataPage.FIRST_BLOCK_OFFSET + (rowInPage / blockNum) * 2;
+            blockPos = blockNum;
+            if (rowInPage % blockNum > 0) {
+                block = dbPage.readUnsignedShort(offset);
+                offset += 2;
+                blockPos = rowInPage % blockNum;
+            }
+        }
+        else {
+            offset = CSDataPage.FIRST_BLOCK_OFFSET + rowInPage * (fixedSize + 4);
+        }
+        rowInChunk = row;
+    }
+
+
+    /** 页面中某个位置的值占用的字节数 */
+    private int getStoredSize(int position) {
+        if (fixedSize > 0)
+            return fixedSize;
+        return 2 + dbPage.readUnsignedShort(position);
+    }
+
+
+    /** 返回类型的值的存储大小，变长的类型返回-1 */
+    private static int getFixedSize(ColumnType colType) {
+        switch (colType.getBaseType()) {
+            case INTEGER:
+            case FLOAT:
+                return 4;
+
+            case BIGINT:
+            case DOUBLE:
+                return 8;
+
+            case SMALLINT:
+                return 2;
+
+            case TINYINT:
+                return 1;
+
+            case CHAR:
+                return colType.getLength();
+
+            default:
+                return -1;
+        }
+    }
+
+
+    /**
+     * 把当前RLE段中的n行写入向量
+     */
+    private int fillRun(ColumnVector vector, int row, int n) {
+        Arrays.fill(vector.getNulls(), row, row + n, false);
+        switch (vectorType) {
+            case LONG:
+                Arrays.fill(vector.getLongValues(), row, row + n, runLong);
+                break;
+
+            case DOUBLE:
+                Arrays.fill(vector.getDoubleValues(), row, row + n, runDouble);
+                break;
+
+            default:
+                Arrays.fill(vector.getObjectValues(), row, row + n, runObject);
+        }
+        runRemaining -= n;
+        return n;
+    }
+
+
+    /**
+     * 把当前字典块中剩余的编码查表写入向量
+     */
+    private int decodeCodes(ColumnVector vector, int row, int end) {
+        int mask = (1 << bitsize) - 1;
+        while (blockPos < blockNum && row < end) {
+            int code = (block >> (blockPos * bitsize)) & mask;
+            if (code == 0) {
+                // 块中没有更多的值
+                blockPos = blockNum;
+                break;
+            }
+
+            switch (vectorType) {
+                case LONG:
+                    vector.setLong(row, dictLongs[code]);
+                    break;
+
+                case DOUBLE:
+                    vector.setDouble(row, dictDoubles[code]);
+                    break;
+
+                default:
+                    vector.setValue(row, dictObjects[code]);
+            }
+            blockPos++;
+            row++;
+        }
+        return row;
+    }
+
+
+    /**
+     * 把整页解码的页面中剩余的值复制到向量中
+     */
+    private int copyDecoded(ColumnVector vector, int row, int end) {
+        decodePage();
+
+        int n = Math.min(pageCount - pagePos, end - row);
+        Arrays.fill(vector.getNulls(), row, row + n, false);
+        if (vectorType == ColumnVector.VectorType.LONG)
+            System.arraycopy(pageLongs, pagePos, vector.getLongValues(), row, n);
+        else
+            System.arraycopy(pageObjects, pagePos, vector.getObjectValues(), row, n);
+        pagePos += n;
+        return row + n;
+    }
+
+
+    /**
+     * 解码当前页面中的所有值，页面已经解码时不做任何事。位压缩和差分编码只用于
+     * 整数列，块压缩只用于字符串列。
+     */
+    private void decodePage() {
+        if (pageDecoded)
+            return;
+
+        FileEncoding encoding = getCurrentChunk().getEncoding();
+        if (encoding == FileEncoding.LZ) {
+            if (pageObjects == null || pageObjects.length < pageCount)
+                pageObjects = new Object[pageCount];
+            int rawLength = LZPage.getRawLength(dbPage);
+            if (lzBuffer == null || lzBuffer.length < rawLength)
+                lzBuffer = new byte[rawLength];
+            LZPage.decode(dbPage, lzBuffer, pageObjects);
+        }
+        else {
+            if (pageLongs == null || pageLongs.length < pageCount)
+                pageLongs = new long[pageCount];
+            if (encoding == FileEncoding.BITPACK)
+                BitPackedPage.decode(dbPage, pageLongs);
+            else
+                DeltaPage.decode(dbPage, pageLongs);
+        }
+        pageDecoded = true;
+    }
+
+
+    /**
+     * 从当前页面中读出块。不压缩的页面每个块一个值，直接写入向量；RLE和字典
+     * 编码的页面读出一个块，由{@link #fillRun}和{@link #decodeCodes}展开。
+     */
+    private int decodeBlocks(ColumnVector vector, int row, int end) {
+        switch (getCurrentChunk().getEncoding()) {
+            case NONE:
+                while (offset < endOffset && row < end) {
+                    offset += readValue(offset, vector, row);
+                    // 跳过行号
+                    offset += 4;
+                    row++;
+                }
+                break;
+
+            case RLE:
+                offset += readRunValue(offset);
+                runRemaining = dbPage.readInt(offset + 4);
+                offset += 8;
+                break;
+
+            case DICTIONARY:
+                block = dbPage.readUnsignedShort(offset);
+                blockPos = 0;
+                offset += 2;
+                break;
+
+            default:
+                throw new IllegalStateException("Unrecognized encoding " +
+                    getCurrentChunk().getEncoding());
+        }
+        return row;
+    }
+
+
+    /**
+     * 把页面中的一个值写入向量，返回值占用的字节数
+     */
+    private int readValue(int position, ColumnVector vector, int row) {
+        switch (colType.getBaseType()) {
+            case INTEGER:
+                vector.setLong(row, dbPage.readInt(position));
+                return 4;
+
+            case BIGINT:
+                vector.setLong(row, dbPage.readLong(position));
+                return 8;
+
+            case SMALLINT:
+                vector.setLong(row, dbPage.readShort(position));
+                return 2;
+
+            case TINYINT:
+                vector.setLong(row, dbPage.readByte(position));
+                return 1;
+
+            case DOUBLE:
+                vector.setDouble(row, dbPage.readDouble(position));
+                return 8;
+
+            case FLOAT:
+                vector.setDouble(row, dbPage.readFloat(position));
+                return 4;
+
+            default:
+                Object value = dbPage.readObject(position, colType);
+                vector.setValue(row, value);
+                return DBPage.getObjectDiskSize(value, colType);
+        }
+    }
+
+
+    /**
+     * 读出RLE段的值，返回值占用的字节数
+     */
+    private int readRunValue(int position) {
+        switch (colType.getBaseType()) {
+            case INTEGER:
+                runLong = dbPage.readInt(position);
+                return 4;
+
+            case BIGINT:
+                runLong = dbPage.readLong(position);
+                return 8;
+
+            case SMALLINT:
+                runLong = dbPage.readShort(position);
+                return 2;
+
+            case TINYINT:
+                runLong = dbPage.readByte(position);
+                return 1;
+
+            case DOUBLE:
+                runDouble = dbPage.readDouble(position);
+                return 8;
+
+            case FLOAT:
+                runDouble = dbPage.readFloat(position);
+                return 4;
+
+            default:
+                runObject = dbPage.readObject(position, colType);
+                return DBPage.getObjectDiskSize(runObject, colType);
+        }
+    }
+
+
+    /**
+     * 转到下一个数据页面，当前列块读完时进入下一个行组
+     *
+     * @return 没有更多的页面时返回false
+     */
+    private boolean nextPage() throws IOException {
+        if (done)
+            return false;
+
+        if (rowGroup < 0 || nextPageNo > getCurrentChunk().getLastDataPageNo()) {
+            if (!startChunk(rowGroup + 1)) {
+                close();
+                return false;
+            }
+        }
+        loadPage(nextPageNo);
+        return true;
+    }
+
+
+    /**
+     * 从头开始读一个行组，还不读入页面
+     *
+     * @return 没有这个行组时返回false
+     */
+    private boolean startChunk(int group) throws IOException {
+        if (chunks == null)
+            chunks = new BlockColumnStoreReader().getColumnChunks(tblFileInfo, column);
+
+        if (group < 0 || group >= chunks.size())
+            return false;
+
+        if (dbPage != null) {
+            storageManager.unpinDBPage(dbPage);
+            dbPage = null;
+        }
+        done = false;
+        rowGroup = group;
+        rowInChunk = 0;
+        offset = endOffset = 0;
+        enterChunk();
+        nextPageNo = getCurrentChunk().getFirstDataPageNo();
+        return true;
+    }
+
+
+    private void loadPage(int pageNo) throws IOException {
+        if (dbPage != null)
+            storageManager.unpinDBPage(dbPage);
+        dbPage = storageManager.loadDBPage(dbFile, pageNo);
+        offset = CSDataPage.FIRST_BLOCK_OFFSET;
+        endOffset = dbPage.readInt(CSDataPage.NEXT_BLOCK_START_OFFSET);
+        nextPageNo = pageNo + 1;
+        runRemaining = 0;
+        if (blockNum > 0)
+            blockPos = blockNum;
+
+        // 整页解码的页面在第一次读取其中的值时才解码
+        pagePos = 0;
+        pageDecoded = false;
+        if (isDecodedByPage()) {
+            pageCount = CSDataPage.getCount(dbPage);
+            offset = endOffset;
+        }
+        else {
+            pageCount = 0;
+        }
+    }
+
+
+    /**
+     * 进入一个新的列块；字典编码时读入字典，转换成原始类型的数组；位压缩时
+     * 读出每个值的位数
+     */
+    private void enterChunk() throws IOException {
+        ColumnChunk chunk = getCurrentChunk();
+        runRemaining = 0;
+        blockPos = blockNum = 0;
+        pagePos = pageCount = 0;
+
+        if (chunk.getEncoding() == FileEncoding.BITPACK) {
+            DBPage firstPage = storageManager.loadDBPage(dbFile, chunk.getFirstDataPageNo());
+            try {
+                packWidth = BitPackedPage.getWidth(firstPage);
+            }
+            finally {
+                storageManager.unpinDBPage(firstPage);
+            }
+        }
+
+        if (chunk.getEncoding() != FileEncoding.DICTIONARY)
+            return;
+
+        // 重新从头读同一个行组时字典已经读入
+        if (dictRowGroup != rowGroup) {
+            DBPage dictPage = storageManager.loadDBPage(dbFile, chunk.getFirstPageNo());
+            Object[] dict;
+            try {
+                dictBitsize = DictionaryPage.getBitSize(dictPage);
+                dictBlockNum = DictionaryPage.getBlockNum(dictPage);
+                ColumnInfo colInfo = tblFileInfo.getSchema().getColumnInfo(column);
+                dict = DictionaryPage.readDictionary(dictPage, colInfo);
+            }
+            finally {
+                storageManager.unpinDBPage(dictPage);
+            }
+
+            switch (vectorType) {
+                case LONG:
+                    dictLongs = new long[dict.length];
+                    for (int code = 1; code < dict.length; code++)
+                        dictLongs[code] = ((Number) dict[code]).longValue();
+                    break;
+
+                case DOUBLE:
+                    dictDoubles = new double[dict.length];
+                    for (int code = 1; code < dict.length; code++)
+                        dictDoubles[code] = ((Number) dict[code]).doubleValue();
+                    break;
+
+                default:
+                    dictObjects = dict;
+            }
+            dictRowGroup = rowGroup;
+        }
+
+        bitsize = dictBitsize;
+        blockNum = dictBlockNum;
+        // 还没有读出第一个块
+        blockPos = blockNum;
+    }
+
+
+    private ColumnChunk getCurrentChunk() {
+        return chunks.get(rowGroup);
+    }
+}
@@ -0,0 +1,134 @@
+package com.bow.maple.storage.colstore;
+
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileEncoding;
+import com.bow.maple.storage.PageReader;
+import com.bow.maple.storage.PageWriter;
+
+/**
+ * 差分编码(delta + frame of reference)的整数页面。页面存放第一个值，之后每个
+ * 值存放与前一个值的差；各个差值减去页面中最小的差值后按固定的位数紧密排列。
+ * 有序的列中差值很小，每个值只占几位。每个页面独立选择位数，读取时从第一个
+ * 值开始依次累加。
+ *
+ * <pre>
+ * |    1B  |       1B     |   4B   |  4B  |        4B       |   8B   |    8B    |  1B  |  变长   |
+ * |FileType|encodePageSize|页面标记 |count |NEXT_BLOCK_OFFSET|第一个值 |最小的差值 |  位数 | 压缩的差值|
+ * </pre>
+ *
+ * 差值按64位整数的补码计算，溢出时累加回来仍然得到原来的值。
+ */
+public class DeltaPage {
+
+    public static final int ENCODING_OFFSET = 2;
+
+    public static final int ENCODING_MARKER = FileEncoding.DELTA.ordinal();
+
+    public static final int COUNT_OFFSET = 6;
+
+    public static final int NEXT_BLOCK_START_OFFSET = 10;
+
+    public static final int FIRST_VALUE_OFFSET = 14;
+
+    public static final int FIRST_DELTA_OFFSET = 31;
+
+
+    /**
+     * 返回从<tt>values[from]</tt>开始最多能有多少个值放进一个页面，至少为1
+     *
+     * @param values 列块中的值
+     * @param from 第一个值的位置
+     * @param to 最后一个值之后的位置
+     * @param pageSize 页面大小
+     */
+    public static int fit(long[] values, int from, int to, int pageSize) {
+        long bits = (long) (pageSize - FIRST_DELTA_OFFSET) * 8;
+        long minDelta = 0;
+        long maxDelta = 0;
+        int n = 1;
+        while (from + n < to) {
+            long delta = values[from + n] - values[from + n - 1];
+            long newMin = (n == 1) ? delta : Math.min(minDelta, delta);
+            long newMax = (n == 1) ? delta : Math.max(maxDelta, delta);
+
+            // 加入这个值后有n个差值
+            if ((long) n * BitPacking.bitWidth(newMax - newMin) > bits)
+                break;
+
+            minDelta = newMin;
+            maxDelta = newMax;
+            n++;
+        }
+        return n;
+    }
+
+
+    /**
+     * 把<tt>values[from]</tt>开始的<tt>count</tt>个值写入一个新的页面
+     *
+     * @param dbPage 要写入的页面
+     * @param values 列块中的值
+     * @param from 第一个值的位置
+     * @param count 值的个数，不能超过{@link #fit}返回的个数
+     */
+    public static void writePage(DBPage dbPage, long[] values, int from, int count) {
+        int numDeltas = count - 1;
+        long[] deltas = new long[numDeltas];
+        long minDelta = 0;
+        long maxDelta = 0;
+        for (int i = 0; i < numDeltas; i++) {
+            deltas[i] = values[from + i + 1] - values[from + i];
+            minDelta = (i == 0) ? deltas[i] : Math.min(minDelta, deltas[i]);
+            maxDelta = (i == 0) ? deltas[i] : Math.max(maxDelta, deltas[i]);
+        }
+
+        int width = BitPacking.bitWidth(maxDelta - minDelta);
+        byte[] packed = new byte[BitPacking.packedSize(numDeltas, width)];
+        if (FIRST_DELTA_OFFSET + packed.length > dbPage.getPageSize())
+            throw new IllegalArgumentException("Too many values for a page: " + count);
+
+        BitPacking.pack(deltas, 0, numDeltas, minDelta, width, packed, 0);
+        dbPage.write(FIRST_DELTA_OFFSET, packed);
+
+        PageWriter writer = new PageWriter(dbPage);
+        writer.setPosition(ENCODING_OFFSET);
+        writer.writeInt(ENCODING_MARKER);
+        writer.writeInt(count);
+        writer.writeInt(FIRST_DELTA_OFFSET + packed.length);
+        writer.writeLong(values[from]);
+        writer.writeLong(minDelta);
+        writer.writeByte(width);
+    }
+
+
+    /**
+     * 读出页面中的所有值
+     *
+     * @param dbPage 差分编码的页面
+     * @param dest 存放结果，长度不能小于页面中值的个数
+     * @return 值的个数
+     */
+    public static int decode(DBPage dbPage, long[] dest) {
+        if (dbPage.readInt(ENCODING_OFFSET) != ENCODING_MARKER)
+            throw new IllegalArgumentException("Wrong encoding type");
+
+        PageReader reader = new PageReader(dbPage);
+        reader.setPosition(COUNT_OFFSET);
+        int count = reader.readInt();
+        reader.setPosition(FIRST_VALUE_OFFSET);
+        long first = reader.readLong();
+        long minDelta = reader.readLong();
+        int width = reader.readUnsignedByte();
+
+        if (count == 0)
+            return 0;
+
+        // 先把差值读到dest[1..count-1]，再依次累加
+        BitPacking.unpack(dbPage.getPageData(), FIRST_DELTA_OFFSET, count - 1, minDelta, width,
+            dest, 1);
+        dest[0] = first;
+        for (int i = 1; i < count; i++)
+            dest[i] += dest[i - 1];
+        return count;
+    }
+}
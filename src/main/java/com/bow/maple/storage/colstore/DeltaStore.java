@@ -0,0 +1,339 @@
+package com.bow.maple.storage.colstore;
+
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.TableSchema;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBFileType;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.storage.TableManager;
+import com.bow.maple.storage.heapfile.DataPage;
+import com.bow.maple.util.PropertiesUtil;
+
+
+/**
+ * <p>
+ * 列式存储表的写入：列文件中的数据(基本数据)写入后不再修改，新插入的行放在
+ * 一个按行存储的heap file中(delta)，删除基本数据中的行只在删除位图中标记，
+ * 更新基本数据中的行等于删除后把新的值插入delta。扫描时跳过位图中标记的行，
+ * 最后再扫描delta中的行。
+ * </p>
+ * <p>
+ * delta中的行数达到{@link #PROP_MOVE_ROWS}后，由tuple mover
+ * ({@link ColStoreTableManager#moveTuples})按导入时的规则编码成新的行组，
+ * 追加到各个列文件的末尾，再清空delta。
+ * </p>
+ * <p>
+ * delta的文件名是<tt>表名.delta.tbl</tt>，第一次插入时才创建。删除位图存放在表
+ * 的主文件(第0页是{@link CSHeaderPage})第1页开始的页面中，每一位对应基本数据
+ * 中的一行，页面不存在表示其中的行都没有删除。
+ * </p>
+ */
+public class DeltaStore {
+
+    private static Logger logger = Logger.getLogger(DeltaStore.class);
+
+    /** delta中的行数达到这个值时，下一次插入前先转换成列块 */
+    public static final String PROP_MOVE_ROWS = "nanodb.colstore.delta.moveRows";
+
+    public static final int DEFAULT_MOVE_ROWS = ColStoreLoader.DEFAULT_ROW_GROUP_ROWS;
+
+    private StorageManager storageManager;
+
+    /** delta使用heap file存储 */
+    private TableManager heapManager;
+
+    /** 列式存储的表 */
+    private TableFileInfo tblFileInfo;
+
+    /** delta对应的heap file，还没有创建时为<tt>null</tt> */
+    private TableFileInfo deltaFileInfo;
+
+    /** delta中的行数 */
+    private int numDeltaRows;
+
+    /** 基本数据中的行数 */
+    private int numBaseRows;
+
+    /** 删除位图中标记的行数 */
+    private int numDeleted;
+
+
+    DeltaStore(StorageManager storageManager, TableManager heapManager,
+        TableFileInfo tblFileInfo) {
+        this.storageManager = storageManager;
+        this.heapManager = heapManager;
+        this.tblFileInfo = tblFileInfo;
+    }
+
+
+    /**
+     * 打开已有的delta，统计各部分的行数
+     *
+     * @throws IOException 读取文件出错
+     */
+    void open() throws IOException {
+        numBaseRows = 0;
+        for (ColumnChunk chunk : new BlockColumnStoreReader().getColumnChunks(tblFileInfo, 0))
+            numBaseRows += chunk.getNumRows();
+
+        String fileName = getDeltaFileName(tblFileInfo.getTableName());
+        if (new File(storageManager.getBaseDir(), fileName).exists()) {
+            DBFile dbFile = storageManager.openDBFile(fileName);
+            deltaFileInfo = new TableFileInfo(tblFileInfo.getTableName(), dbFile);
+            heapManager.loadTableInfo(deltaFileInfo);
+            tblFileInfo.addDBFile(dbFile);
+
+            numDeltaRows = 0;
+            for (Tuple tup = getFirstTuple(); tup != null; tup = getNextTuple(tup))
+                numDeltaRows++;
+        }
+
+        numDeleted = 0;
+        DBFile dbFile = tblFileInfo.getDBFile(0);
+        for (int pageNo = 1; pageNo < dbFile.getNumPages(); pageNo++) {
+            DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo);
+            byte[] data = dbPage.getPageData();
+            for (byte b : data)
+                numDeleted += Integer.bitCount(b & 0xFF);
+            storageManager.unpinDBPage(dbPage);
+        }
+
+        if (numDeltaRows > 0 || numDeleted > 0) {
+            logger.debug(String.format("Table %s has %d delta rows and %d deleted rows",
+                tblFileInfo.getTableName(), numDeltaRows, numDeleted));
+        }
+    }
+
+
+    /** 返回delta文件的文件名 */
+    public static String getDeltaFileName(String tableName) {
+        return tableName + ".delta.tbl";
+    }
+
+
+    /** 返回delta对应的heap file，还没有插入过行时为<tt>null</tt> */
+    public TableFileInfo getDeltaFileInfo() {
+        return deltaFileInfo;
+    }
+
+
+    public int getNumDeltaRows() {
+        return numDeltaRows;
+    }
+
+
+    public int getNumBaseRows() {
+        return numBaseRows;
+    }
+
+
+    /** 基本数据中是否有被删除的行 */
+    public boolean hasDeletes() {
+        return numDeleted > 0;
+    }
+
+
+    /** 返回delta的阈值，见{@link #PROP_MOVE_ROWS} */
+    public static int getMoveRows() {
+        return Math.max(1, PropertiesUtil.getInt(PROP_MOVE_ROWS, DEFAULT_MOVE_ROWS));
+    }
+
+
+    /**
+     * 在delta中插入一行，第一次插入时创建delta文件
+     *
+     * @param tup 新的行，值不能为NULL
+     * @return delta中的行
+     * @throws IOException 写入出错
+     */
+    Tuple addTuple(Tuple tup) throws IOException {
+        if (deltaFileInfo == null)
+            createDeltaFile();
+
+        Tuple result = heapManager.addTuple(deltaFileInfo, tup);
+        numDeltaRows++;
+        return result;
+    }
+
+
+    private void createDeltaFile() throws IOException {
+        String tableName = tblFileInfo.getTableName();
+        DBFile dbFile = storageManager.createDBFile(getDeltaFileName(tableName),
+            DBFileType.HEAP_DATA_FILE);
+
+        TableFileInfo fileInfo = new TableFileInfo(tableName, dbFile);
+        TableSchema schema = fileInfo.getSchema();
+        for (ColumnInfo colInfo : tblFileInfo.getSchema().getColumnInfos())
+            schema.addColumnInfo(new ColumnInfo(colInfo.getName(), tableName, colInfo.getType()));
+        heapManager.initTableInfo(fileInfo);
+
+        logger.debug("Created delta file " + dbFile + " for " + tableName);
+        tblFileInfo.addDBFile(dbFile);
+        deltaFileInfo = fileInfo;
+    }
+
+
+    void updateTuple(Tuple tup, Map<String, Object> newValues) throws IOException {
+        heapManager.updateTuple(deltaFileInfo, tup, newValues);
+    }
+
+
+    void deleteTuple(Tuple tup) throws IOException {
+        heapManager.deleteTuple(deltaFileInfo, tup);
+        numDeltaRows--;
+    }
+
+
+    /**
+     * 返回delta中的第一行，没有时返回<tt>null</tt>
+     */
+    public Tuple getFirstTuple() throws IOException {
+        if (deltaFileInfo == null)
+            return null;
+        return heapManager.getFirstTuple(deltaFileInfo);
+    }
+
+
+    public Tuple getNextTuple(Tuple tup) throws IOException {
+        return heapManager.getNextTuple(deltaFileInfo, tup);
+    }
+
+
+    /**
+     * tuple mover把delta中的行追加到基本数据之后调用：清空delta的所有数据页面，
+     * 页面留给之后插入的行使用
+     *
+     * @param numRows 追加到基本数据中的行数
+     * @throws IOException 写入delta文件出错
+     */
+    void moved(int numRows) throws IOException {
+        numBaseRows += numRows;
+        if (deltaFileInfo == null)
+            return;
+
+        DBFile dbFile = deltaFileInfo.getDBFile(0);
+        for (int pageNo = 1; pageNo < dbFile.getNumPages(); pageNo++) {
+            DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo);
+            DataPage.initNewPage(dbPage);
+            storageManager.logDBPageWrite(dbPage);
+            storageManager.unpinDBPage(dbPage);
+        }
+        numDeltaRows = 0;
+    }
+
+
+    /**
+     * 基本数据被重新导入后调用，清空删除位图
+     *
+     * @param numRows 新的基本数据中的行数
+     * @throws IOException 写入主文件出错
+     */
+    void reloaded(int numRows) throws IOException {
+        numBaseRows = numRows;
+        if (numDeleted == 0)
+            return;
+
+        DBFile dbFile = tblFileInfo.getDBFile(0);
+        for (int pageNo = 1; pageNo < dbFile.getNumPages(); pageNo++) {
+            DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo);
+            Arrays.fill(dbPage.getPageData(), (byte) 0);
+            dbPage.setDirty(true);
+            storageManager.logDBPageWrite(dbPage);
+            storageManager.unpinDBPage(dbPage);
+        }
+        numDeleted = 0;
+    }
+
+
+    /** 每个删除位图页面对应的行数 */
+    private int getRowsPerPage() {
+        return tblFileInfo.getDBFile(0).getPageSize() * 8;
+    }
+
+
+    /**
+     * 在删除位图中标记基本数据中的一行
+     *
+     * @param row 行号
+     * @throws IOException 读写主文件出错
+     */
+    void markDeleted(int row) throws IOException {
+        if (row < 0 || row >= numBaseRows)
+            throw new IllegalArgumentException("No row " + row + " in " + tblFileInfo.getTableName());
+
+        int rowsPerPage = getRowsPerPage();
+        int bit = row % rowsPerPage;
+        DBPage dbPage = storageManager.loadDBPage(tblFileInfo.getDBFile(0), 1 + row / rowsPerPage, true);
+        try {
+            int b = dbPage.readUnsignedByte(bit / 8);
+            int mask = 1 << (bit % 8);
+            if ((b & mask) == 0) {
+                dbPage.writeByte(bit / 8, b | mask);
+                storageManager.logDBPageWrite(dbPage);
+                numDeleted++;
+            }
+        }
+        finally {
+            storageManager.unpinDBPage(dbPage);
+        }
+    }
+
+
+    /**
+     * 返回基本数据中一段连续的行里被删除的行
+     *
+     * @param firstRow 第一行的行号
+     * @param numRows 行数
+     * @return 第<tt>i</tt>位对应第<tt>firstRow + i</tt>行
+     * @throws IOException 读取主文件出错
+     */
+    public BitSet getDeletedRows(int firstRow, int numRows) throws IOException {
+        BitSet deleted = new BitSet(numRows);
+        if (numDeleted == 0)
+            return deleted;
+
+        int rowsPerPage = getRowsPerPage();
+        int row = firstRow;
+        int end = firstRow + numRows;
+        while (row < end) {
+            int pageNo = 1 + row / rowsPerPage;
+            int pageEnd = Math.min(end, pageNo * rowsPerPage);
+            DBPage dbPage;
+            try {
+                dbPage = storageManager.loadDBPage(tblFileInfo.getDBFile(0), pageNo);
+            }
+            catch (EOFException e) {
+                // 之后的页面都还没有创建
+                break;
+            }
+
+            while (row < pageEnd) {
+                int bit = row % rowsPerPage;
+                int b = dbPage.readUnsignedByte(bit / 8);
+                if (b == 0 && bit % 8 == 0 && row + 8 <= pageEnd) {
+                    // 整个字节中都没有删除的行
+                    row += 8;
+                    continue;
+                }
+                if ((b & (1 << (bit % 8))) != 0)
+                    deleted.set(row - firstRow);
+                row++;
+            }
+            storageManager.unpinDBPage(dbPage);
+        }
+        return deleted;
+    }
+}
@@ -134,9 +134,11 @@ public class DictionaryPage {
     	return dictReader.readInt();
 	}
 	
-	/** Reconstruct dictionary from disk. */
-	public static HashMap<Integer, Object> constructDictionary(DBPage dbPage, 
-		ColumnInfo info) {
+	/**
+	 * 读出字典，按编码存放在数组中：第<tt>i</tt>个元素是编码为<tt>i</tt>的值，
+	 * 编码从1开始，第0个元素为<tt>null</tt>
+	 */
+	public static Object[] readDictionary(DBPage dbPage, ColumnInfo info) {
 	
 		PageReader dictReader = new PageReader(dbPage);
     	
@@ -151,16 +153,16 @@ public class DictionaryPage {
     	
     	int size = dictReader.readInt();
     	
-    	HashMap<Integer, Object> dict = new HashMap<Integer, Object>();
+    	Object[] dict = new Object[size + 1];
     	Object obj;
-    	int bits;
+    	int code;
     	
     	for (int i = 0; i < size; i++) {
     		obj = dbPage.readObject(dictReader.getPosition(), info.getType());
     		dictReader.setPosition(dictReader.getPosition() + 
     			DBPage.getObjectDiskSize(obj, info.getType()));
-    		bits = dictReader.readInt();
-    		dict.put(bits, obj);
+    		code = dictReader.readInt();
+    		dict[code] = obj;
     	}
 		
 		return dict;
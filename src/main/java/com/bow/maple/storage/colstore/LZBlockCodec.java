@@ -0,0 +1,216 @@
+package com.bow.maple.storage.colstore;
+
+
+import java.util.Arrays;
+
+
+/**
+ * <p>
+ * LZ4风格的块压缩，用于{@link LZPage}。压缩后的数据是一串序列，每个序列由
+ * 一段原样复制的字面量和一段对之前数据的引用组成：
+ * </p>
+ * <pre>
+ * | 1B: 高4位字面量长度，低4位匹配长度-4 | 字面量长度的扩展 | 字面量 | 2B: 偏移量 | 匹配长度的扩展 |
+ * </pre>
+ * <p>
+ * 长度为15时后面跟着扩展字节，每个字节累加到长度上，直到遇到小于255的字节。
+ * 最后一个序列只有字面量。查找匹配时只使用一个按4字节哈希的表，不追求最高
+ * 的压缩率，压缩和解压都只需要一遍。
+ * </p>
+ */
+public class LZBlockCodec {
+
+    private static final int MIN_MATCH = 4;
+
+    /** 数据的最后几个字节总是作为字面量，匹配不能延伸到这里 */
+    private static final int LAST_LITERALS = 5;
+
+    private static final int MAX_OFFSET = 65535;
+
+    private static final int HASH_LOG = 12;
+
+
+    /**
+     * 返回压缩<tt>length</tt>个字节最坏情况下需要的空间
+     */
+    public static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+
+    /**
+     * 压缩<tt>src</tt>中的一段数据
+     *
+     * @param src 原始数据
+     * @param srcOff 原始数据的起始位置
+     * @param srcLen 原始数据的长度
+     * @param dst 存放压缩结果
+     * @param dstOff 结果在<tt>dst</tt>中的起始位置
+     * @param dstMax 结果最多可以占用的字节数
+     * @return 压缩后的长度，超出<tt>dstMax</tt>时返回-1
+     */
+    public static int compress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff,
+        int dstMax) {
+
+        int[] table = new int[1 << HASH_LOG];
+        Arrays.fill(table, -1);
+
+        int srcEnd = srcOff + srcLen;
+        int matchLimit = srcEnd - LAST_LITERALS;
+        int dstEnd = dstOff + dstMax;
+        int anchor = srcOff;
+        int ip = srcOff;
+        int op = dstOff;
+
+        while (ip + MIN_MATCH <= matchLimit) {
+            int seq = readInt(src, ip);
+            int h = hash(seq);
+            int ref = table[h];
+            table[h] = ip;
+
+            if (ref < 0 || ip - ref > MAX_OFFSET || readInt(src, ref) != seq) {
+                ip++;
+                continue;
+            }
+
+            int matchLen = MIN_MATCH;
+            while (ip + matchLen < matchLimit && src[ref + matchLen] == src[ip + matchLen])
+                matchLen++;
+
+            op = writeSequence(src, anchor, ip - anchor, ip - ref, matchLen, dst, op, dstEnd);
+            if (op < 0)
+                return -1;
+
+            ip += matchLen;
+            anchor = ip;
+        }
+
+        op = writeSequence(src, anchor, srcEnd - anchor, 0, 0, dst, op, dstEnd);
+        return (op < 0) ? -1 : op - dstOff;
+    }
+
+
+    /**
+     * 解压一段数据
+     *
+     * @param src 压缩后的数据
+     * @param srcOff 压缩数据的起始位置
+     * @param srcLen 压缩数据的长度
+     * @param dst 存放原始数据，从0开始
+     * @param dstLen 原始数据的长度
+     * @throws IllegalStateException 数据已损坏
+     */
+    public static void decompress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstLen) {
+        int ip = srcOff;
+        int srcEnd = srcOff + srcLen;
+        int op = 0;
+
+        while (ip < srcEnd) {
+            int token = src[ip++] & 0xFF;
+
+            int literalLen = token >>> 4;
+            if (literalLen == 15) {
+                int b;
+                do {
+                    b = src[ip++] & 0xFF;
+                    literalLen += b;
+                } while (b == 255);
+            }
+            if (op + literalLen > dstLen || ip + literalLen > srcEnd)
+                throw new IllegalStateException("Corrupt LZ block: literals overrun");
+            System.arraycopy(src, ip, dst, op, literalLen);
+            ip += literalLen;
+            op += literalLen;
+
+            // 最后一个序列只有字面量
+            if (ip >= srcEnd)
+                break;
+
+            int offset = (src[ip] & 0xFF) | ((src[ip + 1] & 0xFF) << 8);
+            ip += 2;
+
+            int matchLen = token & 0x0F;
+            if (matchLen == 15) {
+                int b;
+                do {
+                    b = src[ip++] & 0xFF;
+                    matchLen += b;
+                } while (b == 255);
+            }
+            matchLen += MIN_MATCH;
+
+            int ref = op - offset;
+            if (offset == 0 || ref < 0 || op + matchLen > dstLen)
+                throw new IllegalStateException("Corrupt LZ block: bad match");
+
+            // 匹配可以与正在写入的数据重叠，逐个字节复制
+            for (int i = 0; i < matchLen; i++)
+                dst[op++] = dst[ref++];
+        }
+
+        if (op != dstLen)
+            throw new IllegalStateException("Corrupt LZ block: expected " + dstLen +
+                " bytes, got " + op);
+    }
+
+
+    private static int writeSequence(byte[] src, int literalStart, int literalLen, int offset,
+        int matchLen, byte[] dst, int op, int dstEnd) {
+
+        // token、两个长度的扩展和偏移量最多需要的字节数
+        int needed = 1 + literalLen / 255 + 1 + literalLen + 2 + matchLen / 255 + 1;
+        if (op + needed > dstEnd) {
+            // 估计偏大，精确地检查一遍
+            needed = 1 + extensionSize(literalLen) + literalLen;
+            if (matchLen > 0)
+                needed += 2 + extensionSize(matchLen - MIN_MATCH);
+            if (op + needed > dstEnd)
+                return -1;
+        }
+
+        int matchCode = (matchLen > 0) ? matchLen - MIN_MATCH : 0;
+        dst[op++] = (byte) ((Math.min(literalLen, 15) << 4) | Math.min(matchCode, 15));
+        op = writeExtension(literalLen, dst, op);
+
+        System.arraycopy(src, literalStart, dst, op, literalLen);
+        op += literalLen;
+
+        if (matchLen > 0) {
+            dst[op++] = (byte) offset;
+            dst[op++] = (byte) (offset >>> 8);
+            op = writeExtension(matchCode, dst, op);
+        }
+        return op;
+    }
+
+
+    /** 长度不小于15时需要的扩展字节数 */
+    private static int extensionSize(int length) {
+        return (length < 15) ? 0 : (length - 15) / 255 + 1;
+    }
+
+
+    private static int writeExtension(int length, byte[] dst, int op) {
+        if (length < 15)
+            return op;
+
+        int rest = length - 15;
+        while (rest >= 255) {
+            dst[op++] = (byte) 255;
+            rest -= 255;
+        }
+        dst[op++] = (byte) rest;
+        return op;
+    }
+
+
+    private static int readInt(byte[] data, int pos) {
+        return (data[pos] & 0xFF) | ((data[pos + 1] & 0xFF) << 8) |
+            ((data[pos + 2] & 0xFF) << 16) | ((data[pos + 3] & 0xFF) << 24);
+    }
+
+
+    private static int hash(int seq) {
+        return (seq * -1640531535) >>> (32 - HASH_LOG);
+    }
+}
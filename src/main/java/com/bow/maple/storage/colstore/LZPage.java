@@ -0,0 +1,128 @@
+package com.bow.maple.storage.colstore;
+
+import java.nio.charset.StandardCharsets;
+
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileEncoding;
+import com.bow.maple.storage.PageReader;
+import com.bow.maple.storage.PageWriter;
+
+/**
+ * 块压缩的字符串页面。页面中的值先按<tt>VARCHAR</tt>在页面中的格式(2字节的
+ * 长度和US-ASCII的字符)依次排列，整体用{@link LZBlockCodec}压缩。不存放行号，
+ * 值在列块中的位置由页面的顺序和每页的值的个数决定。读取时整页解压。
+ *
+ * <pre>
+ * |    1B  |       1B     |   4B   |  4B  |        4B       |     4B     |   变长   |
+ * |FileType|encodePageSize|页面标记 |count |NEXT_BLOCK_OFFSET|解压后的长度  |压缩的数据 |
+ * </pre>
+ */
+public class LZPage {
+
+    public static final int ENCODING_OFFSET = 2;
+
+    public static final int ENCODING_MARKER = FileEncoding.LZ.ordinal();
+
+    public static final int COUNT_OFFSET = 6;
+
+    public static final int NEXT_BLOCK_START_OFFSET = 10;
+
+    public static final int RAW_LENGTH_OFFSET = 14;
+
+    public static final int FIRST_DATA_OFFSET = 18;
+
+
+    /** 返回一个值在解压后的数据中占用的字节数 */
+    public static int getRawSize(String value) {
+        return 2 + value.length();
+    }
+
+
+    /**
+     * 把一个值追加到未压缩的数据中
+     *
+     * @param raw 未压缩的数据，须有足够的空间
+     * @param pos 写入的位置
+     * @param value 要写入的值
+     * @return 值之后的位置
+     */
+    public static int appendValue(byte[] raw, int pos, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length > 65535)
+            throw new IllegalArgumentException("value must be 65535 bytes or less");
+
+        raw[pos] = (byte) (bytes.length >>> 8);
+        raw[pos + 1] = (byte) bytes.length;
+        System.arraycopy(bytes, 0, raw, pos + 2, bytes.length);
+        return pos + 2 + bytes.length;
+    }
+
+
+    /**
+     * 写入一个页面
+     *
+     * @param dbPage 要写入的页面
+     * @param compressed 压缩后的数据
+     * @param length 压缩后的长度
+     * @param rawLength 解压后的长度
+     * @param count 值的个数
+     */
+    public static void writePage(DBPage dbPage, byte[] compressed, int length, int rawLength,
+        int count) {
+
+        if (FIRST_DATA_OFFSET + length > dbPage.getPageSize())
+            throw new IllegalArgumentException("Compressed data doesn't fit in a page");
+
+        dbPage.write(FIRST_DATA_OFFSET, compressed, 0, length);
+
+        PageWriter writer = new PageWriter(dbPage);
+        writer.setPosition(ENCODING_OFFSET);
+        writer.writeInt(ENCODING_MARKER);
+        writer.writeInt(count);
+        writer.writeInt(FIRST_DATA_OFFSET + length);
+        writer.writeInt(rawLength);
+    }
+
+
+    /** 返回页面中的数据解压后的长度 */
+    public static int getRawLength(DBPage dbPage) {
+        checkMarker(dbPage);
+        return dbPage.readInt(RAW_LENGTH_OFFSET);
+    }
+
+
+    /**
+     * 解压页面，读出所有的值
+     *
+     * @param dbPage 块压缩的页面
+     * @param buffer 解压用的缓冲区，长度不能小于{@link #getRawLength}
+     * @param dest 存放结果，长度不能小于页面中值的个数
+     * @return 值的个数
+     */
+    public static int decode(DBPage dbPage, byte[] buffer, Object[] dest) {
+        checkMarker(dbPage);
+
+        PageReader reader = new PageReader(dbPage);
+        reader.setPosition(COUNT_OFFSET);
+        int count = reader.readInt();
+        int end = reader.readInt();
+        int rawLength = reader.readInt();
+
+        LZBlockCodec.decompress(dbPage.getPageData(), FIRST_DATA_OFFSET, end - FIRST_DATA_OFFSET,
+            buffer, rawLength);
+
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            int len = ((buffer[pos] & 0xFF) << 8) | (buffer[pos + 1] & 0xFF);
+            dest[i] = new String(buffer, pos + 2, len, StandardCharsets.US_ASCII);
+            pos += 2 + len;
+        }
+        return count;
+    }
+
+
+    private static void checkMarker(DBPage dbPage) {
+        if (dbPage.readInt(ENCODING_OFFSET) != ENCODING_MARKER)
+            throw new IllegalArgumentException("Wrong encoding type");
+    }
+}
@@ -0,0 +1,200 @@
+package com.bow.maple.storage.colstore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileEncoding;
+import com.bow.maple.storage.PageReader;
+import com.bow.maple.storage.PageWriter;
+
+/**
+ * 列文件的第0页，记录这一列按行组划分的各个列块({@link ColumnChunk})。
+ *
+ * <pre>
+ * |    1B  |       1B     |   4B   |    4B    |   4B   |      4B      |
+ * |FileType|encodePageSize|页面标记 |列块的个数 |总行数   |下一项的偏移量  |
+ *
+ * |   4B   |  4B  |    4B    |  4B  |  4B  |    1B     |  变长  |  变长  |
+ * |第一行行号|行数  |第一个页号 |页面数 |编码   |有无最值标记 |最小值  |最大值  |  ... 每个列块一项
+ * </pre>
+ *
+ * 最小值和最大值按列的类型存储，超过{@link #MAX_ZONE_VALUE_SIZE}字节的字符串
+ * 不记录，以免长字符串列的目录放不下一个页面。
+ */
+public class RowGroupPage {
+
+    public static final int ENCODING_OFFSET = 2;
+
+    /** 与数据页面的编码区分，{@link CSHeaderPage}使用-1 */
+    public static final int ENCODING_MARKER = -2;
+
+    public static final int COUNT_OFFSET = 6;
+
+    public static final int NUM_ROWS_OFFSET = 10;
+
+    public static final int NEXT_ENTRY_OFFSET = 14;
+
+    public static final int FIRST_ENTRY_OFFSET = 18;
+
+    /** 每一项中固定长度部分的大小 */
+    public static final int ENTRY_FIXED_SIZE = 21;
+
+    /** 记录的最小值或最大值最多占用的字节数 */
+    public static final int MAX_ZONE_VALUE_SIZE = 64;
+
+
+    public static void initNewPage(DBPage dbPage) {
+        PageWriter writer = new PageWriter(dbPage);
+        writer.setPosition(ENCODING_OFFSET);
+        writer.writeInt(ENCODING_MARKER);
+        writer.writeInt(0);
+        writer.writeInt(0);
+        writer.writeInt(FIRST_ENTRY_OFFSET);
+    }
+
+
+    /**
+     * 在页面的最后添加一个列块
+     *
+     * @param dbPage 行组页面
+     * @param chunk 列块
+     * @param colType 列的类型，用于存储最小值和最大值
+     * @return 页面已满时返回false
+     */
+    public static boolean addColumnChunk(DBPage dbPage, ColumnChunk chunk, ColumnType colType) {
+        checkMarker(dbPage);
+
+        PageReader reader = new PageReader(dbPage);
+        reader.setPosition(COUNT_OFFSET);
+        int count = reader.readInt();
+        int numRows = reader.readInt();
+        int offset = reader.readInt();
+
+        int zoneMapSize = getZoneMapSize(chunk, colType);
+        if (offset + ENTRY_FIXED_SIZE + zoneMapSize > dbPage.getPageSize())
+            return false;
+
+        PageWriter writer = new PageWriter(dbPage);
+        writer.setPosition(offset);
+        writer.writeInt(chunk.getFirstRow());
+        writer.writeInt(chunk.getNumRows());
+        writer.writeInt(chunk.getFirstPageNo());
+        writer.writeInt(chunk.getNumPages());
+        writer.writeInt(chunk.getEncoding().ordinal());
+        writer.writeBoolean(zoneMapSize > 0);
+
+        int nextOffset = offset + ENTRY_FIXED_SIZE;
+        if (zoneMapSize > 0) {
+            nextOffset += dbPage.writeObject(nextOffset, colType, chunk.getMinValue());
+            nextOffset += dbPage.writeObject(nextOffset, colType, chunk.getMaxValue());
+        }
+
+        writer.setPosition(COUNT_OFFSET);
+        writer.writeInt(count + 1);
+        writer.writeInt(numRows + chunk.getNumRows());
+        writer.writeInt(nextOffset);
+        return true;
+    }
+
+
+    /**
+     * 返回列块在页面中的一项占用的字节数
+     *
+     * @param chunk 列块
+     * @param colType 列的类型
+     * @return 这一项的大小
+     */
+    public static int getEntrySize(ColumnChunk chunk, ColumnType colType) {
+        return ENTRY_FIXED_SIZE + getZoneMapSize(chunk, colType);
+    }
+
+
+    /** 返回页面中还能用于添加列块的字节数 */
+    public static int getFreeSpace(DBPage dbPage) {
+        checkMarker(dbPage);
+        PageReader reader = new PageReader(dbPage);
+        reader.setPosition(NEXT_ENTRY_OFFSET);
+        return dbPage.getPageSize() - reader.readInt();
+    }
+
+
+    /** 最小值和最大值占用的字节数，不记录时为0 */
+    private static int getZoneMapSize(ColumnChunk chunk, ColumnType colType) {
+        if (!chunk.hasZoneMap())
+            return 0;
+
+        int minSize = DBPage.getObjectDiskSize(chunk.getMinValue(), colType);
+        int maxSize = DBPage.getObjectDiskSize(chunk.getMaxValue(), colType);
+        if (minSize > MAX_ZONE_VALUE_SIZE || maxSize > MAX_ZONE_VALUE_SIZE)
+            return 0;
+        return minSize + maxSize;
+    }
+
+
+    /** 返回这一列的总行数 */
+    public static int getNumRows(DBPage dbPage) {
+        checkMarker(dbPage);
+        PageReader reader = new PageReader(dbPage);
+        reader.setPosition(NUM_ROWS_OFFSET);
+        return reader.readInt();
+    }
+
+
+    /**
+     * 按行号的顺序读出所有的列块
+     *
+     * @param dbPage 行组页面
+     * @param colType 列的类型，用于读取最小值和最大值
+     * @return 各个列块
+     */
+    public static List<ColumnChunk> readColumnChunks(DBPage dbPage, ColumnType colType) {
+        checkMarker(dbPage);
+
+        PageReader reader = new PageReader(dbPage);
+        reader.setPosition(COUNT_OFFSET);
+        int count = reader.readInt();
+
+        FileEncoding[] encodings = FileEncoding.values();
+        List<ColumnChunk> chunks = new ArrayList<ColumnChunk>(count);
+        int offset = FIRST_ENTRY_OFFSET;
+        for (int i = 0; i < count; i++) {
+            reader.setPosition(offset);
+            int firstRow = reader.readInt();
+            int numRows = reader.readInt();
+            int firstPageNo = reader.readInt();
+            int numPages = reader.readInt();
+            FileEncoding encoding = encodings[reader.readInt()];
+            boolean hasZoneMap = reader.readBoolean();
+            offset += ENTRY_FIXED_SIZE;
+
+            Object minValue = null;
+            Object maxValue = null;
+            if (hasZoneMap) {
+                minValue = dbPage.readObject(offset, colType);
+                offset += DBPage.getObjectDiskSize(minValue, colType);
+                maxValue = dbPage.readObject(offset, colType);
+                offset += DBPage.getObjectDiskSize(maxValue, colType);
+            }
+
+            chunks.add(new ColumnChunk(firstRow, numRows, firstPageNo, numPages, encoding,
+                minValue, maxValue));
+        }
+        return chunks;
+    }
+
+
+    /** 页面是否是行组页面 */
+    public static boolean isRowGroupPage(DBPage dbPage) {
+        PageReader reader = new PageReader(dbPage);
+        reader.setPosition(ENCODING_OFFSET);
+        return reader.readInt() == ENCODING_MARKER;
+    }
+
+
+    private static void checkMarker(DBPage dbPage) {
+        if (!isRowGroupPage(dbPage))
+            throw new IllegalArgumentException("Not a row-group page");
+    }
+}
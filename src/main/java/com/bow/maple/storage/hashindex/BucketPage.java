@@ -0,0 +1,237 @@
+package com.bow.maple.storage.hashindex;
+
+
+import java.util.List;
+
+import com.bow.lab.storage.heap.PageTupleUtil;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.storage.DBPage;
+
+
+/**
+ * <p>
+ * 包装哈希索引中的一个桶页面。每个桶由一个首页面和若干溢出页面组成单链表，
+ * 首页面的页号记录在目录页面中。页面结构如下：
+ * </p>
+ * <ul>
+ *   <li><u>Byte 0:</u>  {@link HashIndexManager#HASH_BUCKET_PAGE}</li>
+ *   <li><u>Byte 1-4:</u>  下一个溢出页面的页号，没有时为0 (int)</li>
+ *   <li><u>Byte 5-6:</u>  页面中的记录数 (unsigned short)</li>
+ *   <li><u>Byte 7-10:</u>  记录区的结束位置 (int)</li>
+ *   <li>之后连续存放各条记录：4字节的哈希值，然后是key，key的最后一列是
+ *       tuple的file-pointer</li>
+ * </ul>
+ * <p>
+ * 记录中保存了哈希值，查找时先比较哈希值再读取key；分裂桶时直接按哈希值
+ * 决定记录的去向，整条复制字节，不需要重新计算哈希。
+ * </p>
+ */
+public class BucketPage {
+
+    /** 下一个溢出页面的页号的存储位置 */
+    public static final int OFFSET_NEXT_PAGE_NO = 1;
+
+
+    /** 记录数的存储位置 */
+    public static final int OFFSET_NUM_ENTRIES =
+        OFFSET_NEXT_PAGE_NO + HashIndexManager.POINTER_SIZE;
+
+
+    /** 记录区结束位置的存储位置 */
+    public static final int OFFSET_DATA_END = OFFSET_NUM_ENTRIES + 2;
+
+
+    /** 第一条记录的位置 */
+    public static final int OFFSET_FIRST_ENTRY = OFFSET_DATA_END + 4;
+
+
+    /** 每条记录开头哈希值的字节数 */
+    public static final int HASH_SIZE = 4;
+
+
+    private DBPage dbPage;
+
+
+    /** 索引的schema，最后一列是file-pointer */
+    private List<ColumnInfo> colInfos;
+
+
+    public BucketPage(DBPage dbPage, List<ColumnInfo> colInfos) {
+        if (dbPage.readUnsignedByte(0) != HashIndexManager.HASH_BUCKET_PAGE) {
+            throw new IllegalArgumentException("Specified DBPage " +
+                dbPage.getPageNo() + " is not marked as a hash-bucket page.");
+        }
+
+        this.dbPage = dbPage;
+        this.colInfos = colInfos;
+    }
+
+
+    /**
+     * 把页面初始化为空的桶页面
+     *
+     * @param dbPage 新分配的页面
+     * @param colInfos 索引的schema
+     * @return 包装后的桶页面
+     */
+    public static BucketPage init(DBPage dbPage, List<ColumnInfo> colInfos) {
+        dbPage.writeByte(0, HashIndexManager.HASH_BUCKET_PAGE);
+        dbPage.writeInt(OFFSET_NEXT_PAGE_NO, 0);
+        dbPage.writeShort(OFFSET_NUM_ENTRIES, 0);
+        dbPage.writeInt(OFFSET_DATA_END, OFFSET_FIRST_ENTRY);
+
+        return new BucketPage(dbPage, colInfos);
+    }
+
+
+    public DBPage getDBPage() {
+        return dbPage;
+    }
+
+
+    public int getPageNo() {
+        return dbPage.getPageNo();
+    }
+
+
+    public int getNextPageNo() {
+        return dbPage.readInt(OFFSET_NEXT_PAGE_NO);
+    }
+
+
+    public void setNextPageNo(int pageNo) {
+        dbPage.writeInt(OFFSET_NEXT_PAGE_NO, pageNo);
+    }
+
+
+    public int getNumEntries() {
+        return dbPage.readUnsignedShort(OFFSET_NUM_ENTRIES);
+    }
+
+
+    /**
+     * 返回记录区的结束位置，遍历记录时<tt>offset</tt>小于它
+     */
+    public int getDataEnd() {
+        return dbPage.readInt(OFFSET_DATA_END);
+    }
+
+
+    public int getFreeSpace() {
+        return dbPage.getPageSize() - getDataEnd();
+    }
+
+
+    /**
+     * 一个页面中最多可以存放的记录字节数
+     */
+    public static int getCapacity(int pageSize) {
+        return pageSize - OFFSET_FIRST_ENTRY;
+    }
+
+
+    /**
+     * 返回从<tt>offset</tt>开始的记录的哈希值
+     */
+    public int getHash(int offset) {
+        return dbPage.readInt(offset);
+    }
+
+
+    /**
+     * 返回从<tt>offset</tt>开始的记录中的key
+     */
+    public HashIndexPageTuple getKey(int offset) {
+        return new HashIndexPageTuple(dbPage, offset + HASH_SIZE, colInfos);
+    }
+
+
+    /**
+     * 返回从<tt>offset</tt>开始的记录的长度，包括哈希值
+     */
+    public int getEntrySize(int offset) {
+        return getKey(offset).getEndOffset() - offset;
+    }
+
+
+    /**
+     * 在记录区末尾加入一条记录，调用者需要先确认页面放得下
+     *
+     * @param hash key的哈希值
+     * @param key 要加入的key，已经计算了storage size
+     */
+    public void addEntry(int hash, LiteralTuple key) {
+        int entrySize = HASH_SIZE + key.getStorageSize();
+        if (entrySize > getFreeSpace()) {
+            throw new IllegalArgumentException("Bucket page " + getPageNo() +
+                " has " + getFreeSpace() + " bytes free; entry needs " + entrySize);
+        }
+
+        int offset = getDataEnd();
+        dbPage.writeInt(offset, hash);
+        int end = PageTupleUtil.storeTuple(dbPage, offset + HASH_SIZE, colInfos, key);
+
+        dbPage.writeShort(OFFSET_NUM_ENTRIES, getNumEntries() + 1);
+        dbPage.writeInt(OFFSET_DATA_END, end);
+    }
+
+
+    /**
+     * 在记录区末尾加入一条从其它桶页面复制出来的记录
+     *
+     * @param entry 记录的字节，包括哈希值
+     */
+    public void addEntryBytes(byte[] entry) {
+        if (entry.length > getFreeSpace()) {
+            throw new IllegalArgumentException("Bucket page " + getPageNo() +
+                " has " + getFreeSpace() + " bytes free; entry needs " + entry.length);
+        }
+
+        int offset = getDataEnd();
+        dbPage.write(offset, entry);
+
+        dbPage.writeShort(OFFSET_NUM_ENTRIES, getNumEntries() + 1);
+        dbPage.writeInt(OFFSET_DATA_END, offset + entry.length);
+    }
+
+
+    /**
+     * 读出从<tt>offset</tt>开始的记录的字节
+     */
+    public byte[] readEntryBytes(int offset, int entrySize) {
+        byte[] entry = new byte[entrySize];
+        dbPage.read(offset, entry);
+        return entry;
+    }
+
+
+    /**
+     * 删除从<tt>offset</tt>开始的记录，后面的记录向前移动
+     *
+     * @param offset 记录的起始位置
+     * @param entrySize 记录的长度，包括哈希值
+     */
+    public void removeEntry(int offset, int entrySize) {
+        int dataEnd = getDataEnd();
+        dbPage.moveDataRange(offset + entrySize, offset, dataEnd - offset - entrySize);
+        if (HashIndexManager.CLEAR_OLD_DATA)
+            dbPage.setDataRange(dataEnd - entrySize, entrySize, (byte) 0);
+
+        dbPage.writeShort(OFFSET_NUM_ENTRIES, getNumEntries() - 1);
+        dbPage.writeInt(OFFSET_DATA_END, dataEnd - entrySize);
+    }
+
+
+    /**
+     * 清空页面中的所有记录，保留到下一个溢出页面的链接
+     */
+    public void clear() {
+        int dataEnd = getDataEnd();
+        if (HashIndexManager.CLEAR_OLD_DATA)
+            dbPage.setDataRange(OFFSET_FIRST_ENTRY, dataEnd - OFFSET_FIRST_ENTRY, (byte) 0);
+
+        dbPage.writeShort(OFFSET_NUM_ENTRIES, 0);
+        dbPage.writeInt(OFFSET_DATA_END, OFFSET_FIRST_ENTRY);
+    }
+}
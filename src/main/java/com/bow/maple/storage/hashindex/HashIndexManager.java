@@ -0,0 +1,830 @@
+package com.bow.maple.storage.hashindex;
+
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.bow.lab.indexes.IndexFileInfo;
+import com.bow.lab.indexes.IndexInfo;
+import com.bow.lab.indexes.IndexManager;
+import com.bow.lab.storage.heap.PageTupleUtil;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.expressions.TupleComparator;
+import com.bow.maple.relations.ColumnIndexes;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ConstraintViolationException;
+import com.bow.maple.relations.KeyColumnIndexes;
+import com.bow.maple.relations.TableConstraintType;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.PageTuple;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.storage.TableManager;
+import com.bow.maple.util.PropertiesUtil;
+import org.apache.log4j.Logger;
+
+
+/**
+ * <p>
+ * 基于磁盘的线性哈希(linear hashing)索引，只支持等值查找，每次查找读取一个
+ * 桶的首页面(以及很少出现的溢出页面)，不需要像B<sup>+</sup>树那样从根走到
+ * 叶子。
+ * </p>
+ * <p>
+ * 桶的个数为2<sup>L</sup> + <i>next</i>。key的哈希值先按2<sup>L</sup>取模，
+ * 结果小于<i>next</i>时说明这个桶已经分裂过，改为按2<sup>L+1</sup>取模。
+ * 记录的总字节数超过所有桶首页面容量的{@link #PROP_FILL_FACTOR}时，分裂第
+ * <i>next</i>个桶：按哈希值的第<i>L</i>位把它的记录分到原来的桶和新的第
+ * 2<sup>L</sup> + <i>next</i>个桶，然后<i>next</i>加一；<i>next</i>达到
+ * 2<sup>L</sup>时<i>L</i>加一、<i>next</i>归零。因此每次只分裂一个桶，不需要
+ * 重新组织整个索引。桶的首页面放不下时接上溢出页面。
+ * </p>
+ * <p>
+ * 文件的结构：
+ * </p>
+ * <ul>
+ * <li>第0页是头页面，记录L、<i>next</i>、记录数、空页面链表以及各个目录
+ *     页面的页号，见{@link HeaderPage}。</li>
+ * <li>目录页面记录各个桶首页面的页号，找到一个桶最多读取头页面和一个目录
+ *     页面，它们都很常用，通常在缓冲区中。</li>
+ * <li>桶页面见{@link BucketPage}。不再使用的溢出页面组成空页面链表，链表中的
+ *     页面在偏移1处存放下一个空页面的页号。</li>
+ * </ul>
+ * <p>
+ * 所有页面的修改都通过{@link StorageManager#logDBPageWrite}写入WAL。和
+ * B<sup>+</sup>树索引一样，每条记录的最后一列是tuple的file-pointer。删除记录
+ * 后只回收空的溢出页面，不合并桶。
+ * </p>
+ * <p>
+ * 每个索引有一个读写latch：查找以共享模式持有，插入、删除和分裂以排他模式
+ * 持有。
+ * </p>
+ */
+public class HashIndexManager implements IndexManager {
+    /** A logging object for reporting anything interesting that happens. */
+    private static Logger logger = Logger.getLogger(HashIndexManager.class);
+
+
+    /** 页面的第0字节，表示这是一个桶页面(首页面或者溢出页面) */
+    public static final int HASH_BUCKET_PAGE = 1;
+
+
+    /** 页面的第0字节，表示这是一个目录页面 */
+    public static final int HASH_DIRECTORY_PAGE = 2;
+
+
+    /** 页面的第0字节，表示这是一个空页面 */
+    public static final int HASH_EMPTY_PAGE = 3;
+
+
+    /** 索引文件中页号占用的字节数 */
+    public static final int POINTER_SIZE = 4;
+
+
+    /** 空页面中，下一个空页面的页号存储的位置 */
+    public static final int OFFSET_NEXT_EMPTY_PAGE = 1;
+
+
+    /** 不再使用的数据是否清零，与B<sup>+</sup>树索引相同 */
+    public static final boolean CLEAR_OLD_DATA = true;
+
+
+    /**
+     * 记录的总字节数达到所有桶首页面容量的这个百分比时分裂一个桶，默认75
+     */
+    public static final String PROP_FILL_FACTOR = "nanodb.hashindex.fillFactor";
+
+    public static final int DEFAULT_FILL_FACTOR = 75;
+
+
+    private StorageManager storageManager;
+
+
+    private int fillFactor;
+
+
+    /** 每个索引文件的latch */
+    private final ConcurrentHashMap<DBFile, ReentrantReadWriteLock> latches =
+        new ConcurrentHashMap<DBFile, ReentrantReadWriteLock>();
+
+
+    public HashIndexManager(StorageManager storageManager) {
+        if (storageManager == null)
+            throw new IllegalArgumentException("storageManager cannot be null");
+
+        this.storageManager = storageManager;
+
+        fillFactor = PropertiesUtil.getInt(PROP_FILL_FACTOR, DEFAULT_FILL_FACTOR);
+        if (fillFactor < 25 || fillFactor > 100) {
+            logger.warn(String.format("%s must be in the range [25, 100]; got %d, using %d",
+                PROP_FILL_FACTOR, fillFactor, DEFAULT_FILL_FACTOR));
+            fillFactor = DEFAULT_FILL_FACTOR;
+        }
+    }
+
+
+    @Override
+    public String getUnnamedIndexPrefix(IndexFileInfo idxFileInfo) {
+        IndexInfo info = idxFileInfo.getIndexInfo();
+        TableConstraintType constraintType = info.getConstraintType();
+
+        if (constraintType == null)
+            return "HIDX_" + idxFileInfo.getTableName();
+
+        switch (constraintType) {
+            case PRIMARY_KEY:
+                return "PK_" + idxFileInfo.getTableName();
+
+            case UNIQUE:
+                return "CK_" + idxFileInfo.getTableName();
+
+            default:
+                throw new IllegalArgumentException("Unrecognized constraint type " +
+                    constraintType);
+        }
+    }
+
+
+    /**
+     * 新的索引只有一个桶：第1页是第0个桶的首页面，第2页是第一个目录页面
+     */
+    @Override
+    public void initIndexInfo(IndexFileInfo idxFileInfo) throws IOException {
+        DBFile dbFile = idxFileInfo.getDBFile();
+
+        logger.info(String.format("Initializing new hash index %s on table %s, stored at %s",
+            idxFileInfo.getIndexName(), idxFileInfo.getTableName(), dbFile));
+
+        DBPage dbpHeader = storageManager.loadDBPage(dbFile, 0);
+        try {
+            HeaderPage.setLevel(dbpHeader, 0);
+            HeaderPage.setNextSplit(dbpHeader, 0);
+            HeaderPage.setNumEntries(dbpHeader, 0);
+            HeaderPage.setFirstEmptyPageNo(dbpHeader, 0);
+            HeaderPage.setDataSize(dbpHeader, 0);
+
+            DBPage dbPage = getNewDataPage(dbpHeader);
+            try {
+                // 此时索引还没有加入表的schema，空页面也用不到索引的schema
+                BucketPage.init(dbPage, null);
+                setBucketPageNo(dbpHeader, 0, dbPage.getPageNo());
+                storageManager.logDBPageWrite(dbPage);
+            }
+            finally {
+                storageManager.unpinDBPage(dbPage);
+            }
+
+            storageManager.logDBPageWrite(dbpHeader);
+        }
+        finally {
+            storageManager.unpinDBPage(dbpHeader);
+        }
+    }
+
+
+    @Override
+    public void loadIndexInfo(IndexFileInfo idxFileInfo) throws IOException {
+        // 索引的schema保存在表中，头页面中的信息在使用时读取
+    }
+
+
+    /**
+     * 扫描表，把每个tuple加入索引。唯一索引中出现索引列相同且不含
+     * <tt>NULL</tt>的两个key时建立失败。
+     */
+    @Override
+    public void buildIndex(IndexFileInfo idxFileInfo) throws IOException {
+        boolean unique = idxFileInfo.getTableColumnIndexes() instanceof KeyColumnIndexes;
+
+        TableFileInfo tblFileInfo = idxFileInfo.getTableFileInfo();
+        TableManager tableManager = tblFileInfo.getTableManager();
+
+        ReentrantReadWriteLock latch = getLatch(idxFileInfo);
+        latch.writeLock().lock();
+        try {
+            DBPage dbpHeader = storageManager.loadDBPage(idxFileInfo.getDBFile(), 0);
+            try {
+                Tuple tup = tableManager.getFirstTuple(tblFileInfo);
+                while (tup != null) {
+                    LiteralTuple key = makeStoredKeyValue(idxFileInfo, (PageTuple) tup);
+                    insertKey(idxFileInfo, dbpHeader, key, unique);
+                    tup = tableManager.getNextTuple(tblFileInfo, tup);
+                }
+
+                storageManager.logDBPageWrite(dbpHeader);
+
+                logger.info(String.format("Built hash index %s:  %d entries in %d buckets",
+                    idxFileInfo.getIndexName(), HeaderPage.getNumEntries(dbpHeader),
+                    HeaderPage.getNumBuckets(dbpHeader)));
+            }
+            finally {
+                storageManager.unpinDBPage(dbpHeader);
+            }
+        }
+        finally {
+            latch.writeLock().unlock();
+        }
+    }
+
+
+    @Override
+    public void addTuple(IndexFileInfo idxFileInfo, PageTuple tup) throws IOException {
+        LiteralTuple newTupleKey = makeStoredKeyValue(idxFileInfo, tup);
+
+        logger.debug("Adding search-key value " + newTupleKey + " to index " +
+            idxFileInfo.getIndexName());
+
+        ReentrantReadWriteLock latch = getLatch(idxFileInfo);
+        latch.writeLock().lock();
+        try {
+            DBPage dbpHeader = storageManager.loadDBPage(idxFileInfo.getDBFile(), 0);
+            try {
+                insertKey(idxFileInfo, dbpHeader, newTupleKey, false);
+                storageManager.logDBPageWrite(dbpHeader);
+            }
+            finally {
+                storageManager.unpinDBPage(dbpHeader);
+            }
+        }
+        finally {
+            latch.writeLock().unlock();
+        }
+    }
+
+
+    @Override
+    public void deleteTuple(IndexFileInfo idxFileInfo, PageTuple tup) throws IOException {
+        LiteralTuple oldTupleKey = makeStoredKeyValue(idxFileInfo, tup);
+
+        logger.debug("Removing search-key value " + oldTupleKey +
+            " from index " + idxFileInfo.getIndexName());
+
+        ReentrantReadWriteLock latch = getLatch(idxFileInfo);
+        latch.writeLock().lock();
+        try {
+            DBPage dbpHeader = storageManager.loadDBPage(idxFileInfo.getDBFile(), 0);
+            try {
+                if (removeKey(idxFileInfo, dbpHeader, oldTupleKey)) {
+                    storageManager.logDBPageWrite(dbpHeader);
+                }
+                else {
+                    logger.warn("Search-key value " + oldTupleKey +
+                        " was not found in index " + idxFileInfo.getIndexName());
+                }
+            }
+            finally {
+                storageManager.unpinDBPage(dbpHeader);
+            }
+        }
+        finally {
+            latch.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * 查找索引列等于<tt>searchKey</tt>的所有记录。
+     *
+     * @param idxFileInfo 索引
+     * @param searchKey 所有索引列的值(不含file-pointer)，含有<tt>NULL</tt>时
+     *        没有结果
+     * @return 匹配的记录，每条记录是索引列的值加上最后的file-pointer
+     * @throws IOException 读取索引出错
+     */
+    public List<LiteralTuple> lookup(IndexFileInfo idxFileInfo, Tuple searchKey)
+        throws IOException {
+
+        List<ColumnInfo> colInfos = idxFileInfo.getIndexSchema();
+        int numKeyCols = colInfos.size() - 1;
+        if (searchKey.getColumnCount() != numKeyCols) {
+            throw new IllegalArgumentException("Search key " + searchKey + " should have " +
+                numKeyCols + " columns");
+        }
+
+        List<LiteralTuple> result = new ArrayList<LiteralTuple>();
+        for (int i = 0; i < numKeyCols; i++) {
+            if (searchKey.isNullValue(i))
+                return result;
+        }
+
+        int hash = hashKey(searchKey, numKeyCols);
+
+        ReentrantReadWriteLock latch = getLatch(idxFileInfo);
+        latch.readLock().lock();
+        try {
+            DBFile dbFile = idxFileInfo.getDBFile();
+            DBPage dbpHeader = storageManager.loadDBPage(dbFile, 0);
+            int pageNo;
+            try {
+                pageNo = getBucketPageNo(dbpHeader, getBucket(dbpHeader, hash));
+            }
+            finally {
+                storageManager.unpinDBPage(dbpHeader);
+            }
+
+            while (pageNo != 0) {
+                DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo);
+                try {
+                    BucketPage page = new BucketPage(dbPage, colInfos);
+                    int dataEnd = page.getDataEnd();
+                    for (int offset = BucketPage.OFFSET_FIRST_ENTRY; offset < dataEnd; ) {
+                        HashIndexPageTuple key = page.getKey(offset);
+                        if (page.getHash(offset) == hash && keyMatches(key, searchKey, numKeyCols))
+                            result.add(new LiteralTuple(key));
+
+                        offset = key.getEndOffset();
+                    }
+                    pageNo = page.getNextPageNo();
+                }
+                finally {
+                    storageManager.unpinDBPage(dbPage);
+                }
+            }
+        }
+        finally {
+            latch.readLock().unlock();
+        }
+
+        return result;
+    }
+
+
+    @Override
+    public List<String> verifyIndex(IndexFileInfo idxFileInfo) throws IOException {
+        ReentrantReadWriteLock latch = getLatch(idxFileInfo);
+        latch.writeLock().lock();
+        try {
+            HashIndexVerifier verifier = new HashIndexVerifier(this, storageManager, idxFileInfo);
+            return verifier.verify();
+        }
+        finally {
+            latch.writeLock().unlock();
+        }
+    }
+
+
+    private ReentrantReadWriteLock getLatch(IndexFileInfo idxFileInfo) {
+        DBFile dbFile = idxFileInfo.getDBFile();
+        ReentrantReadWriteLock latch = latches.get(dbFile);
+        if (latch == null) {
+            ReentrantReadWriteLock newLatch = new ReentrantReadWriteLock();
+            latch = latches.putIfAbsent(dbFile, newLatch);
+            if (latch == null)
+                latch = newLatch;
+        }
+        return latch;
+    }
+
+
+    /**
+     * 计算key的前<tt>numColumns</tt>列的哈希值。数值先统一成<tt>long</tt>
+     * (整数值的浮点数也是如此)，使得与列类型不同但相等的查找值落在同一个
+     * 桶中；最后打散各个二进制位，因为桶的地址只取低位。
+     *
+     * @param key 索引中的key或者查找的key
+     * @param numColumns 参与计算的列数，即索引列的个数
+     * @return 哈希值
+     */
+    public static int hashKey(Tuple key, int numColumns) {
+        int hash = 17;
+        for (int i = 0; i < numColumns; i++)
+            hash = 31 * hash + hashValue(key.getColumnValue(i));
+
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+
+    private static int hashValue(Object value) {
+        if (value == null)
+            return 0;
+
+        if (value instanceof Integer || value instanceof Long || value instanceof Short ||
+            value instanceof Byte) {
+            return Long.hashCode(((Number) value).longValue());
+        }
+
+        if (value instanceof Float || value instanceof Double) {
+            double d = ((Number) value).doubleValue();
+            if (d == (long) d)
+                return Long.hashCode((long) d);
+
+            return Double.hashCode(d);
+        }
+
+        return value.hashCode();
+    }
+
+
+    /**
+     * 按哈希值计算桶的编号
+     */
+    static int getBucket(DBPage dbpHeader, int hash) {
+        int level = HeaderPage.getLevel(dbpHeader);
+        int bucket = hash & ((1 << level) - 1);
+        if (bucket < HeaderPage.getNextSplit(dbpHeader))
+            bucket = hash & ((1 << (level + 1)) - 1);
+
+        return bucket;
+    }
+
+
+    /**
+     * 返回桶的首页面的页号
+     */
+    int getBucketPageNo(DBPage dbpHeader, int bucket) throws IOException {
+        DBFile dbFile = dbpHeader.getDBFile();
+        int perPage = HeaderPage.getBucketsPerDirectoryPage(dbFile.getPageSize());
+        int dirPageNo = HeaderPage.getDirectoryPageNo(dbpHeader, bucket / perPage);
+
+        DBPage dirPage = storageManager.loadDBPage(dbFile, dirPageNo);
+        try {
+            return dirPage.readInt(HeaderPage.OFFSET_DIRECTORY_ENTRIES +
+                (bucket % perPage) * POINTER_SIZE);
+        }
+        finally {
+            storageManager.unpinDBPage(dirPage);
+        }
+    }
+
+
+    /**
+     * 在目录中记录桶的首页面，需要时分配新的目录页面
+     */
+    private void setBucketPageNo(DBPage dbpHeader, int bucket, int pageNo)
+        throws IOException {
+
+        DBFile dbFile = dbpHeader.getDBFile();
+        int perPage = HeaderPage.getBucketsPerDirectoryPage(dbFile.getPageSize());
+        int dirIndex = bucket / perPage;
+
+        DBPage dirPage;
+        int dirPageNo = HeaderPage.getDirectoryPageNo(dbpHeader, dirIndex);
+        if (dirPageNo == 0) {
+            dirPage = getNewDataPage(dbpHeader);
+            dirPage.setDataRange(0, dirPage.getPageSize(), (byte) 0);
+            dirPage.writeByte(0, HASH_DIRECTORY_PAGE);
+            HeaderPage.setDirectoryPageNo(dbpHeader, dirIndex, dirPage.getPageNo());
+        }
+        else {
+            dirPage = storageManager.loadDBPage(dbFile, dirPageNo);
+        }
+
+        try {
+            dirPage.writeInt(HeaderPage.OFFSET_DIRECTORY_ENTRIES +
+                (bucket % perPage) * POINTER_SIZE, pageNo);
+            storageManager.logDBPageWrite(dirPage);
+        }
+        finally {
+            storageManager.unpinDBPage(dirPage);
+        }
+    }
+
+
+    /**
+     * 索引最多可以有的桶数，受目录大小的限制
+     */
+    private static int getMaxBuckets(int pageSize) {
+        long maxBuckets = (long) HeaderPage.getMaxDirectoryPages(pageSize) *
+            HeaderPage.getBucketsPerDirectoryPage(pageSize);
+        return (int) Math.min(maxBuckets, 1 << 30);
+    }
+
+
+    /**
+     * 把一条记录加入它所在的桶，然后检查是否需要分裂。调用者负责记录头页面
+     * 的修改。
+     *
+     * @param unique 为<tt>true</tt>时检查桶中是否已有相同的key
+     *
+     * @throws ConstraintViolationException 唯一索引中出现重复的key
+     */
+    private void insertKey(IndexFileInfo idxFileInfo, DBPage dbpHeader,
+                           LiteralTuple key, boolean unique) throws IOException {
+
+        DBFile dbFile = idxFileInfo.getDBFile();
+        List<ColumnInfo> colInfos = idxFileInfo.getIndexSchema();
+        int numKeyCols = colInfos.size() - 1;
+
+        int entrySize = BucketPage.HASH_SIZE + key.getStorageSize();
+        if (entrySize > BucketPage.getCapacity(dbFile.getPageSize())) {
+            throw new IOException(String.format("Key %s is %d bytes, too large for index %s",
+                key, key.getStorageSize(), idxFileInfo.getIndexName()));
+        }
+
+        int hash = hashKey(key, numKeyCols);
+        int pageNo = getBucketPageNo(dbpHeader, getBucket(dbpHeader, hash));
+
+        // 找到链上第一个放得下的页面，都放不下时在链尾接一个溢出页面
+        List<DBPage> pinned = new ArrayList<DBPage>();
+        try {
+            BucketPage target = null;
+            BucketPage last = null;
+            while (pageNo != 0) {
+                DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo);
+                pinned.add(dbPage);
+                BucketPage page = new BucketPage(dbPage, colInfos);
+
+                if (unique && findDuplicate(page, hash, key, numKeyCols)) {
+                    throw new ConstraintViolationException(String.format(
+                        "Can't create unique index %s:  duplicate key %s",
+                        idxFileInfo.getIndexName(), key));
+                }
+
+                if (target == null && page.getFreeSpace() >= entrySize) {
+                    target = page;
+                    if (!unique)
+                        break;
+                }
+
+                last = page;
+                pageNo = page.getNextPageNo();
+            }
+
+            if (target == null) {
+                DBPage dbPage = getNewDataPage(dbpHeader);
+                pinned.add(dbPage);
+                target = BucketPage.init(dbPage, colInfos);
+
+                last.setNextPageNo(dbPage.getPageNo());
+                storageManager.logDBPageWrite(last.getDBPage());
+            }
+
+            target.addEntry(hash, key);
+            storageManager.logDBPageWrite(target.getDBPage());
+        }
+        finally {
+            for (DBPage dbPage : pinned)
+                storageManager.unpinDBPage(dbPage);
+        }
+
+        HeaderPage.setNumEntries(dbpHeader, HeaderPage.getNumEntries(dbpHeader) + 1);
+        HeaderPage.setDataSize(dbpHeader, HeaderPage.getDataSize(dbpHeader) + entrySize);
+
+        int numBuckets = HeaderPage.getNumBuckets(dbpHeader);
+        long capacity = (long) numBuckets *
+            BucketPage.getCapacity(dbFile.getPageSize()) * fillFactor / 100;
+        if (HeaderPage.getDataSize(dbpHeader) > capacity &&
+            numBuckets < getMaxBuckets(dbFile.getPageSize())) {
+            splitBucket(idxFileInfo, dbpHeader);
+        }
+    }
+
+
+    /**
+     * 桶页面中是否已有索引列与<tt>key</tt>相同且不含<tt>NULL</tt>的记录
+     */
+    private static boolean findDuplicate(BucketPage page, int hash, LiteralTuple key,
+                                         int numKeyCols) {
+        for (int i = 0; i < numKeyCols; i++) {
+            if (key.isNullValue(i))
+                return false;
+        }
+
+        int dataEnd = page.getDataEnd();
+        for (int offset = BucketPage.OFFSET_FIRST_ENTRY; offset < dataEnd; ) {
+            HashIndexPageTuple stored = page.getKey(offset);
+            if (page.getHash(offset) == hash && keyMatches(stored, key, numKeyCols))
+                return true;
+
+            offset = stored.getEndOffset();
+        }
+        return false;
+    }
+
+
+    /**
+     * 比较记录与key的前<tt>numColumns</tt>列是否相等
+     */
+    private static boolean keyMatches(Tuple stored, Tuple key, int numColumns) {
+        for (int i = 0; i < numColumns; i++) {
+            if (TupleComparator.compareValues(stored.getColumnValue(i), key.getColumnValue(i)) != 0)
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * 从桶中删除与<tt>key</tt>完全相同(包括file-pointer)的记录。溢出页面
+     * 变空时从链中摘下，放入空页面链表。
+     *
+     * @return 找到并删除了记录时返回<tt>true</tt>
+     */
+    private boolean removeKey(IndexFileInfo idxFileInfo, DBPage dbpHeader,
+                              LiteralTuple key) throws IOException {
+
+        DBFile dbFile = idxFileInfo.getDBFile();
+        List<ColumnInfo> colInfos = idxFileInfo.getIndexSchema();
+        int numKeyCols = colInfos.size() - 1;
+        Object filePointer = key.getColumnValue(numKeyCols);
+
+        int hash = hashKey(key, numKeyCols);
+        int pageNo = getBucketPageNo(dbpHeader, getBucket(dbpHeader, hash));
+
+        DBPage prevPage = null;
+        try {
+            while (pageNo != 0) {
+                DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo);
+                BucketPage page = new BucketPage(dbPage, colInfos);
+
+                int dataEnd = page.getDataEnd();
+                for (int offset = BucketPage.OFFSET_FIRST_ENTRY; offset < dataEnd; ) {
+                    HashIndexPageTuple stored = page.getKey(offset);
+                    int end = stored.getEndOffset();
+                    if (page.getHash(offset) == hash && keyMatches(stored, key, numKeyCols) &&
+                        filePointer.equals(stored.getColumnValue(numKeyCols))) {
+
+                        int entrySize = end - offset;
+                        page.removeEntry(offset, entrySize);
+
+                        if (page.getNumEntries() == 0 && prevPage != null) {
+                            // 空的溢出页面：把前一个页面接到它的下一个页面
+                            new BucketPage(prevPage, colInfos).setNextPageNo(page.getNextPageNo());
+                            storageManager.logDBPageWrite(prevPage);
+                            releaseDataPage(dbpHeader, dbPage);
+                        }
+                        storageManager.logDBPageWrite(dbPage);
+                        storageManager.unpinDBPage(dbPage);
+
+                        HeaderPage.setNumEntries(dbpHeader, HeaderPage.getNumEntries(dbpHeader) - 1);
+                        HeaderPage.setDataSize(dbpHeader, HeaderPage.getDataSize(dbpHeader) - entrySize);
+                        return true;
+                    }
+                    offset = end;
+                }
+
+                if (prevPage != null)
+                    storageManager.unpinDBPage(prevPage);
+                prevPage = dbPage;
+                pageNo = page.getNextPageNo();
+            }
+        }
+        finally {
+            if (prevPage != null)
+                storageManager.unpinDBPage(prevPage);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * 分裂第<i>next</i>个桶。哈希值第<i>L</i>位为1的记录移到新的桶
+     * 2<sup>L</sup> + <i>next</i>，其余的留在原来的桶，原来的溢出页面全部
+     * 回收后按需要重新分配。
+     */
+    private void splitBucket(IndexFileInfo idxFileInfo, DBPage dbpHeader)
+        throws IOException {
+
+        DBFile dbFile = idxFileInfo.getDBFile();
+        List<ColumnInfo> colInfos = idxFileInfo.getIndexSchema();
+
+        int level = HeaderPage.getLevel(dbpHeader);
+        int oldBucket = HeaderPage.getNextSplit(dbpHeader);
+        int highBit = 1 << level;
+        int newBucket = oldBucket + highBit;
+
+        logger.debug(String.format("Splitting bucket %d of index %s into bucket %d",
+            oldBucket, idxFileInfo.getIndexName(), newBucket));
+
+        // 读出原来的桶中的所有记录
+        ArrayList<byte[]> stay = new ArrayList<byte[]>();
+        ArrayList<byte[]> move = new ArrayList<byte[]>();
+        int firstPageNo = getBucketPageNo(dbpHeader, oldBucket);
+        int pageNo = firstPageNo;
+        while (pageNo != 0) {
+            DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo);
+            try {
+                BucketPage page = new BucketPage(dbPage, colInfos);
+                int dataEnd = page.getDataEnd();
+                for (int offset = BucketPage.OFFSET_FIRST_ENTRY; offset < dataEnd; ) {
+                    int entrySize = page.getEntrySize(offset);
+                    byte[] entry = page.readEntryBytes(offset, entrySize);
+                    if ((page.getHash(offset) & highBit) != 0)
+                        move.add(entry);
+                    else
+                        stay.add(entry);
+
+                    offset += entrySize;
+                }
+
+                pageNo = page.getNextPageNo();
+                if (dbPage.getPageNo() != firstPageNo) {
+                    releaseDataPage(dbpHeader, dbPage);
+                    storageManager.logDBPageWrite(dbPage);
+                }
+            }
+            finally {
+                storageManager.unpinDBPage(dbPage);
+            }
+        }
+
+        DBPage dbPage = storageManager.loadDBPage(dbFile, firstPageNo);
+        BucketPage oldPage = new BucketPage(dbPage, colInfos);
+        oldPage.clear();
+        oldPage.setNextPageNo(0);
+        writeEntries(dbpHeader, oldPage, stay, colInfos);
+
+        dbPage = getNewDataPage(dbpHeader);
+        BucketPage newPage = BucketPage.init(dbPage, colInfos);
+        setBucketPageNo(dbpHeader, newBucket, dbPage.getPageNo());
+        writeEntries(dbpHeader, newPage, move, colInfos);
+
+        if (oldBucket + 1 == highBit) {
+            HeaderPage.setLevel(dbpHeader, level + 1);
+            HeaderPage.setNextSplit(dbpHeader, 0);
+        }
+        else {
+            HeaderPage.setNextSplit(dbpHeader, oldBucket + 1);
+        }
+    }
+
+
+    /**
+     * 把记录依次写入桶的首页面，放不下时接上新的溢出页面。写完后记录并unpin
+     * 所有页面，包括传入的首页面。
+     */
+    private void writeEntries(DBPage dbpHeader, BucketPage page, List<byte[]> entries,
+                              List<ColumnInfo> colInfos) throws IOException {
+        for (byte[] entry : entries) {
+            if (page.getFreeSpace() < entry.length) {
+                DBPage dbPage = getNewDataPage(dbpHeader);
+                BucketPage nextPage = BucketPage.init(dbPage, colInfos);
+                page.setNextPageNo(dbPage.getPageNo());
+
+                storageManager.logDBPageWrite(page.getDBPage());
+                storageManager.unpinDBPage(page.getDBPage());
+                page = nextPage;
+            }
+            page.addEntryBytes(entry);
+        }
+
+        storageManager.logDBPageWrite(page.getDBPage());
+        storageManager.unpinDBPage(page.getDBPage());
+    }
+
+
+    /**
+     * 从空页面链表中取出一个页面，链表为空时扩展文件
+     */
+    private DBPage getNewDataPage(DBPage dbpHeader) throws IOException {
+        DBFile dbFile = dbpHeader.getDBFile();
+
+        DBPage newPage;
+        int pageNo = HeaderPage.getFirstEmptyPageNo(dbpHeader);
+        if (pageNo == 0) {
+            newPage = storageManager.loadDBPage(dbFile, dbFile.getNumPages(), true);
+        }
+        else {
+            newPage = storageManager.loadDBPage(dbFile, pageNo);
+            HeaderPage.setFirstEmptyPageNo(dbpHeader, newPage.readInt(OFFSET_NEXT_EMPTY_PAGE));
+        }
+
+        return newPage;
+    }
+
+
+    /**
+     * 把页面标记为空页面，放入空页面链表，调用者负责记录页面的修改
+     */
+    private void releaseDataPage(DBPage dbpHeader, DBPage dbPage) {
+        dbPage.writeByte(0, HASH_EMPTY_PAGE);
+        dbPage.writeInt(OFFSET_NEXT_EMPTY_PAGE, HeaderPage.getFirstEmptyPageNo(dbpHeader));
+
+        if (CLEAR_OLD_DATA) {
+            int dataStart = OFFSET_NEXT_EMPTY_PAGE + POINTER_SIZE;
+            dbPage.setDataRange(dataStart, dbPage.getPageSize() - dataStart, (byte) 0);
+        }
+
+        HeaderPage.setFirstEmptyPageNo(dbpHeader, dbPage.getPageNo());
+    }
+
+
+    /**
+     * 生成存入索引的key：索引列的值，最后一列是tuple的file-pointer
+     */
+    LiteralTuple makeStoredKeyValue(IndexFileInfo idxFileInfo, PageTuple ptup) {
+        ColumnIndexes colIndexes = idxFileInfo.getTableColumnIndexes();
+
+        LiteralTuple newKeyVal = new LiteralTuple();
+        for (int i = 0; i < colIndexes.size(); i++)
+            newKeyVal.addValue(ptup.getColumnValue(colIndexes.getCol(i)));
+
+        newKeyVal.addValue(ptup.getExternalReference());
+
+        List<ColumnInfo> colInfos = idxFileInfo.getIndexSchema();
+        newKeyVal.setStorageSize(PageTupleUtil.getTupleStorageSize(colInfos, newKeyVal));
+
+        return newKeyVal;
+    }
+}
@@ -0,0 +1,52 @@
+package com.bow.maple.storage.hashindex;
+
+
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.PageTuple;
+
+import java.util.List;
+
+
+/**
+ * 通过<tt>PageTuple</tt>读取哈希索引桶页面中存储的key
+ */
+public class HashIndexPageTuple extends PageTuple {
+    public HashIndexPageTuple(DBPage dbPage, int pageOffset,
+                              List<ColumnInfo> colInfos) {
+        super(dbPage, pageOffset, colInfos);
+    }
+
+
+    @Override
+    protected void insertTupleDataRange(int off, int len) {
+        throw new UnsupportedOperationException(
+            "Hash index tuples don't support updating or resizing.");
+    }
+
+
+    @Override
+    protected void deleteTupleDataRange(int off, int len) {
+        throw new UnsupportedOperationException(
+            "Hash index tuples don't support updating or resizing.");
+    }
+
+
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder();
+        buf.append("HPT[");
+
+        for (int i = 0; i < getColumnCount(); i++) {
+            if (i > 0)
+                buf.append(',');
+
+            Object obj = getColumnValue(i);
+            buf.append(obj == null ? "NULL" : obj);
+        }
+
+        buf.append(']');
+
+        return buf.toString();
+    }
+}
@@ -0,0 +1,175 @@
+package com.bow.maple.storage.hashindex;
+
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import com.bow.lab.indexes.IndexFileInfo;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.StorageManager;
+
+
+/**
+ * 检查线性哈希索引的结构：每个桶的页面链，记录的哈希值与所在的桶，头页面
+ * 中的统计，以及空页面链表。
+ */
+class HashIndexVerifier {
+
+    private HashIndexManager indexManager;
+
+
+    private StorageManager storageManager;
+
+
+    private IndexFileInfo idxFileInfo;
+
+
+    private DBFile dbFile;
+
+
+    /** 已经在某个链表中出现过的页面，每个页面只能出现一次 */
+    private HashSet<Integer> visited = new HashSet<Integer>();
+
+
+    private ArrayList<String> errors = new ArrayList<String>();
+
+
+    HashIndexVerifier(HashIndexManager indexManager, StorageManager storageManager,
+                      IndexFileInfo idxFileInfo) {
+        this.indexManager = indexManager;
+        this.storageManager = storageManager;
+        this.idxFileInfo = idxFileInfo;
+        this.dbFile = idxFileInfo.getDBFile();
+    }
+
+
+    List<String> verify() throws IOException {
+        List<ColumnInfo> colInfos = idxFileInfo.getIndexSchema();
+        int numKeyCols = colInfos.size() - 1;
+
+        DBPage dbpHeader = storageManager.loadDBPage(dbFile, 0);
+        try {
+            int numPages = dbFile.getNumPages();
+            int numBuckets = HeaderPage.getNumBuckets(dbpHeader);
+
+            int perPage = HeaderPage.getBucketsPerDirectoryPage(dbFile.getPageSize());
+            for (int i = 0; i * perPage < numBuckets; i++) {
+                int dirPageNo = HeaderPage.getDirectoryPageNo(dbpHeader, i);
+                if (!checkPage(dirPageNo, numPages, HashIndexManager.HASH_DIRECTORY_PAGE,
+                    "Directory page " + i)) {
+                    return errors;
+                }
+            }
+
+            long numEntries = 0;
+            long dataSize = 0;
+            for (int bucket = 0; bucket < numBuckets; bucket++) {
+                int pageNo = indexManager.getBucketPageNo(dbpHeader, bucket);
+
+                while (pageNo != 0) {
+                    if (!checkPage(pageNo, numPages, HashIndexManager.HASH_BUCKET_PAGE,
+                        "Bucket " + bucket)) {
+                        break;
+                    }
+
+                    DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo);
+                    try {
+                        BucketPage page = new BucketPage(dbPage, colInfos);
+                        int dataEnd = page.getDataEnd();
+                        int count = 0;
+                        int offset = BucketPage.OFFSET_FIRST_ENTRY;
+                        while (offset < dataEnd) {
+                            HashIndexPageTuple key = page.getKey(offset);
+                            int hash = page.getHash(offset);
+                            if (hash != HashIndexManager.hashKey(key, numKeyCols)) {
+                                errors.add(String.format("Bucket page %d:  entry %s at offset " +
+                                    "%d has the wrong hash value", pageNo, key, offset));
+                            }
+                            else if (HashIndexManager.getBucket(dbpHeader, hash) != bucket) {
+                                errors.add(String.format("Bucket page %d:  entry %s belongs " +
+                                    "in bucket %d, not %d", pageNo, key,
+                                    HashIndexManager.getBucket(dbpHeader, hash), bucket));
+                            }
+
+                            offset = key.getEndOffset();
+                            count++;
+                        }
+
+                        if (offset != dataEnd || count != page.getNumEntries()) {
+                            errors.add(String.format("Bucket page %d:  header says %d " +
+                                "entries ending at %d, found %d ending at %d", pageNo,
+                                page.getNumEntries(), dataEnd, count, offset));
+                        }
+
+                        numEntries += count;
+                        dataSize += dataEnd - BucketPage.OFFSET_FIRST_ENTRY;
+                        pageNo = page.getNextPageNo();
+                    }
+                    finally {
+                        storageManager.unpinDBPage(dbPage);
+                    }
+                }
+            }
+
+            if (numEntries != HeaderPage.getNumEntries(dbpHeader) ||
+                dataSize != HeaderPage.getDataSize(dbpHeader)) {
+                errors.add(String.format("Header page says %d entries / %d bytes, " +
+                    "buckets hold %d entries / %d bytes", HeaderPage.getNumEntries(dbpHeader),
+                    HeaderPage.getDataSize(dbpHeader), numEntries, dataSize));
+            }
+
+            int pageNo = HeaderPage.getFirstEmptyPageNo(dbpHeader);
+            while (pageNo != 0) {
+                if (!checkPage(pageNo, numPages, HashIndexManager.HASH_EMPTY_PAGE, "Empty list"))
+                    break;
+
+                DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo);
+                pageNo = dbPage.readInt(HashIndexManager.OFFSET_NEXT_EMPTY_PAGE);
+                storageManager.unpinDBPage(dbPage);
+            }
+        }
+        finally {
+            storageManager.unpinDBPage(dbpHeader);
+        }
+
+        return errors;
+    }
+
+
+    /**
+     * 检查页号是否有效、页面类型是否正确以及是否已经出现过
+     *
+     * @return 可以继续沿着这个页面检查时返回<tt>true</tt>
+     */
+    private boolean checkPage(int pageNo, int numPages, int expectedType, String where)
+        throws IOException {
+
+        if (pageNo <= 0 || pageNo >= numPages) {
+            errors.add(String.format("%s:  page %d is outside the index file (%d pages)",
+                where, pageNo, numPages));
+            return false;
+        }
+
+        if (!visited.add(pageNo)) {
+            errors.add(String.format("%s:  page %d is referenced more than once",
+                where, pageNo));
+            return false;
+        }
+
+        DBPage dbPage = storageManager.loadDBPage(dbFile, pageNo);
+        int pageType = dbPage.readUnsignedByte(0);
+        storageManager.unpinDBPage(dbPage);
+
+        if (pageType != expectedType) {
+            errors.add(String.format("%s:  page %d has type %d, expected %d",
+                where, pageNo, pageType, expectedType));
+            return false;
+        }
+
+        return true;
+    }
+}
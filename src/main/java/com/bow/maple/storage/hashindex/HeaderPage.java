@@ -0,0 +1,176 @@
+package com.bow.maple.storage.hashindex;
+
+
+import com.bow.maple.storage.DBFileType;
+import com.bow.maple.storage.DBPage;
+
+
+/**
+ * 线性哈希索引的头页面(第0页)，结构如下：
+ *
+ * <ul>
+ *   <li><u>Byte 0:</u>  {@link DBFileType#HASH_INDEX_FILE} (unsigned byte)</li>
+ *   <li><u>Byte 1:</u>  page size  <i>p</i> and format version - file's
+ *       page size is <i>P</i> = 2<sup>p</sup></li>
+ *   <li><u>Byte 4-7:</u>  当前的level <i>L</i>，桶的地址先按
+ *       2<sup>L</sup>取模 (int)</li>
+ *   <li><u>Byte 8-11:</u>  下一个要分裂的桶 (int)</li>
+ *   <li><u>Byte 12-15:</u>  索引中的记录数 (int)</li>
+ *   <li><u>Byte 16-19:</u>  第一个空页面，空页面组成单链表 (int)</li>
+ *   <li><u>Byte 20-27:</u>  所有记录占用的字节数，用于判断是否需要分裂 (long)</li>
+ *   <li><u>Byte 28-P:</u>  目录页面的页号 (int数组)，第<i>i</i>个目录页面
+ *       记录第<i>i</i> * {@link #getBucketsPerDirectoryPage}个桶开始的
+ *       各个桶的首页面</li>
+ * </ul>
+ *
+ * 桶的个数为2<sup>L</sup> + 下一个要分裂的桶。
+ */
+public class HeaderPage {
+
+    /** 当前level的存储位置，int */
+    public static final int OFFSET_LEVEL = 4;
+
+
+    /** 下一个要分裂的桶的存储位置，int */
+    public static final int OFFSET_NEXT_SPLIT = 8;
+
+
+    /** 记录数的存储位置，int */
+    public static final int OFFSET_NUM_ENTRIES = 12;
+
+
+    /** 第一个空页面的存储位置，int */
+    public static final int OFFSET_FIRST_EMPTY_PAGE = 16;
+
+
+    /** 所有记录占用的字节数的存储位置，long */
+    public static final int OFFSET_DATA_SIZE = 20;
+
+
+    /** 目录页面页号数组的起始位置 */
+    public static final int OFFSET_DIRECTORY = 28;
+
+
+    /** 目录页面中，桶的首页面页号数组的起始位置 */
+    public static final int OFFSET_DIRECTORY_ENTRIES = 4;
+
+
+    private static void verifyIsHeaderPage(DBPage dbPage) {
+        if (dbPage == null)
+            throw new IllegalArgumentException("dbPage cannot be null");
+
+        if (dbPage.getPageNo() != 0) {
+            throw new IllegalArgumentException(
+                "Page 0 is the header page in this storage format; was given page " +
+                    dbPage.getPageNo());
+        }
+    }
+
+
+    public static int getLevel(DBPage dbPage) {
+        verifyIsHeaderPage(dbPage);
+        return dbPage.readInt(OFFSET_LEVEL);
+    }
+
+
+    public static void setLevel(DBPage dbPage, int level) {
+        verifyIsHeaderPage(dbPage);
+        dbPage.writeInt(OFFSET_LEVEL, level);
+    }
+
+
+    public static int getNextSplit(DBPage dbPage) {
+        verifyIsHeaderPage(dbPage);
+        return dbPage.readInt(OFFSET_NEXT_SPLIT);
+    }
+
+
+    public static void setNextSplit(DBPage dbPage, int nextSplit) {
+        verifyIsHeaderPage(dbPage);
+        dbPage.writeInt(OFFSET_NEXT_SPLIT, nextSplit);
+    }
+
+
+    /**
+     * 返回桶的个数，即2<sup>level</sup> + 下一个要分裂的桶
+     *
+     * @param dbPage 索引的头页面
+     * @return 桶的个数
+     */
+    public static int getNumBuckets(DBPage dbPage) {
+        return (1 << getLevel(dbPage)) + getNextSplit(dbPage);
+    }
+
+
+    public static int getNumEntries(DBPage dbPage) {
+        verifyIsHeaderPage(dbPage);
+        return dbPage.readInt(OFFSET_NUM_ENTRIES);
+    }
+
+
+    public static void setNumEntries(DBPage dbPage, int numEntries) {
+        verifyIsHeaderPage(dbPage);
+        dbPage.writeInt(OFFSET_NUM_ENTRIES, numEntries);
+    }
+
+
+    public static int getFirstEmptyPageNo(DBPage dbPage) {
+        verifyIsHeaderPage(dbPage);
+        return dbPage.readInt(OFFSET_FIRST_EMPTY_PAGE);
+    }
+
+
+    public static void setFirstEmptyPageNo(DBPage dbPage, int firstEmptyPageNo) {
+        verifyIsHeaderPage(dbPage);
+
+        if (firstEmptyPageNo < 0) {
+            throw new IllegalArgumentException(
+                "firstEmptyPageNo must be >= 0; got " + firstEmptyPageNo);
+        }
+
+        dbPage.writeInt(OFFSET_FIRST_EMPTY_PAGE, firstEmptyPageNo);
+    }
+
+
+    public static long getDataSize(DBPage dbPage) {
+        verifyIsHeaderPage(dbPage);
+        return dbPage.readLong(OFFSET_DATA_SIZE);
+    }
+
+
+    public static void setDataSize(DBPage dbPage, long dataSize) {
+        verifyIsHeaderPage(dbPage);
+        dbPage.writeLong(OFFSET_DATA_SIZE, dataSize);
+    }
+
+
+    /**
+     * 头页面中最多可以记录的目录页面个数
+     */
+    public static int getMaxDirectoryPages(int pageSize) {
+        return (pageSize - OFFSET_DIRECTORY) / HashIndexManager.POINTER_SIZE;
+    }
+
+
+    /**
+     * 一个目录页面中可以记录的桶的个数
+     */
+    public static int getBucketsPerDirectoryPage(int pageSize) {
+        return (pageSize - OFFSET_DIRECTORY_ENTRIES) / HashIndexManager.POINTER_SIZE;
+    }
+
+
+    /**
+     * 返回第<tt>index</tt>个目录页面的页号，尚未分配时为0
+     */
+    public static int getDirectoryPageNo(DBPage dbPage, int index) {
+        verifyIsHeaderPage(dbPage);
+        return dbPage.readInt(OFFSET_DIRECTORY + index * HashIndexManager.POINTER_SIZE);
+    }
+
+
+    public static void setDirectoryPageNo(DBPage dbPage, int index, int pageNo) {
+        verifyIsHeaderPage(dbPage);
+        dbPage.writeInt(OFFSET_DIRECTORY + index * HashIndexManager.POINTER_SIZE, pageNo);
+    }
+}
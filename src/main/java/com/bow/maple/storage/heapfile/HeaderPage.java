@@ -89,8 +89,9 @@ public class HeaderPage {
     /**
      * This is the <em>relative</em> offset of the number of data-pages in the
      * table file, relative to the start of the table statistics.  This value is
-     * an unsigned short, since we constrain all data files to have at most 64K
-     * total pages.
+     * a signed integer (4 bytes).  In files of
+     * {@link DBFile#LEGACY_FORMAT_VERSION} it is an unsigned short, and all of
+     * the following statistics are {@link #LEGACY_STATS_SHIFT} bytes earlier.
      *
      * @see #getStatsOffset
      */
@@ -105,7 +106,7 @@ public class HeaderPage {
      *
      * @see #getStatsOffset
      */
-    public static final int RELOFF_NUM_TUPLES = 2;
+    public static final int RELOFF_NUM_TUPLES = 4;
 
 
     /**
@@ -121,7 +122,7 @@ public class HeaderPage {
      *
      * @see #getStatsOffset
      */
-    public static final int RELOFF_AVG_TUPLE_SIZE = 6;
+    public static final int RELOFF_AVG_TUPLE_SIZE = 8;
 
 
     /**
@@ -133,7 +134,14 @@ public class HeaderPage {
      *
      * @see #getStatsOffset
      */
-    public static final int RELOFF_COLUMN_STATS = 10;
+    public static final int RELOFF_COLUMN_STATS = 12;
+
+
+    /**
+     * 旧格式的文件中数据页数只占2个字节，其后的统计信息的相对位置都要减去
+     * 这个值。
+     */
+    public static final int LEGACY_STATS_SHIFT = 2;
 
 
     /**
@@ -263,6 +271,32 @@ public class HeaderPage {
     }
 
 
+    /**
+     * 判断头页面是否还是旧格式。格式版本号从头页面自己的第1个字节中读出，这样
+     * 即使头页面被回滚，统计信息的布局也与页面内容一致。
+     */
+    private static boolean isLegacyFormat(DBPage dbPage) {
+        int version = DBFile.decodeFormatVersion(dbPage.readUnsignedByte(1));
+        return version < DBFile.INT_PAGE_NO_FORMAT_VERSION;
+    }
+
+
+    /**
+     * 返回某项统计信息在头页面中的位置
+     *
+     * @param dbPage the header page of the heap table file
+     * @param relOffset 统计信息的相对位置，即<tt>RELOFF_*</tt>常量
+     * @return 统计信息在头页面中的位置
+     */
+    private static int getStatOffset(DBPage dbPage, int relOffset) {
+        int offset = getStatsOffset(dbPage) + relOffset;
+        if (relOffset > RELOFF_NUM_DATA_PAGES && isLegacyFormat(dbPage))
+            offset -= LEGACY_STATS_SHIFT;
+
+        return offset;
+    }
+
+
     /**
      * Updates the "number of data pages" statistic for this heap file.
      *
@@ -272,8 +306,11 @@ public class HeaderPage {
     public static void setStatNumDataPages(DBPage dbPage, int numPages) {
         verifyIsHeaderPage(dbPage);
 
-        int offset = getStatsOffset(dbPage) + RELOFF_NUM_DATA_PAGES;
-        dbPage.writeShort(offset, numPages);
+        int offset = getStatOffset(dbPage, RELOFF_NUM_DATA_PAGES);
+        if (isLegacyFormat(dbPage))
+            dbPage.writeShort(offset, numPages);
+        else
+            dbPage.writeInt(offset, numPages);
     }
 
 
@@ -286,8 +323,11 @@ public class HeaderPage {
     public static int getStatNumDataPages(DBPage dbPage) {
         verifyIsHeaderPage(dbPage);
 
-        int offset = getStatsOffset(dbPage) + RELOFF_NUM_DATA_PAGES;
-        return dbPage.readUnsignedShort(offset);
+        int offset = getStatOffset(dbPage, RELOFF_NUM_DATA_PAGES);
+        if (isLegacyFormat(dbPage))
+            return dbPage.readUnsignedShort(offset);
+
+        return dbPage.readInt(offset);
     }
 
 
@@ -300,7 +340,7 @@ public class HeaderPage {
     public static void setStatNumTuples(DBPage dbPage, int numTuples) {
         verifyIsHeaderPage(dbPage);
 
-        int offset = getStatsOffset(dbPage) + RELOFF_NUM_TUPLES;
+        int offset = getStatOffset(dbPage, RELOFF_NUM_TUPLES);
         // Casting long to int here is fine, since we are writing an
         // unsigned int.
         dbPage.writeInt(offset, numTuples);
@@ -316,7 +356,7 @@ public class HeaderPage {
     public static int getStatNumTuples(DBPage dbPage) {
         verifyIsHeaderPage(dbPage);
 
-        int offset = getStatsOffset(dbPage) + RELOFF_NUM_TUPLES;
+        int offset = getStatOffset(dbPage, RELOFF_NUM_TUPLES);
         return dbPage.readInt(offset);
     }
 
@@ -330,7 +370,7 @@ public class HeaderPage {
     public static void setStatAvgTupleSize(DBPage dbPage, float avgTupleSize) {
         verifyIsHeaderPage(dbPage);
 
-        int offset = getStatsOffset(dbPage) + RELOFF_AVG_TUPLE_SIZE;
+        int offset = getStatOffset(dbPage, RELOFF_AVG_TUPLE_SIZE);
         dbPage.writeFloat(offset, avgTupleSize);
     }
 
@@ -344,7 +384,7 @@ public class HeaderPage {
     public static float getStatAvgTupleSize(DBPage dbPage) {
         verifyIsHeaderPage(dbPage);
 
-        int offset = getStatsOffset(dbPage) + RELOFF_AVG_TUPLE_SIZE;
+        int offset = getStatOffset(dbPage, RELOFF_AVG_TUPLE_SIZE);
         return dbPage.readFloat(offset);
     }
 
@@ -356,7 +396,7 @@ public class HeaderPage {
         logger.debug("Reading table-statistics from header page.");
 
         PageReader reader = new PageReader(dbPage);
-        reader.setPosition(getStatsOffset(dbPage) + RELOFF_COLUMN_STATS);
+        reader.setPosition(getStatOffset(dbPage, RELOFF_COLUMN_STATS));
 
         Schema schema = tblFileInfo.getSchema();
         ArrayList<ColumnStats> colStats = new ArrayList<ColumnStats>();
@@ -402,12 +442,20 @@ public class HeaderPage {
         Schema schema = tblFileInfo.getSchema();
         TableStats stats = tblFileInfo.getStats();
 
+        if (isLegacyFormat(dbPage)) {
+            // 统计信息整个重写，顺便把头页面升级为新格式
+            logger.info("Upgrading header page of " + dbPage.getDBFile() +
+                " to file format version " + DBFile.CURRENT_FORMAT_VERSION);
+            dbPage.writeByte(1, DBFile.encodePageSizeAndVersion(
+                dbPage.getPageSize(), DBFile.CURRENT_FORMAT_VERSION));
+        }
+
         setStatNumDataPages(dbPage, stats.numDataPages);
         setStatNumTuples(dbPage, stats.numTuples);
         setStatAvgTupleSize(dbPage, stats.avgTupleSize);
 
         PageWriter writer = new PageWriter(dbPage);
-        writer.setPosition(getStatsOffset(dbPage) + RELOFF_COLUMN_STATS);
+        writer.setPosition(getStatOffset(dbPage, RELOFF_COLUMN_STATS));
 
         ArrayList<ColumnStats> colStats = stats.getAllColumnStats();
         for (int i = 0; i < colStats.size(); i++) {
@@ -11,6 +11,7 @@ import com.bow.lab.storage.heap.PageTupleUtil;
 import com.bow.maple.qeval.ColumnStats;
 import com.bow.maple.qeval.ColumnStatsCollector;
 import com.bow.maple.qeval.TableStats;
+import com.bow.maple.relations.ColumnIndexes;
 import com.bow.maple.relations.ForeignKeyColumnIndexes;
 import com.bow.maple.relations.KeyColumnIndexes;
 import com.bow.maple.relations.SQLDataType;
@@ -53,6 +54,10 @@ public class HeapFileTableManager implements TableManager {
     public static final String PROP_AUTO_UPDATE_STATS = "nanodb.stats.autoupdate";
 
 
+    /** 索引的列数中表示其后还有INCLUDE列的标志位 */
+    private static final int INCLUDED_COLUMNS_FLAG = 0x80;
+
+
     /*
     private static boolean isStatsAutoUpdateEnabled() {
         return Boolean.getBoolean(PROP_AUTO_UPDATE_STATS);
@@ -111,6 +116,55 @@ public class HeapFileTableManager implements TableManager {
         // Table schema is stored into the header page, so get it and prepare
         // to write out the schema information.
         DBPage headerPage = storageManager.loadDBPage(dbFile, 0);
+        int schemaSize = writeSchema(headerPage, schema);
+
+        // Report how much space was used by schema info.  (It's the current
+        // position minus 4 bytes, since the first 2 bytes are file-type and
+        // encoded page size, and the second 2 bytes are the schema size.)
+        logger.debug("Table " + tableName + " schema uses " + schemaSize +
+            " bytes of the " + dbFile.getPageSize() + "-byte header page.");
+
+        // Write in empty statistics, so that the values are at least
+        // initialized to something.
+        TableStats stats = new TableStats(schema.numColumns());
+        tblFileInfo.setStats(stats);
+        HeaderPage.setTableStats(headerPage, tblFileInfo);
+
+        storageManager.logDBPageWrite(headerPage);
+        storageManager.unpinDBPage(headerPage);
+    }
+
+
+    /**
+     * 重写表头页面中的schema，用于<tt>CREATE INDEX</tt>之后保存新增的索引。
+     * 统计信息紧跟在schema之后，所以schema长度改变后统计信息也要重新写入。
+     */
+    @Override
+    public void saveTableInfo(TableFileInfo tblFileInfo) throws IOException {
+        DBFile dbFile = tblFileInfo.getDBFile();
+        TableSchema schema = tblFileInfo.getSchema();
+
+        DBPage headerPage = storageManager.loadDBPage(dbFile, 0);
+        int schemaSize = writeSchema(headerPage, schema);
+        logger.debug("Table " + tblFileInfo.getTableName() + " schema rewritten, now uses " +
+            schemaSize + " bytes of the header page.");
+
+        HeaderPage.setTableStats(headerPage, tblFileInfo);
+
+        storageManager.logDBPageWrite(headerPage);
+        storageManager.unpinDBPage(headerPage);
+    }
+
+
+    /**
+     * 把schema写入表头页面，并记录schema的长度。依次是列的定义、主键、候选键
+     * 和外键约束，最后是不用于约束的普通索引。
+     *
+     * @param headerPage 表的头页面
+     * @param schema 表的schema
+     * @return schema占用的字节数
+     */
+    private int writeSchema(DBPage headerPage, TableSchema schema) {
         PageWriter hpWriter = new PageWriter(headerPage);
         // Skip past the page-size value.
         hpWriter.setPosition(HeaderPage.OFFSET_NCOLS);
@@ -164,25 +218,24 @@ public class HeapFileTableManager implements TableManager {
         logger.debug("Constraints occupy " +
             (hpWriter.getPosition() - constraintStartIndex) +
             " bytes in the schema");
-        
+
+        // 主键和候选键的索引已经随约束写入，这里只写CREATE INDEX创建的普通索引
+        ArrayList<ColumnIndexes> plainIndexes = new ArrayList<ColumnIndexes>();
+        for (ColumnIndexes index : schema.getIndexes().values()) {
+            if (!(index instanceof KeyColumnIndexes))
+                plainIndexes.add(index);
+        }
+
+        logger.debug("Writing " + plainIndexes.size() + " indexes");
+        hpWriter.writeByte(plainIndexes.size());
+        for (ColumnIndexes index : plainIndexes)
+            writeIndex(hpWriter, index);
+
         // Compute and store the schema's size.
         int schemaSize = hpWriter.getPosition() - HeaderPage.OFFSET_NCOLS;
         HeaderPage.setSchemaSize(headerPage, schemaSize);
 
-        // Report how much space was used by schema info.  (It's the current
-        // position minus 4 bytes, since the first 2 bytes are file-type and
-        // encoded page size, and the second 2 bytes are the schema size.)
-        logger.debug("Table " + tableName + " schema uses " + schemaSize +
-            " bytes of the " + dbFile.getPageSize() + "-byte header page.");
-
-        // Write in empty statistics, so that the values are at least
-        // initialized to something.
-        TableStats stats = new TableStats(schema.numColumns());
-        tblFileInfo.setStats(stats);
-        HeaderPage.setTableStats(headerPage, tblFileInfo);
-
-        storageManager.logDBPageWrite(headerPage);
-        storageManager.unpinDBPage(headerPage);
+        return schemaSize;
     }
 
 
@@ -227,9 +280,7 @@ public class HeapFileTableManager implements TableManager {
         if (cName != null)
             hpWriter.writeVarString255(cName);
 
-        hpWriter.writeByte(key.size());
-        for (int i = 0; i < key.size(); i++)
-            hpWriter.writeByte(key.getCol(i));
+        writeIndexColumns(hpWriter, key);
 
         // This should always be specified.
         hpWriter.writeVarString255(key.getIndexName());
@@ -254,6 +305,56 @@ public class HeapFileTableManager implements TableManager {
             hpWriter.writeByte(key.getRefCol(i));
         }
     }
+
+
+    /**
+     * 写入一个普通索引：列数、各列的序号和索引名
+     */
+    private void writeIndex(PageWriter hpWriter, ColumnIndexes index) {
+        logger.debug(" * Index " + index.getIndexName() + " on " + index);
+
+        writeIndexColumns(hpWriter, index);
+        hpWriter.writeVarString255(index.getIndexName());
+    }
+
+
+    /**
+     * 写入索引的列数和各列的序号。有INCLUDE列时，列数的最高位置为1，之后
+     * 再写入INCLUDE列的个数和序号；没有INCLUDE列时格式与原来相同。
+     */
+    private void writeIndexColumns(PageWriter hpWriter, ColumnIndexes index) {
+        int numIncluded = index.numIncludedColumns();
+        int size = index.size();
+        if (numIncluded > 0)
+            size |= INCLUDED_COLUMNS_FLAG;
+
+        hpWriter.writeByte(size);
+        for (int i = 0; i < index.size(); i++)
+            hpWriter.writeByte(index.getCol(i));
+
+        if (numIncluded > 0) {
+            hpWriter.writeByte(numIncluded);
+            for (int i = 0; i < numIncluded; i++)
+                hpWriter.writeByte(index.getIncludedCol(i));
+        }
+    }
+
+
+    /**
+     * 读出{@link #writeIndexColumns}写入的INCLUDE列
+     *
+     * @param size 已经读出的列数，含有INCLUDE列的标志位
+     * @return INCLUDE列的序号，没有时为空数组
+     */
+    private int[] readIncludedColumns(PageReader hpReader, int size) {
+        if ((size & INCLUDED_COLUMNS_FLAG) == 0)
+            return new int[0];
+
+        int[] cols = new int[hpReader.readUnsignedByte()];
+        for (int i = 0; i < cols.length; i++)
+            cols[i] = hpReader.readUnsignedByte();
+        return cols;
+    }
         
 
 
@@ -372,6 +473,15 @@ public class HeapFileTableManager implements TableManager {
             }
         }
 
+        // 较早创建的表文件中没有普通索引的部分
+        if (hpReader.getPosition() < HeaderPage.OFFSET_NCOLS + HeaderPage.getSchemaSize(headerPage)) {
+            int numIndexes = hpReader.readUnsignedByte();
+            logger.debug("Reading " + numIndexes + " indexes");
+
+            for (int i = 0; i < numIndexes; i++)
+                schema.addIndex(readIndex(hpReader));
+        }
+
         // Read in the table's statistics.
         tblFileInfo.setStats(HeaderPage.getTableStats(headerPage, tblFileInfo));
         logger.debug(tblFileInfo.getStats());
@@ -421,20 +531,38 @@ public class HeapFileTableManager implements TableManager {
             constraintName = hpReader.readVarString255();
 
         int keySize = hpReader.readUnsignedByte();
-        int[] keyCols = new int[keySize];
-        for (int i = 0; i < keySize; i++)
+        int[] keyCols = new int[keySize & ~INCLUDED_COLUMNS_FLAG];
+        for (int i = 0; i < keyCols.length; i++)
             keyCols[i] = hpReader.readUnsignedByte();
+        int[] includedCols = readIncludedColumns(hpReader, keySize);
 
         // This should always be specified.
         String indexName = hpReader.readVarString255();
         
         KeyColumnIndexes key = new KeyColumnIndexes(indexName, keyCols);
+        key.setIncludedColumns(includedCols);
         key.setConstraintName(constraintName);
         
         return key;
     }    
 
 
+    private ColumnIndexes readIndex(PageReader hpReader) {
+        int size = hpReader.readUnsignedByte();
+        int[] cols = new int[size & ~INCLUDED_COLUMNS_FLAG];
+        for (int i = 0; i < cols.length; i++)
+            cols[i] = hpReader.readUnsignedByte();
+        int[] includedCols = readIncludedColumns(hpReader, size);
+
+        String indexName = hpReader.readVarString255();
+        logger.debug(" * Reading index " + indexName);
+
+        ColumnIndexes index = new ColumnIndexes(indexName, cols);
+        index.setIncludedColumns(includedCols);
+        return index;
+    }
+
+
     private ForeignKeyColumnIndexes readForeignKey(PageReader hpReader, int typeID) {
         logger.debug(" * Reading foreign key");
 
@@ -5,6 +5,7 @@ import java.io.DataOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 
+import com.bow.lab.storage.IStorageService;
 import com.bow.maple.client.SessionState;
 import com.bow.maple.storage.BufferManager;
 import com.bow.maple.storage.DBFile;
@@ -16,6 +17,7 @@ import com.bow.maple.storage.StorageManager;
 import com.bow.maple.transactions.TransactionManager;
 import com.bow.maple.transactions.TransactionState;
 import com.bow.maple.util.ArrayUtil;
+import com.bow.maple.util.ExtensionLoader;
 import org.apache.log4j.Logger;
 
 /**
@@ -53,6 +55,14 @@ public class WALManager {
 
     private BufferManager bufferManager;
 
+    /**
+     * WAL的页面通过{@link DBFileReader}和{@link DBFileWriter}读写，缓存在这里而不是
+     * {@link BufferManager}中。该缓存在进程中只有一个，服务器关闭时必须把WAL的页面
+     * 移出，见{@link #closeWALFile}
+     */
+    private IStorageService walStorage =
+        ExtensionLoader.getExtensionLoader(IStorageService.class).getExtension();
+
     /**
      * 恢复时的起始位置
      */
@@ -112,6 +122,29 @@ public class WALManager {
         return String.format(WAL_FILENAME_PATTERN, fileNo);
     }
 
+    /**
+     * 将WAL文件中页号不超过<tt>maxPageNo</tt>的脏页写到磁盘
+     *
+     * @param walFile WAL文件
+     * @param maxPageNo 最大页号
+     * @param sync 是否同步到磁盘
+     * @throws IOException 写文件出错
+     */
+    public void writeWALFile(DBFile walFile, int maxPageNo, boolean sync) throws IOException {
+        walStorage.writeDBFile(walFile, 0, maxPageNo, sync);
+    }
+
+    /**
+     * 服务器关闭时调用，写出WAL文件的脏页并把它的页面全部移出缓存。同一进程中
+     * 重新启动服务器时会重新打开WAL文件，页面大小可能不同，不能再使用之前的页面。
+     *
+     * @param walFile WAL文件
+     * @throws IOException 写文件出错
+     */
+    public void closeWALFile(DBFile walFile) throws IOException {
+        walStorage.flushDBFile(walFile);
+    }
+
     public LogSequenceNumber getFirstLSN() {
         return firstLSN;
     }
@@ -145,6 +178,11 @@ public class WALManager {
 
         if (firstLSN.equals(nextLSN)) {
             // No recovery necessary! Just return the passed-in info.
+            if (skipLegacyWALFile()) {
+                storageManager.getTransactionManager().forceWAL(nextLSN);
+                recoveryInfo.firstLSN = firstLSN;
+                recoveryInfo.nextLSN = nextLSN;
+            }
             return recoveryInfo;
         }
 
@@ -163,6 +201,7 @@ public class WALManager {
         // and update the transaction state file again. (This won't write out
         // any WAL records, but it will write and sync the txn-state file.)
         firstLSN = nextLSN;
+        skipLegacyWALFile();
         txnMgr.forceWAL(nextLSN);
 
         recoveryInfo.firstLSN = firstLSN;
@@ -227,7 +266,7 @@ public class WALManager {
                 case UPDATE_PAGE_REDO_ONLY:
                     // 从WAL中获取要操作的真实数据页
                     String redoFilename = walReader.readVarString255();
-                    int redoPageNo = walReader.readUnsignedShort();
+                    int redoPageNo = readPageNo(walReader);
                     int numSegments = walReader.readUnsignedShort();
 
                     // 打开对应的数据页
@@ -386,7 +425,7 @@ public class WALManager {
                 case UPDATE_PAGE:
                     // 读取数据页
                     String undoFilename = walReader.readVarString255();
-                    int undoPageNo = walReader.readUnsignedShort();
+                    int undoPageNo = readPageNo(walReader);
                     // 打开数据文件
                     DBFile undoFile = storageManager.openDBFile(undoFilename);
                     DBPage undoPage = storageManager.loadDBPage(undoFile, undoPageNo);
@@ -425,6 +464,49 @@ public class WALManager {
         logger.debug("Undo processing is complete.");
     }
 
+    /**
+     * 旧格式的WAL文件中页号是2字节的，新的日志记录不能追加到这样的文件中。如果
+     * <tt>nextLSN</tt>所在的WAL文件是旧格式的，改为从下一个WAL文件开始写日志。
+     * 只能在所有日志都已经应用到数据文件之后调用，恢复的起点也一起移过去。
+     *
+     * @return 是否移动了<tt>firstLSN</tt>和<tt>nextLSN</tt>
+     * @throws IOException 打开WAL文件出错
+     */
+    private boolean skipLegacyWALFile() throws IOException {
+        DBFile walFile;
+        try {
+            walFile = openWALFile(nextLSN.getLogFileNo());
+        } catch (FileNotFoundException e) {
+            return false;
+        }
+
+        if (walFile.getFormatVersion() >= DBFile.INT_PAGE_NO_FORMAT_VERSION)
+            return false;
+
+        LogSequenceNumber newLSN = computeNextLSN(nextLSN.getLogFileNo(), MAX_WAL_FILE_SIZE);
+        logger.info(String.format("WAL file %s uses file format version %d; " +
+            "moving the next LSN from %s to %s", walFile, walFile.getFormatVersion(), nextLSN, newLSN));
+
+        firstLSN = newLSN;
+        nextLSN = newLSN;
+        return true;
+    }
+
+    /**
+     * 读取UPDATE_PAGE和UPDATE_PAGE_REDO_ONLY记录中的页号。旧格式的WAL文件中
+     * 页号是2字节的unsigned short，新格式中是4字节的int。
+     *
+     * @param walReader 位于页号处的WAL文件
+     * @return 页号
+     * @throws IOException e
+     */
+    private static int readPageNo(DBFileReader walReader) throws IOException {
+        if (walReader.getDBFile().getFormatVersion() < DBFile.INT_PAGE_NO_FORMAT_VERSION)
+            return walReader.readUnsignedShort();
+
+        return walReader.readInt();
+    }
+
     private LogSequenceNumber computeNextLSN(int fileNo, int fileOffset) {
         if (fileOffset >= MAX_WAL_FILE_SIZE) {
             // WAL文件超过大小限制后，fileNo+1,offset重置
@@ -471,7 +553,16 @@ public class WALManager {
             // WAL file's start.
         }
 
-        DBFileWriter writer = new DBFileWriter(walFile);
+        DBFileWriter writer = new DBFileWriter(walFile, walStorage);
+
+        if (offset == OFFSET_FIRST_RECORD && walFile.getFormatVersion() < DBFile.INT_PAGE_NO_FORMAT_VERSION) {
+            // 回绕后重新使用的旧格式WAL文件，其中的记录都已作废，改为新格式
+            writer.setPosition(1);
+            writer.writeByte(DBFile.encodePageSizeAndVersion(walFile.getPageSize(),
+                    DBFile.CURRENT_FORMAT_VERSION));
+            walFile.setFormatVersion(DBFile.CURRENT_FORMAT_VERSION);
+        }
+
         writer.setPosition(offset);
 
         return writer;
@@ -490,7 +581,7 @@ public class WALManager {
         int offset = lsn.getFileOffset();
 
         DBFile walFile = openWALFile(fileNo);
-        DBFileReader reader = new DBFileReader(walFile);
+        DBFileReader reader = new DBFileReader(walFile, walStorage);
         reader.setPosition(offset);
 
         return reader;
@@ -612,7 +703,7 @@ public class WALManager {
         walWriter.writeInt(prevLSN.getFileOffset());
 
         walWriter.writeVarString255(dbPage.getDBFile().getDataFile().getName());
-        walWriter.writeShort(dbPage.getPageNo());
+        walWriter.writeInt(dbPage.getPageNo());
 
         // This offset is where we will store the number of data segments we
         // need to record.
@@ -786,7 +877,7 @@ public class WALManager {
     /**
      * 只写redo log，一般用{@link #writeRedoOnlyUpdatePageRecord(DBPage, int, byte[])}<br/>
      * <pre>
-     * |    1B    | 4B  |      2B     |      4B     |    x B   |  2B  |    2B     |
+     * |    1B    | 4B  |      2B     |      4B     |    x B   |  4B  |    2B     |
      * |WALRecType|txnId|prevLSNFileNo|prevLSNOffset|DBFileName|PageNo|numSegments|
      *
      * | 2B  | 2B |    xB   | 2B  | 2B |     xB   |...|        4B      |    1B    |
@@ -826,7 +917,7 @@ public class WALManager {
         walWriter.writeInt(prevLSN.getFileOffset());
 
         walWriter.writeVarString255(dbPage.getDBFile().getDataFile().getName());
-        walWriter.writeShort(dbPage.getPageNo());
+        walWriter.writeInt(dbPage.getPageNo());
 
         // Write the redo-only data.
         walWriter.writeShort(numSegments);
@@ -929,7 +1020,7 @@ public class WALManager {
 
                 // Read the file and page with the changes to undo.
                 String filename = walReader.readVarString255();
-                int pageNo = walReader.readUnsignedShort();
+                int pageNo = readPageNo(walReader);
 
                 // Open the specified file and retrieve the data page to undo.
                 DBFile dbFile = storageManager.openDBFile(filename);
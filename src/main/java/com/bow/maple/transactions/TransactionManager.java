@@ -59,6 +59,11 @@ public class TransactionManager {
 
     private WALManager walManager;
 
+    /**
+     * 在每个命令前后开始和自动提交事务，关闭时要从{@link EventDispatcher}中移除
+     */
+    private TransactionStateUpdater txnStateUpdater;
+
     /**
      * This variable keeps track of the next transaction ID that should be used
      * for a transaction. It is initialized when the transaction manager is
@@ -184,7 +189,21 @@ public class TransactionManager {
         storeTxnStateToFile();
 
         // Register the component that manages indexes when tables are modified.
-        EventDispatcher.getInstance().addCommandEventListener(new TransactionStateUpdater(this, bufferManager));
+        txnStateUpdater = new TransactionStateUpdater(this, bufferManager);
+        EventDispatcher.getInstance().addCommandEventListener(txnStateUpdater);
+    }
+
+    /**
+     * 关闭事务管理器：强制写出WAL，并停止为命令开始和提交事务。同一进程中重新
+     * 启动服务器后，旧的事务管理器不能再向WAL中写提交记录。
+     *
+     * @throws IOException 写WAL出错
+     */
+    public void shutdown() throws IOException {
+        EventDispatcher.getInstance().removeCommandEventListener(txnStateUpdater);
+        txnStateUpdater = null;
+
+        forceWAL();
     }
 
     /**
@@ -330,6 +349,7 @@ public class TransactionManager {
             DBFile walFile = bufferManager.getFile(walFileName);
             if (walFile != null){
                 bufferManager.writeDBFile(walFile,true);
+                walManager.writeWALFile(walFile, Integer.MAX_VALUE, true);
             }
         }
 
@@ -340,6 +360,8 @@ public class TransactionManager {
             int lastPosition = lsn.getFileOffset() + lsn.getRecordSize();
             int pageNo = lastPosition / walFile.getPageSize();
             bufferManager.writeDBFile(walFile, 0, pageNo,true);
+            // WAL记录本身缓存在WALManager的页面缓存中
+            walManager.writeWALFile(walFile, pageNo, true);
         }
 
         // 最后更新txnState文件的txnStateNextLSN
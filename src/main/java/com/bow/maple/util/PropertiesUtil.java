@@ -46,12 +46,15 @@ public class PropertiesUtil {
         }
     }
 
+    /**
+     * 同名的系统属性优先于配置文件，便于测试和启动时用-D覆盖配置
+     */
     public static String getProperty(String key) {
-        return StringUtils.trim(properties.getProperty(key));
+        return StringUtils.trim(System.getProperty(key, properties.getProperty(key)));
     }
 
     public static String getProperty(String key, String defaultValue) {
-        return StringUtils.trim(properties.getProperty(key, defaultValue));
+        return StringUtils.trim(System.getProperty(key, properties.getProperty(key, defaultValue)));
     }
 
     public static int getInt(String key, int def) {
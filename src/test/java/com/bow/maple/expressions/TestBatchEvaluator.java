@@ -0,0 +1,128 @@
+package com.bow.maple.expressions;
+
+import com.bow.maple.functions.CountAggregate;
+import com.bow.maple.functions.MinMaxAggregate;
+import com.bow.maple.functions.SumAvgAggregate;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.relations.Schema;
+import com.bow.maple.relations.TupleBatch;
+import org.junit.Test;
+
+/**
+ * 批量过滤与逐行计算谓词的结果应当一致
+ */
+public class TestBatchEvaluator {
+
+    private Schema makeSchema() {
+        Schema schema = new Schema();
+        schema.addColumnInfo(new ColumnInfo("a", "t", new ColumnType(SQLDataType.INTEGER)));
+        schema.addColumnInfo(new ColumnInfo("b", "t", new ColumnType(SQLDataType.DOUBLE)));
+        return schema;
+    }
+
+    private TupleBatch makeBatch(Schema schema) {
+        TupleBatch batch = new TupleBatch(schema, 16);
+        for (int i = 0; i < 10; i++) {
+            Integer a = (i == 3) ? null : Integer.valueOf(i);
+            batch.addTuple(new LiteralTuple(a, Double.valueOf(i * 1.5)));
+        }
+        return batch;
+    }
+
+    private Expression column(String name) {
+        return new ColumnValue(new ColumnName("t", name));
+    }
+
+    /**
+     * 对每个谓词，批量过滤的结果与逐行调用evaluatePredicate的结果一致
+     */
+    @Test
+    public void testFilterMatchesRowEvaluation() {
+        Schema schema = makeSchema();
+        Expression[] predicates = {
+            new CompareOperator(CompareOperator.Type.GREATER_OR_EQUAL, column("a"), new LiteralValue(5)),
+            new CompareOperator(CompareOperator.Type.LESS_THAN, new LiteralValue(4), column("a")),
+            new CompareOperator(CompareOperator.Type.NOT_EQUALS, column("a"), new LiteralValue(2L)),
+            new CompareOperator(CompareOperator.Type.LESS_OR_EQUAL, column("b"), new LiteralValue(6.0)),
+            new CompareOperator(CompareOperator.Type.EQUALS, column("a"), new LiteralValue(null)),
+            new ArithmeticOperator(ArithmeticOperator.Type.ADD, column("a"), column("b")),
+        };
+
+        BooleanOperator and = new BooleanOperator(BooleanOperator.Type.AND_EXPR);
+        and.addTerm(predicates[0]);
+        and.addTerm(predicates[3]);
+
+        Environment env = new Environment();
+        for (Expression pred : predicates) {
+            if (pred instanceof ArithmeticOperator)
+                pred = new CompareOperator(CompareOperator.Type.GREATER_THAN, pred, new LiteralValue(10));
+            checkFilter(pred, schema, env);
+        }
+        checkFilter(and, schema, env);
+    }
+
+    private void checkFilter(Expression pred, Schema schema, Environment env) {
+        TupleBatch expected = makeBatch(schema);
+        int n = 0;
+        for (int row = 0; row < expected.size(); row++) {
+            env.clear();
+            env.addTuple(schema, expected.getRowView(row));
+            if (pred.evaluatePredicate(env))
+                expected.getSelection()[n++] = row;
+        }
+        expected.setNumSelected(n);
+
+        TupleBatch actual = makeBatch(schema);
+        BatchEvaluator.filter(pred, schema, actual, env);
+
+        assert actual.getNumSelected() == expected.getNumSelected() : pred.toString();
+        for (int i = 0; i < n; i++)
+            assert actual.getSelection()[i] == expected.getSelection()[i] : pred.toString();
+    }
+
+    /**
+     * 物化出的tuple类型与schema一致
+     */
+    @Test
+    public void testSelectedTuple() {
+        TupleBatch batch = makeBatch(makeSchema());
+        LiteralTuple tuple = batch.getSelectedTuple(2);
+        assert Integer.valueOf(2).equals(tuple.getColumnValue(0));
+        assert Double.valueOf(3.0).equals(tuple.getColumnValue(1));
+        assert batch.getSelectedTuple(3).getColumnValue(0) == null;
+    }
+
+    /**
+     * 聚合函数的批量接口与逐个添加值的结果一致
+     */
+    @Test
+    public void testAggregateBatch() {
+        TupleBatch batch = makeBatch(makeSchema());
+
+        SumAvgAggregate sum = new SumAvgAggregate(false);
+        sum.clearResult();
+        sum.addValue(Integer.valueOf(100));
+        sum.addBatch(batch.getColumn(0), batch.getSelection(), batch.getNumSelected());
+        assert Integer.valueOf(142).equals(sum.getResult());
+
+        SumAvgAggregate avg = new SumAvgAggregate(true);
+        avg.clearResult();
+        avg.addBatch(batch.getColumn(1), batch.getSelection(), batch.getNumSelected());
+        assert Double.valueOf(6.75).equals(avg.getResult());
+
+        CountAggregate count = new CountAggregate(false, false);
+        count.clearResult();
+        count.addBatch(batch.getColumn(0), batch.getSelection(), batch.getNumSelected());
+        assert Integer.valueOf(9).equals(count.getResult());
+
+        MinMaxAggregate max = new MinMaxAggregate(false);
+        max.addBatch(batch.getColumn(0), batch.getSelection(), batch.getNumSelected());
+        assert Integer.valueOf(9).equals(max.getResult());
+
+        MinMaxAggregate min = new MinMaxAggregate(true);
+        min.addBatch(batch.getColumn(1), batch.getSelection(), batch.getNumSelected());
+        assert Double.valueOf(0.0).equals(min.getResult());
+    }
+}
@@ -0,0 +1,140 @@
+package com.bow.maple.expressions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.relations.Schema;
+import org.junit.Test;
+
+/**
+ * 编译后的表达式与解释执行的结果应当一致，包括结果的Java类型和NULL的处理
+ */
+public class TestExpressionCompiler {
+
+    private Schema makeSchema() {
+        Schema schema = new Schema();
+        schema.addColumnInfo(new ColumnInfo("i", "t", new ColumnType(SQLDataType.INTEGER)));
+        schema.addColumnInfo(new ColumnInfo("l", "t", new ColumnType(SQLDataType.BIGINT)));
+        schema.addColumnInfo(new ColumnInfo("f", "t", new ColumnType(SQLDataType.FLOAT)));
+        schema.addColumnInfo(new ColumnInfo("d", "t", new ColumnType(SQLDataType.DOUBLE)));
+        schema.addColumnInfo(new ColumnInfo("s", "t", new ColumnType(SQLDataType.VARCHAR)));
+        return schema;
+    }
+
+    private List<LiteralTuple> makeTuples() {
+        List<LiteralTuple> tuples = new ArrayList<LiteralTuple>();
+        tuples.add(new LiteralTuple(3, 7L, 2.5f, -1.25, "abc"));
+        tuples.add(new LiteralTuple(-4, 0L, 0.1f, 8.0, "xyz"));
+        tuples.add(new LiteralTuple(Integer.MAX_VALUE, Long.MIN_VALUE, 3.0f, 0.0, "abc"));
+        tuples.add(new LiteralTuple(null, 5L, null, 2.0, null));
+        tuples.add(new LiteralTuple(0, null, 1.5f, null, "m"));
+        return tuples;
+    }
+
+    private Expression col(String name) {
+        return new ColumnValue(new ColumnName("t", name));
+    }
+
+    private Expression lit(Object value) {
+        return new LiteralValue(value);
+    }
+
+    private Expression arith(ArithmeticOperator.Type type, Expression lhs, Expression rhs) {
+        return new ArithmeticOperator(type, lhs, rhs);
+    }
+
+    private Expression cmp(CompareOperator.Type type, Expression lhs, Expression rhs) {
+        return new CompareOperator(type, lhs, rhs);
+    }
+
+    private Expression bool(BooleanOperator.Type type, Expression... terms) {
+        BooleanOperator op = new BooleanOperator(type);
+        for (Expression term : terms)
+            op.addTerm(term);
+        return op;
+    }
+
+    @Test
+    public void testMatchesInterpreter() {
+        Schema schema = makeSchema();
+        List<Expression> exprs = new ArrayList<Expression>();
+
+        for (ArithmeticOperator.Type type : ArithmeticOperator.Type.values()) {
+            exprs.add(arith(type, col("i"), lit(2)));
+            exprs.add(arith(type, col("i"), col("l")));
+            exprs.add(arith(type, col("f"), col("i")));
+            exprs.add(arith(type, col("d"), col("f")));
+            exprs.add(arith(type, lit(7L), col("f")));
+            exprs.add(arith(type, col("i"), lit(null)));
+        }
+
+        for (CompareOperator.Type type : CompareOperator.Type.values()) {
+            exprs.add(cmp(type, col("i"), lit(3)));
+            exprs.add(cmp(type, col("l"), col("i")));
+            exprs.add(cmp(type, col("f"), lit(2.5)));
+            exprs.add(cmp(type, lit(0.1f), col("f")));
+            exprs.add(cmp(type, col("s"), lit("abc")));
+            exprs.add(cmp(type, arith(ArithmeticOperator.Type.ADD, col("i"), col("d")), lit(1)));
+        }
+
+        Expression a = cmp(CompareOperator.Type.GREATER_THAN, col("i"), lit(0));
+        Expression b = cmp(CompareOperator.Type.LESS_THAN, col("d"), lit(5.0));
+        exprs.add(bool(BooleanOperator.Type.AND_EXPR, a, b));
+        exprs.add(bool(BooleanOperator.Type.OR_EXPR, a, b));
+        exprs.add(bool(BooleanOperator.Type.NOT_EXPR, a));
+        exprs.add(bool(BooleanOperator.Type.NOT_EXPR, bool(BooleanOperator.Type.OR_EXPR, a, b)));
+
+        Expression c = cmp(CompareOperator.Type.NOT_EQUALS, col("s"), lit("abc"));
+        exprs.add(bool(BooleanOperator.Type.AND_EXPR, a, b, c));
+        exprs.add(bool(BooleanOperator.Type.OR_EXPR, c, a, b));
+
+        exprs.add(col("f"));
+        exprs.add(lit(1.5f));
+
+        Environment env = new Environment();
+        for (Expression expr : exprs) {
+            CompiledExpression compiled = ExpressionCompiler.compile(expr, schema);
+            assert compiled != null : expr.toString();
+
+            for (LiteralTuple tuple : makeTuples()) {
+                env.clear();
+                env.addTuple(schema, tuple);
+
+                Object expected;
+                try {
+                    expected = expr.evaluate(env);
+                } catch (ArithmeticException e) {
+                    // 整数除零时两者都应抛出异常
+                    try {
+                        compiled.evaluate(tuple);
+                        assert false : expr + " on " + tuple + " should fail";
+                    } catch (ArithmeticException e2) {
+                        // expected
+                    }
+                    continue;
+                }
+                Object actual = compiled.evaluate(tuple);
+                if (expected == null)
+                    assert actual == null : expr + " on " + tuple;
+                else
+                    assert expected.equals(actual) : expr + " on " + tuple + ": " + expected + " != " + actual;
+
+                assert expr.evaluatePredicate(env) == compiled.evaluatePredicate(tuple) : expr + " on " + tuple;
+            }
+        }
+    }
+
+    /**
+     * 不支持的表达式返回null，由调用方退回到解释执行
+     */
+    @Test
+    public void testUnsupported() {
+        Schema schema = makeSchema();
+        assert ExpressionCompiler.compile(col("unknown"), schema) == null;
+        assert ExpressionCompiler.compile(cmp(CompareOperator.Type.EQUALS, col("s"), lit(1)), schema) == null;
+        assert ExpressionCompiler.compile(new LiteralValue(new java.math.BigDecimal("1.5")), schema) == null;
+    }
+}
@@ -0,0 +1,70 @@
+package com.bow.maple.expressions;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.bow.maple.qeval.AccessPathSelector;
+import com.bow.maple.relations.Tuple;
+
+/**
+ * 索引扫描用到的tuple比较以及谓词拆分
+ */
+public class TestTupleComparator {
+
+    private static LiteralTuple tuple(Object... values) {
+        LiteralTuple tuple = new LiteralTuple();
+        for (Object value : values)
+            tuple.addValue(value);
+        return tuple;
+    }
+
+    /**
+     * 不同数值类型先转换再比较，NULL比任何值都小
+     */
+    @Test
+    public void testCompareTuples() {
+        assert TupleComparator.compareTuples(tuple(3, "b"), tuple(3L, "b")) == 0;
+        assert TupleComparator.compareTuples(tuple(2, "z"), tuple(2.5, "a")) < 0;
+        assert TupleComparator.compareTuples(tuple(null, "a"), tuple(-100, "a")) < 0;
+        assert TupleComparator.compareTuples(tuple(7, null), tuple(7, null)) == 0;
+    }
+
+    /**
+     * 只比较前缀中的列
+     */
+    @Test
+    public void testComparePrefix() {
+        Tuple t = tuple(5, "m", 1.0);
+        assert TupleComparator.comparePrefix(t, tuple(5)) == 0;
+        assert TupleComparator.comparePrefix(t, tuple(5, "m")) == 0;
+        assert TupleComparator.comparePrefix(t, tuple(5, "n")) < 0;
+        assert TupleComparator.comparePrefix(t, tuple(4L, "z")) > 0;
+        assert TupleComparator.comparePrefix(t, tuple()) == 0;
+    }
+
+    /**
+     * AND嵌套的谓词被拆成各个合取项
+     */
+    @Test
+    public void testSplitConjuncts() {
+        Expression a = new CompareOperator(CompareOperator.Type.EQUALS,
+            new ColumnValue(new ColumnName("a")), new LiteralValue(1));
+        Expression b = new CompareOperator(CompareOperator.Type.GREATER_THAN,
+            new ColumnValue(new ColumnName("b")), new LiteralValue(2));
+        Expression c = new CompareOperator(CompareOperator.Type.LESS_THAN,
+            new ColumnValue(new ColumnName("c")), new LiteralValue(3));
+
+        BooleanOperator inner = new BooleanOperator(BooleanOperator.Type.AND_EXPR);
+        inner.addTerm(b);
+        inner.addTerm(c);
+        BooleanOperator outer = new BooleanOperator(BooleanOperator.Type.AND_EXPR);
+        outer.addTerm(a);
+        outer.addTerm(inner);
+
+        List<Expression> conjuncts = AccessPathSelector.splitConjuncts(outer);
+        assert conjuncts.equals(Arrays.asList(a, b, c)) : conjuncts;
+        assert AccessPathSelector.splitConjuncts(null).isEmpty();
+    }
+}
@@ -0,0 +1,208 @@
+package com.bow.maple.plans;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.bow.lab.indexes.IndexFileInfo;
+import com.bow.maple.expressions.ColumnName;
+import com.bow.maple.expressions.ColumnValue;
+import com.bow.maple.expressions.CompareOperator;
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.expressions.LiteralValue;
+import com.bow.maple.qeval.SimplePlanner;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.server.CommandResult;
+import com.bow.maple.server.NanoDBServer;
+import com.bow.maple.sql.SqlTestCase;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * B<sup>+</sup>树索引扫描分批读取区间：结果跨越多批时正序、逆序和标记都应当
+ * 正确，UPDATE修改索引列时每行只更新一次
+ */
+public class TestBTreeIndexScanNode extends SqlTestCase {
+
+    private static final String TABLE = "TEST_BTREE_INDEX_SCAN";
+
+    /** 超过两批{@link IndexScanNode#ENTRY_BATCH_SIZE} */
+    private static final int NUM_ROWS = 3000;
+
+    public TestBTreeIndexScanNode() {
+        super("setup_testBTreeIndexScan");
+        // 小页面使索引有多个叶子页面
+        System.setProperty(StorageManager.PROP_PAGESIZE, "1024");
+    }
+
+    @After
+    public void clearPageSize() {
+        System.clearProperty(StorageManager.PROP_PAGESIZE);
+    }
+
+    /** 较长的key使叶子页面中的key较少，索引有多层内部页面 */
+    private static final String PADDING = "-abcdefghijklmnopqrstuvwxyz0123456";
+
+    private static String key(int n) {
+        return String.format("k%05d", n) + PADDING;
+    }
+
+    /** 按与key无关的顺序插入，file-pointer的顺序与key的顺序不同 */
+    private void loadRows() throws Exception {
+        for (int i = 0; i < NUM_ROWS; i++) {
+            int n = (i * 7) % NUM_ROWS;
+            CommandResult result = NanoDBServer.doCommand(
+                "INSERT INTO " + TABLE + " VALUES (" + n + ", '" + key(n) + "')", false);
+            assert !result.failed() : result.getFailure();
+        }
+    }
+
+    private BTreeIndexScanNode makeScan() throws Exception {
+        StorageManager storageManager = StorageManager.getInstance();
+        TableFileInfo tblFileInfo = storageManager.openTable(TABLE);
+        String indexName = tblFileInfo.getSchema().getIndexes().keySet().iterator().next();
+        IndexFileInfo idxFileInfo = storageManager.openIndex(tblFileInfo, indexName);
+        return new BTreeIndexScanNode(tblFileInfo, idxFileInfo, null, null);
+    }
+
+    private static LiteralTuple bound(int n) {
+        LiteralTuple bound = new LiteralTuple();
+        bound.addValue(key(n));
+        return bound;
+    }
+
+    /**
+     * 不要求顺序时每批按页面读取表，结果是区间内的每一行各一次
+     */
+    @Test
+    public void testUnorderedRange() throws Exception {
+        loadRows();
+
+        BTreeIndexScanNode scan = makeScan();
+        scan.setLowerBound(bound(100), true);
+        scan.setUpperBound(bound(2500), false);
+        scan.prepare();
+        scan.initialize();
+
+        Set<Integer> seen = new HashSet<Integer>();
+        Tuple tuple;
+        while ((tuple = scan.getNextTuple()) != null) {
+            int a = (Integer) tuple.getColumnValue(0);
+            assert a >= 100 && a < 2500 : "row " + a + " is out of range";
+            assert seen.add(a) : "row " + a + " returned twice";
+        }
+        assert seen.size() == 2400 : "got " + seen.size() + " rows";
+        scan.cleanUp();
+    }
+
+    /**
+     * 逆序扫描从上界开始向左读取叶子页面，跨越多批仍然严格递减
+     */
+    @Test
+    public void testDescending() throws Exception {
+        loadRows();
+
+        BTreeIndexScanNode scan = makeScan();
+        scan.setOrdered(true);
+        scan.prepare();
+        checkDescending(scan, NUM_ROWS - 1, 0);
+
+        scan = makeScan();
+        scan.setOrdered(true);
+        scan.setLowerBound(bound(500), false);
+        scan.setUpperBound(bound(2700), true);
+        scan.prepare();
+        checkDescending(scan, 2700, 501);
+
+        // 只扫描索引时直接输出索引中的key
+        scan = makeScan();
+        scan.setIndexOnly(true);
+        scan.setOrdered(true);
+        scan.setUpperBound(bound(1500), false);
+        scan.prepare();
+        scan.initialize();
+        for (int n = 1499; n >= 0; n--) {
+            Tuple tuple = scan.getNextTuple();
+            assert tuple != null : "scan ended before " + key(n);
+            assert key(n).equals(tuple.getColumnValue(0)) : "expected " + key(n) + ", got " + tuple;
+        }
+        assert scan.getNextTuple() == null;
+        scan.cleanUp();
+    }
+
+    private static void checkDescending(BTreeIndexScanNode scan, int from, int to) throws Exception {
+        scan.initialize();
+        for (int n = from; n >= to; n--) {
+            Tuple tuple = scan.getNextTuple();
+            assert tuple != null : "scan ended before row " + n;
+            assert (Integer) tuple.getColumnValue(0) == n : "expected row " + n + ", got " + tuple;
+        }
+        assert scan.getNextTuple() == null;
+        scan.cleanUp();
+    }
+
+    /**
+     * 标记之后读取下一批时保留标记处的记录，回到标记处后继续得到其余的行
+     */
+    @Test
+    public void testMarkAcrossBatches() throws Exception {
+        loadRows();
+
+        BTreeIndexScanNode scan = makeScan();
+        scan.setOrdered(false);
+        scan.prepare();
+        scan.initialize();
+
+        Tuple tuple = null;
+        for (int i = 0; i < 1000; i++)
+            tuple = scan.getNextTuple();
+        int marked = (Integer) tuple.getColumnValue(0);
+        scan.markCurrentPosition();
+
+        // 越过第一批的末尾
+        for (int i = 0; i < 200; i++)
+            assert scan.getNextTuple() != null;
+
+        scan.resetToLastMark();
+        tuple = scan.getNextTuple();
+        assert (Integer) tuple.getColumnValue(0) == marked : "expected row " + marked + ", got " + tuple;
+
+        int count = 1000;
+        while (scan.getNextTuple() != null)
+            count++;
+        assert count == NUM_ROWS : "got " + count + " rows";
+        scan.cleanUp();
+    }
+
+    /**
+     * 通过索引扫描修改索引列时，改大的key落在还没有读取的批次中，每行仍然只
+     * 更新一次
+     */
+    @Test
+    public void testUpdateIndexColumn() throws Exception {
+        loadRows();
+        CommandResult result = NanoDBServer.doCommand("ANALYZE " + TABLE, false);
+        assert !result.failed() : result.getFailure();
+
+        // 有统计信息后，取三分之二的行的范围查找选择索引扫描
+        Expression predicate = new CompareOperator(CompareOperator.Type.GREATER_OR_EQUAL,
+            new ColumnValue(new ColumnName("B")), new LiteralValue(key(1000)));
+        PlanNode plan = new SimplePlanner().makeSimpleSelect(TABLE, predicate);
+        assert plan instanceof BTreeIndexScanNode : "expected an index scan, got " + plan;
+
+        result = NanoDBServer.doCommand("UPDATE " + TABLE + " SET a = a + 10000, b = 'zzzzzz" + PADDING + "' WHERE b >= '" + key(1000) + "'", false);
+        assert !result.failed() : result.getFailure();
+
+        result = NanoDBServer.doCommand("SELECT a FROM " + TABLE + " WHERE a >= 10000", true);
+        assert !result.failed() : result.getFailure();
+        List<LiteralTuple> tuples = result.getTuples();
+        assert tuples.size() == NUM_ROWS - 1000 : "updated " + tuples.size() + " rows";
+        for (LiteralTuple tuple : tuples) {
+            int a = (Integer) tuple.getColumnValue(0);
+            assert a >= 11000 && a < 10000 + NUM_ROWS : "row " + a + " was updated twice";
+        }
+    }
+}
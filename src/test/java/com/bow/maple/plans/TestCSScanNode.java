@@ -0,0 +1,177 @@
+package com.bow.maple.plans;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Test;
+
+import com.bow.maple.commands.SelectCommand;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.qeval.DPJoinPlanner;
+import com.bow.maple.server.CommandResult;
+import com.bow.maple.server.NanoDBServer;
+import com.bow.maple.sql.SqlTestCase;
+
+/**
+ * 列式存储的表由{@link CSScanNode}扫描，可以作为一般执行计划的叶子：与heap
+ * 表连接、排序、放在FROM子查询中。扫描只输出用到的列，谓词放在扫描节点上；
+ * 结果包括基本数据和delta中的行。
+ */
+public class TestCSScanNode extends SqlTestCase {
+
+    private static final String TABLE = "TEST_CS_SCAN";
+
+    private static final String[] COLORS = { "red", "blue", "green" };
+
+    /** 导入的文件所在的目录 */
+    private File inputDir = new File("test_inputfiles");
+
+    public TestCSScanNode() throws IOException {
+        super("setup_testCSScanNode");
+
+        // 第i行的颜色按red、blue、green循环，分数是10 * i；第9行在delta中
+        StringBuilder csv = new StringBuilder("id,color,score,note\n");
+        for (int i = 1; i <= 8; i++) {
+            csv.append(i).append(',').append(COLORS[(i - 1) % 3]).append(',')
+                .append(10 * i).append(",base").append('\n');
+        }
+        // 文件名在SQL中是标识符，会被转换成大写
+        FileUtils.writeStringToFile(new File(inputDir, "TEST_CS_SCAN.CSV"), csv.toString(),
+            "UTF-8");
+        System.setProperty("nanodb.inputFileDir", inputDir.getAbsolutePath() + File.separator);
+    }
+
+    @After
+    public void clearInput() throws IOException {
+        System.clearProperty("nanodb.inputFileDir");
+        FileUtils.deleteDirectory(inputDir);
+    }
+
+    /** 为查询生成执行计划，不执行 */
+    private static PlanNode makePlan(String sql) throws Exception {
+        SelectCommand command = (SelectCommand) NanoDBServer.parseCommand(sql);
+        command.getSelectClause().computeSchema();
+        return new DPJoinPlanner().makePlan(command.getSelectClause());
+    }
+
+    /** 计划中所有的{@link CSScanNode} */
+    private static List<CSScanNode> findScans(PlanNode plan) {
+        List<CSScanNode> scans = new ArrayList<CSScanNode>();
+        collectScans(plan, scans);
+        return scans;
+    }
+
+    private static void collectScans(PlanNode plan, List<CSScanNode> scans) {
+        if (plan == null)
+            return;
+        if (plan instanceof CSScanNode)
+            scans.add((CSScanNode) plan);
+        collectScans(plan.leftChild, scans);
+        collectScans(plan.rightChild, scans);
+    }
+
+    private static CSScanNode findScan(String sql) throws Exception {
+        PlanNode plan = makePlan(sql);
+        List<CSScanNode> scans = findScans(plan);
+        assert scans.size() == 1 : PlanNode.printNodeTreeToString(plan, true);
+        return scans.get(0);
+    }
+
+    /**
+     * <tt>SELECT *</tt>没有限定用到的列，扫描输出所有的列
+     */
+    @Test
+    public void testSelectStar() throws Exception {
+        String sql = "SELECT * FROM " + TABLE;
+        CSScanNode scan = findScan(sql);
+        assert scan.getSchema().numColumns() == 4 : scan.getSchema();
+        assert scan.predicate == null;
+
+        LiteralTuple[] expected = new LiteralTuple[9];
+        for (int i = 1; i <= 8; i++)
+            expected[i - 1] = new LiteralTuple(i, COLORS[(i - 1) % 3], 10 * i, "base");
+        expected[8] = new LiteralTuple(9, "red", 90, "delta");
+
+        CommandResult result = NanoDBServer.doCommand(sql, true);
+        assert checkUnorderedResults(expected, result) : result.getTuples();
+    }
+
+    /**
+     * WHERE中的条件放在扫描节点上，扫描只输出SELECT和谓词中的列
+     */
+    @Test
+    public void testPushedPredicate() throws Exception {
+        String sql = "SELECT id FROM " + TABLE + " WHERE score > 45 AND color = 'red'";
+        CSScanNode scan = findScan(sql);
+        assert scan.predicate != null;
+        assert scan.getSchema().numColumns() == 3 : scan.getSchema();
+        assert scan.getSchema().getColumnIndex("NOTE") < 0;
+
+        LiteralTuple[] expected = {
+            new LiteralTuple((Object) 7),
+            new LiteralTuple((Object) 9)
+        };
+        CommandResult result = NanoDBServer.doCommand(sql, true);
+        assert checkUnorderedResults(expected, result) : result.getTuples();
+    }
+
+    /**
+     * 与heap表连接，连接条件和另一张表上的谓词都能正确计算
+     */
+    @Test
+    public void testJoinWithHeapTable() throws Exception {
+        String sql = "SELECT id, code FROM " + TABLE + ", test_cs_scan_heap " +
+            "WHERE " + TABLE + ".color = test_cs_scan_heap.color AND score < 50";
+        CSScanNode scan = findScan(sql);
+        assert scan.getSchema().getColumnIndex("NOTE") < 0;
+
+        LiteralTuple[] expected = {
+            new LiteralTuple(1, 1),
+            new LiteralTuple(2, 2),
+            new LiteralTuple(4, 1)
+        };
+        CommandResult result = NanoDBServer.doCommand(sql, true);
+        assert checkUnorderedResults(expected, result) : result.getTuples();
+    }
+
+    /**
+     * ORDER BY在扫描之上排序，delta中的行也参与排序
+     */
+    @Test
+    public void testOrderBy() throws Exception {
+        String sql = "SELECT id, score FROM " + TABLE + " WHERE color = 'red' " +
+            "ORDER BY score DESC";
+        findScan(sql);
+
+        LiteralTuple[] expected = {
+            new LiteralTuple(9, 90),
+            new LiteralTuple(7, 70),
+            new LiteralTuple(4, 40),
+            new LiteralTuple(1, 10)
+        };
+        CommandResult result = NanoDBServer.doCommand(sql, true);
+        assert checkOrderedResults(expected, result) : result.getTuples();
+    }
+
+    /**
+     * FROM子查询中的列式存储表，外层按子查询的列名引用
+     */
+    @Test
+    public void testFromSubquery() throws Exception {
+        String sql = "SELECT color, s FROM " +
+            "(SELECT color, score AS s FROM " + TABLE + " WHERE id > 6) AS t " +
+            "WHERE s < 90";
+        findScan(sql);
+
+        LiteralTuple[] expected = {
+            new LiteralTuple("red", 70),
+            new LiteralTuple("blue", 80)
+        };
+        CommandResult result = NanoDBServer.doCommand(sql, true);
+        assert checkUnorderedResults(expected, result) : result.getTuples();
+    }
+}
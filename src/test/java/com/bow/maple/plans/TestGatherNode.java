@@ -0,0 +1,197 @@
+package com.bow.maple.plans;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import com.bow.maple.client.SessionState;
+import com.bow.maple.expressions.ColumnName;
+import com.bow.maple.expressions.ColumnValue;
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.functions.AggregateFunction;
+import com.bow.maple.functions.CountAggregate;
+import com.bow.maple.functions.MinMaxAggregate;
+import com.bow.maple.functions.SumAvgAggregate;
+import com.bow.maple.qeval.ColumnStats;
+import com.bow.maple.qeval.PlanCost;
+import com.bow.maple.qeval.WorkerPool;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.relations.Schema;
+import com.bow.maple.relations.Tuple;
+import org.junit.Test;
+
+/**
+ * 并行exchange节点和部分聚合的结果应当与串行执行一致
+ */
+public class TestGatherNode {
+
+    /**
+     * 在内存中产生[start, end)之间整数的叶子节点
+     */
+    private static class RangeNode extends PlanNode {
+
+        private int start;
+
+        private int end;
+
+        private int next;
+
+        RangeNode(int start, int end) {
+            super(OperationType.SELECT);
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void prepare() {
+            schema = new Schema();
+            schema.addColumnInfo(new ColumnInfo("a", "t", new ColumnType(SQLDataType.INTEGER)));
+            stats = new ArrayList<ColumnStats>();
+            stats.add(new ColumnStats());
+            cost = new PlanCost(end - start, 4, end - start, 0);
+        }
+
+        @Override
+        public void initialize() {
+            super.initialize();
+            next = start;
+        }
+
+        @Override
+        public Tuple getNextTuple() throws IOException {
+            if (next >= end)
+                return null;
+
+            // 每7个值出现一个NULL
+            int value = next++;
+            LiteralTuple tuple = new LiteralTuple(1);
+            tuple.setColumnValue(0, value % 7 == 0 ? null : Integer.valueOf(value));
+            return tuple;
+        }
+
+        @Override
+        public void cleanUp() {
+        }
+
+        @Override
+        public String toString() {
+            return "Range[" + start + ", " + end + ")";
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof RangeNode && ((RangeNode) obj).start == start && ((RangeNode) obj).end == end;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * start + end;
+        }
+    }
+
+    private static final int NUM_VALUES = 10000;
+
+    private List<PlanNode> makeBranches(int numBranches) {
+        List<PlanNode> branches = new ArrayList<PlanNode>();
+        for (int i = 0; i < numBranches; i++)
+            branches.add(new RangeNode(NUM_VALUES * i / numBranches, NUM_VALUES * (i + 1) / numBranches));
+        return branches;
+    }
+
+    private int[] drain(PlanNode plan, int[] seen) throws IOException {
+        Tuple tuple;
+        while ((tuple = plan.getNextTuple()) != null) {
+            Integer value = (Integer) tuple.getColumnValue(0);
+            seen[value == null ? NUM_VALUES : value]++;
+        }
+        return seen;
+    }
+
+    /**
+     * gather的结果包含每个分支的每一行，且可以重新扫描
+     */
+    @Test
+    public void testGather() throws IOException {
+        GatherNode gather = new GatherNode(makeBranches(4));
+        gather.prepare();
+        assert gather.getSchema().numColumns() == 1;
+
+        for (int pass = 0; pass < 2; pass++) {
+            gather.initialize();
+            int[] seen = drain(gather, new int[NUM_VALUES + 1]);
+            gather.cleanUp();
+
+            for (int i = 0; i < NUM_VALUES; i++)
+                assert seen[i] == (i % 7 == 0 ? 0 : 1) : "value " + i;
+            assert seen[NUM_VALUES] == (NUM_VALUES + 6) / 7;
+        }
+
+        // 没读完就清理也不会阻塞
+        gather.initialize();
+        assert gather.getNextTuple() != null;
+        gather.cleanUp();
+    }
+
+    /**
+     * 并行的部分聚合合并后与串行计算一致
+     */
+    @Test
+    public void testParallelAggregate() throws IOException {
+        List<AggregateFunction> functions = Arrays.<AggregateFunction>asList(
+            new SumAvgAggregate(false), new SumAvgAggregate(true), new CountAggregate(false, false),
+            new CountAggregate(true, false), new MinMaxAggregate(true), new MinMaxAggregate(false));
+
+        List<Expression> arguments = new ArrayList<Expression>();
+        List<ColumnInfo> resultColumns = new ArrayList<ColumnInfo>();
+        for (int i = 0; i < functions.size(); i++) {
+            arguments.add(new ColumnValue(new ColumnName("t", "a")));
+            resultColumns.add(new ColumnInfo("agg" + i, new ColumnType(SQLDataType.INTEGER)));
+        }
+
+        ParallelAggregateNode node = new ParallelAggregateNode(makeBranches(5), functions, arguments,
+            resultColumns);
+        node.prepare();
+        node.initialize();
+        Tuple result = node.getNextTuple();
+        assert node.getNextTuple() == null;
+        node.cleanUp();
+
+        List<AggregateFunction> serial = new ArrayList<AggregateFunction>();
+        for (AggregateFunction fn : functions)
+            serial.add(fn.newInstance());
+        for (int v = 0; v < NUM_VALUES; v++) {
+            for (AggregateFunction fn : serial)
+                fn.addValue(v % 7 == 0 ? null : Integer.valueOf(v));
+        }
+
+        for (int i = 0; i < serial.size(); i++) {
+            Object expected = serial.get(i).getResult();
+            assert expected.equals(result.getColumnValue(i)) : "aggregate " + i + ": " +
+                result.getColumnValue(i) + " != " + expected;
+        }
+    }
+
+    /**
+     * 工作线程有自己的会话，但在提交任务的会话的事务中执行
+     */
+    @Test
+    public void testWorkerJoinsSession() throws Exception {
+        final SessionState owner = SessionState.get();
+        SessionState worker = WorkerPool.submit(new Callable<SessionState>() {
+            @Override
+            public SessionState call() {
+                return SessionState.get();
+            }
+        }).get();
+
+        assert worker != owner;
+        assert worker.getSessionID() != owner.getSessionID();
+        assert worker.getTxnState() == owner.getTxnState();
+        assert worker.getOutputStream() == owner.getOutputStream();
+    }
+}
@@ -0,0 +1,97 @@
+package com.bow.maple.plans;
+
+import org.junit.Test;
+
+import com.bow.maple.commands.SelectCommand;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.qeval.DPJoinPlanner;
+import com.bow.maple.server.CommandResult;
+import com.bow.maple.server.NanoDBServer;
+import com.bow.maple.sql.SqlTestCase;
+
+/**
+ * 内表的连接列上有B<sup>+</sup>树索引时，连接通过{@link IndexNestedLoopsJoinNode}
+ * 在索引中查找。内表中有重复的key，外表中有找不到匹配的行和key为NULL的行。
+ */
+public class TestIndexNestedLoopsJoinNode extends SqlTestCase {
+
+    public TestIndexNestedLoopsJoinNode() {
+        super("setup_testIndexNestedLoopsJoin");
+    }
+
+    /** 为查询生成执行计划，不执行 */
+    private static PlanNode makePlan(String sql) throws Exception {
+        SelectCommand command = (SelectCommand) NanoDBServer.parseCommand(sql);
+        command.getSelectClause().computeSchema();
+        return new DPJoinPlanner().makePlan(command.getSelectClause());
+    }
+
+    /** 计划树中的索引嵌套循环连接节点，没有时返回<tt>null</tt> */
+    private static IndexNestedLoopsJoinNode findIndexJoin(PlanNode plan) {
+        if (plan == null || plan instanceof IndexNestedLoopsJoinNode)
+            return (IndexNestedLoopsJoinNode) plan;
+
+        IndexNestedLoopsJoinNode join = findIndexJoin(plan.leftChild);
+        return (join != null) ? join : findIndexJoin(plan.rightChild);
+    }
+
+    /** 检查查询使用了索引连接，并返回执行结果 */
+    private static CommandResult runIndexJoin(String sql) throws Exception {
+        PlanNode plan = makePlan(sql);
+        IndexNestedLoopsJoinNode join = findIndexJoin(plan);
+        assert join != null : PlanNode.printNodeTreeToString(plan, true);
+        assert findIndexJoin(join.rightChild) == null;
+
+        CommandResult result = NanoDBServer.doCommand(sql, true);
+        assert !result.failed() : result.getFailure();
+        return result;
+    }
+
+    /**
+     * 外表的每一行得到内表中所有key相同的行；没有匹配或key为NULL的行不出现
+     */
+    @Test
+    public void testDuplicateInnerKeys() throws Exception {
+        LiteralTuple[] expected = {
+            new LiteralTuple(1, "ten-a"),
+            new LiteralTuple(1, "ten-b"),
+            new LiteralTuple(1, "ten-c"),
+            new LiteralTuple(2, "twenty"),
+            new LiteralTuple(5, "ten-a"),
+            new LiteralTuple(5, "ten-b"),
+            new LiteralTuple(5, "ten-c")
+        };
+
+        CommandResult result = runIndexJoin("SELECT o.id, i.v " +
+            "FROM test_inlj_outer o, test_inlj_inner i WHERE o.k = i.k");
+        assert checkUnorderedResults(expected, result) : result.getTuples();
+    }
+
+    /**
+     * 所有外表行在索引中都找不到匹配时结果为空
+     */
+    @Test
+    public void testProbeWithNoMatches() throws Exception {
+        CommandResult result = runIndexJoin("SELECT o.id, i.v " +
+            "FROM test_inlj_outer o, test_inlj_inner i WHERE o.k = i.k AND o.id >= 3 AND o.id <= 4");
+        assert result.getTuples().isEmpty() : result.getTuples();
+    }
+
+    /**
+     * 内表上的其它条件在查找到的行上检查，没有别名时也使用索引连接
+     */
+    @Test
+    public void testInnerPredicate() throws Exception {
+        LiteralTuple[] expected = {
+            new LiteralTuple(1, "ten-b"),
+            new LiteralTuple(2, "twenty"),
+            new LiteralTuple(5, "ten-b")
+        };
+
+        CommandResult result = runIndexJoin("SELECT test_inlj_outer.id, test_inlj_inner.v " +
+            "FROM test_inlj_outer, test_inlj_inner " +
+            "WHERE test_inlj_outer.k = test_inlj_inner.k AND test_inlj_inner.v <> 'ten-a' " +
+            "AND test_inlj_inner.v <> 'ten-c'");
+        assert checkUnorderedResults(expected, result) : result.getTuples();
+    }
+}
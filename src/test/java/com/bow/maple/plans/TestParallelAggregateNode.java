@@ -0,0 +1,216 @@
+package com.bow.maple.plans;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Test;
+
+import com.bow.maple.commands.SelectCommand;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.qeval.DPJoinPlanner;
+import com.bow.maple.qeval.WorkerPool;
+import com.bow.maple.server.CommandResult;
+import com.bow.maple.server.NanoDBServer;
+import com.bow.maple.sql.SqlTestCase;
+import com.bow.maple.storage.colstore.ColStoreLoader;
+
+/**
+ * 不带GROUP BY的聚合由{@link ParallelAggregateNode}在多个分支上计算部分结果再
+ * 合并；heap表按页面区间拆分，列式存储表按行组区间拆分，delta只由最后一个分支
+ * 扫描。结果与串行执行一致。
+ */
+public class TestParallelAggregateNode extends SqlTestCase {
+
+    /** heap表中的行数，足够占用多个页面 */
+    private static final int NUM_HEAP_ROWS = 1500;
+
+    /** 列式存储表导入的行数，每50行一个行组 */
+    private static final int NUM_CS_ROWS = 400;
+
+    /** 导入的文件所在的目录 */
+    private File inputDir = new File("test_inputfiles");
+
+    public TestParallelAggregateNode() throws IOException {
+        super("setup_testParallelAggregate");
+
+        // 第i行的分数是3 * i % 101；第401行在delta中
+        StringBuilder csv = new StringBuilder("id,score\n");
+        for (int i = 1; i <= NUM_CS_ROWS; i++)
+            csv.append(i).append(',').append(3 * i % 101).append('\n');
+        FileUtils.writeStringToFile(new File(inputDir, "TEST_PAR_CS.CSV"), csv.toString(), "UTF-8");
+
+        System.setProperty("nanodb.inputFileDir", inputDir.getAbsolutePath() + File.separator);
+        System.setProperty(ColStoreLoader.PROP_ROW_GROUP_ROWS, "50");
+        System.setProperty(WorkerPool.PROP_PARALLELISM, "4");
+        System.setProperty(WorkerPool.PROP_PARALLEL_MIN_PAGES, "1");
+    }
+
+    @After
+    public void clearProperties() throws IOException {
+        System.clearProperty("nanodb.inputFileDir");
+        System.clearProperty(ColStoreLoader.PROP_ROW_GROUP_ROWS);
+        System.clearProperty(WorkerPool.PROP_PARALLELISM);
+        System.clearProperty(WorkerPool.PROP_PARALLEL_MIN_PAGES);
+        FileUtils.deleteDirectory(inputDir);
+    }
+
+    /**
+     * 第i行：a为i，每13行一个NULL；b为i / 2
+     */
+    private void loadHeapRows() throws Exception {
+        for (int i = 0; i < NUM_HEAP_ROWS; i++) {
+            String a = (i % 13 == 0) ? "NULL" : String.valueOf(i);
+            CommandResult result = NanoDBServer.doCommand("INSERT INTO test_par_heap VALUES ( " +
+                a + ", " + (i * 0.5) + ", 'row " + i + " of the parallel aggregate test' )", false);
+            assert !result.failed() : result.getFailure();
+        }
+    }
+
+    /** 为查询生成执行计划，不执行 */
+    private static PlanNode makePlan(String sql) throws Exception {
+        SelectCommand command = (SelectCommand) NanoDBServer.parseCommand(sql);
+        command.getSelectClause().computeSchema();
+        return new DPJoinPlanner().makePlan(command.getSelectClause());
+    }
+
+    /** 分支中的扫描节点 */
+    private static SelectNode findScan(PlanNode branch) {
+        while (!(branch instanceof SelectNode))
+            branch = branch.leftChild;
+        return (SelectNode) branch;
+    }
+
+    /** 查询在并行度为1时的结果 */
+    private static LiteralTuple[] serialResults(String sql) throws Exception {
+        System.setProperty(WorkerPool.PROP_PARALLELISM, "1");
+        try {
+            CommandResult result = NanoDBServer.doCommand(sql, true);
+            assert !result.failed() : result.getFailure();
+            return result.getTuples().toArray(new LiteralTuple[0]);
+        } finally {
+            System.setProperty(WorkerPool.PROP_PARALLELISM, "4");
+        }
+    }
+
+    /**
+     * heap表上的聚合拆成多个页面区间，合并后的结果与直接计算的一致
+     */
+    @Test
+    public void testHeapAggregate() throws Exception {
+        loadHeapRows();
+
+        String sql = "SELECT COUNT(*), COUNT(a), SUM(a), MIN(a), MAX(a), AVG(b) " +
+            "FROM test_par_heap WHERE b < 600";
+        PlanNode plan = makePlan(sql);
+        assert plan instanceof ParallelAggregateNode : PlanNode.printNodeTreeToString(plan, true);
+
+        List<PlanNode> branches = ((ParallelAggregateNode) plan).getBranches();
+        assert branches.size() == 4 : PlanNode.printNodeTreeToString(plan, true);
+        for (PlanNode branch : branches)
+            assert ((FileScanNode) findScan(branch)).getStartPage() > 0 : branch;
+
+        int count = 0;
+        int countA = 0;
+        int sum = 0;
+        double sumB = 0;
+        for (int i = 0; i < 1200; i++) {
+            count++;
+            sumB += i * 0.5;
+            if (i % 13 != 0) {
+                countA++;
+                sum += i;
+            }
+        }
+
+        LiteralTuple[] expected = {
+            new LiteralTuple(count, countA, sum, 1, 1199, sumB / count)
+        };
+        CommandResult result = NanoDBServer.doCommand(sql, true);
+        assert checkOrderedResults(expected, result) : result.getTuples();
+        assert checkOrderedResults(serialResults(sql), result) : result.getTuples();
+    }
+
+    /**
+     * 没有满足条件的行时，与串行计算一样SUM等为NULL
+     */
+    @Test
+    public void testEmptyInput() throws Exception {
+        loadHeapRows();
+
+        String sql = "SELECT COUNT(a), SUM(a), MIN(b) FROM test_par_heap WHERE a > 100000";
+        CommandResult result = NanoDBServer.doCommand(sql, true);
+        assert !result.failed() : result.getFailure();
+        assert result.getTuples().size() == 1;
+        assert checkOrderedResults(serialResults(sql), result) : result.getTuples();
+    }
+
+    /**
+     * 列式存储表按行组区间拆分，各分支扫描不重叠的行组，只有最后一个分支扫描delta
+     */
+    @Test
+    public void testColumnStoreSplit() throws Exception {
+        String sql = "SELECT id FROM test_par_cs WHERE score > 90";
+        PlanNode plan = makePlan(sql);
+        assert plan instanceof GatherNode : PlanNode.printNodeTreeToString(plan, true);
+
+        List<PlanNode> branches = ((GatherNode) plan).getBranches();
+        assert branches.size() == 4 : PlanNode.printNodeTreeToString(plan, true);
+        int nextRowGroup = 0;
+        for (int i = 0; i < branches.size(); i++) {
+            CSScanNode scan = (CSScanNode) findScan(branches.get(i));
+            assert scan.getStartRowGroup() == nextRowGroup : scan;
+            nextRowGroup = scan.getEndRowGroup();
+            assert (nextRowGroup < 0) == (i == branches.size() - 1) : scan;
+        }
+
+        int numExpected = 1;
+        for (int i = 1; i <= NUM_CS_ROWS; i++) {
+            if (3 * i % 101 > 90)
+                numExpected++;
+        }
+        LiteralTuple[] expected = new LiteralTuple[numExpected];
+        int n = 0;
+        for (int i = 1; i <= NUM_CS_ROWS; i++) {
+            if (3 * i % 101 > 90)
+                expected[n++] = new LiteralTuple((Object) i);
+        }
+        expected[n] = new LiteralTuple((Object) 401);
+
+        CommandResult result = NanoDBServer.doCommand(sql, true);
+        assert checkUnorderedResults(expected, result) : result.getTuples();
+    }
+
+    /**
+     * 列式存储表上的聚合包括delta中的行
+     */
+    @Test
+    public void testColumnStoreAggregate() throws Exception {
+        String sql = "SELECT COUNT(*), SUM(score), MAX(id) FROM test_par_cs";
+        PlanNode plan = makePlan(sql);
+        assert ((ParallelAggregateNode) plan).getBranches().size() == 4 :
+            PlanNode.printNodeTreeToString(plan, true);
+
+        int sum = 99;
+        for (int i = 1; i <= NUM_CS_ROWS; i++)
+            sum += 3 * i % 101;
+
+        LiteralTuple[] expected = { new LiteralTuple(NUM_CS_ROWS + 1, sum, 401) };
+        CommandResult result = NanoDBServer.doCommand(sql, true);
+        assert checkOrderedResults(expected, result) : result.getTuples();
+    }
+
+    /**
+     * 聚合与普通的列混用，或带GROUP BY时报告不支持
+     */
+    @Test
+    public void testUnsupported() throws Exception {
+        CommandResult result = NanoDBServer.doCommand("SELECT id, COUNT(*) FROM test_par_cs", true);
+        assert result.failed();
+
+        result = NanoDBServer.doCommand("SELECT COUNT(*) FROM test_par_cs GROUP BY score", true);
+        assert result.failed();
+    }
+}
@@ -118,5 +118,37 @@ public class TestColumnIndexes {
         assert !c1.hasSameColumns(c4);
         assert !c5.hasSameColumns(c3);
     }
-}
 
+
+    public void testIncludedColumns() {
+        ColumnIndexes c = new ColumnIndexes(new int[] {3, 1});
+        assert c.numIncludedColumns() == 0;
+        assert c.containsColumn(3);
+        assert !c.containsColumn(4);
+
+        c.setIncludedColumns(new int[] {4, 0});
+        assert c.size() == 2;
+        assert c.numIncludedColumns() == 2;
+        assert c.getIncludedCol(0) == 4;
+        assert c.getIncludedCol(1) == 0;
+        assert c.containsColumn(1);
+        assert c.containsColumn(4);
+        assert !c.containsColumn(2);
+
+        try {
+            c.setIncludedColumns(new int[] {4, 1});
+            assert false;
+        }
+        catch (IllegalArgumentException e) {
+            // This is expected.
+        }
+
+        try {
+            c.setIncludedColumns(new int[] {4, 4});
+            assert false;
+        }
+        catch (IllegalArgumentException e) {
+            // This is expected.
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.bow.maple.sql;
+
+
+import com.bow.maple.commands.QueryCommand;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.qeval.QueryEvaluator;
+import com.bow.maple.server.CommandResult;
+import com.bow.maple.server.NanoDBServer;
+import org.junit.After;
+import org.junit.Test;
+
+
+/**
+ * 打开按批执行时，<tt>UPDATE</tt>和<tt>DELETE</tt>仍要修改表中原来的tuple，
+ * 而不是按批执行交给processor的副本。
+ */
+public class TestBatchUpdateDelete extends SqlTestCase {
+
+    public TestBatchUpdateDelete() {
+        super("setup_testBatchUpdateDelete");
+        System.setProperty(QueryEvaluator.PROP_EXEC_BATCH, "on");
+    }
+
+
+    @After
+    public void clearBatchProperty() {
+        System.clearProperty(QueryEvaluator.PROP_EXEC_BATCH);
+    }
+
+
+    /**
+     * 只有修改表的<tt>UPDATE</tt>和<tt>DELETE</tt>逐行执行
+     */
+    @Test
+    public void testBatchModeByQueryType() {
+        assert QueryEvaluator.isBatchExecutionEnabled(QueryCommand.Type.SELECT);
+        assert QueryEvaluator.isBatchExecutionEnabled(QueryCommand.Type.INSERT);
+        assert !QueryEvaluator.isBatchExecutionEnabled(QueryCommand.Type.UPDATE);
+        assert !QueryEvaluator.isBatchExecutionEnabled(QueryCommand.Type.DELETE);
+    }
+
+
+    /**
+     * 按批执行时更新和删除的行在之后的查询中可见
+     *
+     * @throws Exception if any query parsing or execution issues occur.
+     */
+    @Test
+    public void testUpdateDeleteWithBatches() throws Throwable {
+        CommandResult result;
+
+        result = NanoDBServer.doCommand(
+            "UPDATE test_batch_update_delete SET b = b + 1 WHERE a >= 3", false);
+        assert !result.failed() : result.getFailure();
+
+        result = NanoDBServer.doCommand(
+            "DELETE FROM test_batch_update_delete WHERE a = 1", false);
+        assert !result.failed() : result.getFailure();
+
+        LiteralTuple[] expected = {
+            new LiteralTuple(2, 20),
+            new LiteralTuple(3, 31),
+            new LiteralTuple(4, 41)
+        };
+        result = NanoDBServer.doCommand(
+            "SELECT * FROM test_batch_update_delete", true);
+        assert checkUnorderedResults(expected, result);
+    }
+}
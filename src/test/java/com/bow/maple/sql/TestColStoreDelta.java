@@ -0,0 +1,156 @@
+package com.bow.maple.sql;
+
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Test;
+
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.server.CommandResult;
+import com.bow.maple.server.NanoDBServer;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.storage.colstore.ColStoreTableManager;
+import com.bow.maple.storage.colstore.DeltaStore;
+
+
+/**
+ * 列式存储的表中插入的行先放在delta中，删除和更新基本数据中的行在删除位图
+ * 中标记，<tt>OPTIMIZE</tt>把delta中的行转换成列块。每一步之后扫描的结果
+ * 都应当包括基本数据和delta中没有删除的行。
+ */
+public class TestColStoreDelta extends SqlTestCase {
+
+    private static final String TABLE = "TEST_CS_DELTA";
+
+    /** 导入的文件所在的目录 */
+    private File inputDir = new File("test_inputfiles");
+
+    public TestColStoreDelta() throws IOException {
+        super("setup_testColStoreDelta");
+
+        // 文件名在SQL中是标识符，会被转换成大写
+        StringBuilder csv = new StringBuilder("a,b\n");
+        for (int i = 1; i <= 6; i++)
+            csv.append(i).append(",r").append(i).append('\n');
+        FileUtils.writeStringToFile(new File(inputDir, "TEST_CS_DELTA.CSV"), csv.toString(),
+            "UTF-8");
+        System.setProperty("nanodb.inputFileDir", inputDir.getAbsolutePath() + File.separator);
+    }
+
+
+    @After
+    public void clearInput() throws IOException {
+        System.clearProperty("nanodb.inputFileDir");
+        System.clearProperty(DeltaStore.PROP_MOVE_ROWS);
+        FileUtils.deleteDirectory(inputDir);
+    }
+
+
+    private static void run(String sql) throws Exception {
+        CommandResult result = NanoDBServer.doCommand(sql, false);
+        assert !result.failed() : result.getFailure();
+    }
+
+
+    private static DeltaStore getDeltaStore() throws IOException {
+        TableFileInfo tblFileInfo = StorageManager.getInstance().openTable(TABLE);
+        return ((ColStoreTableManager) tblFileInfo.getTableManager()).getDeltaStore(tblFileInfo);
+    }
+
+
+    private void checkScan(LiteralTuple[] expected) throws Exception {
+        CommandResult result = NanoDBServer.doCommand("SELECT * FROM " + TABLE, true);
+        assert checkUnorderedResults(expected, result) : result.getTuples();
+    }
+
+
+    /**
+     * 插入、更新和删除基本数据与delta中的行，再把delta转换成列块；转换前后
+     * 扫描的结果相同，之后的修改仍然可见
+     */
+    @Test
+    public void testInsertUpdateDeleteOptimize() throws Throwable {
+        DeltaStore deltaStore = getDeltaStore();
+        assert deltaStore.getNumBaseRows() == 6;
+        assert deltaStore.getNumDeltaRows() == 0;
+
+        run("INSERT INTO " + TABLE + " VALUES (7, 'r7')");
+        run("INSERT INTO " + TABLE + " VALUES (8, 'r8')");
+        assert deltaStore.getNumDeltaRows() == 2;
+
+        // 更新基本数据中的行：标记删除后新的值放入delta；delta中的行直接更新
+        run("UPDATE " + TABLE + " SET b = 'two' WHERE a = 2");
+        run("UPDATE " + TABLE + " SET b = 'seven' WHERE a = 7");
+        run("DELETE FROM " + TABLE + " WHERE a = 3");
+        run("DELETE FROM " + TABLE + " WHERE a = 8");
+        assert deltaStore.hasDeletes();
+        assert deltaStore.getNumDeltaRows() == 2;
+
+        LiteralTuple[] expected = {
+            new LiteralTuple(1, "r1"),
+            new LiteralTuple(2, "two"),
+            new LiteralTuple(4, "r4"),
+            new LiteralTuple(5, "r5"),
+            new LiteralTuple(6, "r6"),
+            new LiteralTuple(7, "seven")
+        };
+        checkScan(expected);
+
+        run("OPTIMIZE " + TABLE);
+        deltaStore = getDeltaStore();
+        assert deltaStore.getNumDeltaRows() == 0;
+        assert deltaStore.getNumBaseRows() == 8;
+        checkScan(expected);
+
+        // 转换后的行在基本数据中，删除它们同样只在位图中标记
+        run("DELETE FROM " + TABLE + " WHERE a = 7");
+        run("UPDATE " + TABLE + " SET b = 'one' WHERE a = 1");
+        run("INSERT INTO " + TABLE + " VALUES (9, 'r9')");
+
+        expected = new LiteralTuple[] {
+            new LiteralTuple(1, "one"),
+            new LiteralTuple(2, "two"),
+            new LiteralTuple(4, "r4"),
+            new LiteralTuple(5, "r5"),
+            new LiteralTuple(6, "r6"),
+            new LiteralTuple(9, "r9")
+        };
+        checkScan(expected);
+
+        CommandResult result = NanoDBServer.doCommand(
+            "SELECT b FROM " + TABLE + " WHERE a > 1 AND a < 9", true);
+        assert checkUnorderedResults(new LiteralTuple[] {
+            new LiteralTuple("two"),
+            new LiteralTuple("r4"),
+            new LiteralTuple("r5"),
+            new LiteralTuple("r6")
+        }, result) : result.getTuples();
+    }
+
+
+    /**
+     * delta中的行数达到{@link DeltaStore#PROP_MOVE_ROWS}后，插入前自动转换
+     */
+    @Test
+    public void testMoveOnInsert() throws Throwable {
+        System.setProperty(DeltaStore.PROP_MOVE_ROWS, "3");
+
+        LiteralTuple[] expected = new LiteralTuple[11];
+        for (int i = 1; i <= 6; i++)
+            expected[i - 1] = new LiteralTuple(i, "r" + i);
+        for (int i = 7; i <= 11; i++) {
+            run("INSERT INTO " + TABLE + " VALUES (" + i + ", 'r" + i + "')");
+            expected[i - 1] = new LiteralTuple(i, "r" + i);
+        }
+
+        DeltaStore deltaStore = getDeltaStore();
+        assert deltaStore.getNumDeltaRows() < 3 : deltaStore.getNumDeltaRows();
+        assert deltaStore.getNumBaseRows() + deltaStore.getNumDeltaRows() == 11;
+        assert deltaStore.getNumBaseRows() > 6;
+        checkScan(expected);
+    }
+}
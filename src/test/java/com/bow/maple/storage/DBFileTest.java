@@ -70,6 +70,21 @@ public class DBFileTest {
         Assert.assertTrue(DBFile.decodePageSize(10) == 1024);
     }
 
+    /**
+     * 第1个字节的高3位是格式版本号，低5位是页面大小的对数
+     */
+    @Test
+    public void testEncodeFormatVersion() {
+        int encoded = DBFile.encodePageSizeAndVersion(8192, DBFile.CURRENT_FORMAT_VERSION);
+        Assert.assertEquals(DBFile.CURRENT_FORMAT_VERSION, DBFile.decodeFormatVersion(encoded));
+        Assert.assertEquals(8192, DBFile.decodePageSize(encoded & DBFile.PAGESIZE_MASK));
+
+        // 旧格式的文件中第1个字节只有页面大小
+        encoded = DBFile.encodePageSize(65536);
+        Assert.assertEquals(DBFile.LEGACY_FORMAT_VERSION, DBFile.decodeFormatVersion(encoded));
+        Assert.assertEquals(65536, DBFile.decodePageSize(encoded & DBFile.PAGESIZE_MASK));
+    }
+
     /**
      * 同一个文件块是相等的
      * 
@@ -0,0 +1,65 @@
+package com.bow.maple.storage.btreeindex;
+
+import org.junit.Test;
+
+import com.bow.maple.expressions.LiteralTuple;
+
+/**
+ * 自适应哈希索引中key的加入、淘汰和失效
+ */
+public class TestAdaptiveHashIndex {
+
+    private static LiteralTuple tuple(Object... values) {
+        LiteralTuple tuple = new LiteralTuple();
+        for (Object value : values)
+            tuple.addValue(value);
+        return tuple;
+    }
+
+    /**
+     * 查找次数达到阈值后才加入，值相同的key共用一条记录
+     */
+    @Test
+    public void testRecordProbe() {
+        AdaptiveHashIndex hash = new AdaptiveHashIndex(4, 3);
+        assert !hash.recordProbe(tuple(1, "a"));
+        assert !hash.recordProbe(tuple(1, "a"));
+        assert !hash.recordProbe(tuple(1));
+        assert hash.recordProbe(tuple(1, "a"));
+        assert hash.lookup(tuple(1, "a")) == null;
+
+        hash.put(tuple(1, "a"), 7);
+        assert hash.lookup(tuple(1, "a")) == 7;
+        assert hash.lookup(tuple(1)) == null;
+
+        // 记录失效后，达到过阈值的key下一次查找就重新加入
+        hash.invalidatePage(7);
+        assert hash.lookup(tuple(1, "a")) == null;
+        assert hash.recordProbe(tuple(1, "a"));
+    }
+
+    /**
+     * 超过容量时淘汰最久未使用的key，页面失效时删除指向它的所有记录
+     */
+    @Test
+    public void testEvictAndInvalidate() {
+        AdaptiveHashIndex hash = new AdaptiveHashIndex(3, 1);
+        hash.put(tuple(1), 5);
+        hash.put(tuple(2), 5);
+        hash.put(tuple(3), 6);
+        assert hash.lookup(tuple(1)) != null;
+
+        hash.put(tuple(4), 6);
+        assert hash.size() == 3;
+        assert hash.lookup(tuple(2)) == null;
+        assert hash.lookup(tuple(1)) != null;
+
+        hash.invalidatePage(6);
+        assert hash.size() == 1;
+        assert hash.lookup(tuple(3)) == null;
+        assert hash.lookup(tuple(1)) == 5;
+
+        hash.clear();
+        assert hash.size() == 0;
+    }
+}
@@ -0,0 +1,171 @@
+package com.bow.maple.storage.btreeindex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.bow.lab.indexes.IndexFileInfo;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.expressions.TupleComparator;
+import com.bow.maple.server.CommandResult;
+import com.bow.maple.server.NanoDBServer;
+import com.bow.maple.sql.SqlTestCase;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+
+/**
+ * 在已有数据的表上CREATE INDEX时由{@link BTreeBulkLoader}自底向上建立索引。
+ * 两个表插入相同的行，一个先建索引再逐行插入，另一个插入后再建索引：两个
+ * 索引都能通过{@link BTreeIndexVerifier}的检查，叶子页面中的key序列完全相同。
+ */
+public class TestBTreeBulkLoader extends SqlTestCase {
+
+    private static final String INCREMENTAL = "TEST_BULK_INCREMENTAL";
+
+    private static final String LOADED = "TEST_BULK_LOADED";
+
+    private static final int NUM_ROWS = 3000;
+
+    /** 较长的key使叶子页面中的key较少，索引有多层内部页面 */
+    private static final String PADDING = "-abcdefghijklmnopqrstuvwxyz0123456";
+
+    public TestBTreeBulkLoader() {
+        super("setup_testBTreeBulkLoader");
+        System.setProperty(StorageManager.PROP_PAGESIZE, "1024");
+        // 内存中只能放下一部分key，排序时需要写出多个run再归并
+        System.setProperty(BTreeBulkLoader.PROP_SORT_BUFFER_SIZE, "16384");
+    }
+
+    @After
+    public void clearProperties() {
+        System.clearProperty(StorageManager.PROP_PAGESIZE);
+        System.clearProperty(BTreeBulkLoader.PROP_SORT_BUFFER_SIZE);
+    }
+
+    private static void run(String sql) throws Exception {
+        CommandResult result = NanoDBServer.doCommand(sql, false);
+        assert !result.failed() : result.getFailure();
+    }
+
+    /**
+     * 按与key无关的顺序向两个表插入相同的行，b列每97行一个NULL，每个key出现两次
+     */
+    private static void loadRows() throws Exception {
+        for (int i = 0; i < NUM_ROWS; i++) {
+            int n = (i * 7) % NUM_ROWS;
+            String b = (n % 97 == 0) ? "NULL" : "'" + String.format("k%05d", n / 2) + PADDING + "'";
+            for (String table : new String[] { INCREMENTAL, LOADED })
+                run("INSERT INTO " + table + " VALUES (" + n + ", " + b + ")");
+        }
+    }
+
+    private static IndexFileInfo openIndex(String table) throws Exception {
+        StorageManager storageManager = StorageManager.getInstance();
+        TableFileInfo tblFileInfo = storageManager.openTable(table);
+        String indexName = tblFileInfo.getSchema().getIndexes().keySet().iterator().next();
+        return storageManager.openIndex(tblFileInfo, indexName);
+    }
+
+    private static DBPage loadPage(IndexFileInfo idxFileInfo, int pageNo) throws Exception {
+        return StorageManager.getInstance().loadDBPage(idxFileInfo.getDBFile(), pageNo);
+    }
+
+    /** 沿着叶子页面的链表按顺序读出所有的key */
+    private static List<LiteralTuple> getLeafKeys(IndexFileInfo idxFileInfo) throws Exception {
+        DBPage header = loadPage(idxFileInfo, 0);
+        int pageNo = HeaderPage.getFirstLeafPageNo(header);
+        StorageManager.getInstance().unpinDBPage(header);
+
+        List<LiteralTuple> keys = new ArrayList<LiteralTuple>();
+        while (pageNo != 0) {
+            DBPage dbPage = loadPage(idxFileInfo, pageNo);
+            LeafPage leaf = new LeafPage(dbPage, idxFileInfo);
+            keys.addAll(leaf.getAllKeys());
+            pageNo = leaf.getNextPageNo();
+            StorageManager.getInstance().unpinDBPage(dbPage);
+        }
+        return keys;
+    }
+
+    /** 从根节点到叶子页面的层数 */
+    private static int getHeight(IndexFileInfo idxFileInfo) throws Exception {
+        DBPage header = loadPage(idxFileInfo, 0);
+        int pageNo = HeaderPage.getRootPageNo(header);
+        StorageManager.getInstance().unpinDBPage(header);
+
+        int height = 1;
+        while (true) {
+            DBPage dbPage = loadPage(idxFileInfo, pageNo);
+            boolean inner = dbPage.readUnsignedByte(0) == BTreeIndexManager.BTREE_INNER_PAGE;
+            if (inner)
+                pageNo = new InnerPage(dbPage, idxFileInfo).getPointer(0);
+            StorageManager.getInstance().unpinDBPage(dbPage);
+            if (!inner)
+                return height;
+            height++;
+        }
+    }
+
+    private static void verify(IndexFileInfo idxFileInfo) throws Exception {
+        List<String> errors = new BTreeIndexVerifier(idxFileInfo).verify();
+        assert errors.isEmpty() : errors;
+    }
+
+    /**
+     * 批量建立的索引有多个叶子页面和多层内部页面，key与逐行插入建立的索引相同
+     */
+    @Test
+    public void testBulkLoadMatchesIncremental() throws Exception {
+        loadRows();
+        run("CREATE INDEX idx_bulk_loaded_b ON " + LOADED + " ( b )");
+
+        IndexFileInfo incremental = openIndex(INCREMENTAL);
+        IndexFileInfo loaded = openIndex(LOADED);
+        verify(incremental);
+        verify(loaded);
+
+        int height = getHeight(loaded);
+        assert height >= 3 : "expected inner levels above the leaves, height is " + height;
+
+        // 两个表按相同的顺序插入，file-pointer也相同
+        List<LiteralTuple> expected = getLeafKeys(incremental);
+        List<LiteralTuple> actual = getLeafKeys(loaded);
+        assert expected.size() == NUM_ROWS : expected.size();
+        assert actual.size() == expected.size() : actual.size();
+        for (int i = 0; i < expected.size(); i++) {
+            assert TupleComparator.compareTuples(actual.get(i), expected.get(i)) == 0 :
+                "key " + i + ": " + actual.get(i) + " != " + expected.get(i);
+        }
+    }
+
+    /**
+     * 批量建立的索引可以继续插入和删除，之后仍与逐行维护的索引一致
+     */
+    @Test
+    public void testModifyAfterBulkLoad() throws Exception {
+        loadRows();
+        run("CREATE INDEX idx_bulk_loaded_b ON " + LOADED + " ( b )");
+
+        for (String table : new String[] { INCREMENTAL, LOADED }) {
+            run("DELETE FROM " + table + " WHERE a >= 1000 AND a < 1600");
+            for (int n = 0; n < 300; n++)
+                run("INSERT INTO " + table + " VALUES (" + (NUM_ROWS + n) + ", 'k00500-" + n + "')");
+        }
+
+        IndexFileInfo incremental = openIndex(INCREMENTAL);
+        IndexFileInfo loaded = openIndex(LOADED);
+        verify(incremental);
+        verify(loaded);
+
+        List<LiteralTuple> expected = getLeafKeys(incremental);
+        List<LiteralTuple> actual = getLeafKeys(loaded);
+        assert actual.size() == expected.size() : actual.size() + " != " + expected.size();
+        for (int i = 0; i < expected.size(); i++) {
+            assert TupleComparator.compareTuples(actual.get(i), expected.get(i)) == 0 :
+                "key " + i + ": " + actual.get(i) + " != " + expected.get(i);
+        }
+    }
+}
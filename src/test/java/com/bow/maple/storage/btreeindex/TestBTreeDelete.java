@@ -0,0 +1,310 @@
+package com.bow.maple.storage.btreeindex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.bow.lab.indexes.IndexFileInfo;
+import com.bow.maple.server.CommandResult;
+import com.bow.maple.server.NanoDBServer;
+import com.bow.maple.sql.SqlTestCase;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * 删除key时叶子页面和内部页面的合并、重新分配以及根节点的收缩。每一步删除
+ * 之后都用{@link BTreeIndexVerifier}检查整个索引。
+ */
+public class TestBTreeDelete extends SqlTestCase {
+
+    private static final String TABLE = "TEST_BTREE_DELETE";
+
+    /** 较长的key使叶子页面中的key较少 */
+    private static final String PADDING = "-abcdefghijklmnopqrstuvwxyz0123456";
+
+    public TestBTreeDelete() {
+        super("setup_testBTreeDelete");
+        // 小页面使索引有多个叶子页面和多层内部页面
+        System.setProperty(StorageManager.PROP_PAGESIZE, "1024");
+    }
+
+    @After
+    public void clearProperties() {
+        System.clearProperty(StorageManager.PROP_PAGESIZE);
+        System.clearProperty(BTreeBulkLoader.PROP_FILL_FACTOR);
+    }
+
+    private static String key(int n) {
+        return String.format("k%05d", n) + PADDING;
+    }
+
+    /** key对应的行，即a列的值 */
+    private static int rowOf(Object key) {
+        return Integer.parseInt(key.toString().substring(1, 6));
+    }
+
+    private static void run(String sql) throws Exception {
+        CommandResult result = NanoDBServer.doCommand(sql, false);
+        assert !result.failed() : result.getFailure();
+    }
+
+    /** 按与key无关的顺序插入 */
+    private static void loadRows(int numRows) throws Exception {
+        for (int i = 0; i < numRows; i++) {
+            int n = (i * 7) % numRows;
+            run("INSERT INTO " + TABLE + " VALUES (" + n + ", '" + key(n) + "')");
+        }
+    }
+
+    private static void createIndex() throws Exception {
+        run("CREATE INDEX idx_btree_delete_b ON " + TABLE + " ( b )");
+    }
+
+    private static void deleteRow(int n) throws Exception {
+        run("DELETE FROM " + TABLE + " WHERE a = " + n);
+    }
+
+    private static IndexFileInfo openIndex() throws Exception {
+        StorageManager storageManager = StorageManager.getInstance();
+        TableFileInfo tblFileInfo = storageManager.openTable(TABLE);
+        String indexName = tblFileInfo.getSchema().getIndexes().keySet().iterator().next();
+        return storageManager.openIndex(tblFileInfo, indexName);
+    }
+
+    private static void verify() throws Exception {
+        IndexFileInfo idxFileInfo = openIndex();
+        List<String> errors = idxFileInfo.getIndexManager().verifyIndex(idxFileInfo);
+        assert errors.isEmpty() : errors;
+    }
+
+    private static DBPage loadPage(IndexFileInfo idxFileInfo, int pageNo) throws Exception {
+        DBFile dbFile = idxFileInfo.getDBFile();
+        return StorageManager.getInstance().loadDBPage(dbFile, pageNo);
+    }
+
+    /**
+     * 从根节点向下每一层的页面数，最后一项是叶子页面数；索引为空时返回空列表
+     */
+    private static List<Integer> getLevelSizes() throws Exception {
+        IndexFileInfo idxFileInfo = openIndex();
+        DBPage header = loadPage(idxFileInfo, 0);
+        int rootPageNo = HeaderPage.getRootPageNo(header);
+        StorageManager.getInstance().unpinDBPage(header);
+
+        List<Integer> sizes = new ArrayList<Integer>();
+        List<Integer> level = new ArrayList<Integer>();
+        if (rootPageNo != 0)
+            level.add(rootPageNo);
+
+        while (!level.isEmpty()) {
+            sizes.add(level.size());
+            List<Integer> children = new ArrayList<Integer>();
+            for (int pageNo : level) {
+                DBPage dbPage = loadPage(idxFileInfo, pageNo);
+                if (dbPage.readUnsignedByte(0) == BTreeIndexManager.BTREE_INNER_PAGE) {
+                    InnerPage inner = new InnerPage(dbPage, idxFileInfo);
+                    for (int i = 0; i < inner.getNumPointers(); i++)
+                        children.add(inner.getPointer(i));
+                }
+                StorageManager.getInstance().unpinDBPage(dbPage);
+            }
+            level = children;
+        }
+        return sizes;
+    }
+
+    /** 按顺序返回各个叶子页面的页号 */
+    private static List<Integer> getLeafPageNos() throws Exception {
+        IndexFileInfo idxFileInfo = openIndex();
+        DBPage header = loadPage(idxFileInfo, 0);
+        int pageNo = HeaderPage.getFirstLeafPageNo(header);
+        StorageManager.getInstance().unpinDBPage(header);
+
+        List<Integer> pageNos = new ArrayList<Integer>();
+        while (pageNo != 0) {
+            pageNos.add(pageNo);
+            DBPage dbPage = loadPage(idxFileInfo, pageNo);
+            pageNo = new LeafPage(dbPage, idxFileInfo).getNextPageNo();
+            StorageManager.getInstance().unpinDBPage(dbPage);
+        }
+        return pageNos;
+    }
+
+    /** 叶子页面中的key对应的行，按key的顺序 */
+    private static List<Integer> getLeafRows(int pageNo) throws Exception {
+        IndexFileInfo idxFileInfo = openIndex();
+        DBPage dbPage = loadPage(idxFileInfo, pageNo);
+        LeafPage leaf = new LeafPage(dbPage, idxFileInfo);
+        List<Integer> rows = new ArrayList<Integer>();
+        for (int i = 0; i < leaf.getNumEntries(); i++)
+            rows.add(rowOf(leaf.getKey(i).getColumnValue(0)));
+        StorageManager.getInstance().unpinDBPage(dbPage);
+        return rows;
+    }
+
+    /**
+     * 逐个删除第二个叶子页面中的key，它不足半满时与相邻的叶子页面合并，父节点
+     * 中少一个指针
+     */
+    @Test
+    public void testLeafMerge() throws Exception {
+        createIndex();
+        loadRows(400);
+        verify();
+
+        List<Integer> leaves = getLeafPageNos();
+        int numLeaves = leaves.size();
+        assert numLeaves > 3 : "expected several leaves, got " + numLeaves;
+
+        List<Integer> rows = getLeafRows(leaves.get(1));
+        int deleted = 0;
+        for (int n : rows) {
+            deleteRow(n);
+            deleted++;
+            verify();
+            if (getLeafPageNos().size() < numLeaves)
+                break;
+        }
+        assert getLeafPageNos().size() == numLeaves - 1 :
+            "leaf was not merged after deleting " + deleted + " of " + rows.size() + " keys";
+        assert getLevelSizes().get(1) == numLeaves - 1;
+
+        // 合并后其余的key都还在
+        int numKeys = 0;
+        for (int pageNo : getLeafPageNos())
+            numKeys += getLeafRows(pageNo).size();
+        assert numKeys == 400 - deleted : "index has " + numKeys + " keys";
+    }
+
+    /**
+     * 删除key直到叶子页面获得新的key为止，返回此时页面中的行；叶子页面的个数
+     * 不应改变
+     */
+    private static List<Integer> deleteUntilRefilled(int pageNo, int numLeaves)
+        throws Exception {
+
+        List<Integer> rows = getLeafRows(pageNo);
+        for (int i = 0; i < rows.size(); i++) {
+            deleteRow(rows.get(i));
+            verify();
+            assert getLeafPageNos().size() == numLeaves : "leaf was merged instead of refilled";
+
+            List<Integer> current = getLeafRows(pageNo);
+            if (current.size() > rows.size() - i - 1)
+                return current;
+        }
+        throw new AssertionError("leaf " + pageNo + " was never refilled");
+    }
+
+    /**
+     * 叶子页面都是满的时，不足半满的叶子页面不能合并，从兄弟页面借入key：
+     * 第一个叶子页面没有左边的兄弟，从右边借入；中间的叶子页面先从左边借入。
+     */
+    @Test
+    public void testRedistribute() throws Exception {
+        loadRows(400);
+        System.setProperty(BTreeBulkLoader.PROP_FILL_FACTOR, "100");
+        createIndex();
+        verify();
+
+        List<Integer> leaves = getLeafPageNos();
+        int numLeaves = leaves.size();
+        assert numLeaves > 5 : "expected several leaves, got " + numLeaves;
+
+        // 从右边的兄弟借入：右边页面最小的key移到第一个页面的末尾
+        int nextFirst = getLeafRows(leaves.get(1)).get(0);
+        List<Integer> rows = deleteUntilRefilled(leaves.get(0), numLeaves);
+        assert rows.get(rows.size() - 1) >= nextFirst : "keys did not move left: " + rows;
+        assert getLeafRows(leaves.get(1)).get(0) > nextFirst;
+
+        // 从左边的兄弟借入：左边页面最大的key移到中间页面的开头
+        List<Integer> prevRows = getLeafRows(leaves.get(2));
+        int prevLast = prevRows.get(prevRows.size() - 1);
+        rows = deleteUntilRefilled(leaves.get(3), numLeaves);
+        assert rows.get(0) <= prevLast : "keys did not move right: " + rows;
+        prevRows = getLeafRows(leaves.get(2));
+        assert prevRows.get(prevRows.size() - 1) < prevLast;
+    }
+
+    /**
+     * 按key的顺序删除所有的行：叶子页面合并使内部页面不足半满并相互合并，
+     * 根节点只剩一个子节点时树的高度减一，最后索引为空
+     */
+    @Test
+    public void testInnerMergeAndRootCollapse() throws Exception {
+        final int numRows = 3000;
+        createIndex();
+        loadRows(numRows);
+        verify();
+
+        List<Integer> sizes = getLevelSizes();
+        assert sizes.size() == 3 : "expected a three-level tree, got " + sizes;
+
+        boolean innerMerged = false;
+        boolean rootCollapsed = false;
+        for (int n = 0; n < numRows; n += 30) {
+            run("DELETE FROM " + TABLE + " WHERE a >= " + n + " AND a < " + (n + 30));
+            verify();
+
+            List<Integer> newSizes = getLevelSizes();
+            if (newSizes.size() == sizes.size() && newSizes.size() == 3 &&
+                newSizes.get(1) < sizes.get(1)) {
+                innerMerged = true;
+            }
+            if (newSizes.size() == 2 && sizes.size() == 3) {
+                // 第二层剩下的一个页面成为根节点；原来有多个页面时它们先合并
+                assert newSizes.get(0) == 1;
+                if (sizes.get(1) > 1)
+                    innerMerged = true;
+                rootCollapsed = true;
+            }
+            sizes = newSizes;
+        }
+
+        assert innerMerged : "inner pages were never merged";
+        assert rootCollapsed : "root never collapsed";
+        assert getLevelSizes().isEmpty() : "index is not empty: " + getLevelSizes();
+    }
+
+    /** 叶子页面中key的共同前缀 */
+    private static String getLeafPrefix(int pageNo) throws Exception {
+        IndexFileInfo idxFileInfo = openIndex();
+        DBPage dbPage = loadPage(idxFileInfo, pageNo);
+        String prefix = new LeafPage(dbPage, idxFileInfo).getKeyPrefix();
+        StorageManager.getInstance().unpinDBPage(dbPage);
+        return prefix;
+    }
+
+    /**
+     * 插入的key使第一个叶子页面的前缀变为空串，删除它之后前缀不变；页面满时
+     * 先按剩下的key重新计算前缀，空出的空间放得下新的key，不需要分裂
+     */
+    @Test
+    public void testPrefixRecomputedBeforeSplit() throws Exception {
+        createIndex();
+        loadRows(400);
+
+        int firstLeaf = getLeafPageNos().get(0);
+        run("INSERT INTO " + TABLE + " VALUES (-1, 'a')");
+        assert getLeafPrefix(firstLeaf).isEmpty();
+        deleteRow(-1);
+        verify();
+        assert getLeafPrefix(firstLeaf).isEmpty();
+
+        // 较短的key都在第一个叶子页面中，排在k00000之前
+        int numLeaves = getLeafPageNos().size();
+        for (int i = 0; getLeafPrefix(firstLeaf).isEmpty(); i++) {
+            assert i < 100 : "leaf prefix was never recomputed";
+            run("INSERT INTO " + TABLE + " VALUES (" + (1000 + i) + ", 'k00000-" + i + "')");
+            verify();
+        }
+
+        String prefix = getLeafPrefix(firstLeaf);
+        assert prefix.startsWith("k000") : prefix;
+        assert getLeafPageNos().size() == numLeaves : "leaf was split";
+        assert getLeafPageNos().get(0) == firstLeaf;
+    }
+}
@@ -0,0 +1,214 @@
+package com.bow.maple.storage.btreeindex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.bow.lab.indexes.IndexFileInfo;
+import com.bow.maple.plans.BTreeIndexScanNode;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.server.CommandResult;
+import com.bow.maple.server.NanoDBServer;
+import com.bow.maple.sql.SqlTestCase;
+import com.bow.maple.storage.PageTuple;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+import com.bow.maple.storage.TableManager;
+
+/**
+ * 多个线程并发读写同一个B<sup>+</sup>树索引，检查{@link BTreeLatches}：写线程
+ * 向索引中插入key，使叶子页面和内部页面不断分裂；读线程同时扫描整个
+ * 索引。扫描每一批之间释放latch，分裂发生在扫描的过程中。每次扫描的结果都
+ * 严格递增，并且包含扫描开始前已有的所有key；结束后索引通过检查。
+ */
+public class TestBTreeLatches extends SqlTestCase {
+
+    private static final String TABLE = "TEST_BTREE_LATCHES";
+
+    private static final int NUM_ROWS = 3000;
+
+    private static final int NUM_WRITERS = 2;
+
+    private static final int NUM_READERS = 3;
+
+    /** 较长的key使叶子页面中的key较少，插入时经常分裂 */
+    private static final String PADDING = "-abcdefghijklmnopqrstuvwxyz0123456";
+
+    public TestBTreeLatches() {
+        super("setup_testBTreeLatches");
+        System.setProperty(StorageManager.PROP_PAGESIZE, "1024");
+    }
+
+    @After
+    public void clearProperties() {
+        System.clearProperty(StorageManager.PROP_PAGESIZE);
+    }
+
+    private static String key(int n) {
+        return String.format("k%05d", n) + PADDING;
+    }
+
+    private static IndexFileInfo openIndex() throws Exception {
+        StorageManager storageManager = StorageManager.getInstance();
+        TableFileInfo tblFileInfo = storageManager.openTable(TABLE);
+        String indexName = tblFileInfo.getSchema().getIndexes().keySet().iterator().next();
+        return storageManager.openIndex(tblFileInfo, indexName);
+    }
+
+    private static int getNumLeaves(IndexFileInfo idxFileInfo) throws Exception {
+        BTreeIndexManager manager = (BTreeIndexManager) idxFileInfo.getIndexManager();
+        manager.beginRead(idxFileInfo);
+        try {
+            int numLeaves = 0;
+            LeafPage leaf = manager.getFirstLeafPage(idxFileInfo);
+            while (leaf != null) {
+                numLeaves++;
+                int nextPageNo = leaf.getNextPageNo();
+                LeafPage next = (nextPageNo == 0) ? null :
+                    manager.loadLeafPage(idxFileInfo, nextPageNo);
+                manager.releaseLeafPage(leaf);
+                leaf = next;
+            }
+            return numLeaves;
+        }
+        finally {
+            manager.endRead(idxFileInfo);
+        }
+    }
+
+    /**
+     * 只扫描索引，返回读到的key。不要求顺序时仍按key的顺序读取叶子页面
+     */
+    private static List<String> scanKeys(IndexFileInfo idxFileInfo) throws Exception {
+        BTreeIndexScanNode scan =
+            new BTreeIndexScanNode(idxFileInfo.getTableFileInfo(), idxFileInfo, null, null);
+        scan.setIndexOnly(true);
+        scan.setOrdered(false);
+        scan.prepare();
+        scan.initialize();
+
+        List<String> keys = new ArrayList<String>();
+        Tuple tuple;
+        while ((tuple = scan.getNextTuple()) != null)
+            keys.add((String) tuple.getColumnValue(0));
+        scan.cleanUp();
+        return keys;
+    }
+
+    /**
+     * 检查一次扫描的结果严格递增，并包含所有偶数行的key
+     */
+    private static void checkScan(List<String> keys) {
+        int numEven = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            if (i > 0) {
+                assert keys.get(i - 1).compareTo(keys.get(i)) < 0 :
+                    "scan out of order at " + i + ": " + keys.get(i - 1) + ", " + keys.get(i);
+            }
+            if (Integer.parseInt(keys.get(i).substring(1, 6)) % 2 == 0)
+                numEven++;
+        }
+        assert numEven == NUM_ROWS / 2 : "scan saw " + numEven + " of the existing keys";
+    }
+
+    @Test
+    public void testConcurrentInsertsAndScans() throws Exception {
+        for (int n = 0; n < NUM_ROWS; n++) {
+            CommandResult result = NanoDBServer.doCommand(
+                "INSERT INTO " + TABLE + " VALUES (" + n + ", '" + key(n) + "')", false);
+            assert !result.failed() : result.getFailure();
+        }
+
+        // 先从索引中删除奇数行的key，之后由写线程重新插入
+        final IndexFileInfo idxFileInfo = openIndex();
+        final BTreeIndexManager manager = (BTreeIndexManager) idxFileInfo.getIndexManager();
+        TableFileInfo tblFileInfo = idxFileInfo.getTableFileInfo();
+        TableManager tableManager = tblFileInfo.getTableManager();
+
+        final List<PageTuple> oddRows = new ArrayList<PageTuple>();
+        Tuple tup = tableManager.getFirstTuple(tblFileInfo);
+        while (tup != null) {
+            if ((Integer) tup.getColumnValue(0) % 2 == 1)
+                oddRows.add((PageTuple) tup);
+            tup = tableManager.getNextTuple(tblFileInfo, tup);
+        }
+        assert oddRows.size() == NUM_ROWS / 2;
+        for (PageTuple row : oddRows)
+            manager.deleteTuple(idxFileInfo, row);
+        Collections.shuffle(oddRows, new Random(17));
+
+        int leavesBefore = getNumLeaves(idxFileInfo);
+        checkScan(scanKeys(idxFileInfo));
+
+        final AtomicBoolean writersDone = new AtomicBoolean(false);
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_WRITERS + NUM_READERS);
+        try {
+            List<Future<Integer>> writers = new ArrayList<Future<Integer>>();
+            for (int w = 0; w < NUM_WRITERS; w++) {
+                final int writer = w;
+                writers.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        int count = 0;
+                        for (int i = writer; i < oddRows.size(); i += NUM_WRITERS) {
+                            manager.addTuple(idxFileInfo, oddRows.get(i));
+                            count++;
+                        }
+                        return count;
+                    }
+                }));
+            }
+
+            List<Future<Integer>> readers = new ArrayList<Future<Integer>>();
+            for (int r = 0; r < NUM_READERS; r++) {
+                readers.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        int numScans = 0;
+                        while (!writersDone.get()) {
+                            checkScan(scanKeys(idxFileInfo));
+                            numScans++;
+                        }
+                        return numScans;
+                    }
+                }));
+            }
+
+            int numInserted = 0;
+            try {
+                for (Future<Integer> writer : writers)
+                    numInserted += writer.get(2, TimeUnit.MINUTES);
+            }
+            finally {
+                writersDone.set(true);
+            }
+            assert numInserted == oddRows.size();
+
+            for (Future<Integer> reader : readers)
+                assert reader.get(2, TimeUnit.MINUTES) > 0 : "a reader never finished a scan";
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        // 插入使叶子页面分裂，索引仍然有效并包含所有的key
+        assert getNumLeaves(idxFileInfo) > leavesBefore :
+            "no leaf split: " + leavesBefore + " leaves before and after";
+        List<String> errors = manager.verifyIndex(idxFileInfo);
+        assert errors.isEmpty() : errors;
+
+        List<String> keys = scanKeys(idxFileInfo);
+        checkScan(keys);
+        assert keys.size() == NUM_ROWS : keys.size();
+    }
+}
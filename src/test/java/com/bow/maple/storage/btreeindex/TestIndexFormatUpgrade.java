@@ -0,0 +1,174 @@
+package com.bow.maple.storage.btreeindex;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import com.bow.lab.indexes.IndexFileInfo;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.plans.BTreeIndexScanNode;
+import com.bow.maple.relations.Tuple;
+import com.bow.maple.server.CommandResult;
+import com.bow.maple.server.NanoDBServer;
+import com.bow.maple.sql.SqlTestCase;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+import org.junit.Test;
+
+/**
+ * 打开旧格式的索引(版本1，叶子页面没有key前缀；版本2，叶子页面没有slot目录)
+ * 时从表中的数据重建索引
+ */
+public class TestIndexFormatUpgrade extends SqlTestCase {
+
+    private static final String TABLE = "TEST_BTREE_INDEX_SCAN";
+
+    /** 首字母都不同，叶子页面的前缀为空，去掉前缀的长度后就是版本1的叶子 */
+    private static final String[] KEYS = { "apple", "banana", "cherry", "damson", "elder" };
+
+    public TestIndexFormatUpgrade() {
+        super("setup_testBTreeIndexScan");
+    }
+
+    /**
+     * 把索引文件改写为版本1：头页面中的版本号改为1，唯一的叶子页面去掉
+     * {@link LeafPage#OFFSET_KEY_PREFIX}处的前缀，key紧跟在项数之后
+     */
+    private static void downgradeIndexFile(File idxFile) throws Exception {
+        RandomAccessFile contents = new RandomAccessFile(idxFile, "rw");
+        try {
+            contents.seek(1);
+            int encoded = contents.readUnsignedByte();
+            int pageSize = DBFile.decodePageSize(encoded & DBFile.PAGESIZE_MASK);
+            assert DBFile.decodeFormatVersion(encoded) == DBFile.CURRENT_FORMAT_VERSION;
+            contents.seek(1);
+            contents.writeByte(DBFile.encodePageSizeAndVersion(pageSize, 1));
+
+            contents.seek(HeaderPage.OFFSET_ROOT_PAGE);
+            int leafPageNo = contents.readInt();
+            byte[] page = new byte[pageSize];
+            contents.seek((long) leafPageNo * pageSize);
+            contents.readFully(page);
+            assert page[0] == BTreeIndexManager.BTREE_LEAF_PAGE;
+            assert page[LeafPage.OFFSET_KEY_PREFIX] == 0 && page[LeafPage.OFFSET_KEY_PREFIX + 1] == 0;
+
+            System.arraycopy(page, LeafPage.OFFSET_KEY_PREFIX + 2, page,
+                LeafPage.OFFSET_KEY_PREFIX, pageSize - LeafPage.OFFSET_KEY_PREFIX - 2);
+            contents.seek((long) leafPageNo * pageSize);
+            contents.write(page);
+        }
+        finally {
+            contents.close();
+        }
+    }
+
+    /** 只把索引文件头页面中的版本号改为<tt>version</tt>，页面内容不变 */
+    private static void setIndexFileVersion(File idxFile, int version) throws Exception {
+        RandomAccessFile contents = new RandomAccessFile(idxFile, "rw");
+        try {
+            contents.seek(1);
+            int encoded = contents.readUnsignedByte();
+            int pageSize = DBFile.decodePageSize(encoded & DBFile.PAGESIZE_MASK);
+            contents.seek(1);
+            contents.writeByte(DBFile.encodePageSizeAndVersion(pageSize, version));
+        }
+        finally {
+            contents.close();
+        }
+    }
+
+    private static void insert(int i) throws Exception {
+        CommandResult result = NanoDBServer.doCommand(
+            "INSERT INTO " + TABLE + " VALUES (" + i + ", '" + KEYS[i] + "')", false);
+        assert !result.failed() : result.getFailure();
+    }
+
+    @Test
+    public void testOpenVersion1Leaf() throws Exception {
+        for (int i = 0; i < KEYS.length - 1; i++)
+            insert(i);
+
+        StorageManager storageManager = StorageManager.getInstance();
+        TableFileInfo tblFileInfo = storageManager.openTable(TABLE);
+        String indexName = tblFileInfo.getSchema().getIndexes().keySet().iterator().next();
+        File idxFile = storageManager.openIndex(tblFileInfo, indexName).getDBFile().getDataFile();
+
+        NanoDBServer.shutdown();
+        downgradeIndexFile(idxFile);
+        NanoDBServer.startup();
+
+        // 插入时在事务中打开索引，旧格式的索引在这时重建
+        insert(KEYS.length - 1);
+
+        storageManager = StorageManager.getInstance();
+        tblFileInfo = storageManager.openTable(TABLE);
+        IndexFileInfo idxFileInfo = storageManager.openIndex(tblFileInfo, indexName);
+        assert idxFileInfo.getDBFile().getFormatVersion() == DBFile.CURRENT_FORMAT_VERSION;
+
+        // 按旧的布局读取时，第一个key的开头会被当作前缀的长度
+        BTreeIndexScanNode scan = new BTreeIndexScanNode(tblFileInfo, idxFileInfo, null, null);
+        scan.setIndexOnly(true);
+        scan.setOrdered(false);
+        scan.prepare();
+        scan.initialize();
+        for (String key : KEYS) {
+            Tuple tuple = scan.getNextTuple();
+            assert tuple != null : "scan ended before " + key;
+            assert key.equals(tuple.getColumnValue(0)) : "expected " + key + ", got " + tuple;
+        }
+        assert scan.getNextTuple() == null;
+        scan.cleanUp();
+
+        LiteralTuple key = new LiteralTuple();
+        key.addValue("cherry");
+        scan = new BTreeIndexScanNode(tblFileInfo, idxFileInfo, null, null);
+        scan.setLowerBound(key, true);
+        scan.setUpperBound(key, true);
+        scan.prepare();
+        scan.initialize();
+        Tuple tuple = scan.getNextTuple();
+        assert tuple != null && (Integer) tuple.getColumnValue(0) == 2 : "got " + tuple;
+        assert scan.getNextTuple() == null;
+        scan.cleanUp();
+    }
+
+    /**
+     * 版本2的索引没有slot目录，即使页面内容按版本2的布局完好也要重建
+     */
+    @Test
+    public void testOpenVersion2Index() throws Exception {
+        for (int i = 0; i < KEYS.length - 1; i++)
+            insert(i);
+
+        StorageManager storageManager = StorageManager.getInstance();
+        TableFileInfo tblFileInfo = storageManager.openTable(TABLE);
+        String indexName = tblFileInfo.getSchema().getIndexes().keySet().iterator().next();
+        File idxFile = storageManager.openIndex(tblFileInfo, indexName).getDBFile().getDataFile();
+
+        NanoDBServer.shutdown();
+        setIndexFileVersion(idxFile, DBFile.KEY_PREFIX_FORMAT_VERSION);
+        NanoDBServer.startup();
+
+        insert(KEYS.length - 1);
+
+        storageManager = StorageManager.getInstance();
+        tblFileInfo = storageManager.openTable(TABLE);
+        IndexFileInfo idxFileInfo = storageManager.openIndex(tblFileInfo, indexName);
+        assert idxFileInfo.getDBFile().getFormatVersion() == DBFile.CURRENT_FORMAT_VERSION;
+
+        List<String> errors = new BTreeIndexVerifier(idxFileInfo).verify();
+        assert errors.isEmpty() : errors;
+
+        BTreeIndexScanNode scan = new BTreeIndexScanNode(tblFileInfo, idxFileInfo, null, null);
+        scan.setIndexOnly(true);
+        scan.prepare();
+        scan.initialize();
+        for (String key : KEYS) {
+            Tuple tuple = scan.getNextTuple();
+            assert tuple != null && key.equals(tuple.getColumnValue(0)) : "expected " + key + ", got " + tuple;
+        }
+        assert scan.getNextTuple() == null;
+        scan.cleanUp();
+    }
+}
@@ -0,0 +1,161 @@
+package com.bow.maple.storage.btreeindex;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bow.lab.storage.heap.PageTupleUtil;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.expressions.TupleComparator;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBFileType;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileManager;
+import com.bow.maple.storage.FilePointer;
+import com.bow.maple.storage.StorageTestCase;
+
+/**
+ * 叶子页面的前缀压缩，以及内部页面中截短的分隔key
+ */
+public class TestKeyCompression extends StorageTestCase {
+
+    private FileManager fileMgr;
+
+    private DBFile dbFile;
+
+    private DBPage dbPage;
+
+    /** (VARCHAR(20), INTEGER, FILE_POINTER) */
+    private List<ColumnInfo> colInfos;
+
+    @Before
+    public void before() throws IOException {
+        fileMgr = new FileManager(testBaseDir);
+        dbFile = fileMgr.createDBFile("TestKeyCompression", DBFileType.BTREE_INDEX_FILE,
+            DBFile.DEFAULT_PAGESIZE);
+        dbPage = new DBPage(dbFile, 1);
+
+        ColumnType varchar = new ColumnType(SQLDataType.VARCHAR);
+        varchar.setLength(20);
+
+        colInfos = new ArrayList<ColumnInfo>();
+        colInfos.add(new ColumnInfo("a", varchar));
+        colInfos.add(new ColumnInfo("b", new ColumnType(SQLDataType.INTEGER)));
+        colInfos.add(new ColumnInfo("#TUPLE_FP", new ColumnType(SQLDataType.FILE_POINTER)));
+    }
+
+    @After
+    public void after() throws IOException {
+        fileMgr.deleteDBFile(dbFile);
+    }
+
+    private static LiteralTuple tuple(Object... values) {
+        LiteralTuple tuple = new LiteralTuple();
+        for (Object value : values)
+            tuple.addValue(value);
+        return tuple;
+    }
+
+    private LiteralTuple key(Object... values) {
+        LiteralTuple tuple = tuple(values);
+        tuple.setStorageSize(PageTupleUtil.getTupleStorageSize(colInfos, tuple));
+        return tuple;
+    }
+
+    /**
+     * 写入页面的key只存储前缀之后的部分，读出和比较时补全前缀
+     */
+    @Test
+    public void testWriteKeys() {
+        List<LiteralTuple> keys = new ArrayList<LiteralTuple>();
+        keys.add(key("application", 1, new FilePointer(1, 10)));
+        keys.add(key("apply", 2, new FilePointer(1, 20)));
+        keys.add(key("approach", 3, new FilePointer(1, 30)));
+
+        assert LeafPage.getKeyPrefix(colInfos, keys.get(0), keys.get(2)).equals("app");
+
+        int fullSize = 2 + LeafPage.getSlotDirectorySize(keys.size());
+        for (LiteralTuple key : keys)
+            fullSize += key.getStorageSize();
+        int encodedSize = LeafPage.getEncodedSize(colInfos, keys, 0, keys.size());
+        assert encodedSize == fullSize - 3 * 2;
+
+        int end = LeafPage.writeKeys(dbPage, colInfos, keys, 0, keys.size());
+        assert end == LeafPage.OFFSET_KEY_PREFIX + encodedSize - LeafPage.getSlotDirectorySize(3);
+        assert dbPage.readUnsignedShort(LeafPage.OFFSET_NUM_ENTRIES) == 3;
+        assert dbPage.readVarString65535(LeafPage.OFFSET_KEY_PREFIX).equals("app");
+
+        PageKeyComparator comparator = new PageKeyComparator(colInfos);
+        int offset = LeafPage.OFFSET_KEY_PREFIX + 2 + 3;
+        int k = 0;
+        for (LiteralTuple expected : keys) {
+            BTreeIndexPageTuple stored = new BTreeIndexPageTuple(dbPage, offset, colInfos, "app");
+            assert TupleComparator.compareTuples(stored, expected) == 0;
+            assert comparator.comparePrefix(dbPage, offset, expected, "app") == 0;
+            assert dbPage.readUnsignedShort(LeafPage.getSlotOffset(dbPage, k++)) == offset;
+            offset += stored.getSize();
+        }
+        assert offset == end;
+        assert dbPage.readUnsignedShort(LeafPage.getSlotOffset(dbPage, 3)) == end;
+
+        // 第一个key与页面中其它key的比较同样补全了前缀
+        int first = LeafPage.OFFSET_KEY_PREFIX + 2 + 3;
+        assert comparator.comparePrefix(dbPage, first, tuple("apply"), "app") < 0;
+        assert comparator.comparePrefix(dbPage, first, tuple("ap"), "app") > 0;
+        assert comparator.comparePrefix(dbPage, first, tuple("application"), "app") == 0;
+    }
+
+    /**
+     * 第一列有NULL时不使用前缀
+     */
+    @Test
+    public void testNullPrefix() {
+        List<LiteralTuple> keys = new ArrayList<LiteralTuple>();
+        keys.add(key(null, 1, new FilePointer(1, 10)));
+        keys.add(key("apply", 2, new FilePointer(1, 20)));
+
+        assert LeafPage.getKeyPrefix(colInfos, keys.get(0), keys.get(1)).isEmpty();
+
+        LeafPage.writeKeys(dbPage, colInfos, keys, 0, keys.size());
+        assert dbPage.readVarString65535(LeafPage.OFFSET_KEY_PREFIX).isEmpty();
+    }
+
+    /**
+     * 分隔key大于左边的key，不大于右边的key
+     */
+    @Test
+    public void testMakeSeparatorKey() {
+        LiteralTuple left = key("smith", 7, new FilePointer(2, 10));
+        LiteralTuple right = key("smythe", 1, new FilePointer(1, 10));
+
+        LiteralTuple separator = InnerPage.makeSeparatorKey(colInfos, left, right);
+        assert "smy".equals(separator.getColumnValue(0));
+        assert separator.getColumnValue(1) == null;
+        assert separator.getColumnValue(2) == null;
+        assert separator.getStorageSize() < right.getStorageSize();
+        assert TupleComparator.compareTuples(left, separator) < 0;
+        assert TupleComparator.compareTuples(separator, right) <= 0;
+
+        // 只有file-pointer不同时需要完整的key
+        left = key("smith", 7, new FilePointer(2, 10));
+        right = key("smith", 7, new FilePointer(2, 20));
+        separator = InnerPage.makeSeparatorKey(colInfos, left, right);
+        assert TupleComparator.compareTuples(separator, right) == 0;
+
+        // 第二列不同时，第一列保持完整
+        left = key("smith", 7, new FilePointer(2, 10));
+        right = key("smith", 9, new FilePointer(1, 10));
+        separator = InnerPage.makeSeparatorKey(colInfos, left, right);
+        assert "smith".equals(separator.getColumnValue(0));
+        assert separator.getColumnValue(1).equals(9);
+        assert separator.getColumnValue(2) == null;
+        assert TupleComparator.compareTuples(left, separator) < 0;
+    }
+}
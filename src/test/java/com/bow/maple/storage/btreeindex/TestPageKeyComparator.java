@@ -0,0 +1,141 @@
+package com.bow.maple.storage.btreeindex;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bow.lab.storage.heap.PageTupleUtil;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBFileType;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileManager;
+import com.bow.maple.storage.FilePointer;
+import com.bow.maple.storage.StorageTestCase;
+
+/**
+ * 直接在页面字节上比较key，结果应与{@link com.bow.maple.expressions.TupleComparator}一致
+ */
+public class TestPageKeyComparator extends StorageTestCase {
+
+    private FileManager fileMgr;
+
+    private DBFile dbFile;
+
+    private DBPage dbPage;
+
+    /** (INTEGER, VARCHAR(20), FILE_POINTER) */
+    private List<ColumnInfo> colInfos;
+
+    private PageKeyComparator comparator;
+
+    @Before
+    public void before() throws IOException {
+        fileMgr = new FileManager(testBaseDir);
+        dbFile = fileMgr.createDBFile("TestPageKeyComparator", DBFileType.BTREE_INDEX_FILE,
+            DBFile.DEFAULT_PAGESIZE);
+        dbPage = new DBPage(dbFile, 1);
+
+        ColumnType varchar = new ColumnType(SQLDataType.VARCHAR);
+        varchar.setLength(20);
+
+        colInfos = new ArrayList<ColumnInfo>();
+        colInfos.add(new ColumnInfo("a", new ColumnType(SQLDataType.INTEGER)));
+        colInfos.add(new ColumnInfo("b", varchar));
+        colInfos.add(new ColumnInfo("#TUPLE_FP", new ColumnType(SQLDataType.FILE_POINTER)));
+
+        comparator = new PageKeyComparator(colInfos);
+    }
+
+    @After
+    public void after() throws IOException {
+        fileMgr.deleteDBFile(dbFile);
+    }
+
+    private static LiteralTuple tuple(Object... values) {
+        LiteralTuple tuple = new LiteralTuple();
+        for (Object value : values)
+            tuple.addValue(value);
+        return tuple;
+    }
+
+    /**
+     * 在页面上连续存放的key，长度与PageTupleUtil计算的一致
+     */
+    @Test
+    public void testGetKeySize() {
+        LiteralTuple first = tuple(5, "hello", new FilePointer(3, 100));
+        LiteralTuple second = tuple(null, "x", new FilePointer(1, 2));
+
+        int end = PageTupleUtil.storeTuple(dbPage, 10, colInfos, first);
+        PageTupleUtil.storeTuple(dbPage, end, colInfos, second);
+
+        assert comparator.getKeySize(dbPage, 10) == end - 10;
+        assert comparator.getKeySize(dbPage, end) ==
+            PageTupleUtil.getTupleStorageSize(colInfos, second);
+    }
+
+    /**
+     * 前缀比较，NULL比任何值都小，整数列可以和其它数值类型比较
+     */
+    @Test
+    public void testComparePrefix() {
+        PageTupleUtil.storeTuple(dbPage, 10, colInfos, tuple(5, "m", new FilePointer(3, 100)));
+
+        assert comparator.comparePrefix(dbPage, 10, tuple(5)) == 0;
+        assert comparator.comparePrefix(dbPage, 10, tuple(5L, "m")) == 0;
+        assert comparator.comparePrefix(dbPage, 10, tuple(5, "n")) < 0;
+        assert comparator.comparePrefix(dbPage, 10, tuple(4, "z")) > 0;
+        assert comparator.comparePrefix(dbPage, 10, tuple(5.5)) < 0;
+        assert comparator.comparePrefix(dbPage, 10, tuple((Object) null)) > 0;
+        assert comparator.comparePrefix(dbPage, 10, tuple(5, "m", new FilePointer(3, 100))) == 0;
+        assert comparator.comparePrefix(dbPage, 10, tuple(5, "m", new FilePointer(3, 101))) < 0;
+        assert comparator.comparePrefix(dbPage, 10, tuple(5, "m", new FilePointer(2, 900))) > 0;
+
+        // 页号超过16位
+        PageTupleUtil.storeTuple(dbPage, 60, colInfos, tuple(5, "m", new FilePointer(70000, 8)));
+        assert comparator.comparePrefix(dbPage, 60, tuple(5, "m", new FilePointer(70000, 8))) == 0;
+        assert comparator.comparePrefix(dbPage, 60, tuple(5, "m", new FilePointer(65535, 9))) > 0;
+        assert comparator.comparePrefix(dbPage, 60, tuple(5, "m", new FilePointer(70001, 0))) < 0;
+
+        PageTupleUtil.storeTuple(dbPage, 100, colInfos, tuple(null, "m", new FilePointer(3, 100)));
+        assert comparator.comparePrefix(dbPage, 100, tuple(Integer.MIN_VALUE)) < 0;
+        assert comparator.comparePrefix(dbPage, 100, tuple(null, "m")) == 0;
+    }
+
+    /**
+     * 第一列省略了前缀时，先比较前缀再比较页面中的后缀，结果与拼接后的字符串比较一致
+     */
+    @Test
+    public void testCompareWithKeyPrefix() {
+        ColumnType varchar = new ColumnType(SQLDataType.VARCHAR);
+        varchar.setLength(20);
+        List<ColumnInfo> prefixCols = new ArrayList<ColumnInfo>();
+        prefixCols.add(new ColumnInfo("s", varchar));
+        prefixCols.add(new ColumnInfo("#TUPLE_FP", new ColumnType(SQLDataType.FILE_POINTER)));
+        PageKeyComparator prefixComparator = new PageKeyComparator(prefixCols);
+
+        // 完整的key是"applesauce"，页面中只存"sauce"
+        PageTupleUtil.storeTuple(dbPage, 10, prefixCols, tuple("sauce", new FilePointer(1, 2)));
+
+        String[] searches = { "applesauce", "apple", "applesauces", "applesaucd", "applet",
+            "appld", "b", "", "applesaucf" };
+        for (String search : searches) {
+            int cmp = prefixComparator.comparePrefix(dbPage, 10, tuple(search), "apple");
+            int expected = "applesauce".compareTo(search);
+            assert Integer.signum(cmp) == Integer.signum(expected) : search;
+        }
+
+        assert prefixComparator.comparePrefix(dbPage, 10,
+            tuple("applesauce", new FilePointer(1, 2)), "apple") == 0;
+        assert prefixComparator.comparePrefix(dbPage, 10,
+            tuple("applesauce", new FilePointer(1, 3)), "apple") < 0;
+    }
+}
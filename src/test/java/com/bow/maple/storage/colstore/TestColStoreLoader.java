@@ -0,0 +1,119 @@
+package com.bow.maple.storage.colstore;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.storage.FileEncoding;
+
+/**
+ * 列式存储表的导入：CSV的拆分，以及按块选择编码
+ */
+public class TestColStoreLoader {
+
+    /**
+     * 缓冲区比一行还小时仍然能读出完整的行，空行被跳过
+     */
+    @Test
+    public void testTokenizer() throws IOException {
+        String input = "id, name ,score\r\n\n  \n1,alice,  90\r\n2,,85\n3,bob,70";
+        CSVTokenizer tokenizer = new CSVTokenizer(new StringReader(input), 4);
+        String[] fields = new String[3];
+
+        assert tokenizer.readRow(fields) == 3;
+        assert Arrays.asList(fields).equals(Arrays.asList("id", "name", "score"));
+
+        assert tokenizer.readRow(fields) == 3;
+        assert Arrays.asList(fields).equals(Arrays.asList("1", "alice", "90"));
+        assert tokenizer.getLineNo() == 4;
+
+        assert tokenizer.readRow(fields) == 3;
+        assert Arrays.asList(fields).equals(Arrays.asList("2", "", "85"));
+
+        // 最后一行没有换行符
+        assert tokenizer.readRow(fields) == 3;
+        assert Arrays.asList(fields).equals(Arrays.asList("3", "bob", "70"));
+
+        assert tokenizer.readRow(fields) == -1;
+    }
+
+    /**
+     * 每个行组独立选择估计占用页面最少的编码：有序且重复多时使用RLE，字符串
+     * 不同值少时使用字典，整数范围小时使用位压缩，有序的整数使用差分编码，
+     * 不同值很多的字符串使用块压缩
+     */
+    @Test
+    public void testChunkEncodings() throws IOException {
+        ColumnType varchar = new ColumnType(SQLDataType.VARCHAR);
+        varchar.setLength(20);
+
+        List<ColumnInfo> colInfos = new ArrayList<ColumnInfo>();
+        colInfos.add(new ColumnInfo("grp", new ColumnType(SQLDataType.INTEGER)));
+        colInfos.add(new ColumnInfo("color", varchar));
+        colInfos.add(new ColumnInfo("id", new ColumnType(SQLDataType.INTEGER)));
+        colInfos.add(new ColumnInfo("mixed", new ColumnType(SQLDataType.INTEGER)));
+        colInfos.add(new ColumnInfo("mixed2", new ColumnType(SQLDataType.INTEGER)));
+        colInfos.add(new ColumnInfo("ts", new ColumnType(SQLDataType.BIGINT)));
+        colInfos.add(new ColumnInfo("name", varchar));
+
+        String[] colors = {"red", "green", "blue"};
+        int rowGroupRows = 4096;
+        int numRows = rowGroupRows * 2;
+        StringBuilder input = new StringBuilder("grp,color,id,mixed,mixed2,ts,name\n");
+        for (int i = 0; i < numRows; i++) {
+            // 第一个行组中有序重复；第二个行组中mixed各不相同且无序，mixed2
+            // 无序但只有几个不同的值
+            int id = (i * 7919) % numRows;
+            int mixed = (i < rowGroupRows) ? i / 1000 : id;
+            int mixed2 = (i < rowGroupRows) ? i / 1000 : (i * 31) % 13;
+            long ts = 1600000000000L + i * 1000L + (i * 7) % 5;
+            input.append(i / 1000).append(',').append(colors[i % 3]).append(',')
+                .append(id).append(',').append(mixed).append(',').append(mixed2).append(',')
+                .append(ts).append(',').append(String.format("customer#%09d", id)).append('\n');
+        }
+
+        ColStoreLoader loader = new ColStoreLoader(colInfos, rowGroupRows);
+        loader.parse(new StringReader(input.toString()));
+        assert loader.getNumRows() == numRows;
+
+        assert loader.getChunkEncodings(0).equals(Arrays.asList(FileEncoding.RLE, FileEncoding.RLE));
+        assert loader.getChunkEncodings(1).equals(
+            Arrays.asList(FileEncoding.DICTIONARY, FileEncoding.DICTIONARY));
+        assert loader.getChunkEncodings(2).equals(
+            Arrays.asList(FileEncoding.BITPACK, FileEncoding.BITPACK));
+        assert loader.getChunkEncodings(3).equals(
+            Arrays.asList(FileEncoding.RLE, FileEncoding.BITPACK));
+        assert loader.getChunkEncodings(4).equals(
+            Arrays.asList(FileEncoding.RLE, FileEncoding.BITPACK));
+        assert loader.getChunkEncodings(5).equals(
+            Arrays.asList(FileEncoding.DELTA, FileEncoding.DELTA));
+        assert loader.getChunkEncodings(6).equals(Arrays.asList(FileEncoding.LZ, FileEncoding.LZ));
+    }
+
+    /**
+     * 字段个数不对或者数值列中的值不是数字时报错
+     */
+    @Test
+    public void testBadInput() {
+        List<ColumnInfo> colInfos = new ArrayList<ColumnInfo>();
+        colInfos.add(new ColumnInfo("a", new ColumnType(SQLDataType.INTEGER)));
+        colInfos.add(new ColumnInfo("b", new ColumnType(SQLDataType.INTEGER)));
+
+        for (String input : new String[] {"a,b\n1,2,3\n", "a,b\n1,x\n"}) {
+            boolean failed = false;
+            try {
+                new ColStoreLoader(colInfos).parse(new StringReader(input));
+            } catch (IOException e) {
+                failed = true;
+            }
+            assert failed;
+        }
+    }
+}
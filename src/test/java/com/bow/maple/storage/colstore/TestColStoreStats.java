@@ -0,0 +1,127 @@
+package com.bow.maple.storage.colstore;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bow.maple.expressions.ColumnName;
+import com.bow.maple.expressions.ColumnValue;
+import com.bow.maple.expressions.CompareOperator;
+import com.bow.maple.expressions.LiteralValue;
+import com.bow.maple.qeval.ColumnStats;
+import com.bow.maple.qeval.SelectivityEstimator;
+import com.bow.maple.qeval.TableStats;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBFileType;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileManager;
+import com.bow.maple.storage.StorageTestCase;
+import com.bow.maple.storage.TableFileInfo;
+
+/**
+ * 列式存储表的统计信息：在头页面中的存取，以及用直方图估计选择率
+ */
+public class TestColStoreStats extends StorageTestCase {
+
+    private FileManager fileMgr;
+
+    private DBFile dbFile;
+
+    private TableFileInfo tblFileInfo;
+
+    @Before
+    public void before() throws IOException {
+        fileMgr = new FileManager(testBaseDir);
+        dbFile = fileMgr.createDBFile("TestColStoreStats", DBFileType.CS_DATA_FILE,
+            DBFile.DEFAULT_PAGESIZE);
+
+        ColumnType varchar = new ColumnType(SQLDataType.VARCHAR);
+        varchar.setLength(20);
+        tblFileInfo = new TableFileInfo("T", dbFile);
+        tblFileInfo.getSchema().addColumnInfo(
+            new ColumnInfo("a", "T", new ColumnType(SQLDataType.INTEGER)));
+        tblFileInfo.getSchema().addColumnInfo(new ColumnInfo("name", "T", varchar));
+    }
+
+    @After
+    public void after() throws IOException {
+        fileMgr.deleteDBFile(dbFile);
+    }
+
+    /**
+     * 统计信息写在schema之后，读出的值与写入的相同；没有写过统计信息时读出
+     * <tt>null</tt>
+     */
+    @Test
+    public void testHeaderPageStats() {
+        DBPage dbPage = new DBPage(dbFile, 0);
+        CSHeaderPage.initNewPage(dbPage);
+        CSHeaderPage.setSchemaSize(dbPage, 30);
+        assert CSHeaderPage.getTableStats(dbPage, tblFileInfo) == null;
+
+        ColumnStats a = new ColumnStats(100, 0, 1, 1000);
+        a.setHistogram(new Object[] {1, 5, 5, 400, 1000});
+        ColumnStats name = new ColumnStats(3, 0, "blue", "red");
+        ArrayList<ColumnStats> colStats = new ArrayList<ColumnStats>(Arrays.asList(a, name));
+        tblFileInfo.setStats(new TableStats(42, 5000, 13.5f, colStats));
+        CSHeaderPage.setTableStats(dbPage, tblFileInfo);
+
+        TableStats stats = CSHeaderPage.getTableStats(dbPage, tblFileInfo);
+        assert stats.numDataPages == 42;
+        assert stats.numTuples == 5000;
+        assert stats.avgTupleSize == 13.5f;
+
+        ColumnStats readA = stats.getColumnStats(0);
+        assert readA.getNumUniqueValues() == 100;
+        assert readA.getNumNullValues() == 0;
+        assert readA.getMinValue().equals(1) && readA.getMaxValue().equals(1000);
+        assert Arrays.equals(readA.getHistogram(), a.getHistogram());
+
+        ColumnStats readName = stats.getColumnStats(1);
+        assert readName.getNumUniqueValues() == 3;
+        assert readName.getMinValue().equals("blue") && readName.getMaxValue().equals("red");
+        assert !readName.hasHistogram();
+    }
+
+    /**
+     * 有直方图时范围比较按桶估计，不再假设值在最小值和最大值之间均匀分布；
+     * 占满整个桶的值的等值比较按桶的比例估计
+     */
+    @Test
+    public void testHistogramSelectivity() {
+        // 至少四分之一的值是5，多数值在400以下
+        ColumnStats a = new ColumnStats(100, 0, 1, 1000);
+        a.setHistogram(new Object[] {1, 5, 5, 400, 1000});
+        ArrayList<ColumnStats> colStats = new ArrayList<ColumnStats>(Arrays.asList(a,
+            new ColumnStats()));
+
+        assert estimate(CompareOperator.Type.LESS_OR_EQUAL, 5, colStats) == 0.5f;
+        assert estimate(CompareOperator.Type.LESS_THAN, 5, colStats) == 0.25f;
+        assert estimate(CompareOperator.Type.GREATER_THAN, 1000, colStats) == 0.0f;
+        assert estimate(CompareOperator.Type.LESS_THAN, 0, colStats) == 0.0f;
+        assert estimate(CompareOperator.Type.EQUALS, 5, colStats) == 0.25f;
+        assert estimate(CompareOperator.Type.EQUALS, 7, colStats) == 0.01f;
+
+        // 桶内按边界插值：(700 - 400) / (1000 - 400) = 0.5
+        float sel = estimate(CompareOperator.Type.GREATER_THAN, 700, colStats);
+        assert Math.abs(sel - 0.125f) < 1e-6 : sel;
+
+        // 没有直方图时仍然按最小值和最大值估计
+        a.setHistogram(null);
+        sel = estimate(CompareOperator.Type.LESS_THAN, 5, colStats);
+        assert sel < 0.01f : sel;
+    }
+
+    private float estimate(CompareOperator.Type type, int value, ArrayList<ColumnStats> stats) {
+        CompareOperator comp = new CompareOperator(type,
+            new ColumnValue(new ColumnName("T", "a")), new LiteralValue(value));
+        return SelectivityEstimator.estimateSelectivity(comp, tblFileInfo.getSchema(), stats);
+    }
+}
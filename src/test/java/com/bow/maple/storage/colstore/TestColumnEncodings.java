@@ -0,0 +1,157 @@
+package com.bow.maple.storage.colstore;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBFileType;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileManager;
+import com.bow.maple.storage.StorageTestCase;
+
+/**
+ * 位压缩、差分编码和块压缩的页面写入后能读出相同的值
+ */
+public class TestColumnEncodings extends StorageTestCase {
+
+    private FileManager fileMgr;
+
+    private DBFile dbFile;
+
+    private DBPage dbPage;
+
+    private Random random = new Random(42);
+
+    @Before
+    public void before() throws IOException {
+        fileMgr = new FileManager(testBaseDir);
+        dbFile = fileMgr.createDBFile("TestColumnEncodings", DBFileType.CS_DATA_FILE,
+            DBFile.DEFAULT_PAGESIZE);
+        dbPage = new DBPage(dbFile, 1);
+    }
+
+    @After
+    public void after() throws IOException {
+        fileMgr.deleteDBFile(dbFile);
+    }
+
+    @Test
+    public void testBitPacking() {
+        for (int width = 1; width <= 64; width++) {
+            long mask = (width == 64) ? -1L : (1L << width) - 1;
+            long[] values = new long[37];
+            for (int i = 0; i < values.length; i++)
+                values[i] = -500 + (random.nextLong() & mask);
+
+            byte[] packed = new byte[BitPacking.packedSize(values.length, width) + 3];
+            BitPacking.pack(values, 0, values.length, -500, width, packed, 3);
+
+            long[] unpacked = new long[values.length];
+            BitPacking.unpack(packed, 3, values.length, -500, width, unpacked, 0);
+            assert Arrays.equals(values, unpacked) : "width " + width;
+        }
+
+        assert BitPacking.bitWidth(0) == 1;
+        assert BitPacking.bitWidth(255) == 8;
+        assert BitPacking.bitWidth(256) == 9;
+        assert BitPacking.bitWidth(-1L) == 64;
+    }
+
+    @Test
+    public void testLZBlockCodec() {
+        byte[] repetitive = new byte[20000];
+        for (int i = 0; i < repetitive.length; i++)
+            repetitive[i] = (byte) "abcabcabd".charAt(i % 9);
+        byte[] randomBytes = new byte[5000];
+        random.nextBytes(randomBytes);
+
+        for (byte[] data : new byte[][] {repetitive, randomBytes, new byte[0], new byte[3]}) {
+            byte[] compressed = new byte[LZBlockCodec.maxCompressedLength(data.length)];
+            int length = LZBlockCodec.compress(data, 0, data.length, compressed, 0,
+                compressed.length);
+            assert length > 0;
+
+            byte[] restored = new byte[data.length];
+            LZBlockCodec.decompress(compressed, 0, length, restored, data.length);
+            assert Arrays.equals(data, restored);
+        }
+
+        // 放不下时返回-1
+        assert LZBlockCodec.compress(randomBytes, 0, randomBytes.length, new byte[1000], 0,
+            1000) == -1;
+        assert LZBlockCodec.compress(repetitive, 0, repetitive.length, new byte[1000], 0,
+            1000) > 0;
+    }
+
+    @Test
+    public void testBitPackedPage() {
+        long[] values = new long[1000];
+        for (int i = 0; i < values.length; i++)
+            values[i] = 100 + random.nextInt(50);
+
+        int width = BitPacking.bitWidth(49);
+        assert BitPackedPage.getCapacity(dbPage.getPageSize(), width) >= values.length;
+        BitPackedPage.writePage(dbPage, values, 0, values.length, 100, width);
+
+        assert CSDataPage.getEncoding(dbPage) == BitPackedPage.ENCODING_MARKER;
+        assert CSDataPage.getCount(dbPage) == values.length;
+        assert BitPackedPage.getWidth(dbPage) == width;
+
+        long[] decoded = new long[values.length];
+        assert BitPackedPage.decode(dbPage, decoded) == values.length;
+        assert Arrays.equals(values, decoded);
+    }
+
+    @Test
+    public void testDeltaPage() {
+        // 递减、带溢出的差值以及有序的值
+        long[] values = new long[5000];
+        for (int i = 0; i < values.length; i++) {
+            if (i < 100)
+                values[i] = 1000 - i * 3;
+            else if (i < 110)
+                values[i] = (i % 2 == 0) ? Long.MIN_VALUE + i : Long.MAX_VALUE - i;
+            else
+                values[i] = 1600000000000L + i * 1000L + random.nextInt(4);
+        }
+
+        int from = 0;
+        while (from < values.length) {
+            int count = DeltaPage.fit(values, from, values.length, dbPage.getPageSize());
+            assert count >= 1;
+            DeltaPage.writePage(dbPage, values, from, count);
+            assert CSDataPage.getCount(dbPage) == count;
+
+            long[] decoded = new long[count];
+            assert DeltaPage.decode(dbPage, decoded) == count;
+            assert Arrays.equals(Arrays.copyOfRange(values, from, from + count), decoded);
+            from += count;
+        }
+    }
+
+    @Test
+    public void testLZPage() {
+        String[] values = new String[300];
+        byte[] raw = new byte[300 * 30];
+        int rawLength = 0;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i % 7 == 0) ? "" : "item-" + Integer.toHexString(i * 7919);
+            rawLength = LZPage.appendValue(raw, rawLength, values[i]);
+        }
+
+        byte[] compressed = new byte[dbPage.getPageSize() - LZPage.FIRST_DATA_OFFSET];
+        int length = LZBlockCodec.compress(raw, 0, rawLength, compressed, 0, compressed.length);
+        assert length > 0 && length < rawLength;
+        LZPage.writePage(dbPage, compressed, length, rawLength, values.length);
+
+        assert LZPage.getRawLength(dbPage) == rawLength;
+        Object[] decoded = new Object[values.length];
+        assert LZPage.decode(dbPage, new byte[rawLength], decoded) == values.length;
+        assert Arrays.equals(values, decoded);
+    }
+}
@@ -0,0 +1,215 @@
+package com.bow.maple.storage.colstore;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Test;
+
+import com.bow.maple.relations.ColumnVector;
+import com.bow.maple.server.CommandResult;
+import com.bow.maple.server.NanoDBServer;
+import com.bow.maple.sql.SqlTestCase;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileEncoding;
+import com.bow.maple.storage.StorageManager;
+import com.bow.maple.storage.TableFileInfo;
+
+/**
+ * {@link ColumnVectorReader}解码出的值与逐块读取的{@link BlockColumnStoreReader}
+ * 一致。表中的列使导入时选择了每一种编码；向量的大小各不相同，读取可以停在
+ * 页面、RLE段或者字典块的中间。
+ * <p>
+ * 列式存储的表中不能有<tt>NULL</tt>，这里检查读出的值都不是<tt>NULL</tt>，
+ * 复用向量时之前的<tt>NULL</tt>标志被清除，并且导入和插入<tt>NULL</tt>都被
+ * 拒绝。
+ */
+public class TestColumnVectorReader extends SqlTestCase {
+
+    private static final String TABLE = "TEST_CV_READER";
+
+    private static final int NUM_ROWS = 10000;
+
+    private static final String[] COLORS = { "red", "green", "blue", "cyan", "magenta" };
+
+    /** 导入的文件所在的目录 */
+    private File inputDir = new File("test_inputfiles");
+
+    public TestColumnVectorReader() throws IOException {
+        super("setup_testColumnVectorReader");
+
+        Random random = new Random(7);
+        StringBuilder csv = new StringBuilder("grp,color,half,small,ts,name,price,ratio\n");
+        for (int i = 0; i < NUM_ROWS; i++) {
+            int id = (i * 7919) % NUM_ROWS;
+            csv.append(i / 700).append(',')
+                .append(COLORS[(i * 3) % COLORS.length]).append(',')
+                .append((i * 7) % 4 * 0.5).append(',')
+                .append(random.nextInt(1000)).append(',')
+                .append(1000000000 + i * 1000 + i % 5).append(',')
+                .append(String.format("customer#%09d", id)).append(',')
+                .append(random.nextDouble() * 1000).append(',')
+                .append(random.nextFloat()).append('\n');
+        }
+        FileUtils.writeStringToFile(new File(inputDir, "TEST_CV_READER.CSV"), csv.toString(),
+            "UTF-8");
+
+        System.setProperty("nanodb.inputFileDir", inputDir.getAbsolutePath() + File.separator);
+        System.setProperty(ColStoreLoader.PROP_ROW_GROUP_ROWS, "3000");
+    }
+
+    @After
+    public void clearProperties() throws IOException {
+        System.clearProperty("nanodb.inputFileDir");
+        System.clearProperty(ColStoreLoader.PROP_ROW_GROUP_ROWS);
+        FileUtils.deleteDirectory(inputDir);
+    }
+
+    private static TableFileInfo openTable() throws IOException {
+        return StorageManager.getInstance().openTable(TABLE);
+    }
+
+    /**
+     * 用{@link BlockColumnStoreReader}逐页、逐块读出一列中的所有值
+     */
+    private static List<Object> readBlocks(TableFileInfo tblFileInfo, int column)
+        throws IOException {
+
+        StorageManager storageManager = StorageManager.getInstance();
+        BlockColumnStoreReader reader = new BlockColumnStoreReader();
+        List<Object> values = new ArrayList<Object>();
+
+        DBPage dbPage = reader.getFirstDataPage(tblFileInfo, column);
+        while (dbPage != null) {
+            ColStoreBlock block = reader.getFirstBlockInPage(tblFileInfo, dbPage, column);
+            while (block != null) {
+                Object value;
+                while ((value = block.getNext()) != null)
+                    values.add(value);
+                block = reader.getNextBlockInPage(tblFileInfo, dbPage, column, block);
+            }
+            DBPage next = reader.getNextDataPage(tblFileInfo, dbPage, column);
+            storageManager.unpinDBPage(dbPage);
+            dbPage = next;
+        }
+        return values;
+    }
+
+    /**
+     * 用{@link ColumnVectorReader}读出一列中的所有值，每次最多读<tt>capacity</tt>行
+     */
+    private static List<Object> readVectors(TableFileInfo tblFileInfo, int column, int capacity)
+        throws IOException {
+
+        ColumnVectorReader reader = new ColumnVectorReader(tblFileInfo, column);
+        ColumnVector vector = new ColumnVector(
+            tblFileInfo.getSchema().getColumnInfo(column).getType().getBaseType(), capacity);
+        List<Object> values = new ArrayList<Object>();
+        while (true) {
+            // 之前的NULL标志应当被覆盖
+            for (int i = 0; i < capacity; i++)
+                vector.setNull(i);
+
+            int n = reader.read(vector, 0, capacity);
+            for (int i = 0; i < n; i++) {
+                assert !vector.isNull(i) : "column " + column + " row " + (values.size() + i);
+                values.add(vector.getValue(i));
+            }
+            if (n < capacity)
+                break;
+        }
+        reader.close();
+        return values;
+    }
+
+    private static void assertSameValues(List<Object> expected, List<Object> actual, String what) {
+        assert actual.size() == expected.size() :
+            what + ": read " + actual.size() + " values, expected " + expected.size();
+        for (int i = 0; i < expected.size(); i++) {
+            assert expected.get(i).equals(actual.get(i)) :
+                what + " row " + i + ": " + actual.get(i) + " != " + expected.get(i);
+        }
+    }
+
+    /**
+     * 每一列按不同的向量大小读出的值都与逐块读出的一致，各种编码都被用到
+     */
+    @Test
+    public void testAllEncodings() throws IOException {
+        TableFileInfo tblFileInfo = openTable();
+        int numColumns = tblFileInfo.getSchema().numColumns();
+
+        Set<FileEncoding> encodings = EnumSet.noneOf(FileEncoding.class);
+        for (int column = 0; column < numColumns; column++) {
+            for (ColumnChunk chunk : new BlockColumnStoreReader().getColumnChunks(tblFileInfo, column))
+                encodings.add(chunk.getEncoding());
+
+            List<Object> expected = readBlocks(tblFileInfo, column);
+            assert expected.size() == NUM_ROWS : "column " + column + ": " + expected.size();
+            for (int capacity : new int[] { 1, 7, 1000, 4096 }) {
+                assertSameValues(expected, readVectors(tblFileInfo, column, capacity),
+                    "column " + column + ", vector of " + capacity);
+            }
+        }
+
+        assert encodings.containsAll(EnumSet.of(FileEncoding.NONE, FileEncoding.RLE,
+            FileEncoding.DICTIONARY, FileEncoding.BITPACK, FileEncoding.DELTA, FileEncoding.LZ)) :
+            encodings;
+    }
+
+    /**
+     * 定位到行组中的某一行后读出的值与逐块读出的一致，包括向前定位
+     */
+    @Test
+    public void testSeek() throws IOException {
+        TableFileInfo tblFileInfo = openTable();
+        int numColumns = tblFileInfo.getSchema().numColumns();
+        int[][] positions = { { 0, 5 }, { 0, 2999 }, { 1, 1234 }, { 1, 1300 }, { 0, 17 },
+            { 3, 990 }, { 2, 0 } };
+
+        for (int column = 0; column < numColumns; column++) {
+            List<Object> expected = readBlocks(tblFileInfo, column);
+            ColumnVectorReader reader = new ColumnVectorReader(tblFileInfo, column);
+            ColumnVector vector = new ColumnVector(
+                tblFileInfo.getSchema().getColumnInfo(column).getType().getBaseType(), 10);
+
+            for (int[] position : positions) {
+                int row = position[0] * 3000 + position[1];
+                reader.seek(position[0], position[1]);
+                int n = reader.read(vector, 0, 10);
+                assert n == 10 : n;
+                for (int i = 0; i < n; i++) {
+                    assert expected.get(row + i).equals(vector.getValue(i)) :
+                        "column " + column + " row " + (row + i) + ": " + vector.getValue(i) +
+                        " != " + expected.get(row + i);
+                }
+            }
+            reader.close();
+        }
+    }
+
+    /**
+     * 插入NULL和导入数值列中的空值都被拒绝，列中不会出现NULL
+     */
+    @Test
+    public void testNullsRejected() throws Exception {
+        CommandResult result = NanoDBServer.doCommand("INSERT INTO " + TABLE +
+            " VALUES (NULL, 'red', 0.5, 1, 2, 'x', 1.0, 1.0)", false);
+        assert result.failed() : "NULL was inserted into a column-store table";
+
+        FileUtils.writeStringToFile(new File(inputDir, "TEST_CV_NULLS.CSV"),
+            "a,b\n1,x\n,y\n", "UTF-8");
+        result = NanoDBServer.doCommand(
+            "CREATE COLSTORE test_cv_nulls FROM test_cv_nulls.csv ( a INTEGER, b VARCHAR(5) )",
+            false);
+        assert result.failed() : "empty INTEGER value was loaded";
+
+        assert readVectors(openTable(), 0, 1000).size() == NUM_ROWS;
+    }
+}
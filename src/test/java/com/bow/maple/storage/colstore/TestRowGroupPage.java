@@ -0,0 +1,196 @@
+package com.bow.maple.storage.colstore;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bow.maple.expressions.ArithmeticOperator;
+import com.bow.maple.expressions.BooleanOperator;
+import com.bow.maple.expressions.ColumnName;
+import com.bow.maple.expressions.ColumnValue;
+import com.bow.maple.expressions.CompareOperator;
+import com.bow.maple.expressions.Expression;
+import com.bow.maple.expressions.LiteralValue;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.relations.Schema;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBFileType;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileEncoding;
+import com.bow.maple.storage.FileManager;
+import com.bow.maple.storage.StorageTestCase;
+
+/**
+ * 列文件第0页中记录的列块，以及按最小值和最大值跳过列块
+ */
+public class TestRowGroupPage extends StorageTestCase {
+
+    private FileManager fileMgr;
+
+    private DBFile dbFile;
+
+    private DBPage dbPage;
+
+    private ColumnType intType = new ColumnType(SQLDataType.INTEGER);
+
+    @Before
+    public void before() throws IOException {
+        fileMgr = new FileManager(testBaseDir);
+        dbFile = fileMgr.createDBFile("TestRowGroupPage", DBFileType.CS_DATA_FILE,
+            DBFile.DEFAULT_PAGESIZE);
+        dbPage = new DBPage(dbFile, 0);
+        RowGroupPage.initNewPage(dbPage);
+    }
+
+    @After
+    public void after() throws IOException {
+        fileMgr.deleteDBFile(dbFile);
+    }
+
+    @Test
+    public void testReadWrite() {
+        assert RowGroupPage.readColumnChunks(dbPage, intType).isEmpty();
+
+        // 加载时最值是字符串，读出时是列的类型
+        RowGroupPage.addColumnChunk(dbPage,
+            new ColumnChunk(0, 100, 1, 3, FileEncoding.RLE, "-5", "20"), intType);
+        RowGroupPage.addColumnChunk(dbPage,
+            new ColumnChunk(100, 50, 4, 2, FileEncoding.DICTIONARY, null, null), intType);
+        assert RowGroupPage.getNumRows(dbPage) == 150;
+
+        List<ColumnChunk> chunks = RowGroupPage.readColumnChunks(dbPage, intType);
+        assert chunks.size() == 2;
+        assert chunks.get(0).getEncoding() == FileEncoding.RLE;
+        assert chunks.get(0).getFirstDataPageNo() == 1;
+        assert chunks.get(0).getLastDataPageNo() == 3;
+        assert chunks.get(0).getMinValue().equals(-5);
+        assert chunks.get(0).getMaxValue().equals(20);
+
+        // 字典编码的列块第一个页面是字典
+        ColumnChunk dictChunk = chunks.get(1);
+        assert dictChunk.getFirstRow() == 100 && dictChunk.getNumRows() == 50;
+        assert dictChunk.getFirstPageNo() == 4;
+        assert dictChunk.getFirstDataPageNo() == 5;
+        assert dictChunk.getLastDataPageNo() == 5;
+        assert !dictChunk.hasZoneMap();
+        assert dictChunk.mayMatch(CompareOperator.Type.EQUALS, 1000);
+    }
+
+    @Test
+    public void testMayMatch() {
+        ColumnChunk chunk = new ColumnChunk(0, 10, 1, 1, FileEncoding.NONE, 10, 20);
+
+        assert chunk.mayMatch(CompareOperator.Type.EQUALS, 15);
+        assert !chunk.mayMatch(CompareOperator.Type.EQUALS, 21);
+        assert !chunk.mayMatch(CompareOperator.Type.LESS_THAN, 10);
+        assert chunk.mayMatch(CompareOperator.Type.LESS_OR_EQUAL, 10);
+        assert !chunk.mayMatch(CompareOperator.Type.GREATER_THAN, 20);
+        assert chunk.mayMatch(CompareOperator.Type.GREATER_OR_EQUAL, 20.0);
+        assert chunk.mayMatch(CompareOperator.Type.NOT_EQUALS, 10);
+
+        ColumnChunk single = new ColumnChunk(0, 10, 1, 1, FileEncoding.RLE, "a", "a");
+        assert !single.mayMatch(CompareOperator.Type.NOT_EQUALS, "a");
+        assert single.mayMatch(CompareOperator.Type.NOT_EQUALS, "b");
+    }
+
+    /**
+     * 在编码后的数据上求值的条件与{@link CompareOperator}的语义相同，NULL不满足
+     * 任何条件
+     */
+    @Test
+    public void testColumnPredicate() {
+        ColumnPredicate lessThan = new ColumnPredicate(0, CompareOperator.Type.LESS_THAN, 15);
+        assert lessThan.matches(10);
+        assert !lessThan.matches(15);
+        assert lessThan.matches(14.5);
+        assert !lessThan.matches(null);
+        assert lessThan.mayMatch(new ColumnChunk(0, 10, 1, 1, FileEncoding.NONE, 10, 20));
+        assert !lessThan.mayMatch(new ColumnChunk(0, 10, 1, 1, FileEncoding.NONE, 15, 20));
+
+        ColumnPredicate notRed = new ColumnPredicate(1, CompareOperator.Type.NOT_EQUALS, "red");
+        assert notRed.matches("blue");
+        assert !notRed.matches("red");
+        assert notRed.getColumn() == 1;
+    }
+
+    /**
+     * AND/OR/NOT连接的条件按行组用最小值和最大值判断，只要有一个叶子不是
+     * <tt>列 op 常量</tt>就不能在编码后的数据上求值
+     */
+    @Test
+    public void testBitmapPredicate() {
+        Schema schema = new Schema();
+        schema.addColumnInfo(new ColumnInfo("A", "T", intType));
+        schema.addColumnInfo(new ColumnInfo("B", "T", intType));
+
+        Expression aLess = new CompareOperator(CompareOperator.Type.LESS_THAN,
+            new ColumnValue(new ColumnName("A")), new LiteralValue(15));
+        Expression bEquals = new CompareOperator(CompareOperator.Type.EQUALS,
+            new ColumnValue(new ColumnName("B")), new LiteralValue(7));
+
+        BitmapPredicate or = BitmapPredicate.fromExpression(schema,
+            new BooleanOperator(BooleanOperator.Type.OR_EXPR, Arrays.asList(aLess, bEquals)));
+        assert or != null;
+        Set<Integer> columns = new HashSet<Integer>();
+        or.getColumns(columns);
+        assert columns.equals(new HashSet<Integer>(Arrays.asList(0, 1)));
+
+        // 第0个行组中A都不小于15，B都不等于7；第1个行组中B可能等于7
+        List<List<ColumnChunk>> chunks = new ArrayList<List<ColumnChunk>>();
+        chunks.add(Arrays.asList(new ColumnChunk(0, 10, 1, 1, FileEncoding.NONE, 20, 30),
+            new ColumnChunk(10, 10, 2, 1, FileEncoding.NONE, 20, 30)));
+        chunks.add(Arrays.asList(new ColumnChunk(0, 10, 1, 1, FileEncoding.NONE, 1, 5),
+            new ColumnChunk(10, 10, 2, 1, FileEncoding.NONE, 5, 9)));
+        assert !or.mayMatch(chunks, 0);
+        assert or.mayMatch(chunks, 1);
+
+        BooleanOperator not = new BooleanOperator(BooleanOperator.Type.NOT_EXPR);
+        not.addTerm(bEquals);
+        assert BitmapPredicate.fromExpression(schema, not).mayMatch(chunks, 0);
+
+        Expression sum = new CompareOperator(CompareOperator.Type.LESS_THAN,
+            new ArithmeticOperator(ArithmeticOperator.Type.ADD,
+                new ColumnValue(new ColumnName("A")), new LiteralValue(1)),
+            new LiteralValue(15));
+        assert BitmapPredicate.fromExpression(schema,
+            new BooleanOperator(BooleanOperator.Type.AND_EXPR, Arrays.asList(aLess, sum))) == null;
+    }
+
+    /**
+     * 页面放满之后不能再添加；剩余空间不足一项时{@link RowGroupPage#addColumnChunk}
+     * 才会失败
+     */
+    @Test
+    public void testFull() {
+        int added = 0;
+        while (true) {
+            ColumnChunk chunk = new ColumnChunk(added, 1, added + 1, 1, FileEncoding.NONE,
+                added, added);
+            int entrySize = RowGroupPage.getEntrySize(chunk, intType);
+            assert entrySize == RowGroupPage.ENTRY_FIXED_SIZE + 8;
+
+            int freeSpace = RowGroupPage.getFreeSpace(dbPage);
+            if (!RowGroupPage.addColumnChunk(dbPage, chunk, intType)) {
+                assert freeSpace < entrySize;
+                break;
+            }
+            assert RowGroupPage.getFreeSpace(dbPage) == freeSpace - entrySize;
+            added++;
+        }
+        assert added == (dbPage.getPageSize() - RowGroupPage.FIRST_ENTRY_OFFSET) /
+            (RowGroupPage.ENTRY_FIXED_SIZE + 8);
+
+        List<ColumnChunk> chunks = RowGroupPage.readColumnChunks(dbPage, intType);
+        assert chunks.size() == added;
+        assert chunks.get(added - 1).getMaxValue().equals(added - 1);
+    }
+}
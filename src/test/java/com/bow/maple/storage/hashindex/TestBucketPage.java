@@ -0,0 +1,120 @@
+package com.bow.maple.storage.hashindex;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bow.lab.storage.heap.PageTupleUtil;
+import com.bow.maple.expressions.LiteralTuple;
+import com.bow.maple.relations.ColumnInfo;
+import com.bow.maple.relations.ColumnType;
+import com.bow.maple.relations.SQLDataType;
+import com.bow.maple.storage.DBFile;
+import com.bow.maple.storage.DBFileType;
+import com.bow.maple.storage.DBPage;
+import com.bow.maple.storage.FileManager;
+import com.bow.maple.storage.FilePointer;
+import com.bow.maple.storage.StorageTestCase;
+
+/**
+ * 桶页面上记录的存放和删除，以及key的哈希值
+ */
+public class TestBucketPage extends StorageTestCase {
+
+    private FileManager fileMgr;
+
+    private DBFile dbFile;
+
+    private DBPage dbPage;
+
+    /** (INTEGER, VARCHAR(20), FILE_POINTER) */
+    private List<ColumnInfo> colInfos;
+
+    @Before
+    public void before() throws IOException {
+        fileMgr = new FileManager(testBaseDir);
+        dbFile = fileMgr.createDBFile("TestBucketPage", DBFileType.HASH_INDEX_FILE,
+            DBFile.DEFAULT_PAGESIZE);
+        dbPage = new DBPage(dbFile, 1);
+
+        ColumnType varchar = new ColumnType(SQLDataType.VARCHAR);
+        varchar.setLength(20);
+
+        colInfos = new ArrayList<ColumnInfo>();
+        colInfos.add(new ColumnInfo("a", new ColumnType(SQLDataType.INTEGER)));
+        colInfos.add(new ColumnInfo("b", varchar));
+        colInfos.add(new ColumnInfo("#TUPLE_FP", new ColumnType(SQLDataType.FILE_POINTER)));
+    }
+
+    @After
+    public void after() throws IOException {
+        fileMgr.deleteDBFile(dbFile);
+    }
+
+    private static LiteralTuple tuple(Object... values) {
+        LiteralTuple tuple = new LiteralTuple();
+        for (Object value : values)
+            tuple.addValue(value);
+        return tuple;
+    }
+
+    private LiteralTuple key(Object... values) {
+        LiteralTuple tuple = tuple(values);
+        tuple.setStorageSize(PageTupleUtil.getTupleStorageSize(colInfos, tuple));
+        return tuple;
+    }
+
+    /**
+     * 相等的数值即使类型不同，哈希值也相同
+     */
+    @Test
+    public void testHashKey() {
+        int hash = HashIndexManager.hashKey(tuple(5, "x"), 2);
+        assert HashIndexManager.hashKey(tuple(5L, "x"), 2) == hash;
+        assert HashIndexManager.hashKey(tuple(5.0, "x"), 2) == hash;
+        assert HashIndexManager.hashKey(tuple(5, "y"), 2) != hash;
+
+        // 只有前numColumns列参与计算
+        assert HashIndexManager.hashKey(tuple(5, "x", new FilePointer(1, 2)), 2) == hash;
+    }
+
+    /**
+     * 加入的记录按顺序存放，删除中间的记录后，后面的记录向前移动
+     */
+    @Test
+    public void testAddRemoveEntry() {
+        BucketPage page = BucketPage.init(dbPage, colInfos);
+        assert page.getNumEntries() == 0;
+        assert page.getNextPageNo() == 0;
+
+        LiteralTuple first = key(1, "one", new FilePointer(3, 100));
+        LiteralTuple second = key(2, "two", new FilePointer(70000, 8));
+        page.addEntry(11, first);
+        int secondOffset = page.getDataEnd();
+        page.addEntry(22, second);
+
+        assert page.getNumEntries() == 2;
+        assert page.getHash(BucketPage.OFFSET_FIRST_ENTRY) == 11;
+        assert page.getHash(secondOffset) == 22;
+        assert page.getEntrySize(secondOffset) == BucketPage.HASH_SIZE + second.getStorageSize();
+        assert page.getKey(secondOffset).getColumnValue(2).equals(new FilePointer(70000, 8));
+
+        byte[] bytes = page.readEntryBytes(secondOffset, page.getEntrySize(secondOffset));
+        page.removeEntry(BucketPage.OFFSET_FIRST_ENTRY, secondOffset - BucketPage.OFFSET_FIRST_ENTRY);
+        assert page.getNumEntries() == 1;
+        assert page.getHash(BucketPage.OFFSET_FIRST_ENTRY) == 22;
+        assert page.getKey(BucketPage.OFFSET_FIRST_ENTRY).getColumnValue(1).equals("two");
+
+        page.clear();
+        assert page.getNumEntries() == 0;
+        assert page.getDataEnd() == BucketPage.OFFSET_FIRST_ENTRY;
+
+        page.addEntryBytes(bytes);
+        assert page.getNumEntries() == 1;
+        assert page.getKey(BucketPage.OFFSET_FIRST_ENTRY).getColumnValue(0).equals(2);
+    }
+}